@@ -0,0 +1,499 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.tests.repository.RepositoryConformanceTestCase;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PerformanceTestCase is the superclass for the test cases of the performance workbench.  It reuses the
+ * instance generation of the repository test cases and adds the summary of the latencies that each test
+ * case measures.  The summary is reported as a discovered property so it is returned through the test lab
+ * report along with the rest of the workbench results.
+ *
+ * The calls to the repository under test are made by runTimedCalls(), which shares them between the number of
+ * caller threads set in the workbench configuration.  The results, assertions and discovered properties are
+ * only handled on the workbench thread once all of the calls have completed.
+ */
+public abstract class PerformanceTestCase extends RepositoryConformanceTestCase
+{
+    private static final  String   assertion1    = "performance-test-case-base-01";
+    private static final  String   assertionMsg1 = "Repository connector supplied to performance workbench.";
+    private static final  String   assertion2    = "performance-test-case-base-02";
+    private static final  String   assertionMsg2 = "Metadata collection for repository connector supplied to performance workbench.";
+
+    private static final  long     nanosPerSecond = 1000000000L;
+
+    protected PerformanceWorkPad   performanceWorkPad;
+
+
+    /**
+     * Typical constructor used when the name of the test case id is fixed
+     *
+     * @param workPad location for workbench results
+     * @param testCaseId identifier of test case
+     * @param testCaseName name of test case
+     * @param defaultProfileId identifier of default profile (for unexpected exceptions)
+     * @param defaultRequirementId identifier of default required (for unexpected exceptions)
+     */
+    protected PerformanceTestCase(PerformanceWorkPad  workPad,
+                                  String              testCaseId,
+                                  String              testCaseName,
+                                  Integer             defaultProfileId,
+                                  Integer             defaultRequirementId)
+    {
+        super(workPad, testCaseId, testCaseName, defaultProfileId, defaultRequirementId);
+
+        this.performanceWorkPad = workPad;
+    }
+
+
+    /**
+     * Typical constructor used when the test case id needs to be constructed by th test case code.
+     *
+     * @param workPad location for workbench results
+     * @param defaultProfileId identifier of default profile (for unexpected exceptions)
+     * @param defaultRequirementId identifier of default required (for unexpected exceptions)
+     */
+    protected PerformanceTestCase(PerformanceWorkPad  workPad,
+                                  Integer             defaultProfileId,
+                                  Integer             defaultRequirementId)
+    {
+        super(workPad, defaultProfileId, defaultRequirementId);
+
+        this.performanceWorkPad = workPad;
+    }
+
+
+    /**
+     * A call to the repository under test that is timed by a test case.
+     *
+     * @param <T> type of the result of the call
+     */
+    protected interface TimedCall<T>
+    {
+        /**
+         * Make one of the calls.
+         *
+         * @param callNumber number of the call, starting from 0
+         * @return result of the call
+         * @throws Exception the call failed
+         */
+        T call(int callNumber) throws Exception;
+    }
+
+
+    /**
+     * The outcome of a set of timed calls.  The calls after the first one that fails are not made.
+     *
+     * @param <T> type of the result of each call
+     */
+    protected static class TimedCallResults<T>
+    {
+        private List<T>    results;
+        private boolean[]  completed;
+        private List<Long> latencies        = new ArrayList<>();
+        private long       elapsedTime      = 0;
+        private int        failedCallNumber = -1;
+        private Exception  failure          = null;
+
+
+        /**
+         * Set up the results for the requested number of calls.
+         *
+         * @param callCount number of calls
+         */
+        TimedCallResults(int callCount)
+        {
+            results = new ArrayList<>(callCount);
+            completed = new boolean[callCount];
+
+            for (int i = 0; i < callCount; i++)
+            {
+                results.add(null);
+            }
+        }
+
+
+        /**
+         * Record the result of a call that completed.
+         *
+         * @param callNumber number of the call
+         * @param result result of the call
+         * @param latency elapsed time of the call in nanoseconds
+         */
+        synchronized void setResult(int   callNumber,
+                                    T     result,
+                                    long  latency)
+        {
+            results.set(callNumber, result);
+            completed[callNumber] = true;
+            latencies.add(latency);
+        }
+
+
+        /**
+         * Record a call that failed.  Only the first failure is kept.
+         *
+         * @param callNumber number of the call
+         * @param failure exception from the call
+         */
+        synchronized void setFailure(int        callNumber,
+                                     Exception  failure)
+        {
+            if (this.failure == null)
+            {
+                this.failedCallNumber = callNumber;
+                this.failure = failure;
+            }
+        }
+
+
+        /**
+         * Return whether one of the calls has failed.
+         *
+         * @return boolean
+         */
+        synchronized boolean isFailed()
+        {
+            return failure != null;
+        }
+
+
+        /**
+         * Record the time taken for all of the calls.
+         *
+         * @param elapsedTime time in nanoseconds
+         */
+        synchronized void setElapsedTime(long elapsedTime)
+        {
+            this.elapsedTime = elapsedTime;
+        }
+
+
+        /**
+         * Return whether a call completed.
+         *
+         * @param callNumber number of the call
+         * @return boolean
+         */
+        public synchronized boolean isCompleted(int callNumber)
+        {
+            return completed[callNumber];
+        }
+
+
+        /**
+         * Return the result of a call.
+         *
+         * @param callNumber number of the call
+         * @return result or null if the call did not complete
+         */
+        public synchronized T getResult(int callNumber)
+        {
+            return results.get(callNumber);
+        }
+
+
+        /**
+         * Return the results of the calls that completed in the order of the calls.
+         *
+         * @return list of results
+         */
+        public synchronized List<T> getCompletedResults()
+        {
+            List<T> completedResults = new ArrayList<>();
+
+            for (int i = 0; i < completed.length; i++)
+            {
+                if (completed[i])
+                {
+                    completedResults.add(results.get(i));
+                }
+            }
+
+            return completedResults;
+        }
+
+
+        /**
+         * Return the elapsed time of each call that completed.
+         *
+         * @return list of latencies in nanoseconds
+         */
+        public synchronized List<Long> getLatencies()
+        {
+            return new ArrayList<>(latencies);
+        }
+
+
+        /**
+         * Return the time taken for all of the calls by all of the caller threads.
+         *
+         * @return time in nanoseconds
+         */
+        public synchronized long getElapsedTime()
+        {
+            return elapsedTime;
+        }
+
+
+        /**
+         * Return the number of the call that failed.
+         *
+         * @return call number or -1 if no call failed
+         */
+        public synchronized int getFailedCallNumber()
+        {
+            return failedCallNumber;
+        }
+
+
+        /**
+         * Return the exception from the call that failed.
+         *
+         * @return exception or null if no call failed
+         */
+        public synchronized Exception getFailure()
+        {
+            return failure;
+        }
+    }
+
+
+    /**
+     * Make a set of timed calls to the repository under test.  The calls are shared between the caller threads
+     * set in the workbench configuration, which each take the next call to make until all of them have been made
+     * or one of them fails.  The latency of each call is recorded along with the time taken for all of them, which
+     * gives the combined throughput of the caller threads.
+     *
+     * @param callCount number of calls to make
+     * @param timedCall call to make
+     * @param <T> type of the result of each call
+     * @return results of the calls
+     * @throws InterruptedException the workbench thread was interrupted while waiting for the calls to complete
+     */
+    protected <T> TimedCallResults<T> runTimedCalls(int           callCount,
+                                                    TimedCall<T>  timedCall) throws InterruptedException
+    {
+        TimedCallResults<T> timedCallResults = new TimedCallResults<>(callCount);
+        AtomicInteger       nextCallNumber   = new AtomicInteger(0);
+        int                 threadCount      = Math.min(performanceWorkPad.getCallerThreads(), callCount);
+
+        Runnable caller = () ->
+        {
+            int callNumber = nextCallNumber.getAndIncrement();
+
+            while ((callNumber < callCount) && (! timedCallResults.isFailed()))
+            {
+                try
+                {
+                    long startTime = System.nanoTime();
+                    T    result    = timedCall.call(callNumber);
+                    timedCallResults.setResult(callNumber, result, System.nanoTime() - startTime);
+                }
+                catch (Exception exc)
+                {
+                    timedCallResults.setFailure(callNumber, exc);
+                }
+
+                callNumber = nextCallNumber.getAndIncrement();
+            }
+        };
+
+        long startTime = System.nanoTime();
+
+        if (threadCount <= 1)
+        {
+            caller.run();
+        }
+        else
+        {
+            List<Thread> callerThreads = new ArrayList<>();
+
+            for (int i = 0; i < threadCount; i++)
+            {
+                Thread callerThread = new Thread(caller, testCaseId + " caller " + i);
+
+                callerThreads.add(callerThread);
+                callerThread.start();
+            }
+
+            for (Thread callerThread : callerThreads)
+            {
+                callerThread.join();
+            }
+        }
+
+        timedCallResults.setElapsedTime(System.nanoTime() - startTime);
+
+        return timedCallResults;
+    }
+
+
+    /**
+     * Return the metadata collection used to call the repository.  The assertions are reported against the
+     * performance profiles rather than the repository conformance profiles.
+     *
+     * @return OMRSMetadataCollection object
+     * @throws Exception if the connector is not properly set up.
+     */
+    @Override
+    protected OMRSMetadataCollection getMetadataCollection() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = null;
+
+        if (cohortRepositoryConnector != null)
+        {
+            metadataCollection = cohortRepositoryConnector.getMetadataCollection();
+        }
+
+        assertCondition((cohortRepositoryConnector != null),
+                        assertion1,
+                        assertionMsg1,
+                        PerformanceProfileRequirement.TEST_ENVIRONMENT.getProfileId(),
+                        PerformanceProfileRequirement.TEST_ENVIRONMENT.getRequirementId());
+        assertCondition((metadataCollection != null),
+                        assertion2,
+                        assertionMsg2,
+                        PerformanceProfileRequirement.TEST_ENVIRONMENT.getProfileId(),
+                        PerformanceProfileRequirement.TEST_ENVIRONMENT.getRequirementId());
+
+        return metadataCollection;
+    }
+
+
+    /**
+     * Report the summary of the latencies measured by a set of timed calls and pass them to the work pad so they
+     * are included in the summary across all types.
+     *
+     * @param operationName name of the repository operation
+     * @param timedCallResults results of the calls
+     * @param requirement requirement that the measurement relates to
+     */
+    protected void recordLatencies(String                         operationName,
+                                   TimedCallResults<?>            timedCallResults,
+                                   PerformanceProfileRequirement  requirement)
+    {
+        this.recordLatencies(operationName, timedCallResults.getLatencies(), timedCallResults.getElapsedTime(), requirement);
+    }
+
+
+    /**
+     * Report the summary of the latencies measured for an operation and pass them to the work pad so they are
+     * included in the summary across all types.
+     *
+     * @param operationName name of the repository operation
+     * @param latencies elapsed time of each call in nanoseconds
+     * @param elapsedTime time taken for all of the calls by all of the caller threads in nanoseconds
+     * @param requirement requirement that the measurement relates to
+     */
+    protected void recordLatencies(String                         operationName,
+                                   List<Long>                     latencies,
+                                   long                           elapsedTime,
+                                   PerformanceProfileRequirement  requirement)
+    {
+        if ((latencies != null) && (! latencies.isEmpty()))
+        {
+            super.addDiscoveredProperty(operationName,
+                                        getLatencyStatistics(latencies, elapsedTime),
+                                        requirement.getProfileId(),
+                                        requirement.getRequirementId());
+
+            performanceWorkPad.addOperationLatencies(operationName, latencies, elapsedTime);
+        }
+    }
+
+
+    /**
+     * Summarize a list of latencies.  The calls are shared between the caller threads so the throughput is the
+     * number of calls divided by the time taken for all of them, which is the combined throughput of the caller
+     * threads.  The percentiles use the nearest rank method.
+     *
+     * @param latencies elapsed time of each call in nanoseconds
+     * @param elapsedTime time taken for all of the calls by all of the caller threads in nanoseconds
+     * @return map of statistic name to value
+     */
+    protected Map<String, Object> getLatencyStatistics(List<Long> latencies,
+                                                       long       elapsedTime)
+    {
+        long[] sortedLatencies = new long[latencies.size()];
+
+        for (int i = 0; i < sortedLatencies.length; i++)
+        {
+            sortedLatencies[i] = latencies.get(i);
+        }
+
+        Arrays.sort(sortedLatencies);
+
+        Map<String, Object> statistics = new LinkedHashMap<>();
+
+        statistics.put("count", sortedLatencies.length);
+        statistics.put("callerThreads", performanceWorkPad.getCallerThreads());
+        statistics.put("elapsedMilliseconds", toMilliseconds(elapsedTime));
+        statistics.put("operationsPerSecond", getThroughput(sortedLatencies.length, elapsedTime));
+        statistics.put("minimumMilliseconds", toMilliseconds(sortedLatencies[0]));
+        statistics.put("p50Milliseconds", toMilliseconds(getPercentile(sortedLatencies, 50)));
+        statistics.put("p90Milliseconds", toMilliseconds(getPercentile(sortedLatencies, 90)));
+        statistics.put("p99Milliseconds", toMilliseconds(getPercentile(sortedLatencies, 99)));
+        statistics.put("maximumMilliseconds", toMilliseconds(sortedLatencies[sortedLatencies.length - 1]));
+
+        return statistics;
+    }
+
+
+    /**
+     * Return the number of operations completed per second, to two decimal places.
+     *
+     * @param operationCount number of operations
+     * @param elapsedTime time taken for all of the operations in nanoseconds
+     * @return operations per second
+     */
+    protected double getThroughput(int   operationCount,
+                                   long  elapsedTime)
+    {
+        if (elapsedTime <= 0)
+        {
+            return 0;
+        }
+
+        return Math.round(operationCount * nanosPerSecond * 100.0 / elapsedTime) / 100.0;
+    }
+
+
+    /**
+     * Return the latency at the requested percentile using the nearest rank method.
+     *
+     * @param sortedLatencies latencies in ascending order
+     * @param percentile percentile between 1 and 100
+     * @return latency in nanoseconds
+     */
+    private long getPercentile(long[] sortedLatencies,
+                               int    percentile)
+    {
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+
+        return sortedLatencies[Math.max(rank, 1) - 1];
+    }
+
+
+    /**
+     * Convert a time in nanoseconds to milliseconds with microsecond precision.
+     *
+     * @param nanoseconds time in nanoseconds
+     * @return time in milliseconds
+     */
+    protected double toMilliseconds(long nanoseconds)
+    {
+        return Math.round(nanoseconds / 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,232 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measure the classification of the entities created for a supported type and the search for the entities of
+ * that type by the classification.  The first supported classification that is valid for the type is used.
+ */
+public class TestEntityClassificationSearchPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-classification-search";
+    private static final String testCaseName = "Repository entity classification search performance test case";
+
+    private static final String assertion1    = testCaseId + "-01";
+    private static final String assertionMsg1 = " repository supports classification of entities.";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " repository supports search for entities by classification.";
+
+    private static final String assertion3    = testCaseId + "-03";
+    private static final String assertionMsg3 = " search by classification returned the classified entities.";
+
+    private static final String classifyOperationName = "classifyEntity";
+    private static final String searchOperationName   = "findEntitiesByClassification";
+
+    private EntityDef               entityDef;
+    private List<ClassificationDef> classificationDefs;
+    private String                  testTypeName;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of valid entities
+     * @param classificationDefs classification types supported by the repository
+     */
+    public TestEntityClassificationSearchPerformance(PerformanceWorkPad       workPad,
+                                                     EntityDef                entityDef,
+                                                     List<ClassificationDef>  classificationDefs)
+    {
+        super(workPad,
+              PerformanceProfileRequirement.ENTITY_CLASSIFICATION_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.ENTITY_CLASSIFICATION_PERFORMANCE.getRequirementId());
+
+        this.entityDef = entityDef;
+        this.classificationDefs = classificationDefs;
+
+        this.testTypeName = this.updateTestIdByType(entityDef.getName(),
+                                                    testCaseId,
+                                                    testCaseName);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        List<EntityDetail> createdEntities = performanceWorkPad.getCreatedEntities(entityDef.getName());
+
+        if ((createdEntities == null) || (createdEntities.isEmpty()))
+        {
+            return;
+        }
+
+        ClassificationDef classificationDef = this.getClassificationDef();
+
+        if (classificationDef == null)
+        {
+            /*
+             * None of the supported classifications may be attached to this type.
+             */
+            super.setSuccessMessage("No valid classification for " + testTypeName);
+
+            return;
+        }
+
+        OMRSMetadataCollection   metadataCollection = super.getMetadataCollection();
+        String                   userId             = workPad.getLocalServerUserId();
+        String                   classificationName = classificationDef.getName();
+        List<TypeDefAttribute>   typeDefAttributes  = super.getPropertiesForTypeDef(userId, classificationDef);
+        List<InstanceProperties> propertiesList     = new ArrayList<>();
+
+        for (int i = 0; i < createdEntities.size(); i++)
+        {
+            propertiesList.add(super.generatePropertiesForInstance(userId, typeDefAttributes, i));
+        }
+
+        TimedCallResults<EntityDetail> classifyResults = super.runTimedCalls(createdEntities.size(),
+                                                                             callNumber -> metadataCollection.classifyEntity(userId,
+                                                                                                                             createdEntities.get(callNumber).getGUID(),
+                                                                                                                             classificationName,
+                                                                                                                             propertiesList.get(callNumber)));
+
+        if (classifyResults.getFailure() instanceof FunctionNotSupportedException)
+        {
+            super.addNotSupportedAssertion(assertion1,
+                                           testTypeName + assertionMsg1,
+                                           PerformanceProfileRequirement.ENTITY_CLASSIFICATION_PERFORMANCE.getProfileId(),
+                                           PerformanceProfileRequirement.ENTITY_CLASSIFICATION_PERFORMANCE.getRequirementId());
+
+            return;
+        }
+        else if (classifyResults.getFailure() != null)
+        {
+            InstanceProperties properties = propertiesList.get(classifyResults.getFailedCallNumber());
+            String methodName = "classifyEntity";
+            String operationDescription = "classify an entity of type " + entityDef.getName() + " with " + classificationName;
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("entityGUID", createdEntities.get(classifyResults.getFailedCallNumber()).getGUID());
+            parameters.put("classificationName", classificationName);
+            parameters.put("classificationProperties", properties == null ? "null" : properties.toString());
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, classifyResults.getFailure().getClass().getSimpleName(), classifyResults.getFailure().getMessage());
+
+            throw new Exception(msg, classifyResults.getFailure());
+        }
+
+        super.recordLatencies(classifyOperationName, classifyResults, PerformanceProfileRequirement.ENTITY_CLASSIFICATION_PERFORMANCE);
+
+        /*
+         * Each search returns the same page of classified entities so the number of searches matches the number
+         * of entities that were classified.
+         */
+        TimedCallResults<List<EntityDetail>> searchResults = super.runTimedCalls(createdEntities.size(),
+                                                                                 callNumber -> metadataCollection.findEntitiesByClassification(userId,
+                                                                                                                                               entityDef.getGUID(),
+                                                                                                                                               classificationName,
+                                                                                                                                               null,
+                                                                                                                                               MatchCriteria.ALL,
+                                                                                                                                               0,
+                                                                                                                                               null,
+                                                                                                                                               null,
+                                                                                                                                               null,
+                                                                                                                                               SequencingOrder.ANY,
+                                                                                                                                               performanceWorkPad.getMaxSearchResults()));
+
+        if (searchResults.getFailure() instanceof FunctionNotSupportedException)
+        {
+            super.addNotSupportedAssertion(assertion2,
+                                           testTypeName + assertionMsg2,
+                                           PerformanceProfileRequirement.CLASSIFICATION_SEARCH_PERFORMANCE.getProfileId(),
+                                           PerformanceProfileRequirement.CLASSIFICATION_SEARCH_PERFORMANCE.getRequirementId());
+
+            return;
+        }
+        else if (searchResults.getFailure() != null)
+        {
+            String methodName = "findEntitiesByClassification";
+            String operationDescription = "find entities of type " + entityDef.getName() + " classified with " + classificationName;
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("entityTypeGUID", entityDef.getGUID());
+            parameters.put("classificationName", classificationName);
+            parameters.put("matchCriteria", MatchCriteria.ALL.getName());
+            parameters.put("pageSize", Integer.toString(performanceWorkPad.getMaxSearchResults()));
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, searchResults.getFailure().getClass().getSimpleName(), searchResults.getFailure().getMessage());
+
+            throw new Exception(msg, searchResults.getFailure());
+        }
+
+        for (List<EntityDetail> result : searchResults.getCompletedResults())
+        {
+            assertCondition(((result != null) && (! result.isEmpty())),
+                            assertion3,
+                            testTypeName + assertionMsg3,
+                            PerformanceProfileRequirement.CLASSIFICATION_SEARCH_PERFORMANCE.getProfileId(),
+                            PerformanceProfileRequirement.CLASSIFICATION_SEARCH_PERFORMANCE.getRequirementId());
+        }
+
+        super.recordLatencies(searchOperationName, searchResults, PerformanceProfileRequirement.CLASSIFICATION_SEARCH_PERFORMANCE);
+
+        super.setSuccessMessage("Entity classification and search measured for " + testTypeName);
+    }
+
+
+    /**
+     * Return the first supported classification that may be attached to the entity type.
+     *
+     * @return classification definition or null if none are valid
+     */
+    private ClassificationDef getClassificationDef()
+    {
+        if (classificationDefs == null)
+        {
+            return null;
+        }
+
+        OMRSRepositoryHelper repositoryHelper = cohortRepositoryConnector.getRepositoryHelper();
+        String               repositoryName   = cohortRepositoryConnector.getRepositoryName();
+
+        for (ClassificationDef classificationDef : classificationDefs)
+        {
+            List<TypeDefLink> validEntityDefs = classificationDef.getValidEntityDefs();
+
+            if ((validEntityDefs == null) || (validEntityDefs.isEmpty()))
+            {
+                return classificationDef;
+            }
+
+            for (TypeDefLink validEntityDef : validEntityDefs)
+            {
+                if (repositoryHelper.isTypeOf(repositoryName, entityDef.getName(), validEntityDef.getName()))
+                {
+                    return classificationDef;
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,116 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measure the creation of entities of a supported type.  The entities are kept in the work pad for
+ * the test cases that follow.
+ */
+public class TestEntityCreationPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-creation";
+    private static final String testCaseName = "Repository entity creation performance test case";
+
+    private static final String assertion1    = testCaseId + "-01";
+    private static final String assertionMsg1 = " repository supports creation of instances.";
+
+    private static final String operationName = "addEntity";
+
+    private EntityDef entityDef;
+    private String    testTypeName;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of valid entities
+     */
+    public TestEntityCreationPerformance(PerformanceWorkPad workPad,
+                                         EntityDef          entityDef)
+    {
+        super(workPad,
+              PerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE.getRequirementId());
+
+        this.entityDef = entityDef;
+
+        this.testTypeName = this.updateTestIdByType(entityDef.getName(),
+                                                    testCaseId,
+                                                    testCaseName);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection   metadataCollection = super.getMetadataCollection();
+        String                   userId             = workPad.getLocalServerUserId();
+        List<TypeDefAttribute>   typeDefAttributes  = super.getPropertiesForTypeDef(userId, entityDef);
+        List<InstanceProperties> propertiesList     = new ArrayList<>();
+
+        for (int instanceCount = 0; instanceCount < performanceWorkPad.getInstancesPerType(); instanceCount++)
+        {
+            propertiesList.add(super.generatePropertiesForInstance(userId, typeDefAttributes, instanceCount));
+        }
+
+        TimedCallResults<EntityDetail> results = super.runTimedCalls(propertiesList.size(),
+                                                                     callNumber -> metadataCollection.addEntity(userId,
+                                                                                                                entityDef.getGUID(),
+                                                                                                                propertiesList.get(callNumber),
+                                                                                                                null,
+                                                                                                                null));
+
+        /*
+         * The entities that were created are recorded in the work pad so that they are removed at the end
+         * of the run even if this test case fails part way through.
+         */
+        performanceWorkPad.setCreatedEntities(entityDef.getName(), results.getCompletedResults());
+
+        if (results.getFailure() instanceof FunctionNotSupportedException)
+        {
+            super.addNotSupportedAssertion(assertion1,
+                                           testTypeName + assertionMsg1,
+                                           PerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE.getProfileId(),
+                                           PerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE.getRequirementId());
+
+            return;
+        }
+        else if (results.getFailure() != null)
+        {
+            InstanceProperties properties = propertiesList.get(results.getFailedCallNumber());
+            String methodName = "addEntity";
+            String operationDescription = "add an entity of type " + entityDef.getName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("typeGUID", entityDef.getGUID());
+            parameters.put("initialProperties", properties == null ? "null" : properties.toString());
+            parameters.put("initialClassifications", "null");
+            parameters.put("initialStatus", "null");
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, results.getFailure().getClass().getSimpleName(), results.getFailure().getMessage());
+
+            throw new Exception(msg, results.getFailure());
+        }
+
+        super.recordLatencies(operationName, results, PerformanceProfileRequirement.ENTITY_CREATION_PERFORMANCE);
+
+        super.setSuccessMessage("Entity creation measured for " + testTypeName);
+    }
+}
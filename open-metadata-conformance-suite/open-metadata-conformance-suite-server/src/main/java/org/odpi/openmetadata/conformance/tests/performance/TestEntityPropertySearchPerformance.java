@@ -0,0 +1,228 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measure the search for the entities created for a supported type using an exact match on the value of one of
+ * their string properties.  A unique property is used where the type has one so each search has a single match.
+ */
+public class TestEntityPropertySearchPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-property-search";
+    private static final String testCaseName = "Repository entity property search performance test case";
+
+    private static final String assertion1    = testCaseId + "-01";
+    private static final String assertionMsg1 = " repository supports search for instances by property.";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " search by property returned the entity.";
+
+    private static final String operationName = "findEntitiesByProperty";
+
+    private EntityDef entityDef;
+    private String    testTypeName;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of valid entities
+     */
+    public TestEntityPropertySearchPerformance(PerformanceWorkPad workPad,
+                                               EntityDef          entityDef)
+    {
+        super(workPad,
+              PerformanceProfileRequirement.ENTITY_PROPERTY_SEARCH_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.ENTITY_PROPERTY_SEARCH_PERFORMANCE.getRequirementId());
+
+        this.entityDef = entityDef;
+
+        this.testTypeName = this.updateTestIdByType(entityDef.getName(),
+                                                    testCaseId,
+                                                    testCaseName);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        List<EntityDetail> createdEntities = performanceWorkPad.getCreatedEntities(entityDef.getName());
+
+        if ((createdEntities == null) || (createdEntities.isEmpty()))
+        {
+            return;
+        }
+
+        OMRSMetadataCollection   metadataCollection  = super.getMetadataCollection();
+        OMRSRepositoryHelper     repositoryHelper    = cohortRepositoryConnector.getRepositoryHelper();
+        String                   userId              = workPad.getLocalServerUserId();
+        String                   propertyName        = this.getSearchPropertyName(super.getPropertiesForTypeDef(userId, entityDef));
+        List<InstanceProperties> matchPropertiesList = new ArrayList<>();
+
+        if (propertyName == null)
+        {
+            /*
+             * There is no string property to search on for this type.
+             */
+            super.setSuccessMessage("No string property to search for " + testTypeName);
+
+            return;
+        }
+
+        for (EntityDetail entity : createdEntities)
+        {
+            String propertyValue = this.getStringPropertyValue(entity, propertyName);
+
+            if (propertyValue != null)
+            {
+                InstanceProperties     matchProperties = new InstanceProperties();
+                PrimitivePropertyValue ppv             = new PrimitivePropertyValue();
+
+                ppv.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                ppv.setPrimitiveValue(repositoryHelper.getExactMatchRegex(propertyValue));
+                matchProperties.setProperty(propertyName, ppv);
+                matchPropertiesList.add(matchProperties);
+            }
+        }
+
+        TimedCallResults<List<EntityDetail>> results = super.runTimedCalls(matchPropertiesList.size(),
+                                                                           callNumber -> metadataCollection.findEntitiesByProperty(userId,
+                                                                                                                                   entityDef.getGUID(),
+                                                                                                                                   matchPropertiesList.get(callNumber),
+                                                                                                                                   MatchCriteria.ALL,
+                                                                                                                                   0,
+                                                                                                                                   null,
+                                                                                                                                   null,
+                                                                                                                                   null,
+                                                                                                                                   null,
+                                                                                                                                   SequencingOrder.ANY,
+                                                                                                                                   performanceWorkPad.getMaxSearchResults()));
+
+        if (results.getFailure() instanceof FunctionNotSupportedException)
+        {
+            super.addNotSupportedAssertion(assertion1,
+                                           testTypeName + assertionMsg1,
+                                           PerformanceProfileRequirement.ENTITY_PROPERTY_SEARCH_PERFORMANCE.getProfileId(),
+                                           PerformanceProfileRequirement.ENTITY_PROPERTY_SEARCH_PERFORMANCE.getRequirementId());
+
+            return;
+        }
+        else if (results.getFailure() != null)
+        {
+            String methodName = "findEntitiesByProperty";
+            String operationDescription = "find entities of type " + entityDef.getName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("typeGUID", entityDef.getGUID());
+            parameters.put("matchProperties", matchPropertiesList.get(results.getFailedCallNumber()).toString());
+            parameters.put("matchCriteria", MatchCriteria.ALL.getName());
+            parameters.put("pageSize", Integer.toString(performanceWorkPad.getMaxSearchResults()));
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, results.getFailure().getClass().getSimpleName(), results.getFailure().getMessage());
+
+            throw new Exception(msg, results.getFailure());
+        }
+
+        for (List<EntityDetail> result : results.getCompletedResults())
+        {
+            assertCondition(((result != null) && (! result.isEmpty())),
+                            assertion2,
+                            testTypeName + assertionMsg2,
+                            PerformanceProfileRequirement.ENTITY_PROPERTY_SEARCH_PERFORMANCE.getProfileId(),
+                            PerformanceProfileRequirement.ENTITY_PROPERTY_SEARCH_PERFORMANCE.getRequirementId());
+        }
+
+        super.recordLatencies(operationName, results, PerformanceProfileRequirement.ENTITY_PROPERTY_SEARCH_PERFORMANCE);
+
+        super.setSuccessMessage("Entity property search measured for " + testTypeName);
+    }
+
+
+    /**
+     * Choose the string property to search on.  A unique property is preferred.
+     *
+     * @param typeDefAttributes properties of the type
+     * @return property name or null if the type has no string property
+     */
+    private String getSearchPropertyName(List<TypeDefAttribute> typeDefAttributes)
+    {
+        String propertyName = null;
+
+        if (typeDefAttributes != null)
+        {
+            for (TypeDefAttribute typeDefAttribute : typeDefAttributes)
+            {
+                if ((typeDefAttribute.getAttributeType() != null) &&
+                    (typeDefAttribute.getAttributeType().getCategory() == AttributeTypeDefCategory.PRIMITIVE) &&
+                    (((PrimitiveDef) typeDefAttribute.getAttributeType()).getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING))
+                {
+                    if (typeDefAttribute.isUnique())
+                    {
+                        return typeDefAttribute.getAttributeName();
+                    }
+
+                    if (propertyName == null)
+                    {
+                        propertyName = typeDefAttribute.getAttributeName();
+                    }
+                }
+            }
+        }
+
+        return propertyName;
+    }
+
+
+    /**
+     * Return the value of a string property of an entity.
+     *
+     * @param entity entity to examine
+     * @param propertyName name of the property
+     * @return property value or null if it is not set
+     */
+    private String getStringPropertyValue(EntityDetail entity,
+                                          String       propertyName)
+    {
+        if ((entity != null) && (entity.getProperties() != null))
+        {
+            InstancePropertyValue propertyValue = entity.getProperties().getPropertyValue(propertyName);
+
+            if (propertyValue instanceof PrimitivePropertyValue)
+            {
+                Object primitiveValue = ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+
+                if (primitiveValue != null)
+                {
+                    return primitiveValue.toString();
+                }
+            }
+        }
+
+        return null;
+    }
+}
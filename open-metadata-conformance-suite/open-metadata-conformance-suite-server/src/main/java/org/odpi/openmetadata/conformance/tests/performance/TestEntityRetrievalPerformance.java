@@ -0,0 +1,98 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measure the retrieval of the entities created for a supported type by their unique identifier.
+ */
+public class TestEntityRetrievalPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-retrieval";
+    private static final String testCaseName = "Repository entity retrieval performance test case";
+
+    private static final String assertion1    = testCaseId + "-01";
+    private static final String assertionMsg1 = " entity retrieved.";
+
+    private static final String operationName = "getEntityDetail";
+
+    private EntityDef entityDef;
+    private String    testTypeName;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of valid entities
+     */
+    public TestEntityRetrievalPerformance(PerformanceWorkPad workPad,
+                                          EntityDef          entityDef)
+    {
+        super(workPad,
+              PerformanceProfileRequirement.ENTITY_RETRIEVAL_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.ENTITY_RETRIEVAL_PERFORMANCE.getRequirementId());
+
+        this.entityDef = entityDef;
+
+        this.testTypeName = this.updateTestIdByType(entityDef.getName(),
+                                                    testCaseId,
+                                                    testCaseName);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        List<EntityDetail> createdEntities = performanceWorkPad.getCreatedEntities(entityDef.getName());
+
+        if ((createdEntities == null) || (createdEntities.isEmpty()))
+        {
+            return;
+        }
+
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        String                 userId             = workPad.getLocalServerUserId();
+
+        TimedCallResults<EntityDetail> results = super.runTimedCalls(createdEntities.size(),
+                                                                     callNumber -> metadataCollection.getEntityDetail(userId,
+                                                                                                                      createdEntities.get(callNumber).getGUID()));
+
+        if (results.getFailure() != null)
+        {
+            String methodName = "getEntityDetail";
+            String operationDescription = "retrieve an entity of type " + entityDef.getName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("entityGUID", createdEntities.get(results.getFailedCallNumber()).getGUID());
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, results.getFailure().getClass().getSimpleName(), results.getFailure().getMessage());
+
+            throw new Exception(msg, results.getFailure());
+        }
+
+        for (EntityDetail retrievedEntity : results.getCompletedResults())
+        {
+            assertCondition((retrievedEntity != null),
+                            assertion1,
+                            testTypeName + assertionMsg1,
+                            PerformanceProfileRequirement.ENTITY_RETRIEVAL_PERFORMANCE.getProfileId(),
+                            PerformanceProfileRequirement.ENTITY_RETRIEVAL_PERFORMANCE.getRequirementId());
+        }
+
+        super.recordLatencies(operationName, results, PerformanceProfileRequirement.ENTITY_RETRIEVAL_PERFORMANCE);
+
+        super.setSuccessMessage("Entity retrieval measured for " + testTypeName);
+    }
+}
@@ -0,0 +1,134 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measure the update of the properties of the entities created for a supported type.  Each entity is given
+ * a new set of generated property values.
+ */
+public class TestEntityUpdatePerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-entity-update";
+    private static final String testCaseName = "Repository entity update performance test case";
+
+    private static final String assertion1    = testCaseId + "-01";
+    private static final String assertionMsg1 = " repository supports update of instance properties.";
+
+    private static final String operationName = "updateEntityProperties";
+
+    private EntityDef entityDef;
+    private String    testTypeName;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of valid entities
+     */
+    public TestEntityUpdatePerformance(PerformanceWorkPad workPad,
+                                       EntityDef          entityDef)
+    {
+        super(workPad,
+              PerformanceProfileRequirement.ENTITY_UPDATE_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.ENTITY_UPDATE_PERFORMANCE.getRequirementId());
+
+        this.entityDef = entityDef;
+
+        this.testTypeName = this.updateTestIdByType(entityDef.getName(),
+                                                    testCaseId,
+                                                    testCaseName);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        List<EntityDetail> createdEntities = performanceWorkPad.getCreatedEntities(entityDef.getName());
+
+        if ((createdEntities == null) || (createdEntities.isEmpty()))
+        {
+            return;
+        }
+
+        OMRSMetadataCollection   metadataCollection = super.getMetadataCollection();
+        String                   userId             = workPad.getLocalServerUserId();
+        List<TypeDefAttribute>   typeDefAttributes  = super.getPropertiesForTypeDef(userId, entityDef);
+        int                      instanceOffset     = performanceWorkPad.getInstancesPerType();
+        List<InstanceProperties> propertiesList     = new ArrayList<>();
+
+        for (int i = 0; i < createdEntities.size(); i++)
+        {
+            InstanceProperties properties = super.generatePropertiesForInstance(userId, typeDefAttributes, instanceOffset + i);
+
+            if (properties == null)
+            {
+                /*
+                 * You cannot pass a null to updateEntityProperties so pass an empty InstanceProperties object.
+                 */
+                properties = new InstanceProperties();
+            }
+
+            propertiesList.add(properties);
+        }
+
+        TimedCallResults<EntityDetail> results = super.runTimedCalls(createdEntities.size(),
+                                                                     callNumber -> metadataCollection.updateEntityProperties(userId,
+                                                                                                                             createdEntities.get(callNumber).getGUID(),
+                                                                                                                             propertiesList.get(callNumber)));
+
+        /*
+         * Later test cases search for the current property values so keep the updated entities.
+         */
+        for (int i = 0; i < createdEntities.size(); i++)
+        {
+            if (results.isCompleted(i))
+            {
+                createdEntities.set(i, results.getResult(i));
+            }
+        }
+
+        if (results.getFailure() instanceof FunctionNotSupportedException)
+        {
+            super.addNotSupportedAssertion(assertion1,
+                                           testTypeName + assertionMsg1,
+                                           PerformanceProfileRequirement.ENTITY_UPDATE_PERFORMANCE.getProfileId(),
+                                           PerformanceProfileRequirement.ENTITY_UPDATE_PERFORMANCE.getRequirementId());
+
+            return;
+        }
+        else if (results.getFailure() != null)
+        {
+            String methodName = "updateEntityProperties";
+            String operationDescription = "update the properties of an entity of type " + entityDef.getName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("entityGUID", createdEntities.get(results.getFailedCallNumber()).getGUID());
+            parameters.put("properties", propertiesList.get(results.getFailedCallNumber()).toString());
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, results.getFailure().getClass().getSimpleName(), results.getFailure().getMessage());
+
+            throw new Exception(msg, results.getFailure());
+        }
+
+        super.recordLatencies(operationName, results, PerformanceProfileRequirement.ENTITY_UPDATE_PERFORMANCE);
+
+        super.setSuccessMessage("Entity update measured for " + testTypeName);
+    }
+}
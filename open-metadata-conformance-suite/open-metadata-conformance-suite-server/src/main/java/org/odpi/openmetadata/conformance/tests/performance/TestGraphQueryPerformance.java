@@ -0,0 +1,237 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipEndDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measure the creation of relationships of a supported type between the entities created by the earlier test
+ * cases and the retrieval of the neighbourhood of the entities they connect.
+ */
+public class TestGraphQueryPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-graph-query";
+    private static final String testCaseName = "Repository graph query performance test case";
+
+    private static final String assertion1    = testCaseId + "-01";
+    private static final String assertionMsg1 = " repository supports creation of relationships.";
+
+    private static final String assertion2    = testCaseId + "-02";
+    private static final String assertionMsg2 = " repository supports retrieval of the neighborhood of an entity.";
+
+    private static final String assertion3    = testCaseId + "-03";
+    private static final String assertionMsg3 = " neighborhood of entity includes the relationship.";
+
+    private static final String relationshipOperationName = "addRelationship";
+    private static final String neighborhoodOperationName = "getEntityNeighborhood";
+
+    private RelationshipDef relationshipDef;
+    private String          testTypeName;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param relationshipDef type of valid relationships
+     */
+    public TestGraphQueryPerformance(PerformanceWorkPad workPad,
+                                     RelationshipDef    relationshipDef)
+    {
+        super(workPad,
+              PerformanceProfileRequirement.RELATIONSHIP_CREATION_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.RELATIONSHIP_CREATION_PERFORMANCE.getRequirementId());
+
+        this.relationshipDef = relationshipDef;
+
+        this.testTypeName = this.updateTestIdByType(relationshipDef.getName(),
+                                                    testCaseId,
+                                                    testCaseName);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        List<EntityDetail> entityOnes = this.getEntitiesForEnd(relationshipDef.getEndDef1());
+        List<EntityDetail> entityTwos = this.getEntitiesForEnd(relationshipDef.getEndDef2());
+
+        if ((entityOnes == null) || (entityTwos == null) || ((entityOnes == entityTwos) && (entityOnes.size() < 2)))
+        {
+            /*
+             * None of the entities created by the earlier test cases can be connected by this type.
+             */
+            super.setSuccessMessage("No entities to connect for " + testTypeName);
+
+            return;
+        }
+
+        OMRSMetadataCollection   metadataCollection = super.getMetadataCollection();
+        String                   userId             = workPad.getLocalServerUserId();
+        List<TypeDefAttribute>   typeDefAttributes  = super.getPropertiesForTypeDef(userId, relationshipDef);
+        int                      relationshipCount  = Math.min(entityOnes.size(), entityTwos.size());
+        List<String>             entityOneGUIDs     = new ArrayList<>();
+        List<String>             entityTwoGUIDs     = new ArrayList<>();
+        List<InstanceProperties> propertiesList     = new ArrayList<>();
+
+        for (int i = 0; i < relationshipCount; i++)
+        {
+            entityOneGUIDs.add(entityOnes.get(i).getGUID());
+
+            if (entityOnes == entityTwos)
+            {
+                /*
+                 * Both ends are the same type so connect each entity to the next one rather than to itself.
+                 */
+                entityTwoGUIDs.add(entityTwos.get((i + 1) % relationshipCount).getGUID());
+            }
+            else
+            {
+                entityTwoGUIDs.add(entityTwos.get(i).getGUID());
+            }
+
+            propertiesList.add(super.generatePropertiesForInstance(userId, typeDefAttributes, i));
+        }
+
+        TimedCallResults<Relationship> relationshipResults = super.runTimedCalls(relationshipCount,
+                                                                                 callNumber -> metadataCollection.addRelationship(userId,
+                                                                                                                                  relationshipDef.getGUID(),
+                                                                                                                                  propertiesList.get(callNumber),
+                                                                                                                                  entityOneGUIDs.get(callNumber),
+                                                                                                                                  entityTwoGUIDs.get(callNumber),
+                                                                                                                                  null));
+        List<Relationship>             relationships       = relationshipResults.getCompletedResults();
+
+        /*
+         * The relationships are removed at the end of the run even if this test case fails part way through.
+         */
+        performanceWorkPad.addCreatedRelationships(relationships);
+
+        if (relationshipResults.getFailure() instanceof FunctionNotSupportedException)
+        {
+            super.addNotSupportedAssertion(assertion1,
+                                           testTypeName + assertionMsg1,
+                                           PerformanceProfileRequirement.RELATIONSHIP_CREATION_PERFORMANCE.getProfileId(),
+                                           PerformanceProfileRequirement.RELATIONSHIP_CREATION_PERFORMANCE.getRequirementId());
+
+            return;
+        }
+        else if (relationshipResults.getFailure() != null)
+        {
+            int                failedCallNumber = relationshipResults.getFailedCallNumber();
+            InstanceProperties properties       = propertiesList.get(failedCallNumber);
+            String methodName = "addRelationship";
+            String operationDescription = "add a relationship of type " + relationshipDef.getName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("relationshipTypeGUID", relationshipDef.getGUID());
+            parameters.put("initialProperties", properties == null ? "null" : properties.toString());
+            parameters.put("entityOneGUID", entityOneGUIDs.get(failedCallNumber));
+            parameters.put("entityTwoGUID", entityTwoGUIDs.get(failedCallNumber));
+            parameters.put("initialStatus", "null");
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, relationshipResults.getFailure().getClass().getSimpleName(), relationshipResults.getFailure().getMessage());
+
+            throw new Exception(msg, relationshipResults.getFailure());
+        }
+
+        super.recordLatencies(relationshipOperationName, relationshipResults, PerformanceProfileRequirement.RELATIONSHIP_CREATION_PERFORMANCE);
+
+        TimedCallResults<InstanceGraph> neighborhoodResults = super.runTimedCalls(relationships.size(),
+                                                                                  callNumber -> metadataCollection.getEntityNeighborhood(userId,
+                                                                                                                                         relationships.get(callNumber).getEntityOneProxy().getGUID(),
+                                                                                                                                         null,
+                                                                                                                                         null,
+                                                                                                                                         null,
+                                                                                                                                         null,
+                                                                                                                                         null,
+                                                                                                                                         1));
+
+        if (neighborhoodResults.getFailure() instanceof FunctionNotSupportedException)
+        {
+            super.addNotSupportedAssertion(assertion2,
+                                           testTypeName + assertionMsg2,
+                                           PerformanceProfileRequirement.ENTITY_NEIGHBORHOOD_PERFORMANCE.getProfileId(),
+                                           PerformanceProfileRequirement.ENTITY_NEIGHBORHOOD_PERFORMANCE.getRequirementId());
+
+            return;
+        }
+        else if (neighborhoodResults.getFailure() != null)
+        {
+            String methodName = "getEntityNeighborhood";
+            String operationDescription = "get the neighborhood of an entity connected by " + relationshipDef.getName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("entityGUID", relationships.get(neighborhoodResults.getFailedCallNumber()).getEntityOneProxy().getGUID());
+            parameters.put("level", "1");
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, neighborhoodResults.getFailure().getClass().getSimpleName(), neighborhoodResults.getFailure().getMessage());
+
+            throw new Exception(msg, neighborhoodResults.getFailure());
+        }
+
+        for (InstanceGraph neighborhood : neighborhoodResults.getCompletedResults())
+        {
+            assertCondition(((neighborhood != null) && (neighborhood.getRelationships() != null) && (! neighborhood.getRelationships().isEmpty())),
+                            assertion3,
+                            testTypeName + assertionMsg3,
+                            PerformanceProfileRequirement.ENTITY_NEIGHBORHOOD_PERFORMANCE.getProfileId(),
+                            PerformanceProfileRequirement.ENTITY_NEIGHBORHOOD_PERFORMANCE.getRequirementId());
+        }
+
+        super.recordLatencies(neighborhoodOperationName, neighborhoodResults, PerformanceProfileRequirement.ENTITY_NEIGHBORHOOD_PERFORMANCE);
+
+        super.setSuccessMessage("Relationship creation and entity neighborhood measured for " + testTypeName);
+    }
+
+
+    /**
+     * Return the entities created by the earlier test cases that may be used at one end of the relationship.
+     * The same list is returned for both ends if they have the same type.
+     *
+     * @param relationshipEndDef definition of the end of the relationship
+     * @return list of entities or null if none are suitable
+     */
+    private List<EntityDetail> getEntitiesForEnd(RelationshipEndDef relationshipEndDef)
+    {
+        if ((relationshipEndDef == null) || (relationshipEndDef.getEntityType() == null))
+        {
+            return null;
+        }
+
+        OMRSRepositoryHelper repositoryHelper = cohortRepositoryConnector.getRepositoryHelper();
+        String               repositoryName   = cohortRepositoryConnector.getRepositoryName();
+        String               endTypeName      = relationshipEndDef.getEntityType().getName();
+
+        for (String entityTypeName : performanceWorkPad.getCreatedEntityTypeNames())
+        {
+            if (repositoryHelper.isTypeOf(repositoryName, entityTypeName, endTypeName))
+            {
+                List<EntityDetail> createdEntities = performanceWorkPad.getCreatedEntities(entityTypeName);
+
+                if ((createdEntities != null) && (! createdEntities.isEmpty()))
+                {
+                    return createdEntities;
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,215 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measure the removal of the relationships and entities created by the earlier test cases.  Each instance is
+ * deleted and then purged.  If the repository does not support soft delete the instances are purged directly.
+ */
+public class TestInstanceRemovalPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-instance-removal";
+    private static final String testCaseName = "Repository instance removal performance test case";
+
+    private static final String deleteRelationshipOperationName = "deleteRelationship";
+    private static final String purgeRelationshipOperationName  = "purgeRelationship";
+    private static final String deleteEntityOperationName       = "deleteEntity";
+    private static final String purgeEntityOperationName        = "purgeEntity";
+
+
+    /**
+     * Typical constructor sets up superclass
+     *
+     * @param workPad place for parameters and results
+     */
+    public TestInstanceRemovalPerformance(PerformanceWorkPad workPad)
+    {
+        super(workPad,
+              testCaseId,
+              testCaseName,
+              PerformanceProfileRequirement.INSTANCE_REMOVAL_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.INSTANCE_REMOVAL_PERFORMANCE.getRequirementId());
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        String                 userId             = workPad.getLocalServerUserId();
+        List<Relationship>     relationships      = performanceWorkPad.removeCreatedRelationships();
+
+        /*
+         * The relationships are removed first since some repositories will not purge an entity that is still
+         * connected to other entities.
+         */
+        TimedCallResults<Void> deleteResults = super.runTimedCalls(relationships.size(),
+                                                                   callNumber ->
+                                                                   {
+                                                                       Relationship relationship = relationships.get(callNumber);
+                                                                       metadataCollection.deleteRelationship(userId,
+                                                                                                             relationship.getType().getTypeDefGUID(),
+                                                                                                             relationship.getType().getTypeDefName(),
+                                                                                                             relationship.getGUID());
+                                                                       return null;
+                                                                   });
+
+        if (deleteResults.getFailure() instanceof FunctionNotSupportedException)
+        {
+            /*
+             * Soft delete is not supported so the relationships are purged directly.
+             */
+        }
+        else if (deleteResults.getFailure() != null)
+        {
+            InstanceType type = relationships.get(deleteResults.getFailedCallNumber()).getType();
+            String methodName = "deleteRelationship";
+            String operationDescription = "delete a relationship of type " + type.getTypeDefName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("typeDefGUID", type.getTypeDefGUID());
+            parameters.put("typeDefName", type.getTypeDefName());
+            parameters.put("obsoleteRelationshipGUID", relationships.get(deleteResults.getFailedCallNumber()).getGUID());
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, deleteResults.getFailure().getClass().getSimpleName(), deleteResults.getFailure().getMessage());
+
+            throw new Exception(msg, deleteResults.getFailure());
+        }
+        else
+        {
+            super.recordLatencies(deleteRelationshipOperationName, deleteResults, PerformanceProfileRequirement.INSTANCE_REMOVAL_PERFORMANCE);
+        }
+
+        TimedCallResults<Void> purgeResults = super.runTimedCalls(relationships.size(),
+                                                                  callNumber ->
+                                                                  {
+                                                                      Relationship relationship = relationships.get(callNumber);
+                                                                      metadataCollection.purgeRelationship(userId,
+                                                                                                           relationship.getType().getTypeDefGUID(),
+                                                                                                           relationship.getType().getTypeDefName(),
+                                                                                                           relationship.getGUID());
+                                                                      return null;
+                                                                  });
+
+        if (purgeResults.getFailure() != null)
+        {
+            InstanceType type = relationships.get(purgeResults.getFailedCallNumber()).getType();
+            String methodName = "purgeRelationship";
+            String operationDescription = "purge a relationship of type " + type.getTypeDefName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("typeDefGUID", type.getTypeDefGUID());
+            parameters.put("typeDefName", type.getTypeDefName());
+            parameters.put("deletedRelationshipGUID", relationships.get(purgeResults.getFailedCallNumber()).getGUID());
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, purgeResults.getFailure().getClass().getSimpleName(), purgeResults.getFailure().getMessage());
+
+            throw new Exception(msg, purgeResults.getFailure());
+        }
+
+        super.recordLatencies(purgeRelationshipOperationName, purgeResults, PerformanceProfileRequirement.INSTANCE_REMOVAL_PERFORMANCE);
+
+        /*
+         * The entities are removed one type at a time so the latencies and elapsed times of each type are added
+         * together before they are recorded.
+         */
+        List<Long> deleteLatencies   = new ArrayList<>();
+        List<Long> purgeLatencies    = new ArrayList<>();
+        long       deleteElapsedTime = 0;
+        long       purgeElapsedTime  = 0;
+
+        for (String entityTypeName : performanceWorkPad.getCreatedEntityTypeNames())
+        {
+            List<EntityDetail> createdEntities = performanceWorkPad.getCreatedEntities(entityTypeName);
+
+            if (createdEntities != null)
+            {
+                TimedCallResults<Void> deleteEntityResults = super.runTimedCalls(createdEntities.size(),
+                                                                                 callNumber ->
+                                                                                 {
+                                                                                     EntityDetail entity = createdEntities.get(callNumber);
+                                                                                     metadataCollection.deleteEntity(userId,
+                                                                                                                     entity.getType().getTypeDefGUID(),
+                                                                                                                     entity.getType().getTypeDefName(),
+                                                                                                                     entity.getGUID());
+                                                                                     return null;
+                                                                                 });
+
+                if (deleteEntityResults.getFailure() instanceof FunctionNotSupportedException)
+                {
+                    /*
+                     * Soft delete is not supported so the entities are purged directly.
+                     */
+                }
+                else if (deleteEntityResults.getFailure() != null)
+                {
+                    EntityDetail entity = createdEntities.get(deleteEntityResults.getFailedCallNumber());
+                    InstanceType type   = entity.getType();
+                    String methodName = "deleteEntity";
+                    String operationDescription = "delete an entity of type " + type.getTypeDefName();
+                    Map<String, String> parameters = new HashMap<>();
+                    parameters.put("typeDefGUID", type.getTypeDefGUID());
+                    parameters.put("typeDefName", type.getTypeDefName());
+                    parameters.put("obsoleteEntityGUID", entity.getGUID());
+                    String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, deleteEntityResults.getFailure().getClass().getSimpleName(), deleteEntityResults.getFailure().getMessage());
+
+                    throw new Exception(msg, deleteEntityResults.getFailure());
+                }
+                else
+                {
+                    deleteLatencies.addAll(deleteEntityResults.getLatencies());
+                    deleteElapsedTime = deleteElapsedTime + deleteEntityResults.getElapsedTime();
+                }
+
+                TimedCallResults<Void> purgeEntityResults = super.runTimedCalls(createdEntities.size(),
+                                                                                callNumber ->
+                                                                                {
+                                                                                    EntityDetail entity = createdEntities.get(callNumber);
+                                                                                    metadataCollection.purgeEntity(userId,
+                                                                                                                   entity.getType().getTypeDefGUID(),
+                                                                                                                   entity.getType().getTypeDefName(),
+                                                                                                                   entity.getGUID());
+                                                                                    return null;
+                                                                                });
+
+                if (purgeEntityResults.getFailure() != null)
+                {
+                    EntityDetail entity = createdEntities.get(purgeEntityResults.getFailedCallNumber());
+                    InstanceType type   = entity.getType();
+                    String methodName = "purgeEntity";
+                    String operationDescription = "purge an entity of type " + type.getTypeDefName();
+                    Map<String, String> parameters = new HashMap<>();
+                    parameters.put("typeDefGUID", type.getTypeDefGUID());
+                    parameters.put("typeDefName", type.getTypeDefName());
+                    parameters.put("deletedEntityGUID", entity.getGUID());
+                    String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, purgeEntityResults.getFailure().getClass().getSimpleName(), purgeEntityResults.getFailure().getMessage());
+
+                    throw new Exception(msg, purgeEntityResults.getFailure());
+                }
+
+                purgeLatencies.addAll(purgeEntityResults.getLatencies());
+                purgeElapsedTime = purgeElapsedTime + purgeEntityResults.getElapsedTime();
+            }
+
+            performanceWorkPad.removeCreatedEntities(entityTypeName);
+        }
+
+        super.recordLatencies(deleteEntityOperationName, deleteLatencies, deleteElapsedTime, PerformanceProfileRequirement.INSTANCE_REMOVAL_PERFORMANCE);
+        super.recordLatencies(purgeEntityOperationName, purgeLatencies, purgeElapsedTime, PerformanceProfileRequirement.INSTANCE_REMOVAL_PERFORMANCE);
+
+        super.setSuccessMessage("Instance removal measured");
+    }
+}
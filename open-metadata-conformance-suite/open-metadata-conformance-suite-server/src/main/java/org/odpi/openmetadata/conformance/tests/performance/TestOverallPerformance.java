@@ -0,0 +1,57 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarize the latencies measured for each repository operation across all of the types used in the run.
+ */
+public class TestOverallPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-overall";
+    private static final String testCaseName = "Repository overall performance test case";
+
+
+    /**
+     * Typical constructor sets up superclass
+     *
+     * @param workPad place for parameters and results
+     */
+    public TestOverallPerformance(PerformanceWorkPad workPad)
+    {
+        super(workPad,
+              testCaseId,
+              testCaseName,
+              PerformanceProfileRequirement.OVERALL_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.OVERALL_PERFORMANCE.getRequirementId());
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        Map<String, Long> operationElapsedTimes = performanceWorkPad.getOperationElapsedTimes();
+
+        for (Map.Entry<String, List<Long>> entry : performanceWorkPad.getOperationLatencies().entrySet())
+        {
+            if (! entry.getValue().isEmpty())
+            {
+                super.addDiscoveredProperty(entry.getKey(),
+                                            getLatencyStatistics(entry.getValue(), operationElapsedTimes.get(entry.getKey())),
+                                            PerformanceProfileRequirement.OVERALL_PERFORMANCE.getProfileId(),
+                                            PerformanceProfileRequirement.OVERALL_PERFORMANCE.getRequirementId());
+            }
+        }
+
+        super.setSuccessMessage("Overall performance summarized");
+    }
+}
@@ -0,0 +1,158 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Record the settings of the performance workbench and retrieve the types that the repository under test supports.
+ * The supported types determine which instances the other performance test cases create.
+ */
+public class TestPerformanceEnvironment extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-environment";
+    private static final String testCaseName = "Repository performance environment test case";
+
+    private static final String discoveredProperty_tutServerName               = "Server under test";
+    private static final String discoveredProperty_instancesPerType            = "Instances created per type";
+    private static final String discoveredProperty_maxSearchResults            = "Search page size";
+    private static final String discoveredProperty_callerThreads               = "Caller threads";
+    private static final String discoveredProperty_numberOfEntityDefs          = "Number of supported entity types";
+    private static final String discoveredProperty_numberOfRelationshipDefs    = "Number of supported relationship types";
+    private static final String discoveredProperty_numberOfClassificationDefs  = "Number of supported classification types";
+
+    private Map<String, EntityDef>    entityDefs         = new HashMap<>();
+    private List<RelationshipDef>     relationshipDefs   = new ArrayList<>();
+    private List<ClassificationDef>   classificationDefs = new ArrayList<>();
+
+
+    /**
+     * Typical constructor sets up superclass
+     *
+     * @param workPad place for parameters and results
+     */
+    public TestPerformanceEnvironment(PerformanceWorkPad workPad)
+    {
+        super(workPad,
+              testCaseId,
+              testCaseName,
+              PerformanceProfileRequirement.TEST_ENVIRONMENT.getProfileId(),
+              PerformanceProfileRequirement.TEST_ENVIRONMENT.getRequirementId());
+    }
+
+
+    /**
+     * Return the entity definitions supported by the repository.
+     *
+     * @return map of EntityDef name to EntityDefs
+     */
+    public Map<String, EntityDef> getEntityDefs()
+    {
+        return entityDefs;
+    }
+
+
+    /**
+     * Return the relationship definitions supported by the repository.
+     *
+     * @return list of RelationshipDefs
+     */
+    public List<RelationshipDef> getRelationshipDefs()
+    {
+        return relationshipDefs;
+    }
+
+
+    /**
+     * Return the classification definitions supported by the repository.
+     *
+     * @return list of ClassificationDefs
+     */
+    public List<ClassificationDef> getClassificationDefs()
+    {
+        return classificationDefs;
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+
+        this.addEnvironmentProperty(discoveredProperty_tutServerName, performanceWorkPad.getTutServerName());
+        this.addEnvironmentProperty(discoveredProperty_instancesPerType, performanceWorkPad.getInstancesPerType());
+        this.addEnvironmentProperty(discoveredProperty_maxSearchResults, performanceWorkPad.getMaxSearchResults());
+        this.addEnvironmentProperty(discoveredProperty_callerThreads, performanceWorkPad.getCallerThreads());
+
+        List<TypeDef>  typeDefGallery = metadataCollection.findTypeDefsByCategory(workPad.getLocalServerUserId(),
+                                                                                  TypeDefCategory.ENTITY_DEF);
+
+        if (typeDefGallery != null)
+        {
+            for (TypeDef typeDef : typeDefGallery)
+            {
+                entityDefs.put(typeDef.getName(), (EntityDef) typeDef);
+            }
+        }
+
+        typeDefGallery = metadataCollection.findTypeDefsByCategory(workPad.getLocalServerUserId(),
+                                                                   TypeDefCategory.RELATIONSHIP_DEF);
+
+        if (typeDefGallery != null)
+        {
+            for (TypeDef typeDef : typeDefGallery)
+            {
+                relationshipDefs.add((RelationshipDef) typeDef);
+            }
+        }
+
+        typeDefGallery = metadataCollection.findTypeDefsByCategory(workPad.getLocalServerUserId(),
+                                                                   TypeDefCategory.CLASSIFICATION_DEF);
+
+        if (typeDefGallery != null)
+        {
+            for (TypeDef typeDef : typeDefGallery)
+            {
+                classificationDefs.add((ClassificationDef) typeDef);
+            }
+        }
+
+        this.addEnvironmentProperty(discoveredProperty_numberOfEntityDefs, entityDefs.size());
+        this.addEnvironmentProperty(discoveredProperty_numberOfRelationshipDefs, relationshipDefs.size());
+        this.addEnvironmentProperty(discoveredProperty_numberOfClassificationDefs, classificationDefs.size());
+
+        super.setSuccessMessage("Performance environment retrieved");
+    }
+
+
+    /**
+     * Add a discovered property that describes the environment of the measurements.
+     *
+     * @param propertyName name of the property
+     * @param propertyValue value of the property
+     */
+    private void addEnvironmentProperty(String  propertyName,
+                                        Object  propertyValue)
+    {
+        super.addDiscoveredProperty(propertyName,
+                                    propertyValue,
+                                    PerformanceProfileRequirement.TEST_ENVIRONMENT.getProfileId(),
+                                    PerformanceProfileRequirement.TEST_ENVIRONMENT.getRequirementId());
+    }
+}
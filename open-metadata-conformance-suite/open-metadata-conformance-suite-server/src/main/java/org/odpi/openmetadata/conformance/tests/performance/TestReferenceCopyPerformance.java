@@ -0,0 +1,249 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.tests.performance;
+
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceProfileRequirement;
+import org.odpi.openmetadata.conformance.workbenches.performance.PerformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Measure the ingestion of reference copies of entities of a supported type that are homed in another member
+ * of the cohort.  The reference copies are saved one at a time to measure latency, and then as a run of
+ * back-to-back saves to measure the throughput of a burst of reference copies.  They are purged at the end
+ * of the test case.
+ */
+public class TestReferenceCopyPerformance extends PerformanceTestCase
+{
+    private static final String testCaseId   = "performance-reference-copy";
+    private static final String testCaseName = "Repository reference copy performance test case";
+
+    private static final String assertion1    = testCaseId + "-01";
+    private static final String assertionMsg1 = " repository supports reference copies of instances.";
+
+    private static final String saveOperationName  = "saveEntityReferenceCopy";
+    private static final String batchOperationName = "saveEntityReferenceCopy (back-to-back)";
+    private static final String purgeOperationName = "purgeEntityReferenceCopy";
+
+    private EntityDef entityDef;
+    private String    testTypeName;
+
+
+    /**
+     * Typical constructor sets up superclass and discovered information needed for tests
+     *
+     * @param workPad place for parameters and results
+     * @param entityDef type of valid entities
+     */
+    public TestReferenceCopyPerformance(PerformanceWorkPad workPad,
+                                        EntityDef          entityDef)
+    {
+        super(workPad,
+              PerformanceProfileRequirement.REFERENCE_COPY_PERFORMANCE.getProfileId(),
+              PerformanceProfileRequirement.REFERENCE_COPY_PERFORMANCE.getRequirementId());
+
+        this.entityDef = entityDef;
+
+        this.testTypeName = this.updateTestIdByType(entityDef.getName(),
+                                                    testCaseId,
+                                                    testCaseName);
+    }
+
+
+    /**
+     * Method implemented by the actual test case.
+     *
+     * @throws Exception something went wrong with the test.
+     */
+    protected void run() throws Exception
+    {
+        OMRSMetadataCollection metadataCollection = super.getMetadataCollection();
+        String                 userId             = workPad.getLocalServerUserId();
+        List<TypeDefAttribute> typeDefAttributes  = super.getPropertiesForTypeDef(userId, entityDef);
+        int                    instancesPerType   = performanceWorkPad.getInstancesPerType();
+        List<EntityDetail>     savedEntities      = new ArrayList<>();
+
+        /*
+         * The reference copies appear to come from another member of the cohort.  The property values follow on
+         * from those of the entities created and updated by the earlier test cases so unique properties do not clash.
+         */
+        String remoteMetadataCollectionId = UUID.randomUUID().toString();
+
+        List<EntityDetail> singleEntities = this.getReferenceCopies(userId, typeDefAttributes, remoteMetadataCollectionId, 2 * instancesPerType);
+        List<EntityDetail> batchEntities  = this.getReferenceCopies(userId, typeDefAttributes, remoteMetadataCollectionId, 3 * instancesPerType);
+
+        try
+        {
+            TimedCallResults<Void> saveResults = super.runTimedCalls(singleEntities.size(),
+                                                                     callNumber ->
+                                                                     {
+                                                                         metadataCollection.saveEntityReferenceCopy(userId, singleEntities.get(callNumber));
+                                                                         return null;
+                                                                     });
+
+            for (int i = 0; i < singleEntities.size(); i++)
+            {
+                if (saveResults.isCompleted(i))
+                {
+                    savedEntities.add(singleEntities.get(i));
+                }
+            }
+
+            if (saveResults.getFailure() instanceof FunctionNotSupportedException)
+            {
+                super.addNotSupportedAssertion(assertion1,
+                                               testTypeName + assertionMsg1,
+                                               PerformanceProfileRequirement.REFERENCE_COPY_PERFORMANCE.getProfileId(),
+                                               PerformanceProfileRequirement.REFERENCE_COPY_PERFORMANCE.getRequirementId());
+
+                return;
+            }
+            else if (saveResults.getFailure() != null)
+            {
+                String methodName = "saveEntityReferenceCopy";
+                String operationDescription = "save a reference copy of an entity of type " + entityDef.getName();
+                Map<String, String> parameters = new HashMap<>();
+                parameters.put("entity", singleEntities.get(saveResults.getFailedCallNumber()).toString());
+                String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, saveResults.getFailure().getClass().getSimpleName(), saveResults.getFailure().getMessage());
+
+                throw new Exception(msg, saveResults.getFailure());
+            }
+
+            super.recordLatencies(saveOperationName, saveResults, PerformanceProfileRequirement.REFERENCE_COPY_PERFORMANCE);
+
+            /*
+             * The repository under test is called through the cohort's REST API, which has no bulk endpoint for
+             * saveEntityReferenceCopies.  The burst is therefore saved item by item by the caller threads and
+             * reported as the throughput of back-to-back calls rather than as a batch.  Each reference copy that
+             * is saved is remembered so it is purged even if another save fails.
+             */
+            TimedCallResults<Void> burstResults = super.runTimedCalls(batchEntities.size(),
+                                                                      callNumber ->
+                                                                      {
+                                                                          metadataCollection.saveEntityReferenceCopy(userId, batchEntities.get(callNumber));
+                                                                          return null;
+                                                                      });
+            int                    burstCount   = 0;
+
+            for (int i = 0; i < batchEntities.size(); i++)
+            {
+                if (burstResults.isCompleted(i))
+                {
+                    savedEntities.add(batchEntities.get(i));
+                    burstCount++;
+                }
+            }
+
+            if (burstResults.getFailure() != null)
+            {
+                String methodName = "saveEntityReferenceCopy";
+                String operationDescription = "save a burst of reference copies of entities of type " + entityDef.getName();
+                Map<String, String> parameters = new HashMap<>();
+                parameters.put("entity", batchEntities.get(burstResults.getFailedCallNumber()).toString());
+                parameters.put("savedInBurst", Integer.toString(burstCount));
+                String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, burstResults.getFailure().getClass().getSimpleName(), burstResults.getFailure().getMessage());
+
+                throw new Exception(msg, burstResults.getFailure());
+            }
+
+            Map<String, Object> statistics = new LinkedHashMap<>();
+
+            statistics.put("callCount", batchEntities.size());
+            statistics.put("callerThreads", performanceWorkPad.getCallerThreads());
+            statistics.put("elapsedMilliseconds", toMilliseconds(burstResults.getElapsedTime()));
+            statistics.put("instancesPerSecond", getThroughput(batchEntities.size(), burstResults.getElapsedTime()));
+
+            super.addDiscoveredProperty(batchOperationName,
+                                        statistics,
+                                        PerformanceProfileRequirement.REFERENCE_COPY_BATCH_PERFORMANCE.getProfileId(),
+                                        PerformanceProfileRequirement.REFERENCE_COPY_BATCH_PERFORMANCE.getRequirementId());
+        }
+        finally
+        {
+            this.purgeReferenceCopies(metadataCollection, userId, savedEntities);
+        }
+
+        super.setSuccessMessage("Reference copy ingestion measured for " + testTypeName);
+    }
+
+
+    /**
+     * Build the reference copies of entities homed in another repository.
+     *
+     * @param userId calling user
+     * @param typeDefAttributes properties of the type
+     * @param remoteMetadataCollectionId metadata collection id of the home repository
+     * @param instanceOffset instance count of the first entity
+     * @return list of entities
+     * @throws Exception the entities cannot be built
+     */
+    private List<EntityDetail> getReferenceCopies(String                  userId,
+                                                  List<TypeDefAttribute>  typeDefAttributes,
+                                                  String                  remoteMetadataCollectionId,
+                                                  int                     instanceOffset) throws Exception
+    {
+        OMRSRepositoryHelper repositoryHelper = cohortRepositoryConnector.getRepositoryHelper();
+        List<EntityDetail>   entities         = new ArrayList<>();
+
+        for (int i = 0; i < performanceWorkPad.getInstancesPerType(); i++)
+        {
+            entities.add(repositoryHelper.getNewEntity(cohortRepositoryConnector.getRepositoryName(),
+                                                       remoteMetadataCollectionId,
+                                                       InstanceProvenanceType.LOCAL_COHORT,
+                                                       userId,
+                                                       entityDef.getName(),
+                                                       super.generatePropertiesForInstance(userId, typeDefAttributes, instanceOffset + i),
+                                                       null));
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Purge the reference copies saved by this test case.
+     *
+     * @param metadataCollection metadata collection of the repository under test
+     * @param userId calling user
+     * @param savedEntities reference copies to remove
+     * @throws Exception the repository failed to purge a reference copy
+     */
+    private void purgeReferenceCopies(OMRSMetadataCollection  metadataCollection,
+                                      String                  userId,
+                                      List<EntityDetail>      savedEntities) throws Exception
+    {
+        TimedCallResults<Void> purgeResults = super.runTimedCalls(savedEntities.size(),
+                                                                  callNumber ->
+                                                                  {
+                                                                      metadataCollection.purgeEntityReferenceCopy(userId, savedEntities.get(callNumber));
+                                                                      return null;
+                                                                  });
+
+        if (purgeResults.getFailure() != null)
+        {
+            EntityDetail entity = savedEntities.get(purgeResults.getFailedCallNumber());
+            String methodName = "purgeEntityReferenceCopy";
+            String operationDescription = "purge a reference copy of an entity of type " + entityDef.getName();
+            Map<String, String> parameters = new HashMap<>();
+            parameters.put("entityGUID", entity.getGUID());
+            parameters.put("homeMetadataCollectionId", entity.getMetadataCollectionId());
+            String msg = this.buildExceptionMessage(testCaseId, methodName, operationDescription, parameters, purgeResults.getFailure().getClass().getSimpleName(), purgeResults.getFailure().getMessage());
+
+            throw new Exception(msg, purgeResults.getFailure());
+        }
+
+        super.recordLatencies(purgeOperationName, purgeResults, PerformanceProfileRequirement.REFERENCE_COPY_PERFORMANCE);
+    }
+}
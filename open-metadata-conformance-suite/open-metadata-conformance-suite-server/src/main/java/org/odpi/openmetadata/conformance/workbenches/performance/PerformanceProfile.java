@@ -0,0 +1,168 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.conformance.beans.OpenMetadataConformanceProfilePriority;
+
+import java.io.Serializable;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * PerformanceProfile defines the list of performance profiles for an open metadata repository.  Each profile
+ * groups the measurements taken by the performance workbench for one kind of repository operation.  None of the
+ * profiles are mandatory since the workbench measures the repository rather than judging its conformance.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum PerformanceProfile implements Serializable
+{
+    ENVIRONMENT                    (0,  "Environment",
+                                        "The characteristics of the technology under test and the volumes of instances used to measure it.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/environment",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_CREATION                (1,  "Entity creation",
+                                        "The time taken by the technology under test to create new entities.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-creation",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_UPDATE                  (2,  "Entity update",
+                                        "The time taken by the technology under test to update the properties of existing entities.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-update",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_RETRIEVAL               (3,  "Entity retrieval",
+                                        "The time taken by the technology under test to retrieve entities by their unique identifier.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-retrieval",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_PROPERTY_SEARCH         (4,  "Entity property search",
+                                        "The time taken by the technology under test to find entities by matching a property value.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-property-search",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    ENTITY_CLASSIFICATION_SEARCH   (5,  "Entity classification search",
+                                        "The time taken by the technology under test to classify entities and find entities by their classification.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-classification-search",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    GRAPH_QUERIES                  (6,  "Graph queries",
+                                        "The time taken by the technology under test to create relationships and retrieve the neighborhood of an entity.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/graph-queries",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    REFERENCE_COPIES               (7,  "Reference copies",
+                                        "The time taken by the technology under test to ingest reference copies of entities from other members of the cohort.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/reference-copies",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE),
+    INSTANCE_REMOVAL               (8,  "Instance removal",
+                                        "The time taken by the technology under test to remove the instances created by the workbench.",
+                                        "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/instance-removal",
+                                        OpenMetadataConformanceProfilePriority.OPTIONAL_PROFILE);
+
+
+    private static final long serialVersionUID = 1L;
+
+    private int                                    profileId;
+    private String                                 profileName;
+    private String                                 profileDescription;
+    private String                                 profileDocumentationURL;
+    private OpenMetadataConformanceProfilePriority profilePriority;
+
+
+    /**
+     * Default constructor sets up the values for this enum instance.
+     *
+     * @param profileId int identifier for the enum, used for indexing arrays etc with the enum.
+     * @param profileName String name for the enum, used for message content.
+     * @param profileDescription String default description for the enum, used when there is not natural
+     *                             language resource bundle available.
+     * @param profileDocumentationURL link to more documentation
+     * @param profilePriority is the profile mandatory or not?
+     */
+    PerformanceProfile(int                                    profileId,
+                       String                                 profileName,
+                       String                                 profileDescription,
+                       String                                 profileDocumentationURL,
+                       OpenMetadataConformanceProfilePriority profilePriority)
+    {
+        this.profileId = profileId;
+        this.profileName = profileName;
+        this.profileDescription = profileDescription;
+        this.profileDocumentationURL = profileDocumentationURL;
+        this.profilePriority = profilePriority;
+    }
+
+
+    /**
+     * Return the identifier for the enum, used for indexing arrays etc with the enum.
+     *
+     * @return int identifier
+     */
+    public Integer getProfileId()
+    {
+        return profileId;
+    }
+
+
+    /**
+     * Return the name for the enum, used for message content.
+     *
+     * @return String name
+     */
+    public String getProfileName()
+    {
+        return profileName;
+    }
+
+
+    /**
+     * Return the default description for the enum, used when there is not natural
+     * language resource bundle available.
+     *
+     * @return String default description
+     */
+    public String getProfileDescription()
+    {
+        return profileDescription;
+    }
+
+
+    /**
+     * Return the URL to link to more documentation about this profile.
+     *
+     * @return url
+     */
+    public String getProfileDocumentationURL()
+    {
+        return profileDocumentationURL;
+    }
+
+
+    /**
+     * Return whether this profile is mandatory or optional.
+     *
+     * @return OpenMetadataConformanceProfilePriority enum
+     */
+    public OpenMetadataConformanceProfilePriority getProfilePriority()
+    {
+        return profilePriority;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceProfile{" +
+                "profileId=" + profileId +
+                ", profileName='" + profileName + '\'' +
+                ", profileDescription='" + profileDescription + '\'' +
+                ", profileDocumentationURL='" + profileDocumentationURL + '\'' +
+                ", profilePriority=" + profilePriority +
+                '}';
+    }
+}
@@ -0,0 +1,197 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import java.io.Serializable;
+
+/**
+ * PerformanceProfileRequirement documents the different measurements for each open metadata repository
+ * performance profile.  The performance test cases report their measurements for each requirement.
+ */
+public enum PerformanceProfileRequirement implements Serializable
+{
+    TEST_ENVIRONMENT                       (0, "Test environment",
+                                            "The technology under test provides a repository connector and reports the types that it supports.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/environment/test-environment",
+                                            PerformanceProfile.ENVIRONMENT),
+    ENTITY_CREATION_PERFORMANCE            (1, "Entity creation performance",
+                                            "The throughput and latency of addEntity for each supported entity type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-creation/entity-creation-performance",
+                                            PerformanceProfile.ENTITY_CREATION),
+    ENTITY_UPDATE_PERFORMANCE              (2, "Entity update performance",
+                                            "The throughput and latency of updateEntityProperties for each supported entity type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-update/entity-update-performance",
+                                            PerformanceProfile.ENTITY_UPDATE),
+    ENTITY_RETRIEVAL_PERFORMANCE           (3, "Entity retrieval performance",
+                                            "The throughput and latency of getEntityDetail for each supported entity type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-retrieval/entity-retrieval-performance",
+                                            PerformanceProfile.ENTITY_RETRIEVAL),
+    ENTITY_PROPERTY_SEARCH_PERFORMANCE     (4, "Entity property search performance",
+                                            "The throughput and latency of findEntitiesByProperty with an exact match on a string property for each supported entity type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-property-search/entity-property-search-performance",
+                                            PerformanceProfile.ENTITY_PROPERTY_SEARCH),
+    ENTITY_CLASSIFICATION_PERFORMANCE      (5, "Entity classification performance",
+                                            "The throughput and latency of classifyEntity for each supported entity type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-classification-search/entity-classification-performance",
+                                            PerformanceProfile.ENTITY_CLASSIFICATION_SEARCH),
+    CLASSIFICATION_SEARCH_PERFORMANCE      (6, "Entity classification search performance",
+                                            "The throughput and latency of findEntitiesByClassification for each supported entity type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/entity-classification-search/entity-classification-search-performance",
+                                            PerformanceProfile.ENTITY_CLASSIFICATION_SEARCH),
+    RELATIONSHIP_CREATION_PERFORMANCE      (7, "Relationship creation performance",
+                                            "The throughput and latency of addRelationship for each supported relationship type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/graph-queries/relationship-creation-performance",
+                                            PerformanceProfile.GRAPH_QUERIES),
+    ENTITY_NEIGHBORHOOD_PERFORMANCE        (8, "Entity neighborhood performance",
+                                            "The throughput and latency of getEntityNeighborhood for the entities linked by each supported relationship type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/graph-queries/entity-neighborhood-performance",
+                                            PerformanceProfile.GRAPH_QUERIES),
+    REFERENCE_COPY_PERFORMANCE             (9, "Reference copy performance",
+                                            "The throughput and latency of saveEntityReferenceCopy for each supported entity type.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/reference-copies/reference-copy-performance",
+                                            PerformanceProfile.REFERENCE_COPIES),
+    REFERENCE_COPY_BATCH_PERFORMANCE       (10, "Reference copy batch performance",
+                                            "The throughput of back-to-back calls to saveEntityReferenceCopy when all of the reference copies for an entity type arrive together.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/reference-copies/reference-copy-batch-performance",
+                                            PerformanceProfile.REFERENCE_COPIES),
+    INSTANCE_REMOVAL_PERFORMANCE           (11, "Instance removal performance",
+                                            "The throughput and latency of deleting and purging the instances created by the workbench.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/instance-removal/instance-removal-performance",
+                                            PerformanceProfile.INSTANCE_REMOVAL),
+    OVERALL_PERFORMANCE                    (12, "Overall performance",
+                                            "The throughput and latency of each operation across all of the types measured by the workbench.",
+                                            "https://egeria.odpi.org/open-metadata-conformance-suite/docs/performance-workbench/profiles/environment/overall-performance",
+                                            PerformanceProfile.ENVIRONMENT);
+
+
+    private static final long serialVersionUID = 1L;
+
+    private int                          ordinal;
+    private String                       name;
+    private String                       description;
+    private String                       documentationURL;
+    private PerformanceProfile           profile;
+
+
+
+    /**
+     * Default constructor sets up the values for this enum instance.
+     *
+     * @param ordinal int identifier for the enum, used for indexing arrays etc with the enum.
+     * @param name String name for the enum, used for message content.
+     * @param description String default description for the enum, used when there is not natural
+     *                             language resource bundle available.
+     * @param documentationURL link to more information
+     * @param profile parent profile
+     */
+    PerformanceProfileRequirement(int                 ordinal,
+                                  String              name,
+                                  String              description,
+                                  String              documentationURL,
+                                  PerformanceProfile  profile)
+    {
+        this.ordinal = ordinal;
+        this.name = name;
+        this.description = description;
+        this.documentationURL = documentationURL;
+        this.profile = profile;
+    }
+
+
+    /**
+     * Return the identifier for the enum, used for indexing arrays etc with the enum.
+     *
+     * @return int identifier
+     */
+    public int getOrdinal()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * Return the name for the enum, used for message content.
+     *
+     * @return String name
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+
+    /**
+     * Return the default description for the enum, used when there is not natural
+     * language resource bundle available.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return description;
+    }
+
+
+    /**
+     * Return the URL to link to more documentation about this profile.
+     *
+     * @return url
+     */
+    public String getDocumentationURL()
+    {
+        return documentationURL;
+    }
+
+
+    /**
+     * Return the profile that this requirement belongs to.
+     *
+     * @return priority enum
+     */
+    public PerformanceProfile getProfile()
+    {
+        return profile;
+    }
+
+
+    /**
+     * Return the profile identifier that this requirement belongs to.
+     *
+     * @return profile id
+     */
+    public Integer getProfileId()
+    {
+        return profile.getProfileId();
+    }
+
+
+    /**
+     * Return the requirement identifier as an Integer.
+     *
+     * @return requirement id
+     */
+    public Integer getRequirementId()
+    {
+        return ordinal;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "PerformanceProfileRequirement{" +
+                "ordinal=" + ordinal +
+                ", name='" + name + '\'' +
+                ", description='" + description + '\'' +
+                ", documentationURL='" + documentationURL + '\'' +
+                ", profile=" + profile +
+                ", profileId=" + getProfileId() +
+                ", requirementId=" + getRequirementId() +
+                '}';
+    }
+}
@@ -0,0 +1,333 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceWorkbenchConfig;
+import org.odpi.openmetadata.conformance.beans.*;
+import org.odpi.openmetadata.conformance.workbenches.repository.RepositoryConformanceWorkPad;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+
+/**
+ * PerformanceWorkPad provides the thread safe place to assemble results from the performance workbench.
+ * It extends the repository work pad so that the performance workbench can receive the connector to the
+ * repository under test from the same connector consumer and topic listener as the repository workbench.
+ * It also holds the instances that the performance test cases create so that later test cases can measure
+ * operations against them and the last test case can remove them.
+ */
+public class PerformanceWorkPad extends RepositoryConformanceWorkPad
+{
+    private static final String workbenchId            = "performance-workbench";
+    private static final String workbenchName          = "Open Metadata Repository Performance Workbench";
+    private static final String workbenchVersionNumber = "V1.0 SNAPSHOT";
+    private static final String workbenchDocURL        = "https://egeria.odpi.org/open-metadata-conformance-suite/docs/" + workbenchId;
+
+    private int                                instancesPerType      = 50;
+    private int                                callerThreads         = 1;
+
+    private Map<String, List<EntityDetail>>    createdEntities       = new TreeMap<>();
+    private List<Relationship>                 createdRelationships  = new ArrayList<>();
+    private Map<String, List<Long>>            operationLatencies    = new TreeMap<>();
+    private Map<String, Long>                  operationElapsedTimes = new TreeMap<>();
+
+
+    /**
+     * Constructor receives key information from the configuration services.
+     *
+     * @param localServerUserId userId that this server should use on requests
+     * @param localServerPassword password that this server should use on requests
+     * @param maxPageSize maximum number of elements that can be returned on a single call
+     * @param auditLog audit log for administrator messages
+     * @param configuration configuration for this work pad/workbench
+     */
+    public PerformanceWorkPad(String                                localServerUserId,
+                              String                                localServerPassword,
+                              int                                   maxPageSize,
+                              OMRSAuditLog                          auditLog,
+                              RepositoryPerformanceWorkbenchConfig  configuration)
+    {
+        super(workbenchId,
+              workbenchName,
+              workbenchVersionNumber,
+              workbenchDocURL,
+              localServerUserId,
+              localServerPassword,
+              maxPageSize,
+              auditLog,
+              configuration == null ? null : configuration.getTutRepositoryServerName(),
+              configuration == null ? 10 : configuration.getMaxSearchResults());
+
+        if (configuration != null)
+        {
+            this.instancesPerType = configuration.getInstancesPerType();
+            this.callerThreads = Math.max(configuration.getCallerThreads(), 1);
+        }
+    }
+
+
+    /**
+     * Return the number of instances of each type that the test cases create in the repository under test.
+     *
+     * @return instance count
+     */
+    public int getInstancesPerType()
+    {
+        return instancesPerType;
+    }
+
+
+    /**
+     * Return the number of threads that call the repository under test at the same time during each timed operation.
+     *
+     * @return thread count
+     */
+    public int getCallerThreads()
+    {
+        return callerThreads;
+    }
+
+
+    /**
+     * Record the entities of a type that are currently stored in the repository under test.
+     *
+     * @param entityTypeName name of the entity type
+     * @param entities entities of that type
+     */
+    public synchronized void setCreatedEntities(String              entityTypeName,
+                                                List<EntityDetail>  entities)
+    {
+        createdEntities.put(entityTypeName, entities);
+    }
+
+
+    /**
+     * Return the entities of a type that are currently stored in the repository under test.
+     *
+     * @param entityTypeName name of the entity type
+     * @return list of entities or null if none were created
+     */
+    public synchronized List<EntityDetail> getCreatedEntities(String   entityTypeName)
+    {
+        return createdEntities.get(entityTypeName);
+    }
+
+
+    /**
+     * Return the names of the entity types that have entities stored in the repository under test.
+     *
+     * @return list of type names
+     */
+    public synchronized List<String> getCreatedEntityTypeNames()
+    {
+        return new ArrayList<>(createdEntities.keySet());
+    }
+
+
+    /**
+     * Remove the record of the entities of a type once they have been removed from the repository under test.
+     *
+     * @param entityTypeName name of the entity type
+     */
+    public synchronized void removeCreatedEntities(String   entityTypeName)
+    {
+        createdEntities.remove(entityTypeName);
+    }
+
+
+    /**
+     * Record the relationships that are currently stored in the repository under test.
+     *
+     * @param relationships new relationships
+     */
+    public synchronized void addCreatedRelationships(List<Relationship>  relationships)
+    {
+        createdRelationships.addAll(relationships);
+    }
+
+
+    /**
+     * Return the relationships that are currently stored in the repository under test and forget them.
+     *
+     * @return list of relationships
+     */
+    public synchronized List<Relationship> removeCreatedRelationships()
+    {
+        List<Relationship> relationships = createdRelationships;
+
+        createdRelationships = new ArrayList<>();
+
+        return relationships;
+    }
+
+
+    /**
+     * Add the latencies measured by a test case for an operation so they can be summarized across all types.
+     *
+     * @param operationName name of the repository operation
+     * @param latencies elapsed time of each call in nanoseconds
+     * @param elapsedTime time taken for all of the calls by all of the caller threads in nanoseconds
+     */
+    public synchronized void addOperationLatencies(String      operationName,
+                                                   List<Long>  latencies,
+                                                   long        elapsedTime)
+    {
+        List<Long> operationList = operationLatencies.computeIfAbsent(operationName, name -> new ArrayList<>());
+
+        operationList.addAll(latencies);
+        operationElapsedTimes.merge(operationName, elapsedTime, Long::sum);
+    }
+
+
+    /**
+     * Return the latencies measured for each operation across all of the test cases.
+     *
+     * @return map of operation name to elapsed time of each call in nanoseconds
+     */
+    public synchronized Map<String, List<Long>> getOperationLatencies()
+    {
+        Map<String, List<Long>> latencies = new TreeMap<>();
+
+        for (Map.Entry<String, List<Long>> entry : operationLatencies.entrySet())
+        {
+            latencies.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+
+        return latencies;
+    }
+
+
+    /**
+     * Return the time taken for the calls to each operation across all of the test cases.
+     *
+     * @return map of operation name to elapsed time in nanoseconds
+     */
+    public synchronized Map<String, Long> getOperationElapsedTimes()
+    {
+        return new TreeMap<>(operationElapsedTimes);
+    }
+
+
+    /**
+     * Accumulate the evidences for each profile
+     *
+     * @return the test evidence organized by profile and requirement withing profile
+     */
+    @Override
+    public synchronized List<OpenMetadataConformanceProfileResults> getProfileResults()
+    {
+        List<OpenMetadataConformanceProfileResults>  resultsList = new ArrayList<>();
+
+        PerformanceProfile[]                      profiles     = PerformanceProfile.values();
+        PerformanceProfileRequirement[]           requirements = PerformanceProfileRequirement.values();
+
+        for (PerformanceProfile profile : profiles)
+        {
+            OpenMetadataConformanceProfileResults  profileResults = new OpenMetadataConformanceProfileResults();
+
+            profileResults.setId(profile.getProfileId());
+            profileResults.setName(profile.getProfileName());
+            profileResults.setDocumentationURL(profile.getProfileDocumentationURL());
+            profileResults.setDescription(profile.getProfileDescription());
+            profileResults.setProfilePriority(profile.getProfilePriority());
+
+            List<OpenMetadataConformanceTestEvidence> profileTestEvidence = new ArrayList<>();
+
+            if (testEvidenceList != null)
+            {
+                for (OpenMetadataConformanceTestEvidence testEvidenceItem : testEvidenceList)
+                {
+                    if ((testEvidenceItem != null) && (testEvidenceItem.getProfileId().intValue() == profileResults.getId().intValue()))
+                    {
+                        profileTestEvidence.add(testEvidenceItem);
+                    }
+                }
+            }
+
+            if (profileTestEvidence.isEmpty())
+            {
+                profileResults.setConformanceStatus(OpenMetadataConformanceStatus.UNKNOWN_STATUS);
+            }
+            else
+            {
+                List<OpenMetadataConformanceTestEvidence>       positiveTestEvidence = new ArrayList<>();
+                List<OpenMetadataConformanceTestEvidence>       negativeTestEvidence = new ArrayList<>();
+
+                profileResults.setConformanceStatus(super.processEvidence(profileTestEvidence,
+                                                                          positiveTestEvidence,
+                                                                          negativeTestEvidence));
+
+                List<OpenMetadataConformanceRequirementResults> requirementResultsList = new ArrayList<>();
+                OpenMetadataConformanceRequirementResults       requirementResults;
+
+                for (PerformanceProfileRequirement requirement : requirements)
+                {
+                    /*
+                     * If (and only if) this requirement is relevant to the current profile, process it...
+                     */
+                    if (requirement.getProfileId().equals(profile.getProfileId()))
+                    {
+                        requirementResults = new OpenMetadataConformanceRequirementResults();
+
+                        requirementResults.setId(requirement.getRequirementId());
+                        requirementResults.setName(requirement.getName());
+                        requirementResults.setDescription(requirement.getDescription());
+                        requirementResults.setDocumentationURL(requirement.getDocumentationURL());
+
+                        List<OpenMetadataConformanceTestEvidence> requirementTestEvidence = new ArrayList<>();
+
+                        for (OpenMetadataConformanceTestEvidence testEvidenceItem : profileTestEvidence)
+                        {
+                            if (testEvidenceItem != null)
+                            {
+                                if (testEvidenceItem.getRequirementId().intValue() == requirementResults.getId().intValue())
+                                {
+                                    requirementTestEvidence.add(testEvidenceItem);
+                                }
+                            }
+                        }
+
+                        positiveTestEvidence = new ArrayList<>();
+                        negativeTestEvidence = new ArrayList<>();
+
+                        requirementResults.setConformanceStatus(super.processEvidence(requirementTestEvidence,
+                                                                                      positiveTestEvidence,
+                                                                                      negativeTestEvidence));
+
+                        if (!positiveTestEvidence.isEmpty())
+                        {
+                            requirementResults.setPositiveTestEvidence(positiveTestEvidence);
+                        }
+
+                        if (!negativeTestEvidence.isEmpty())
+                        {
+                            requirementResults.setNegativeTestEvidence(negativeTestEvidence);
+                        }
+
+                        requirementResultsList.add(requirementResults);
+                    }
+                }
+
+                profileResults.setRequirementResults(requirementResultsList);
+            }
+
+            resultsList.add(profileResults);
+        }
+
+
+        if (resultsList.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return resultsList;
+        }
+    }
+}
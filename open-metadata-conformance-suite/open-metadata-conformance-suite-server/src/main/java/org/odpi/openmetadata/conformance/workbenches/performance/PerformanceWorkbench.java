@@ -0,0 +1,210 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.conformance.workbenches.performance;
+
+import org.odpi.openmetadata.conformance.auditlog.ConformanceSuiteAuditCode;
+import org.odpi.openmetadata.conformance.tests.performance.*;
+import org.odpi.openmetadata.conformance.workbenches.OpenMetadataConformanceWorkbench;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PerformanceWorkbench provides the thread that drives the performance workbench from the Open Metadata
+ * Conformance Suite.  The properties used to initialise the workbench are passed on the constructor.
+ * The run() method contains the workbench logic.  It creates a configurable number of instances of each
+ * type supported by the repository under test, measures the time taken by the repository services calls
+ * that work with them and then removes them again.
+ */
+public class PerformanceWorkbench extends OpenMetadataConformanceWorkbench
+{
+    private static final Logger     log         = LoggerFactory.getLogger(PerformanceWorkbench.class);
+
+    private PerformanceWorkPad   workPad;
+
+
+    /**
+     * Constructor receives the work pad with the configuration that provides the location to record the results.
+     *
+     * @param workPad performance workbench's work pad
+     */
+    public PerformanceWorkbench(PerformanceWorkPad workPad)
+    {
+        super(workPad.getWorkbenchId(),
+              workPad.getWorkbenchName(),
+              workPad.getWorkbenchVersionNumber(),
+              workPad.getWorkbenchDocURL());
+
+        final String              methodName = "performanceWorkbenchThread.constructor";
+
+        this.workPad = workPad;
+
+        OMRSAuditLog              auditLog   = workPad.getAuditLog();
+
+        ConformanceSuiteAuditCode auditCode = ConformanceSuiteAuditCode.WORKBENCH_INITIALIZING;
+        auditLog.logRecord(methodName,
+                           auditCode.getLogMessageId(),
+                           auditCode.getSeverity(),
+                           auditCode.getFormattedLogMessage(workbenchId, workbenchDocumentationURL),
+                           null,
+                           auditCode.getSystemAction(),
+                           auditCode.getUserAction());
+    }
+
+
+    /**
+     * Run the test cases.  Each phase works on the instances created by the earlier phases so all of the types
+     * are taken through one operation before the next operation is measured.  The removal phase runs even if
+     * earlier test cases fail so that the repository under test is left as it was found.
+     */
+    private void runTests()
+    {
+        TestPerformanceEnvironment testPerformanceEnvironment = new TestPerformanceEnvironment(workPad);
+
+        testPerformanceEnvironment.executeTest();
+
+        List<EntityDef>         entityDefs         = new ArrayList<>(testPerformanceEnvironment.getEntityDefs().values());
+        List<RelationshipDef>   relationshipDefs   = testPerformanceEnvironment.getRelationshipDefs();
+        List<ClassificationDef> classificationDefs = testPerformanceEnvironment.getClassificationDefs();
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            new TestEntityCreationPerformance(workPad, entityDef).executeTest();
+        }
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            new TestEntityUpdatePerformance(workPad, entityDef).executeTest();
+        }
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            new TestEntityRetrievalPerformance(workPad, entityDef).executeTest();
+        }
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            new TestEntityPropertySearchPerformance(workPad, entityDef).executeTest();
+        }
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            new TestEntityClassificationSearchPerformance(workPad, entityDef, classificationDefs).executeTest();
+        }
+
+        for (RelationshipDef relationshipDef : relationshipDefs)
+        {
+            new TestGraphQueryPerformance(workPad, relationshipDef).executeTest();
+        }
+
+        for (EntityDef entityDef : entityDefs)
+        {
+            new TestReferenceCopyPerformance(workPad, entityDef).executeTest();
+        }
+
+        new TestInstanceRemovalPerformance(workPad).executeTest();
+
+        new TestOverallPerformance(workPad).executeTest();
+    }
+
+
+    /**
+     * This is the method that provides the behaviour of the thread.
+     */
+    @Override
+    public void run()
+    {
+        final String              methodName = "performanceWorkbenchThread.run";
+
+        if (workPad !=  null)
+        {
+            long                      retryCount = 0;
+            OMRSAuditLog              auditLog   = workPad.getAuditLog();
+            ConformanceSuiteAuditCode auditCode;
+
+            auditCode = ConformanceSuiteAuditCode.WORKBENCH_INITIALIZED;
+            auditLog.logRecord(methodName,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId()),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+
+            while (super.isRunning() && (workPad.getTutRepositoryConnector() == null))
+            {
+                try
+                {
+                    /*
+                     * Wait for server to connect to the cohort
+                     */
+                    if (retryCount == 100)
+                    {
+                        retryCount = 0;
+                    }
+                    else
+                    {
+                        if (retryCount == 0)
+                        {
+                            auditCode = ConformanceSuiteAuditCode.WORKBENCH_WAITING_TO_START;
+                            auditLog.logRecord(methodName,
+                                               auditCode.getLogMessageId(),
+                                               auditCode.getSeverity(),
+                                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId(),
+                                                                                workPad.getTutServerName()),
+                                               null,
+                                               auditCode.getSystemAction(),
+                                               auditCode.getUserAction());
+                        }
+
+                        retryCount++;
+                    }
+                    Thread.sleep(1000);
+                }
+                catch (InterruptedException  wakeUp)
+                {
+                    /*
+                     * Test again.
+                     */
+                }
+                catch (Throwable error)
+                {
+                    stopRunning();
+                    log.error(String.format("Unexpected error: %s", error.getMessage()), error);
+
+                    auditCode = ConformanceSuiteAuditCode.WORKBENCH_FAILURE;
+                    auditLog.logRecord(methodName,
+                                       auditCode.getLogMessageId(),
+                                       auditCode.getSeverity(),
+                                       auditCode.getFormattedLogMessage(workPad.getWorkbenchId(),
+                                                                        error.getMessage()),
+                                       error.toString(),
+                                       auditCode.getSystemAction(),
+                                       auditCode.getUserAction());
+                }
+            }
+
+            if (workPad.getTutRepositoryConnector() != null)
+            {
+                runTests();
+            }
+
+            workPad.setWorkbenchComplete();
+
+            auditCode = ConformanceSuiteAuditCode.WORKBENCH_SYNC_COMPLETED;
+            auditLog.logRecord(methodName,
+                               auditCode.getLogMessageId(),
+                               auditCode.getSeverity(),
+                               auditCode.getFormattedLogMessage(workPad.getWorkbenchId()),
+                               null,
+                               auditCode.getSystemAction(),
+                               auditCode.getUserAction());
+        }
+    }
+}
@@ -94,6 +94,48 @@ public class RepositoryConformanceWorkPad extends OpenMetadataConformanceWorkben
         }
     }
 
+
+    /**
+     * Constructor used by the work pads of other workbenches that drive the repository under test through the
+     * same cohort connector and events as the repository workbench.
+     *
+     * @param workbenchId unique identifier of the workbench.
+     * @param workbenchName display name for the workbench.
+     * @param workbenchVersionNumber version number of the workbench.
+     * @param workbenchDocURL link to documentation for the workbench.
+     * @param localServerUserId userId that this server should use on requests
+     * @param localServerPassword password that this server should use on requests
+     * @param maxPageSize maximum number of elements that can be returned on a single call
+     * @param auditLog audit log for administrator messages
+     * @param tutServerName name of the server to test
+     * @param maxSearchResults maximum number of search results to process
+     */
+    protected RepositoryConformanceWorkPad(String                                workbenchId,
+                                           String                                workbenchName,
+                                           String                                workbenchVersionNumber,
+                                           String                                workbenchDocURL,
+                                           String                                localServerUserId,
+                                           String                                localServerPassword,
+                                           int                                   maxPageSize,
+                                           OMRSAuditLog                          auditLog,
+                                           String                                tutServerName,
+                                           int                                   maxSearchResults)
+    {
+        super(workbenchId,
+              workbenchName,
+              workbenchVersionNumber,
+              workbenchDocURL,
+              localServerUserId,
+              localServerPassword,
+              tutType,
+              maxPageSize);
+
+        this.auditLog = auditLog;
+        this.tutServerName = tutServerName;
+        this.maxSearchResults = maxSearchResults;
+        super.tutName = this.tutServerName;
+    }
+
     /**
      * Return the audit log for this server.
      *
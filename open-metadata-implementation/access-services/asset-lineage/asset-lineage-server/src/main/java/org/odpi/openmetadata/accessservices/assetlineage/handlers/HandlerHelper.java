@@ -16,6 +16,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
@@ -143,17 +144,26 @@ public class HandlerHelper {
 
         String methodName = "getEntityAtTheEnd";
 
+        EntityProxy endProxy = getProxyAtTheEnd(entityDetailGUID, relationship);
+
+        return repositoryHandler.getEntityByGUID(userId,
+                endProxy.getGUID(),
+                GUID_PARAMETER,
+                endProxy.getType().getTypeDefName(), methodName);
+    }
+
+    /**
+     * Gets the proxy of the entity at the end of a relationship, without retrieving the entity.
+     *
+     * @param entityDetailGUID the guid of the entity at the start
+     * @param relationship     the relationship
+     * @return the proxy of the entity at the other end
+     */
+    EntityProxy getProxyAtTheEnd(String entityDetailGUID, Relationship relationship) {
         if (relationship.getEntityOneProxy().getGUID().equals(entityDetailGUID)) {
-            return repositoryHandler.getEntityByGUID(userId,
-                    relationship.getEntityTwoProxy().getGUID(),
-                    GUID_PARAMETER,
-                    relationship.getEntityTwoProxy().getType().getTypeDefName(), methodName);
-        } else {
-            return repositoryHandler.getEntityByGUID(userId,
-                    relationship.getEntityOneProxy().getGUID(),
-                    GUID_PARAMETER,
-                    relationship.getEntityOneProxy().getType().getTypeDefName(), methodName);
+            return relationship.getEntityTwoProxy();
         }
+        return relationship.getEntityOneProxy();
     }
 
     /**
@@ -171,11 +181,31 @@ public class HandlerHelper {
     EntityDetail buildGraphEdgeByRelationship(String userId, EntityDetail startEntity,
                                               Relationship relationship, AssetContext graph, boolean changeDirection) throws OCFCheckedExceptionBase {
 
-        Converter converter = new Converter();
         EntityDetail endEntity = getEntityAtTheEnd(userId, startEntity.getGUID(), relationship);
 
         if (endEntity == null) return null;
 
+        if (graph.getGraphContexts().stream().noneMatch(e -> e.getRelationshipGuid().equals(relationship.getGUID()))) {
+            addGraphEdge(startEntity, endEntity, relationship, graph, changeDirection);
+        }
+
+        return endEntity;
+    }
+
+    /**
+     * Adds the vertices and the edge of a relationship whose end entity has already been retrieved. The caller is responsible for
+     * adding each relationship only once.
+     *
+     * @param startEntity     parent entity of the relationship
+     * @param endEntity       entity at the other end of the relationship
+     * @param relationship    the relationship of the parent node
+     * @param graph           the graph
+     * @param changeDirection true if the edge goes from the end entity to the start entity
+     */
+    void addGraphEdge(EntityDetail startEntity, EntityDetail endEntity, Relationship relationship, AssetContext graph,
+                      boolean changeDirection) {
+        Converter converter = new Converter();
+
         LineageEntity startVertex;
         LineageEntity endVertex;
         if (changeDirection) {
@@ -189,13 +219,9 @@ public class HandlerHelper {
 
         GraphContext graphContext = new GraphContext(relationship.getType().getTypeDefName(), relationship.getGUID(), startVertex, endVertex);
 
-        if (graph.getGraphContexts().stream().noneMatch(e -> e.getRelationshipGuid().equals(graphContext.getRelationshipGuid()))) {
-            graph.addVertex(startVertex);
-            graph.addVertex(endVertex);
-            graph.addGraphContext(graphContext);
-        }
-
-        return endEntity;
+        graph.addVertex(startVertex);
+        graph.addVertex(endVertex);
+        graph.addGraphContext(graphContext);
     }
 
     /**
@@ -9,30 +9,42 @@ import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.odpi.openmetadata.accessservices.assetlineage.ffdc.AssetLineageErrorCode.ENTITY_NOT_FOUND;
+import static org.odpi.openmetadata.accessservices.assetlineage.ffdc.AssetLineageErrorCode.OMRS_NOT_AVAILABLE;
 import static org.odpi.openmetadata.accessservices.assetlineage.ffdc.AssetLineageErrorCode.RELATIONSHIP_NOT_FOUND;
 import static org.odpi.openmetadata.accessservices.assetlineage.util.AssetLineageConstants.*;
 
 /**
  * The process context handler provides methods to build lineage context from processes.
+ * The context is built level by level: the relationships of all of the entities of a level are retrieved concurrently,
+ * then the entities at their other ends, and each entity is retrieved only once per request.
  */
 public class ProcessContextHandler {
 
     private static final Logger log = LoggerFactory.getLogger(ProcessContextHandler.class);
+    private static final int CONTEXT_THREAD_COUNT = Math.min(8, Runtime.getRuntime().availableProcessors());
 
     private final RepositoryHandler repositoryHandler;
     private final InvalidParameterHandler invalidParameterHandler;
     private final List<String> supportedZones;
     private final HandlerHelper handlerHelper;
-
-    private AssetContext graph;
+    private final ExecutorService executorService;
 
     /**
      * Construct the discovery engine configuration handler caching the objects
@@ -51,6 +63,20 @@ public class ProcessContextHandler {
         this.repositoryHandler = repositoryHandler;
         this.handlerHelper = new HandlerHelper(invalidParameterHandler, repositoryHelper, repositoryHandler);
         this.supportedZones = supportedZones;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(CONTEXT_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "AssetLineage-process-context-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Stops the threads that retrieve the process contexts.
+     */
+    public void shutdown() {
+        executorService.shutdown();
     }
 
     /**
@@ -64,8 +90,6 @@ public class ProcessContextHandler {
 
         final String methodName = "getProcessContext";
 
-        graph = new AssetContext();
-
         Optional<EntityDetail> entityDetail = handlerHelper.getEntityDetails(userId, processGuid, PROCESS);
         if (!entityDetail.isPresent()) {
             log.error("Entity with guid {} was not found in any metadata repository", processGuid);
@@ -85,14 +109,14 @@ public class ProcessContextHandler {
                 ASSET_LINEAGE_OMAS,
                 methodName);
 
-        return checkIfAllRelationshipsExist(userId, entityDetail.get());
+        return checkIfAllRelationshipsExist(new ProcessContext(userId), entityDetail.get());
     }
 
-    private Map<String, Set<GraphContext>> checkIfAllRelationshipsExist(String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+    private Map<String, Set<GraphContext>> checkIfAllRelationshipsExist(ProcessContext processContext, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
 
-        boolean entitiesTillLastRelationshipExist = hasEntitiesLinkedWithProcessPort(userId, entityDetail);
+        boolean entitiesTillLastRelationshipExist = hasEntitiesLinkedWithProcessPort(processContext, entityDetail);
         if (entitiesTillLastRelationshipExist) {
-            return graph.getNeighbors();
+            return processContext.graph.getNeighbors();
         }
 
         log.error("Some relationships are missing for the entity with guid {}", entityDetail.getGUID());
@@ -105,10 +129,10 @@ public class ProcessContextHandler {
                 RELATIONSHIP_NOT_FOUND.getUserAction());
     }
 
-    private boolean hasEntitiesLinkedWithProcessPort(String userId, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
+    private boolean hasEntitiesLinkedWithProcessPort(ProcessContext processContext, EntityDetail entityDetail) throws OCFCheckedExceptionBase {
 
-        final String typeDefName = entityDetail.getType().getTypeDefName();
-        List<EntityDetail> entityDetails = getRelationshipsBetweenEntities(userId, entityDetail.getGUID(), PROCESS_PORT, typeDefName);
+        List<EntityDetail> entityDetails = getRelationshipsBetweenEntities(processContext, Collections.singletonList(entityDetail),
+                process -> PROCESS_PORT).get(0);
 
         if (entityDetails.isEmpty()) {
             log.error("No relationships Process Port has been found for the entity with guid {}", entityDetail.getGUID());
@@ -121,42 +145,96 @@ public class ProcessContextHandler {
                     RELATIONSHIP_NOT_FOUND.getUserAction());
         }
 
-        return hasRelationshipBasedOnType(entityDetails, userId);
+        return hasRelationshipBasedOnType(entityDetails, processContext);
 
     }
 
 
     /**
-     * Retrieves the relationships of an Entity
+     * Retrieves the relationships of a level of entities. The relationships of all of the entities are retrieved concurrently,
+     * followed by the entities at the other ends that have not been retrieved yet during this request. An entity whose relationships
+     * of a type have already been followed during this request is not followed again, so each relationship is added to the graph once.
      *
-     * @param userId           String - userId of user making request.
-     * @param guid             guid of parent entity
-     * @param relationshipType type of the relationship
-     * @param typeDefName      type of the entity that has the Relationship
-     * @return List of entities that are on the other end of the relationship, empty list if none
+     * @param processContext     the context of the request
+     * @param entityDetails      the entities of the level
+     * @param relationshipTypeOf returns the type of the relationships to follow from an entity
+     * @return for each entity, the list of entities that are on the other end of the relationships, empty list if none
      */
-    private List<EntityDetail> getRelationshipsBetweenEntities(String userId, String guid, String relationshipType, String typeDefName) throws OCFCheckedExceptionBase {
-        List<Relationship> relationships = handlerHelper.getRelationshipsByType(userId, guid, relationshipType, typeDefName);
-        EntityDetail startEntity = repositoryHandler.getEntityByGUID(userId, guid, "guid", typeDefName, "getRelationships");
+    private List<List<EntityDetail>> getRelationshipsBetweenEntities(ProcessContext processContext, List<EntityDetail> entityDetails,
+                                                                     Function<EntityDetail, String> relationshipTypeOf) throws OCFCheckedExceptionBase {
+        final String methodName = "getRelationships";
+        String userId = processContext.userId;
 
-        if (startEntity == null) return Collections.emptyList();
-        String startEntityType = startEntity.getType().getTypeDefName();
+        Map<String, EntityDetail> newEntities = new LinkedHashMap<>();
+        for (EntityDetail entityDetail : entityDetails) {
+            if (entityDetail != null && !processContext.followedRelationships.containsKey(getFollowKey(entityDetail, relationshipTypeOf))) {
+                newEntities.putIfAbsent(getFollowKey(entityDetail, relationshipTypeOf), entityDetail);
+            }
+        }
+        List<EntityDetail> startEntities = new ArrayList<>(newEntities.values());
+
+        List<List<Relationship>> relationshipsOfEntities = invokeConcurrently(startEntities, startEntity ->
+                handlerHelper.getRelationshipsByType(userId, startEntity.getGUID(), relationshipTypeOf.apply(startEntity),
+                        startEntity.getType().getTypeDefName()));
+
+        Map<String, EntityProxy> missingEntities = new LinkedHashMap<>();
+        for (int i = 0; i < startEntities.size(); i++) {
+            for (Relationship relationship : relationshipsOfEntities.get(i)) {
+                if (!isFollowed(startEntities.get(i), relationship)) {
+                    continue;
+                }
+                EntityProxy endProxy = handlerHelper.getProxyAtTheEnd(startEntities.get(i).getGUID(), relationship);
+                if (!processContext.entities.containsKey(endProxy.getGUID())) {
+                    missingEntities.putIfAbsent(endProxy.getGUID(), endProxy);
+                }
+            }
+        }
 
-        List<EntityDetail> entityDetails = new ArrayList<>();
-        for (Relationship relationship : relationships) {
+        List<EntityProxy> missingProxies = new ArrayList<>(missingEntities.values());
+        List<EntityDetail> retrievedEntities = invokeConcurrently(missingProxies, endProxy -> repositoryHandler.getEntityByGUID(userId,
+                endProxy.getGUID(), GUID_PARAMETER, endProxy.getType().getTypeDefName(), methodName));
+        for (int i = 0; i < missingProxies.size(); i++) {
+            processContext.entities.put(missingProxies.get(i).getGUID(), retrievedEntities.get(i));
+        }
 
-            if (relationship.getType().getTypeDefName().equals(ATTRIBUTE_FOR_SCHEMA) &&
-                    startEntityType.equals(TABULAR_COLUMN)) {
+        for (int i = 0; i < startEntities.size(); i++) {
+            EntityDetail startEntity = startEntities.get(i);
+            processContext.followedRelationships.put(getFollowKey(startEntity, relationshipTypeOf),
+                    addGraphEdges(processContext, startEntity, relationshipsOfEntities.get(i)));
+        }
+
+        return entityDetails.stream().map(entityDetail -> entityDetail == null ? Collections.<EntityDetail>emptyList() :
+                processContext.followedRelationships.get(getFollowKey(entityDetail, relationshipTypeOf))).collect(Collectors.toList());
+    }
+
+    private List<EntityDetail> addGraphEdges(ProcessContext processContext, EntityDetail startEntity, List<Relationship> relationships) {
+        List<EntityDetail> endEntities = new ArrayList<>();
+        for (Relationship relationship : relationships) {
+            if (!isFollowed(startEntity, relationship)) {
                 continue;
             }
-            EntityDetail endEntity = handlerHelper.buildGraphEdgeByRelationship(userId, startEntity, relationship, graph, false);
+            EntityDetail endEntity = processContext.entities.get(handlerHelper.getProxyAtTheEnd(startEntity.getGUID(), relationship).getGUID());
             if (endEntity == null) return Collections.emptyList();
 
-            entityDetails.add(endEntity);
+            if (processContext.relationshipGUIDs.add(relationship.getGUID())) {
+                handlerHelper.addGraphEdge(startEntity, endEntity, relationship, processContext.graph, false);
+            }
+            endEntities.add(endEntity);
         }
+        return endEntities;
+    }
 
-        return entityDetails;
+    private boolean isFollowed(EntityDetail startEntity, Relationship relationship) {
+        return !(relationship.getType().getTypeDefName().equals(ATTRIBUTE_FOR_SCHEMA) &&
+                startEntity.getType().getTypeDefName().equals(TABULAR_COLUMN));
+    }
+
+    private String getFollowKey(EntityDetail entityDetail, Function<EntityDetail, String> relationshipTypeOf) {
+        return entityDetail.getGUID() + "/" + relationshipTypeOf.apply(entityDetail);
+    }
 
+    private String getProcessRelationshipType(EntityDetail entityDetail) {
+        return immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName());
     }
 
     /**
@@ -164,17 +242,17 @@ public class ProcessContextHandler {
      * a Port Alias or to a Port Implementation. In case of Port Alias it should take the context until Port Implementation
      * entities otherwise it should take the context down to TabularColumn entities.
      *
-     * @param entityDetails list of entities
-     * @param userId        String - userId of user making request.
+     * @param entityDetails  list of entities
+     * @param processContext the context of the request
      * @return boolean true if relationships exist otherwise false.
      */
-    private boolean hasRelationshipBasedOnType(List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
+    private boolean hasRelationshipBasedOnType(List<EntityDetail> entityDetails, ProcessContext processContext) throws OCFCheckedExceptionBase {
         boolean relationshipsExist = false;
         if (checkIfEntityExistWithSpecificType(entityDetails, PORT_ALIAS))
-            relationshipsExist = hasEndRelationship(entityDetails, userId);
+            relationshipsExist = hasEndRelationship(entityDetails, processContext);
 
         if (checkIfEntityExistWithSpecificType(entityDetails, PORT_IMPLEMENTATION))
-            relationshipsExist = hasTabularSchemaTypes(entityDetails, userId);
+            relationshipsExist = hasTabularSchemaTypes(entityDetails, processContext);
 
         return relationshipsExist;
     }
@@ -182,60 +260,44 @@ public class ProcessContextHandler {
     /**
      * Returns if the entities that are passed as an argument in the method have any relationships.
      *
-     * @param entityDetails list of entities
-     * @param userId        String - userId of user making request.
+     * @param entityDetails  list of entities
+     * @param processContext the context of the request
      * @return boolean true if relationships exist otherwise false.
      */
-    private boolean hasEndRelationship(List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
-        List<EntityDetail> result = new ArrayList<>();
-        for (EntityDetail entityDetail : entityDetails) {
-            result.addAll(getRelationshipsBetweenEntities(userId,
-                    entityDetail.getGUID(),
-                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()),
-                    entityDetail.getType().getTypeDefName()));
-        }
-        return !result.isEmpty();
+    private boolean hasEndRelationship(List<EntityDetail> entityDetails, ProcessContext processContext) throws OCFCheckedExceptionBase {
+        return getRelationshipsBetweenEntities(processContext, entityDetails, this::getProcessRelationshipType).stream()
+                .anyMatch(endEntities -> !endEntities.isEmpty());
     }
 
     /**
      * Returns if there are any TabularSchemaTypes that are related to a Port Implementation Entity.
      *
-     * @param entityDetails list of entities
-     * @param userId        String - userId of user making request.
+     * @param entityDetails  list of entities
+     * @param processContext the context of the request
      * @return boolean true if relationships exist otherwise false.
      */
-    private boolean hasTabularSchemaTypes(List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
-        List<EntityDetail> result = new ArrayList<>();
-        for (EntityDetail entityDetail : entityDetails) {
+    private boolean hasTabularSchemaTypes(List<EntityDetail> entityDetails, ProcessContext processContext) throws OCFCheckedExceptionBase {
+        List<EntityDetail> result = getRelationshipsBetweenEntities(processContext, entityDetails, this::getProcessRelationshipType).stream()
+                .map(tabularSchemaType -> tabularSchemaType.stream().findFirst().orElse(null))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
 
-            List<EntityDetail> tabularSchemaType = getRelationshipsBetweenEntities(userId,
-                    entityDetail.getGUID(),
-                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()),
-                    entityDetail.getType().getTypeDefName());
-            Optional<EntityDetail> first = tabularSchemaType.stream().findFirst();
-            result.add(first.orElse(null));
-        }
-        return hasSchemaAttributes(result, userId);
+        return hasSchemaAttributes(result, processContext);
     }
 
     /**
      * Returns if the TabularColumns are part of a TabularSchemaType.
      *
-     * @param entityDetails list of entities
-     * @param userId        String - userId of user making request.
+     * @param entityDetails  list of entities
+     * @param processContext the context of the request
      * @return boolean true if relationships exist otherwise false.
      */
-    private boolean hasSchemaAttributes(List<EntityDetail> entityDetails, String userId) throws OCFCheckedExceptionBase {
-        List<EntityDetail> result = new ArrayList<>();
-        for (EntityDetail entityDetail : entityDetails) {
+    private boolean hasSchemaAttributes(List<EntityDetail> entityDetails, ProcessContext processContext) throws OCFCheckedExceptionBase {
+        List<EntityDetail> result = getRelationshipsBetweenEntities(processContext, entityDetails, this::getProcessRelationshipType).stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
 
-            List<EntityDetail> newListOfEntityDetails = getRelationshipsBetweenEntities(userId,
-                    entityDetail.getGUID(),
-                    immutableProcessRelationshipsTypes.get(entityDetail.getType().getTypeDefName()),
-                    entityDetail.getType().getTypeDefName());
-            result.addAll(newListOfEntityDetails);
-        }
-        return hasEndRelationship(result, userId);
+        return hasEndRelationship(result, processContext);
     }
 
     /**
@@ -248,5 +310,68 @@ public class ProcessContextHandler {
     private boolean checkIfEntityExistWithSpecificType(List<EntityDetail> entityDetails, String typeDefName) {
         return entityDetails.stream().anyMatch(entity -> entity.getType().getTypeDefName().equals(typeDefName));
     }
-}
 
+    /**
+     * Runs a repository call for each item on the handler's threads and waits for all of them.
+     *
+     * @param items the items to call the repository for
+     * @param call  the repository call
+     * @return the results of the calls, in the order of the items
+     */
+    private <T, R> List<R> invokeConcurrently(List<T> items, RepositoryCall<T, R> call) throws OCFCheckedExceptionBase {
+        List<R> results = new ArrayList<>(items.size());
+
+        if (items.size() < 2) {
+            for (T item : items) {
+                results.add(call.apply(item));
+            }
+            return results;
+        }
+
+        List<Callable<R>> tasks = items.stream().<Callable<R>>map(item -> () -> call.apply(item)).collect(Collectors.toList());
+        try {
+            for (Future<R> future : executorService.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssetLineageException(OMRS_NOT_AVAILABLE.getHTTPErrorCode(),
+                    this.getClass().getName(),
+                    "Retrieving Relationships",
+                    OMRS_NOT_AVAILABLE.getFormattedErrorMessage("getProcessContext"),
+                    OMRS_NOT_AVAILABLE.getSystemAction(),
+                    OMRS_NOT_AVAILABLE.getUserAction(),
+                    e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof OCFCheckedExceptionBase) {
+                throw (OCFCheckedExceptionBase) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    @FunctionalInterface
+    private interface RepositoryCall<T, R> {
+        R apply(T item) throws OCFCheckedExceptionBase;
+    }
+
+    /**
+     * The state of a single request for the context of a process: the graph being built, the entities retrieved so far and the
+     * relationships that have already been followed. It is only used by the thread that handles the request.
+     */
+    private static class ProcessContext {
+        private final String userId;
+        private final AssetContext graph = new AssetContext();
+        private final Map<String, EntityDetail> entities = new HashMap<>();
+        private final Map<String, List<EntityDetail>> followedRelationships = new HashMap<>();
+        private final Set<String> relationshipGUIDs = new HashSet<>();
+
+        ProcessContext(String userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -124,6 +124,17 @@ public class AssetLineageServicesInstance extends OCFOMASServiceInstance {
         return classificationHandler;
     }
 
+    /**
+     * Stop the threads of the process handler and unregister the instance from the instance map.
+     */
+    @Override
+    public void shutdown() {
+        if (processContextHandler != null) {
+            processContextHandler.shutdown();
+        }
+
+        super.shutdown();
+    }
 }
 
 
@@ -0,0 +1,102 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.accessservices.dataengine.model.LineageMapping;
+import org.odpi.openmetadata.accessservices.dataengine.model.PortAlias;
+import org.odpi.openmetadata.accessservices.dataengine.model.PortImplementation;
+import org.odpi.openmetadata.accessservices.dataengine.model.Process;
+import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * BulkRequestBody carries all of the elements that an external data engine publishes for a job, so that they can be
+ * created or updated in a single call. The elements are processed in the order schema types, port implementations,
+ * port aliases, processes and lineage mappings, so that each element can refer to the elements before it.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BulkRequestBody extends DataEngineOMASAPIRequestBody {
+    private List<SchemaType> schemaTypes;
+    private List<PortImplementation> portImplementations;
+    private List<PortAlias> portAliases;
+    private List<Process> processes;
+    private List<LineageMapping> lineageMappings;
+
+    public List<SchemaType> getSchemaTypes() {
+        return schemaTypes;
+    }
+
+    public void setSchemaTypes(List<SchemaType> schemaTypes) {
+        this.schemaTypes = schemaTypes;
+    }
+
+    public List<PortImplementation> getPortImplementations() {
+        return portImplementations;
+    }
+
+    public void setPortImplementations(List<PortImplementation> portImplementations) {
+        this.portImplementations = portImplementations;
+    }
+
+    public List<PortAlias> getPortAliases() {
+        return portAliases;
+    }
+
+    public void setPortAliases(List<PortAlias> portAliases) {
+        this.portAliases = portAliases;
+    }
+
+    public List<Process> getProcesses() {
+        return processes;
+    }
+
+    public void setProcesses(List<Process> processes) {
+        this.processes = processes;
+    }
+
+    public List<LineageMapping> getLineageMappings() {
+        return lineageMappings;
+    }
+
+    public void setLineageMappings(List<LineageMapping> lineageMappings) {
+        this.lineageMappings = lineageMappings;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkRequestBody{" +
+                "schemaTypes=" + schemaTypes +
+                ", portImplementations=" + portImplementations +
+                ", portAliases=" + portAliases +
+                ", processes=" + processes +
+                ", lineageMappings=" + lineageMappings +
+                '}';
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BulkRequestBody that = (BulkRequestBody) o;
+        return Objects.equals(schemaTypes, that.schemaTypes) &&
+                Objects.equals(portImplementations, that.portImplementations) &&
+                Objects.equals(portAliases, that.portAliases) &&
+                Objects.equals(processes, that.processes) &&
+                Objects.equals(lineageMappings, that.lineageMappings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(schemaTypes, portImplementations, portAliases, processes, lineageMappings);
+    }
+}
@@ -0,0 +1,69 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * BulkResponse is the response structure used on the DE OMAS REST API call that creates or updates the elements of a
+ * whole job. It returns the unique identifiers (guids) of the elements, keyed by qualified name, and the qualified names
+ * of the elements that could not be stored. The exception details are those of the last failure.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class BulkResponse extends FFDCResponseBase {
+    private static final long serialVersionUID = 1L;
+
+    private Map<String, String> guids;
+    private List<String> failedQualifiedNames;
+
+    public Map<String, String> getGUIDs() {
+        return guids;
+    }
+
+    public void setGUIDs(Map<String, String> guids) {
+        this.guids = guids;
+    }
+
+    public List<String> getFailedQualifiedNames() {
+        return failedQualifiedNames;
+    }
+
+    public void setFailedQualifiedNames(List<String> failedQualifiedNames) {
+        this.failedQualifiedNames = failedQualifiedNames;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        if (!super.equals(o)) return false;
+        BulkResponse that = (BulkResponse) o;
+        return Objects.equals(guids, that.guids) &&
+                Objects.equals(failedQualifiedNames, that.failedQualifiedNames);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), guids, failedQualifiedNames);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResponse{" +
+                "guids=" + guids +
+                ", failedQualifiedNames=" + failedQualifiedNames +
+                '}';
+    }
+}
@@ -13,6 +13,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DataEngineClient provides the client-side interface for a data engine tool to create processes with ports,
@@ -145,4 +146,28 @@ public interface DataEngineClient {
     void addPortsToProcess(String userId, List<String> portGUIDs, String processGUID) throws InvalidParameterException,
                                                                                              UserNotAuthorizedException,
                                                                                              PropertyServerException;
+
+    /**
+     * Create or update the schema types, port implementations, port aliases, processes and lineage mappings of a job
+     * in a single request. The elements are stored in that order, so later elements can refer to earlier ones
+     * by qualified name.
+     *
+     * @param userId              the name of the calling user
+     * @param schemaTypes         the schema types
+     * @param portImplementations the port implementations
+     * @param portAliases         the port aliases
+     * @param processes           the processes
+     * @param lineageMappings     the lineage mappings
+     *
+     * @return the unique identifiers of the stored elements, keyed by qualified name
+     *
+     * @throws InvalidParameterException the bean properties are invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException problem accessing the property server
+     */
+    Map<String, String> createOrUpdateBulk(String userId, List<SchemaType> schemaTypes, List<PortImplementation> portImplementations,
+                                           List<PortAlias> portAliases, List<Process> processes,
+                                           List<LineageMapping> lineageMappings) throws InvalidParameterException,
+                                                                                        UserNotAuthorizedException,
+                                                                                        PropertyServerException;
 }
@@ -9,6 +9,8 @@ import org.odpi.openmetadata.accessservices.dataengine.model.PortImplementation;
 import org.odpi.openmetadata.accessservices.dataengine.model.Process;
 import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.SoftwareServerCapability;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BulkRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BulkResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineOMASAPIRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.LineageMappingsRequestBody;
@@ -28,6 +30,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * The Data Engine Open Metadata Access Service (OMAS) provides an interface for data engine tools to create
@@ -42,6 +45,7 @@ public class DataEngineImpl extends OCFRESTClient implements DataEngineClient {
     private static final String PORT_ALIAS_URL_TEMPLATE = DATA_ENGINE_PATH + "port-aliases";
     private static final String LINEAGE_MAPPINGS_URL_TEMPLATE = DATA_ENGINE_PATH + "lineage-mappings";
     private static final String PORTS_TO_PROCESS_URL_TEMPLATE = DATA_ENGINE_PATH + "processes/{2}/ports";
+    private static final String BULK_URL_TEMPLATE = DATA_ENGINE_PATH + "bulk";
 
     private static final String PROCESSES_METHOD_NAME = "createOrUpdateProcesses";
     private static final String PROCESS_METHOD_NAME = "createOrUpdateProcess";
@@ -51,6 +55,7 @@ public class DataEngineImpl extends OCFRESTClient implements DataEngineClient {
     private static final String PORT_ALIAS_METHOD_NAME = "createOrUpdatePortAlias";
     private static final String LINEAGE_MAPPINGS_METHOD_NAME = "addLineageMappings";
     private static final String PORTS_TO_PROCESS_METHOD_NAME = "addPortsToProcess";
+    private static final String BULK_METHOD_NAME = "createOrUpdateBulk";
 
     private String serverPlatformRootURL;
 
@@ -229,6 +234,35 @@ public class DataEngineImpl extends OCFRESTClient implements DataEngineClient {
         callVoidPostRESTCall(userId, methodName, PORTS_TO_PROCESS_URL_TEMPLATE, requestBody, processGUID);
     }
 
+    @Override
+    public Map<String, String> createOrUpdateBulk(String userId, List<SchemaType> schemaTypes, List<PortImplementation> portImplementations,
+                                                  List<PortAlias> portAliases, List<Process> processes,
+                                                  List<LineageMapping> lineageMappings) throws InvalidParameterException,
+                                                                                               UserNotAuthorizedException,
+                                                                                               PropertyServerException {
+        final String methodName = BULK_METHOD_NAME;
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+
+        BulkRequestBody requestBody = new BulkRequestBody();
+        requestBody.setSchemaTypes(schemaTypes);
+        requestBody.setPortImplementations(portImplementations);
+        requestBody.setPortAliases(portAliases);
+        requestBody.setProcesses(processes);
+        requestBody.setLineageMappings(lineageMappings);
+
+        requestBody.setExternalSourceName(externalSourceName);
+
+        BulkResponse restResult = super.callPostRESTCall(methodName, BulkResponse.class, serverPlatformRootURL + BULK_URL_TEMPLATE,
+                requestBody, serverName, userId);
+
+        exceptionHandler.detectAndThrowInvalidParameterException(methodName, restResult);
+        exceptionHandler.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        exceptionHandler.detectAndThrowPropertyServerException(methodName, restResult);
+
+        return restResult.getGUIDs();
+    }
+
     private void callVoidPostRESTCall(String userId, String methodName, String urlTemplate, DataEngineOMASAPIRequestBody requestBody,
                                       Object... params) throws PropertyServerException, InvalidParameterException, UserNotAuthorizedException {
         VoidResponse restResult = super.callVoidPostRESTCall(methodName, serverPlatformRootURL
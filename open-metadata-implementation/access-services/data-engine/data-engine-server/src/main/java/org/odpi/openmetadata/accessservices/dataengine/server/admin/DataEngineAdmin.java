@@ -4,8 +4,11 @@ package org.odpi.openmetadata.accessservices.dataengine.server.admin;
 
 import org.odpi.openmetadata.accessservices.dataengine.ffdc.DataEngineErrorCode;
 import org.odpi.openmetadata.accessservices.dataengine.server.auditlog.DataEngineAuditCode;
+import org.odpi.openmetadata.accessservices.dataengine.server.handlers.QualifiedNameCache;
 import org.odpi.openmetadata.accessservices.dataengine.server.listeners.DataEngineInTopicListener;
+import org.odpi.openmetadata.accessservices.dataengine.server.listeners.DataEngineOMRSTopicListener;
 import org.odpi.openmetadata.accessservices.dataengine.server.processors.DataEngineEventProcessor;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.ProcessIngestionExecutor;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
@@ -20,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * DataEngineAdmin is the class that is called by the OMAG Server to initialize and terminate
@@ -27,6 +31,8 @@ import java.util.List;
  * Open Metadata Repository Services.
  */
 public class DataEngineAdmin extends AccessServiceAdmin {
+    private static final String QUALIFIED_NAME_CACHE_SIZE_PROPERTY_NAME = "QualifiedNameCacheSize";
+    private static final String PROCESS_INGESTION_THREADS_PROPERTY_NAME = "ProcessIngestionThreads";
 
     private OMRSAuditLog auditLog;
     private DataEngineServicesInstance instance;
@@ -62,10 +68,24 @@ public class DataEngineAdmin extends AccessServiceAdmin {
             List<String> defaultZones = this.extractDefaultZones(accessServiceConfig.getAccessServiceOptions(),
                     accessServiceConfig.getAccessServiceName(), auditLog);
 
+            QualifiedNameCache qualifiedNameCache = new QualifiedNameCache(extractIntegerOption(
+                    accessServiceConfig.getAccessServiceOptions(), QUALIFIED_NAME_CACHE_SIZE_PROPERTY_NAME, QualifiedNameCache.DEFAULT_CACHE_SIZE));
+            ProcessIngestionExecutor processIngestionExecutor = new ProcessIngestionExecutor(repositoryConnector.getServerName(),
+                    extractIntegerOption(accessServiceConfig.getAccessServiceOptions(), PROCESS_INGESTION_THREADS_PROPERTY_NAME,
+                            ProcessIngestionExecutor.DEFAULT_THREAD_COUNT));
+
             instance = new DataEngineServicesInstance(repositoryConnector, supportedZones, defaultZones, auditLog, serverUserName,
-                    repositoryConnector.getMaxPageSize());
+                    repositoryConnector.getMaxPageSize(), qualifiedNameCache, processIngestionExecutor);
             serverName = instance.getServerName();
 
+            if (enterpriseOMRSTopicConnector != null) {
+                DataEngineOMRSTopicListener omrsTopicListener = new DataEngineOMRSTopicListener(accessServiceConfig.getAccessServiceName(),
+                        repositoryConnector.getRepositoryHelper(), qualifiedNameCache, auditLog);
+
+                super.registerWithEnterpriseTopic(accessServiceConfig.getAccessServiceName(), serverName, enterpriseOMRSTopicConnector,
+                        omrsTopicListener, auditLog);
+            }
+
             if (accessServiceConfig.getAccessServiceInTopic() != null) {
                 DataEngineEventProcessor dataEngineEventProcessor = new DataEngineEventProcessor(instance, auditLog);
                 DataEngineInTopicListener dataEngineInTopicListener = new DataEngineInTopicListener(auditLog, dataEngineEventProcessor);
@@ -95,6 +115,26 @@ public class DataEngineAdmin extends AccessServiceAdmin {
         }
     }
 
+    /**
+     * Return a numeric access service option, such as the maximum number of qualified names to cache
+     *
+     * @param accessServiceOptions options for the access service
+     * @param propertyName         name of the option
+     * @param defaultValue         value to use if the option is not set or is not a number
+     *
+     * @return value of the option
+     */
+    private int extractIntegerOption(Map<String, Object> accessServiceOptions, String propertyName, int defaultValue) {
+        if (accessServiceOptions != null && accessServiceOptions.get(propertyName) != null) {
+            try {
+                return Integer.parseInt(accessServiceOptions.get(propertyName).toString());
+            } catch (NumberFormatException e) {
+                log.error("Access service option {} is not a number, using the default of {}", propertyName, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     /**
      * Shutdown the access service.
      */
@@ -6,6 +6,7 @@ import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngin
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.PortHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.ProcessHandler;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.ProcessIngestionExecutor;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.multitenant.OCFOMASServiceInstanceHandler;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
@@ -120,6 +121,27 @@ public class DataEngineInstanceHandler extends OCFOMASServiceInstanceHandler {
 
         return instance.getPortHandler();
     }
-}
 
+    /**
+     * Retrieve the executor that ingests processes for the access service
+     *
+     * @param userId               calling user
+     * @param serverName           name of the server tied to the request
+     * @param serviceOperationName name of the REST API call (typically the top-level methodName)
+     *
+     * @return executor for use by the requested instance
+     *
+     * @throws InvalidParameterException no available instance for the requested server
+     * @throws UserNotAuthorizedException user does not have access to the requested server
+     * @throws PropertyServerException the service name is not known - indicating a logic error
+     */
+    public ProcessIngestionExecutor getProcessIngestionExecutor(String userId, String serverName, String serviceOperationName) throws
+                                                                                                                         InvalidParameterException,
+                                                                                                                         UserNotAuthorizedException,
+                                                                                                                         PropertyServerException {
+        DataEngineServicesInstance instance = (DataEngineServicesInstance) super.getServerServiceInstance(userId,
+                serverName, serviceOperationName);
 
+        return instance.getProcessIngestionExecutor();
+    }
+}
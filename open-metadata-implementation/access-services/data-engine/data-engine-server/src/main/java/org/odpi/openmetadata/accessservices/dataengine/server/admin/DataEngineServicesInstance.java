@@ -8,6 +8,8 @@ import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngin
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.DataEngineSchemaTypeHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.PortHandler;
 import org.odpi.openmetadata.accessservices.dataengine.server.handlers.ProcessHandler;
+import org.odpi.openmetadata.accessservices.dataengine.server.handlers.QualifiedNameCache;
+import org.odpi.openmetadata.accessservices.dataengine.server.service.ProcessIngestionExecutor;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.multitenant.OCFOMASServiceInstance;
 import org.odpi.openmetadata.commonservices.multitenant.ffdc.exceptions.NewInstanceException;
@@ -28,6 +30,7 @@ public class DataEngineServicesInstance extends OCFOMASServiceInstance {
     private DataEngineSchemaTypeHandler dataEngineSchemaTypeHandler;
     private PortHandler portHandler;
     private DataEngineCommonHandler dataEngineCommonHandler;
+    private ProcessIngestionExecutor processIngestionExecutor;
 
     /**
      * Set up the local repository connector that will service the REST Calls
@@ -38,11 +41,15 @@ public class DataEngineServicesInstance extends OCFOMASServiceInstance {
      * @param auditLog            logging destination
      * @param localServerUserId   userId used for server initiated actions
      * @param maxPageSize         max number of results to return on single request
+     * @param qualifiedNameCache  remembers the unique identifiers of the entities found by qualified name
+     * @param processIngestionExecutor runs the ingestion of processes in parallel
      *
      * @throws NewInstanceException a problem occurred during initialization
      */
     DataEngineServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones, List<String> defaultZones,
-                               OMRSAuditLog auditLog, String localServerUserId, int maxPageSize) throws NewInstanceException {
+                               OMRSAuditLog auditLog, String localServerUserId, int maxPageSize,
+                               QualifiedNameCache qualifiedNameCache, ProcessIngestionExecutor processIngestionExecutor) throws
+                                                                                                                        NewInstanceException {
 
 
         super(description.getAccessServiceFullName(), repositoryConnector, supportedZones, defaultZones, auditLog,
@@ -52,13 +59,14 @@ public class DataEngineServicesInstance extends OCFOMASServiceInstance {
             dataEngineRegistrationHandler = new DataEngineRegistrationHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler,
                     repositoryHelper);
             dataEngineCommonHandler = new DataEngineCommonHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler,
-                    repositoryHelper, dataEngineRegistrationHandler);
+                    repositoryHelper, dataEngineRegistrationHandler, qualifiedNameCache);
             processHandler = new ProcessHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper, assetHandler,
                     dataEngineCommonHandler, defaultZones, supportedZones);
             dataEngineSchemaTypeHandler = new DataEngineSchemaTypeHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler,
                     repositoryHelper, schemaTypeHandler, dataEngineRegistrationHandler, dataEngineCommonHandler);
             portHandler = new PortHandler(serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper,
                     dataEngineCommonHandler);
+            this.processIngestionExecutor = processIngestionExecutor;
 
             if (securityVerifier != null) {
                 processHandler.setSecurityVerifier(securityVerifier);
@@ -110,4 +118,25 @@ public class DataEngineServicesInstance extends OCFOMASServiceInstance {
     PortHandler getPortHandler() {
         return portHandler;
     }
+
+    /**
+     * Return the executor for the ingestion of processes
+     *
+     * @return executor object
+     */
+    ProcessIngestionExecutor getProcessIngestionExecutor() {
+        return processIngestionExecutor;
+    }
+
+    /**
+     * Stop the process ingestion threads and unregister the instance from the instance map.
+     */
+    @Override
+    public void shutdown() {
+        if (processIngestionExecutor != null) {
+            processIngestionExecutor.shutdown();
+        }
+
+        super.shutdown();
+    }
 }
@@ -34,6 +34,7 @@ public class DataEngineCommonHandler {
     private final OMRSRepositoryHelper repositoryHelper;
     private final InvalidParameterHandler invalidParameterHandler;
     private final DataEngineRegistrationHandler dataEngineRegistrationHandler;
+    private final QualifiedNameCache qualifiedNameCache;
 
     private static final Logger log = LoggerFactory.getLogger(DataEngineCommonHandler.class);
 
@@ -50,13 +51,31 @@ public class DataEngineCommonHandler {
     public DataEngineCommonHandler(String serviceName, String serverName, InvalidParameterHandler invalidParameterHandler,
                                    RepositoryHandler repositoryHandler, OMRSRepositoryHelper repositoryHelper,
                                    DataEngineRegistrationHandler dataEngineRegistrationHandler) {
+        this(serviceName, serverName, invalidParameterHandler, repositoryHandler, repositoryHelper, dataEngineRegistrationHandler,
+                new QualifiedNameCache());
+    }
+
+    /**
+     * Construct the handler information needed to interact with the repository services
+     *
+     * @param serviceName                   name of this service
+     * @param serverName                    name of the local server
+     * @param invalidParameterHandler       handler for managing parameter errors
+     * @param repositoryHandler             manages calls to the repository services
+     * @param repositoryHelper              provides utilities for manipulating the repository services objects
+     * @param dataEngineRegistrationHandler provides calls for retrieving external data engine guid
+     * @param qualifiedNameCache            remembers the unique identifiers of the entities found by qualified name
+     */
+    public DataEngineCommonHandler(String serviceName, String serverName, InvalidParameterHandler invalidParameterHandler,
+                                   RepositoryHandler repositoryHandler, OMRSRepositoryHelper repositoryHelper,
+                                   DataEngineRegistrationHandler dataEngineRegistrationHandler, QualifiedNameCache qualifiedNameCache) {
         this.serviceName = serviceName;
         this.serverName = serverName;
         this.invalidParameterHandler = invalidParameterHandler;
         this.repositoryHelper = repositoryHelper;
         this.repositoryHandler = repositoryHandler;
         this.dataEngineRegistrationHandler = dataEngineRegistrationHandler;
-
+        this.qualifiedNameCache = qualifiedNameCache;
     }
 
     /**
@@ -85,8 +104,13 @@ public class DataEngineCommonHandler {
 
         TypeDef entityTypeDef = repositoryHelper.getTypeDefByName(userId, entityTypeName);
 
-        return repositoryHandler.createExternalEntity(userId, entityTypeDef.getGUID(), entityTypeDef.getName(), externalSourceGUID,
-                externalSourceName, instanceProperties, instanceStatus, methodName);
+        String entityGUID = repositoryHandler.createExternalEntity(userId, entityTypeDef.getGUID(), entityTypeDef.getName(),
+                externalSourceGUID, externalSourceName, instanceProperties, instanceStatus, methodName);
+
+        qualifiedNameCache.put(entityTypeName, repositoryHelper.getStringProperty(serviceName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                instanceProperties, methodName), entityGUID);
+
+        return entityGUID;
     }
 
     /**
@@ -145,10 +169,12 @@ public class DataEngineCommonHandler {
     }
 
     /**
-     * Find out if the entity is already stored in the repository. It uses the fully qualified name to retrieve the entity
+     * Find out if the entity is already stored in the repository. It uses the fully qualified name to retrieve the entity.
+     * If the GUID of the entity is in the qualified name cache, the entity is retrieved by GUID instead of being searched for.
      *
-     * @param userId        the name of the calling user
-     * @param qualifiedName the qualifiedName name of the entity to be searched
+     * @param userId         the name of the calling user
+     * @param qualifiedName  the qualifiedName name of the entity to be searched
+     * @param entityTypeName the type name of the entity
      *
      * @return optional with entity details if found, empty optional if not found
      *
@@ -164,22 +190,84 @@ public class DataEngineCommonHandler {
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateName(qualifiedName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, methodName);
 
-        qualifiedName = repositoryHelper.getExactMatchRegex(qualifiedName);
+        TypeDef entityTypeDef = repositoryHelper.getTypeDefByName(userId, entityTypeName);
 
-        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName, null, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
-                qualifiedName, methodName);
+        String cachedGUID = qualifiedNameCache.getGUID(entityTypeName, qualifiedName);
+        if (cachedGUID != null) {
+            Optional<EntityDetail> cachedEntity = getCachedEntity(userId, cachedGUID, qualifiedName, entityTypeDef);
+            if (cachedEntity.isPresent()) {
+                return cachedEntity;
+            }
+            qualifiedNameCache.remove(cachedGUID);
+        }
 
-        TypeDef entityTypeDef = repositoryHelper.getTypeDefByName(userId, entityTypeName);
+        String qualifiedNameRegex = repositoryHelper.getExactMatchRegex(qualifiedName);
 
-        Optional<EntityDetail> retrievedEntity = Optional.ofNullable(repositoryHandler.getUniqueEntityByName(userId, qualifiedName,
+        InstanceProperties properties = repositoryHelper.addStringPropertyToInstance(serviceName, null, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                qualifiedNameRegex, methodName);
+
+        Optional<EntityDetail> retrievedEntity = Optional.ofNullable(repositoryHandler.getUniqueEntityByName(userId, qualifiedNameRegex,
                 CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, properties, entityTypeDef.getGUID(), entityTypeDef.getName(), methodName));
 
-        log.debug("Searching for entity with qualifiedName: {}. Result is {}", qualifiedName,
+        log.debug("Searching for entity with qualifiedName: {}. Result is {}", qualifiedNameRegex,
                 retrievedEntity.map(InstanceHeader::getGUID).orElse(null));
 
+        retrievedEntity.ifPresent(entityDetail -> qualifiedNameCache.put(entityTypeName, qualifiedName, entityDetail.getGUID()));
+
         return retrievedEntity;
     }
 
+    /**
+     * Retrieve an entity whose GUID was found in the qualified name cache. The entity is only returned if it still exists
+     * and still has the qualified name, so a stale cache entry falls back to a search.
+     *
+     * @param userId        the name of the calling user
+     * @param guid          the cached unique identifier of the entity
+     * @param qualifiedName the qualifiedName name of the entity to be searched
+     * @param entityTypeDef the type of the entity
+     *
+     * @return optional with entity details if they still match, empty optional otherwise
+     *
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private Optional<EntityDetail> getCachedEntity(String userId, String guid, String qualifiedName, TypeDef entityTypeDef) throws
+                                                                                                                        UserNotAuthorizedException,
+                                                                                                                        PropertyServerException {
+        final String methodName = "getCachedEntity";
+
+        EntityDetail entityDetail;
+        try {
+            entityDetail = repositoryHandler.getEntityByGUID(userId, guid, CommonMapper.GUID_PROPERTY_NAME, entityTypeDef.getName(),
+                    methodName);
+        } catch (InvalidParameterException e) {
+            log.debug("Cached entity {} with qualifiedName {} is no longer available", guid, qualifiedName);
+            return Optional.empty();
+        }
+
+        if (entityDetail == null || entityDetail.getStatus() == InstanceStatus.DELETED || !qualifiedName.equals(
+                repositoryHelper.getStringProperty(serviceName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, entityDetail.getProperties(),
+                        methodName))) {
+            return Optional.empty();
+        }
+
+        log.debug("Found entity with qualifiedName: {} in the cache. Result is {}", qualifiedName, guid);
+
+        return Optional.of(entityDetail);
+    }
+
+    /**
+     * Remember the unique identifier of an entity that has been created outside of this handler, so that the next search for
+     * its qualified name can be answered from the cache
+     *
+     * @param entityTypeName the type name used to search for the entity
+     * @param qualifiedName  the qualified name of the entity
+     * @param guid           the unique identifier of the entity
+     */
+    protected void cacheQualifiedName(String entityTypeName, String qualifiedName, String guid) {
+        qualifiedNameCache.put(entityTypeName, qualifiedName, guid);
+    }
+
     /**
      * Create or updates an external relationship between two entities. Verifies that the relationship is not present before creating it. If the
      * relationship is present, verifies the instanceProperties for the relationship to be updated.
@@ -249,6 +337,8 @@ public class DataEngineCommonHandler {
 
         TypeDef entityTypeDef = repositoryHelper.getTypeDefByName(userId, entityTypeName);
         repositoryHandler.removeEntity(userId, entityGUID, entityTypeDef.getGUID(), entityTypeDef.getName(), null, null, methodName);
+
+        qualifiedNameCache.remove(entityGUID);
     }
 
     protected void throwInvalidParameterException(DataEngineErrorCode errorCode, String methodName, String... params) throws InvalidParameterException {
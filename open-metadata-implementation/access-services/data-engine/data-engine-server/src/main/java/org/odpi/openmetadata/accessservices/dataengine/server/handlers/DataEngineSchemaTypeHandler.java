@@ -105,6 +105,7 @@ public class DataEngineSchemaTypeHandler {
         if (!originalSchemaTypeEntity.isPresent()) {
             String externalSourceGUID = dataEngineRegistrationHandler.getExternalDataEngineByQualifiedName(userId, externalSourceName);
             schemaTypeGUID = schemaTypeHandler.addExternalSchemaType(userId, schemaTypeBean, externalSourceGUID, externalSourceName);
+            dataEngineCommonHandler.cacheQualifiedName(SchemaElementMapper.SCHEMA_TYPE_TYPE_NAME, schemaTypeBean.getQualifiedName(), schemaTypeGUID);
         } else {
             schemaTypeGUID = originalSchemaTypeEntity.get().getGUID();
 
@@ -293,6 +294,8 @@ public class DataEngineSchemaTypeHandler {
 
         String externalSourceGUID = dataEngineRegistrationHandler.getExternalDataEngineByQualifiedName(userId, externalSourceName);
         String schemaAttributeGUID = schemaTypeHandler.addExternalSchemaAttribute(userId, schemaAttribute, externalSourceGUID, externalSourceName);
+        dataEngineCommonHandler.cacheQualifiedName(SchemaElementMapper.SCHEMA_ATTRIBUTE_TYPE_NAME, schemaAttribute.getQualifiedName(),
+                schemaAttributeGUID);
 
         repositoryHandler.createExternalRelationship(userId, SchemaElementMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_GUID, externalSourceGUID,
                 externalSourceName, schemaTypeGUID, schemaAttributeGUID, null, methodName);
@@ -0,0 +1,121 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.handlers;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * QualifiedNameCache remembers the unique identifiers (GUIDs) of the entities that the Data Engine OMAS has found or
+ * created by qualified name. Looking up a GUID in the cache and retrieving the entity by GUID is much cheaper than
+ * the exact-match search that is otherwise needed to resolve a qualified name.
+ * <p>
+ * The cache holds a bounded number of entries and removes the least recently used entries when it is full.
+ * Entries are removed when the OMRS events show that an entity has been deleted, purged, re-identified, re-typed or
+ * renamed. A cached GUID is only a hint: the handler always retrieves the entity and checks its qualified name before
+ * using it, so events that are missed can not cause the wrong entity to be updated.
+ */
+public class QualifiedNameCache {
+    public static final int DEFAULT_CACHE_SIZE = 10000;
+
+    private final int maxSize;
+    private final LinkedHashMap<String, String> guidsByKey = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Set<String>> keysByGUID = new HashMap<>();
+
+    /**
+     * Construct a cache with the default size
+     */
+    public QualifiedNameCache() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Construct a cache
+     *
+     * @param maxSize maximum number of qualified names to remember
+     */
+    public QualifiedNameCache(int maxSize) {
+        this.maxSize = maxSize > 0 ? maxSize : DEFAULT_CACHE_SIZE;
+    }
+
+    /**
+     * Return the GUID of the entity with the qualified name, if it is known
+     *
+     * @param entityTypeName the type name used to search for the entity
+     * @param qualifiedName  the qualified name of the entity
+     *
+     * @return unique identifier of the entity or null if it is not cached
+     */
+    public synchronized String getGUID(String entityTypeName, String qualifiedName) {
+        return guidsByKey.get(getKey(entityTypeName, qualifiedName));
+    }
+
+    /**
+     * Remember the GUID of the entity with the qualified name
+     *
+     * @param entityTypeName the type name used to search for the entity
+     * @param qualifiedName  the qualified name of the entity
+     * @param guid           unique identifier of the entity
+     */
+    public synchronized void put(String entityTypeName, String qualifiedName, String guid) {
+        if (qualifiedName == null || guid == null) {
+            return;
+        }
+
+        String key = getKey(entityTypeName, qualifiedName);
+        String previousGUID = guidsByKey.put(key, guid);
+
+        if (previousGUID != null && !previousGUID.equals(guid)) {
+            removeKeyForGUID(previousGUID, key);
+        }
+        keysByGUID.computeIfAbsent(guid, k -> new HashSet<>()).add(key);
+
+        Iterator<Map.Entry<String, String>> eldest = guidsByKey.entrySet().iterator();
+        while (guidsByKey.size() > maxSize && eldest.hasNext()) {
+            Map.Entry<String, String> entry = eldest.next();
+            eldest.remove();
+            removeKeyForGUID(entry.getValue(), entry.getKey());
+        }
+    }
+
+    /**
+     * Forget all of the qualified names of an entity
+     *
+     * @param guid unique identifier of the entity
+     */
+    public synchronized void remove(String guid) {
+        Set<String> keys = keysByGUID.remove(guid);
+
+        if (keys != null) {
+            guidsByKey.keySet().removeAll(keys);
+        }
+    }
+
+    /**
+     * Return the number of cached qualified names
+     *
+     * @return number of entries
+     */
+    public synchronized int size() {
+        return guidsByKey.size();
+    }
+
+    private void removeKeyForGUID(String guid, String key) {
+        Set<String> keys = keysByGUID.get(guid);
+
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByGUID.remove(guid);
+            }
+        }
+    }
+
+    private String getKey(String entityTypeName, String qualifiedName) {
+        return entityTypeName + "::" + qualifiedName;
+    }
+}
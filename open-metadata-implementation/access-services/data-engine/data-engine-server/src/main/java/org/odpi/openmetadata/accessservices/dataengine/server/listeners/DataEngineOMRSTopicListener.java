@@ -0,0 +1,109 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.listeners;
+
+import org.odpi.openmetadata.accessservices.dataengine.server.handlers.QualifiedNameCache;
+import org.odpi.openmetadata.accessservices.dataengine.server.mappers.CommonMapper;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+/**
+ * DataEngineOMRSTopicListener receives the OMRS events from the cohorts that the local server is connected to.
+ * It removes the entities that have been deleted, purged, re-identified, re-typed or renamed from the qualified name
+ * cache of the Data Engine OMAS.
+ */
+public class DataEngineOMRSTopicListener extends OMRSTopicListenerBase {
+    private static final Logger log = LoggerFactory.getLogger(DataEngineOMRSTopicListener.class);
+
+    private final OMRSRepositoryHelper repositoryHelper;
+    private final QualifiedNameCache qualifiedNameCache;
+
+    /**
+     * Construct the listener
+     *
+     * @param serviceName        name of this service
+     * @param repositoryHelper   provides utilities for manipulating the repository services objects
+     * @param qualifiedNameCache the cache to keep up to date
+     * @param auditLog           logging destination
+     */
+    public DataEngineOMRSTopicListener(String serviceName, OMRSRepositoryHelper repositoryHelper, QualifiedNameCache qualifiedNameCache,
+                                       OMRSAuditLog auditLog) {
+        super(serviceName, auditLog);
+
+        this.repositoryHelper = repositoryHelper;
+        this.qualifiedNameCache = qualifiedNameCache;
+    }
+
+    @Override
+    public void processUpdatedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName, EntityDetail oldEntity,
+                                          EntityDetail newEntity) {
+        final String methodName = "processUpdatedEntityEvent";
+
+        if (oldEntity == null || newEntity == null) {
+            return;
+        }
+
+        String oldQualifiedName = repositoryHelper.getStringProperty(serviceName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                oldEntity.getProperties(), methodName);
+        String newQualifiedName = repositoryHelper.getStringProperty(serviceName, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                newEntity.getProperties(), methodName);
+
+        if (!Objects.equals(oldQualifiedName, newQualifiedName)) {
+            removeFromCache(newEntity.getGUID());
+        }
+    }
+
+    @Override
+    public void processDeletedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName, EntityDetail entity) {
+        if (entity != null) {
+            removeFromCache(entity.getGUID());
+        }
+    }
+
+    @Override
+    public void processPurgedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                         String originatorServerType, String originatorOrganizationName, String typeDefGUID,
+                                         String typeDefName, String instanceGUID) {
+        removeFromCache(instanceGUID);
+    }
+
+    @Override
+    public void processDeletePurgedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                               String originatorServerType, String originatorOrganizationName, EntityDetail entity) {
+        if (entity != null) {
+            removeFromCache(entity.getGUID());
+        }
+    }
+
+    @Override
+    public void processReIdentifiedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                               String originatorServerType, String originatorOrganizationName, String originalEntityGUID,
+                                               EntityDetail entity) {
+        removeFromCache(originalEntityGUID);
+    }
+
+    @Override
+    public void processReTypedEntityEvent(String sourceName, String originatorMetadataCollectionId, String originatorServerName,
+                                          String originatorServerType, String originatorOrganizationName, TypeDefSummary originalTypeDefSummary,
+                                          EntityDetail entity) {
+        if (entity != null) {
+            removeFromCache(entity.getGUID());
+        }
+    }
+
+    private void removeFromCache(String guid) {
+        if (guid != null) {
+            log.debug("Removing entity {} from the qualified name cache", guid);
+            qualifiedNameCache.remove(guid);
+        }
+    }
+}
@@ -13,6 +13,8 @@ import org.odpi.openmetadata.accessservices.dataengine.model.Process;
 import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.SoftwareServerCapability;
 import org.odpi.openmetadata.accessservices.dataengine.model.UpdateSemantic;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BulkRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BulkResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.LineageMappingsRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortAliasRequestBody;
@@ -42,12 +44,15 @@ import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
+import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -70,6 +75,8 @@ public class DataEngineRESTServices {
 
     private final DataEngineInstanceHandler instanceHandler = new DataEngineInstanceHandler();
 
+    private static final ProcessIngestionExecutor CALLING_THREAD_EXECUTOR = new ProcessIngestionExecutor();
+
     /**
      * Create the external data engine as software server capability entity
      *
@@ -292,6 +299,101 @@ public class DataEngineRESTServices {
         return response;
     }
 
+    /**
+     * Create or update all of the elements of a job in a single call. The schema types, port implementations, port aliases,
+     * processes and lineage mappings are stored in that order, so that the later elements can refer to the earlier ones.
+     * The qualified names that are resolved while storing an element are remembered, so each element is only searched
+     * for once.
+     *
+     * @param userId          the name of the calling user
+     * @param serverName      name of server instance to call
+     * @param bulkRequestBody the elements of the job
+     *
+     * @return the unique identifiers (GUIDs) of the stored elements, keyed by qualified name, and the elements that failed
+     */
+    public BulkResponse createOrUpdateBulk(String userId, String serverName, BulkRequestBody bulkRequestBody) {
+        final String methodName = "createOrUpdateBulk";
+
+        log.debug(DEBUG_MESSAGE_METHOD, methodName);
+
+        BulkResponse response = new BulkResponse();
+        Map<String, String> guids = new LinkedHashMap<>();
+        List<String> failedQualifiedNames = new ArrayList<>();
+
+        try {
+            if (bulkRequestBody == null) {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+                return response;
+            }
+        } catch (InvalidParameterException error) {
+            restExceptionHandler.captureInvalidParameterException(response, error);
+            return response;
+        }
+
+        String externalSourceName = bulkRequestBody.getExternalSourceName();
+
+        if (CollectionUtils.isNotEmpty(bulkRequestBody.getSchemaTypes())) {
+            for (SchemaType schemaType : bulkRequestBody.getSchemaTypes()) {
+                GUIDResponse schemaTypeResponse = createOrUpdateSchemaType(userId, serverName,
+                        buildSchemaTypeRequestBody(schemaType, externalSourceName));
+                collectBulkResult(schemaType.getQualifiedName(), schemaTypeResponse, guids, failedQualifiedNames, response);
+            }
+        }
+        if (CollectionUtils.isNotEmpty(bulkRequestBody.getPortImplementations())) {
+            for (PortImplementation portImplementation : bulkRequestBody.getPortImplementations()) {
+                PortImplementationRequestBody portImplementationRequestBody = new PortImplementationRequestBody();
+                portImplementationRequestBody.setPortImplementation(portImplementation);
+                portImplementationRequestBody.setExternalSourceName(externalSourceName);
+
+                collectBulkResult(portImplementation.getQualifiedName(),
+                        createOrUpdatePortImplementation(userId, serverName, portImplementationRequestBody), guids, failedQualifiedNames,
+                        response);
+            }
+        }
+        if (CollectionUtils.isNotEmpty(bulkRequestBody.getPortAliases())) {
+            for (PortAlias portAlias : bulkRequestBody.getPortAliases()) {
+                PortAliasRequestBody portAliasRequestBody = new PortAliasRequestBody();
+                portAliasRequestBody.setPortAlias(portAlias);
+                portAliasRequestBody.setExternalSourceName(externalSourceName);
+
+                collectBulkResult(portAlias.getQualifiedName(), createOrUpdatePortAlias(userId, serverName, portAliasRequestBody), guids,
+                        failedQualifiedNames, response);
+            }
+        }
+        if (CollectionUtils.isNotEmpty(bulkRequestBody.getProcesses())) {
+            ProcessListResponse processListResponse = createOrUpdateProcesses(userId, serverName, bulkRequestBody.getProcesses(),
+                    externalSourceName);
+            // a process is reported as failed by the bulk call exactly when createOrUpdateProcesses reports it as failed
+            for (Process process : bulkRequestBody.getProcesses()) {
+                if (process.getGUID() != null && processListResponse.getGUIDs().contains(process.getGUID())) {
+                    guids.put(process.getQualifiedName(), process.getGUID());
+                } else {
+                    failedQualifiedNames.add(process.getQualifiedName());
+                }
+            }
+            if (!isSuccessful(processListResponse)) {
+                captureException(processListResponse, response);
+            }
+        }
+        if (CollectionUtils.isNotEmpty(bulkRequestBody.getLineageMappings())) {
+            LineageMappingsRequestBody lineageMappingsRequestBody = new LineageMappingsRequestBody();
+            lineageMappingsRequestBody.setLineageMappings(bulkRequestBody.getLineageMappings());
+            lineageMappingsRequestBody.setExternalSourceName(externalSourceName);
+
+            VoidResponse lineageMappingsResponse = addLineageMappings(userId, serverName, lineageMappingsRequestBody);
+            if (!isSuccessful(lineageMappingsResponse)) {
+                captureException(lineageMappingsResponse, response);
+            }
+        }
+
+        response.setGUIDs(guids);
+        response.setFailedQualifiedNames(failedQualifiedNames);
+
+        log.debug(DEBUG_MESSAGE_METHOD_RETURN, methodName, response);
+
+        return response;
+    }
+
     /**
      * Create or update a Port Alias with a PortDelegation relationship
      *
@@ -491,6 +593,11 @@ public class DataEngineRESTServices {
     }
 
     /**
+     * Create or update the processes on the process ingestion executor of the server. Processes with port implementations
+     * are independent of each other and are ingested in parallel. Processes with port aliases are grouped by the port
+     * aliases they share: the processes of a group are ingested one after the other, as they can define the same port
+     * alias, while the groups are ingested in parallel.
+     *
      * @param userId             the name of the calling user
      * @param serverName         name of server instance to call
      * @param processes          list of processes to be created
@@ -499,38 +606,36 @@ public class DataEngineRESTServices {
      * @return a list unique identifiers (GUIDs) of the created/updated processes
      */
     public ProcessListResponse createOrUpdateProcesses(String userId, String serverName, List<Process> processes, String externalSourceName) {
+        final String methodName = "createOrUpdateProcesses";
+
+        long start = System.currentTimeMillis();
 
         Predicate<? super Process> hasPortImplementationsPredicate = process -> CollectionUtils.isNotEmpty(process.getPortImplementations());
-        Map<Boolean, List<Process>> partitionedProcesses = processes.parallelStream().collect(partitioningBy(hasPortImplementationsPredicate));
-
-        List<GUIDResponse> createdProcesses = new ArrayList<>();
-        List<GUIDResponse> failedProcesses = new ArrayList<>();
-        Consumer<Process> processConsumer = process ->
-        {
-            GUIDResponse guidResponse = createOrUpdateProcess(userId, serverName, process, externalSourceName);
-            if (guidResponse.getRelatedHTTPCode() == HttpStatus.OK.value()) {
-                String processGUID = guidResponse.getGUID();
-                process.setGUID(processGUID);
-                VoidResponse updateStatusResponse = updateProcessStatus(userId, serverName, processGUID, InstanceStatus.ACTIVE);
-                if (updateStatusResponse.getRelatedHTTPCode() != 200) {
-                    captureException(updateStatusResponse, guidResponse);
-                }
-                createdProcesses.add(guidResponse);
-            } else {
-                failedProcesses.add(guidResponse);
-            }
-        };
+        Map<Boolean, List<Process>> partitionedProcesses = processes.stream().collect(partitioningBy(hasPortImplementationsPredicate));
+
+        List<List<Process>> portImplementationGroups = partitionedProcesses.get(Boolean.TRUE).stream().map(Collections::singletonList)
+                .collect(Collectors.toList());
+        List<List<Process>> portAliasGroups = groupBySharedPortAliases(partitionedProcesses.get(Boolean.FALSE));
+
+        ProcessIngestionExecutor executor = getProcessIngestionExecutor(userId, serverName, methodName);
 
-        partitionedProcesses.get(Boolean.TRUE).parallelStream().forEach(processConsumer);
-        // processes that have port aliases can not be processed in parallel, as multiple processes can define the same port alias
-        partitionedProcesses.get(Boolean.FALSE).forEach(processConsumer);
+        List<GUIDResponse> processResponses = new ArrayList<>();
+        processResponses.addAll(createOrUpdateProcessGroups(userId, serverName, portImplementationGroups, externalSourceName, executor));
+        processResponses.addAll(createOrUpdateProcessGroups(userId, serverName, portAliasGroups, externalSourceName, executor));
+
+        Map<Boolean, List<GUIDResponse>> partitionedResponses = processResponses.stream().collect(partitioningBy(this::isSuccessful));
+        List<GUIDResponse> createdProcesses = partitionedResponses.get(Boolean.TRUE);
+        List<GUIDResponse> failedProcesses = partitionedResponses.get(Boolean.FALSE);
 
         ProcessListResponse response = new ProcessListResponse();
-        response.setGUIDs(createdProcesses.parallelStream().map(GUIDResponse::getGUID).collect(Collectors.toList()));
+        response.setGUIDs(createdProcesses.stream().map(GUIDResponse::getGUID).collect(Collectors.toList()));
         handleFailedProcesses(response, failedProcesses);
 
         addProcessHierarchyRelationships(userId, serverName, processes, response, externalSourceName);
 
+        log.info("Ingested {} processes ({} failed) in {} port implementation groups and {} port alias groups in {} ms", processes.size(),
+                failedProcesses.size(), portImplementationGroups.size(), portAliasGroups.size(), System.currentTimeMillis() - start);
+
         return response;
     }
 
@@ -644,9 +749,112 @@ public class DataEngineRESTServices {
         log.debug(DEBUG_METHOD_RETURN_VOID_RESPONSE, methodName);
     }
 
+    private SchemaTypeRequestBody buildSchemaTypeRequestBody(SchemaType schemaType, String externalSourceName) {
+        SchemaTypeRequestBody schemaTypeRequestBody = new SchemaTypeRequestBody();
+        schemaTypeRequestBody.setSchemaType(schemaType);
+        schemaTypeRequestBody.setExternalSourceName(externalSourceName);
+
+        return schemaTypeRequestBody;
+    }
+
+    private void collectBulkResult(String qualifiedName, GUIDResponse elementResponse, Map<String, String> guids,
+                                   List<String> failedQualifiedNames, BulkResponse response) {
+        if (isSuccessful(elementResponse)) {
+            guids.put(qualifiedName, elementResponse.getGUID());
+        } else {
+            failedQualifiedNames.add(qualifiedName);
+            captureException(elementResponse, response);
+        }
+    }
+
+    /**
+     * Return whether the call that filled the response succeeded. The element calls capture their errors in the response
+     * instead of throwing them, so the related HTTP code is the only reliable indication of success.
+     */
+    private boolean isSuccessful(FFDCResponseBase response) {
+        return response.getRelatedHTTPCode() == HttpStatus.OK.value();
+    }
+
     private void handleFailedProcesses(ProcessListResponse response, List<GUIDResponse> failedProcesses) {
-        response.setFailedGUIDs((failedProcesses.parallelStream().map(GUIDResponse::getGUID).collect(Collectors.toList())));
-        failedProcesses.parallelStream().forEach(guidResponse -> captureException(guidResponse, response));
+        response.setFailedGUIDs((failedProcesses.stream().map(GUIDResponse::getGUID).collect(Collectors.toList())));
+        failedProcesses.forEach(guidResponse -> captureException(guidResponse, response));
+    }
+
+    private ProcessIngestionExecutor getProcessIngestionExecutor(String userId, String serverName, String methodName) {
+        ProcessIngestionExecutor executor = null;
+        try {
+            executor = instanceHandler.getProcessIngestionExecutor(userId, serverName, methodName);
+        } catch (InvalidParameterException | PropertyServerException | UserNotAuthorizedException error) {
+            // the error is reported for each process, as their handlers can not be retrieved either
+            log.debug("No process ingestion executor for server {}, ingesting on the calling thread", serverName, error);
+        }
+
+        return executor != null ? executor : CALLING_THREAD_EXECUTOR;
+    }
+
+    /**
+     * Create or update groups of processes. The groups are ingested in parallel and the processes of a group are ingested in order.
+     *
+     * @return the responses of the processes, in the order of the groups
+     */
+    private List<GUIDResponse> createOrUpdateProcessGroups(String userId, String serverName, List<List<Process>> processGroups,
+                                                           String externalSourceName, ProcessIngestionExecutor executor) {
+        List<Callable<List<GUIDResponse>>> tasks = processGroups.stream().<Callable<List<GUIDResponse>>>map(processGroup -> () ->
+                processGroup.stream().map(process -> createOrUpdateAndActivateProcess(userId, serverName, process, externalSourceName))
+                        .collect(Collectors.toList())).collect(Collectors.toList());
+
+        return executor.invokeAll(tasks).stream().flatMap(List::stream).collect(Collectors.toList());
+    }
+
+    private GUIDResponse createOrUpdateAndActivateProcess(String userId, String serverName, Process process, String externalSourceName) {
+        GUIDResponse guidResponse = createOrUpdateProcess(userId, serverName, process, externalSourceName);
+        if (isSuccessful(guidResponse)) {
+            String processGUID = guidResponse.getGUID();
+            process.setGUID(processGUID);
+            VoidResponse updateStatusResponse = updateProcessStatus(userId, serverName, processGUID, InstanceStatus.ACTIVE);
+            if (!isSuccessful(updateStatusResponse)) {
+                captureException(updateStatusResponse, guidResponse);
+            }
+        }
+        return guidResponse;
+    }
+
+    /**
+     * Group the processes that share port aliases, by qualified name, so that two processes that define the same port alias
+     * are never ingested at the same time. The processes keep their relative order within a group.
+     */
+    private List<List<Process>> groupBySharedPortAliases(List<Process> processes) {
+        Map<String, Integer> groupByPortAlias = new HashMap<>();
+        int[] parents = new int[processes.size()];
+
+        for (int i = 0; i < processes.size(); i++) {
+            parents[i] = i;
+            List<PortAlias> portAliases = processes.get(i).getPortAliases();
+            if (CollectionUtils.isEmpty(portAliases)) {
+                continue;
+            }
+            for (PortAlias portAlias : portAliases) {
+                Integer sharingProcess = groupByPortAlias.putIfAbsent(portAlias.getQualifiedName(), i);
+                if (sharingProcess != null) {
+                    parents[findGroup(parents, i)] = findGroup(parents, sharingProcess);
+                }
+            }
+        }
+
+        Map<Integer, List<Process>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < processes.size(); i++) {
+            groups.computeIfAbsent(findGroup(parents, i), group -> new ArrayList<>()).add(processes.get(i));
+        }
+
+        return new ArrayList<>(groups.values());
+    }
+
+    private int findGroup(int[] parents, int process) {
+        while (parents[process] != process) {
+            parents[process] = parents[parents[process]];
+            process = parents[process];
+        }
+        return process;
     }
 
     private void captureException(FFDCResponseBase initialResponse, FFDCResponseBase response) {
@@ -710,7 +918,7 @@ public class DataEngineRESTServices {
             Set<String> portAliasGUIDs = createOrUpdatePortAliases(userId, serverName, portAliases, response, externalSourceName);
 
             //check intermediary status of the response after creating the ports
-            if (response.getRelatedHTTPCode() != HttpStatus.OK.value()) {
+            if (!isSuccessful(response)) {
                 return response;
             }
 
@@ -742,6 +950,12 @@ public class DataEngineRESTServices {
 
             addLineageMappings(userId, serverName, lineageMappings, response, externalSourceName);
 
+            // the relationships and lineage mappings capture their errors in the response, the process is only reported as
+            // created or updated when all of them were stored
+            if (!isSuccessful(response)) {
+                return response;
+            }
+
             response.setGUID(processGUID);
         } catch (InvalidParameterException error) {
             restExceptionHandler.captureInvalidParameterException(response, error);
@@ -802,7 +1016,7 @@ public class DataEngineRESTServices {
             }
             // failed to create a processHierarchy relationship, set the status of the process back to DRAFT and add the processGUID
             // to the list of failed processes
-            if (response.getRelatedHTTPCode() != HttpStatus.OK.value()) {
+            if (!isSuccessful(response)) {
                 updateProcessStatus(userId, serverName, processGUID, InstanceStatus.DRAFT);
                 failedGUIDS.add(processGUID);
             }
@@ -0,0 +1,108 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ProcessIngestionExecutor runs the tasks that create or update processes on a dedicated, bounded pool of threads,
+ * so a large lineage load uses the configured number of cores without competing with the common fork-join pool.
+ * The results of the tasks are returned to the calling thread in the order the tasks were submitted, so they can be
+ * aggregated without any further synchronization.
+ * <p>
+ * An executor created without a thread count runs the tasks on the calling thread.
+ */
+public class ProcessIngestionExecutor {
+    public static final int DEFAULT_THREAD_COUNT = Runtime.getRuntime().availableProcessors();
+
+    private final ExecutorService executorService;
+
+    /**
+     * Construct an executor that runs the tasks on the calling thread
+     */
+    public ProcessIngestionExecutor() {
+        this.executorService = null;
+    }
+
+    /**
+     * Construct an executor with a bounded pool of threads
+     *
+     * @param serverName  name of the server, used to name the threads
+     * @param threadCount maximum number of processes that are ingested in parallel
+     */
+    public ProcessIngestionExecutor(String serverName, int threadCount) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executorService = Executors.newFixedThreadPool(threadCount > 0 ? threadCount : DEFAULT_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "DataEngine-" + serverName + "-process-ingestion-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Run the tasks and wait for all of them to complete
+     *
+     * @param tasks the tasks to run
+     * @param <T>   type of the task results
+     *
+     * @return the results of the tasks, in the order of the tasks
+     */
+    <T> List<T> invokeAll(List<Callable<T>> tasks) {
+        List<T> results = new ArrayList<>(tasks.size());
+
+        if (executorService == null || tasks.size() < 2) {
+            for (Callable<T> task : tasks) {
+                results.add(call(task));
+            }
+            return results;
+        }
+
+        try {
+            for (Future<T> future : executorService.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while ingesting processes", e);
+        } catch (ExecutionException e) {
+            throw asRuntimeException(e.getCause());
+        }
+
+        return results;
+    }
+
+    /**
+     * Stop the threads of the executor
+     */
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    private <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (Exception e) {
+            throw asRuntimeException(e);
+        }
+    }
+
+    private RuntimeException asRuntimeException(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -28,12 +29,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -67,6 +71,9 @@ class DataEngineCommonHandlerTest {
     @Mock
     private InvalidParameterHandler invalidParameterHandler;
 
+    @Spy
+    private QualifiedNameCache qualifiedNameCache = new QualifiedNameCache(10);
+
     @InjectMocks
     private DataEngineCommonHandler dataEngineCommonHandler;
 
@@ -149,6 +156,56 @@ class DataEngineCommonHandlerTest {
         verify(invalidParameterHandler, times(1)).validateName(QUALIFIED_NAME, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, methodName);
     }
 
+    @Test
+    void findEntity_cachedGUID() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        qualifiedNameCache.put(ENTITY_TYPE_NAME, QUALIFIED_NAME, GUID);
+
+        EntityDetail mockedEntity = mock(EntityDetail.class);
+        when(mockedEntity.getGUID()).thenReturn(GUID);
+        when(mockedEntity.getStatus()).thenReturn(InstanceStatus.ACTIVE);
+        when(repositoryHandler.getEntityByGUID(USER, GUID, CommonMapper.GUID_PROPERTY_NAME, ENTITY_TYPE_NAME, "getCachedEntity"))
+                .thenReturn(mockedEntity);
+        when(repositoryHelper.getStringProperty(any(), any(), any(), anyString())).thenReturn(QUALIFIED_NAME);
+
+        Optional<EntityDetail> result = dataEngineCommonHandler.findEntity(USER, QUALIFIED_NAME, ENTITY_TYPE_NAME);
+
+        assertTrue(result.isPresent());
+        assertEquals(GUID, result.get().getGUID());
+        verify(repositoryHandler, never()).getUniqueEntityByName(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void findEntity_staleCachedGUID() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        String methodName = "findEntity";
+        qualifiedNameCache.put(ENTITY_TYPE_NAME, QUALIFIED_NAME, FIRST_GUID);
+        when(repositoryHelper.getExactMatchRegex(QUALIFIED_NAME)).thenReturn(QUALIFIED_NAME);
+
+        EntityDetail deletedEntity = mock(EntityDetail.class);
+        when(deletedEntity.getStatus()).thenReturn(InstanceStatus.DELETED);
+        when(repositoryHandler.getEntityByGUID(USER, FIRST_GUID, CommonMapper.GUID_PROPERTY_NAME, ENTITY_TYPE_NAME, "getCachedEntity"))
+                .thenReturn(deletedEntity);
+
+        EntityDetail mockedEntity = mock(EntityDetail.class);
+        when(mockedEntity.getGUID()).thenReturn(GUID);
+        when(repositoryHandler.getUniqueEntityByName(USER, QUALIFIED_NAME, CommonMapper.QUALIFIED_NAME_PROPERTY_NAME, null,
+                ENTITY_TYPE_GUID, ENTITY_TYPE_NAME, methodName)).thenReturn(mockedEntity);
+
+        Optional<EntityDetail> result = dataEngineCommonHandler.findEntity(USER, QUALIFIED_NAME, ENTITY_TYPE_NAME);
+
+        assertTrue(result.isPresent());
+        assertEquals(GUID, result.get().getGUID());
+        assertEquals(GUID, qualifiedNameCache.getGUID(ENTITY_TYPE_NAME, QUALIFIED_NAME));
+    }
+
+    @Test
+    void removeEntity_removesCachedGUID() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
+        qualifiedNameCache.put(ENTITY_TYPE_NAME, QUALIFIED_NAME, GUID);
+
+        dataEngineCommonHandler.removeEntity(USER, GUID, ENTITY_TYPE_NAME);
+
+        assertNull(qualifiedNameCache.getGUID(ENTITY_TYPE_NAME, QUALIFIED_NAME));
+    }
+
     @Test
     void findEntity_throwsUserNotAuthorizedException() throws PropertyServerException, UserNotAuthorizedException,
                                                               InvocationTargetException, NoSuchMethodException, InstantiationException,
@@ -22,6 +22,8 @@ import org.odpi.openmetadata.accessservices.dataengine.model.Process;
 import org.odpi.openmetadata.accessservices.dataengine.model.SchemaType;
 import org.odpi.openmetadata.accessservices.dataengine.model.SoftwareServerCapability;
 import org.odpi.openmetadata.accessservices.dataengine.model.UpdateSemantic;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BulkRequestBody;
+import org.odpi.openmetadata.accessservices.dataengine.rest.BulkResponse;
 import org.odpi.openmetadata.accessservices.dataengine.rest.DataEngineRegistrationRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.LineageMappingsRequestBody;
 import org.odpi.openmetadata.accessservices.dataengine.rest.PortAliasRequestBody;
@@ -58,8 +60,10 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -597,6 +601,87 @@ class DataEngineRESTServicesTest {
         verify(restExceptionHandler, times(1)).captureUserNotAuthorizedException(any(GUIDResponse.class), eq(mockedException));
     }
 
+    @Test
+    void createProcess_FailedLineageMappingReportsProcessAsFailed() throws InvalidParameterException,
+                                                                            PropertyServerException,
+                                                                            UserNotAuthorizedException,
+                                                                            InvocationTargetException,
+                                                                            NoSuchMethodException,
+                                                                            InstantiationException,
+                                                                            IllegalAccessException {
+        mockSchemaTypeHandler("createOrUpdateSchemaType");
+        mockSchemaTypeHandler("addLineageMappings");
+        mockSchemaTypeHandler("addAnchorGUID");
+        mockPortHandler("createOrUpdatePortImplementationWithSchemaType");
+        mockPortHandler("createOrUpdatePortAliasWithDelegation");
+        mockProcessHandler("createOrUpdateProcess");
+        mockProcessHandler("updateProcessStatus");
+        mockProcessHandler("addProcessPortRelationships");
+
+        Process processWithLineageMapping = getProcess(Collections.singletonList(portImplementation), Collections.singletonList(portAlias),
+                Collections.singletonList(getLineageMapping()));
+
+        when(portHandler.createPortAlias(USER, portAlias, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+        when(processHandler.createProcess(USER, processWithLineageMapping, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+
+        InvalidParameterException mockedException = mockException(InvalidParameterException.class, "addLineageMappings");
+        doThrow(mockedException).when(dataEngineSchemaTypeHandler).addLineageMappingRelationship(USER, SOURCE_QUALIFIED_NAME, TARGET_QUALIFIED_NAME,
+                EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+        doAnswer(invocation -> {
+            invocation.<GUIDResponse>getArgument(0).setRelatedHTTPCode(mockedException.getReportedHTTPCode());
+            return null;
+        }).when(restExceptionHandler).captureInvalidParameterException(any(GUIDResponse.class), eq(mockedException));
+
+        ProcessesRequestBody requestBody = new ProcessesRequestBody();
+        requestBody.setProcesses(Collections.singletonList(processWithLineageMapping));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+
+        ProcessListResponse response = dataEngineRESTServices.createOrUpdateProcesses(USER, SERVER_NAME, requestBody);
+
+        assertTrue(response.getGUIDs().isEmpty());
+        assertEquals(1, response.getFailedGUIDs().size());
+        assertEquals(mockedException.getReportedHTTPCode(), response.getRelatedHTTPCode());
+        verify(processHandler, never()).updateProcessStatus(USER, GUID, InstanceStatus.ACTIVE);
+    }
+
+    @Test
+    void createOrUpdateBulk_FailedActivationReportsProcessAsFailed() throws InvalidParameterException,
+                                                                             PropertyServerException,
+                                                                             UserNotAuthorizedException,
+                                                                             InvocationTargetException,
+                                                                             NoSuchMethodException,
+                                                                             InstantiationException,
+                                                                             IllegalAccessException {
+        mockSchemaTypeHandler("createOrUpdateSchemaType");
+        mockSchemaTypeHandler("addAnchorGUID");
+        mockPortHandler("createOrUpdatePortImplementationWithSchemaType");
+        mockPortHandler("createOrUpdatePortAliasWithDelegation");
+        mockProcessHandler("createOrUpdateProcess");
+        mockProcessHandler("updateProcessStatus");
+        mockProcessHandler("addProcessPortRelationships");
+
+        when(portHandler.createPortAlias(USER, portAlias, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+        when(processHandler.createProcess(USER, process, EXTERNAL_SOURCE_DE_QUALIFIED_NAME)).thenReturn(GUID);
+
+        String methodName = "updateProcessStatus";
+        InvalidParameterException mockedException = mockException(InvalidParameterException.class, methodName);
+        doThrow(mockedException).when(processHandler).updateProcessStatus(USER, GUID, InstanceStatus.ACTIVE);
+        doAnswer(invocation -> {
+            invocation.<VoidResponse>getArgument(0).setRelatedHTTPCode(mockedException.getReportedHTTPCode());
+            return null;
+        }).when(restExceptionHandler).captureInvalidParameterException(any(VoidResponse.class), eq(mockedException));
+
+        BulkRequestBody requestBody = new BulkRequestBody();
+        requestBody.setProcesses(Collections.singletonList(process));
+        requestBody.setExternalSourceName(EXTERNAL_SOURCE_DE_QUALIFIED_NAME);
+
+        BulkResponse response = dataEngineRESTServices.createOrUpdateBulk(USER, SERVER_NAME, requestBody);
+
+        assertEquals(Collections.singletonList(QUALIFIED_NAME), response.getFailedQualifiedNames());
+        assertTrue(response.getGUIDs().isEmpty());
+        assertEquals(mockedException.getReportedHTTPCode(), response.getRelatedHTTPCode());
+    }
+
     @Test
     void updateProcess() throws InvalidParameterException, PropertyServerException, UserNotAuthorizedException {
         mockSchemaTypeHandler("createOrUpdateSchemaType");
@@ -0,0 +1,69 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.dataengine.server.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProcessIngestionExecutorTest {
+    private static final String SERVER_NAME = "serverName";
+
+    private final ProcessIngestionExecutor executor = new ProcessIngestionExecutor(SERVER_NAME, 4);
+
+    @AfterEach
+    void after() {
+        executor.shutdown();
+    }
+
+    @Test
+    void invokeAll_returnsResultsInTaskOrder() {
+        List<Callable<Integer>> tasks = IntStream.range(0, 100).<Callable<Integer>>mapToObj(i -> () -> {
+            Thread.sleep(100 - i);
+            return i;
+        }).collect(Collectors.toList());
+
+        List<Integer> results = executor.invokeAll(tasks);
+
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toList()), results);
+    }
+
+    @Test
+    void invokeAll_usesIngestionThreads() {
+        List<Callable<String>> tasks = new ArrayList<>(Collections.nCopies(2, () -> Thread.currentThread().getName()));
+
+        executor.invokeAll(tasks).forEach(threadName -> assertTrue(threadName.startsWith("DataEngine-" + SERVER_NAME + "-process-ingestion-")));
+    }
+
+    @Test
+    void invokeAll_onCallingThread() {
+        ProcessIngestionExecutor callingThreadExecutor = new ProcessIngestionExecutor();
+
+        List<String> results = callingThreadExecutor.invokeAll(Arrays.asList(() -> Thread.currentThread().getName(),
+                () -> Thread.currentThread().getName()));
+
+        assertEquals(Collections.nCopies(2, Thread.currentThread().getName()), results);
+    }
+
+    @Test
+    void invokeAll_rethrowsTaskException() {
+        List<Callable<String>> tasks = Arrays.asList(() -> "first", () -> {
+            throw new IllegalArgumentException("failed");
+        });
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> executor.invokeAll(tasks));
+
+        assertEquals("failed", thrown.getMessage());
+    }
+}
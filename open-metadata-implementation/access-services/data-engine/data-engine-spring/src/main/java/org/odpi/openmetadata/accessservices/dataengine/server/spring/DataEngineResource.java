@@ -162,4 +162,21 @@ public class DataEngineResource {
                                            @RequestBody LineageMappingsRequestBody lineageMappingsRequestBody) {
         return restAPI.addLineageMappings(userId, serverName, lineageMappingsRequestBody);
     }
+
+    /**
+     * Create or update the schema types, port implementations, port aliases, processes and lineage mappings of a job
+     * in a single call
+     *
+     * @param serverName      name of server instance to call
+     * @param userId          the name of the calling user
+     * @param bulkRequestBody the elements of the job
+     *
+     * @return the unique identifiers of the stored elements, keyed by qualified name
+     */
+    @PostMapping(path = "/bulk")
+    public BulkResponse createOrUpdateBulk(@PathVariable("userId") String userId,
+                                           @PathVariable("serverName") String serverName,
+                                           @RequestBody BulkRequestBody bulkRequestBody) {
+        return restAPI.createOrUpdateBulk(userId, serverName, bulkRequestBody);
+    }
 }
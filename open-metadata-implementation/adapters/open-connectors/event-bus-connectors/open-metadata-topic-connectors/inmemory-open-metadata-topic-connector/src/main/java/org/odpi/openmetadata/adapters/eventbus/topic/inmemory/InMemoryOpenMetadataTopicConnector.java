@@ -3,21 +3,18 @@
 package org.odpi.openmetadata.adapters.eventbus.topic.inmemory;
 
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.IncomingEvent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 
-import java.util.ArrayList;
-import java.util.List;
-
 
 /**
  * InMemoryOpenMetadataTopicConnector provides a concrete implementation of the OpenMetadataTopicConnector that
  * uses an in-memory list as the event/messaging infrastructure.  This connector is used internally
- * in the OMRS to pass events received on the OMRS Topic to the OMAS Topic Listeners.
+ * in the OMRS to pass events received on the OMRS Topic to the OMAS Topic Listeners.  Each event is handed
+ * straight to the listener thread of the connector rather than waiting for the next poll.
  */
 public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 {
-    private volatile List<String> inMemoryOMRSTopic = new ArrayList<>();
-
     /**
      * Constructor
      */
@@ -26,31 +23,6 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
         super();
     }
 
-    /**
-     * Supports putting events to the in memory OMRS Topic
-     *
-     * @param newEvent  event to publish
-     */
-    private synchronized void putEvent(String  newEvent)
-    {
-        inMemoryOMRSTopic.add(newEvent);
-    }
-
-
-    /**
-     * Returns all of the events found on the in memory OMRS Topic.
-     *
-     * @return list of received events.
-     */
-    private synchronized List<String> getEvents()
-    {
-        List<String>   receivedEvents = inMemoryOMRSTopic;
-        inMemoryOMRSTopic = new ArrayList<>();
-
-        return receivedEvents;
-    }
-
-
     /**
      * Sends the supplied event to the topic.
      *
@@ -58,19 +30,21 @@ public class InMemoryOpenMetadataTopicConnector extends OpenMetadataTopicConnect
      */
     public void sendEvent(String event)
     {
-        this.putEvent(event);
-
+        if (event != null)
+        {
+            super.deliverEvent(new IncomingEvent(event, String.valueOf(event.hashCode())));
+        }
     }
 
 
     /**
-     * Look to see if there is one of more new events to process.
+     * All events are handed to the listener thread as they are sent so there is no need to poll for them.
      *
-     * @return a list of received events or null
+     * @return false
      */
-    protected List<String> checkForEvents()
+    protected boolean isPollingRequired()
     {
-        return this.getEvents();
+        return false;
     }
 
 
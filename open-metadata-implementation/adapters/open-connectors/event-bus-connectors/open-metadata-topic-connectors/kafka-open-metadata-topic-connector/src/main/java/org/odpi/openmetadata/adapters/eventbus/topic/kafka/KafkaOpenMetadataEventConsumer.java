@@ -7,11 +7,17 @@ import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -20,6 +26,7 @@ import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.IncomingEventState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +35,13 @@ import org.slf4j.LoggerFactory;
 /**
  * KafkaOpenMetadataEventConsumer is used to process events from kafka topic and is part of native
  * Apache Kafka event/messaging infrastructure.
+ *
+ * The consumer thread polls Kafka and hands each event to one of a set of dispatcher threads that pass
+ * the event to the topic listeners.  All of the events from a partition are handled by the same dispatcher
+ * so they are delivered in the order they were published.  (Events are keyed by the publishing server, so
+ * this preserves the order of the events from each server.)  When a dispatcher falls behind, the partitions
+ * it serves are paused rather than stopping the poll loop.  If auto commit is disabled, the offset of each
+ * partition is committed asynchronously up to the last event that is fully processed.
  */
 public class KafkaOpenMetadataEventConsumer implements Runnable
 {
@@ -38,8 +52,9 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     private final long recoverySleepTimeSec; 
     private final long pollTimeout;
     private final long maxQueueSize;
+    private final int  workerThreads;
 
-    private              KafkaConsumer<String, String>   consumer;
+    private              Consumer<String, String>        consumer;
     private              String                          topicToSubscribe;
     private              String                          localServerId;
 
@@ -47,22 +62,15 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
 
     private Map<TopicPartition, OffsetAndMetadata> currentOffsets = Collections.synchronizedMap(new HashMap<>());
     private long nextMessageProcessingStatusCheckTime = System.currentTimeMillis();
-    private long maxNextPollTimestampToAvoidConsumerTimeout = 0;
-    private final long maxMsBetweenPolls;
-    
-    
-    //If we get close enough to the consumer timeout timestamp, force a poll so that
-    //we do not exceed the timeout.  This parameter controls how close we can get
-    //before forcing a poll.
-    private final long consumerTimeoutPreventionSafetyWindowMs;
     
     private final long messageProcessingStatusCheckIntervalMs;
     private final long messageProcessingTimeoutMs;
     private Map<TopicPartition, Queue<KafkaIncomingEvent>> unprocessedEventQueues = new HashMap<>();
-    
 
-    
-    private Boolean running = true;
+    private EventDispatcher[]   dispatchers;
+    private Set<TopicPartition> pausedPartitions = new HashSet<>();
+
+    private volatile boolean running = true;
     
     private final boolean isAutoCommitEnabled;
 
@@ -82,9 +90,32 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                                    Properties                                  kafkaConsumerProperties,
                                    KafkaOpenMetadataTopicConnector             connector,
                                    AuditLog                                    auditLog)
+    {
+        this(topicName, localServerId, config, kafkaConsumerProperties, new KafkaConsumer<>(kafkaConsumerProperties), connector, auditLog);
+    }
+
+
+    /**
+     * Constructor for the event consumer that is passed the Kafka consumer to poll.
+     *
+     * @param topicName name of the topic to listen on.
+     * @param localServerId identifier to enable receiver to identify that an event came from this server.
+     * @param config additional properties
+     * @param kafkaConsumerProperties properties for the consumer.
+     * @param consumer Kafka consumer configured with kafkaConsumerProperties
+     * @param connector connector holding the inbound listeners.
+     * @param auditLog  audit log for this component.
+     */
+    KafkaOpenMetadataEventConsumer(String                                      topicName,
+                                   String                                      localServerId,
+                                   KafkaOpenMetadataEventConsumerConfiguration config,
+                                   Properties                                  kafkaConsumerProperties,
+                                   Consumer<String, String>                    consumer,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   AuditLog                                    auditLog)
     {
         this.auditLog = auditLog;
-        this.consumer = new KafkaConsumer<>(kafkaConsumerProperties);
+        this.consumer = consumer;
         this.topicToSubscribe = topicName;
         this.consumer.subscribe(Collections.singletonList(topicToSubscribe), new HandleRebalance());
         this.connector = connector;
@@ -97,10 +128,9 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                                     (Integer.toString(kafkaConsumerProperties.size()), topicName),
                             kafkaConsumerProperties.toString());
         
-        maxMsBetweenPolls = new KafkaConfigurationWrapper(kafkaConsumerProperties).getMaxPollIntervalMs();
         this.recoverySleepTimeSec = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.RECOVERY_SLEEP_TIME);
         this.maxQueueSize = config.getIntProperty(KafkaOpenMetadataEventConsumerProperty.MAX_QUEUE_SIZE);
-        this.consumerTimeoutPreventionSafetyWindowMs = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.CONSUMER_TIMEOUT_PREVENTION_SAFETY_WINDOW_MS);
+        this.workerThreads = Math.max(config.getIntProperty(KafkaOpenMetadataEventConsumerProperty.CONSUMER_WORKER_THREADS), 1);
         this.pollTimeout = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.POLL_TIMEOUT);
         this.isAutoCommitEnabled = getBooleanProperty(kafkaConsumerProperties, KafkaOpenMetadataTopicConnector.ENABLE_AUTO_COMMIT_PROPERTY, false);
         this.messageProcessingStatusCheckIntervalMs = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.COMMIT_CHECK_INTERVAL_MS);
@@ -129,19 +159,16 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         }
     }
 
-    private void updateNextMaxPollTimestamp() {
-    	maxNextPollTimestampToAvoidConsumerTimeout = System.currentTimeMillis() + maxMsBetweenPolls - consumerTimeoutPreventionSafetyWindowMs;	
-    }
-     
-      /**
+    /**
      * This is the method that provides the behaviour of the thread.
      */
     @Override
     public void run()
     {
         final String           actionDescription = "run";
-        KafkaOpenMetadataTopicConnectorAuditCode auditCode;
-       
+
+        startDispatchers();
+
         while (isRunning())
         {
             try
@@ -150,26 +177,6 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                 //This needs to be done in the same thread since the Kafka consumer does
                 //not allow access by multiple threads
                 checkForFullyProcessedMessagesIfNeeded();
-                
-            	//if we are close to the timeout, force a poll to avoid having the consumer
-            	//be marked as dead because we have not polled often enough
-            	boolean pollRequired = System.currentTimeMillis() > maxNextPollTimestampToAvoidConsumerTimeout;
-            
-            
-                	
-            	int nUnprocessedEvents = connector.getNumberOfUnprocessedEvents();
-            	if (! pollRequired && nUnprocessedEvents > maxQueueSize)
-            	{
-            		//The connector queue is too big.  Wait until the size goes down until
-            		//polling again.  If we let the events just accumulate, we will
-            		//eventually run out of memory if the consumer cannot keep up.
-            		log.warn("Skipping Kafka polling since unprocessed message queue size {} is greater than {}", nUnprocessedEvents, maxQueueSize);
-            		awaitNextPollingTime();
-            		continue;
-            	
-            	}
-
-            	updateNextMaxPollTimestamp();
 
                 Duration pollDuration = Duration.ofMillis(pollTimeout);
                 ConsumerRecords<String, String> records = consumer.poll(pollDuration);
@@ -182,25 +189,8 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                     KafkaIncomingEvent event = new KafkaIncomingEvent(json, record.offset());
                     if (! localServerId.equals(record.key()))
                     {
-                        try
-                        {
-                            addUnprocessedEvent(record.partition(), record.topic(), event);
-                            connector.distributeToListeners(event);
-                        }
-                        catch (Exception error)
-                        {
-                            log.error(String.format("Error distributing inbound event: %s", error.getMessage()), error);
-
-                            if (auditLog != null)
-                            {
-                                auditLog.logException(actionDescription,
-                                                      KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_DISTRIBUTING_EVENT.getMessageDefinition
-                                                            (topicToSubscribe,
-                                                             error.getClass().getName(), json,
-                                                             error.getMessage()),
-                                                      error);
-                            }
-                        }
+                        addUnprocessedEvent(record.partition(), record.topic(), event);
+                        getDispatcher(record.partition()).queueEvent(event);
                     }
                     else
                     {
@@ -220,6 +210,8 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                     
                     }
                 }
+
+                applyBackPressure();
             }
             catch (WakeupException e)
             {
@@ -239,12 +231,10 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                 }
                 recoverAfterError();
             }
-            finally
-            {
-                awaitNextPollingTime();
-            }
         }
 
+        stopDispatchers();
+
         if (consumer != null)
         {
             try
@@ -329,7 +319,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         if (isAutoCommitEnabled) {
             return false;
         }
-        log.info("Checking for fully processed messages whose offsets need to be committed");
+        log.debug("Checking for fully processed messages whose offsets need to be committed");
 
         Map<TopicPartition, Queue<KafkaIncomingEvent>> mapToCheck = null;
         
@@ -356,8 +346,19 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         
         if (! commitData.isEmpty()) {
             currentOffsets.putAll(commitData);
-            log.info("Committing: " + commitData);
-            consumer.commitSync(commitData);
+            log.debug("Committing: " + commitData);
+            if (isRunning()) {
+                //The commit completes in the background - a failed commit is superseded
+                //by the next one, or by the synchronous commit at shutdown or rebalance
+                consumer.commitAsync(commitData, (offsets, error) -> {
+                    if (error != null) {
+                        log.warn("Unable to commit offsets " + offsets + ": " + error.getMessage());
+                    }
+                });
+            }
+            else {
+                consumer.commitSync(commitData);
+            }
             return true;
         }
         return false;
@@ -379,13 +380,13 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
             //The message at the beginning of the queue has been fully processed.  Remove
             //it from the queue and repeat the check.
             lastRemoved = queue.remove();
-            log.info("Message with offset " + lastRemoved.getOffset() + " has been fully processed.");
+            log.debug("Message with offset " + lastRemoved.getOffset() + " has been fully processed.");
         }
         KafkaIncomingEvent firstEvent = queue.peek();
         if (firstEvent != null) {
             //Queue is not empty, so we're waiting for the processing of first message in
             //the queue to finish
-            log.info("Waiting for completing of processing of message with offset " + firstEvent.getOffset());
+            log.debug("Waiting for completing of processing of message with offset " + firstEvent.getOffset());
         }
         return lastRemoved;
     }
@@ -437,16 +438,94 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         return result;
     }
 
-    private void awaitNextPollingTime() {
-		try
-		{
-		    Thread.sleep(1000);
-		}
-		catch (InterruptedException e)
-		{
-		    log.error(String.format("Interruption error: %s", e.getMessage()), e);
-		}
-	}
+    /**
+     * Start the dispatcher threads that pass events to the topic listeners.
+     */
+    private void startDispatchers()
+    {
+        dispatchers = new EventDispatcher[workerThreads];
+
+        for (int i = 0; i < workerThreads; i++)
+        {
+            dispatchers[i] = new EventDispatcher();
+
+            Thread dispatcherThread = new Thread(dispatchers[i], "Kafka-Dispatcher-" + topicToSubscribe + "-" + i);
+            dispatcherThread.setDaemon(true);
+            dispatchers[i].thread = dispatcherThread;
+            dispatcherThread.start();
+        }
+    }
+
+
+    /**
+     * Stop the dispatcher threads.  Each dispatcher finishes the event it is delivering.  Events still
+     * in the queues are not delivered.  If auto commit is disabled their offsets are not committed, so
+     * they are received again when the consumer restarts.
+     */
+    private void stopDispatchers()
+    {
+        if (dispatchers != null)
+        {
+            for (EventDispatcher dispatcher : dispatchers)
+            {
+                dispatcher.thread.interrupt();
+            }
+
+            for (EventDispatcher dispatcher : dispatchers)
+            {
+                try
+                {
+                    dispatcher.thread.join(pollTimeout);
+                }
+                catch (InterruptedException error)
+                {
+                    log.debug("Interrupted while stopping dispatchers", error);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the dispatcher that handles the events for a partition.
+     *
+     * @param partition partition number
+     * @return dispatcher
+     */
+    private EventDispatcher getDispatcher(int partition)
+    {
+        return dispatchers[Math.floorMod(partition, dispatchers.length)];
+    }
+
+
+    /**
+     * Pause the partitions whose dispatcher has too many events waiting, and resume the paused partitions
+     * whose dispatcher has worked through half of its backlog.  The consumer continues to poll while
+     * partitions are paused so Kafka does not treat it as dead.
+     */
+    private void applyBackPressure()
+    {
+        for (TopicPartition partition : consumer.assignment())
+        {
+            int backlog = getDispatcher(partition.partition()).getBacklog();
+
+            if (pausedPartitions.contains(partition))
+            {
+                if (backlog <= maxQueueSize / 2)
+                {
+                    log.debug("Resuming partition {} with dispatcher backlog {}", partition, backlog);
+                    consumer.resume(Collections.singleton(partition));
+                    pausedPartitions.remove(partition);
+                }
+            }
+            else if (backlog > maxQueueSize)
+            {
+                log.debug("Pausing partition {} since dispatcher backlog {} is greater than {}", partition, backlog, maxQueueSize);
+                consumer.pause(Collections.singleton(partition));
+                pausedPartitions.add(partition);
+            }
+        }
+    }
 
 
 
@@ -487,7 +566,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
      *
      * @return boolean
      */
-    private synchronized  boolean isRunning()
+    private boolean isRunning()
     {
         return running;
     }
@@ -496,7 +575,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     /**
      * Flip the switch to stop the thread.
      */
-    private synchronized void stopRunning()
+    private void stopRunning()
     {
         running = false;
     }
@@ -511,7 +590,93 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         public void onPartitionsRevoked(Collection<TopicPartition> partitions)
         {
             log.info("Lost partitions in rebalance. Committing current offsets:" + currentOffsets);
+            pausedPartitions.removeAll(partitions);
             consumer.commitSync(currentOffsets);
         }
     }
+
+
+    /**
+     * EventDispatcher passes the events from its queue to the topic listeners on its own thread.
+     */
+    private class EventDispatcher implements Runnable
+    {
+        private BlockingQueue<KafkaIncomingEvent> eventQueue = new LinkedBlockingQueue<>();
+        private AtomicInteger                     backlog    = new AtomicInteger(0);
+        private Thread                            thread     = null;
+
+
+        /**
+         * Add an event to the queue.  The queue is not bounded - the consumer pauses the partitions
+         * when the backlog is too large.
+         *
+         * @param event event to deliver
+         */
+        void queueEvent(KafkaIncomingEvent event)
+        {
+            backlog.incrementAndGet();
+            eventQueue.add(event);
+        }
+
+
+        /**
+         * Return the number of events waiting to be delivered.
+         *
+         * @return count
+         */
+        int getBacklog()
+        {
+            return backlog.get();
+        }
+
+
+        /**
+         * Deliver events until the consumer stops.  An error from an event does not stop the dispatcher,
+         * since no other thread would deliver the events for its partitions and they would stay paused.
+         * The failed event is treated as processed so the offsets committed for its partition can move on.
+         */
+        @Override
+        public void run()
+        {
+            final String actionDescription = "dispatchEvent";
+
+            while (isRunning())
+            {
+                KafkaIncomingEvent event;
+
+                try
+                {
+                    event = eventQueue.take();
+                }
+                catch (InterruptedException error)
+                {
+                    log.debug("Dispatcher interrupted", error);
+                    continue;
+                }
+
+                backlog.decrementAndGet();
+
+                try
+                {
+                    connector.distributeToListeners(event);
+                }
+                catch (Throwable error)
+                {
+                    event.setState(IncomingEventState.DISTRIBUTED_TO_ALL_TOPIC_LISTENERS);
+
+                    log.error(String.format("Error distributing inbound event: %s", error.getMessage()), error);
+
+                    if (auditLog != null)
+                    {
+                        auditLog.logException(actionDescription,
+                                              KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_DISTRIBUTING_EVENT.getMessageDefinition
+                                                    (topicToSubscribe,
+                                                     error.getClass().getName(), event.getJson(),
+                                                     error.getMessage()),
+                                              error);
+                    }
+                }
+            }
+        }
+    }
 }
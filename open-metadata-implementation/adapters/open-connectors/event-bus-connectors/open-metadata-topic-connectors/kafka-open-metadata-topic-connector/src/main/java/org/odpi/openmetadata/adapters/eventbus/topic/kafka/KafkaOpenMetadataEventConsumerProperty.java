@@ -9,19 +9,23 @@ package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 public enum KafkaOpenMetadataEventConsumerProperty
 {
 	/*
-	 * Controls the maximum size of the unprocessed kafka event queue. When this
-	 * size is reached, we will not poll for additional events unless a poll is
-	 * required to prevent Kafka from treating the consumer as dead.
+	 * Controls the maximum number of events waiting for each dispatcher thread. When this
+	 * size is reached, the partitions served by the dispatcher are paused until its backlog
+	 * has halved.  The consumer keeps polling while partitions are paused so Kafka does not
+	 * treat it as dead.
 	 */
 	MAX_QUEUE_SIZE("event_bus_max_queue_size", "100"),
 	
 	/*
-	 * In order to ensure that Kafka does not treat our consumer as dead, we need to
-	 * poll for messages within some configured maximum poll interval. To make sure
-	 * this happens, when we are deciding whether or not to poll Kafka we need to
-	 * see how close we are to the time when we will exceed that maximum poll
-	 * interval. If we are close enough, then we force a poll to avoid having the consumer die. 
-	 * This parameter controls how close to the timeout we need to do be in order to force a poll.
+	 * The number of dispatcher threads that pass events to the topic listeners.  Each partition
+	 * is served by a single dispatcher thread so the events from a partition are delivered in order.
+	 */
+	CONSUMER_WORKER_THREADS("consumer_worker_threads", "4"),
+	
+	/*
+	 * This property is no longer used since the consumer polls continuously and pauses
+	 * partitions rather than skipping polls.  It is retained so existing configuration
+	 * remains valid.
 	 * 
 	 * The value provided as a number of milliseconds.
 	 */
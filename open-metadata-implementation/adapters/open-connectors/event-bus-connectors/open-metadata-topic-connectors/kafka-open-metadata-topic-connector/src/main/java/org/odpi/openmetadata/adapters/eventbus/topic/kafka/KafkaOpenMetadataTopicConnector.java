@@ -44,8 +44,6 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     private String       serverId           = null;
 
     /* this buffer is for consumed events */
-    private List<IncomingEvent> incomingEventsList = Collections.synchronizedList(new ArrayList<>());
-
     private KafkaProducerExecutor executor = null;
 
     final String                   threadHeader = "Kafka-";
@@ -282,39 +280,26 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
 
     /**
-     * Look to see if there is one of more new events to process.
+     * Distribute events to other listeners.  This is called on the consumer's dispatcher threads.
      *
-     * @return a list of received events or null
+     * @param event object containing the event properties.
      */
-    @Override
-    protected List<IncomingEvent> checkForIncomingEvents()
+    void distributeToListeners(IncomingEvent event)
     {
-        List<IncomingEvent> newEvents = null;
-
-        // This method is called periodically from a independent thread managed by OpenMetadataTopic
-        // (superclass) so it should not block.
-
-        if ((incomingEventsList != null) && (!incomingEventsList.isEmpty()))
-        {
-            log.debug("Checking for events.  Number of found events: {0}", incomingEventsList.size());
-            newEvents = new ArrayList<>(incomingEventsList);
-
-            // empty incomingEventsList otherwise same events will be sent again
-            incomingEventsList.removeAll(newEvents);
-        }
-
-        return newEvents;
+        log.debug("distribute event to listeners" + event);
+        super.distributeEvent(event);
     }
 
+
     /**
-     * Distribute events to other listeners.
+     * The consumer's dispatcher threads pass every event to the listeners so the listener thread of the
+     * base class does not need to poll for events.
      *
-     * @param event object containing the event properties.
+     * @return false
      */
-    void distributeToListeners(IncomingEvent event)
+    protected boolean isPollingRequired()
     {
-        log.debug("distribute event to listeners" + event);
-        incomingEventsList.add(event);
+        return false;
     }
 
 
@@ -334,15 +319,6 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
         auditLog.logMessage(actionDescription, KafkaOpenMetadataTopicConnectorAuditCode.SERVICE_SHUTDOWN.getMessageDefinition(topicName));
     }
-    
-    /**
-     * Gets the number of events that have not been processed yet.
-     * 
-     * @return int
-     */
-    int getNumberOfUnprocessedEvents() {
-    	return incomingEventsList.size();
-    }
 
     private class KafkaStatusChecker {
 
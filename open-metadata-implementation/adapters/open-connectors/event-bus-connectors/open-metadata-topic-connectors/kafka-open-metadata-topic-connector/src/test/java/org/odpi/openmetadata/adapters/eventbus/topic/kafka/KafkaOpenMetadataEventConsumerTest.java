@@ -0,0 +1,330 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.IncomingEvent;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Test the dispatching of events, the pausing and resuming of partitions and the committing of
+ * offsets by the Kafka event consumer.  The consumer polls a MockConsumer so no Kafka broker is needed.
+ */
+public class KafkaOpenMetadataEventConsumerTest
+{
+    private static final String         topicName = "testTopic";
+    private static final TopicPartition partition = new TopicPartition(topicName, 0);
+    private static final long           timeout   = 5000;
+
+    private MockConsumer<String, String>   mockConsumer;
+    private List<String>                   deliveredEvents;
+    private CountDownLatch                 releaseListener;
+    private KafkaOpenMetadataEventConsumer eventConsumer;
+    private Thread                         consumerThread;
+    private long                           nextOffset;
+
+
+    /**
+     * Set up a mock Kafka consumer that is assigned a single partition.
+     */
+    @BeforeMethod
+    public void setUpConsumer()
+    {
+        mockConsumer    = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        deliveredEvents = new CopyOnWriteArrayList<>();
+        releaseListener = new CountDownLatch(1);
+        eventConsumer   = null;
+        consumerThread  = null;
+        nextOffset      = 0;
+
+        mockConsumer.subscribe(Collections.singletonList(topicName));
+        mockConsumer.rebalance(Collections.singletonList(partition));
+        mockConsumer.updateBeginningOffsets(Collections.singletonMap(partition, 0L));
+    }
+
+
+    /**
+     * Stop the consumer under test.
+     *
+     * @throws Exception the test failed
+     */
+    @AfterMethod
+    public void tearDownConsumer() throws Exception
+    {
+        releaseListener.countDown();
+
+        if (eventConsumer != null)
+        {
+            eventConsumer.stop();
+            consumerThread.join(timeout);
+        }
+    }
+
+
+    /**
+     * An error thrown while an event is distributed does not stop the dispatcher.  The following events
+     * are delivered and the offsets committed for the partition move past the failed event.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testDispatcherSurvivesError() throws Exception
+    {
+        publishEvents("remoteServer", "event-0", "event-1", "event-2");
+        startConsumer(100, event ->
+        {
+            if ("event-0".equals(event.getJson()))
+            {
+                throw new StackOverflowError("Test error");
+            }
+        });
+
+        assertTrue(waitFor(() -> deliveredEvents.size() == 3));
+        assertTrue(waitFor(() -> getCommittedOffset() == 3));
+        assertTrue(consumerThread.isAlive());
+    }
+
+
+    /**
+     * The partition is paused when its dispatcher falls behind and resumed once it has caught up.
+     * The offsets are only committed up to the last event that has been fully processed.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testPauseAndResume() throws Exception
+    {
+        CountDownLatch firstEventDelivered = new CountDownLatch(1);
+
+        publishEvents("remoteServer", "event-0", "event-1", "event-2", "event-3", "event-4", "event-5");
+        startConsumer(2, event ->
+        {
+            if ("event-1".equals(event.getJson()))
+            {
+                firstEventDelivered.countDown();
+                awaitRelease();
+            }
+        });
+
+        assertTrue(firstEventDelivered.await(timeout, TimeUnit.MILLISECONDS));
+        assertTrue(waitFor(() -> isPaused()));
+        assertTrue(waitFor(() -> getCommittedOffset() == 1));
+
+        /*
+         * The committed offset does not move while the dispatcher is blocked.
+         */
+        Thread.sleep(100);
+        assertEquals(getCommittedOffset(), 1);
+        assertTrue(isPaused());
+
+        releaseListener.countDown();
+
+        assertTrue(waitFor(() -> ! isPaused()));
+        assertTrue(waitFor(() -> deliveredEvents.size() == 6));
+        assertTrue(waitFor(() -> getCommittedOffset() == 6));
+    }
+
+
+    /**
+     * Events published by the local server are not delivered, but their offsets are still passed.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testLocalEventsIgnored() throws Exception
+    {
+        publishEvents("localServer", "local-event");
+        publishEvents("remoteServer", "remote-event");
+        startConsumer(100, event -> { });
+
+        assertTrue(waitFor(() -> deliveredEvents.size() == 1));
+        assertEquals(deliveredEvents, Collections.singletonList("remote-event"));
+        assertTrue(waitFor(() -> getCommittedOffset() == 2));
+    }
+
+
+    /**
+     * Add events to the partition.
+     *
+     * @param serverId identifier of the server that published the events
+     * @param events content of the events
+     */
+    private void publishEvents(String    serverId,
+                               String... events)
+    {
+        for (String event : events)
+        {
+            mockConsumer.addRecord(new ConsumerRecord<>(topicName, 0, nextOffset++, serverId, event));
+        }
+    }
+
+
+    /**
+     * Start the consumer under test with a single dispatcher.
+     *
+     * @param maxQueueSize size of the dispatcher backlog that causes the partition to be paused
+     * @param listenerAction action run for each event before it is passed to the listeners
+     */
+    private void startConsumer(int            maxQueueSize,
+                               ListenerAction listenerAction)
+    {
+        Properties egeriaProperties = new Properties();
+
+        egeriaProperties.setProperty(KafkaOpenMetadataEventConsumerProperty.MAX_QUEUE_SIZE.getPropertyName(), Integer.toString(maxQueueSize));
+        egeriaProperties.setProperty(KafkaOpenMetadataEventConsumerProperty.CONSUMER_WORKER_THREADS.getPropertyName(), "1");
+        egeriaProperties.setProperty(KafkaOpenMetadataEventConsumerProperty.POLL_TIMEOUT.getPropertyName(), "10");
+        egeriaProperties.setProperty(KafkaOpenMetadataEventConsumerProperty.COMMIT_CHECK_INTERVAL_MS.getPropertyName(), "10");
+
+        AuditLog auditLog = new AuditLog(new AuditLogDestination(Collections.emptyMap())
+                                         {
+                                             public void addLogRecord(AuditLogRecord logRecord)
+                                             {
+                                             }
+                                         },
+                                         0,
+                                         "TestKafkaConsumer",
+                                         "Test Kafka consumer",
+                                         null);
+
+        eventConsumer = new KafkaOpenMetadataEventConsumer(topicName,
+                                                           "localServer",
+                                                           new KafkaOpenMetadataEventConsumerConfiguration(egeriaProperties, auditLog),
+                                                           new Properties(),
+                                                           mockConsumer,
+                                                           new TestTopicConnector(listenerAction),
+                                                           auditLog);
+
+        consumerThread = new Thread(eventConsumer, "TestKafkaConsumer");
+        consumerThread.start();
+    }
+
+
+    /**
+     * Return whether the partition is paused.
+     *
+     * @return boolean
+     */
+    private boolean isPaused()
+    {
+        return mockConsumer.paused().contains(partition);
+    }
+
+
+    /**
+     * Return the offset committed for the partition.
+     *
+     * @return offset (-1 if none is committed)
+     */
+    private long getCommittedOffset()
+    {
+        Map<TopicPartition, OffsetAndMetadata> committed = mockConsumer.committed(Collections.singleton(partition));
+        OffsetAndMetadata                      offset    = committed.get(partition);
+
+        return (offset == null) ? -1 : offset.offset();
+    }
+
+
+    /**
+     * Wait for a condition to become true.
+     *
+     * @param condition condition to test
+     * @return whether the condition became true before the timeout
+     * @throws InterruptedException the test was interrupted
+     */
+    private boolean waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + timeout;
+
+        while (System.currentTimeMillis() < deadline)
+        {
+            if (condition.getAsBoolean())
+            {
+                return true;
+            }
+
+            Thread.sleep(10);
+        }
+
+        return condition.getAsBoolean();
+    }
+
+
+    /**
+     * Hold the dispatcher until the test releases it.
+     */
+    private void awaitRelease()
+    {
+        try
+        {
+            releaseListener.await(timeout, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    /**
+     * Action run by the test connector when an event is distributed.
+     */
+    private interface ListenerAction
+    {
+        void processEvent(IncomingEvent event);
+    }
+
+
+    /**
+     * TestTopicConnector records the events it is asked to distribute.
+     */
+    private class TestTopicConnector extends KafkaOpenMetadataTopicConnector
+    {
+        private final ListenerAction listenerAction;
+
+
+        /**
+         * Constructor takes the action to run for each event.
+         *
+         * @param listenerAction action
+         */
+        TestTopicConnector(ListenerAction listenerAction)
+        {
+            this.listenerAction = listenerAction;
+        }
+
+
+        /**
+         * Record the event, run the action and pass the event to the (empty) list of listeners.
+         *
+         * @param event event to distribute
+         */
+        void distributeToListeners(IncomingEvent event)
+        {
+            deliveredEvents.add(event.getJson());
+            listenerAction.processEvent(event);
+            super.distributeToListeners(event);
+        }
+    }
+}
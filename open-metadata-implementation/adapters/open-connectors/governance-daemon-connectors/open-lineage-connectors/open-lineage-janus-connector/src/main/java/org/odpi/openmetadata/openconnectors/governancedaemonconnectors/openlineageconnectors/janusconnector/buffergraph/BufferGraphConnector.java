@@ -13,28 +13,75 @@ import org.odpi.openmetadata.accessservices.assetlineage.model.LineageEntity;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.governanceservers.openlineage.buffergraph.BufferGraphConnectorBase;
 import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
+import org.odpi.openmetadata.governanceservers.openlineage.model.BufferGraphStatistics;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.factory.GraphFactory;
+import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph.LineageQueryCache;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.JanusConnectorErrorCode;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.model.ffdc.JanusConnectorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.*;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.*;
 
+/**
+ * The buffer graph holds the lineage events received from Asset Lineage and maps the column level lineage of
+ * processes into the main graph.  The processes touched by incoming events are recorded as dirty and the
+ * scheduler task only maps those, so each run costs time proportional to what has changed rather than to the
+ * size of the buffer graph.  The first run after start up maps every process because changes made before
+ * the server stopped may not have been mapped.
+ *
+ * The mapping runs as a pipeline.  The paths from each process's input columns to its output columns are found
+ * by a pool of threads, each working on a batch of processes in its own buffer graph transaction.  The column
+ * mappings are then written to the main graph by the scheduler thread in the order the batches were submitted,
+ * so there is only one writer to the main graph.
+ *
+ * When a batch fails, its processes are mapped one at a time so that a single bad process does not hold back the
+ * rest of the batch.  A process that still fails is retried on later runs, waiting twice as long after each failure.
+ * Once it has failed more than the retry limit it is quarantined and is not tried again until a lineage event
+ * changes it.
+ */
 public class BufferGraphConnector extends BufferGraphConnectorBase {
 
     private static final Logger log = LoggerFactory.getLogger(BufferGraphConnector.class);
+    private static final String MAPPING_THREADS_PROPERTY = "mappingThreads";
+    private static final String MAPPING_BATCH_SIZE_PROPERTY = "mappingBatchSize";
+    private static final String MAPPING_RETRY_LIMIT_PROPERTY = "mappingRetryLimit";
+    private static final String MAPPING_RETRY_DELAY_PROPERTY = "mappingRetryDelay";
+    private static final int DEFAULT_MAPPING_THREADS = 4;
+    private static final int DEFAULT_MAPPING_BATCH_SIZE = 50;
+    private static final int DEFAULT_MAPPING_RETRY_LIMIT = 5;
+    private static final int DEFAULT_MAPPING_RETRY_DELAY = 60000;
+
     private JanusGraph bufferGraph;
     private GraphVertexMapper graphVertexMapper = new GraphVertexMapper();
     private JanusGraph mainGraph;
 
+    private final Map<String, Long> dirtyProcesses = new ConcurrentSkipListMap<>();
+    private final Map<String, MappingFailure> failedProcesses = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> quarantinedProcesses = new ConcurrentSkipListMap<>();
+    private final AtomicLong remappedProcessCount = new AtomicLong();
+    private volatile long oldestProcessInFlight = 0;
+    private volatile boolean fullScanRequired = true;
+    private int mappingBatchSize = DEFAULT_MAPPING_BATCH_SIZE;
+    private int mappingRetryLimit = DEFAULT_MAPPING_RETRY_LIMIT;
+    private long mappingRetryDelay = DEFAULT_MAPPING_RETRY_DELAY;
+    private ExecutorService mappingExecutor;
+
     /**
      * Instantiates the graph based on the configuration passed.
      *
@@ -42,7 +89,7 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
     public void initializeGraphDB() throws OpenLineageException {
         GraphFactory graphFactory = new GraphFactory();
         try {
-            this.bufferGraph = graphFactory.openGraph(connectionProperties);
+            initializeGraphDB(graphFactory.openGraph(connectionProperties));
         } catch (JanusConnectorException error) {
             log.error("The Buffer graph could not be initialized due to an error", error);
             throw new OpenLineageException(500,
@@ -55,6 +102,20 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
         }
     }
 
+    /**
+     * Sets up the mapping pipeline for the buffer graph using the configuration properties of the connection.
+     * @param bufferGraph - the opened buffer graph
+     */
+    void initializeGraphDB(JanusGraph bufferGraph) {
+        this.bufferGraph = bufferGraph;
+
+        int mappingThreads = getIntegerProperty(MAPPING_THREADS_PROPERTY, DEFAULT_MAPPING_THREADS);
+        this.mappingBatchSize = getIntegerProperty(MAPPING_BATCH_SIZE_PROPERTY, DEFAULT_MAPPING_BATCH_SIZE);
+        this.mappingRetryLimit = getIntegerProperty(MAPPING_RETRY_LIMIT_PROPERTY, DEFAULT_MAPPING_RETRY_LIMIT);
+        this.mappingRetryDelay = getIntegerProperty(MAPPING_RETRY_DELAY_PROPERTY, DEFAULT_MAPPING_RETRY_DELAY);
+        this.mappingExecutor = Executors.newFixedThreadPool(mappingThreads);
+    }
+
     /**
      * Retrieves the mainGraph instance.
      *
@@ -65,18 +126,245 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
     }
 
 
+    /**
+     * Reads a positive integer from the configuration properties of the connection.
+     * @param propertyName - name of the property
+     * @param defaultValue - value to use if the property is not set or is not valid
+     * @return property value
+     */
+    private int getIntegerProperty(String propertyName, int defaultValue) {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null && configurationProperties.get(propertyName) != null) {
+            try {
+                int value = Integer.parseInt(configurationProperties.get(propertyName).toString());
+                if (value > 0) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                log.error("Configuration property {} is not a number, using {}", propertyName, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
     @Override
     public void schedulerTask(){
+        long startTime = System.currentTimeMillis();
+        Map<String, Long> processesToMap = takeDirtyProcesses();
+
+        if (processesToMap.isEmpty()) {
+            return;
+        }
+
+        oldestProcessInFlight = processesToMap.values().stream().min(Long::compare).orElse(startTime);
+
+        List<String> guidList = new ArrayList<>(processesToMap.keySet());
+        List<List<String>> batches = new ArrayList<>();
+        List<Future<List<ColumnMapping>>> batchResults = new ArrayList<>();
+
+        for (int i = 0; i < guidList.size(); i += mappingBatchSize) {
+            List<String> batch = guidList.subList(i, Math.min(i + mappingBatchSize, guidList.size()));
+            batches.add(batch);
+            batchResults.add(mappingExecutor.submit(() -> findColumnMappings(batch)));
+        }
+
+        long mappedProcesses = 0;
+        for (int i = 0; i < batches.size(); i++) {
+            List<String> batch = batches.get(i);
+            try {
+                mapBatchToMainGraph(batchResults.get(i).get());
+                mappedProcesses += batch.size();
+                batch.forEach(failedProcesses::remove);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(guid -> markProcessDirty(guid, processesToMap.get(guid)));
+            } catch (Exception e) {
+                log.error("Something went wrong when trying to map a batch of processes from bufferGraph to the mainGraph. The error is {}", e.getMessage());
+                mappedProcesses += mapProcessesSeparately(batch, processesToMap);
+            }
+        }
+
+        remappedProcessCount.addAndGet(mappedProcesses);
+        oldestProcessInFlight = 0;
+
+        log.debug("Mapped {} of {} changed processes to the mainGraph in {} ms, {}",
+                mappedProcesses, processesToMap.size(), System.currentTimeMillis() - startTime, getMappingStatistics());
+    }
+
+    @Override
+    public BufferGraphStatistics getMappingStatistics() {
+        BufferGraphStatistics statistics = new BufferGraphStatistics();
+
+        statistics.setMappedProcessCount(remappedProcessCount.get());
+        statistics.setPendingProcessCount(dirtyProcesses.size());
+        statistics.setRetryingProcessCount(failedProcesses.size());
+        statistics.setQuarantinedProcesses(new ArrayList<>(quarantinedProcesses.keySet()));
+        statistics.setMappingLag(getMappingLag());
+
+        return statistics;
+    }
+
+    /**
+     * Returns the time that the oldest change waiting to be mapped to the main graph has been waiting.  The
+     * quarantined processes are not waiting so they are not included.
+     * @return lag in milliseconds, 0 if there are no changes waiting
+     */
+    private long getMappingLag() {
+        long oldestChange = oldestProcessInFlight;
+
+        for (Long changeTime : dirtyProcesses.values()) {
+            if (oldestChange == 0 || changeTime < oldestChange) {
+                oldestChange = changeTime;
+            }
+        }
+
+        return oldestChange == 0 ? 0 : System.currentTimeMillis() - oldestChange;
+    }
+
+    /**
+     * Removes the dirty processes so they can be mapped.  On the first run every process in the buffer graph is
+     * returned.  Processes that failed on an earlier run are left in the dirty set until their retry time.
+     * @return map of process guid to the time it was first changed
+     */
+    private Map<String, Long> takeDirtyProcesses() {
+        Map<String, Long> processesToMap = new HashMap<>();
+        long now = System.currentTimeMillis();
+
+        if (fullScanRequired) {
+            GraphTraversalSource g = bufferGraph.traversal();
+            try {
+                g.V().has(PROPERTY_KEY_LABEL, PROCESS).values(PROPERTY_KEY_ENTITY_GUID)
+                        .forEachRemaining(guid -> processesToMap.put((String) guid, now));
+                g.tx().commit();
+                fullScanRequired = false;
+            } catch (Exception e) {
+                log.error("Something went wrong when trying to find the processes in bufferGraph. The error is {}", e.getMessage());
+                g.tx().rollback();
+            }
+        }
+
+        for (String guid : dirtyProcesses.keySet()) {
+            MappingFailure mappingFailure = failedProcesses.get(guid);
+            if (mappingFailure != null && mappingFailure.nextAttemptTime > now) {
+                continue;
+            }
+            Long changeTime = dirtyProcesses.remove(guid);
+            if (changeTime != null) {
+                processesToMap.merge(guid, changeTime, Math::min);
+            }
+        }
+        return processesToMap;
+    }
+
+    /**
+     * Records that a process needs to be mapped to the main graph.  The time of the earliest unmapped change
+     * is kept so the lag can be measured.
+     * @param guid - The unique identifier of a Process
+     * @param changeTime - time of the change
+     */
+    private void markProcessDirty(String guid, long changeTime) {
+        dirtyProcesses.merge(guid, changeTime, Math::min);
+    }
+
+    /**
+     * Records that a lineage event has changed a process.  A process that failed to map may map now that it has
+     * changed, so it is released from quarantine and its failures are forgotten.
+     * @param guid - The unique identifier of a Process
+     * @param changeTime - time of the change
+     */
+    private void markProcessChanged(String guid, long changeTime) {
+        failedProcesses.remove(guid);
+        quarantinedProcesses.remove(guid);
+        markProcessDirty(guid, changeTime);
+    }
+
+    /**
+     * Maps the processes of a failed batch one at a time so only the processes that fail themselves are retried.
+     * This runs on the scheduler thread so there is still only one writer to the main graph.
+     * @param batch - unique identifiers of the processes
+     * @param processesToMap - map of process guid to the time it was first changed
+     * @return number of processes mapped
+     */
+    private long mapProcessesSeparately(List<String> batch, Map<String, Long> processesToMap) {
+        long mappedProcesses = 0;
+        for (String guid : batch) {
+            try {
+                mapBatchToMainGraph(findColumnMappings(Collections.singletonList(guid)));
+                failedProcesses.remove(guid);
+                mappedProcesses++;
+            } catch (RuntimeException e) {
+                recordMappingFailure(guid, processesToMap.get(guid), e);
+            }
+        }
+        return mappedProcesses;
+    }
+
+    /**
+     * Records that a process failed to map.  The process is returned to the dirty set to be retried after a delay
+     * that doubles with each failure, or is quarantined once it has failed more than the retry limit.
+     * @param guid - The unique identifier of a Process
+     * @param changeTime - time the process was first changed
+     * @param error - the reason the process failed to map
+     */
+    private void recordMappingFailure(String guid, long changeTime, Exception error) {
+        MappingFailure mappingFailure = failedProcesses.computeIfAbsent(guid, key -> new MappingFailure());
+        mappingFailure.failureCount++;
+
+        if (mappingFailure.failureCount > mappingRetryLimit) {
+            failedProcesses.remove(guid);
+            quarantinedProcesses.put(guid, changeTime);
+            log.error("Process {} failed to map to the mainGraph {} times and is quarantined until it changes. The error is {}",
+                    guid, mappingFailure.failureCount, error.getMessage());
+            return;
+        }
+
+        long retryDelay = mappingRetryDelay << Math.min(mappingFailure.failureCount - 1, 30);
+        mappingFailure.nextAttemptTime = System.currentTimeMillis() + retryDelay;
+        markProcessDirty(guid, changeTime);
+        log.error("Process {} failed to map to the mainGraph and will be retried in {} ms. The error is {}",
+                guid, retryDelay, error.getMessage());
+    }
+
+    /**
+     * Finds the column mappings of a batch of processes.  This runs on the mapping threads and uses a separate
+     * buffer graph transaction for each batch.
+     * @param batch - unique identifiers of the processes
+     * @return list of column mappings
+     */
+    private List<ColumnMapping> findColumnMappings(List<String> batch) {
         GraphTraversalSource g = bufferGraph.traversal();
+        List<ColumnMapping> columnMappings = new ArrayList<>();
         try {
-            List<Vertex> vertices = g.V().has(PROPERTY_KEY_LABEL, "Process").toList();
-            List<String> guidList = vertices.stream().map(v -> (String) v.property(PROPERTY_KEY_ENTITY_GUID).value()).collect(Collectors.toList());
+            batch.forEach(process -> findInputColumns(g, process, columnMappings));
+            g.tx().commit();
+        } catch (RuntimeException e) {
+            g.tx().rollback();
+            throw e;
+        }
+        return columnMappings;
+    }
 
-            guidList.forEach(process -> findInputColumns(g,process));
+    /**
+     * Writes the column mappings of a batch of processes to the main graph.
+     * @param columnMappings - column mappings found in the buffer graph
+     */
+    private void mapBatchToMainGraph(List<ColumnMapping> columnMappings) {
+        GraphTraversalSource g = bufferGraph.traversal();
+        MainGraphMapper mainGraphMapper = new MainGraphMapper(bufferGraph, mainGraph);
+        try {
+            for (ColumnMapping columnMapping : columnMappings) {
+                Iterator<Vertex> process = g.V().has(PROPERTY_KEY_ENTITY_GUID, columnMapping.processGuid);
+                if (process.hasNext()) {
+                    mainGraphMapper.checkBufferGraph(columnMapping.columnInGuid, columnMapping.columnOutGuid, process.next());
+                }
+            }
             g.tx().commit();
-        }catch (Exception e){
-            log.error("Something went wrong when trying to map a process from bufferGraph to the mainGraph. The error is {}",e.getMessage());
+        } catch (RuntimeException e) {
             g.tx().rollback();
+            throw e;
+        } finally {
+            LineageQueryCache.graphChanged(mainGraph);
         }
     }
 
@@ -84,8 +372,9 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
      * Finds the paths to the input columns from all the processes in the graph.
      * @param g - Graph traversal object
      * @param guid - The unique identifier of a Process
+     * @param columnMappings - list to add the column mappings of the process to
      */
-    private void findInputColumns(GraphTraversalSource g,String guid) {
+    private void findInputColumns(GraphTraversalSource g,String guid,List<ColumnMapping> columnMappings) {
             List<Vertex> inputPathsForColumns = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).out(PROCESS_PORT).out(PORT_DELEGATION)
                     .has(PORT_IMPLEMENTATION, PROPERTY_NAME_PORT_TYPE, "INPUT_PORT")
                     .out(PORT_SCHEMA).in(ATTRIBUTE_FOR_SCHEMA).out(LINEAGE_MAPPING)
@@ -94,7 +383,7 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
                             __.out(NESTED_SCHEMA_ATTRIBUTE).has(PROPERTY_KEY_LABEL,RELATIONAL_TABLE)).toList();
 
         Vertex process = g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).next();
-        inputPathsForColumns.forEach(columnIn -> findOutputColumn(g, columnIn, process));
+        inputPathsForColumns.forEach(columnIn -> findOutputColumn(g, columnIn, process, columnMappings));
     }
 
     /**
@@ -102,8 +391,9 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
      * @param g - Graph traversal object
      * @param columnIn - THe vertex of the schema element before processing.
      * @param process - The vertex of the process.
+     * @param columnMappings - list to add the column mapping to
      */
-    private void findOutputColumn(GraphTraversalSource g,Vertex columnIn,Vertex process){
+    private void findOutputColumn(GraphTraversalSource g,Vertex columnIn,Vertex process,List<ColumnMapping> columnMappings){
         List<Vertex> schemaElementVertex = g.V()
                                             .has(PROPERTY_KEY_ENTITY_GUID, columnIn.property(PROPERTY_KEY_ENTITY_GUID).value())
                                             .in(LINEAGE_MAPPING)
@@ -116,7 +406,7 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
             if (vertexToStart != null) {
                 columnOut = findPathForOutputAsset(vertexToStart, g, columnIn);
             }
-            moveColumnProcessColumn(columnIn, columnOut, process);
+            addColumnMapping(columnIn, columnOut, process, columnMappings);
         }
     }
 
@@ -146,18 +436,18 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
     }
 
     /**
-     * Initiates the process of copying the input and output vertices to the MainGraph.
+     * Records the input and output columns of a process so they can be copied to the MainGraph.
      * @param columnIn - The vertex of the input schema element
      * @param columnOut - THe vertex of the output schema element
      * @param process - The vertex of the process.
+     * @param columnMappings - list to add the column mapping to
      */
-    private void moveColumnProcessColumn(Vertex columnIn,Vertex columnOut,Vertex process){
+    private void addColumnMapping(Vertex columnIn,Vertex columnOut,Vertex process,List<ColumnMapping> columnMappings){
         if (columnOut != null) {
             String columnOutGuid = columnOut.values(PROPERTY_KEY_ENTITY_GUID).next().toString();
             String columnInGuid = columnIn.values(PROPERTY_KEY_ENTITY_GUID).next().toString();
             if (!columnOutGuid.isEmpty() && !columnInGuid.isEmpty()) {
-                MainGraphMapper mainGraphMapper = new MainGraphMapper(bufferGraph,mainGraph);
-                mainGraphMapper.checkBufferGraph(columnInGuid,columnOutGuid,process);
+                columnMappings.add(new ColumnMapping(columnInGuid, columnOutGuid, process.value(PROPERTY_KEY_ENTITY_GUID)));
             }
         }
     }
@@ -187,6 +477,58 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
                 log.error("An exception happened when trying to create vertices and relationships in BufferGraph. The error is", e);
             }
         });
+
+        markChangedProcesses(g, verticesToBeAdded);
+    }
+
+    /**
+     * Marks the processes affected by a lineage event as dirty so the next scheduler run maps them.  These are
+     * the processes in the event and the processes whose ports use the schema of the columns in the event,
+     * or of the columns they have lineage mappings with.
+     * @param g - Graph traversal object
+     * @param graphContexts - vertices and relationships of the event
+     */
+    private void markChangedProcesses(GraphTraversalSource g, Set<GraphContext> graphContexts) {
+        long changeTime = System.currentTimeMillis();
+        Set<String> entityGuids = new HashSet<>();
+
+        for (GraphContext graphContext : graphContexts) {
+            for (LineageEntity lineageEntity : new LineageEntity[]{graphContext.getFromVertex(), graphContext.getToVertex()}) {
+                if (lineageEntity == null || lineageEntity.getGuid() == null) {
+                    continue;
+                }
+                if (PROCESS.equals(lineageEntity.getTypeDefName())) {
+                    markProcessChanged(lineageEntity.getGuid(), changeTime);
+                } else {
+                    entityGuids.add(lineageEntity.getGuid());
+                }
+            }
+        }
+
+        try {
+            for (String guid : entityGuids) {
+                markProcessesOfEntityChanged(g, guid, changeTime);
+            }
+            g.tx().commit();
+        } catch (Exception e) {
+            log.error("Something went wrong when trying to find the processes affected by a lineage event. The error is {}", e.getMessage());
+            g.tx().rollback();
+        }
+    }
+
+    /**
+     * Marks the processes whose ports use the schema of an entity, or of the columns it has lineage mappings
+     * with, as changed.
+     * @param g - Graph traversal object
+     * @param guid - The unique identifier of the entity
+     * @param changeTime - time of the change
+     */
+    private void markProcessesOfEntityChanged(GraphTraversalSource g, String guid, long changeTime) {
+        g.V().has(PROPERTY_KEY_ENTITY_GUID, guid)
+                .emit().repeat(__.both(LINEAGE_MAPPING)).times(1)
+                .out(ATTRIBUTE_FOR_SCHEMA).in(PORT_SCHEMA).in(PORT_DELEGATION).in(PROCESS_PORT)
+                .has(PROPERTY_KEY_LABEL, PROCESS).values(PROPERTY_KEY_ENTITY_GUID).dedup()
+                .forEachRemaining(processGuid -> markProcessChanged((String) processGuid, changeTime));
     }
 
 
@@ -277,19 +619,41 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
     @Override
     public void updateEntity(LineageEvent lineageEvent){}
 
+    /**
+     * Deletes an entity from the buffer graph.  The processes that the entity belonged to are marked as changed
+     * so they are mapped again, and the cached lineage of the main graph is invalidated.  A deleted process is
+     * no longer mapped, so it is forgotten.
+     * @param guid - The unique identifier of the entity
+     */
     @Override
     public void deleteEntity(String guid){
         GraphTraversalSource g = bufferGraph.traversal();
+        long changeTime = System.currentTimeMillis();
 
         //TODO add check when we will have classifications to delete classifications first
-        if(checkIfVertexExist(g,guid)){
-            g.V().has(PROPERTY_KEY_ENTITY_GUID,guid).drop();
+        try {
+            if (!checkIfVertexExist(g, guid)) {
+                g.tx().rollback();
+                log.debug("Vertex with guid did not delete {}", guid);
+                return;
+            }
+
+            if (g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).has(PROPERTY_KEY_LABEL, PROCESS).hasNext()) {
+                dirtyProcesses.remove(guid);
+                failedProcesses.remove(guid);
+                quarantinedProcesses.remove(guid);
+            } else {
+                markProcessesOfEntityChanged(g, guid, changeTime);
+            }
+
+            g.V().has(PROPERTY_KEY_ENTITY_GUID, guid).drop().iterate();
             g.tx().commit();
-            log.debug("Vertex with guid {} deleted",guid);
+            LineageQueryCache.graphChanged(mainGraph);
+            log.debug("Vertex with guid {} deleted", guid);
+        } catch (Exception e) {
+            log.error("Something went wrong when trying to delete the vertex with guid {}. The error is {}", guid, e.getMessage());
+            g.tx().rollback();
         }
-        g.tx().rollback();
-        log.debug("Vertex with guid did not delete {}",guid);
-
     }
 
     /**
@@ -351,7 +715,34 @@ public class BufferGraphConnector extends BufferGraphConnectorBase {
 
     @Override
     public void disconnect() throws ConnectorCheckedException {
+        if (this.mappingExecutor != null) {
+            this.mappingExecutor.shutdownNow();
+        }
         this.bufferGraph.close();
         super.disconnect();
     }
+
+    /**
+     * The failures of a process that is waiting to be retried.
+     */
+    private static class MappingFailure {
+        private int failureCount;
+        private long nextAttemptTime;
+    }
+
+    /**
+     * The input and output columns of a process, found in the buffer graph and waiting to be written to the
+     * main graph.
+     */
+    private static class ColumnMapping {
+        private final String columnInGuid;
+        private final String columnOutGuid;
+        private final String processGuid;
+
+        ColumnMapping(String columnInGuid, String columnOutGuid, String processGuid) {
+            this.columnInGuid = columnInGuid;
+            this.columnOutGuid = columnOutGuid;
+            this.processGuid = processGuid;
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph;
+
+import org.janusgraph.core.JanusGraph;
+import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the results of lineage queries on the main graph.  Each main graph has a version number that is
+ * incremented whenever the buffer graph maps new lineage into it.  A cached result is only returned while the
+ * version it was built from is still current, so the cache never returns lineage that is older than the graph.
+ * The least recently used results are removed once the cache is full.
+ */
+public class LineageQueryCache {
+
+    private static final Map<JanusGraph, AtomicLong> graphVersions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final JanusGraph mainGraph;
+    private final Map<String, CachedLineage> cachedResults;
+
+    /**
+     * Creates a cache for the results of queries on a main graph.
+     *
+     * @param mainGraph  - the graph that is queried
+     * @param cacheSize  - maximum number of results to keep
+     */
+    LineageQueryCache(JanusGraph mainGraph, int cacheSize) {
+        this.mainGraph = mainGraph;
+        this.cachedResults = new LinkedHashMap<String, CachedLineage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedLineage> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Records that the contents of a main graph have changed.  All of the cached lineage for the graph
+     * becomes out of date.
+     *
+     * @param mainGraph - the graph that has changed
+     */
+    public static void graphChanged(JanusGraph mainGraph) {
+        getVersionCounter(mainGraph).incrementAndGet();
+    }
+
+    private static AtomicLong getVersionCounter(JanusGraph mainGraph) {
+        return graphVersions.computeIfAbsent(mainGraph, graph -> new AtomicLong());
+    }
+
+    /**
+     * Returns the current version of the graph.  This is read before a query is run so that a result is never
+     * cached against a version that is newer than the data it was built from.
+     *
+     * @return version number
+     */
+    long getGraphVersion() {
+        return getVersionCounter(mainGraph).get();
+    }
+
+    /**
+     * Builds the key of a query.
+     *
+     * @param guid        - the queried node
+     * @param scope       - name of the lineage scope
+     * @param maxDepth    - depth limit of the query
+     * @param maxVertices - vertex limit of the query
+     * @param edgeLabels  - traversed edges
+     * @return cache key
+     */
+    static String getKey(String guid, String scope, int maxDepth, int maxVertices, String... edgeLabels) {
+        return guid + "/" + scope + "/" + maxDepth + "/" + maxVertices + "/" + String.join(",", edgeLabels);
+    }
+
+    /**
+     * Returns a copy of the cached result of a query if it was built from the current version of the graph.
+     * The caller may filter the copy without changing the cached result.
+     *
+     * @param key - query key
+     * @return copy of the result or null if it is not cached
+     */
+    LineageVerticesAndEdges get(String key) {
+        CachedLineage cachedLineage;
+
+        synchronized (cachedResults) {
+            cachedLineage = cachedResults.get(key);
+        }
+
+        if (cachedLineage == null || cachedLineage.graphVersion != getGraphVersion()) {
+            return null;
+        }
+
+        return new LineageVerticesAndEdges(new HashSet<>(cachedLineage.result.getLineageVertices()),
+                                           new HashSet<>(cachedLineage.result.getLineageEdges()));
+    }
+
+    /**
+     * Saves the result of a query.
+     *
+     * @param key          - query key
+     * @param graphVersion - version of the graph when the query started
+     * @param result       - result of the query
+     */
+    void put(String key, long graphVersion, LineageVerticesAndEdges result) {
+        CachedLineage cachedLineage = new CachedLineage(graphVersion,
+                new LineageVerticesAndEdges(new HashSet<>(result.getLineageVertices()),
+                                            new HashSet<>(result.getLineageEdges())));
+
+        synchronized (cachedResults) {
+            cachedResults.put(key, cachedLineage);
+        }
+    }
+
+    private static class CachedLineage {
+        private final long graphVersion;
+        private final LineageVerticesAndEdges result;
+
+        CachedLineage(long graphVersion, LineageVerticesAndEdges result) {
+            this.graphVersion = graphVersion;
+            this.result = result;
+        }
+    }
+}
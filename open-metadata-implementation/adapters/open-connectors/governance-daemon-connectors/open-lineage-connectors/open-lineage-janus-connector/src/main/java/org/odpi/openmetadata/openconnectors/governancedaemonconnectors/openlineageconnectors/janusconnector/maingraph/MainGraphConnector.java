@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_DATAFLOW_WITHOUT_PROCESS;
@@ -35,9 +36,12 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 public class MainGraphConnector extends MainGraphConnectorBase {
 
     private static final Logger log = LoggerFactory.getLogger(MainGraphConnector.class);
+    private static final String LINEAGE_CACHE_SIZE_PROPERTY = "lineageCacheSize";
+    private static final int DEFAULT_LINEAGE_CACHE_SIZE = 1000;
 
     private JanusGraph mainGraph;
     private MainGraphConnectorHelper helper;
+    private LineageQueryCache lineageQueryCache;
 
     /**
      * {@inheritDoc}
@@ -57,14 +61,73 @@ public class MainGraphConnector extends MainGraphConnectorBase {
             );
         }
         this.helper = new MainGraphConnectorHelper(mainGraph);
+        this.lineageQueryCache = new LineageQueryCache(mainGraph, getLineageCacheSize());
+    }
+
+    /**
+     * Reads the maximum number of lineage query results to cache from the configuration properties of the connection.
+     * @return cache size
+     */
+    private int getLineageCacheSize() {
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null && configurationProperties.get(LINEAGE_CACHE_SIZE_PROPERTY) != null) {
+            try {
+                int value = Integer.parseInt(configurationProperties.get(LINEAGE_CACHE_SIZE_PROPERTY).toString());
+                if (value > 0) {
+                    return value;
+                }
+            } catch (NumberFormatException e) {
+                log.error("Configuration property {} is not a number, using {}", LINEAGE_CACHE_SIZE_PROPERTY, DEFAULT_LINEAGE_CACHE_SIZE);
+            }
+        }
+        return DEFAULT_LINEAGE_CACHE_SIZE;
     }
 
     /**
      * {@inheritDoc}
      */
-    public LineageResponse lineage(Scope scope, String guid, String displayNameMustContain, boolean includeProcesses) throws OpenLineageException {
+    public LineageResponse lineage(Scope scope, String guid, String displayNameMustContain, boolean includeProcesses,
+                                   int maxDepth, int maxVertices) throws OpenLineageException {
         String methodName = "lineage";
 
+        List<String> edgeLabels = new ArrayList<>();
+        edgeLabels.add(EDGE_LABEL_SEMANTIC);
+        edgeLabels.add(includeProcesses ? EDGE_LABEL_DATAFLOW_WITH_PROCESS : EDGE_LABEL_DATAFLOW_WITHOUT_PROCESS);
+        String[] edgeLabelArray = edgeLabels.toArray(new String[edgeLabels.size()]);
+
+        String cacheKey = LineageQueryCache.getKey(guid, scope.name(), maxDepth, maxVertices, edgeLabelArray);
+        LineageVerticesAndEdges lineageVerticesAndEdges = lineageQueryCache.get(cacheKey);
+
+        if (lineageVerticesAndEdges == null) {
+            long graphVersion = lineageQueryCache.getGraphVersion();
+            try {
+                lineageVerticesAndEdges = queryLineage(methodName, scope, guid, maxDepth, maxVertices, edgeLabelArray);
+            } finally {
+                mainGraph.tx().rollback();
+            }
+            lineageQueryCache.put(cacheKey, graphVersion, lineageVerticesAndEdges);
+        }
+
+        if (!displayNameMustContain.isEmpty())
+            helper.filterDisplayName(lineageVerticesAndEdges, displayNameMustContain);
+        return new LineageResponse(lineageVerticesAndEdges);
+    }
+
+    /**
+     * Runs a lineage query on the main graph.
+     *
+     * @param methodName  calling method
+     * @param scope       source-and-destination, end-to-end, ultimate-source, ultimate-destination, glossary.
+     * @param guid        the guid of the node of which the lineage is queried of.
+     * @param maxDepth    the maximum number of edges followed away from the queried node, 0 for no limit
+     * @param maxVertices the maximum number of vertices visited in each direction, 0 for no limit
+     * @param edgeLabels  traversed edges
+     * @return the lineage of the node, before it is filtered on display name.
+     * @throws OpenLineageException the node does not exist or the lineage can not be resolved.
+     */
+    private LineageVerticesAndEdges queryLineage(String methodName, Scope scope, String guid, int maxDepth,
+                                                 int maxVertices, String... edgeLabels) throws OpenLineageException {
         GraphTraversalSource g = mainGraph.traversal();
         try {
             g.V().has(PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
@@ -79,33 +142,27 @@ public class MainGraphConnector extends MainGraphConnectorBase {
                     errorCode.getUserAction());
         }
 
-
-        List<String> edgeLabels = new ArrayList<>();
-        edgeLabels.add(EDGE_LABEL_SEMANTIC);
-        edgeLabels.add(includeProcesses ? EDGE_LABEL_DATAFLOW_WITH_PROCESS : EDGE_LABEL_DATAFLOW_WITHOUT_PROCESS);
-
+        MainGraphConnectorHelper queryHelper = new MainGraphConnectorHelper(mainGraph, maxDepth, maxVertices);
         LineageVerticesAndEdges lineageVerticesAndEdges = null;
 
         switch (scope) {
             case SOURCE_AND_DESTINATION:
-                lineageVerticesAndEdges = helper.sourceAndDestination(guid, edgeLabels.toArray(new String[edgeLabels.size()]));
+                lineageVerticesAndEdges = queryHelper.sourceAndDestination(guid, edgeLabels);
                 break;
             case END_TO_END:
-                lineageVerticesAndEdges = helper.endToEnd(guid, edgeLabels.toArray(new String[edgeLabels.size()]));
+                lineageVerticesAndEdges = queryHelper.endToEnd(guid, edgeLabels);
                 break;
             case ULTIMATE_SOURCE:
-                lineageVerticesAndEdges = helper.ultimateSource(guid, edgeLabels.toArray(new String[edgeLabels.size()]));
+                lineageVerticesAndEdges = queryHelper.ultimateSource(guid, edgeLabels);
                 break;
             case ULTIMATE_DESTINATION:
-                lineageVerticesAndEdges = helper.ultimateDestination(guid, edgeLabels.toArray(new String[edgeLabels.size()]));
+                lineageVerticesAndEdges = queryHelper.ultimateDestination(guid, edgeLabels);
                 break;
             case GLOSSARY:
-                lineageVerticesAndEdges = helper.glossary(guid);
+                lineageVerticesAndEdges = queryHelper.glossary(guid);
                 break;
         }
-        if (!displayNameMustContain.isEmpty())
-            helper.filterDisplayName(lineageVerticesAndEdges, displayNameMustContain);
-        return new LineageResponse(lineageVerticesAndEdges);
+        return lineageVerticesAndEdges;
     }
 
     /**
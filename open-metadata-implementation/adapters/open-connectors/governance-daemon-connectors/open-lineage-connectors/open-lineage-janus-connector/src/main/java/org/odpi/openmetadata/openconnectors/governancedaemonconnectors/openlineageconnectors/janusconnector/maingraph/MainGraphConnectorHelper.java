@@ -2,11 +2,12 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.maingraph;
 
-import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
 import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
@@ -16,9 +17,13 @@ import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVertex;
 import org.odpi.openmetadata.governanceservers.openlineage.model.LineageVerticesAndEdges;
 import org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -26,7 +31,6 @@ import java.util.Set;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.bothE;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.inE;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.outE;
-import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.until;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.CONDENSED_NODE_DISPLAY_NAME;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_CONDENSED;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.EDGE_LABEL_GLOSSARYTERM_TO_GLOSSARYTERM;
@@ -42,14 +46,36 @@ import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.op
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.PROPERTY_VALUE_NODE_ID_CONDENSED_SOURCE;
 import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.immutableReturnedPropertiesWhiteList;
 
+/**
+ * Runs the lineage queries on the main graph.  The lineage is found by walking the lineage edges away from the
+ * queried node one level at a time, visiting each vertex once.  This keeps the cost of a query proportional to the
+ * size of the lineage rather than to the number of paths through it, which grows combinatorially on wide graphs.
+ * A query may also set a limit on the depth of the walk and the number of vertices it visits.  When a limit is
+ * reached, the vertices at the edge of the walk are returned as the ultimate sources or destinations.
+ */
 public class MainGraphConnectorHelper {
 
     private JanusGraph mainGraph;
+    private int maxDepth;
+    private int maxVertices;
 
     public MainGraphConnectorHelper(JanusGraph mainGraph) {
         this.mainGraph = mainGraph;
     }
 
+    /**
+     * Creates a helper for a single query with limits on the lineage walk.
+     *
+     * @param mainGraph   the graph to query
+     * @param maxDepth    the maximum number of edges followed away from the queried node, 0 for no limit
+     * @param maxVertices the maximum number of vertices visited in each direction, 0 for no limit
+     */
+    public MainGraphConnectorHelper(JanusGraph mainGraph, int maxDepth, int maxVertices) {
+        this.mainGraph = mainGraph;
+        this.maxDepth = maxDepth;
+        this.maxVertices = maxVertices;
+    }
+
     /**
      * Returns a subgraph containing all root of the full graph that are connected with the queried node.
      * The queried node can be a column or table.
@@ -62,14 +88,11 @@ public class MainGraphConnectorHelper {
         String methodName = "MainGraphConnector.ultimateSource";
         GraphTraversalSource g = mainGraph.traversal();
 
-        List<Vertex> sourcesList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                until(inE(edgeLabels).count().is(0)).
-                repeat(inE(edgeLabels).outV().simplePath()).
-                dedup().toList();
+        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
 
-        detectProblematicCycle(methodName, sourcesList);
+        List<Vertex> sourcesList = walkLineage(g, originalQueriedVertex, Direction.IN, edgeLabels).getEndVertices(g);
 
-        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
+        detectProblematicCycle(methodName, sourcesList);
 
         Set<LineageVertex> lineageVertices = new HashSet<>();
 
@@ -95,14 +118,12 @@ public class MainGraphConnectorHelper {
         String methodName = "MainGraphConnector.ultimateDestination";
         GraphTraversalSource g = mainGraph.traversal();
 
-        List<Vertex> destinationsList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                until(outE(edgeLabels).count().is(0)).
-                repeat(outE(edgeLabels).inV().simplePath()).
-                dedup().toList();
+        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
+
+        List<Vertex> destinationsList = walkLineage(g, originalQueriedVertex, Direction.OUT, edgeLabels).getEndVertices(g);
 
         detectProblematicCycle(methodName, destinationsList);
 
-        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
         LineageVertex queriedVertex = abstractVertex(originalQueriedVertex);
 
         Set<LineageVertex> lineageVertices = new HashSet<>();
@@ -126,16 +147,13 @@ public class MainGraphConnectorHelper {
     LineageVerticesAndEdges endToEnd(String guid, String... edgeLabels) {
         GraphTraversalSource g = mainGraph.traversal();
 
-        Graph endToEndGraph = (Graph)
-                g.V().has(PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                        union(
-                                until(inE(edgeLabels).count().is(0)).
-                                        repeat((Traversal) inE(edgeLabels).subgraph("subGraph").outV().simplePath()),
-                                until(outE(edgeLabels).count().is(0)).
-                                        repeat((Traversal) outE(edgeLabels).subgraph("subGraph").inV().simplePath())
-                        ).cap("subGraph").next();
+        Vertex originalQueriedVertex = g.V().has(PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
 
-        LineageVerticesAndEdges lineageVerticesAndEdges = getLineageVerticesAndEdges(endToEndGraph);
+        List<Edge> endToEndEdges = new ArrayList<>();
+        endToEndEdges.addAll(walkLineage(g, originalQueriedVertex, Direction.IN, edgeLabels).getEdges());
+        endToEndEdges.addAll(walkLineage(g, originalQueriedVertex, Direction.OUT, edgeLabels).getEdges());
+
+        LineageVerticesAndEdges lineageVerticesAndEdges = getLineageVerticesAndEdges(endToEndEdges);
         return lineageVerticesAndEdges;
     }
 
@@ -151,21 +169,15 @@ public class MainGraphConnectorHelper {
         String methodName = "MainGraphConnector.sourceAndDestination";
         GraphTraversalSource g = mainGraph.traversal();
 
-        List<Vertex> sourcesList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                until(inE(edgeLabels).count().is(0)).
-                repeat(inE(edgeLabels).outV().simplePath()).
-                dedup().toList();
+        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
 
-        List<Vertex> destinationsList = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).
-                until(outE(edgeLabels).count().is(0)).
-                repeat(outE(edgeLabels).inV().simplePath()).
-                dedup().toList();
+        List<Vertex> sourcesList = walkLineage(g, originalQueriedVertex, Direction.IN, edgeLabels).getEndVertices(g);
+        List<Vertex> destinationsList = walkLineage(g, originalQueriedVertex, Direction.OUT, edgeLabels).getEndVertices(g);
 
         detectProblematicCycle(methodName, sourcesList);
         detectProblematicCycle(methodName, destinationsList);
 
 
-        Vertex originalQueriedVertex = g.V().has(GraphConstants.PROPERTY_KEY_ENTITY_NODE_ID, guid).next();
         LineageVertex queriedVertex = abstractVertex(originalQueriedVertex);
 
         Set<LineageVertex> lineageVertices = new HashSet<>();
@@ -401,6 +413,103 @@ public class MainGraphConnectorHelper {
     }
 
 
+    /**
+     * Walk the lineage edges from the queried vertex in one direction, one level at a time.  Each vertex is
+     * visited once so cycles and diamonds in the lineage do not multiply the work.  The vertices that have no
+     * further lineage edges in the direction of the walk are the ultimate sources or destinations.
+     *
+     * @param g             The traversal source of the main graph.
+     * @param queriedVertex The vertex to start from.
+     * @param direction     IN to walk towards the sources and OUT to walk towards the destinations.
+     * @param edgeLabels    Traversed edges
+     * @return the edges and end vertices found by the walk.
+     */
+    private LineageWalk walkLineage(GraphTraversalSource g, Vertex queriedVertex, Direction direction, String... edgeLabels) {
+        LineageWalk lineageWalk = new LineageWalk();
+        Set<Object> visited = new HashSet<>();
+        Set<Object> frontier = new LinkedHashSet<>();
+
+        visited.add(queriedVertex.id());
+        frontier.add(queriedVertex.id());
+
+        for (int depth = 0; !frontier.isEmpty(); depth++) {
+            if (maxDepth > 0 && depth >= maxDepth) {
+                lineageWalk.endVertexIds.addAll(frontier);
+                break;
+            }
+
+            Map<Object, Object> edgesByVertex = g.V(frontier.toArray()).group().by(T.id).
+                    by(direction == Direction.IN ? inE(edgeLabels).fold() : outE(edgeLabels).fold()).next();
+
+            Set<Object> nextFrontier = new LinkedHashSet<>();
+            for (Object vertexId : frontier) {
+                List<?> edges = (List<?>) edgesByVertex.getOrDefault(vertexId, Collections.emptyList());
+                if (edges.isEmpty()) {
+                    lineageWalk.endVertexIds.add(vertexId);
+                    continue;
+                }
+                for (Object edgeObject : edges) {
+                    Edge edge = (Edge) edgeObject;
+                    Object nextVertexId = direction == Direction.IN ? edge.outVertex().id() : edge.inVertex().id();
+
+                    if (visited.contains(nextVertexId)) {
+                        lineageWalk.edges.add(edge);
+                    } else if (maxVertices > 0 && visited.size() >= maxVertices) {
+                        lineageWalk.endVertexIds.add(vertexId);
+                    } else {
+                        visited.add(nextVertexId);
+                        nextFrontier.add(nextVertexId);
+                        lineageWalk.edges.add(edge);
+                    }
+                }
+            }
+            frontier = nextFrontier;
+        }
+        return lineageWalk;
+    }
+
+    /**
+     * The result of walking the lineage edges in one direction.
+     */
+    private static class LineageWalk {
+        private final List<Edge> edges = new ArrayList<>();
+        private final Set<Object> endVertexIds = new LinkedHashSet<>();
+
+        List<Edge> getEdges() {
+            return edges;
+        }
+
+        List<Vertex> getEndVertices(GraphTraversalSource g) {
+            if (endVertexIds.isEmpty()) {
+                return new ArrayList<>();
+            }
+            return g.V(endVertexIds.toArray()).toList();
+        }
+    }
+
+    /**
+     * Map a list of Tinkerpop edges, and the vertices they connect, to an Open Lineage specific format.
+     *
+     * @param edges The edges to be mapped.
+     * @return The graph in in an Open Lineage specific format.
+     */
+    private LineageVerticesAndEdges getLineageVerticesAndEdges(List<Edge> edges) {
+        Map<Object, Vertex> originalVertices = new LinkedHashMap<>();
+
+        Set<LineageVertex> lineageVertices = new HashSet<>();
+        Set<LineageEdge> lineageEdges = new HashSet<>();
+
+        for (Edge edge : edges) {
+            originalVertices.putIfAbsent(edge.outVertex().id(), edge.outVertex());
+            originalVertices.putIfAbsent(edge.inVertex().id(), edge.inVertex());
+            lineageEdges.add(abstractEdge(edge));
+        }
+        for (Vertex originalVertex : originalVertices.values()) {
+            lineageVertices.add(abstractVertex(originalVertex));
+        }
+        return new LineageVerticesAndEdges(lineageVertices, lineageEdges);
+    }
+
     /**
      * Map a tinkerpop Graph object to an Open Lineage specific format.
      *
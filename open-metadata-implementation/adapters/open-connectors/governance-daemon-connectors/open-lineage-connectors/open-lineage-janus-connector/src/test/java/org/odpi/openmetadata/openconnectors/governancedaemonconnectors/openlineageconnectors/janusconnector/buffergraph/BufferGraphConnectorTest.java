@@ -0,0 +1,251 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.buffergraph;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphFactory;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.odpi.openmetadata.accessservices.assetlineage.event.LineageEvent;
+import org.odpi.openmetadata.accessservices.assetlineage.model.GraphContext;
+import org.odpi.openmetadata.accessservices.assetlineage.model.LineageEntity;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.governanceservers.openlineage.model.BufferGraphStatistics;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.Constants.*;
+import static org.odpi.openmetadata.openconnectors.governancedaemonconnectors.openlineageconnectors.janusconnector.utils.GraphConstants.*;
+
+public class BufferGraphConnectorTest {
+
+    @Rule
+    public TemporaryFolder graphFolder = new TemporaryFolder();
+
+    private BufferGraphConnector bufferGraphConnector;
+    private JanusGraph bufferGraph;
+    private JanusGraph mainGraph;
+
+    @After
+    public void afterTest() throws Exception {
+        if (bufferGraphConnector != null) {
+            bufferGraphConnector.disconnect();
+        }
+        if (mainGraph != null) {
+            mainGraph.close();
+        }
+    }
+
+    /**
+     * A process is marked dirty when it is in an event, or when an event touches a column of one of its ports or
+     * a column with a lineage mapping to one.  Each run maps only the dirty processes.
+     */
+    @Test
+    public void changedProcessesAreMapped() throws IOException {
+        startConnector(new HashMap<>());
+        bufferGraphConnector.schedulerTask();
+
+        addEvent(new GraphContext(PROCESS_PORT, "r1", entity("process", PROCESS), entity("portAlias", "PortAlias")),
+                new GraphContext(PORT_DELEGATION, "r2", entity("portAlias", "PortAlias"), inputPort("portImpl")),
+                new GraphContext(PORT_SCHEMA, "r3", inputPort("portImpl"), entity("schema", TABULAR_SCHEMA_TYPE)),
+                new GraphContext(ATTRIBUTE_FOR_SCHEMA, "r4", entity("column", TABULAR_COLUMN), entity("schema", TABULAR_SCHEMA_TYPE)),
+                new GraphContext(LINEAGE_MAPPING, "r5", entity("mappedColumn", TABULAR_COLUMN), entity("column", TABULAR_COLUMN)));
+
+        assertEquals(1, bufferGraphConnector.getMappingStatistics().getPendingProcessCount());
+
+        bufferGraphConnector.schedulerTask();
+
+        BufferGraphStatistics statistics = bufferGraphConnector.getMappingStatistics();
+        assertEquals(1, statistics.getMappedProcessCount());
+        assertEquals(0, statistics.getPendingProcessCount());
+        assertEquals(0, statistics.getMappingLag());
+
+        addEvent(new GraphContext(ATTRIBUTE_FOR_SCHEMA, "r6", entity("column", TABULAR_COLUMN), entity("schema", TABULAR_SCHEMA_TYPE)));
+        assertEquals(1, bufferGraphConnector.getMappingStatistics().getPendingProcessCount());
+        bufferGraphConnector.schedulerTask();
+
+        addEvent(new GraphContext(ATTRIBUTE_FOR_SCHEMA, "r7", entity("mappedColumn", TABULAR_COLUMN), entity("otherSchema", TABULAR_SCHEMA_TYPE)));
+        assertEquals(1, bufferGraphConnector.getMappingStatistics().getPendingProcessCount());
+        bufferGraphConnector.schedulerTask();
+
+        addEvent(new GraphContext(ATTRIBUTE_FOR_SCHEMA, "r8", entity("otherColumn", TABULAR_COLUMN), entity("otherSchema", TABULAR_SCHEMA_TYPE)));
+        assertEquals(0, bufferGraphConnector.getMappingStatistics().getPendingProcessCount());
+        assertEquals(3, bufferGraphConnector.getMappingStatistics().getMappedProcessCount());
+    }
+
+    /**
+     * A process that fails does not stop the other processes in its batch from being mapped.  It is retried until
+     * it has failed more than the retry limit and is then quarantined until an event changes it.
+     *
+     * @throws Exception the test was interrupted
+     */
+    @Test
+    public void failingProcessIsQuarantined() throws Exception {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("mappingRetryLimit", 2);
+        configurationProperties.put("mappingRetryDelay", 1);
+        startConnector(configurationProperties);
+
+        addEvent(new GraphContext(PROCESS_PORT, "r1", entity("process", PROCESS), entity("portAlias", "PortAlias")));
+        addFailingProcess("failingProcess");
+
+        bufferGraphConnector.schedulerTask();
+
+        BufferGraphStatistics statistics = bufferGraphConnector.getMappingStatistics();
+        assertEquals(1, statistics.getMappedProcessCount());
+        assertEquals(1, statistics.getPendingProcessCount());
+        assertEquals(1, statistics.getRetryingProcessCount());
+        assertTrue(statistics.getQuarantinedProcesses().isEmpty());
+        assertTrue(statistics.getMappingLag() >= 0);
+
+        for (int i = 0; i < 2; i++) {
+            Thread.sleep(10);
+            bufferGraphConnector.schedulerTask();
+        }
+
+        statistics = bufferGraphConnector.getMappingStatistics();
+        assertEquals(1, statistics.getMappedProcessCount());
+        assertEquals(0, statistics.getPendingProcessCount());
+        assertEquals(0, statistics.getRetryingProcessCount());
+        assertEquals(Collections.singletonList("failingProcess"), statistics.getQuarantinedProcesses());
+        assertEquals(0, statistics.getMappingLag());
+
+        addEvent(new GraphContext(PROCESS_PORT, "r2", entity("failingProcess", PROCESS), entity("otherPortAlias", "PortAlias")));
+
+        statistics = bufferGraphConnector.getMappingStatistics();
+        assertEquals(1, statistics.getPendingProcessCount());
+        assertTrue(statistics.getQuarantinedProcesses().isEmpty());
+    }
+
+    /**
+     * A process that fails is not retried until its retry delay has passed.
+     */
+    @Test
+    public void failingProcessWaitsForRetry() throws IOException {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("mappingRetryLimit", 1);
+        startConnector(configurationProperties);
+
+        addFailingProcess("failingProcess");
+
+        for (int i = 0; i < 3; i++) {
+            bufferGraphConnector.schedulerTask();
+        }
+
+        BufferGraphStatistics statistics = bufferGraphConnector.getMappingStatistics();
+        assertEquals(0, statistics.getMappedProcessCount());
+        assertEquals(1, statistics.getPendingProcessCount());
+        assertEquals(1, statistics.getRetryingProcessCount());
+        assertTrue(statistics.getQuarantinedProcesses().isEmpty());
+    }
+
+    /**
+     * Deleting a column marks the processes it belongs to as dirty.  Deleting a process forgets it, including
+     * its failures.
+     */
+    @Test
+    public void deletedEntitiesChangeProcesses() throws IOException {
+        startConnector(new HashMap<>());
+
+        addEvent(new GraphContext(PROCESS_PORT, "r1", entity("process", PROCESS), entity("portAlias", "PortAlias")),
+                new GraphContext(PORT_DELEGATION, "r2", entity("portAlias", "PortAlias"), inputPort("portImpl")),
+                new GraphContext(PORT_SCHEMA, "r3", inputPort("portImpl"), entity("schema", TABULAR_SCHEMA_TYPE)),
+                new GraphContext(ATTRIBUTE_FOR_SCHEMA, "r4", entity("column", TABULAR_COLUMN), entity("schema", TABULAR_SCHEMA_TYPE)),
+                new GraphContext(LINEAGE_MAPPING, "r5", entity("mappedColumn", TABULAR_COLUMN), entity("column", TABULAR_COLUMN)));
+        addFailingProcess("failingProcess");
+        bufferGraphConnector.schedulerTask();
+
+        BufferGraphStatistics statistics = bufferGraphConnector.getMappingStatistics();
+        assertEquals(1, statistics.getMappedProcessCount());
+        assertEquals(1, statistics.getPendingProcessCount());
+        assertEquals(1, statistics.getRetryingProcessCount());
+
+        bufferGraphConnector.deleteEntity("mappedColumn");
+        assertEquals(2, bufferGraphConnector.getMappingStatistics().getPendingProcessCount());
+
+        bufferGraphConnector.deleteEntity("process");
+        assertEquals(1, bufferGraphConnector.getMappingStatistics().getPendingProcessCount());
+
+        bufferGraphConnector.deleteEntity("failingProcess");
+
+        statistics = bufferGraphConnector.getMappingStatistics();
+        assertEquals(0, statistics.getPendingProcessCount());
+        assertEquals(0, statistics.getRetryingProcessCount());
+    }
+
+    private void startConnector(Map<String, Object> configurationProperties) throws IOException {
+        Connection connection = new Connection();
+        connection.setConfigurationProperties(configurationProperties);
+
+        bufferGraph = openGraph("bufferGraph");
+        mainGraph = openGraph("mainGraph");
+
+        bufferGraphConnector = new BufferGraphConnector();
+        bufferGraphConnector.initialize("TestBufferGraphConnector", new ConnectionProperties(connection));
+        bufferGraphConnector.initializeGraphDB(bufferGraph);
+        bufferGraphConnector.setMainGraph(mainGraph);
+    }
+
+    private JanusGraph openGraph(String graphType) throws IOException {
+        return JanusGraphFactory.build()
+                .set("storage.backend", "berkeleyje")
+                .set("storage.directory", graphFolder.newFolder(graphType).getAbsolutePath())
+                .open();
+    }
+
+    private void addEvent(GraphContext... graphContexts) {
+        LineageEvent lineageEvent = new LineageEvent();
+        lineageEvent.setAssetContext(Collections.singletonMap("context", new HashSet<>(Arrays.asList(graphContexts))));
+        bufferGraphConnector.addEntity(lineageEvent);
+    }
+
+    /**
+     * Adds a process whose input column has a lineage mapping to a column without a guid, so finding its column
+     * mappings fails.
+     */
+    private void addFailingProcess(String guid) {
+        GraphTraversalSource g = bufferGraph.traversal();
+
+        Vertex process = g.addV(PROCESS).property(PROPERTY_KEY_ENTITY_GUID, guid).property(PROPERTY_KEY_LABEL, PROCESS).next();
+        Vertex portAlias = g.addV("PortAlias").property(PROPERTY_KEY_ENTITY_GUID, guid + "-portAlias").next();
+        Vertex portImpl = g.addV(PORT_IMPLEMENTATION).property(PROPERTY_KEY_ENTITY_GUID, guid + "-portImpl")
+                .property(PROPERTY_NAME_PORT_TYPE, "INPUT_PORT").next();
+        Vertex schema = g.addV(TABULAR_SCHEMA_TYPE).property(PROPERTY_KEY_ENTITY_GUID, guid + "-schema").next();
+        Vertex column = g.addV(TABULAR_COLUMN).property(PROPERTY_KEY_ENTITY_GUID, guid + "-column").next();
+        Vertex columnIn = g.addV(TABULAR_COLUMN).next();
+        Vertex table = g.addV(RELATIONAL_TABLE).property(PROPERTY_KEY_LABEL, RELATIONAL_TABLE).next();
+
+        process.addEdge(PROCESS_PORT, portAlias);
+        portAlias.addEdge(PORT_DELEGATION, portImpl);
+        portImpl.addEdge(PORT_SCHEMA, schema);
+        column.addEdge(ATTRIBUTE_FOR_SCHEMA, schema);
+        column.addEdge(LINEAGE_MAPPING, columnIn);
+        columnIn.addEdge(NESTED_SCHEMA_ATTRIBUTE, table);
+        g.tx().commit();
+    }
+
+    private LineageEntity entity(String guid, String typeDefName) {
+        LineageEntity lineageEntity = new LineageEntity();
+        lineageEntity.setGuid(guid);
+        lineageEntity.setTypeDefName(typeDefName);
+        return lineageEntity;
+    }
+
+    private LineageEntity inputPort(String guid) {
+        LineageEntity lineageEntity = entity(guid, PORT_IMPLEMENTATION);
+        lineageEntity.setProperties(Collections.singletonMap("portType", "INPUT_PORT"));
+        return lineageEntity;
+    }
+}
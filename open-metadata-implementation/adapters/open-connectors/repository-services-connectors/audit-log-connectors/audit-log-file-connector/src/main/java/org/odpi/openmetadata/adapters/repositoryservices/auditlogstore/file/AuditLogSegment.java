@@ -0,0 +1,419 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+
+/**
+ * AuditLogSegment manages one segment file of the file based audit log store.  A segment is a file of
+ * newline-delimited JSON audit log records that is only ever appended to.  Each segment has an index that
+ * summarizes its contents so that queries can skip segments that can not contain matching records, and
+ * seek past the start of a segment that holds records older than the requested time period.
+ *
+ * A segment is written by a single writer thread.  Readers only read up to the committed length of the
+ * segment, which is advanced once a batch of records has been forced to disk.
+ */
+class AuditLogSegment
+{
+    static final String SEGMENT_FILE_PREFIX    = "audit-log-segment-";
+    static final String SEGMENT_FILE_EXTENSION = ".ndjson";
+    static final String INDEX_FILE_EXTENSION   = ".idx";
+
+    private File                 segmentFile;
+    private File                 indexFile;
+    private long                 sequenceNumber;
+    private long                 openTime;
+    private AuditLogSegmentIndex index;
+    private volatile long        committedLength = 0;
+
+    private FileOutputStream     outputStream    = null;
+    private OutputStream         bufferedStream  = null;
+    private long                 writePosition   = 0;
+
+
+    /**
+     * Constructor for a segment.
+     *
+     * @param directory directory for the audit log store
+     * @param sequenceNumber sequence number of the segment in the audit log
+     */
+    AuditLogSegment(File directory,
+                    long sequenceNumber)
+    {
+        String fileName = String.format("%s%012d", SEGMENT_FILE_PREFIX, sequenceNumber);
+
+        this.sequenceNumber = sequenceNumber;
+        this.segmentFile = new File(directory, fileName + SEGMENT_FILE_EXTENSION);
+        this.indexFile = new File(directory, fileName + INDEX_FILE_EXTENSION);
+        this.openTime = System.currentTimeMillis();
+        this.index = new AuditLogSegmentIndex();
+    }
+
+
+    /**
+     * Return the sequence number of this segment from its file name.
+     *
+     * @param segmentFile segment file
+     * @return sequence number or -1 if the file is not a segment
+     */
+    static long getSequenceNumber(File segmentFile)
+    {
+        String fileName = segmentFile.getName();
+
+        if (fileName.startsWith(SEGMENT_FILE_PREFIX) && fileName.endsWith(SEGMENT_FILE_EXTENSION))
+        {
+            try
+            {
+                return Long.parseLong(fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                                                         fileName.length() - SEGMENT_FILE_EXTENSION.length()));
+            }
+            catch (NumberFormatException error)
+            {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+
+    /**
+     * Return the sequence number of this segment.
+     *
+     * @return long
+     */
+    long getSequenceNumber()
+    {
+        return sequenceNumber;
+    }
+
+
+    /**
+     * Return a copy of the index for this segment that reflects the committed records.
+     *
+     * @return index
+     */
+    synchronized AuditLogSegmentIndex getIndex()
+    {
+        return new AuditLogSegmentIndex(index);
+    }
+
+
+    /**
+     * Return the number of bytes written to the segment file.
+     *
+     * @return byte count
+     */
+    long getWritePosition()
+    {
+        return writePosition;
+    }
+
+
+    /**
+     * Return the time that this segment was opened for writing.
+     *
+     * @return time in milliseconds
+     */
+    long getOpenTime()
+    {
+        return openTime;
+    }
+
+
+    /**
+     * Load the index of an existing segment.  The index file is used if it is present, otherwise the
+     * index is rebuilt by reading the segment.  This is the case for a segment that was being written when
+     * the server stopped without closing the audit log.
+     *
+     * @param objectMapper mapper for the JSON content
+     * @throws IOException unable to read the segment
+     */
+    synchronized void load(ObjectMapper objectMapper) throws IOException
+    {
+        committedLength = segmentFile.length();
+
+        if (indexFile.exists())
+        {
+            try
+            {
+                index = objectMapper.readValue(indexFile, AuditLogSegmentIndex.class);
+                return;
+            }
+            catch (JsonProcessingException error)
+            {
+                /*
+                 * The index is damaged - fall through to rebuild it.
+                 */
+            }
+        }
+
+        index = new AuditLogSegmentIndex();
+
+        try (BufferedReader reader = getReader(0))
+        {
+            long   offset = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null)
+            {
+                OMRSAuditLogRecord logRecord = parseRecord(objectMapper, line);
+
+                if (logRecord != null)
+                {
+                    index.addRecord(offset, logRecord);
+                }
+
+                offset = offset + line.getBytes(StandardCharsets.UTF_8).length + 1;
+            }
+        }
+    }
+
+
+    /**
+     * Open the segment file for appending records.
+     *
+     * @throws IOException unable to create the file
+     */
+    void openForWrite() throws IOException
+    {
+        outputStream = new FileOutputStream(segmentFile, true);
+        bufferedStream = new BufferedOutputStream(outputStream);
+        writePosition = segmentFile.length();
+    }
+
+
+    /**
+     * Append a record to the segment.  The record is not visible to queries until the batch is committed.
+     *
+     * @param logRecord record to write
+     * @param line JSON for the log record including the line terminator
+     * @throws IOException unable to write to the file
+     */
+    void append(OMRSAuditLogRecord logRecord,
+                byte[]             line) throws IOException
+    {
+        long offset = writePosition;
+
+        bufferedStream.write(line);
+        writePosition = writePosition + line.length;
+
+        synchronized (this)
+        {
+            index.addPendingRecord(offset, logRecord);
+        }
+    }
+
+
+    /**
+     * Force the records written since the last commit to disk and make them visible to queries.
+     *
+     * @throws IOException unable to write to the file
+     */
+    void commit() throws IOException
+    {
+        bufferedStream.flush();
+        outputStream.getChannel().force(false);
+
+        synchronized (this)
+        {
+            index.commitPendingRecords();
+            committedLength = writePosition;
+        }
+    }
+
+
+    /**
+     * Commit any outstanding records, close the segment file and save the index.
+     *
+     * @param objectMapper mapper for the JSON content
+     * @throws IOException unable to write the files
+     */
+    void close(ObjectMapper objectMapper) throws IOException
+    {
+        if (bufferedStream != null)
+        {
+            commit();
+            bufferedStream.close();
+            bufferedStream = null;
+            outputStream = null;
+        }
+
+        objectMapper.writeValue(indexFile, this.getIndex());
+    }
+
+
+    /**
+     * Close the segment after a write to it has failed.  The records written since the last commit are
+     * removed from the file and the index, so the segment only holds the records that were committed.
+     * The segment is not written to again, so any further errors are ignored.
+     *
+     * @param objectMapper mapper for the JSON content
+     */
+    void abandon(ObjectMapper objectMapper)
+    {
+        synchronized (this)
+        {
+            index.discardPendingRecords();
+        }
+
+        writePosition = committedLength;
+
+        if (outputStream != null)
+        {
+            try
+            {
+                outputStream.getChannel().truncate(committedLength);
+            }
+            catch (IOException error)
+            {
+                /*
+                 * The uncommitted records stay in the file but are not in the index.
+                 */
+            }
+
+            try
+            {
+                outputStream.close();
+            }
+            catch (IOException error)
+            {
+                /*
+                 * Nothing more can be done with the file.
+                 */
+            }
+
+            bufferedStream = null;
+            outputStream = null;
+        }
+
+        try
+        {
+            objectMapper.writeValue(indexFile, this.getIndex());
+        }
+        catch (IOException error)
+        {
+            /*
+             * The index is rebuilt from the segment when the audit log is next started.
+             */
+        }
+    }
+
+
+    /**
+     * Read the committed records in the segment that have been written since the supplied time and pass
+     * each one to the consumer.  The index is used to skip the part of the segment holding older records.
+     * Reading stops when the consumer returns false.
+     *
+     * @param objectMapper mapper for the JSON content
+     * @param index index for the segment
+     * @param startTime time of the earliest record of interest (or null for all records)
+     * @param consumer test for each record - returns false to stop reading
+     * @return false if the consumer stopped the read
+     * @throws IOException unable to read the segment
+     */
+    boolean readRecords(ObjectMapper                   objectMapper,
+                        AuditLogSegmentIndex           index,
+                        Long                           startTime,
+                        Predicate<OMRSAuditLogRecord>  consumer) throws IOException
+    {
+        long offset = (startTime == null) ? 0 : index.getSeekOffset(startTime);
+
+        try (BufferedReader reader = getReader(offset))
+        {
+            String line;
+
+            while ((line = reader.readLine()) != null)
+            {
+                OMRSAuditLogRecord logRecord = parseRecord(objectMapper, line);
+
+                if ((logRecord != null) && (! consumer.test(logRecord)))
+                {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Read the committed record that starts at the supplied offset in the segment.
+     *
+     * @param objectMapper mapper for the JSON content
+     * @param offset byte offset of the record from the index
+     * @return log record or null if there is no valid record at the offset
+     * @throws IOException unable to read the segment
+     */
+    OMRSAuditLogRecord readRecord(ObjectMapper objectMapper,
+                                  long         offset) throws IOException
+    {
+        try (BufferedReader reader = getReader(offset))
+        {
+            String line = reader.readLine();
+
+            if (line == null)
+            {
+                return null;
+            }
+
+            return parseRecord(objectMapper, line);
+        }
+    }
+
+
+    /**
+     * Return a reader for the committed part of the segment starting at the requested offset.
+     *
+     * @param offset offset to start reading from
+     * @return reader
+     * @throws IOException unable to open the file
+     */
+    private BufferedReader getReader(long offset) throws IOException
+    {
+        FileInputStream inputStream = new FileInputStream(segmentFile);
+        FileChannel     channel     = inputStream.getChannel();
+
+        channel.position(offset);
+
+        return new BufferedReader(new InputStreamReader(new BoundedInputStream(inputStream,
+                                                                               Math.max(committedLength - offset, 0)),
+                                                        StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Convert a line from the segment into a log record.  Lines that can not be parsed, such as a partial
+     * line written when the server stopped, are skipped.
+     *
+     * @param objectMapper mapper for the JSON content
+     * @param line line from the segment
+     * @return log record or null
+     */
+    private OMRSAuditLogRecord parseRecord(ObjectMapper objectMapper,
+                                           String       line)
+    {
+        if (line.isEmpty())
+        {
+            return null;
+        }
+
+        try
+        {
+            return objectMapper.readValue(line, OMRSAuditLogRecord.class);
+        }
+        catch (IOException error)
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,497 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * AuditLogSegmentIndex summarizes the audit log records stored in a segment of the file based audit log store.
+ * It records the range of timestamps, the severities and the reporting components found in the segment, along
+ * with a sparse list of checkpoints.  Each checkpoint is the byte offset of a record in the segment and the latest
+ * timestamp of the records that precede it.  A query for records written after a certain time can start reading
+ * from the last checkpoint whose preceding records are all older than that time.  The hash code of the GUID of
+ * each record is kept with the record's byte offset, so a record can be retrieved by its GUID without reading
+ * the whole segment.
+ *
+ * The index is saved as a JSON file alongside the segment when the segment is closed.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AuditLogSegmentIndex
+{
+    private static final int CHECKPOINT_INTERVAL = 256;
+
+    private long         recordCount  = 0;
+    private Long         minTimeStamp = null;
+    private Long         maxTimeStamp = null;
+    private Set<String>  severities   = new HashSet<>();
+    private Set<String>  components   = new HashSet<>();
+    private List<long[]> checkpoints  = new ArrayList<>();
+
+    /*
+     * The GUID hash codes and offsets are only ever appended to, so copies of the index share the arrays and
+     * only look at the entries that were present when they were copied.
+     */
+    private int[]        guidHashes   = new int[0];
+    private long[]       guidOffsets  = new long[0];
+    private int          guidCount    = 0;
+
+    private List<PendingRecord> pendingRecords = new ArrayList<>();
+
+
+    /**
+     * Default constructor
+     */
+    public AuditLogSegmentIndex()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor.  Pending records are not copied.
+     *
+     * @param template object to copy
+     */
+    public AuditLogSegmentIndex(AuditLogSegmentIndex template)
+    {
+        if (template != null)
+        {
+            recordCount = template.getRecordCount();
+            minTimeStamp = template.getMinTimeStamp();
+            maxTimeStamp = template.getMaxTimeStamp();
+            severities = new HashSet<>(template.getSeverities());
+            components = new HashSet<>(template.getComponents());
+            checkpoints = new ArrayList<>(template.getCheckpoints());
+            guidHashes = template.guidHashes;
+            guidOffsets = template.guidOffsets;
+            guidCount = template.guidCount;
+        }
+    }
+
+
+    /**
+     * Return the number of records in the segment.
+     *
+     * @return count
+     */
+    public long getRecordCount()
+    {
+        return recordCount;
+    }
+
+
+    /**
+     * Set up the number of records in the segment.
+     *
+     * @param recordCount count
+     */
+    public void setRecordCount(long recordCount)
+    {
+        this.recordCount = recordCount;
+    }
+
+
+    /**
+     * Return the earliest timestamp of the records in the segment.
+     *
+     * @return time in milliseconds or null if no records have timestamps
+     */
+    public Long getMinTimeStamp()
+    {
+        return minTimeStamp;
+    }
+
+
+    /**
+     * Set up the earliest timestamp of the records in the segment.
+     *
+     * @param minTimeStamp time in milliseconds
+     */
+    public void setMinTimeStamp(Long minTimeStamp)
+    {
+        this.minTimeStamp = minTimeStamp;
+    }
+
+
+    /**
+     * Return the latest timestamp of the records in the segment.
+     *
+     * @return time in milliseconds or null if no records have timestamps
+     */
+    public Long getMaxTimeStamp()
+    {
+        return maxTimeStamp;
+    }
+
+
+    /**
+     * Set up the latest timestamp of the records in the segment.
+     *
+     * @param maxTimeStamp time in milliseconds
+     */
+    public void setMaxTimeStamp(Long maxTimeStamp)
+    {
+        this.maxTimeStamp = maxTimeStamp;
+    }
+
+
+    /**
+     * Return the severities of the records in the segment.
+     *
+     * @return set of severity names
+     */
+    public Set<String> getSeverities()
+    {
+        return severities;
+    }
+
+
+    /**
+     * Set up the severities of the records in the segment.
+     *
+     * @param severities set of severity names
+     */
+    public void setSeverities(Set<String> severities)
+    {
+        this.severities = (severities == null) ? new HashSet<>() : severities;
+    }
+
+
+    /**
+     * Return the names of the components that reported the records in the segment.
+     *
+     * @return set of component names
+     */
+    public Set<String> getComponents()
+    {
+        return components;
+    }
+
+
+    /**
+     * Set up the names of the components that reported the records in the segment.
+     *
+     * @param components set of component names
+     */
+    public void setComponents(Set<String> components)
+    {
+        this.components = (components == null) ? new HashSet<>() : components;
+    }
+
+
+    /**
+     * Return the checkpoints for seeking into the segment.  Each checkpoint is a pair of the byte offset of a
+     * record and the latest timestamp of the records before that offset.
+     *
+     * @return list of offset/timestamp pairs
+     */
+    public List<long[]> getCheckpoints()
+    {
+        return checkpoints;
+    }
+
+
+    /**
+     * Set up the checkpoints for seeking into the segment.
+     *
+     * @param checkpoints list of offset/timestamp pairs
+     */
+    public void setCheckpoints(List<long[]> checkpoints)
+    {
+        this.checkpoints = (checkpoints == null) ? new ArrayList<>() : checkpoints;
+    }
+
+
+    /**
+     * Return the hash codes of the GUIDs of the records in the segment, in the order the records were written.
+     *
+     * @return array of hash codes
+     */
+    public int[] getGUIDHashes()
+    {
+        return Arrays.copyOf(guidHashes, guidCount);
+    }
+
+
+    /**
+     * Set up the hash codes of the GUIDs of the records in the segment.
+     *
+     * @param guidHashes array of hash codes
+     */
+    public void setGUIDHashes(int[] guidHashes)
+    {
+        this.guidHashes = (guidHashes == null) ? new int[0] : guidHashes;
+        this.guidCount = Math.min(this.guidHashes.length, this.guidOffsets.length);
+    }
+
+
+    /**
+     * Return the byte offsets of the records in the segment, in the same order as their GUID hash codes.
+     *
+     * @return array of offsets
+     */
+    public long[] getGUIDOffsets()
+    {
+        return Arrays.copyOf(guidOffsets, guidCount);
+    }
+
+
+    /**
+     * Set up the byte offsets of the records in the segment.
+     *
+     * @param guidOffsets array of offsets
+     */
+    public void setGUIDOffsets(long[] guidOffsets)
+    {
+        this.guidOffsets = (guidOffsets == null) ? new long[0] : guidOffsets;
+        this.guidCount = Math.min(this.guidHashes.length, this.guidOffsets.length);
+    }
+
+
+    /**
+     * Add a record to the index.
+     *
+     * @param offset byte offset of the record in the segment
+     * @param logRecord log record
+     */
+    void addRecord(long               offset,
+                   OMRSAuditLogRecord logRecord)
+    {
+        Long   timeStamp     = (logRecord.getTimeStamp() == null) ? null : logRecord.getTimeStamp().getTime();
+        String componentName = (logRecord.getOriginatorComponent() == null) ? null : logRecord.getOriginatorComponent().getComponentName();
+
+        this.addRecord(offset, timeStamp, logRecord.getSeverity(), componentName);
+        this.addGUID(offset, logRecord.getGUID());
+    }
+
+
+    /**
+     * Add the GUID of a record to the index.  The arrays are replaced rather than changed when they grow so
+     * copies of the index are not affected.
+     *
+     * @param offset byte offset of the record in the segment
+     * @param guid unique identifier of the record
+     */
+    private void addGUID(long   offset,
+                         String guid)
+    {
+        if (guidCount == guidHashes.length)
+        {
+            int capacity = Math.max(16, guidCount * 2);
+
+            guidHashes = Arrays.copyOf(guidHashes, capacity);
+            guidOffsets = Arrays.copyOf(guidOffsets, capacity);
+        }
+
+        guidHashes[guidCount] = (guid == null) ? 0 : guid.hashCode();
+        guidOffsets[guidCount] = offset;
+        guidCount++;
+    }
+
+
+    /**
+     * Determine whether the index holds the GUID of every record in the segment.  This is not the case for an
+     * index saved before the GUIDs were added to the index.
+     *
+     * @return boolean
+     */
+    boolean hasGUIDs()
+    {
+        return guidCount == recordCount;
+    }
+
+
+    /**
+     * Return the byte offsets of the records whose GUIDs have the same hash code as the requested GUID.
+     *
+     * @param guid unique identifier of a record
+     * @return list of offsets (empty if the segment does not hold the record)
+     */
+    List<Long> getGUIDOffsets(String guid)
+    {
+        List<Long> offsets  = new ArrayList<>();
+        int        guidHash = guid.hashCode();
+
+        for (int i = 0; i < guidCount; i++)
+        {
+            if (guidHashes[i] == guidHash)
+            {
+                offsets.add(guidOffsets[i]);
+            }
+        }
+
+        return offsets;
+    }
+
+
+    /**
+     * Add a record to the index.
+     *
+     * @param offset byte offset of the record in the segment
+     * @param timeStamp time of the record
+     * @param severity severity of the record
+     * @param componentName name of the reporting component
+     */
+    private void addRecord(long   offset,
+                           Long   timeStamp,
+                           String severity,
+                           String componentName)
+    {
+        if ((recordCount > 0) && (recordCount % CHECKPOINT_INTERVAL == 0))
+        {
+            checkpoints.add(new long[]{ offset, (maxTimeStamp == null) ? Long.MIN_VALUE : maxTimeStamp });
+        }
+
+        recordCount++;
+
+        if (timeStamp != null)
+        {
+            if ((minTimeStamp == null) || (timeStamp < minTimeStamp))
+            {
+                minTimeStamp = timeStamp;
+            }
+
+            if ((maxTimeStamp == null) || (timeStamp > maxTimeStamp))
+            {
+                maxTimeStamp = timeStamp;
+            }
+        }
+
+        if (severity != null)
+        {
+            severities.add(severity);
+        }
+
+        if (componentName != null)
+        {
+            components.add(componentName);
+        }
+    }
+
+
+    /**
+     * Remember a record that has been written to the segment but is not yet committed.
+     *
+     * @param offset byte offset of the record in the segment
+     * @param logRecord log record
+     */
+    void addPendingRecord(long               offset,
+                          OMRSAuditLogRecord logRecord)
+    {
+        pendingRecords.add(new PendingRecord(offset, logRecord));
+    }
+
+
+    /**
+     * Add the pending records to the index once they are committed.
+     */
+    void commitPendingRecords()
+    {
+        for (PendingRecord pendingRecord : pendingRecords)
+        {
+            this.addRecord(pendingRecord.offset, pendingRecord.logRecord);
+        }
+
+        pendingRecords.clear();
+    }
+
+
+    /**
+     * Forget the pending records because they could not be committed.
+     */
+    void discardPendingRecords()
+    {
+        pendingRecords.clear();
+    }
+
+
+    /**
+     * Return the offset in the segment to start reading from to find the records written at or after
+     * the start time.
+     *
+     * @param startTime time in milliseconds
+     * @return byte offset
+     */
+    long getSeekOffset(long startTime)
+    {
+        long offset = 0;
+        int  low    = 0;
+        int  high   = checkpoints.size() - 1;
+
+        /*
+         * The latest timestamps of the checkpoints never decrease, so a binary search finds the last
+         * checkpoint where all of the preceding records are older than the start time.
+         */
+        while (low <= high)
+        {
+            int    middle     = (low + high) >>> 1;
+            long[] checkpoint = checkpoints.get(middle);
+
+            if (checkpoint[1] < startTime)
+            {
+                offset = checkpoint[0];
+                low = middle + 1;
+            }
+            else
+            {
+                high = middle - 1;
+            }
+        }
+
+        return offset;
+    }
+
+
+    /**
+     * Determine whether the segment may contain records in the requested time period.
+     *
+     * @param startTime start of the time period (or null for no start)
+     * @param endTime end of the time period (or null for no end)
+     * @return boolean
+     */
+    boolean overlaps(Long startTime,
+                     Long endTime)
+    {
+        if (recordCount == 0)
+        {
+            return false;
+        }
+
+        if ((startTime != null) && (maxTimeStamp != null) && (maxTimeStamp < startTime))
+        {
+            return false;
+        }
+
+        return (endTime == null) || (minTimeStamp == null) || (minTimeStamp <= endTime);
+    }
+
+
+    /**
+     * PendingRecord is a record that is written but not yet committed.
+     */
+    private static class PendingRecord
+    {
+        private long               offset;
+        private OMRSAuditLogRecord logRecord;
+
+        PendingRecord(long               offset,
+                      OMRSAuditLogRecord logRecord)
+        {
+            this.offset = offset;
+            this.logRecord = logRecord;
+        }
+    }
+}
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.io.FileUtils;
 import org.odpi.openmetadata.frameworks.connectors.properties.EndpointProperties;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
@@ -16,21 +17,72 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * FileBasedAuditLogStoreConnector provides a connector implementation for a file based audit log.
- * The audit log is stored in a directory and each audit log record is stored as a file with a filename build
- * from the record's unique identifier (guid).
+ * The audit log is stored in a directory as a series of append-only segment files.  Each segment holds
+ * one audit log record per line in JSON format (newline delimited JSON).
+ *
+ * The audit log records are passed to a background writer thread that writes them in batches.  Each batch
+ * is forced to disk before the next one is written (group commit), so the cost of a disk sync is shared by all
+ * of the records in the batch.  A new segment is started when the current segment reaches its maximum size
+ * or age.  Each segment has a small index that is used by the queries to skip segments, and the start of
+ * segments, that can not contain matching records.  The index also locates the records by their GUIDs.
+ *
+ * If a batch can not be written, the segment is closed with only its committed records and the batch is
+ * written to a new segment after a pause.  A batch that still can not be written after several attempts is
+ * written to the server's log instead.
+ *
+ * The following configuration properties may be set in the connection.  Each value may be a number or a string:
+ * <ul>
+ *     <li>maxSegmentSize - maximum number of bytes in a segment (default 10MB)</li>
+ *     <li>segmentRolloverMinutes - maximum number of minutes that a segment is written to (default 60)</li>
+ *     <li>maxBatchSize - maximum number of records written in one batch (default 500)</li>
+ *     <li>maxQueueSize - maximum number of records waiting to be written before callers are blocked (default 10000)</li>
+ * </ul>
  */
 public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorBase
 {
     private static final String defaultDirectoryTemplate = "omag.server.auditlog";
 
+    private static final String maxSegmentSizeProperty         = "maxSegmentSize";
+    private static final String segmentRolloverMinutesProperty = "segmentRolloverMinutes";
+    private static final String maxBatchSizeProperty           = "maxBatchSize";
+    private static final String maxQueueSizeProperty           = "maxQueueSize";
+
+    private static final int    defaultMaxSegmentSize          = 10 * 1024 * 1024;
+    private static final int    defaultSegmentRolloverMinutes  = 60;
+    private static final int    defaultMaxBatchSize            = 500;
+    private static final int    defaultMaxQueueSize            = 10000;
+    private static final long   writerPollInterval             = 1000;
+    private static final int    maxWriteAttempts               = 5;
+    private static final long   writeRetryInterval             = 1000;
+
     private static final Logger log = LoggerFactory.getLogger(FileBasedAuditLogStoreConnector.class);
 
-    private String configStoreTemplateName  = null;
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String                           configStoreTemplateName  = null;
+    private File                             auditLogDirectory        = null;
+    private long                             maxSegmentSize           = defaultMaxSegmentSize;
+    private long                             segmentRolloverTime      = defaultSegmentRolloverMinutes * 60000L;
+    private int                              maxBatchSize             = defaultMaxBatchSize;
+
+    private BlockingQueue<OMRSAuditLogRecord> pendingRecords          = null;
+    private List<AuditLogSegment>            segments                 = new CopyOnWriteArrayList<>();
+    private AuditLogSegment                  activeSegment            = null;
+    private Thread                           writerThread             = null;
+    private volatile boolean                 running                  = false;
 
 
     /**
@@ -42,7 +94,7 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
 
     /**
-     * Set up the name of the file store
+     * Set up the name of the file store, load the indexes of the existing segments and start the writer thread.
      *
      * @throws ConnectorCheckedException something went wrong
      */
@@ -63,21 +115,128 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
             configStoreTemplateName = defaultDirectoryTemplate;
         }
 
+        int maxQueueSize = defaultMaxQueueSize;
+
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+
+        if (configurationProperties != null)
+        {
+            Long propertyValue = getNumericProperty(configurationProperties, maxSegmentSizeProperty);
+            if (propertyValue != null)
+            {
+                maxSegmentSize = propertyValue;
+            }
+
+            propertyValue = getNumericProperty(configurationProperties, segmentRolloverMinutesProperty);
+            if (propertyValue != null)
+            {
+                segmentRolloverTime = propertyValue * 60000L;
+            }
+
+            propertyValue = getNumericProperty(configurationProperties, maxBatchSizeProperty);
+            if ((propertyValue != null) && (propertyValue > 0))
+            {
+                maxBatchSize = propertyValue.intValue();
+            }
+
+            propertyValue = getNumericProperty(configurationProperties, maxQueueSizeProperty);
+            if ((propertyValue != null) && (propertyValue > 0))
+            {
+                maxQueueSize = propertyValue.intValue();
+            }
+        }
+
         try
         {
-            File         configStoreDirectory = new File(configStoreTemplateName);
+            auditLogDirectory = new File(configStoreTemplateName);
+
+            FileUtils.forceMkdir(auditLogDirectory);
 
-            FileUtils.forceMkdir(configStoreDirectory);
+            loadSegments();
         }
         catch (IOException ioException)
         {
             log.error("Unusable Server Audit Log Store :(", ioException);
         }
+
+        pendingRecords = new LinkedBlockingQueue<>(maxQueueSize);
+        running = true;
+
+        writerThread = new Thread(new AuditLogWriter(), "FileBasedAuditLogWriter-" + configStoreTemplateName);
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+
+    /**
+     * Return the value of a numeric configuration property.  JSON configuration may supply the value as any
+     * type of number, or as a string.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @return property value or null if the value is missing or not valid
+     */
+    private Long getNumericProperty(Map<String, Object> configurationProperties,
+                                    String              propertyName)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).longValue();
+        }
+        else if (propertyValue instanceof String)
+        {
+            try
+            {
+                return Long.parseLong(((String)propertyValue).trim());
+            }
+            catch (NumberFormatException error)
+            {
+                log.error("Ignoring {} value {} because it is not a number", propertyName, propertyValue);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Load the indexes of the segments already in the audit log directory.  New records are always written to a
+     * new segment.
+     *
+     * @throws IOException unable to read the directory
+     */
+    private void loadSegments() throws IOException
+    {
+        File[] files = auditLogDirectory.listFiles();
+
+        if (files != null)
+        {
+            List<AuditLogSegment> existingSegments = new ArrayList<>();
+
+            for (File file : files)
+            {
+                long sequenceNumber = AuditLogSegment.getSequenceNumber(file);
+
+                if (sequenceNumber >= 0)
+                {
+                    AuditLogSegment segment = new AuditLogSegment(auditLogDirectory, sequenceNumber);
+
+                    segment.load(objectMapper);
+                    existingSegments.add(segment);
+                }
+            }
+
+            existingSegments.sort((segment1, segment2) -> Long.compare(segment1.getSequenceNumber(), segment2.getSequenceNumber()));
+            segments.addAll(existingSegments);
+        }
     }
 
 
     /**
-     * Store the audit log record in the audit log store.
+     * Store the audit log record in the audit log store.  The record is queued for the writer thread.
+     * If the queue is full, the caller waits until there is space.
      *
      * @param logRecord  log record to store
      * @return unique identifier assigned to the log record
@@ -91,18 +250,21 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
         if (isSupportedSeverity(logRecord))
         {
-            try
+            if (running)
             {
-                File configStoreFile =
-                        new File(configStoreTemplateName + "/log-record-" + logRecord.getGUID());
-                ObjectMapper objectMapper    = new ObjectMapper();
-
-                String configStoreFileContents = objectMapper.writeValueAsString(logRecord);
-                FileUtils.writeStringToFile(configStoreFile, configStoreFileContents, (String)null, false);
+                try
+                {
+                    pendingRecords.put(logRecord);
+                }
+                catch (InterruptedException interruptedException)
+                {
+                    log.error("Audit log record {} not stored", logRecord.getGUID(), interruptedException);
+                    Thread.currentThread().interrupt();
+                }
             }
-            catch (IOException ioException)
+            else
             {
-                log.error("Unusable Server Audit Log Store :(", ioException);
+                log.error("Audit log record {} not stored because the audit log store is not running", logRecord.getGUID());
             }
         }
 
@@ -111,7 +273,9 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
 
 
     /**
-     * Retrieve a specific audit log record.
+     * Retrieve a specific audit log record.  The segment indexes give the offsets of the records with the
+     * same GUID hash code, so only those records are read.  Segments with an index that does not hold the
+     * GUIDs are read in full.
      *
      * @param logRecordId unique identifier for the log record
      * @return requested audit log record
@@ -123,6 +287,61 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     {
         final String methodName = "getAuditLogRecord";
 
+        if (logRecordId == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            for (AuditLogSegment segment : segments)
+            {
+                AuditLogSegmentIndex index = segment.getIndex();
+
+                if (index.hasGUIDs())
+                {
+                    for (long offset : index.getGUIDOffsets(logRecordId))
+                    {
+                        OMRSAuditLogRecord logRecord = segment.readRecord(objectMapper, offset);
+
+                        if ((logRecord != null) && (logRecordId.equals(logRecord.getGUID())))
+                        {
+                            return logRecord;
+                        }
+                    }
+                }
+                else
+                {
+                    List<OMRSAuditLogRecord> results = new ArrayList<>();
+
+                    segment.readRecords(objectMapper, index, null, logRecord ->
+                    {
+                        if (logRecordId.equals(logRecord.getGUID()))
+                        {
+                            results.add(logRecord);
+
+                            return false;
+                        }
+
+                        return true;
+                    });
+
+                    if (! results.isEmpty())
+                    {
+                        return results.get(0);
+                    }
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(super.getDestinationName(),
+                                                                                                               ioException.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               ioException);
+        }
+
         return null;
     }
 
@@ -149,7 +368,15 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     {
         final String methodName = "getAuditLogRecordsByTimeStamp";
 
-        return null;
+        this.validatePaging(offset, maximumRecords, methodName);
+
+        return this.findRecords(startDate,
+                                endDate,
+                                index -> true,
+                                logRecord -> true,
+                                offset,
+                                maximumRecords,
+                                methodName);
     }
 
 
@@ -177,7 +404,20 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     {
         final String methodName = "getAuditLogRecordsBySeverity";
 
-        return null;
+        this.validatePaging(offset, maximumRecords, methodName);
+
+        if (severity == null)
+        {
+            return this.getAuditLogRecordsByTimeStamp(startDate, endDate, offset, maximumRecords);
+        }
+
+        return this.findRecords(startDate,
+                                endDate,
+                                index -> index.getSeverities().contains(severity),
+                                logRecord -> severity.equals(logRecord.getSeverity()),
+                                offset,
+                                maximumRecords,
+                                methodName);
     }
 
 
@@ -205,17 +445,426 @@ public class FileBasedAuditLogStoreConnector extends OMRSAuditLogStoreConnectorB
     {
         final String methodName = "getAuditLogRecordsByComponent";
 
-        return null;
+        this.validatePaging(offset, maximumRecords, methodName);
+
+        if (component == null)
+        {
+            return this.getAuditLogRecordsByTimeStamp(startDate, endDate, offset, maximumRecords);
+        }
+
+        return this.findRecords(startDate,
+                                endDate,
+                                index -> index.getComponents().contains(component),
+                                logRecord -> (logRecord.getOriginatorComponent() != null) &&
+                                             (component.equals(logRecord.getOriginatorComponent().getComponentName())),
+                                offset,
+                                maximumRecords,
+                                methodName);
     }
 
 
     /**
-     * Free up any resources held since the connector is no longer needed.
+     * Validate the paging parameters.
+     *
+     * @param offset offset of full collection to begin the return results
+     * @param maximumRecords maximum number of log records to return
+     * @param methodName calling method
+     * @throws PagingErrorException one of the values is negative
+     */
+    private void validatePaging(int    offset,
+                                int    maximumRecords,
+                                String methodName) throws PagingErrorException
+    {
+        final String offsetParameterName         = "offset";
+        final String maximumRecordsParameterName = "maximumRecords";
+
+        if (offset < 0)
+        {
+            throw new PagingErrorException(OMRSErrorCode.NEGATIVE_PAGE_SIZE.getMessageDefinition(Integer.toString(offset),
+                                                                                                 offsetParameterName,
+                                                                                                 methodName,
+                                                                                                 super.getDestinationName()),
+                                           this.getClass().getName(),
+                                           methodName);
+        }
+
+        if (maximumRecords < 0)
+        {
+            throw new PagingErrorException(OMRSErrorCode.NEGATIVE_PAGE_SIZE.getMessageDefinition(Integer.toString(maximumRecords),
+                                                                                                 maximumRecordsParameterName,
+                                                                                                 methodName,
+                                                                                                 super.getDestinationName()),
+                                           this.getClass().getName(),
+                                           methodName);
+        }
+    }
+
+
+    /**
+     * Locate the committed log records that match the search criteria.  The segments are read in the order
+     * they were written.  The segment indexes are used to skip the segments that can not hold matching records,
+     * and to seek past the older records at the start of a segment.  Records that are still waiting for the
+     * writer thread are not returned.
+     *
+     * @param startDate start of time period (null means no start)
+     * @param endDate end of time period (null means no end)
+     * @param segmentFilter test of a segment's index to determine if it may hold matching records
+     * @param recordFilter test of a log record
+     * @param offset number of matching records to skip
+     * @param maximumRecords maximum number of log records to return (zero means no limit)
+     * @param methodName calling method
+     * @return list of log records or null if there are no matching records
+     * @throws RepositoryErrorException unable to read the segments
+     */
+    private List<OMRSAuditLogRecord> findRecords(Date                           startDate,
+                                                 Date                           endDate,
+                                                 Predicate<AuditLogSegmentIndex> segmentFilter,
+                                                 Predicate<OMRSAuditLogRecord>   recordFilter,
+                                                 int                            offset,
+                                                 int                            maximumRecords,
+                                                 String                         methodName) throws RepositoryErrorException
+    {
+        Long                     startTime = (startDate == null) ? null : startDate.getTime();
+        Long                     endTime   = (endDate == null) ? null : endDate.getTime();
+        List<OMRSAuditLogRecord> results   = new ArrayList<>();
+        int[]                    skipCount = { offset };
+
+        Predicate<OMRSAuditLogRecord> consumer = logRecord ->
+        {
+            if (this.isInTimePeriod(logRecord, startTime, endTime) && recordFilter.test(logRecord))
+            {
+                if (skipCount[0] > 0)
+                {
+                    skipCount[0]--;
+                }
+                else
+                {
+                    results.add(logRecord);
+                }
+            }
+
+            return (maximumRecords == 0) || (results.size() < maximumRecords);
+        };
+
+        try
+        {
+            for (AuditLogSegment segment : segments)
+            {
+                AuditLogSegmentIndex index = segment.getIndex();
+
+                if (index.overlaps(startTime, endTime) && segmentFilter.test(index))
+                {
+                    if (! segment.readRecords(objectMapper, index, startTime, consumer))
+                    {
+                        break;
+                    }
+                }
+            }
+        }
+        catch (IOException ioException)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.AUDIT_LOG_STORE_NOT_AVAILABLE.getMessageDefinition(super.getDestinationName(),
+                                                                                                               ioException.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               ioException);
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Test whether a log record was written in the requested time period.
+     *
+     * @param logRecord log record
+     * @param startTime start of the time period (or null)
+     * @param endTime end of the time period (or null)
+     * @return boolean
+     */
+    private boolean isInTimePeriod(OMRSAuditLogRecord logRecord,
+                                   Long               startTime,
+                                   Long               endTime)
+    {
+        if ((startTime == null) && (endTime == null))
+        {
+            return true;
+        }
+
+        if (logRecord.getTimeStamp() == null)
+        {
+            return false;
+        }
+
+        long timeStamp = logRecord.getTimeStamp().getTime();
+
+        return ((startTime == null) || (timeStamp >= startTime)) && ((endTime == null) || (timeStamp <= endTime));
+    }
+
+
+    /**
+     * Free up any resources held since the connector is no longer needed.  The records waiting to be
+     * written are stored before the active segment is closed.
      *
      * @throws ConnectorCheckedException there is a problem within the connector.
      */
     public  void disconnect() throws ConnectorCheckedException
     {
+        running = false;
+
+        if (writerThread != null)
+        {
+            try
+            {
+                writerThread.join();
+            }
+            catch (InterruptedException interruptedException)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            writerThread = null;
+        }
+
         super.disconnect();
     }
+
+
+    /**
+     * AuditLogWriter is the background thread that writes the queued log records to the active segment.
+     */
+    private class AuditLogWriter implements Runnable
+    {
+        /**
+         * Write the queued records in batches until the connector is disconnected and the queue is empty.
+         */
+        public void run()
+        {
+            List<OMRSAuditLogRecord> batch = new ArrayList<>();
+
+            while (running || (! pendingRecords.isEmpty()))
+            {
+                try
+                {
+                    OMRSAuditLogRecord logRecord = pendingRecords.poll(writerPollInterval, TimeUnit.MILLISECONDS);
+
+                    if (logRecord != null)
+                    {
+                        batch.add(logRecord);
+                        pendingRecords.drainTo(batch, maxBatchSize - 1);
+
+                        writeBatchWithRetry(batch);
+                        batch.clear();
+                    }
+                    else if ((activeSegment != null) && (isSegmentExpired(activeSegment)))
+                    {
+                        closeActiveSegment();
+                    }
+                }
+                catch (InterruptedException interruptedException)
+                {
+                    log.debug("Audit log writer interrupted");
+                }
+                catch (Throwable error)
+                {
+                    log.error("Unusable Server Audit Log Store :(", error);
+                }
+            }
+
+            try
+            {
+                closeActiveSegment();
+            }
+            catch (IOException ioException)
+            {
+                log.error("Unusable Server Audit Log Store :(", ioException);
+            }
+        }
+
+
+        /**
+         * Write a batch of records.  If the write fails, the active segment is abandoned and the batch is written
+         * to a new segment after a pause.  The records are written to the server's log if the batch can not be
+         * written after the maximum number of attempts.
+         *
+         * @param batch list of records
+         */
+        private void writeBatchWithRetry(List<OMRSAuditLogRecord> batch)
+        {
+            List<OMRSAuditLogRecord> records = new ArrayList<>();
+            List<byte[]>             lines   = new ArrayList<>();
+
+            for (OMRSAuditLogRecord logRecord : batch)
+            {
+                try
+                {
+                    lines.add((objectMapper.writeValueAsString(logRecord) + "\n").getBytes(StandardCharsets.UTF_8));
+                    records.add(logRecord);
+                }
+                catch (IOException error)
+                {
+                    /*
+                     * This record can never be written so it does not hold up the rest of the batch.
+                     */
+                    log.error("Audit log record not stored because it can not be converted to JSON: {}", logRecord, error);
+                }
+            }
+
+            for (int attempt = 1; ! records.isEmpty(); attempt++)
+            {
+                try
+                {
+                    writeBatch(records, lines);
+                }
+                catch (Throwable error)
+                {
+                    log.error("Unable to write {} audit log records on attempt {}", records.size(), attempt, error);
+
+                    abandonActiveSegment();
+
+                    if (attempt >= maxWriteAttempts)
+                    {
+                        for (OMRSAuditLogRecord logRecord : records)
+                        {
+                            log.error("Audit log record not stored: {}", logRecord);
+                        }
+
+                        return;
+                    }
+
+                    try
+                    {
+                        Thread.sleep(writeRetryInterval * attempt);
+                    }
+                    catch (InterruptedException interruptedException)
+                    {
+                        log.debug("Audit log writer interrupted");
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Write a batch of records and commit them.  A new segment is started when the active segment is full or
+         * has been open for longer than the rollover time.  The records are removed from the lists once they are
+         * committed, so if the write fails the lists hold the records that still need to be written.
+         *
+         * @param batch list of records
+         * @param lines JSON for each record including the line terminator
+         * @throws IOException problem writing to the file system
+         */
+        private void writeBatch(List<OMRSAuditLogRecord> batch,
+                                List<byte[]>             lines) throws IOException
+        {
+            int appendedCount = 0;
+
+            while (appendedCount < batch.size())
+            {
+                if ((activeSegment != null) &&
+                    ((activeSegment.getWritePosition() >= maxSegmentSize) || (isSegmentExpired(activeSegment))))
+                {
+                    activeSegment.commit();
+                    batch.subList(0, appendedCount).clear();
+                    lines.subList(0, appendedCount).clear();
+                    appendedCount = 0;
+
+                    closeActiveSegment();
+                }
+
+                if (activeSegment == null)
+                {
+                    openActiveSegment();
+                }
+
+                activeSegment.append(batch.get(appendedCount), lines.get(appendedCount));
+                appendedCount++;
+            }
+
+            if (activeSegment != null)
+            {
+                activeSegment.commit();
+            }
+
+            batch.clear();
+            lines.clear();
+        }
+
+
+        /**
+         * Determine whether the segment has been open longer than the rollover time.
+         *
+         * @param segment segment to test
+         * @return boolean
+         */
+        private boolean isSegmentExpired(AuditLogSegment segment)
+        {
+            return (segmentRolloverTime > 0) && (System.currentTimeMillis() - segment.getOpenTime() >= segmentRolloverTime);
+        }
+
+
+        /**
+         * Start a new segment.
+         *
+         * @throws IOException unable to create the segment file
+         */
+        private void openActiveSegment() throws IOException
+        {
+            long sequenceNumber = 0;
+
+            if (! segments.isEmpty())
+            {
+                sequenceNumber = segments.get(segments.size() - 1).getSequenceNumber() + 1;
+            }
+
+            AuditLogSegment segment = new AuditLogSegment(auditLogDirectory, sequenceNumber);
+
+            segment.openForWrite();
+            segments.add(segment);
+            activeSegment = segment;
+        }
+
+
+        /**
+         * Close the active segment after a failed write so that the next batch is written to a new segment.
+         */
+        private void abandonActiveSegment()
+        {
+            if (activeSegment != null)
+            {
+                AuditLogSegment segment = activeSegment;
+
+                activeSegment = null;
+                segment.abandon(objectMapper);
+            }
+        }
+
+
+        /**
+         * Close the active segment and save its index.
+         *
+         * @throws IOException unable to write to the file system
+         */
+        private void closeActiveSegment() throws IOException
+        {
+            if (activeSegment != null)
+            {
+                try
+                {
+                    activeSegment.close(objectMapper);
+                    activeSegment = null;
+                }
+                catch (IOException ioException)
+                {
+                    abandonActiveSegment();
+                    throw ioException;
+                }
+            }
+        }
+    }
 }
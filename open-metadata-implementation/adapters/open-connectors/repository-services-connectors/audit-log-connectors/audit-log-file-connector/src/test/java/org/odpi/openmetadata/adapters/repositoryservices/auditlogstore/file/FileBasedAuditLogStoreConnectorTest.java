@@ -0,0 +1,434 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.auditlogstore.file;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.io.FileUtils;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogReportingComponent;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Test the writing, rollover, index lookup and error recovery of the file based audit log store.
+ */
+public class FileBasedAuditLogStoreConnectorTest
+{
+    private File auditLogDirectory;
+
+
+    /**
+     * Create an empty directory for the audit log.
+     *
+     * @throws Exception unable to create the directory
+     */
+    @BeforeMethod
+    public void createDirectory() throws Exception
+    {
+        auditLogDirectory = Files.createTempDirectory("audit-log-test").toFile();
+    }
+
+
+    /**
+     * Remove the audit log directory.
+     *
+     * @throws Exception unable to remove the directory
+     */
+    @AfterMethod
+    public void removeDirectory() throws Exception
+    {
+        FileUtils.forceDelete(auditLogDirectory);
+    }
+
+
+    /**
+     * Records are returned by each of the queries, including after the audit log is restarted.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testWriteAndRead() throws Exception
+    {
+        FileBasedAuditLogStoreConnector connector = getConnector(null);
+
+        OMRSAuditLogRecord record1 = getRecord(1000, "Information", "component1");
+        OMRSAuditLogRecord record2 = getRecord(2000, "Error", "component2");
+        OMRSAuditLogRecord record3 = getRecord(3000, "Information", "component2");
+
+        connector.storeLogRecord(record1);
+        connector.storeLogRecord(record2);
+        connector.storeLogRecord(record3);
+        connector.disconnect();
+
+        connector = getConnector(null);
+
+        assertEquals(connector.getAuditLogRecord(record2.getGUID()).getGUID(), record2.getGUID());
+        assertNull(connector.getAuditLogRecord(UUID.randomUUID().toString()));
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)),
+                     getGUIDs(record1, record2, record3));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(new Date(1500), new Date(3000), 0, 0)),
+                     getGUIDs(record2, record3));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 1, 1)),
+                     getGUIDs(record2));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsBySeverity("Information", null, null, 0, 0)),
+                     getGUIDs(record1, record3));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByComponent("component2", null, null, 0, 0)),
+                     getGUIDs(record2, record3));
+        assertNull(connector.getAuditLogRecordsByComponent("component3", null, null, 0, 0));
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * A new segment is started when the active segment is full, and the queries read across the segments.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testRollover() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("maxSegmentSize", 1);
+
+        FileBasedAuditLogStoreConnector connector = getConnector(configurationProperties);
+        List<OMRSAuditLogRecord>        records   = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++)
+        {
+            OMRSAuditLogRecord logRecord = getRecord(1000 + i, "Information", "component" + i);
+
+            records.add(logRecord);
+            connector.storeLogRecord(logRecord);
+        }
+
+        connector.disconnect();
+
+        assertEquals(countFiles(AuditLogSegment.SEGMENT_FILE_EXTENSION), 5);
+        assertEquals(countFiles(AuditLogSegment.INDEX_FILE_EXTENSION), 5);
+
+        connector = getConnector(configurationProperties);
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(records));
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByComponent("component3", null, null, 0, 0)),
+                     getGUIDs(records.get(3)));
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * The size of a segment may be configured as a string or as any type of number.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testConfigurationValues() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("maxSegmentSize", "1");
+        configurationProperties.put("maxBatchSize", 1L);
+
+        FileBasedAuditLogStoreConnector connector = getConnector(configurationProperties);
+
+        for (int i = 0; i < 3; i++)
+        {
+            connector.storeLogRecord(getRecord(1000 + i, "Information", "component1"));
+        }
+
+        connector.disconnect();
+
+        assertEquals(countFiles(AuditLogSegment.SEGMENT_FILE_EXTENSION), 3);
+    }
+
+
+    /**
+     * The index of a segment is used to seek to the requested time and to find a record by its GUID.  The index
+     * is rebuilt from the segment if the index file is missing.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testIndexLookup() throws Exception
+    {
+        FileBasedAuditLogStoreConnector connector = getConnector(null);
+        List<OMRSAuditLogRecord>        records   = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++)
+        {
+            OMRSAuditLogRecord logRecord = getRecord(i, (i == 10) ? "Error" : "Information", "component1");
+
+            records.add(logRecord);
+            connector.storeLogRecord(logRecord);
+        }
+
+        connector.disconnect();
+
+        AuditLogSegment segment = new AuditLogSegment(auditLogDirectory, 0);
+        segment.load(new ObjectMapper());
+
+        AuditLogSegmentIndex index = segment.getIndex();
+
+        assertEquals(index.getRecordCount(), 1000);
+        assertEquals((long) index.getMinTimeStamp(), 0);
+        assertEquals((long) index.getMaxTimeStamp(), 999);
+        assertEquals(index.getSeekOffset(0), 0);
+        assertTrue(index.getSeekOffset(800) > 0);
+        assertTrue(index.hasGUIDs());
+        assertEquals(segment.readRecord(new ObjectMapper(), index.getGUIDOffsets(records.get(500).getGUID()).get(0)).getGUID(),
+                     records.get(500).getGUID());
+
+        connector = getConnector(null);
+
+        assertEquals(connector.getAuditLogRecord(records.get(500).getGUID()).getGUID(), records.get(500).getGUID());
+        assertEquals(connector.getAuditLogRecordsByTimeStamp(new Date(800), null, 0, 0).size(), 200);
+        assertEquals(connector.getAuditLogRecordsBySeverity("Error", null, null, 0, 0).size(), 1);
+        assertNull(connector.getAuditLogRecordsByComponent("component2", null, null, 0, 0));
+
+        connector.disconnect();
+
+        for (File indexFile : getFiles(AuditLogSegment.INDEX_FILE_EXTENSION))
+        {
+            FileUtils.forceDelete(indexFile);
+        }
+
+        connector = getConnector(null);
+
+        assertEquals(connector.getAuditLogRecord(records.get(999).getGUID()).getGUID(), records.get(999).getGUID());
+        assertEquals(connector.getAuditLogRecordsByTimeStamp(new Date(800), null, 0, 0).size(), 200);
+        assertEquals(connector.getAuditLogRecordsBySeverity("Error", null, null, 0, 0).size(), 1);
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * A record is found by its GUID in a segment whose index was saved without the GUIDs of its records.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testIndexWithoutGUIDs() throws Exception
+    {
+        FileBasedAuditLogStoreConnector connector = getConnector(null);
+        OMRSAuditLogRecord              record1   = getRecord(1000, "Information", "component1");
+        OMRSAuditLogRecord              record2   = getRecord(2000, "Information", "component1");
+
+        connector.storeLogRecord(record1);
+        connector.storeLogRecord(record2);
+        connector.disconnect();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        for (File indexFile : getFiles(AuditLogSegment.INDEX_FILE_EXTENSION))
+        {
+            ObjectNode index = (ObjectNode) objectMapper.readTree(indexFile);
+
+            index.remove("guidhashes");
+            index.remove("guidoffsets");
+            objectMapper.writeValue(indexFile, index);
+        }
+
+        connector = getConnector(null);
+
+        assertEquals(connector.getAuditLogRecord(record2.getGUID()).getGUID(), record2.getGUID());
+        assertNull(connector.getAuditLogRecord(UUID.randomUUID().toString()));
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * A record that can not be written because the directory is unusable is written once the directory
+     * can be used again.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testErrorRecovery() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+        configurationProperties.put("maxSegmentSize", 1);
+
+        FileBasedAuditLogStoreConnector connector = getConnector(configurationProperties);
+
+        OMRSAuditLogRecord record1 = getRecord(1000, "Information", "component1");
+        OMRSAuditLogRecord record2 = getRecord(2000, "Information", "component1");
+
+        connector.storeLogRecord(record1);
+
+        for (int i = 0; (i < 100) && (connector.getAuditLogRecord(record1.getGUID()) == null); i++)
+        {
+            Thread.sleep(50);
+        }
+
+        assertNotNull(connector.getAuditLogRecord(record1.getGUID()));
+
+        /*
+         * Replace the directory with a file so the next segment can not be created.
+         */
+        FileUtils.forceDelete(auditLogDirectory);
+        assertTrue(auditLogDirectory.createNewFile());
+
+        connector.storeLogRecord(record2);
+        Thread.sleep(500);
+
+        FileUtils.forceDelete(auditLogDirectory);
+        FileUtils.forceMkdir(auditLogDirectory);
+
+        connector.disconnect();
+
+        connector = getConnector(configurationProperties);
+
+        assertEquals(getGUIDs(connector.getAuditLogRecordsByTimeStamp(null, null, 0, 0)), getGUIDs(record2));
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Create and start a connector for the audit log directory.
+     *
+     * @param configurationProperties configuration properties for the connection
+     * @return started connector
+     * @throws Exception unable to start the connector
+     */
+    private FileBasedAuditLogStoreConnector getConnector(Map<String, Object> configurationProperties) throws Exception
+    {
+        Endpoint endpoint = new Endpoint();
+        endpoint.setAddress(auditLogDirectory.getAbsolutePath());
+
+        Connection connection = new Connection();
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        FileBasedAuditLogStoreConnector connector = new FileBasedAuditLogStoreConnector();
+
+        connector.initialize(UUID.randomUUID().toString(), new ConnectionProperties(connection));
+        connector.start();
+
+        return connector;
+    }
+
+
+    /**
+     * Create an audit log record.
+     *
+     * @param timeStamp time of the record
+     * @param severity severity of the record
+     * @param componentName reporting component
+     * @return log record
+     */
+    private OMRSAuditLogRecord getRecord(long   timeStamp,
+                                         String severity,
+                                         String componentName)
+    {
+        AuditLogReportingComponent reportingComponent = new AuditLogReportingComponent();
+        reportingComponent.setComponentName(componentName);
+
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+        logRecord.setGUID(UUID.randomUUID().toString());
+        logRecord.setTimeStamp(new Date(timeStamp));
+        logRecord.setSeverity(severity);
+        logRecord.setOriginatorProperties(Collections.singletonMap("serverName", "testServer"));
+        logRecord.setOriginatorComponent(reportingComponent);
+        logRecord.setMessageText("Test message " + timeStamp);
+
+        return logRecord;
+    }
+
+
+    /**
+     * Return the unique identifiers of the log records.
+     *
+     * @param logRecords log records
+     * @return list of GUIDs
+     */
+    private List<String> getGUIDs(OMRSAuditLogRecord... logRecords)
+    {
+        List<OMRSAuditLogRecord> recordList = new ArrayList<>();
+
+        Collections.addAll(recordList, logRecords);
+
+        return getGUIDs(recordList);
+    }
+
+
+    /**
+     * Return the unique identifiers of the log records.
+     *
+     * @param logRecords log records
+     * @return list of GUIDs
+     */
+    private List<String> getGUIDs(List<OMRSAuditLogRecord> logRecords)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (OMRSAuditLogRecord logRecord : logRecords)
+        {
+            guids.add(logRecord.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the files in the audit log directory with the requested extension.
+     *
+     * @param extension file extension
+     * @return list of files
+     */
+    private List<File> getFiles(String extension)
+    {
+        List<File> files = new ArrayList<>();
+        File[]     directoryFiles = auditLogDirectory.listFiles();
+
+        if (directoryFiles != null)
+        {
+            for (File file : directoryFiles)
+            {
+                if (file.getName().endsWith(extension))
+                {
+                    files.add(file);
+                }
+            }
+        }
+
+        return files;
+    }
+
+
+    /**
+     * Count the files in the audit log directory with the requested extension.
+     *
+     * @param extension file extension
+     * @return count
+     */
+    private int countFiles(String extension)
+    {
+        return getFiles(extension).size();
+    }
+}
@@ -58,6 +58,14 @@ public enum GraphOMRSAuditCode implements AuditLogMessageSet
             "The OMRS Graph Repository has been opened.",
             "The local server has created and initialized the Local OMRS Graph Repository database.",
             "No action is required. The existing graph repository has been opened and validated successfully."),
+
+    BULK_LOAD_DUPLICATE_GUID("OMRS-GRAPH-REPOSITORY-0004",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "The OMRS Graph Repository {0} has {1} copies of the instance with GUID {2} after a bulk load.",
+            "The bulk load does not lock the GUID index.  Other requests to the repository wait for the bulk load to complete, " +
+                                     "so another process has probably added an instance with the same GUID.  Requests for this GUID may " +
+                                     "return either copy, and the bulk load is reported as failed.",
+            "Purge the reference copy of the instance with this GUID and then refresh it from its home repository."),
     ;
 
     AuditLogMessageDefinition messageDefinition;
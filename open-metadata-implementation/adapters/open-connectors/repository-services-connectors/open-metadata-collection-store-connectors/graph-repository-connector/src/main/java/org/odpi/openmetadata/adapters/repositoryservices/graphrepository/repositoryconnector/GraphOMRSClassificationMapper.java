@@ -7,6 +7,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ClassificationOrigin;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
@@ -16,6 +17,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
@@ -28,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -74,12 +77,97 @@ public class GraphOMRSClassificationMapper {
             } else {
                 removeProperty(vertex, qualifiedPropName);
             }
+        } else if (ipvCat == InstancePropertyCategory.ARRAY) {
+            // Arrays of strings (such as the zones of an asset) are also stored in their flattened form so they can be searched
+            String flattenedValue = getFlattenedStringArray((ArrayPropertyValue) ipv);
+            if (flattenedValue != null) {
+                vertex.property(getPropertyKeyClassification(qualifiedPropName), flattenedValue);
+            } else {
+                removeProperty(vertex, qualifiedPropName);
+            }
         } else {
             log.debug("{} non-primitive instance property {}", propertyName);
         }
     }
 
 
+    /*
+     * Return an array of strings flattened to the "{ value, value }" form that the repository validator uses to match an
+     * array property.  Null is returned if the array is empty or has a value that is not a string.
+     */
+    private String getFlattenedStringArray(ArrayPropertyValue apv) {
+        InstanceProperties arrayValues = apv.getArrayValues();
+        if (arrayValues == null || arrayValues.getInstanceProperties() == null || arrayValues.getInstanceProperties().isEmpty()) {
+            return null;
+        }
+
+        StringBuilder flattenedValue = new StringBuilder();
+        Iterator<String> arrayIndexes = arrayValues.getPropertyNames();
+        while (arrayIndexes.hasNext()) {
+            InstancePropertyValue arrayValue = arrayValues.getPropertyValue(arrayIndexes.next());
+            if (!(arrayValue instanceof PrimitivePropertyValue)
+                    || ((PrimitivePropertyValue) arrayValue).getPrimitiveDefCategory() != PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING
+                    || ((PrimitivePropertyValue) arrayValue).getPrimitiveValue() == null) {
+                return null;
+            }
+            flattenedValue.append(flattenedValue.length() == 0 ? "{ " : ", ");
+            flattenedValue.append(((PrimitivePropertyValue) arrayValue).getPrimitiveValue().toString());
+        }
+        flattenedValue.append(" }");
+
+        return flattenedValue.toString();
+    }
+
+
+    /*
+     * Add the flattened form of any array of strings in the classification's serialized properties that is missing
+     * from the vertex.  Classifications stored before arrays were flattened only have the serialized form, so they
+     * are not found by a search on the array until this has been done.  Returns true if the vertex was changed.
+     */
+    public boolean addMissingFlattenedArrays(Vertex vertex)
+    {
+        final String methodName = "addMissingFlattenedArrays";
+
+        String stringProps = (String) getVertexProperty(vertex, "classificationProperties");
+        String typeName = (String) getVertexProperty(vertex, PROPERTY_KEY_CLASSIFICATION_TYPE_NAME);
+        if (stringProps == null || typeName == null) {
+            return false;
+        }
+
+        InstanceProperties classificationProperties;
+        try {
+            classificationProperties = new ObjectMapper().readValue(stringProps, InstanceProperties.class);
+        } catch (Throwable exc) {
+            log.error("{} unable to read properties of classification {}: {}", methodName, typeName, exc.getMessage());
+            return false;
+        }
+
+        if (classificationProperties == null || classificationProperties.getInstanceProperties() == null) {
+            return false;
+        }
+
+        TypeDef typeDef = repositoryHelper.getTypeDefByName(repositoryName, typeName);
+        GraphOMRSMapperUtils mapperUtils = new GraphOMRSMapperUtils();
+        Map<String, String> qualifiedPropertyNames = mapperUtils.getQualifiedPropertyNamesForTypeDef(typeDef, repositoryName, repositoryHelper);
+
+        boolean changed = false;
+        for (Map.Entry<String, InstancePropertyValue> property : classificationProperties.getInstanceProperties().entrySet()) {
+            String qualifiedPropName = qualifiedPropertyNames.get(property.getKey());
+            if (qualifiedPropName != null
+                    && property.getValue() instanceof ArrayPropertyValue
+                    && getVertexProperty(vertex, getPropertyKeyClassification(qualifiedPropName)) == null) {
+                String flattenedValue = getFlattenedStringArray((ArrayPropertyValue) property.getValue());
+                if (flattenedValue != null) {
+                    vertex.property(getPropertyKeyClassification(qualifiedPropName), flattenedValue);
+                    changed = true;
+                }
+            }
+        }
+
+        return changed;
+    }
+
+
     private void removeProperty(Vertex vertex, String qualifiedPropName)
     {
         // no value has been specified - remove the property from the vertex
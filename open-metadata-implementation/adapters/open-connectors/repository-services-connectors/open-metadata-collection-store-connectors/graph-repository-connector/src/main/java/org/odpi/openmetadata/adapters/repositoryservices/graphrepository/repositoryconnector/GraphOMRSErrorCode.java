@@ -116,6 +116,10 @@ public enum GraphOMRSErrorCode implements ExceptionMessageSet
             "There is an already a relationship with GUID {0} so cannot honor request to create relationship in {1} method of class {2} to open metadata repository {3}",
             "The system is unable to perform the request because there is already a relationship with the same GUID.",
             "Correct the caller's code and retry the create request."),
+    BULK_LOAD_DUPLICATE_GUIDS(500, "OMRS-GRAPH-REPOSITORY-500-001",
+            "The bulk load of reference copies in {0} method of class {1} left {2} GUIDs that are held by more than one instance in open metadata repository {3}",
+            "The system has saved the reference copies but some GUIDs now identify more than one instance.  The duplicates are listed in the audit log.",
+            "Check for other processes that update the graph database while the server is running.  Purge the duplicated reference copies and then refresh them from their home repositories."),
 
     ;
 
@@ -2792,6 +2792,140 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    /*
+     * The instances are validated and then saved by the graph store in large batch loading transactions rather
+     * than one transaction per instance.  Instances from the local metadata collection are ignored.
+     */
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            EntityConflictException,
+            RelationshipConflictException,
+            InvalidEntityException,
+            InvalidRelationshipException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String  methodName                = "saveInstanceReferenceCopies";
+        final String  entityParameterName       = "entity";
+        final String  relationshipParameterName = "relationship";
+
+        if (instances == null) {
+            return;
+        }
+
+        /*
+         * Validate parameters
+         */
+        List<EntityDetail> entities = new ArrayList<>();
+        if (instances.getEntities() != null) {
+            for (EntityDetail entity : instances.getEntities()) {
+                if ((entity != null) && (!metadataCollectionId.equals(entity.getMetadataCollectionId()))) {
+                    super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+                    entities.add(entity);
+                }
+            }
+        }
+
+        List<Relationship> relationships = new ArrayList<>();
+        if (instances.getRelationships() != null) {
+            for (Relationship relationship : instances.getRelationships()) {
+                if ((relationship != null) && (!metadataCollectionId.equals(relationship.getMetadataCollectionId()))) {
+                    super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+                    relationships.add(relationship);
+                }
+            }
+        }
+
+        /*
+         * Save instances
+         */
+        graphStore.saveReferenceCopiesToStore(entities, relationships);
+    }
+
+
+    /*
+     * The entities are validated as they are for saveEntityReferenceCopy and then saved by the graph store in
+     * ordinary transactions, so the batch runs alongside the other changes to the graph.
+     */
+    public void saveEntityReferenceCopies(String              userId,
+                                          List<EntityDetail>  entities)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            PropertyErrorException,
+            HomeEntityException,
+            EntityConflictException,
+            InvalidEntityException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String  methodName            = "saveEntityReferenceCopies";
+        final String  instanceParameterName = "entity";
+
+        if (entities == null) {
+            return;
+        }
+
+        /*
+         * Validate parameters
+         */
+        for (EntityDetail entity : entities) {
+            super.referenceInstanceParameterValidation(userId, entity, instanceParameterName, methodName);
+        }
+
+        /*
+         * Save entities
+         */
+        graphStore.saveReferenceCopyBatchToStore(entities, null);
+    }
+
+
+    /*
+     * The relationships are validated as they are for saveRelationshipReferenceCopy and then saved by the graph
+     * store in ordinary transactions, so the batch runs alongside the other changes to the graph.
+     */
+    public void saveRelationshipReferenceCopies(String              userId,
+                                                List<Relationship>  relationships)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            TypeErrorException,
+            EntityNotKnownException,
+            PropertyErrorException,
+            HomeRelationshipException,
+            RelationshipConflictException,
+            InvalidRelationshipException,
+            FunctionNotSupportedException,
+            UserNotAuthorizedException
+    {
+        final String  methodName            = "saveRelationshipReferenceCopies";
+        final String  instanceParameterName = "relationship";
+
+        if (relationships == null) {
+            return;
+        }
+
+        /*
+         * Validate parameters
+         */
+        for (Relationship relationship : relationships) {
+            super.referenceInstanceParameterValidation(userId, relationship, instanceParameterName, methodName);
+        }
+
+        /*
+         * Save relationships
+         */
+        graphStore.saveReferenceCopyBatchToStore(null, relationships);
+    }
+
+
     public void purgeRelationshipReferenceCopy(String   userId,
                                                String   relationshipGUID,
                                                String   typeDefGUID,
@@ -3,6 +3,7 @@
 
 package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
 
+import com.sleepycat.je.LockConflictException;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
@@ -12,7 +13,11 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.janusgraph.core.JanusGraph;
+import org.janusgraph.core.JanusGraphException;
+import org.janusgraph.core.JanusGraphTransaction;
 import org.janusgraph.core.attribute.Text;
+import org.janusgraph.diskstorage.TemporaryBackendException;
+import org.janusgraph.diskstorage.locking.PermanentLockingException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
@@ -28,6 +33,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.CollectionDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.CollectionDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -48,11 +55,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.P.within;
 import static org.apache.tinkerpop.gremlin.process.traversal.P.without;
 import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_CLASSIFICATION_CLASSIFICATION_NAME;
+import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_CLASSIFICATION_TYPE_NAME;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_GUID;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_IS_PROXY;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.PROPERTY_KEY_ENTITY_STATUS;
@@ -72,6 +81,7 @@ import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.getPropertyKeyEntity;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSConstants.getPropertyKeyRelationship;
 import static org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector.GraphOMRSGraphFactory.corePropertyMixedIndexMappings;
+import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory.COLLECTION;
 import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDefCategory.PRIMITIVE;
 import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING;
 import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory.OM_PRIMITIVE_TYPE_UNKNOWN;
@@ -80,15 +90,39 @@ import static org.odpi.openmetadata.repositoryservices.connectors.stores.metadat
  * GraphOMRSMetadataStore provides the graph store for the GraphRepositoryConnector
  * The Graph Store is implemented using JanusGraph and is used to store instances.
  * There is no type graph because the RCM is used to get any information about TypeDefs and AttributeTypeDefs.
+ *
+ * The store is called by many threads at once.  Each thread works in its own JanusGraph transaction, which is
+ * opened automatically when the thread first touches the graph and closed by the commit or rollback at the end
+ * of each method, so requests for different instances proceed in parallel.  Conflicting changes to the same
+ * instance are detected when the transaction commits.  The methods that change the graph then retry the whole
+ * change in a new transaction a limited number of times.  A bulk load of reference copies runs on its own: the
+ * other changes wait for it to complete.
  */
 class GraphOMRSMetadataStore {
 
     private static final Logger log = LoggerFactory.getLogger(GraphOMRSMetadataStore.class);
 
+    // Number of times a change is attempted before a transaction conflict is passed to the caller
+    private static final int  maxTransactionAttempts = 5;
+
+    // Base delay before a change is retried - the delay grows with each attempt
+    private static final long transactionRetryDelayMs = 20;
+
+    // Number of instances saved in each transaction of a bulk load
+    private static final int  bulkLoadBatchSize = 1000;
+
+    // Number of GUIDs checked by each query when a bulk load is validated
+    private static final int  bulkLoadValidationSize = 500;
+
+    // Changes to the graph hold the read lock so that they run in parallel with each other but not with a
+    // bulk load, which holds the write lock because its transactions do not lock the GUID indexes.
+    private final ReentrantReadWriteLock bulkLoadLock = new ReentrantReadWriteLock();
+
     private String               repositoryName;
     private String               metadataCollectionId;
     private String               metadataCollectionName = null;
     private OMRSRepositoryHelper repositoryHelper;
+    private AuditLog             auditLog;
 
     // The instance graph is used to store entities (vertices) and relationships (edges).
 
@@ -125,6 +159,7 @@ class GraphOMRSMetadataStore {
         this.metadataCollectionId = metadataCollectionId;
         this.repositoryName = repositoryName;
         this.repositoryHelper = repositoryHelper;
+        this.auditLog = auditLog;
 
 
 
@@ -146,13 +181,100 @@ class GraphOMRSMetadataStore {
     }
 
 
+    /**
+     * Handle an exception from a failed attempt to change the graph.  The transaction of the calling thread is
+     * rolled back.  If the failure is caused by a conflict with a concurrent transaction and there are attempts
+     * left, the calling thread waits for a short, randomized period so that the change can be retried.
+     * Otherwise the exception is rethrown.
+     *
+     * @param methodName calling method
+     * @param attempt number of the attempt that failed
+     * @param error exception from the attempt
+     */
+    private void handleTransactionFailure(String              methodName,
+                                          int                 attempt,
+                                          JanusGraphException error)
+    {
+        try {
+            if (instanceGraph.tx().isOpen()) {
+                instanceGraph.tx().rollback();
+            }
+        } catch (Exception rollbackError) {
+            log.debug("{} unable to roll back transaction: {}", methodName, rollbackError.getMessage());
+        }
+
+        if ((attempt >= maxTransactionAttempts) || (! isTransactionConflict(error))) {
+            throw error;
+        }
+
+        log.debug("{} transaction conflict on attempt {} - retrying: {}", methodName, attempt, error.getMessage());
+
+        try {
+            long delay = transactionRetryDelayMs * attempt;
+            Thread.sleep(delay + (long) (Math.random() * delay));
+        } catch (InterruptedException interruptedError) {
+            Thread.currentThread().interrupt();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Determine whether an exception was caused by a conflict with a concurrent transaction, which means
+     * the change may succeed if it is retried.
+     *
+     * @param error exception from the graph
+     * @return boolean
+     */
+    private boolean isTransactionConflict(Throwable error)
+    {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            // The Berkeley DB backend reports lock conflicts as permanent backend exceptions so its own
+            // exception is checked for too.
+            if ((cause instanceof TemporaryBackendException) ||
+                (cause instanceof PermanentLockingException) ||
+                (cause instanceof LockConflictException)) {
+                return true;
+            }
+
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+
+        return false;
+    }
+
+
     // A note on existence checking:
     // The MDC will NOT have already checked that there is not already an entity or entity proxy wth the same GUID.
     // Although we KNOW that this is an attempt to create a new entity and that the GUID has just been generated,
     // so we COULD re-spin it, we should NOT do that here - it should be in the MDC layer and RepoHelper layer.
     // Therefore if we get a GUID clash here we throw an exception.
     //
-    synchronized EntityDetail createEntityInStore(EntityDetail entity)
+    EntityDetail createEntityInStore(EntityDetail entity)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        final String methodName = "createEntityInStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return this.attemptCreateEntityInStore(entity);
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private EntityDetail attemptCreateEntityInStore(EntityDetail entity)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -255,7 +377,30 @@ class GraphOMRSMetadataStore {
     // If the MDC found that an entity (of any description, entity, proxy or reference copy) is present - then it will not have asked you to create the proxy
     // So - if we do find that there is a GUID clash then throw exception.
     //
-    synchronized void createEntityProxyInStore(EntityProxy entityProxy)
+    void createEntityProxyInStore(EntityProxy entityProxy)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        final String methodName = "createEntityProxyInStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptCreateEntityProxyInStore(entityProxy);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptCreateEntityProxyInStore(EntityProxy entityProxy)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -347,7 +492,30 @@ class GraphOMRSMetadataStore {
      *         else
      *             error
      */
-    synchronized void saveEntityReferenceCopyToStore(EntityDetail entity)
+    void saveEntityReferenceCopyToStore(EntityDetail entity)
+        throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName = "saveEntityReferenceCopyToStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptSaveEntityReferenceCopyToStore(entity);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptSaveEntityReferenceCopyToStore(EntityDetail entity)
         throws
             InvalidParameterException,
             RepositoryErrorException
@@ -438,7 +606,7 @@ class GraphOMRSMetadataStore {
 
 
 
-    synchronized EntityDetail getEntityDetailFromStore(String guid)
+    EntityDetail getEntityDetailFromStore(String guid)
             throws
             EntityNotKnownException,
             EntityProxyOnlyException,
@@ -521,7 +689,7 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
-    synchronized EntitySummary getEntitySummaryFromStore(String guid)
+    EntitySummary getEntitySummaryFromStore(String guid)
             throws
             EntityNotKnownException,
             RepositoryErrorException
@@ -581,7 +749,7 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized EntityProxy getEntityProxyFromStore(String guid)
+    EntityProxy getEntityProxyFromStore(String guid)
             throws
             RepositoryErrorException
     {
@@ -633,7 +801,30 @@ class GraphOMRSMetadataStore {
     // This method needs to locate the vertices so that the edge can be created in the graph.
     // If either of these fails then throw exception
     //
-    synchronized void createRelationshipInStore(Relationship relationship)
+    void createRelationshipInStore(Relationship relationship)
+            throws
+            RepositoryErrorException,
+            InvalidParameterException
+    {
+        final String methodName = "createRelationshipInStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptCreateRelationshipInStore(relationship);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptCreateRelationshipInStore(Relationship relationship)
             throws
             RepositoryErrorException,
             InvalidParameterException
@@ -762,7 +953,30 @@ class GraphOMRSMetadataStore {
      *       - else metadataCollectionId is not local and values match
      *             update existing edge by mapping relationship
      */
-    synchronized void saveRelationshipReferenceCopyToStore(Relationship relationship)
+    void saveRelationshipReferenceCopyToStore(Relationship relationship)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName = "saveRelationshipReferenceCopyToStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptSaveRelationshipReferenceCopyToStore(relationship);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptSaveRelationshipReferenceCopyToStore(Relationship relationship)
             throws
             InvalidParameterException,
             RepositoryErrorException
@@ -928,8 +1142,418 @@ class GraphOMRSMetadataStore {
 
 
 
+    /*
+     *  Bulk load and batches of reference copies
+     *
+     *  The entities and then the relationships are saved in batches.  Each batch is saved in its own JanusGraph
+     *  transaction.  The vertices used in a batch are kept in a map keyed by GUID so the ends of the relationships
+     *  in the batch are found without another traversal.
+     *
+     *  The rules for each instance are the same as for saveEntityReferenceCopyToStore and
+     *  saveRelationshipReferenceCopyToStore above.  If any instance in a batch cannot be saved, or the transaction
+     *  conflicts with another one, the whole batch is rolled back and its instances are saved one at a time using
+     *  those methods, so errors are reported and conflicts are retried exactly as they are for a single reference copy.
+     *
+     *  A bulk load (saveReferenceCopiesToStore) enables batch loading on its transactions, which turns off the locking
+     *  and consistency checks that make up most of the cost of saving an instance.  Because the GUID indexes are not
+     *  locked during the load, the load holds the bulk load lock exclusively so no other request can add an instance
+     *  with the same GUID while it runs.  The GUIDs that were loaded are still checked afterwards in case another
+     *  process shares the graph database.  Any GUID that is held by more than one instance is reported to the audit
+     *  log and the load fails.
+     *
+     *  The small batches of reference copies received from the cohort (saveReferenceCopyBatchToStore) use ordinary
+     *  transactions that lock the GUID indexes, so they share the bulk load lock with the other changes to the graph
+     *  and do not hold up its readers and writers.
+     */
+    void saveReferenceCopiesToStore(List<EntityDetail> entities,
+                                    List<Relationship> relationships)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        bulkLoadLock.writeLock().lock();
+        try {
+            this.saveReferenceCopies(entities, relationships, true);
+        } finally {
+            bulkLoadLock.writeLock().unlock();
+        }
+    }
+
+
+    void saveReferenceCopyBatchToStore(List<EntityDetail> entities,
+                                       List<Relationship> relationships)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        bulkLoadLock.readLock().lock();
+        try {
+            this.saveReferenceCopies(entities, relationships, false);
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * Save the reference copies in batches.  The caller holds the bulk load lock - exclusively if batch loading
+     * is enabled.
+     *
+     * @param entities entities to save - may be null
+     * @param relationships relationships to save - may be null
+     * @param batchLoading whether the transactions run with batch loading enabled
+     * @throws InvalidParameterException a reference copy saved on its own was not valid
+     * @throws RepositoryErrorException a reference copy could not be saved or the load left duplicate GUIDs
+     */
+    private void saveReferenceCopies(List<EntityDetail> entities,
+                                     List<Relationship> relationships,
+                                     boolean            batchLoading)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException
+    {
+        final String methodName = "saveReferenceCopiesToStore";
+
+        Set<String> entityGUIDs       = new HashSet<>();
+        Set<String> relationshipGUIDs = new HashSet<>();
+
+        if (entities != null) {
+            for (int start = 0; start < entities.size(); start += bulkLoadBatchSize) {
+                List<EntityDetail> batch = entities.subList(start, Math.min(start + bulkLoadBatchSize, entities.size()));
+
+                if (!this.saveEntityBatch(batch, entityGUIDs, batchLoading)) {
+                    log.debug("{} saving batch of {} entities one at a time", methodName, batch.size());
+                    for (EntityDetail entity : batch) {
+                        if (entity != null) {
+                            this.saveEntityReferenceCopyToStore(entity);
+                            entityGUIDs.add(entity.getGUID());
+                        }
+                    }
+                }
+            }
+        }
+
+        if (relationships != null) {
+            for (int start = 0; start < relationships.size(); start += bulkLoadBatchSize) {
+                List<Relationship> batch = relationships.subList(start, Math.min(start + bulkLoadBatchSize, relationships.size()));
+
+                if (!this.saveRelationshipBatch(batch, entityGUIDs, relationshipGUIDs, batchLoading)) {
+                    log.debug("{} saving batch of {} relationships one at a time", methodName, batch.size());
+                    for (Relationship relationship : batch) {
+                        if (relationship != null) {
+                            this.saveRelationshipReferenceCopyToStore(relationship);
+                            relationshipGUIDs.add(relationship.getGUID());
+                        }
+                    }
+                }
+            }
+        }
+
+        if (batchLoading) {
+            this.validateBulkLoad(entityGUIDs, relationshipGUIDs);
+        }
+    }
+
+
+    /**
+     * Start the transaction for a batch of reference copies.
+     *
+     * @param batchLoading whether batch loading is enabled
+     * @return transaction
+     */
+    private JanusGraphTransaction startBatchTransaction(boolean batchLoading)
+    {
+        if (batchLoading) {
+            return instanceGraph.buildTransaction().enableBatchLoading().start();
+        }
+
+        return instanceGraph.newTransaction();
+    }
+
+
+    /**
+     * Save a batch of entity reference copies in a single transaction.
+     *
+     * @param batch entities to save
+     * @param loadedGUIDs GUIDs of the entities saved by the bulk load - updated if the batch is committed
+     * @param batchLoading whether the transaction runs with batch loading enabled
+     * @return true if the batch was committed; false if it was rolled back
+     */
+    private boolean saveEntityBatch(List<EntityDetail> batch,
+                                    Set<String>        loadedGUIDs,
+                                    boolean            batchLoading)
+    {
+        final String methodName = "saveEntityBatch";
+
+        JanusGraphTransaction tx = this.startBatchTransaction(batchLoading);
+
+        try {
+            GraphTraversalSource g = tx.traversal();
+            Map<String, Vertex> batchVertices = new HashMap<>();
+
+            for (EntityDetail entity : batch) {
+                if (entity == null) {
+                    continue;
+                }
+
+                Vertex vertex = this.findBatchVertex(g, batchVertices, entity.getGUID());
+
+                if (vertex == null) {
+                    vertex = g.addV("Entity").next();
+                }
+                else if (!this.isUpdatableReferenceCopy(entityMapper.getEntityMetadataCollectionId(vertex), entity.getMetadataCollectionId())) {
+                    log.debug("{} found an existing vertex from a different source for entity {}", methodName, entity.getGUID());
+                    tx.rollback();
+                    return false;
+                }
+
+                entityMapper.mapEntityDetailToVertex(entity, vertex);
+                this.updateEntityClassifications(entity, vertex, g);
+
+                batchVertices.put(entity.getGUID(), vertex);
+            }
+
+            tx.commit();
+            loadedGUIDs.addAll(batchVertices.keySet());
+            return true;
+
+        } catch (Exception e) {
+            log.debug("{} batch of {} entities not saved: {}", methodName, batch.size(), e.getMessage());
+            if (tx.isOpen()) {
+                tx.rollback();
+            }
+            return false;
+        }
+    }
+
+
+    /**
+     * Save a batch of relationship reference copies in a single transaction.  Proxies are created for any
+     * entity that is not already in the graph.
+     *
+     * @param batch relationships to save
+     * @param loadedEntityGUIDs GUIDs of the entities saved by the bulk load - updated with any new proxies
+     * @param loadedRelationshipGUIDs GUIDs of the relationships saved by the bulk load
+     * @param batchLoading whether the transaction runs with batch loading enabled
+     * @return true if the batch was committed; false if it was rolled back
+     */
+    private boolean saveRelationshipBatch(List<Relationship> batch,
+                                          Set<String>        loadedEntityGUIDs,
+                                          Set<String>        loadedRelationshipGUIDs,
+                                          boolean            batchLoading)
+    {
+        final String methodName = "saveRelationshipBatch";
+
+        JanusGraphTransaction tx = this.startBatchTransaction(batchLoading);
+
+        try {
+            GraphTraversalSource g = tx.traversal();
+            Map<String, Vertex> batchVertices = new HashMap<>();
+            Set<String> proxyGUIDs = new HashSet<>();
+            Set<String> batchGUIDs = new HashSet<>();
+
+            for (Relationship relationship : batch) {
+                if (relationship == null) {
+                    continue;
+                }
+
+                Vertex vertexOne = this.findOrCreateBatchProxy(g, batchVertices, relationship.getEntityOneProxy(), proxyGUIDs);
+                Vertex vertexTwo = this.findOrCreateBatchProxy(g, batchVertices, relationship.getEntityTwoProxy(), proxyGUIDs);
+
+                Edge edge;
+                Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, relationship.getGUID());
 
-    synchronized Relationship getRelationshipFromStore(String guid)
+                if (edgeIt.hasNext()) {
+                    edge = edgeIt.next();
+
+                    if (!this.isUpdatableReferenceCopy(relationshipMapper.getRelationshipMetadataCollectionId(edge), relationship.getMetadataCollectionId())) {
+                        log.debug("{} found an existing edge from a different source for relationship {}", methodName, relationship.getGUID());
+                        tx.rollback();
+                        return false;
+                    }
+                }
+                else {
+                    edge = vertexOne.addEdge("Relationship", vertexTwo);
+                }
+
+                relationshipMapper.mapRelationshipToEdge(relationship, edge);
+                batchGUIDs.add(relationship.getGUID());
+            }
+
+            tx.commit();
+            loadedEntityGUIDs.addAll(proxyGUIDs);
+            loadedRelationshipGUIDs.addAll(batchGUIDs);
+            return true;
+
+        } catch (Exception e) {
+            log.debug("{} batch of {} relationships not saved: {}", methodName, batch.size(), e.getMessage());
+            if (tx.isOpen()) {
+                tx.rollback();
+            }
+            return false;
+        }
+    }
+
+
+    /**
+     * Return the vertex for an entity, looking first in the vertices already used by the batch and then in the graph.
+     *
+     * @param g traversal source of the batch transaction
+     * @param batchVertices vertices used by the batch, keyed by GUID
+     * @param guid unique identifier of the entity
+     * @return vertex or null if the entity is not in the graph
+     */
+    private Vertex findBatchVertex(GraphTraversalSource g,
+                                   Map<String, Vertex>  batchVertices,
+                                   String               guid)
+    {
+        Vertex vertex = batchVertices.get(guid);
+
+        if (vertex == null) {
+            Iterator<Vertex> vertexIt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, guid);
+            if (vertexIt.hasNext()) {
+                vertex = vertexIt.next();
+                batchVertices.put(guid, vertex);
+            }
+        }
+
+        return vertex;
+    }
+
+
+    /**
+     * Return the vertex for one end of a relationship, creating a proxy if the entity is not in the graph.
+     *
+     * @param g traversal source of the batch transaction
+     * @param batchVertices vertices used by the batch, keyed by GUID
+     * @param entityProxy end of the relationship
+     * @param proxyGUIDs GUIDs of the proxies created by the batch
+     * @return vertex
+     * @throws Exception problem mapping the proxy
+     */
+    private Vertex findOrCreateBatchProxy(GraphTraversalSource g,
+                                          Map<String, Vertex>  batchVertices,
+                                          EntityProxy          entityProxy,
+                                          Set<String>          proxyGUIDs) throws Exception
+    {
+        Vertex vertex = this.findBatchVertex(g, batchVertices, entityProxy.getGUID());
+
+        if (vertex == null) {
+            vertex = g.addV("Entity").next();
+            entityMapper.mapEntityProxyToVertex(entityProxy, vertex);
+            this.updateEntityClassifications(entityProxy, vertex, g);
+
+            batchVertices.put(entityProxy.getGUID(), vertex);
+            proxyGUIDs.add(entityProxy.getGUID());
+        }
+
+        return vertex;
+    }
+
+
+    /**
+     * Determine whether an instance in the graph may be replaced by a reference copy.  This is the case when the
+     * reference copy is not from the local metadata collection and has the same home as the stored instance.
+     *
+     * @param storedMetadataCollectionId home of the instance in the graph
+     * @param newMetadataCollectionId home of the reference copy
+     * @return boolean
+     */
+    private boolean isUpdatableReferenceCopy(String storedMetadataCollectionId,
+                                             String newMetadataCollectionId)
+    {
+        return !metadataCollectionId.equals(newMetadataCollectionId)
+            && storedMetadataCollectionId.equals(newMetadataCollectionId);
+    }
+
+
+    /**
+     * Check that each GUID saved by a bulk load is held by only one vertex or edge.  Any duplicates are reported
+     * to the audit log and the load fails.  Problems running the check are logged but do not fail the load.
+     *
+     * @param entityGUIDs GUIDs of the entities and proxies that were saved
+     * @param relationshipGUIDs GUIDs of the relationships that were saved
+     * @throws RepositoryErrorException the load left GUIDs that are held by more than one instance
+     */
+    private void validateBulkLoad(Set<String> entityGUIDs,
+                                  Set<String> relationshipGUIDs)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "validateBulkLoad";
+
+        GraphTraversalSource g = instanceGraph.traversal();
+        int duplicateGUIDCount = 0;
+
+        try {
+            List<String> guids = new ArrayList<>(entityGUIDs);
+            for (int start = 0; start < guids.size(); start += bulkLoadValidationSize) {
+                List<String> chunk = guids.subList(start, Math.min(start + bulkLoadValidationSize, guids.size()));
+                duplicateGUIDCount += this.reportDuplicateGUIDs(methodName,
+                                                                g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(chunk))
+                                                                     .<Object>groupCount().by(PROPERTY_KEY_ENTITY_GUID).next());
+            }
+
+            guids = new ArrayList<>(relationshipGUIDs);
+            for (int start = 0; start < guids.size(); start += bulkLoadValidationSize) {
+                List<String> chunk = guids.subList(start, Math.min(start + bulkLoadValidationSize, guids.size()));
+                duplicateGUIDCount += this.reportDuplicateGUIDs(methodName,
+                                                                g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, within(chunk))
+                                                                     .<Object>groupCount().by(PROPERTY_KEY_RELATIONSHIP_GUID).next());
+            }
+
+            g.tx().commit();
+
+        } catch (Exception e) {
+            log.error("{} unable to validate bulk load: {}", methodName, e.getMessage());
+            g.tx().rollback();
+        }
+
+        if (duplicateGUIDCount > 0) {
+            throw new RepositoryErrorException(GraphOMRSErrorCode.BULK_LOAD_DUPLICATE_GUIDS.getMessageDefinition(methodName,
+                                                                                                                 this.getClass().getName(),
+                                                                                                                 Integer.toString(duplicateGUIDCount),
+                                                                                                                 repositoryName),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
+    }
+
+
+    /**
+     * Report each GUID that is held by more than one instance.
+     *
+     * @param methodName calling method
+     * @param guidCounts number of instances for each GUID
+     * @return number of GUIDs held by more than one instance
+     */
+    private int reportDuplicateGUIDs(String            methodName,
+                                     Map<Object, Long> guidCounts)
+    {
+        int duplicateGUIDCount = 0;
+
+        for (Map.Entry<Object, Long> guidCount : guidCounts.entrySet()) {
+            if (guidCount.getValue() > 1) {
+                duplicateGUIDCount++;
+
+                log.error("{} found {} instances with GUID {}", methodName, guidCount.getValue(), guidCount.getKey());
+
+                if (auditLog != null) {
+                    auditLog.logMessage(methodName,
+                                        GraphOMRSAuditCode.BULK_LOAD_DUPLICATE_GUID.getMessageDefinition(repositoryName,
+                                                                                                         guidCount.getValue().toString(),
+                                                                                                         guidCount.getKey().toString()));
+                }
+            }
+        }
+
+        return duplicateGUIDCount;
+    }
+
+
+
+
+    Relationship getRelationshipFromStore(String guid)
             throws RepositoryErrorException
     {
         String methodName = "getRelationshipFromStore";
@@ -994,7 +1618,29 @@ class GraphOMRSMetadataStore {
     }
 
 
-    synchronized void updateEntityInStore(EntityDetail entity)
+    void updateEntityInStore(EntityDetail entity)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "updateEntityInStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptUpdateEntityInStore(entity);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptUpdateEntityInStore(EntityDetail entity)
             throws
             RepositoryErrorException
     {
@@ -1043,7 +1689,29 @@ class GraphOMRSMetadataStore {
 
     }
 
-    synchronized void updateEntityProxyInStore(EntityProxy entityProxy)
+    void updateEntityProxyInStore(EntityProxy entityProxy)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "updateEntityProxyInStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptUpdateEntityProxyInStore(entityProxy);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptUpdateEntityProxyInStore(EntityProxy entityProxy)
             throws
             RepositoryErrorException
     {
@@ -1174,7 +1842,29 @@ class GraphOMRSMetadataStore {
 
 
     // updateRelationshipInStore
-    synchronized void updateRelationshipInStore(Relationship relationship)
+    void updateRelationshipInStore(Relationship relationship)
+            throws
+            RepositoryErrorException
+    {
+        final String methodName = "updateRelationshipInStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptUpdateRelationshipInStore(relationship);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptUpdateRelationshipInStore(Relationship relationship)
             throws
             RepositoryErrorException
     {
@@ -1213,7 +1903,27 @@ class GraphOMRSMetadataStore {
     //
     // This method will remove the entity vertex and any classifier edges and classification vertices linked off it
 
-    synchronized void removeEntityFromStore(String entityGUID)
+    void removeEntityFromStore(String entityGUID)
+    {
+        final String methodName = "removeEntityFromStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptRemoveEntityFromStore(entityGUID);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptRemoveEntityFromStore(String entityGUID)
     {
         final String methodName = "removeEntityFromStore";
 
@@ -1263,7 +1973,27 @@ class GraphOMRSMetadataStore {
     }
 
     // removeEntityProxyFromStore
-    synchronized void removeEntityProxyFromStore(String entityGUID)
+    void removeEntityProxyFromStore(String entityGUID)
+    {
+        final String methodName = "removeEntityProxyFromStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptRemoveEntityProxyFromStore(entityGUID);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptRemoveEntityProxyFromStore(String entityGUID)
     {
         final String methodName = "removeEntityProxyFromStore";
         // TODO - could capture existing entity and move it to 'history'
@@ -1315,7 +2045,27 @@ class GraphOMRSMetadataStore {
     }
 
     // removeRelationshipFromStore
-    synchronized void removeRelationshipFromStore(String relationshipGUID)
+    void removeRelationshipFromStore(String relationshipGUID)
+    {
+        final String methodName = "removeRelationshipFromStore";
+
+        bulkLoadLock.readLock().lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    this.attemptRemoveRelationshipFromStore(relationshipGUID);
+                    return;
+                } catch (JanusGraphException error) {
+                    this.handleTransactionFailure(methodName, attempt, error);
+                }
+            }
+        } finally {
+            bulkLoadLock.readLock().unlock();
+        }
+    }
+
+
+    private void attemptRemoveRelationshipFromStore(String relationshipGUID)
     {
         final String methodName = "removeRelationshipFromStore";
         // TODO - could capture existing relationship and move it to 'history'
@@ -1335,7 +2085,7 @@ class GraphOMRSMetadataStore {
     }
 
     // getRelationshipsForEntity
-    synchronized List<Relationship> getRelationshipsForEntity(String entityGUID)
+    List<Relationship> getRelationshipsForEntity(String entityGUID)
 
             throws
             TypeErrorException,
@@ -2409,6 +3159,8 @@ class GraphOMRSMetadataStore {
 
         log.debug("{} create vertex indexes for type {}", methodName, typeDef.getName());
 
+        boolean hasStringArray = false;
+
         for (TypeDefAttribute typeDefAttribute : propertyDefs) {
 
             if (typeDefAttribute != null) {
@@ -2439,10 +3191,80 @@ class GraphOMRSMetadataStore {
                                 primDefCat.getJavaClassName(),
                                 mapping);
 
+                    } else if (isStringArray(atd)) {
+
+                        // An array of strings (such as the zones of an asset) is stored in its flattened string form
+                        // so that it can be searched, and indexed, in the same way as a string property.
+                        String qualifiedPropertyName = qualifiedPropertyNames.get(propertyName);
+
+                        graphFactory.createMixedIndexForVertexProperty(
+                                qualifiedPropertyName,
+                                getPropertyKeyClassification(qualifiedPropertyName),
+                                OM_PRIMITIVE_TYPE_STRING.getJavaClassName(),
+                                GraphOMRSGraphFactory.MixedIndexMapping.String);
+
+                        hasStringArray = true;
                     }
                 }
             }
         }
+
+        if (hasStringArray) {
+            reindexStringArrays(typeDef);
+        }
+    }
+
+
+    /*
+     * Classifications stored before arrays of strings were flattened only hold the array in their serialized
+     * properties, so a search on the array would miss them.  The types are verified each time the repository
+     * starts, so this adds the flattened form to any such classification of the type the first time the
+     * repository starts after the upgrade.  Classifications that already have it are left unchanged.
+     */
+    private void reindexStringArrays(TypeDef typeDef) {
+
+        final String methodName = "reindexStringArrays";
+
+        int reindexedCount = 0;
+        try {
+            GraphTraversalSource g = instanceGraph.traversal();
+            Iterator<Vertex> vertexIt = g.V().hasLabel("Classification").has(PROPERTY_KEY_CLASSIFICATION_TYPE_NAME, typeDef.getName());
+            while (vertexIt.hasNext()) {
+                if (classificationMapper.addMissingFlattenedArrays(vertexIt.next())) {
+                    reindexedCount++;
+                    if (reindexedCount % bulkLoadBatchSize == 0) {
+                        g.tx().commit();
+                    }
+                }
+            }
+            g.tx().commit();
+        } catch (Exception exc) {
+            log.error("{} unable to reindex classifications of type {}: {}", methodName, typeDef.getName(), exc.getMessage());
+            if (instanceGraph.tx().isOpen()) {
+                instanceGraph.tx().rollback();
+            }
+        }
+
+        log.debug("{} reindexed {} classifications of type {}", methodName, reindexedCount, typeDef.getName());
+    }
+
+
+    /*
+     * Return true if the attribute type is an array of strings.
+     */
+    private boolean isStringArray(AttributeTypeDef atd) {
+
+        if (atd == null || atd.getCategory() != COLLECTION) {
+            return false;
+        }
+
+        CollectionDef collectionDef = (CollectionDef) atd;
+        List<PrimitiveDefCategory> argumentTypes = collectionDef.getArgumentTypes();
+
+        return collectionDef.getCollectionDefCategory() == CollectionDefCategory.OM_COLLECTION_ARRAY
+                && argumentTypes != null
+                && argumentTypes.size() == 1
+                && argumentTypes.get(0) == OM_PRIMITIVE_TYPE_STRING;
     }
 
 
@@ -2542,6 +3364,20 @@ class GraphOMRSMetadataStore {
         GraphOMRSMapperUtils mapperUtils = new GraphOMRSMapperUtils();
         Map<String, String> qualifiedPropertyNames = mapperUtils.getQualifiedPropertyNamesForTypeDef(typeDef, repositoryName, repositoryHelper);
 
+        // Arrays of strings are stored in their flattened form - "{ value, value }" - and, as for the other repositories,
+        // a match value for an array is a contains match.
+        Set<String> stringArrayPropertyNames = new HashSet<>();
+        if (classificationProperties != null && typeDef != null) {
+            List<TypeDefAttribute> propertyDefs = repositoryHelper.getAllPropertiesForTypeDef(repositoryName, typeDef, methodName);
+            if (propertyDefs != null) {
+                for (TypeDefAttribute propertyDef : propertyDefs) {
+                    if (propertyDef != null && isStringArray(propertyDef.getAttributeType())) {
+                        stringArrayPropertyNames.add(propertyDef.getAttributeName());
+                    }
+                }
+            }
+        }
+
 
         // This relies on the graph to enforce property validity - it does not pre-check that classification match properties are valid for requested type.
         if (classificationProperties != null) {
@@ -2573,7 +3409,11 @@ class GraphOMRSMetadataStore {
                     switch (pCat) {
                         case OM_PRIMITIVE_TYPE_STRING:
                             // The graph connector has to map from Egeria's internal regex convention to a format that is supported by JanusGraph.
-                            String searchString = convertSearchStringToJanusRegex((String) primValue);
+                            String matchString = (String) primValue;
+                            if (stringArrayPropertyNames.contains(propName)) {
+                                matchString = ".*" + matchString + ".*";
+                            }
+                            String searchString = convertSearchStringToJanusRegex(matchString);
                             log.debug("{} primitive match property search string {}", methodName, searchString);
 
                             // NB This is using a JG specific approach to text predicates - see the static import above.
@@ -0,0 +1,752 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.graphrepository.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProvenanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.ClassificationDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.RelationshipDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test the bulk load and the batches of reference copies saved into the graph repository, including the fallback
+ * to saving the reference copies one at a time, the exclusion of other changes while a bulk load runs and the
+ * update of the classifications of existing entities.  The batches are also saved through the metadata collection,
+ * as they are when reference copies from the cohort are batched.  Concurrent writers are checked to proceed in
+ * parallel and to retry the changes whose transactions conflict.
+ */
+public class GraphOMRSMetadataStoreTest
+{
+    private static final String localMetadataCollectionId  = "local-collection";
+    private static final String remoteMetadataCollectionId = "remote-collection";
+    private static final String otherMetadataCollectionId  = "other-collection";
+    private static final String entityTypeName             = "TestEntity";
+    private static final String relationshipTypeName       = "TestRelationship";
+    private static final String classificationTypeName     = "TestClassification";
+
+    private static final long   timeout                    = 5000;
+
+    private File                   graphDirectory;
+    private Map<String, TypeDef>   typeDefs = new HashMap<>();
+    private AuditLog               auditLog;
+    private OMRSRepositoryHelper   repositoryHelper;
+    private GraphOMRSMetadataStore metadataStore;
+
+    // The mapper is held up when the paused thread first looks up a type
+    private volatile Thread        pausedThread;
+    private CountDownLatch         mapperPaused;
+    private CountDownLatch         releaseMapper;
+
+    // Counted down each time the watched thread looks up a type
+    private volatile Thread        watchedThread;
+    private CountDownLatch         watchedThreadMapping;
+
+
+    /**
+     * Create a graph repository in an empty directory with a test entity type and relationship type.  The
+     * directory is under the build directory because the graph stays open until the test run ends.
+     *
+     * @throws Exception unable to create the repository
+     */
+    @BeforeMethod
+    public void createRepository() throws Exception
+    {
+        graphDirectory = Files.createTempDirectory(Paths.get("target"), "graph-repository-test").toFile();
+
+        pausedThread         = null;
+        mapperPaused         = new CountDownLatch(1);
+        releaseMapper        = new CountDownLatch(1);
+        watchedThread        = null;
+        watchedThreadMapping = new CountDownLatch(1);
+
+        auditLog = new AuditLog(new AuditLogDestination(Collections.emptyMap())
+                                         {
+                                             public void addLogRecord(AuditLogRecord logRecord)
+                                             {
+                                             }
+                                         },
+                                         0,
+                                         "TestGraphRepository",
+                                         "Test graph repository",
+                                         null);
+
+        EntityDef entityDef = new EntityDef();
+        entityDef.setGUID("test-entity-type-guid");
+        entityDef.setName(entityTypeName);
+        entityDef.setVersion(1);
+        entityDef.setStatus(TypeDefStatus.ACTIVE_TYPEDEF);
+        typeDefs.put(entityTypeName, entityDef);
+
+        RelationshipDef relationshipDef = new RelationshipDef();
+        relationshipDef.setGUID("test-relationship-type-guid");
+        relationshipDef.setName(relationshipTypeName);
+        relationshipDef.setVersion(1);
+        relationshipDef.setStatus(TypeDefStatus.ACTIVE_TYPEDEF);
+        typeDefs.put(relationshipTypeName, relationshipDef);
+
+        ClassificationDef classificationDef = new ClassificationDef();
+        classificationDef.setGUID("test-classification-type-guid");
+        classificationDef.setName(classificationTypeName);
+        classificationDef.setVersion(1);
+        classificationDef.setStatus(TypeDefStatus.ACTIVE_TYPEDEF);
+        typeDefs.put(classificationTypeName, classificationDef);
+
+        /*
+         * The mappers only use the repository helper to look up the types.
+         */
+        repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+        when(repositoryHelper.getTypeDefByName(anyString(), anyString()))
+                .thenAnswer(invocation ->
+                            {
+                                pauseMapper();
+                                return typeDefs.get(invocation.<String>getArgument(1));
+                            });
+        when(repositoryHelper.getTypeDef(anyString(), anyString(), anyString(), any(), anyString(), anyString()))
+                .thenAnswer(invocation -> typeDefs.get(invocation.<String>getArgument(4)));
+        when(repositoryHelper.getNewInstanceType(anyString(), any(TypeDefSummary.class)))
+                .thenAnswer(invocation -> getInstanceType(invocation.getArgument(1)));
+
+        metadataStore = new GraphOMRSMetadataStore(localMetadataCollectionId,
+                                                   "TestGraphRepository",
+                                                   repositoryHelper,
+                                                   auditLog,
+                                                   getStorageProperties("store"));
+    }
+
+
+    /**
+     * Entities and relationships saved by a bulk load can be read back, and loading them again updates them.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testBulkLoad() throws Exception
+    {
+        List<EntityDetail> entities      = getEntities(remoteMetadataCollectionId, 2500);
+        List<Relationship> relationships = getRelationships(entities, 1200);
+
+        metadataStore.saveReferenceCopiesToStore(entities, relationships);
+
+        for (int i = 0; i < entities.size(); i += 100)
+        {
+            EntityDetail entity = metadataStore.getEntityDetailFromStore(entities.get(i).getGUID());
+
+            assertNotNull(entity);
+            assertEquals(entity.getMetadataCollectionId(), remoteMetadataCollectionId);
+        }
+
+        for (int i = 0; i < relationships.size(); i += 100)
+        {
+            Relationship relationship = metadataStore.getRelationshipFromStore(relationships.get(i).getGUID());
+
+            assertNotNull(relationship);
+            assertEquals(relationship.getEntityOneProxy().getGUID(), relationships.get(i).getEntityOneProxy().getGUID());
+        }
+
+        for (EntityDetail entity : entities)
+        {
+            entity.setVersion(2);
+        }
+
+        metadataStore.saveReferenceCopiesToStore(entities, relationships);
+
+        assertEquals(metadataStore.getEntityDetailFromStore(entities.get(0).getGUID()).getVersion(), 2);
+    }
+
+
+    /**
+     * A batch holding a reference copy that can not be saved is saved one at a time, so the other reference
+     * copies are saved and the error is reported as it is for a single reference copy.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testBatchFallback() throws Exception
+    {
+        List<EntityDetail> entities    = getEntities(remoteMetadataCollectionId, 10);
+        EntityDetail       otherEntity = getEntities(otherMetadataCollectionId, 1).get(0);
+
+        otherEntity.setGUID("conflicting-guid");
+        metadataStore.saveEntityReferenceCopyToStore(otherEntity);
+        entities.get(5).setGUID("conflicting-guid");
+
+        try
+        {
+            metadataStore.saveReferenceCopiesToStore(entities, null);
+            fail("A reference copy from a different home was saved");
+        }
+        catch (InvalidParameterException error)
+        {
+            /*
+             * Expected
+             */
+        }
+
+        for (int i = 0; i < 5; i++)
+        {
+            assertNotNull(metadataStore.getEntityDetailFromStore(entities.get(i).getGUID()));
+        }
+
+        assertEquals(metadataStore.getEntityDetailFromStore("conflicting-guid").getMetadataCollectionId(), otherMetadataCollectionId);
+    }
+
+
+    /**
+     * A reference copy saved on its own while a bulk load runs waits for the load to complete, so the
+     * GUID is held by one vertex.  Loading the reference copies again checks for duplicate GUIDs.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testSaveDuringBulkLoad() throws Exception
+    {
+        List<EntityDetail>         entities   = getEntities(remoteMetadataCollectionId, 100);
+        AtomicReference<Exception> firstError = new AtomicReference<>();
+
+        /*
+         * Saving the first entity creates the property keys so the batch does not need to.
+         */
+        metadataStore.saveEntityReferenceCopyToStore(entities.get(0));
+
+        Thread bulkLoader = new Thread(() -> runAndRecordError(firstError,
+                                                               () -> metadataStore.saveReferenceCopiesToStore(entities, null)));
+        Thread saver      = new Thread(() -> runAndRecordError(firstError,
+                                                               () -> metadataStore.saveEntityReferenceCopyToStore(entities.get(50))));
+
+        pausedThread = bulkLoader;
+        bulkLoader.start();
+        assertTrue(mapperPaused.await(timeout, TimeUnit.MILLISECONDS));
+
+        saver.start();
+        saver.join(200);
+        assertTrue(saver.isAlive());
+
+        releaseMapper.countDown();
+        bulkLoader.join(timeout);
+        saver.join(timeout);
+        assertFalse(bulkLoader.isAlive());
+        assertFalse(saver.isAlive());
+        assertNull(firstError.get());
+
+        metadataStore.saveReferenceCopiesToStore(entities, null);
+
+        assertEquals(metadataStore.getEntityDetailFromStore(entities.get(50).getGUID()).getGUID(), entities.get(50).getGUID());
+    }
+
+
+    /**
+     * Saving an entity that is already in the graph, either in a batch or in a bulk load, updates its
+     * classifications rather than adding a second copy of them.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testSaveExistingEntityClassifications() throws Exception
+    {
+        List<EntityDetail> entities = getEntities(remoteMetadataCollectionId, 5);
+
+        for (EntityDetail entity : entities)
+        {
+            entity.setClassifications(Collections.singletonList(getClassification(1)));
+        }
+
+        metadataStore.saveReferenceCopyBatchToStore(entities, null);
+
+        for (EntityDetail entity : entities)
+        {
+            entity.setVersion(2);
+            entity.setClassifications(Collections.singletonList(getClassification(2)));
+        }
+
+        metadataStore.saveReferenceCopyBatchToStore(entities, null);
+
+        List<Classification> classifications = metadataStore.getEntityDetailFromStore(entities.get(0).getGUID()).getClassifications();
+
+        assertEquals(classifications.size(), 1);
+        assertEquals(classifications.get(0).getVersion(), 2);
+
+        for (EntityDetail entity : entities)
+        {
+            entity.setVersion(3);
+            entity.setClassifications(Collections.singletonList(getClassification(3)));
+        }
+
+        metadataStore.saveReferenceCopiesToStore(entities, null);
+
+        classifications = metadataStore.getEntityDetailFromStore(entities.get(4).getGUID()).getClassifications();
+
+        assertEquals(classifications.size(), 1);
+        assertEquals(classifications.get(0).getVersion(), 3);
+    }
+
+
+    /**
+     * A batch of reference copies from the cohort that holds an entity already saved in the graph, with its
+     * classifications, updates the entity and its classifications and saves the other entities.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testMetadataCollectionBatch() throws Exception
+    {
+        final String userId = "testUser";
+
+        GraphOMRSMetadataCollection metadataCollection = new GraphOMRSMetadataCollection(mock(GraphOMRSRepositoryConnector.class),
+                                                                                         "TestGraphRepository",
+                                                                                         repositoryHelper,
+                                                                                         mock(OMRSRepositoryValidator.class),
+                                                                                         localMetadataCollectionId,
+                                                                                         auditLog,
+                                                                                         getStorageProperties("collection"));
+
+        List<EntityDetail> entities       = getEntities(remoteMetadataCollectionId, 10);
+        EntityDetail       existingEntity = entities.get(3);
+
+        existingEntity.setClassifications(Collections.singletonList(getClassification(1)));
+        metadataCollection.saveEntityReferenceCopy(userId, existingEntity);
+
+        existingEntity.setVersion(2);
+        existingEntity.setClassifications(Collections.singletonList(getClassification(2)));
+        metadataCollection.saveEntityReferenceCopies(userId, entities);
+
+        EntityDetail         savedEntity     = metadataCollection.getEntityDetail(userId, existingEntity.getGUID());
+        List<Classification> classifications = savedEntity.getClassifications();
+
+        assertEquals(savedEntity.getVersion(), 2);
+        assertEquals(classifications.size(), 1);
+        assertEquals(classifications.get(0).getVersion(), 2);
+
+        for (EntityDetail entity : entities)
+        {
+            assertNotNull(metadataCollection.getEntityDetail(userId, entity.getGUID()));
+        }
+    }
+
+
+    /**
+     * A batch of reference copies does not wait for other changes to the graph to complete before it starts
+     * to save its reference copies.  Its transaction may still conflict with theirs, in which case the reference
+     * copies are saved again.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testBatchDuringSave() throws Exception
+    {
+        List<EntityDetail>         entities    = getEntities(remoteMetadataCollectionId, 10);
+        EntityDetail               savedEntity = getEntities(remoteMetadataCollectionId, 1).get(0);
+        AtomicReference<Exception> firstError  = new AtomicReference<>();
+
+        /*
+         * Saving the first entity creates the property keys so the batch does not need to.
+         */
+        metadataStore.saveEntityReferenceCopyToStore(entities.get(0));
+        savedEntity.setGUID("saved-guid");
+
+        Thread saver      = new Thread(() -> runAndRecordError(firstError,
+                                                               () -> metadataStore.saveEntityReferenceCopyToStore(savedEntity)));
+        Thread batchSaver = new Thread(() -> runAndRecordError(firstError,
+                                                               () -> metadataStore.saveReferenceCopyBatchToStore(entities, null)));
+
+        pausedThread = saver;
+        saver.start();
+        assertTrue(mapperPaused.await(timeout, TimeUnit.MILLISECONDS));
+
+        watchedThread = batchSaver;
+        batchSaver.start();
+        assertTrue(watchedThreadMapping.await(timeout, TimeUnit.MILLISECONDS));
+        assertTrue(saver.isAlive());
+
+        releaseMapper.countDown();
+        saver.join(timeout);
+        batchSaver.join(timeout);
+        assertFalse(saver.isAlive());
+        assertFalse(batchSaver.isAlive());
+        assertNull(firstError.get());
+
+        assertNotNull(metadataStore.getEntityDetailFromStore("saved-guid"));
+        assertNotNull(metadataStore.getEntityDetailFromStore(entities.get(9).getGUID()));
+    }
+
+
+    /**
+     * Writers of different entities do not wait for each other: a second writer starts to map its entity while
+     * the first is part way through mapping its own.  Many writers saving at once all complete.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testConcurrentWriters() throws Exception
+    {
+        final int                  writerCount = 8;
+        final int                  entityCount = 25;
+        List<EntityDetail>         entities    = getEntities(remoteMetadataCollectionId, writerCount * entityCount);
+        AtomicReference<Exception> firstError  = new AtomicReference<>();
+
+        /*
+         * Saving the first entity creates the property keys so the writers do not need to.
+         */
+        metadataStore.saveEntityReferenceCopyToStore(entities.get(0));
+
+        Thread firstWriter  = new Thread(() -> runAndRecordError(firstError,
+                                                                 () -> metadataStore.saveEntityReferenceCopyToStore(entities.get(1))));
+        Thread secondWriter = new Thread(() -> runAndRecordError(firstError,
+                                                                 () -> metadataStore.saveEntityReferenceCopyToStore(entities.get(2))));
+
+        pausedThread = firstWriter;
+        firstWriter.start();
+        assertTrue(mapperPaused.await(timeout, TimeUnit.MILLISECONDS));
+
+        watchedThread = secondWriter;
+        secondWriter.start();
+        assertTrue(watchedThreadMapping.await(timeout, TimeUnit.MILLISECONDS));
+        assertTrue(firstWriter.isAlive());
+
+        releaseMapper.countDown();
+        firstWriter.join(timeout);
+        secondWriter.join(timeout);
+        assertFalse(firstWriter.isAlive());
+        assertFalse(secondWriter.isAlive());
+        assertNull(firstError.get());
+
+        List<Thread> writers = new ArrayList<>();
+
+        for (int writer = 0; writer < writerCount; writer++)
+        {
+            List<EntityDetail> writerEntities = entities.subList(writer * entityCount, (writer + 1) * entityCount);
+
+            writers.add(new Thread(() -> runAndRecordError(firstError,
+                                                           () ->
+                                                           {
+                                                               for (EntityDetail entity : writerEntities)
+                                                               {
+                                                                   metadataStore.saveEntityReferenceCopyToStore(entity);
+                                                               }
+                                                           })));
+        }
+
+        for (Thread writer : writers)
+        {
+            writer.start();
+        }
+
+        for (Thread writer : writers)
+        {
+            writer.join(timeout * 4);
+            assertFalse(writer.isAlive());
+        }
+
+        assertNull(firstError.get());
+
+        for (EntityDetail entity : entities)
+        {
+            assertNotNull(metadataStore.getEntityDetailFromStore(entity.getGUID()));
+        }
+    }
+
+
+    /**
+     * A writer whose transaction conflicts with a transaction that is still open rolls back and tries again,
+     * so both changes to the same entity complete.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testConflictingWriterRetried() throws Exception
+    {
+        EntityDetail               entity     = getEntities(remoteMetadataCollectionId, 1).get(0);
+        EntityDetail               firstCopy  = getEntities(remoteMetadataCollectionId, 1).get(0);
+        EntityDetail               secondCopy = getEntities(remoteMetadataCollectionId, 1).get(0);
+        AtomicReference<Exception> firstError = new AtomicReference<>();
+
+        metadataStore.saveEntityReferenceCopyToStore(entity);
+        firstCopy.setVersion(2);
+        secondCopy.setVersion(3);
+
+        Thread firstWriter  = new Thread(() -> runAndRecordError(firstError,
+                                                                 () -> metadataStore.updateEntityInStore(firstCopy)));
+        Thread secondWriter = new Thread(() -> runAndRecordError(firstError,
+                                                                 () -> metadataStore.updateEntityInStore(secondCopy)));
+
+        /*
+         * The first writer holds its transaction open while the second writer updates the same entity.  The
+         * second writer maps the entity again when its first attempt fails to commit.
+         */
+        pausedThread = firstWriter;
+        firstWriter.start();
+        assertTrue(mapperPaused.await(timeout, TimeUnit.MILLISECONDS));
+
+        watchedThreadMapping = new CountDownLatch(2);
+        watchedThread = secondWriter;
+        secondWriter.start();
+        assertTrue(watchedThreadMapping.await(timeout, TimeUnit.MILLISECONDS));
+
+        releaseMapper.countDown();
+        firstWriter.join(timeout);
+        secondWriter.join(timeout);
+        assertFalse(firstWriter.isAlive());
+        assertFalse(secondWriter.isAlive());
+        assertNull(firstError.get());
+
+        long version = metadataStore.getEntityDetailFromStore(entity.getGUID()).getVersion();
+
+        assertTrue((version == 2) || (version == 3));
+    }
+
+
+    /**
+     * A change made to the graph by the test.
+     */
+    private interface GraphChange
+    {
+        /**
+         * Make the change.
+         *
+         * @throws Exception the change failed
+         */
+        void run() throws Exception;
+    }
+
+
+    /**
+     * Make a change, recording the first error from any change.
+     *
+     * @param firstError first error from any change
+     * @param change change to make
+     */
+    private void runAndRecordError(AtomicReference<Exception> firstError,
+                                   GraphChange                change)
+    {
+        try
+        {
+            change.run();
+        }
+        catch (Exception error)
+        {
+            firstError.compareAndSet(null, error);
+        }
+    }
+
+
+    /**
+     * Hold up the paused thread the first time it looks up a type, and record each time the watched thread
+     * looks up a type.
+     */
+    private void pauseMapper()
+    {
+        if (Thread.currentThread() == watchedThread)
+        {
+            watchedThreadMapping.countDown();
+        }
+
+        if (Thread.currentThread() == pausedThread)
+        {
+            pausedThread = null;
+            mapperPaused.countDown();
+
+            try
+            {
+                releaseMapper.await(timeout, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+
+    /**
+     * Return the properties of a graph stored in its own directory.
+     *
+     * @param graphName name of the directory for the graph
+     * @return storage properties
+     */
+    private Map<String, Object> getStorageProperties(String graphName)
+    {
+        Map<String, Object> storageProperties = new HashMap<>();
+        File                storageDirectory  = new File(graphDirectory, graphName);
+
+        storageProperties.put("storage.backend", "berkeleyje");
+        storageProperties.put("storage.directory", new File(storageDirectory, "berkeley").getAbsolutePath());
+        storageProperties.put("index.search.backend", "lucene");
+        storageProperties.put("index.search.directory", new File(storageDirectory, "searchindex").getAbsolutePath());
+
+        return storageProperties;
+    }
+
+
+    /**
+     * Return the instance type for a type.
+     *
+     * @param typeDefSummary type
+     * @return instance type
+     */
+    private InstanceType getInstanceType(TypeDefSummary typeDefSummary)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefCategory(typeDefSummary.getCategory());
+        instanceType.setTypeDefGUID(typeDefSummary.getGUID());
+        instanceType.setTypeDefName(typeDefSummary.getName());
+        instanceType.setTypeDefVersion(typeDefSummary.getVersion());
+
+        return instanceType;
+    }
+
+
+    /**
+     * Create reference copies of entities with predictable GUIDs.
+     *
+     * @param homeMetadataCollectionId home of the entities
+     * @param count number of entities
+     * @return list of entities
+     */
+    private List<EntityDetail> getEntities(String homeMetadataCollectionId,
+                                           int    count)
+    {
+        List<EntityDetail> entities   = new ArrayList<>();
+        InstanceProperties properties = new InstanceProperties();
+
+        /*
+         * An entity with properties has its type looked up when it is saved.
+         */
+        properties.setEffectiveFromTime(new Date(0));
+
+        for (int i = 0; i < count; i++)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID("guid-" + i);
+            entity.setType(getInstanceType(typeDefs.get(entityTypeName)));
+            entity.setMetadataCollectionId(homeMetadataCollectionId);
+            entity.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+            entity.setStatus(InstanceStatus.ACTIVE);
+            entity.setCreatedBy("testUser");
+            entity.setCreateTime(new Date());
+            entity.setVersion(1);
+            entity.setProperties(properties);
+            entities.add(entity);
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Create a classification with the test classification type.
+     *
+     * @param version version of the classification
+     * @return classification
+     */
+    private Classification getClassification(long version)
+    {
+        Classification classification = new Classification();
+
+        classification.setName(classificationTypeName);
+        classification.setType(getInstanceType(typeDefs.get(classificationTypeName)));
+        classification.setMetadataCollectionId(remoteMetadataCollectionId);
+        classification.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+        classification.setStatus(InstanceStatus.ACTIVE);
+        classification.setCreatedBy("testUser");
+        classification.setCreateTime(new Date());
+        classification.setVersion(version);
+
+        return classification;
+    }
+
+
+    /**
+     * Create reference copies of relationships between neighbouring entities.
+     *
+     * @param entities entities to link
+     * @param count number of relationships
+     * @return list of relationships
+     */
+    private List<Relationship> getRelationships(List<EntityDetail> entities,
+                                                int                count)
+    {
+        List<Relationship> relationships = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID("relationship-guid-" + i);
+            relationship.setType(getInstanceType(typeDefs.get(relationshipTypeName)));
+            relationship.setMetadataCollectionId(remoteMetadataCollectionId);
+            relationship.setInstanceProvenanceType(InstanceProvenanceType.LOCAL_COHORT);
+            relationship.setStatus(InstanceStatus.ACTIVE);
+            relationship.setCreatedBy("testUser");
+            relationship.setCreateTime(new Date());
+            relationship.setVersion(1);
+            relationship.setEntityOneProxy(getEntityProxy(entities.get(i)));
+            relationship.setEntityTwoProxy(getEntityProxy(entities.get(i + 1)));
+            relationships.add(relationship);
+        }
+
+        return relationships;
+    }
+
+
+    /**
+     * Return a proxy for an entity.
+     *
+     * @param entity entity
+     * @return proxy
+     */
+    private EntityProxy getEntityProxy(EntityDetail entity)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(entity.getGUID());
+        entityProxy.setType(entity.getType());
+        entityProxy.setMetadataCollectionId(entity.getMetadataCollectionId());
+        entityProxy.setVersion(entity.getVersion());
+
+        return entityProxy;
+    }
+}
@@ -22,6 +22,12 @@ import java.util.*;
  */
 public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollectionBase
 {
+    /*
+     * Names of the configuration properties that set up the retention policy for the history of each instance.
+     */
+    static final String MAX_HISTORY_VERSIONS_PROPERTY       = "maxHistoryVersions";
+    static final String HISTORY_RETENTION_MINUTES_PROPERTY  = "historyRetentionMinutes";
+
     private InMemoryOMRSMetadataStore         repositoryStore = new InMemoryOMRSMetadataStore();
 
 
@@ -40,6 +46,34 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                              OMRSRepositoryHelper            repositoryHelper,
                                              OMRSRepositoryValidator         repositoryValidator,
                                              String                          metadataCollectionId)
+    {
+        this(parentConnector, repositoryName, repositoryHelper, repositoryValidator, metadataCollectionId, null);
+    }
+
+
+    /**
+     * Constructor ensures the metadata collection is linked to its connector and knows its metadata collection Id.
+     * The configuration properties from the connector's connection may set up the retention policy for the
+     * history of each instance:
+     * <ul>
+     *     <li>maxHistoryVersions - maximum number of previous versions of an instance to keep (default no limit)</li>
+     *     <li>historyRetentionMinutes - number of minutes to keep previous versions of an instance for (default no limit)</li>
+     * </ul>
+     *
+     * @param parentConnector connector that this metadata collection supports.  The connector has the information
+     *                        to call the metadata repository.
+     * @param repositoryName name of the repository - used for logging.
+     * @param repositoryHelper class used to build type definitions and instances.
+     * @param repositoryValidator class used to validate type definitions and instances.
+     * @param metadataCollectionId unique Identifier of the metadata collection Id.
+     * @param configurationProperties configuration properties from the connection (may be null)
+     */
+    protected InMemoryOMRSMetadataCollection(InMemoryOMRSRepositoryConnector parentConnector,
+                                             String                          repositoryName,
+                                             OMRSRepositoryHelper            repositoryHelper,
+                                             OMRSRepositoryValidator         repositoryValidator,
+                                             String                          metadataCollectionId,
+                                             Map<String, Object>             configurationProperties)
     {
         /*
          * The metadata collection Id is the unique identifier for the metadata collection.  It is managed by the super class.
@@ -50,6 +84,46 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
          * Set up the repository name in the repository store
          */
         this.repositoryStore.setRepositoryName(repositoryName);
+
+        if (configurationProperties != null)
+        {
+            long maxHistoryVersions      = getLongProperty(configurationProperties.get(MAX_HISTORY_VERSIONS_PROPERTY));
+            long historyRetentionMinutes = getLongProperty(configurationProperties.get(HISTORY_RETENTION_MINUTES_PROPERTY));
+
+            this.repositoryStore.setHistoryRetention((int) Math.min(maxHistoryVersions, Integer.MAX_VALUE),
+                                                     historyRetentionMinutes * 60000L);
+        }
+    }
+
+
+    /**
+     * Return the value of a numeric configuration property.  The value may be any number (JSON numbers
+     * are deserialized as Integer, Long or Double depending on their size) or a string holding a whole number.
+     *
+     * @param propertyValue value from the configuration properties
+     * @return value or zero (no limit) if the property is not set, not a number or negative
+     */
+    private long getLongProperty(Object propertyValue)
+    {
+        long value = 0;
+
+        if (propertyValue instanceof Number)
+        {
+            value = ((Number) propertyValue).longValue();
+        }
+        else if (propertyValue instanceof String)
+        {
+            try
+            {
+                value = Long.parseLong(((String) propertyValue).trim());
+            }
+            catch (NumberFormatException error)
+            {
+                value = 0;
+            }
+        }
+
+        return Math.max(value, 0);
     }
 
 
@@ -212,7 +286,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        EntityDetail  entity = repositoryStore.timeWarpEntityStore(asOfTime).get(guid);
+        EntityDetail  entity = repositoryStore.getEntity(guid, asOfTime);
         if (entity == null)
         {
             EntityProxy  entityProxy = repositoryStore.getEntityProxy(guid);
@@ -392,6 +466,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                                 PagingErrorException,
                                                                                                 UserNotAuthorizedException
     {
+        final String  methodName = "findEntitiesByProperty";
+
         /*
          * Validate parameters
          */
@@ -410,13 +486,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes of the repository store narrow the entities to examine.  Each candidate
+         * is still checked against the full search criteria.
          */
         List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
-
-        for (EntityDetail  entity : entityStore.values())
+        Collection<EntityDetail>   entities = this.getEntitiesToSearch(entityTypeGUID,
+                                                                       null,
+                                                                       limitResultsByStatus,
+                                                                       limitResultsByClassification,
+                                                                       this.getExactMatchProperties(matchProperties, matchCriteria),
+                                                                       asOfTime,
+                                                                       methodName);
+
+        for (EntityDetail  entity : entities)
         {
             if (entity != null)
             {
@@ -460,6 +542,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                       PagingErrorException,
                                                                                       UserNotAuthorizedException
     {
+        final String  methodName = "findEntities";
+
         /*
          * Validate parameters
          */
@@ -478,13 +562,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes of the repository store narrow the entities to examine.  Each candidate
+         * is still checked against the full search criteria.
          */
         List<EntityDetail>         foundEntities = new ArrayList<>();
-        Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
-
-        for (EntityDetail  entity : entityStore.values())
+        Collection<EntityDetail>   entities = this.getEntitiesToSearch(entityTypeGUID,
+                                                                       entitySubtypeGUIDs,
+                                                                       limitResultsByStatus,
+                                                                       null,
+                                                                       null,
+                                                                       asOfTime,
+                                                                       methodName);
+
+        for (EntityDetail  entity : entities)
         {
             if (entity != null)
             {
@@ -562,6 +652,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                                        PagingErrorException,
                                                                                                        UserNotAuthorizedException
     {
+        final String  methodName = "findEntitiesByClassification";
+
         /*
          * Validate parameters
          */
@@ -580,16 +672,32 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes of the repository store narrow the entities to examine, including by the values
+         * of the classification's properties.  Each candidate is still checked against the full search criteria.
          */
-        Map<String, EntityDetail>   entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
         List<EntityDetail>          foundEntities = new ArrayList<>();
 
         List<String>                classificationList = new ArrayList<>();
         classificationList.add(classificationName);
 
-        for (EntityDetail  entity : entityStore.values())
+        Collection<EntityDetail>    entities;
+
+        if (asOfTime != null)
+        {
+            entities = repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+        else
+        {
+            entities = repositoryStore.getEntityCandidates(this.getTypeNamesToSearch(entityTypeGUID, null, methodName),
+                                                           limitResultsByStatus,
+                                                           classificationList,
+                                                           null,
+                                                           classificationName,
+                                                           this.getContainedClassificationValues(matchClassificationProperties,
+                                                                                                 matchCriteria));
+        }
+
+        for (EntityDetail  entity : entities)
         {
             if (entity != null)
             {
@@ -705,12 +813,19 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Process operation
          *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
+         * The secondary indexes of the repository store narrow the entities to examine.  Each candidate
+         * is still checked against the full search criteria.
          */
-        List<EntityDetail>   foundEntities = new ArrayList<>();
-
-        for (EntityDetail  entity : repositoryStore.timeWarpEntityStore(asOfTime).values())
+        List<EntityDetail>         foundEntities = new ArrayList<>();
+        Collection<EntityDetail>   entities = this.getEntitiesToSearch(entityTypeGUID,
+                                                                       null,
+                                                                       limitResultsByStatus,
+                                                                       limitResultsByClassification,
+                                                                       null,
+                                                                       asOfTime,
+                                                                       methodName);
+
+        for (EntityDetail  entity : entities)
         {
             if (entity != null)
             {
@@ -832,7 +947,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          */
-        Relationship  relationship = repositoryStore.timeWarpRelationshipStore(asOfTime).get(guid);
+        Relationship  relationship = repositoryStore.getRelationship(guid, asOfTime);
 
         repositoryValidator.validateRelationshipFromStore(repositoryName, guid, relationship, methodName);
         repositoryValidator.validateRelationshipIsNotDeleted(repositoryName, relationship, methodName);
@@ -862,6 +977,8 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
                                                                                             FunctionNotSupportedException,
                                                                                             UserNotAuthorizedException
     {
+        final String  methodName = "findRelationships";
+
         /*
          * Validate parameters
          */
@@ -880,13 +997,17 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The secondary indexes of the repository store narrow the relationships to examine.  Each candidate
+         * is still checked against the full search criteria.
          */
         List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        Collection<Relationship>   relationships = this.getRelationshipsToSearch(relationshipTypeGUID,
+                                                                                 relationshipSubtypeGUIDs,
+                                                                                 limitResultsByStatus,
+                                                                                 asOfTime,
+                                                                                 methodName);
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : relationships)
         {
             if (relationship != null)
             {
@@ -985,13 +1106,17 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
+         * The secondary indexes of the repository store narrow the relationships to examine.  Each candidate
+         * is still checked against the full search criteria.
          */
         List<Relationship>         foundRelationships = new ArrayList<>();
-        Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
+        Collection<Relationship>   relationships = this.getRelationshipsToSearch(relationshipTypeGUID,
+                                                                                 null,
+                                                                                 limitResultsByStatus,
+                                                                                 asOfTime,
+                                                                                 methodName);
 
-        for (Relationship  relationship : relationshipStore.values())
+        for (Relationship  relationship : relationships)
         {
             if (relationship != null)
             {
@@ -1084,12 +1209,17 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
         /*
          * Perform operation
          *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored relationships.
+         * The secondary indexes of the repository store narrow the relationships to examine.  Each candidate
+         * is still checked against the full search criteria.
          */
-        List<Relationship>  foundRelationships = new ArrayList<>();
+        List<Relationship>         foundRelationships = new ArrayList<>();
+        Collection<Relationship>   relationships = this.getRelationshipsToSearch(relationshipTypeGUID,
+                                                                                 null,
+                                                                                 limitResultsByStatus,
+                                                                                 asOfTime,
+                                                                                 methodName);
 
-        for (Relationship  relationship : repositoryStore.timeWarpRelationshipStore(asOfTime).values())
+        for (Relationship  relationship : relationships)
         {
             if (relationship != null)
             {
@@ -3463,4 +3593,232 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             super.reportRelationshipNotKnown(relationshipGUID, methodName);
         }
     }
+
+
+    /**
+     * Return the entities that a search should examine.  Searches of the current entities use the secondary
+     * indexes of the repository store to narrow the candidates.  Historical searches examine all of the
+     * entities as they were at the requested time.
+     *
+     * @param entityTypeGUID unique identifier of the requested type (null for any type)
+     * @param entitySubtypeGUIDs optional list of subtypes that the entity must be one of
+     * @param limitResultsByStatus optional list of statuses
+     * @param limitResultsByClassification optional list of classifications, one of which must be attached
+     * @param exactMatchProperties optional string properties that must have the exact value
+     * @param asOfTime time of the search (null for the present)
+     * @param methodName calling method
+     * @return collection of entities to check against the search criteria
+     */
+    private Collection<EntityDetail> getEntitiesToSearch(String                entityTypeGUID,
+                                                         List<String>          entitySubtypeGUIDs,
+                                                         List<InstanceStatus>  limitResultsByStatus,
+                                                         List<String>          limitResultsByClassification,
+                                                         Map<String, String>   exactMatchProperties,
+                                                         Date                  asOfTime,
+                                                         String                methodName)
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpEntityStore(asOfTime).values();
+        }
+
+        return repositoryStore.getEntityCandidates(this.getTypeNamesToSearch(entityTypeGUID, entitySubtypeGUIDs, methodName),
+                                                   limitResultsByStatus,
+                                                   limitResultsByClassification,
+                                                   exactMatchProperties);
+    }
+
+
+    /**
+     * Return the relationships that a search should examine.  Searches of the current relationships use the
+     * secondary indexes of the repository store to narrow the candidates.  Historical searches examine all of the
+     * relationships as they were at the requested time.
+     *
+     * @param relationshipTypeGUID unique identifier of the requested type (null for any type)
+     * @param relationshipSubtypeGUIDs optional list of subtypes that the relationship must be one of
+     * @param limitResultsByStatus optional list of statuses
+     * @param asOfTime time of the search (null for the present)
+     * @param methodName calling method
+     * @return collection of relationships to check against the search criteria
+     */
+    private Collection<Relationship> getRelationshipsToSearch(String                relationshipTypeGUID,
+                                                              List<String>          relationshipSubtypeGUIDs,
+                                                              List<InstanceStatus>  limitResultsByStatus,
+                                                              Date                  asOfTime,
+                                                              String                methodName)
+    {
+        if (asOfTime != null)
+        {
+            return repositoryStore.timeWarpRelationshipStore(asOfTime).values();
+        }
+
+        return repositoryStore.getRelationshipCandidates(this.getTypeNamesToSearch(relationshipTypeGUID,
+                                                                                   relationshipSubtypeGUIDs,
+                                                                                   methodName),
+                                                         limitResultsByStatus);
+    }
+
+
+    /**
+     * Return the names of the types that an instance may have and still match the requested type.  This is
+     * the type itself and all of its subtypes.  If a list of subtypes is supplied, the instance must be one of
+     * those subtypes (or their subtypes).
+     *
+     * @param typeGUID unique identifier of the requested type
+     * @param subtypeGUIDs optional list of unique identifiers of subtypes
+     * @param methodName calling method
+     * @return list of type names, or null if the search is not restricted by type
+     */
+    private List<String> getTypeNamesToSearch(String        typeGUID,
+                                              List<String>  subtypeGUIDs,
+                                              String        methodName)
+    {
+        final String  guidParameterName = "typeGUID";
+
+        List<String>  typeGUIDs = subtypeGUIDs;
+
+        if (typeGUIDs == null)
+        {
+            if (typeGUID == null)
+            {
+                return null;
+            }
+
+            typeGUIDs = Collections.singletonList(typeGUID);
+        }
+
+        List<String>  typeNames = new ArrayList<>();
+
+        try
+        {
+            for (String guid : typeGUIDs)
+            {
+                TypeDef typeDef = repositoryHelper.getTypeDef(repositoryName, guidParameterName, guid, methodName);
+
+                typeNames.add(typeDef.getName());
+
+                List<String> subtypeNames = repositoryHelper.getSubTypesOf(repositoryName, typeDef.getName());
+
+                if (subtypeNames != null)
+                {
+                    typeNames.addAll(subtypeNames);
+                }
+            }
+        }
+        catch (TypeErrorException error)
+        {
+            /*
+             * The type is not known to the repository helper so the index can not be used to select the instances.
+             */
+            return null;
+        }
+
+        return typeNames;
+    }
+
+
+    /**
+     * Extract the string properties that must have an exact value for an instance to match the search.
+     * These are the properties whose match value is a case-sensitive exact match regular expression when all of the properties
+     * must match.  The header properties are not indexed and so they are skipped.
+     *
+     * @param matchProperties properties to match
+     * @param matchCriteria rule on how the match should occur
+     * @return map of property name to literal value, or null if the search can not be narrowed by property value
+     */
+    private Map<String, String> getExactMatchProperties(InstanceProperties  matchProperties,
+                                                        MatchCriteria       matchCriteria)
+    {
+        final List<String> headerPropertyNames = Arrays.asList("metadataCollectionId",
+                                                               "metadataCollectionName",
+                                                               "typeName",
+                                                               "typeGUID",
+                                                               "createdBy",
+                                                               "updatedBy",
+                                                               "createTime",
+                                                               "updateTime",
+                                                               "effectiveFrom",
+                                                               "effectiveTo");
+
+        if ((matchCriteria != MatchCriteria.ALL) || (matchProperties == null) || (matchProperties.getInstanceProperties() == null))
+        {
+            return null;
+        }
+
+        Map<String, String> exactMatchProperties = new HashMap<>();
+
+        for (Map.Entry<String, InstancePropertyValue> property : matchProperties.getInstanceProperties().entrySet())
+        {
+            if ((property.getKey() != null) &&
+                (! headerPropertyNames.contains(property.getKey())) &&
+                (property.getValue() instanceof PrimitivePropertyValue))
+            {
+                PrimitivePropertyValue primitiveValue = (PrimitivePropertyValue)property.getValue();
+
+                if ((primitiveValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                    (primitiveValue.getPrimitiveValue() != null))
+                {
+                    String matchValue = primitiveValue.getPrimitiveValue().toString();
+
+                    if (repositoryHelper.isExactMatchRegex(matchValue, false))
+                    {
+                        exactMatchProperties.put(property.getKey(), repositoryHelper.getUnqualifiedLiteralString(matchValue));
+                    }
+                }
+            }
+        }
+
+        if (exactMatchProperties.isEmpty())
+        {
+            return null;
+        }
+
+        return exactMatchProperties;
+    }
+
+
+    /**
+     * Extract the classification properties whose values must contain a literal string for a classification to
+     * match the search.  String properties are matched with the full regular expression and arrays of strings
+     * are flattened to "{ value, value }" before being matched with a contains regular expression.  So
+     * when the match value is a case-sensitive exact match regular expression for a literal with no separator
+     * characters, a matching classification always has a value that contains the literal.
+     *
+     * @param matchClassificationProperties classification properties to match
+     * @param matchCriteria rule on how the match should occur
+     * @return map of property name to literal value, or null if the search can not be narrowed by classification property value
+     */
+    private Map<String, String> getContainedClassificationValues(InstanceProperties  matchClassificationProperties,
+                                                                 MatchCriteria       matchCriteria)
+    {
+        Map<String, String> exactMatchProperties = this.getExactMatchProperties(matchClassificationProperties, matchCriteria);
+
+        if (exactMatchProperties == null)
+        {
+            return null;
+        }
+
+        Map<String, String> containedValues = new HashMap<>();
+
+        for (Map.Entry<String, String> property : exactMatchProperties.entrySet())
+        {
+            String literal = property.getValue();
+
+            if ((! literal.isEmpty()) &&
+                (literal.trim().length() == literal.length()) &&
+                (literal.indexOf(',') < 0) &&
+                (literal.indexOf('{') < 0) &&
+                (literal.indexOf('}') < 0))
+            {
+                containedValues.put(property.getKey(), literal);
+            }
+        }
+
+        if (containedValues.isEmpty())
+        {
+            return null;
+        }
+
+        return containedValues;
+    }
 }
@@ -3,25 +3,79 @@
 package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
 
 
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector
+ * InMemoryOMRSMetadataStore provides the in memory stores for the InMemoryRepositoryConnector.
+ *
+ * Alongside the stores of current instances, it maintains secondary indexes of the GUIDs of the current entities
+ * by type name, status, classification name and string property value, and of the current relationships
+ * by type name and status.  The string values of the classification properties are also indexed, including
+ * each of the values of an array of strings (such as the zones of an asset), so a search by classification
+ * property can be narrowed too.  These are used to narrow the instances that a search needs to examine.
+ * The indexes are updated each time an instance is added to, replaced in or removed from the current stores.
+ *
+ * The history of each instance is a chain of its previous versions, ordered by the time each version was
+ * written, then by version number and then by the order the versions were added to the history, so versions
+ * written in the same millisecond are all kept.  A point-in-time lookup is a floor search of the chain, so its
+ * cost grows with the log of the number of versions of the instance rather than with the size of the whole
+ * history.  Versions without timestamps are kept at the start of the chain so they can still be restored,
+ * but they are never returned by a point-in-time lookup.  The number and the age of the versions kept in
+ * each chain can be limited by the retention policy.
+ *
+ * The stores and indexes are concurrent collections so searches and retrieves do not take a lock and do not
+ * copy the stores.  They see a weakly consistent view of the instances while updates are in progress.
+ * Updates to an instance are serialized by a lock chosen from a fixed set of lock stripes using the
+ * instance's GUID.  This keeps the current store, the history and the indexes consistent for each instance
+ * while updates to different instances proceed in parallel.
  */
 class InMemoryOMRSMetadataStore
 {
+    private static final int                       LOCK_STRIPES = 64;
+
     private String                                 repositoryName           = null;
-    private volatile Map<String, EntityDetail>     entityStore              = new HashMap<>();
-    private volatile Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
-    private volatile List<EntityDetail>            entityHistoryStore       = new ArrayList<>();
-    private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
-    private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
+    private final Map<String, EntityDetail>        entityStore              = new ConcurrentHashMap<>();
+    private final Map<String, EntityProxy>         entityProxyStore         = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<HistoryKey, EntityDetail>> entityHistoryStore = new ConcurrentHashMap<>();
+    private final Map<String, Relationship>        relationshipStore        = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<HistoryKey, Relationship>> relationshipHistoryStore = new ConcurrentHashMap<>();
+
+    private int                                    maxHistoryVersions     = 0;
+    private long                                   historyRetentionPeriod = 0;
+    private final AtomicLong                       historySequence        = new AtomicLong();
+
+    private final Map<String, Set<String>>              entityTypeIndex           = new ConcurrentHashMap<>();
+    private final Map<InstanceStatus, Set<String>>      entityStatusIndex         = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>              entityClassificationIndex = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Set<String>>> entityPropertyIndex       = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Set<String>>> entityClassificationPropertyIndex     = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>>              entityClassificationPropertyUnindexed = new ConcurrentHashMap<>();
+    private final Map<String, InstanceIndexKeys>        entityIndexKeys           = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>>              relationshipTypeIndex     = new ConcurrentHashMap<>();
+    private final Map<InstanceStatus, Set<String>>      relationshipStatusIndex   = new ConcurrentHashMap<>();
+    private final Map<String, InstanceIndexKeys>        relationshipIndexKeys     = new ConcurrentHashMap<>();
+
+    private final Object[]                         locks = new Object[LOCK_STRIPES];
 
 
     /**
@@ -29,6 +83,10 @@ class InMemoryOMRSMetadataStore
      */
     InMemoryOMRSMetadataStore()
     {
+        for (int i = 0; i < LOCK_STRIPES; i++)
+        {
+            locks[i] = new Object();
+        }
     }
 
 
@@ -43,12 +101,27 @@ class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Set up the retention policy for the history of each instance.  The policy is applied as each version
+     * is added to the history.
+     *
+     * @param maxHistoryVersions maximum number of previous versions kept for each instance (zero means no limit)
+     * @param historyRetentionPeriod time in milliseconds that previous versions are kept for (zero means no limit)
+     */
+    void setHistoryRetention(int   maxHistoryVersions,
+                             long  historyRetentionPeriod)
+    {
+        this.maxHistoryVersions = maxHistoryVersions;
+        this.historyRetentionPeriod = historyRetentionPeriod;
+    }
+
+
     /**
      * Return a list of entities from the store that are at the latest level.
      *
      * @return list of EntityDetail objects
      */
-    synchronized List<EntityDetail>   getEntities()
+    List<EntityDetail>   getEntities()
     {
         return new ArrayList<>(entityStore.values());
     }
@@ -60,7 +133,7 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the entity
      * @return entity object
      */
-    synchronized EntityDetail  getEntity(String   guid)
+    EntityDetail  getEntity(String   guid)
     {
         return entityStore.get(guid);
     }
@@ -72,93 +145,46 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier
      * @return entity proxy object
      */
-    synchronized EntityProxy  getEntityProxy(String   guid)
+    EntityProxy  getEntityProxy(String   guid)
     {
         return entityProxyStore.get(guid);
     }
 
 
     /**
-     * Return an entity store that contains entities as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the entity identified by the guid as it was at the time supplied in the asOfTime parameter.
      *
-     * @param asOfTime - time for the store (or null means now)
-     * @return entity store for the requested time
+     * @param guid - unique identifier for the entity
+     * @param asOfTime - time for the entity (or null means now)
+     * @return entity object or null if the entity did not exist at that time
      */
-    synchronized Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    EntityDetail  getEntity(String   guid,
+                            Date     asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(entityStore);
+            return entityStore.get(guid);
         }
 
-        Map<String, EntityDetail>  timeWarpedEntityStore = new HashMap<>();
-
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (EntityDetail  entity : entityStore.values())
-        {
-            if (entity != null)
-            {
-                if (entity.getUpdateTime() != null)
-                {
-                    String entityGUID = entity.getGUID();
+        return getVersionAsOf(entityStore.get(guid), entityHistoryStore.get(guid), asOfTime);
+    }
 
-                    if (entityGUID != null)
-                    {
-                        if (! entity.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedEntityStore.put(entityGUID, entity);
-                        }
-                    }
-                }
-                else if (entity.getCreateTime() != null)
-                {
-                    if (! entity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entity.getGUID(), entity);
-                    }
-                }
-            }
-        }
 
-        /*
-         * Now step through the history store picking up the versions of other entities that were active
-         * at the time of the asOfTime.
-         */
-        for (EntityDetail oldEntity : entityHistoryStore)
+    /**
+     * Return an entity store that contains entities as they were at the time supplied in the asOfTime
+     * parameter
+     *
+     * @param asOfTime - time for the store (or null means now - in which case a read-only view of the current store is returned)
+     * @return entity store for the requested time
+     */
+    Map<String, EntityDetail>  timeWarpEntityStore(Date         asOfTime)
+    {
+        if (asOfTime == null)
         {
-            if (oldEntity != null)
-            {
-                String entityGUID = oldEntity.getGUID();
-
-                if (oldEntity.getUpdateTime() != null)
-                {
-                    if (! oldEntity.getUpdateTime().after(asOfTime))
-                    {
-                        EntityDetail newerEntity = timeWarpedEntityStore.put(entityGUID, oldEntity);
-
-                        if (newerEntity != null)
-                        {
-                            timeWarpedEntityStore.put(entityGUID, newerEntity);
-                        }
-                        break;
-                    }
-                }
-                else if (oldEntity.getCreateTime() != null)
-                {
-                    if (! oldEntity.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedEntityStore.put(entityGUID, oldEntity);
-                        break;
-                    }
-                }
-            }
+            return Collections.unmodifiableMap(entityStore);
         }
 
-        return timeWarpedEntityStore;
+        return timeWarpStore(entityStore, entityHistoryStore, asOfTime);
     }
 
 
@@ -167,7 +193,7 @@ class InMemoryOMRSMetadataStore
      *
      * @return list of relationships
      */
-    synchronized List<Relationship>   getRelationships()
+    List<Relationship>   getRelationships()
     {
         return new ArrayList<>(relationshipStore.values());
     }
@@ -179,93 +205,45 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the relationship
      * @return relationship object
      */
-    protected synchronized Relationship  getRelationship(String   guid)
+    protected Relationship  getRelationship(String   guid)
     {
         return relationshipStore.get(guid);
     }
 
     /**
-     * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
-     * parameter
+     * Return the relationship identified by the guid as it was at the time supplied in the asOfTime parameter.
      *
-     * @param asOfTime - time for the store (or null means now)
-     * @return relationship store for the requested time
+     * @param guid - unique identifier for the relationship
+     * @param asOfTime - time for the relationship (or null means now)
+     * @return relationship object or null if the relationship did not exist at that time
      */
-    synchronized Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    Relationship  getRelationship(String   guid,
+                                  Date     asOfTime)
     {
         if (asOfTime == null)
         {
-            return new HashMap<>(relationshipStore);
+            return relationshipStore.get(guid);
         }
 
-        Map<String, Relationship>  timeWarpedRelationshipStore = new HashMap<>();
-
-
-        /*
-         * First step through the current relationship store and extract all of the relationships that were
-         * last updated before the asOfTime.
-         */
-        for (Relationship  relationship : relationshipStore.values())
-        {
-            if (relationship != null)
-            {
-                if (relationship.getUpdateTime() != null)
-                {
-                    String relationshipGUID = relationship.getGUID();
+        return getVersionAsOf(relationshipStore.get(guid), relationshipHistoryStore.get(guid), asOfTime);
+    }
 
-                    if (relationshipGUID != null)
-                    {
-                        if (! relationship.getUpdateTime().after(asOfTime))
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, relationship);
-                        }
-                    }
-                }
-                else if (relationship.getCreateTime() != null)
-                {
-                    if (! relationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationship.getGUID(), relationship);
-                    }
-                }
-            }
-        }
 
-        /*
-         * Now step through the history store picking up the versions of other relationships that were active
-         * at the time of the asOfTime.
-         */
-        for (Relationship oldRelationship : relationshipHistoryStore)
+    /**
+     * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
+     * parameter
+     *
+     * @param asOfTime - time for the store (or null means now - in which case a read-only view of the current store is returned)
+     * @return relationship store for the requested time
+     */
+    Map<String, Relationship>  timeWarpRelationshipStore(Date         asOfTime)
+    {
+        if (asOfTime == null)
         {
-            if (oldRelationship != null)
-            {
-                String relationshipGUID = oldRelationship.getGUID();
-
-                if (oldRelationship.getUpdateTime() != null)
-                {
-                    if (! oldRelationship.getUpdateTime().after(asOfTime))
-                    {
-                        Relationship newerRelationship = timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-
-                        if (newerRelationship != null)
-                        {
-                            timeWarpedRelationshipStore.put(relationshipGUID, newerRelationship);
-                        }
-                        break;
-                    }
-                }
-                else if (oldRelationship.getCreateTime() != null)
-                {
-                    if (! oldRelationship.getCreateTime().after(asOfTime))
-                    {
-                        timeWarpedRelationshipStore.put(relationshipGUID, oldRelationship);
-                        break;
-                    }
-                }
-            }
+            return Collections.unmodifiableMap(relationshipStore);
         }
 
-        return timeWarpedRelationshipStore;
+        return timeWarpStore(relationshipStore, relationshipHistoryStore, asOfTime);
     }
 
     /**
@@ -274,21 +252,28 @@ class InMemoryOMRSMetadataStore
      * @param entity - new version of the entity
      * @return entity with potentially updated GUID
      */
-    synchronized EntityDetail createEntityInStore(EntityDetail    entity)
+    EntityDetail createEntityInStore(EntityDetail    entity)
     {
         /*
-         * There is a small chance the randomly generated GUID will clash with an existing relationship.
-         * If this happens a new GUID is generated for the relationship and the process repeats.
+         * There is a small chance the randomly generated GUID will clash with an existing entity.
+         * If this happens a new GUID is generated for the entity and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
-
-        while (existingEntity != null)
+        while (true)
         {
+            String guid = entity.getGUID();
+
+            synchronized (getLock(guid))
+            {
+                if (entityStore.putIfAbsent(guid, entity) == null)
+                {
+                    indexEntity(entity);
+
+                    return entity;
+                }
+            }
+
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
         }
-
-        return entity;
     }
 
 
@@ -298,21 +283,28 @@ class InMemoryOMRSMetadataStore
      * @param relationship - new version of the relationship
      * @return relationship with potentially updated GUID
      */
-    synchronized Relationship createRelationshipInStore(Relationship    relationship)
+    Relationship createRelationshipInStore(Relationship    relationship)
     {
         /*
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        Relationship existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
-
-        while (existingRelationship != null)
+        while (true)
         {
+            String guid = relationship.getGUID();
+
+            synchronized (getLock(guid))
+            {
+                if (relationshipStore.putIfAbsent(guid, relationship) == null)
+                {
+                    indexRelationship(relationship);
+
+                    return relationship;
+                }
+            }
+
             relationship.setGUID(UUID.randomUUID().toString());
-            existingRelationship = relationshipStore.put(relationship.getGUID(), relationship);
         }
-
-        return relationship;
     }
 
 
@@ -321,7 +313,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void addEntityProxyToStore(EntityProxy    entityProxy)
+    void addEntityProxyToStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -333,13 +325,18 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - new version of the entity
      */
-    synchronized void updateEntityInStore(EntityDetail    entity)
+    void updateEntityInStore(EntityDetail    entity)
     {
-        EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
-
-        if (oldEntity != null)
+        synchronized (getLock(entity.getGUID()))
         {
-            entityHistoryStore.add(0, oldEntity);
+            EntityDetail    oldEntity = entityStore.put(entity.getGUID(), entity);
+
+            indexEntity(entity);
+
+            if (oldEntity != null)
+            {
+                addToHistory(entityHistoryStore, oldEntity);
+            }
         }
     }
 
@@ -349,7 +346,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param entityProxy - entity proxy object to add
      */
-    synchronized void updateEntityProxyInStore(EntityProxy    entityProxy)
+    void updateEntityProxyInStore(EntityProxy    entityProxy)
     {
         entityProxyStore.put(entityProxy.getGUID(), entityProxy);
     }
@@ -361,14 +358,18 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - new version of the relationship
      */
-    synchronized void updateRelationshipInStore(Relationship    relationship)
+    void updateRelationshipInStore(Relationship    relationship)
     {
+        synchronized (getLock(relationship.getGUID()))
+        {
+            Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
 
-        Relationship    oldRelationship = relationshipStore.put(relationship.getGUID(), relationship);
+            indexRelationship(relationship);
 
-        if (oldRelationship != null)
-        {
-            relationshipHistoryStore.add(0, oldRelationship);
+            if (oldRelationship != null)
+            {
+                addToHistory(relationshipHistoryStore, oldRelationship);
+            }
         }
     }
 
@@ -379,9 +380,13 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - object to save
      */
-    synchronized void saveReferenceEntityToStore(EntityDetail    entity)
+    void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        synchronized (getLock(entity.getGUID()))
+        {
+            entityStore.put(entity.getGUID(), entity);
+            indexEntity(entity);
+        }
     }
 
 
@@ -391,9 +396,13 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - object to save
      */
-    synchronized void saveReferenceRelationshipToStore(Relationship    relationship)
+    void saveReferenceRelationshipToStore(Relationship    relationship)
     {
-        relationshipStore.put(relationship.getGUID(), relationship);
+        synchronized (getLock(relationship.getGUID()))
+        {
+            relationshipStore.put(relationship.getGUID(), relationship);
+            indexRelationship(relationship);
+        }
     }
 
 
@@ -404,46 +413,49 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this relationship - or null if not found
      */
-    synchronized Relationship retrievePreviousVersionOfRelationship(String   guid)
+    Relationship retrievePreviousVersionOfRelationship(String   guid)
     {
         if (guid != null)
         {
-            Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
+            synchronized (getLock(guid))
+            {
+                Relationship  currentVersionOfRelationship = relationshipStore.get(guid);
 
-            long versionNumber = 0;
+                long versionNumber = 0;
 
-            if (currentVersionOfRelationship != null)
-            {
-                versionNumber = currentVersionOfRelationship.getVersion() + 1;
-            }
+                if (currentVersionOfRelationship != null)
+                {
+                    versionNumber = currentVersionOfRelationship.getVersion() + 1;
+                }
 
+                Relationship relationship = getMostRecentHistoryVersion(relationshipHistoryStore.get(guid));
 
-            for (Relationship relationship : relationshipHistoryStore)
-            {
                 if (relationship != null)
                 {
-                    if (guid.equals(relationship.getGUID()))
+
+                    if (versionNumber == 0)
                     {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = relationship.getVersion() + 1;
-                        }
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         */
-                        Relationship newRelationship = new Relationship(relationship);
-                        newRelationship.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newRelationship.setUpdateTime(restoreTime);
-                        relationshipStore.put(guid, newRelationship);
-                        relationshipHistoryStore.add(0, currentVersionOfRelationship);
-                        return newRelationship;
+                        versionNumber = relationship.getVersion() + 1;
+                    }
 
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     */
+                    Relationship newRelationship = new Relationship(relationship);
+                    newRelationship.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newRelationship.setUpdateTime(restoreTime);
+                    relationshipStore.put(guid, newRelationship);
+                    indexRelationship(newRelationship);
+                    if (currentVersionOfRelationship != null)
+                    {
+                        addToHistory(relationshipHistoryStore, currentVersionOfRelationship);
                     }
+                    return newRelationship;
                 }
             }
         }
@@ -459,47 +471,49 @@ class InMemoryOMRSMetadataStore
      * @param guid - unique identifier for the required element
      * @return - previous version of this Entity - or null if not found
      */
-    synchronized EntityDetail retrievePreviousVersionOfEntity(String   guid)
+    EntityDetail retrievePreviousVersionOfEntity(String   guid)
     {
         if (guid != null)
         {
-            EntityDetail  currentVersionOfEntity = entityStore.get(guid);
+            synchronized (getLock(guid))
+            {
+                EntityDetail  currentVersionOfEntity = entityStore.get(guid);
 
-            long versionNumber = 0;
+                long versionNumber = 0;
 
-            if (currentVersionOfEntity != null)
-            {
-                versionNumber = currentVersionOfEntity.getVersion() + 1;
-            }
+                if (currentVersionOfEntity != null)
+                {
+                    versionNumber = currentVersionOfEntity.getVersion() + 1;
+                }
+
+                EntityDetail entity = getMostRecentHistoryVersion(entityHistoryStore.get(guid));
 
-            for (EntityDetail entity : entityHistoryStore)
-            {
                 if (entity != null)
                 {
-                    if (guid.equals(entity.getGUID()))
-                    {
-                        if (versionNumber == 0)
-                        {
-                            versionNumber = entity.getVersion() + 1;
-                        }
 
-                        /*
-                         * Clone the head (most recent) version in the history, set its version number to the next version
-                         * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
-                         * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
-                         * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
-                         * updated longer ago than was really the case.
-                         *
-                         */
-                        EntityDetail newEntity = new EntityDetail(entity);
-                        newEntity.setVersion(versionNumber);
-                        Date restoreTime = new Date();
-                        newEntity.setUpdateTime(restoreTime);
-                        entityStore.put(guid, newEntity);
-                        entityHistoryStore.add(0, currentVersionOfEntity);
-                        return newEntity;
+                    if (versionNumber == 0)
+                    {
+                        versionNumber = entity.getVersion() + 1;
+                    }
 
+                    /*
+                     * Clone the head (most recent) version in the history, set its version number to the next version
+                     * and insert the new clone into the current store (under key GUID). Also, take the 'current version'
+                     * (as was at start of method) and shunt that into the history. Do not remove anything from the history.
+                     * Remember also to set the updateTime to NOW - otherwise the historical copy will appear to have been
+                     * updated longer ago than was really the case.
+                     */
+                    EntityDetail newEntity = new EntityDetail(entity);
+                    newEntity.setVersion(versionNumber);
+                    Date restoreTime = new Date();
+                    newEntity.setUpdateTime(restoreTime);
+                    entityStore.put(guid, newEntity);
+                    indexEntity(newEntity);
+                    if (currentVersionOfEntity != null)
+                    {
+                        addToHistory(entityHistoryStore, currentVersionOfEntity);
                     }
+                    return newEntity;
                 }
             }
         }
@@ -513,10 +527,14 @@ class InMemoryOMRSMetadataStore
      *
      * @param entity - entity to remove
      */
-    synchronized void removeEntityFromStore(EntityDetail     entity)
+    void removeEntityFromStore(EntityDetail     entity)
     {
-        entityStore.remove(entity.getGUID());
-        entityHistoryStore.add(0, entity);
+        synchronized (getLock(entity.getGUID()))
+        {
+            entityStore.remove(entity.getGUID());
+            unindexEntity(entity.getGUID());
+            addToHistory(entityHistoryStore, entity);
+        }
     }
 
 
@@ -525,13 +543,18 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity to remove
      */
-    synchronized void removeReferenceEntityFromStore(String     guid)
+    void removeReferenceEntityFromStore(String     guid)
     {
-        EntityDetail entity = entityStore.remove(guid);
-
-        if (entity != null)
+        synchronized (getLock(guid))
         {
-            entityHistoryStore.add(0, entity);
+            EntityDetail entity = entityStore.remove(guid);
+
+            unindexEntity(guid);
+
+            if (entity != null)
+            {
+                addToHistory(entityHistoryStore, entity);
+            }
         }
     }
 
@@ -541,7 +564,7 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - entity proxy to remove
      */
-    synchronized void removeEntityProxyFromStore(String     guid)
+    void removeEntityProxyFromStore(String     guid)
     {
         entityProxyStore.remove(guid);
     }
@@ -552,10 +575,14 @@ class InMemoryOMRSMetadataStore
      *
      * @param relationship - relationship to remove
      */
-    synchronized void removeRelationshipFromStore(Relationship     relationship)
+    void removeRelationshipFromStore(Relationship     relationship)
     {
-        relationshipStore.remove(relationship.getGUID());
-        relationshipHistoryStore.add(0, relationship);
+        synchronized (getLock(relationship.getGUID()))
+        {
+            relationshipStore.remove(relationship.getGUID());
+            unindexRelationship(relationship.getGUID());
+            addToHistory(relationshipHistoryStore, relationship);
+        }
     }
 
 
@@ -564,14 +591,1030 @@ class InMemoryOMRSMetadataStore
      *
      * @param guid - relationship to remove
      */
-    synchronized void removeReferenceRelationshipFromStore(String     guid)
+    void removeReferenceRelationshipFromStore(String     guid)
+    {
+        synchronized (getLock(guid))
+        {
+            Relationship  relationship = relationshipStore.remove(guid);
+
+            unindexRelationship(guid);
+
+            if (relationship != null)
+            {
+                addToHistory(relationshipHistoryStore, relationship);
+            }
+        }
+    }
+
+
+    /**
+     * Return the time that a version of an instance was written.  This is its update time, or its
+     * create time if it has not been updated.
+     *
+     * @param instance version of an instance
+     * @return time in milliseconds or null if the instance has no timestamps
+     */
+    private Long getVersionTime(InstanceAuditHeader instance)
+    {
+        if (instance.getUpdateTime() != null)
+        {
+            return instance.getUpdateTime().getTime();
+        }
+        else if (instance.getCreateTime() != null)
+        {
+            return instance.getCreateTime().getTime();
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Add a previous version of an instance to its version chain in the history store and then apply the
+     * retention policy to the chain.  The retention period does not apply to versions without timestamps
+     * but they count towards the maximum number of versions and, as the oldest entries in the chain, are the
+     * first to be removed.  The caller must hold the lock for the instance's GUID.
+     *
+     * @param historyStore history store for the type of instance
+     * @param instance previous version of the instance
+     * @param <T> type of instance
+     */
+    private <T extends InstanceHeader> void addToHistory(Map<String, NavigableMap<HistoryKey, T>> historyStore,
+                                                              T                                        instance)
+    {
+        NavigableMap<HistoryKey, T> versions = historyStore.computeIfAbsent(instance.getGUID(),
+                                                                            guid -> new ConcurrentSkipListMap<>());
+
+        versions.put(new HistoryKey(getVersionTime(instance), instance.getVersion(), historySequence.incrementAndGet()),
+                     instance);
+
+        if (historyRetentionPeriod > 0)
+        {
+            versions.subMap(HistoryKey.getFloorKey(Long.MIN_VALUE),
+                            HistoryKey.getFloorKey(System.currentTimeMillis() - historyRetentionPeriod)).clear();
+        }
+
+        if (maxHistoryVersions > 0)
+        {
+            while (versions.size() > maxHistoryVersions)
+            {
+                versions.pollFirstEntry();
+            }
+        }
+
+        if (versions.isEmpty())
+        {
+            historyStore.remove(instance.getGUID());
+        }
+    }
+
+
+    /**
+     * Return the version of an instance that was most recently added to its version chain.  This is
+     * the version that is restored when an update is undone.
+     *
+     * @param versions previous versions of the instance (may be null)
+     * @param <T> type of instance
+     * @return most recent previous version or null if there are no previous versions
+     */
+    private <T extends InstanceHeader> T getMostRecentHistoryVersion(NavigableMap<HistoryKey, T> versions)
+    {
+        Map.Entry<HistoryKey, T> mostRecentVersion = null;
+
+        if (versions != null)
+        {
+            for (Map.Entry<HistoryKey, T> version : versions.entrySet())
+            {
+                if ((mostRecentVersion == null) || (version.getKey().sequence > mostRecentVersion.getKey().sequence))
+                {
+                    mostRecentVersion = version;
+                }
+            }
+        }
+
+        if (mostRecentVersion == null)
+        {
+            return null;
+        }
+
+        return mostRecentVersion.getValue();
+    }
+
+
+    /**
+     * Return the version of an instance that was current at the requested time.
+     *
+     * @param currentVersion current version of the instance (may be null)
+     * @param versions previous versions of the instance (may be null)
+     * @param asOfTime requested time
+     * @param <T> type of instance
+     * @return version of the instance or null if it did not exist at the requested time
+     */
+    private <T extends InstanceHeader> T getVersionAsOf(T                           currentVersion,
+                                                             NavigableMap<HistoryKey, T> versions,
+                                                             Date                        asOfTime)
     {
-        Relationship  relationship = relationshipStore.remove(guid);
+        if (currentVersion != null)
+        {
+            Long versionTime = getVersionTime(currentVersion);
+
+            if ((versionTime != null) && (versionTime <= asOfTime.getTime()))
+            {
+                return currentVersion;
+            }
+        }
 
-        if (relationship != null)
+        if (versions != null)
         {
-            relationshipHistoryStore.add(0, relationship);
+            Map.Entry<HistoryKey, T> previousVersion = versions.floorEntry(HistoryKey.getCeilingKey(asOfTime.getTime()));
+
+            /*
+             * Versions without timestamps are at the start of the chain and are never returned.
+             */
+            if ((previousVersion != null) && (previousVersion.getKey().versionTime != null))
+            {
+                return previousVersion.getValue();
+            }
         }
+
+        return null;
     }
 
+
+    /**
+     * Build a store containing each instance as it was at the requested time.
+     *
+     * @param currentStore store of current instances
+     * @param historyStore version chains of the instances
+     * @param asOfTime requested time
+     * @param <T> type of instance
+     * @return map of GUID to instance
+     */
+    private <T extends InstanceHeader> Map<String, T> timeWarpStore(Map<String, T>                     currentStore,
+                                                                         Map<String, NavigableMap<HistoryKey, T>> historyStore,
+                                                                         Date                                     asOfTime)
+    {
+        Map<String, T> timeWarpedStore = new HashMap<>();
+
+        for (Map.Entry<String, T> currentInstance : currentStore.entrySet())
+        {
+            T instance = getVersionAsOf(currentInstance.getValue(), historyStore.get(currentInstance.getKey()), asOfTime);
+
+            if (instance != null)
+            {
+                timeWarpedStore.put(currentInstance.getKey(), instance);
+            }
+        }
+
+        /*
+         * Add the instances that have since been removed from the current store.
+         */
+        for (Map.Entry<String, NavigableMap<HistoryKey, T>> versions : historyStore.entrySet())
+        {
+            if (! timeWarpedStore.containsKey(versions.getKey()))
+            {
+                T instance = getVersionAsOf(null, versions.getValue(), asOfTime);
+
+                if (instance != null)
+                {
+                    timeWarpedStore.put(versions.getKey(), instance);
+                }
+            }
+        }
+
+        return timeWarpedStore;
+    }
+
+
+    /**
+     * Return the lock that serializes updates to the instance with the supplied GUID.
+     *
+     * @param guid unique identifier of the instance
+     * @return lock object
+     */
+    private Object getLock(String guid)
+    {
+        if (guid == null)
+        {
+            return locks[0];
+        }
+
+        return locks[(guid.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+
+    /**
+     * Return the current entities that may match a search.  The candidates are located through the secondary
+     * indexes, so the caller must still verify each candidate against the full search criteria.
+     * Each parameter narrows the candidates; a null parameter means the criteria is not used.
+     *
+     * @param typeNames names of the types that the entities may be (the requested type and its subtypes)
+     * @param limitResultsByStatus statuses that the entities may be in
+     * @param classificationNames names of classifications, at least one of which must be attached to the entity
+     * @param exactMatchProperties string properties with the exact value that the entities must have
+     * @return list of candidate entities
+     */
+    List<EntityDetail> getEntityCandidates(List<String>          typeNames,
+                                           List<InstanceStatus>  limitResultsByStatus,
+                                           List<String>          classificationNames,
+                                           Map<String, String>   exactMatchProperties)
+    {
+        return getEntityCandidates(typeNames, limitResultsByStatus, classificationNames, exactMatchProperties, null, null);
+    }
+
+
+    /**
+     * Return the current entities that may match a search that includes values for the properties of a
+     * classification.  Each classification property value narrows the candidates to the entities where that
+     * classification has the property with a string value, or an array of strings with a value, that contains
+     * the supplied literal.  Entities where the property has some other type of value can not be narrowed
+     * this way and so they are always candidates.  The caller must still verify each candidate against the
+     * full search criteria.
+     *
+     * @param typeNames names of the types that the entities may be (the requested type and its subtypes)
+     * @param limitResultsByStatus statuses that the entities may be in
+     * @param classificationNames names of classifications, at least one of which must be attached to the entity
+     * @param exactMatchProperties string properties with the exact value that the entities must have
+     * @param classificationName name of the classification that the classification property values belong to
+     * @param containedClassificationValues classification properties with a literal that their values must contain
+     * @return list of candidate entities
+     */
+    List<EntityDetail> getEntityCandidates(List<String>          typeNames,
+                                           List<InstanceStatus>  limitResultsByStatus,
+                                           List<String>          classificationNames,
+                                           Map<String, String>   exactMatchProperties,
+                                           String                classificationName,
+                                           Map<String, String>   containedClassificationValues)
+    {
+        List<Set<String>> constraints = new ArrayList<>();
+
+        if (typeNames != null)
+        {
+            constraints.add(getIndexedGUIDs(entityTypeIndex, typeNames));
+        }
+
+        if (limitResultsByStatus != null)
+        {
+            constraints.add(getIndexedGUIDs(entityStatusIndex, limitResultsByStatus));
+        }
+
+        if (classificationNames != null)
+        {
+            constraints.add(getIndexedGUIDs(entityClassificationIndex, classificationNames));
+        }
+
+        if (exactMatchProperties != null)
+        {
+            for (String propertyName : exactMatchProperties.keySet())
+            {
+                Map<String, Set<String>> valueIndex = entityPropertyIndex.get(propertyName);
+                Set<String>              guids      = null;
+
+                if (valueIndex != null)
+                {
+                    guids = valueIndex.get(exactMatchProperties.get(propertyName));
+                }
+
+                constraints.add(guids == null ? new HashSet<>() : guids);
+            }
+        }
+
+        if ((classificationName != null) && (containedClassificationValues != null))
+        {
+            for (String propertyName : containedClassificationValues.keySet())
+            {
+                constraints.add(getContainingGUIDs(getClassificationPropertyKey(classificationName, propertyName),
+                                                   containedClassificationValues.get(propertyName)));
+            }
+        }
+
+        if (constraints.isEmpty())
+        {
+            return getEntities();
+        }
+
+        List<EntityDetail> candidates = new ArrayList<>();
+
+        for (String guid : intersectIndexedGUIDs(constraints))
+        {
+            EntityDetail entity = entityStore.get(guid);
+
+            if (entity != null)
+            {
+                candidates.add(entity);
+            }
+        }
+
+        return candidates;
+    }
+
+
+    /**
+     * Return the current relationships that may match a search.  The candidates are located through the secondary
+     * indexes, so the caller must still verify each candidate against the full search criteria.
+     * Each parameter narrows the candidates; a null parameter means the criteria is not used.
+     *
+     * @param typeNames names of the types that the relationships may be (the requested type and its subtypes)
+     * @param limitResultsByStatus statuses that the relationships may be in
+     * @return list of candidate relationships
+     */
+    List<Relationship> getRelationshipCandidates(List<String>          typeNames,
+                                                 List<InstanceStatus>  limitResultsByStatus)
+    {
+        List<Set<String>> constraints = new ArrayList<>();
+
+        if (typeNames != null)
+        {
+            constraints.add(getIndexedGUIDs(relationshipTypeIndex, typeNames));
+        }
+
+        if (limitResultsByStatus != null)
+        {
+            constraints.add(getIndexedGUIDs(relationshipStatusIndex, limitResultsByStatus));
+        }
+
+        if (constraints.isEmpty())
+        {
+            return getRelationships();
+        }
+
+        List<Relationship> candidates = new ArrayList<>();
+
+        for (String guid : intersectIndexedGUIDs(constraints))
+        {
+            Relationship relationship = relationshipStore.get(guid);
+
+            if (relationship != null)
+            {
+                candidates.add(relationship);
+            }
+        }
+
+        return candidates;
+    }
+
+
+    /**
+     * Return the union of the GUIDs stored in an index under the supplied keys.
+     *
+     * @param index index to query
+     * @param keys keys to look up
+     * @param <K> type of key
+     * @return set of GUIDs
+     */
+    private <K> Set<String> getIndexedGUIDs(Map<K, Set<String>> index,
+                                            List<K>             keys)
+    {
+        Set<String> guids = new HashSet<>();
+
+        for (K key : keys)
+        {
+            Set<String> indexedGUIDs = index.get(key);
+
+            if (indexedGUIDs != null)
+            {
+                guids.addAll(indexedGUIDs);
+            }
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the GUIDs of the entities with a classification property value that contains the supplied literal,
+     * along with the entities where the classification property has a value that is not indexed.  The number of
+     * distinct values of a classification property (for example, the zones) is expected to be small so they are
+     * scanned.
+     *
+     * @param classificationPropertyKey key of the classification property in the index
+     * @param literal value that the property value must contain
+     * @return set of GUIDs
+     */
+    private Set<String> getContainingGUIDs(String classificationPropertyKey,
+                                           String literal)
+    {
+        Set<String>              guids      = new HashSet<>();
+        Map<String, Set<String>> valueIndex = entityClassificationPropertyIndex.get(classificationPropertyKey);
+
+        if (valueIndex != null)
+        {
+            for (Map.Entry<String, Set<String>> indexedValue : valueIndex.entrySet())
+            {
+                if (indexedValue.getKey().contains(literal))
+                {
+                    guids.addAll(indexedValue.getValue());
+                }
+            }
+        }
+
+        Set<String> unindexedGUIDs = entityClassificationPropertyUnindexed.get(classificationPropertyKey);
+
+        if (unindexedGUIDs != null)
+        {
+            guids.addAll(unindexedGUIDs);
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return the key used to index the values of a classification property.
+     *
+     * @param classificationName name of the classification
+     * @param propertyName name of the property
+     * @return index key
+     */
+    private static String getClassificationPropertyKey(String classificationName,
+                                                       String propertyName)
+    {
+        return classificationName + "." + propertyName;
+    }
+
+
+    /**
+     * Return the GUIDs that are present in all of the supplied sets.  The smallest set is used to drive the
+     * intersection so the cost is proportional to the most selective criteria.
+     *
+     * @param constraints sets of GUIDs
+     * @return GUIDs present in all of the sets
+     */
+    private Set<String> intersectIndexedGUIDs(List<Set<String>> constraints)
+    {
+        constraints.sort(Comparator.comparingInt(Set::size));
+
+        Set<String> results = new HashSet<>(constraints.get(0));
+
+        for (int i = 1; (i < constraints.size()) && (! results.isEmpty()); i++)
+        {
+            results.retainAll(constraints.get(i));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Add an entity to the secondary indexes, replacing the index entries for any previous version of the entity.
+     * The entries for the new version are added before the entries that no longer apply are removed, so that a
+     * search running at the same time (without the lock) always finds the entity under one version or the other.
+     *
+     * @param entity current version of the entity
+     */
+    private void indexEntity(EntityDetail entity)
+    {
+        String            guid      = entity.getGUID();
+        InstanceIndexKeys indexKeys = new InstanceIndexKeys(entity);
+
+        addToIndex(entityTypeIndex, indexKeys.typeName, guid);
+        addToIndex(entityStatusIndex, indexKeys.status, guid);
+
+        for (String classificationName : indexKeys.classificationNames)
+        {
+            addToIndex(entityClassificationIndex, classificationName, guid);
+        }
+
+        for (String propertyName : indexKeys.stringProperties.keySet())
+        {
+            entityPropertyIndex.compute(propertyName, (name, valueIndex) ->
+            {
+                Map<String, Set<String>> updatedValueIndex = (valueIndex == null) ? new ConcurrentHashMap<>() : valueIndex;
+
+                addToIndex(updatedValueIndex, indexKeys.stringProperties.get(propertyName), guid);
+
+                return updatedValueIndex;
+            });
+        }
+
+        for (String classificationPropertyKey : indexKeys.classificationPropertyValues.keySet())
+        {
+            entityClassificationPropertyIndex.compute(classificationPropertyKey, (key, valueIndex) ->
+            {
+                Map<String, Set<String>> updatedValueIndex = (valueIndex == null) ? new ConcurrentHashMap<>() : valueIndex;
+
+                for (String value : indexKeys.classificationPropertyValues.get(classificationPropertyKey))
+                {
+                    addToIndex(updatedValueIndex, value, guid);
+                }
+
+                return updatedValueIndex;
+            });
+        }
+
+        for (String classificationPropertyKey : indexKeys.unindexedClassificationProperties)
+        {
+            addToIndex(entityClassificationPropertyUnindexed, classificationPropertyKey, guid);
+        }
+
+        InstanceIndexKeys previousIndexKeys = entityIndexKeys.put(guid, indexKeys);
+
+        if (previousIndexKeys != null)
+        {
+            removeEntityIndexEntries(guid, previousIndexKeys, indexKeys);
+        }
+    }
+
+
+    /**
+     * Remove an entity from the secondary indexes.  The keys recorded when the entity was indexed are used
+     * so that the index stays consistent even if the stored object has since been changed.
+     *
+     * @param guid unique identifier of the entity
+     */
+    private void unindexEntity(String guid)
+    {
+        InstanceIndexKeys indexKeys = entityIndexKeys.remove(guid);
+
+        if (indexKeys != null)
+        {
+            removeEntityIndexEntries(guid, indexKeys, new InstanceIndexKeys());
+        }
+    }
+
+
+    /**
+     * Remove the index entries for an entity that are not also entries for its current version.
+     *
+     * @param guid unique identifier of the entity
+     * @param staleIndexKeys keys that the entity was indexed under
+     * @param currentIndexKeys keys that the entity is now indexed under (empty if it is no longer indexed)
+     */
+    private void removeEntityIndexEntries(String            guid,
+                                          InstanceIndexKeys staleIndexKeys,
+                                          InstanceIndexKeys currentIndexKeys)
+    {
+        if (! Objects.equals(staleIndexKeys.typeName, currentIndexKeys.typeName))
+        {
+            removeFromIndex(entityTypeIndex, staleIndexKeys.typeName, guid);
+        }
+
+        if (staleIndexKeys.status != currentIndexKeys.status)
+        {
+            removeFromIndex(entityStatusIndex, staleIndexKeys.status, guid);
+        }
+
+        for (String classificationName : staleIndexKeys.classificationNames)
+        {
+            if (! currentIndexKeys.classificationNames.contains(classificationName))
+            {
+                removeFromIndex(entityClassificationIndex, classificationName, guid);
+            }
+        }
+
+        for (String propertyName : staleIndexKeys.stringProperties.keySet())
+        {
+            String staleValue = staleIndexKeys.stringProperties.get(propertyName);
+
+            if (! staleValue.equals(currentIndexKeys.stringProperties.get(propertyName)))
+            {
+                entityPropertyIndex.computeIfPresent(propertyName, (name, valueIndex) ->
+                {
+                    removeFromIndex(valueIndex, staleValue, guid);
+
+                    return valueIndex.isEmpty() ? null : valueIndex;
+                });
+            }
+        }
+
+        for (String classificationPropertyKey : staleIndexKeys.classificationPropertyValues.keySet())
+        {
+            Set<String> currentValues = currentIndexKeys.classificationPropertyValues.get(classificationPropertyKey);
+
+            entityClassificationPropertyIndex.computeIfPresent(classificationPropertyKey, (key, valueIndex) ->
+            {
+                for (String value : staleIndexKeys.classificationPropertyValues.get(classificationPropertyKey))
+                {
+                    if ((currentValues == null) || (! currentValues.contains(value)))
+                    {
+                        removeFromIndex(valueIndex, value, guid);
+                    }
+                }
+
+                return valueIndex.isEmpty() ? null : valueIndex;
+            });
+        }
+
+        for (String classificationPropertyKey : staleIndexKeys.unindexedClassificationProperties)
+        {
+            if (! currentIndexKeys.unindexedClassificationProperties.contains(classificationPropertyKey))
+            {
+                removeFromIndex(entityClassificationPropertyUnindexed, classificationPropertyKey, guid);
+            }
+        }
+    }
+
+
+    /**
+     * Add a relationship to the secondary indexes, replacing the index entries for any previous version
+     * of the relationship.  As for entities, the new entries are added before the stale entries are removed.
+     *
+     * @param relationship current version of the relationship
+     */
+    private void indexRelationship(Relationship relationship)
+    {
+        String            guid      = relationship.getGUID();
+        InstanceIndexKeys indexKeys = new InstanceIndexKeys(relationship);
+
+        addToIndex(relationshipTypeIndex, indexKeys.typeName, guid);
+        addToIndex(relationshipStatusIndex, indexKeys.status, guid);
+
+        InstanceIndexKeys previousIndexKeys = relationshipIndexKeys.put(guid, indexKeys);
+
+        if (previousIndexKeys != null)
+        {
+            removeRelationshipIndexEntries(guid, previousIndexKeys, indexKeys);
+        }
+    }
+
+
+    /**
+     * Remove a relationship from the secondary indexes.
+     *
+     * @param guid unique identifier of the relationship
+     */
+    private void unindexRelationship(String guid)
+    {
+        InstanceIndexKeys indexKeys = relationshipIndexKeys.remove(guid);
+
+        if (indexKeys != null)
+        {
+            removeRelationshipIndexEntries(guid, indexKeys, new InstanceIndexKeys());
+        }
+    }
+
+
+    /**
+     * Remove the index entries for a relationship that are not also entries for its current version.
+     *
+     * @param guid unique identifier of the relationship
+     * @param staleIndexKeys keys that the relationship was indexed under
+     * @param currentIndexKeys keys that the relationship is now indexed under (empty if it is no longer indexed)
+     */
+    private void removeRelationshipIndexEntries(String            guid,
+                                                InstanceIndexKeys staleIndexKeys,
+                                                InstanceIndexKeys currentIndexKeys)
+    {
+        if (! Objects.equals(staleIndexKeys.typeName, currentIndexKeys.typeName))
+        {
+            removeFromIndex(relationshipTypeIndex, staleIndexKeys.typeName, guid);
+        }
+
+        if (staleIndexKeys.status != currentIndexKeys.status)
+        {
+            removeFromIndex(relationshipStatusIndex, staleIndexKeys.status, guid);
+        }
+    }
+
+
+    /**
+     * Add a GUID to an index under the supplied key.  The update is atomic for the key so it can not
+     * race with the removal of the key's last GUID.
+     *
+     * @param index index to update
+     * @param key key for the GUID (null keys are not indexed)
+     * @param guid unique identifier of the instance
+     * @param <K> type of key
+     */
+    private <K> void addToIndex(Map<K, Set<String>> index,
+                                K                   key,
+                                String              guid)
+    {
+        if (key != null)
+        {
+            index.compute(key, (indexKey, guids) ->
+            {
+                Set<String> updatedGUIDs = (guids == null) ? ConcurrentHashMap.newKeySet() : guids;
+
+                updatedGUIDs.add(guid);
+
+                return updatedGUIDs;
+            });
+        }
+    }
+
+
+    /**
+     * Remove a GUID from an index under the supplied key.
+     *
+     * @param index index to update
+     * @param key key for the GUID
+     * @param guid unique identifier of the instance
+     * @param <K> type of key
+     */
+    private <K> void removeFromIndex(Map<K, Set<String>> index,
+                                     K                   key,
+                                     String              guid)
+    {
+        if (key != null)
+        {
+            index.computeIfPresent(key, (indexKey, guids) ->
+            {
+                guids.remove(guid);
+
+                return guids.isEmpty() ? null : guids;
+            });
+        }
+    }
+
+
+    /**
+     * InstanceIndexKeys records the values that an instance was indexed under.
+     */
+    private static class InstanceIndexKeys
+    {
+        private String              typeName            = null;
+        private InstanceStatus      status;
+        private List<String>        classificationNames = new ArrayList<>();
+        private Map<String, String> stringProperties    = new HashMap<>();
+
+        private Map<String, Set<String>> classificationPropertyValues      = new HashMap<>();
+        private List<String>             unindexedClassificationProperties = new ArrayList<>();
+
+
+        /**
+         * Create an empty set of index keys for an instance that is not indexed.
+         */
+        InstanceIndexKeys()
+        {
+        }
+
+
+        /**
+         * Extract the index keys from an instance.
+         *
+         * @param instance instance to index
+         */
+        InstanceIndexKeys(InstanceHeader instance)
+        {
+            InstanceType type = instance.getType();
+
+            if (type != null)
+            {
+                typeName = type.getTypeDefName();
+            }
+
+            status = instance.getStatus();
+        }
+
+
+        /**
+         * Extract the index keys from an entity.  This includes its classifications, the string values of their
+         * properties and its string properties.
+         *
+         * @param entity entity to index
+         */
+        InstanceIndexKeys(EntityDetail entity)
+        {
+            this((InstanceHeader)entity);
+
+            List<Classification> classifications = entity.getClassifications();
+
+            if (classifications != null)
+            {
+                for (Classification classification : classifications)
+                {
+                    if ((classification != null) && (classification.getName() != null))
+                    {
+                        classificationNames.add(classification.getName());
+
+                        addClassificationProperties(classification);
+                    }
+                }
+            }
+
+            InstanceProperties properties = entity.getProperties();
+
+            if ((properties != null) && (properties.getInstanceProperties() != null))
+            {
+                for (Map.Entry<String, InstancePropertyValue> property : properties.getInstanceProperties().entrySet())
+                {
+                    if ((property.getKey() != null) && (property.getValue() instanceof PrimitivePropertyValue))
+                    {
+                        PrimitivePropertyValue primitiveValue = (PrimitivePropertyValue)property.getValue();
+
+                        if ((primitiveValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                            (primitiveValue.getPrimitiveValue() != null))
+                        {
+                            stringProperties.put(property.getKey(), primitiveValue.getPrimitiveValue().toString());
+                        }
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Extract the string values of the properties of a classification.  The values of an array of strings
+         * are extracted individually.  A property with any other type of value is recorded as unindexed so
+         * searches on the property still examine the entity.
+         *
+         * @param classification classification to index
+         */
+        private void addClassificationProperties(Classification classification)
+        {
+            InstanceProperties properties = classification.getProperties();
+
+            if ((properties == null) || (properties.getInstanceProperties() == null))
+            {
+                return;
+            }
+
+            for (Map.Entry<String, InstancePropertyValue> property : properties.getInstanceProperties().entrySet())
+            {
+                if ((property.getKey() != null) && (property.getValue() != null))
+                {
+                    String      classificationPropertyKey = getClassificationPropertyKey(classification.getName(), property.getKey());
+                    Set<String> values                    = new HashSet<>();
+
+                    if (property.getValue() instanceof ArrayPropertyValue)
+                    {
+                        InstanceProperties arrayValues = ((ArrayPropertyValue)property.getValue()).getArrayValues();
+
+                        if ((arrayValues != null) && (arrayValues.getInstanceProperties() != null))
+                        {
+                            for (InstancePropertyValue arrayValue : arrayValues.getInstanceProperties().values())
+                            {
+                                String value = getStringValue(arrayValue);
+
+                                if (value == null)
+                                {
+                                    values = null;
+                                    break;
+                                }
+
+                                values.add(value);
+                            }
+                        }
+                    }
+                    else
+                    {
+                        String value = getStringValue(property.getValue());
+
+                        if (value == null)
+                        {
+                            values = null;
+                        }
+                        else
+                        {
+                            values.add(value);
+                        }
+                    }
+
+                    if (values == null)
+                    {
+                        unindexedClassificationProperties.add(classificationPropertyKey);
+                    }
+                    else if (! values.isEmpty())
+                    {
+                        classificationPropertyValues.put(classificationPropertyKey, values);
+                    }
+                }
+            }
+        }
+
+
+        /**
+         * Return the value of a string property.
+         *
+         * @param propertyValue property value
+         * @return string value, or null if the property is not a string
+         */
+        private String getStringValue(InstancePropertyValue propertyValue)
+        {
+            if (propertyValue instanceof PrimitivePropertyValue)
+            {
+                PrimitivePropertyValue primitiveValue = (PrimitivePropertyValue)propertyValue;
+
+                if ((primitiveValue.getPrimitiveDefCategory() == PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING) &&
+                    (primitiveValue.getPrimitiveValue() != null))
+                {
+                    return primitiveValue.getPrimitiveValue().toString();
+                }
+            }
+
+            return null;
+        }
+    }
+
+
+    /**
+     * HistoryKey orders the versions in the version chain of an instance.  Versions are ordered by the time they
+     * were written, then by their version number and then by the order they were added to the history.
+     * Versions without timestamps sort before all of the others.
+     */
+    private static class HistoryKey implements Comparable<HistoryKey>
+    {
+        private final Long versionTime;
+        private final long version;
+        private final long sequence;
+
+
+        /**
+         * Constructor
+         *
+         * @param versionTime time the version was written or null if it has no timestamps
+         * @param version version number of the instance
+         * @param sequence order the version was added to the history
+         */
+        HistoryKey(Long versionTime,
+                   long version,
+                   long sequence)
+        {
+            this.versionTime = versionTime;
+            this.version = version;
+            this.sequence = sequence;
+        }
+
+
+        /**
+         * Return a key that sorts before every version written at or after the supplied time.
+         *
+         * @param time time in milliseconds
+         * @return key
+         */
+        static HistoryKey getFloorKey(long time)
+        {
+            return new HistoryKey(time, Long.MIN_VALUE, Long.MIN_VALUE);
+        }
+
+
+        /**
+         * Return a key that sorts after every version written at or before the supplied time.
+         *
+         * @param time time in milliseconds
+         * @return key
+         */
+        static HistoryKey getCeilingKey(long time)
+        {
+            return new HistoryKey(time, Long.MAX_VALUE, Long.MAX_VALUE);
+        }
+
+
+        /**
+         * Compare with another key.
+         *
+         * @param other key to compare with
+         * @return negative, zero or positive number as this key sorts before, with or after the other key
+         */
+        @Override
+        public int compareTo(HistoryKey other)
+        {
+            if (versionTime == null)
+            {
+                if (other.versionTime != null)
+                {
+                    return -1;
+                }
+            }
+            else if (other.versionTime == null)
+            {
+                return 1;
+            }
+            else if (! versionTime.equals(other.versionTime))
+            {
+                return Long.compare(versionTime, other.versionTime);
+            }
+
+            if (version != other.version)
+            {
+                return Long.compare(version, other.version);
+            }
+
+            return Long.compare(sequence, other.sequence);
+        }
+
+
+        /**
+         * Keys are equal if they sort together.
+         *
+         * @param objectToCompare object
+         * @return boolean
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (! (objectToCompare instanceof HistoryKey))
+            {
+                return false;
+            }
+            return compareTo((HistoryKey) objectToCompare) == 0;
+        }
+
+
+        /**
+         * Hash code consistent with equals.
+         *
+         * @return int
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(versionTime, version, sequence);
+        }
+    }
 }
@@ -41,7 +41,8 @@ public class InMemoryOMRSRepositoryConnector extends OMRSRepositoryConnector
                                                                           super.serverName,
                                                                           repositoryHelper,
                                                                           repositoryValidator,
-                                                                          metadataCollectionId);
+                                                                          metadataCollectionId,
+                                                                          connectionBean.getConfigurationProperties());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,429 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+public class InMemoryOMRSMetadataStoreTest
+{
+    @Test
+    public void testEntityCandidates()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("1111", "Asset", InstanceStatus.ACTIVE, "Confidentiality", "asset1"));
+        store.createEntityInStore(getEntity("2222", "DataSet", InstanceStatus.ACTIVE, null, "asset2"));
+        store.createEntityInStore(getEntity("3333", "Asset", InstanceStatus.PROPOSED, null, "asset1"));
+
+        assertEquals(getGUIDs(store.getEntityCandidates(null, null, null, null)), guids("1111", "2222", "3333"));
+        assertEquals(getGUIDs(store.getEntityCandidates(Arrays.asList("Asset", "DataSet"), null, null, null)),
+                     guids("1111", "2222", "3333"));
+        assertEquals(getGUIDs(store.getEntityCandidates(Collections.singletonList("DataSet"), null, null, null)), guids("2222"));
+        assertEquals(getGUIDs(store.getEntityCandidates(null, Collections.singletonList(InstanceStatus.ACTIVE), null, null)),
+                     guids("1111", "2222"));
+        assertEquals(getGUIDs(store.getEntityCandidates(null, null, Collections.singletonList("Confidentiality"), null)),
+                     guids("1111"));
+        assertEquals(getGUIDs(store.getEntityCandidates(Collections.singletonList("Asset"),
+                                                        Collections.singletonList(InstanceStatus.PROPOSED),
+                                                        null,
+                                                        Collections.singletonMap("qualifiedName", "asset1"))),
+                     guids("3333"));
+        assertTrue(store.getEntityCandidates(null, null, null, Collections.singletonMap("qualifiedName", "asset3")).isEmpty());
+    }
+
+
+    @Test
+    public void testClassificationPropertyCandidates()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getZonedEntity("1111", "zone1", "zone2"));
+        store.createEntityInStore(getZonedEntity("2222", "zone2"));
+        store.createEntityInStore(getZonedEntity("3333", "zone3"));
+        store.createEntityInStore(getEntity("4444", "Asset", InstanceStatus.ACTIVE, "AssetZoneMembership", "asset4"));
+
+        assertEquals(getGUIDs(getZoneCandidates(store, "zone1")), guids("1111"));
+        assertEquals(getGUIDs(getZoneCandidates(store, "zone2")), guids("1111", "2222"));
+        assertEquals(getGUIDs(getZoneCandidates(store, "zone")), guids("1111", "2222", "3333"));
+        assertTrue(getZoneCandidates(store, "zone4").isEmpty());
+
+        store.updateEntityInStore(getZonedEntity("2222", "zone4"));
+
+        assertEquals(getGUIDs(getZoneCandidates(store, "zone2")), guids("1111"));
+        assertEquals(getGUIDs(getZoneCandidates(store, "zone4")), guids("2222"));
+
+        store.removeEntityFromStore(store.getEntity("1111"));
+
+        assertTrue(getZoneCandidates(store, "zone1").isEmpty());
+    }
+
+
+    @Test
+    public void testIndexFollowsUpdates()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        EntityDetail entity = store.createEntityInStore(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "asset1"));
+
+        store.updateEntityInStore(getEntity(entity.getGUID(), "Asset", InstanceStatus.ACTIVE, null, "asset2"));
+
+        assertTrue(store.getEntityCandidates(null, null, null, Collections.singletonMap("qualifiedName", "asset1")).isEmpty());
+        assertEquals(getGUIDs(store.getEntityCandidates(null, null, null, Collections.singletonMap("qualifiedName", "asset2"))),
+                     guids("1111"));
+
+        store.removeEntityFromStore(store.getEntity("1111"));
+
+        assertTrue(store.getEntityCandidates(Collections.singletonList("Asset"), null, null, null).isEmpty());
+
+        store.retrievePreviousVersionOfEntity("1111");
+
+        assertEquals(getGUIDs(store.getEntityCandidates(Collections.singletonList("Asset"), null, null, null)), guids("1111"));
+    }
+
+
+    @Test
+    public void testGUIDClash()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "asset1"));
+
+        EntityDetail clashingEntity = store.createEntityInStore(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "asset2"));
+
+        assertTrue(! "1111".equals(clashingEntity.getGUID()));
+        assertEquals(getGUIDs(store.getEntityCandidates(null, null, null, Collections.singletonMap("qualifiedName", "asset1"))),
+                     guids("1111"));
+    }
+
+
+    @Test
+    public void testRelationshipCandidates()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createRelationshipInStore(getRelationship("1111", "AttachedTag", InstanceStatus.ACTIVE));
+        store.createRelationshipInStore(getRelationship("2222", "AttachedLike", InstanceStatus.ACTIVE));
+
+        assertEquals(getGUIDs(store.getRelationshipCandidates(Collections.singletonList("AttachedTag"), null)), guids("1111"));
+
+        store.removeRelationshipFromStore(store.getRelationship("1111"));
+
+        assertTrue(store.getRelationshipCandidates(Collections.singletonList("AttachedTag"), null).isEmpty());
+        assertEquals(getGUIDs(store.getRelationshipCandidates(null, Collections.singletonList(InstanceStatus.ACTIVE))),
+                     guids("2222"));
+    }
+
+
+    @Test
+    public void testConcurrentUpdates() throws Exception
+    {
+        InMemoryOMRSMetadataStore store   = new InMemoryOMRSMetadataStore();
+        ExecutorService           workers = Executors.newFixedThreadPool(8);
+        List<Future<?>>           results = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++)
+        {
+            final String guid = "guid-" + i;
+
+            results.add(workers.submit(() ->
+            {
+                store.createEntityInStore(getEntity(guid, "Asset", InstanceStatus.ACTIVE, null, "before"));
+                store.updateEntityInStore(getEntity(guid, "Asset", InstanceStatus.ACTIVE, null, "after"));
+                store.getEntityCandidates(Collections.singletonList("Asset"), null, null, null);
+            }));
+        }
+
+        for (Future<?> result : results)
+        {
+            result.get();
+        }
+
+        workers.shutdown();
+
+        assertEquals(store.getEntities().size(), 200);
+        assertEquals(store.getEntityCandidates(null, null, null, Collections.singletonMap("qualifiedName", "after")).size(), 200);
+        assertTrue(store.getEntityCandidates(null, null, null, Collections.singletonMap("qualifiedName", "before")).isEmpty());
+    }
+
+
+    @Test
+    public void testSearchDuringUpdates() throws Exception
+    {
+        InMemoryOMRSMetadataStore store   = new InMemoryOMRSMetadataStore();
+        AtomicBoolean             updating = new AtomicBoolean(true);
+        AtomicInteger             misses   = new AtomicInteger(0);
+
+        store.createEntityInStore(getZonedEntity("1111", "zone1", "zone2"));
+
+        Thread searcher = new Thread(() ->
+        {
+            while (updating.get())
+            {
+                if (store.getEntityCandidates(Collections.singletonList("Asset"),
+                                              Collections.singletonList(InstanceStatus.ACTIVE),
+                                              Collections.singletonList("AssetZoneMembership"),
+                                              null).isEmpty())
+                {
+                    misses.incrementAndGet();
+                }
+
+                if (getZoneCandidates(store, "zone1").isEmpty())
+                {
+                    misses.incrementAndGet();
+                }
+            }
+        });
+
+        searcher.start();
+
+        for (int i = 0; i < 20000; i++)
+        {
+            store.updateEntityInStore(getZonedEntity("1111", "zone1", "zone" + (i + 2)));
+        }
+
+        updating.set(false);
+        searcher.join();
+
+        assertEquals(misses.get(), 0);
+        assertEquals(getGUIDs(getZoneCandidates(store, "zone20001")), guids("1111"));
+        assertTrue(getZoneCandidates(store, "zone3").isEmpty());
+        assertEquals(getGUIDs(store.getEntityCandidates(null, null, null, Collections.singletonMap("qualifiedName", "asset1111"))),
+                     guids("1111"));
+    }
+
+
+    @Test
+    public void testTimeWarp()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getVersion(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v1"), 1000L));
+        store.createEntityInStore(getVersion(getEntity("2222", "Asset", InstanceStatus.ACTIVE, null, "v1"), 1500L));
+        store.updateEntityInStore(getVersion(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v2"), 2000L));
+        store.updateEntityInStore(getVersion(getEntity("2222", "Asset", InstanceStatus.ACTIVE, null, "v2"), 2500L));
+        store.updateEntityInStore(getVersion(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v3"), 3000L));
+
+        assertTrue(store.getEntity("1111", new Date(500L)) == null);
+        assertEquals(getQualifiedName(store.getEntity("1111", new Date(1999L))), "v1");
+        assertEquals(getQualifiedName(store.getEntity("1111", new Date(2000L))), "v2");
+        assertEquals(getQualifiedName(store.getEntity("1111", new Date(5000L))), "v3");
+
+        Map<String, EntityDetail> timeWarpedStore = store.timeWarpEntityStore(new Date(2200L));
+
+        assertEquals(timeWarpedStore.size(), 2);
+        assertEquals(getQualifiedName(timeWarpedStore.get("1111")), "v2");
+        assertEquals(getQualifiedName(timeWarpedStore.get("2222")), "v1");
+    }
+
+
+    @Test
+    public void testHistoryRetention()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.setHistoryRetention(2, 0);
+
+        store.createEntityInStore(getVersion(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v1"), 1000L));
+
+        for (long version = 2; version <= 5; version++)
+        {
+            store.updateEntityInStore(getVersion(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v" + version), version * 1000L));
+        }
+
+        assertTrue(store.getEntity("1111", new Date(2500L)) == null);
+        assertEquals(getQualifiedName(store.getEntity("1111", new Date(3500L))), "v3");
+        assertEquals(getQualifiedName(store.getEntity("1111", new Date(4500L))), "v4");
+    }
+
+
+    @Test
+    public void testSameMillisecondHistory()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        EntityDetail version1 = getVersion(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v1"), 2000L);
+        EntityDetail version2 = getVersion(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v2"), 2000L);
+        EntityDetail version3 = getVersion(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v3"), 3000L);
+
+        version1.setVersion(1L);
+        version2.setVersion(2L);
+        version3.setVersion(3L);
+
+        store.createEntityInStore(version1);
+        store.updateEntityInStore(version2);
+        store.updateEntityInStore(version3);
+
+        assertEquals(getQualifiedName(store.getEntity("1111", new Date(2000L))), "v2");
+
+        /*
+         * Both of the versions written in the same millisecond are kept so each can be restored in turn.
+         */
+        assertEquals(getQualifiedName(store.retrievePreviousVersionOfEntity("1111")), "v2");
+        assertEquals(getQualifiedName(store.retrievePreviousVersionOfEntity("1111")), "v3");
+        assertEquals(getQualifiedName(store.getEntity("1111", new Date(2000L))), "v2");
+    }
+
+
+    @Test
+    public void testHistoryWithoutTimestamps()
+    {
+        InMemoryOMRSMetadataStore store = new InMemoryOMRSMetadataStore();
+
+        store.createEntityInStore(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v1"));
+        store.updateEntityInStore(getEntity("1111", "Asset", InstanceStatus.ACTIVE, null, "v2"));
+
+        assertTrue(store.getEntity("1111", new Date(5000L)) == null);
+        assertEquals(getQualifiedName(store.retrievePreviousVersionOfEntity("1111")), "v1");
+    }
+
+
+    private EntityDetail getEntity(String         guid,
+                                   String         typeName,
+                                   InstanceStatus status,
+                                   String         classificationName,
+                                   String         qualifiedName)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setType(getType(typeName));
+        entity.setStatus(status);
+        entity.setVersion(1L);
+
+        if (classificationName != null)
+        {
+            Classification classification = new Classification();
+
+            classification.setName(classificationName);
+            entity.setClassifications(Collections.singletonList(classification));
+        }
+
+        PrimitivePropertyValue propertyValue = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        propertyValue.setPrimitiveValue(qualifiedName);
+
+        InstanceProperties properties = new InstanceProperties();
+
+        properties.setProperty("qualifiedName", propertyValue);
+        entity.setProperties(properties);
+
+        return entity;
+    }
+
+
+    private EntityDetail getZonedEntity(String    guid,
+                                        String... zones)
+    {
+        EntityDetail       entity      = getEntity(guid, "Asset", InstanceStatus.ACTIVE, "AssetZoneMembership", "asset" + guid);
+        InstanceProperties arrayValues = new InstanceProperties();
+
+        for (int i = 0; i < zones.length; i++)
+        {
+            PrimitivePropertyValue zoneValue = new PrimitivePropertyValue();
+
+            zoneValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+            zoneValue.setPrimitiveValue(zones[i]);
+            arrayValues.setProperty(Integer.toString(i), zoneValue);
+        }
+
+        ArrayPropertyValue zoneMembership = new ArrayPropertyValue();
+
+        zoneMembership.setArrayCount(zones.length);
+        zoneMembership.setArrayValues(arrayValues);
+
+        InstanceProperties classificationProperties = new InstanceProperties();
+
+        classificationProperties.setProperty("zoneMembership", zoneMembership);
+        entity.getClassifications().get(0).setProperties(classificationProperties);
+
+        return entity;
+    }
+
+
+    private List<EntityDetail> getZoneCandidates(InMemoryOMRSMetadataStore store,
+                                                 String                    zone)
+    {
+        return store.getEntityCandidates(null,
+                                         null,
+                                         Collections.singletonList("AssetZoneMembership"),
+                                         null,
+                                         "AssetZoneMembership",
+                                         Collections.singletonMap("zoneMembership", zone));
+    }
+
+
+    private EntityDetail getVersion(EntityDetail entity,
+                                    long         updateTime)
+    {
+        entity.setCreateTime(new Date(1000L));
+        entity.setUpdateTime(new Date(updateTime));
+
+        return entity;
+    }
+
+
+    private String getQualifiedName(EntityDetail entity)
+    {
+        PrimitivePropertyValue propertyValue = (PrimitivePropertyValue)entity.getProperties().getPropertyValue("qualifiedName");
+
+        return propertyValue.getPrimitiveValue().toString();
+    }
+
+
+    private Relationship getRelationship(String         guid,
+                                         String         typeName,
+                                         InstanceStatus status)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setType(getType(typeName));
+        relationship.setStatus(status);
+        relationship.setVersion(1L);
+
+        return relationship;
+    }
+
+
+    private InstanceType getType(String typeName)
+    {
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefName(typeName);
+
+        return type;
+    }
+
+
+    private Set<String> getGUIDs(List<? extends InstanceHeader> instances)
+    {
+        Set<String> results = new HashSet<>();
+
+        for (InstanceHeader instance : instances)
+        {
+            results.add(instance.getGUID());
+        }
+
+        return results;
+    }
+
+
+    private Set<String> guids(String... guids)
+    {
+        return new HashSet<>(Arrays.asList(guids));
+    }
+}
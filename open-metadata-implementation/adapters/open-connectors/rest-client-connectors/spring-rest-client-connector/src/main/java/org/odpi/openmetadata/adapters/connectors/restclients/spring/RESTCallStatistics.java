@@ -0,0 +1,457 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RESTCallStatistics describes the REST calls made to a target platform by the Spring REST client connectors
+ * running in this JVM.  The times are in milliseconds.  The connect times cover the opening of new connections
+ * to the platform.  Calls that reuse a pooled connection do not add to the connect times.  The connection
+ * counts describe the pool of connections to the platform at the time the statistics were taken.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RESTCallStatistics implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private String target                    = null;
+    private long   requestCount              = 0;
+    private long   failedRequestCount        = 0;
+    private long   totalRequestTime          = 0;
+    private long   maxRequestTime            = 0;
+    private long   connectCount              = 0;
+    private long   totalConnectTime          = 0;
+    private long   maxConnectTime            = 0;
+    private long   poolTimeoutCount          = 0;
+    private int    maxConnections            = 0;
+    private int    leasedConnections         = 0;
+    private int    availableConnections      = 0;
+    private int    pendingConnectionRequests = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public RESTCallStatistics()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RESTCallStatistics(RESTCallStatistics template)
+    {
+        if (template != null)
+        {
+            target = template.getTarget();
+            requestCount = template.getRequestCount();
+            failedRequestCount = template.getFailedRequestCount();
+            totalRequestTime = template.getTotalRequestTime();
+            maxRequestTime = template.getMaxRequestTime();
+            connectCount = template.getConnectCount();
+            totalConnectTime = template.getTotalConnectTime();
+            maxConnectTime = template.getMaxConnectTime();
+            poolTimeoutCount = template.getPoolTimeoutCount();
+            maxConnections = template.getMaxConnections();
+            leasedConnections = template.getLeasedConnections();
+            availableConnections = template.getAvailableConnections();
+            pendingConnectionRequests = template.getPendingConnectionRequests();
+        }
+    }
+
+
+    /**
+     * Return the host name and port of the target platform.
+     *
+     * @return host:port
+     */
+    public String getTarget()
+    {
+        return target;
+    }
+
+
+    /**
+     * Set up the host name and port of the target platform.
+     *
+     * @param target host:port
+     */
+    public void setTarget(String target)
+    {
+        this.target = target;
+    }
+
+
+    /**
+     * Return the number of REST calls made to the platform.
+     *
+     * @return count
+     */
+    public long getRequestCount()
+    {
+        return requestCount;
+    }
+
+
+    /**
+     * Set up the number of REST calls made to the platform.
+     *
+     * @param requestCount count
+     */
+    public void setRequestCount(long requestCount)
+    {
+        this.requestCount = requestCount;
+    }
+
+
+    /**
+     * Return the number of REST calls that failed.
+     *
+     * @return count
+     */
+    public long getFailedRequestCount()
+    {
+        return failedRequestCount;
+    }
+
+
+    /**
+     * Set up the number of REST calls that failed.
+     *
+     * @param failedRequestCount count
+     */
+    public void setFailedRequestCount(long failedRequestCount)
+    {
+        this.failedRequestCount = failedRequestCount;
+    }
+
+
+    /**
+     * Return the total time spent in REST calls to the platform.
+     *
+     * @return time in milliseconds
+     */
+    public long getTotalRequestTime()
+    {
+        return totalRequestTime;
+    }
+
+
+    /**
+     * Set up the total time spent in REST calls to the platform.
+     *
+     * @param totalRequestTime time in milliseconds
+     */
+    public void setTotalRequestTime(long totalRequestTime)
+    {
+        this.totalRequestTime = totalRequestTime;
+    }
+
+
+    /**
+     * Return the time taken by the longest REST call to the platform.
+     *
+     * @return time in milliseconds
+     */
+    public long getMaxRequestTime()
+    {
+        return maxRequestTime;
+    }
+
+
+    /**
+     * Set up the time taken by the longest REST call to the platform.
+     *
+     * @param maxRequestTime time in milliseconds
+     */
+    public void setMaxRequestTime(long maxRequestTime)
+    {
+        this.maxRequestTime = maxRequestTime;
+    }
+
+
+    /**
+     * Return the average time of a REST call to the platform.
+     *
+     * @return time in milliseconds
+     */
+    public long getAverageRequestTime()
+    {
+        return (requestCount == 0) ? 0 : totalRequestTime / requestCount;
+    }
+
+
+    /**
+     * Return the number of connections opened to the platform.
+     *
+     * @return count
+     */
+    public long getConnectCount()
+    {
+        return connectCount;
+    }
+
+
+    /**
+     * Set up the number of connections opened to the platform.
+     *
+     * @param connectCount count
+     */
+    public void setConnectCount(long connectCount)
+    {
+        this.connectCount = connectCount;
+    }
+
+
+    /**
+     * Return the total time spent opening connections to the platform.
+     *
+     * @return time in milliseconds
+     */
+    public long getTotalConnectTime()
+    {
+        return totalConnectTime;
+    }
+
+
+    /**
+     * Set up the total time spent opening connections to the platform.
+     *
+     * @param totalConnectTime time in milliseconds
+     */
+    public void setTotalConnectTime(long totalConnectTime)
+    {
+        this.totalConnectTime = totalConnectTime;
+    }
+
+
+    /**
+     * Return the longest time taken to open a connection to the platform.
+     *
+     * @return time in milliseconds
+     */
+    public long getMaxConnectTime()
+    {
+        return maxConnectTime;
+    }
+
+
+    /**
+     * Set up the longest time taken to open a connection to the platform.
+     *
+     * @param maxConnectTime time in milliseconds
+     */
+    public void setMaxConnectTime(long maxConnectTime)
+    {
+        this.maxConnectTime = maxConnectTime;
+    }
+
+
+    /**
+     * Return the average time taken to open a connection to the platform.
+     *
+     * @return time in milliseconds
+     */
+    public long getAverageConnectTime()
+    {
+        return (connectCount == 0) ? 0 : totalConnectTime / connectCount;
+    }
+
+
+    /**
+     * Return the number of REST calls that failed because no pooled connection became free in time.
+     *
+     * @return count
+     */
+    public long getPoolTimeoutCount()
+    {
+        return poolTimeoutCount;
+    }
+
+
+    /**
+     * Set up the number of REST calls that failed because no pooled connection became free in time.
+     *
+     * @param poolTimeoutCount count
+     */
+    public void setPoolTimeoutCount(long poolTimeoutCount)
+    {
+        this.poolTimeoutCount = poolTimeoutCount;
+    }
+
+
+    /**
+     * Return the maximum number of connections to the platform.
+     *
+     * @return count
+     */
+    public int getMaxConnections()
+    {
+        return maxConnections;
+    }
+
+
+    /**
+     * Set up the maximum number of connections to the platform.
+     *
+     * @param maxConnections count
+     */
+    public void setMaxConnections(int maxConnections)
+    {
+        this.maxConnections = maxConnections;
+    }
+
+
+    /**
+     * Return the number of connections to the platform that are in use by REST calls.
+     *
+     * @return count
+     */
+    public int getLeasedConnections()
+    {
+        return leasedConnections;
+    }
+
+
+    /**
+     * Set up the number of connections to the platform that are in use by REST calls.
+     *
+     * @param leasedConnections count
+     */
+    public void setLeasedConnections(int leasedConnections)
+    {
+        this.leasedConnections = leasedConnections;
+    }
+
+
+    /**
+     * Return the number of idle connections to the platform that are kept alive for the next call.
+     *
+     * @return count
+     */
+    public int getAvailableConnections()
+    {
+        return availableConnections;
+    }
+
+
+    /**
+     * Set up the number of idle connections to the platform that are kept alive for the next call.
+     *
+     * @param availableConnections count
+     */
+    public void setAvailableConnections(int availableConnections)
+    {
+        this.availableConnections = availableConnections;
+    }
+
+
+    /**
+     * Return the number of REST calls waiting for a connection to the platform.
+     *
+     * @return count
+     */
+    public int getPendingConnectionRequests()
+    {
+        return pendingConnectionRequests;
+    }
+
+
+    /**
+     * Set up the number of REST calls waiting for a connection to the platform.
+     *
+     * @param pendingConnectionRequests count
+     */
+    public void setPendingConnectionRequests(int pendingConnectionRequests)
+    {
+        this.pendingConnectionRequests = pendingConnectionRequests;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return description of the object values
+     */
+    @Override
+    public String toString()
+    {
+        return "RESTCallStatistics{" +
+                "target='" + target + '\'' +
+                ", requestCount=" + requestCount +
+                ", failedRequestCount=" + failedRequestCount +
+                ", totalRequestTime=" + totalRequestTime +
+                ", maxRequestTime=" + maxRequestTime +
+                ", connectCount=" + connectCount +
+                ", totalConnectTime=" + totalConnectTime +
+                ", maxConnectTime=" + maxConnectTime +
+                ", poolTimeoutCount=" + poolTimeoutCount +
+                ", maxConnections=" + maxConnections +
+                ", leasedConnections=" + leasedConnections +
+                ", availableConnections=" + availableConnections +
+                ", pendingConnectionRequests=" + pendingConnectionRequests +
+                '}';
+    }
+
+
+    /**
+     * Compare objects
+     *
+     * @param objectToCompare object
+     * @return boolean
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        RESTCallStatistics that = (RESTCallStatistics) objectToCompare;
+        return requestCount == that.requestCount &&
+                failedRequestCount == that.failedRequestCount &&
+                totalRequestTime == that.totalRequestTime &&
+                maxRequestTime == that.maxRequestTime &&
+                connectCount == that.connectCount &&
+                totalConnectTime == that.totalConnectTime &&
+                maxConnectTime == that.maxConnectTime &&
+                poolTimeoutCount == that.poolTimeoutCount &&
+                maxConnections == that.maxConnections &&
+                leasedConnections == that.leasedConnections &&
+                availableConnections == that.availableConnections &&
+                pendingConnectionRequests == that.pendingConnectionRequests &&
+                Objects.equals(target, that.target);
+    }
+
+
+    /**
+     * Simple hash for the object
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(target, requestCount, failedRequestCount, totalRequestTime, maxRequestTime,
+                            connectCount, totalConnectTime, maxConnectTime, poolTimeoutCount, maxConnections,
+                            leasedConnections, availableConnections, pendingConnectionRequests);
+    }
+}
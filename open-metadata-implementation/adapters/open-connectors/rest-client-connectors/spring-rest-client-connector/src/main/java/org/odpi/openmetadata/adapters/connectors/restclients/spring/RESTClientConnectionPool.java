@@ -0,0 +1,549 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import javax.net.ssl.HttpsURLConnection;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.NetworkInterface;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.URL;
+import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * RESTClientConnectionPool holds the HTTP connections shared by all of the Spring REST client connectors in the JVM.
+ * Connections are kept alive between calls so that calls to the same platform do not pay for a new TCP (and TLS)
+ * handshake.  The number of connections to each platform is limited.  Compressed responses are accepted and
+ * decompressed.
+ *
+ * A call that can not get a connection within the connection request timeout fails rather than waiting
+ * for ever.  This matters when a call to a platform is made while handling a call from the same platform,
+ * since the nested call needs a second connection while the first is still held.  For the same reason,
+ * platforms on this host are allowed more connections than remote platforms.
+ *
+ * The pool also gathers the statistics for the calls made to each platform.
+ */
+class RESTClientConnectionPool
+{
+    private static final int  maxTotalConnections      = 200;
+    private static final int  defaultMaxPerHost        = 20;
+    private static final int  defaultMaxPerLocalHost   = 100;
+    private static final int  connectionRequestTimeout = 30000;
+    private static final long idleConnectionTimeout    = 30;
+
+    private static final Logger log = LoggerFactory.getLogger(RESTClientConnectionPool.class);
+
+    private static final Map<String, TargetStatistics> targetStatistics = new ConcurrentHashMap<>();
+
+    private static final PoolingHttpClientConnectionManager connectionManager;
+    private static final ClientHttpRequestFactory           requestFactory;
+
+    static
+    {
+        /*
+         * The TLS settings are read from HttpsURLConnection each time a connection is opened.  This means the
+         * pool picks up any change made to these settings after it is created - for example when strict SSL
+         * checking is turned off as the platform starts.
+         */
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", new TimedConnectionSocketFactory(PlainConnectionSocketFactory::getSocketFactory))
+                .register("https", new TimedConnectionSocketFactory(() -> new SSLConnectionSocketFactory(HttpsURLConnection.getDefaultSSLSocketFactory(),
+                                                                                                         HttpsURLConnection.getDefaultHostnameVerifier())))
+                .build();
+
+        connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxTotalConnections);
+        connectionManager.setDefaultMaxPerRoute(defaultMaxPerHost);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                                                   .setConnectionRequestTimeout(connectionRequestTimeout)
+                                                   .build();
+
+        CloseableHttpClient httpClient = HttpClients.custom()
+                                                    .setConnectionManager(connectionManager)
+                                                    .setConnectionManagerShared(true)
+                                                    .setDefaultRequestConfig(requestConfig)
+                                                    .evictExpiredConnections()
+                                                    .evictIdleConnections(idleConnectionTimeout, TimeUnit.SECONDS)
+                                                    .useSystemProperties()
+                                                    .build();
+
+        requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+
+    /**
+     * Return the request factory that issues requests using the pooled connections.
+     *
+     * @return request factory
+     */
+    static ClientHttpRequestFactory getRequestFactory()
+    {
+        return requestFactory;
+    }
+
+
+    /**
+     * Set up the maximum number of connections to the platform at the supplied URL.  If no maximum is
+     * supplied, a platform on this host is allowed at least defaultMaxPerLocalHost connections and any
+     * other platform keeps its current limit.
+     *
+     * @param serverPlatformURLRoot URL root of the platform
+     * @param maxConnections maximum number of connections or 0 to use the default
+     */
+    static void setMaxConnections(String serverPlatformURLRoot,
+                                  int    maxConnections)
+    {
+        HttpHost host = getHost(serverPlatformURLRoot);
+
+        if (host != null)
+        {
+            HttpRoute route = getRoute(host);
+
+            if (maxConnections > 0)
+            {
+                connectionManager.setMaxPerRoute(route, maxConnections);
+            }
+            else if ((isLocalHost(host)) && (connectionManager.getMaxPerRoute(route) < defaultMaxPerLocalHost))
+            {
+                connectionManager.setMaxPerRoute(route, defaultMaxPerLocalHost);
+            }
+        }
+    }
+
+
+    /**
+     * Return the key used for the statistics of the platform at the supplied URL.  The platform is
+     * registered so that its connection pool statistics are returned even before the first call is made.
+     *
+     * @param serverPlatformURLRoot URL root of the platform
+     * @return host:port or null if the URL is not valid
+     */
+    static String getTarget(String serverPlatformURLRoot)
+    {
+        HttpHost host = getHost(serverPlatformURLRoot);
+
+        if (host != null)
+        {
+            String target = host.getHostName() + ":" + host.getPort();
+
+            getTargetStatistics(target).setRoute(getRoute(host));
+
+            return target;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Record a completed REST call.
+     *
+     * @param target host:port of the platform
+     * @param requestTime time taken by the call in milliseconds
+     * @param successful did the call complete without an exception
+     */
+    static void recordRequest(String  target,
+                              long    requestTime,
+                              boolean successful)
+    {
+        if (target != null)
+        {
+            getTargetStatistics(target).recordRequest(requestTime, successful);
+        }
+    }
+
+
+    /**
+     * Record a REST call that failed.  A call that failed because no connection became free within the
+     * connection request timeout is logged with the state of the connection pool for the platform.
+     *
+     * @param target host:port of the platform
+     * @param requestTime time taken by the call in milliseconds
+     * @param error exception from the call
+     */
+    static void recordFailedRequest(String    target,
+                                    long      requestTime,
+                                    Throwable error)
+    {
+        if (target != null)
+        {
+            TargetStatistics statistics = getTargetStatistics(target);
+
+            statistics.recordRequest(requestTime, false);
+
+            if (isPoolTimeout(error))
+            {
+                statistics.recordPoolTimeout();
+
+                log.warn("No connection to platform " + target + " became free within " + connectionRequestTimeout +
+                         " milliseconds: " + statistics.getStatistics(target));
+            }
+        }
+    }
+
+
+    /**
+     * Return the statistics for the calls to the platform.
+     *
+     * @param target host:port of the platform
+     * @return statistics or null if the platform is not known to the pool
+     */
+    static RESTCallStatistics getStatistics(String target)
+    {
+        if (target != null)
+        {
+            TargetStatistics statistics = targetStatistics.get(target);
+
+            if (statistics != null)
+            {
+                return statistics.getStatistics(target);
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the statistics for the calls to each platform.
+     *
+     * @return map of host:port to statistics
+     */
+    static Map<String, RESTCallStatistics> getAllStatistics()
+    {
+        Map<String, RESTCallStatistics> results = new HashMap<>();
+
+        for (Map.Entry<String, TargetStatistics> entry : targetStatistics.entrySet())
+        {
+            results.put(entry.getKey(), entry.getValue().getStatistics(entry.getKey()));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Return the route to the host.  Only direct routes are set up because the proxy, if any, is
+     * chosen for each request.
+     *
+     * @param host target host
+     * @return route
+     */
+    private static HttpRoute getRoute(HttpHost host)
+    {
+        return new HttpRoute(host, null, "https".equals(host.getSchemeName()));
+    }
+
+
+    /**
+     * Determine whether the host is this machine.  Calls to the platform on this host are often nested
+     * inside calls from it, so they are given more connections.
+     *
+     * @param host target host
+     * @return true if the host name resolves to a loopback or local interface address
+     */
+    private static boolean isLocalHost(HttpHost host)
+    {
+        try
+        {
+            InetAddress address = InetAddress.getByName(host.getHostName());
+
+            return (address.isLoopbackAddress()) ||
+                   (address.isAnyLocalAddress()) ||
+                   (NetworkInterface.getByInetAddress(address) != null);
+        }
+        catch (UnknownHostException | SocketException error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Determine whether the call failed because no pooled connection became free in time.
+     *
+     * @param error exception from the call
+     * @return true if the exception or one of its causes is a connection pool timeout
+     */
+    private static boolean isPoolTimeout(Throwable error)
+    {
+        Throwable cause = error;
+
+        while (cause != null)
+        {
+            if (cause instanceof ConnectionPoolTimeoutException)
+            {
+                return true;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Return the host for the platform at the supplied URL.  The default port is filled in for the scheme.
+     *
+     * @param serverPlatformURLRoot URL root of the platform
+     * @return host or null if the URL is not valid
+     */
+    private static HttpHost getHost(String serverPlatformURLRoot)
+    {
+        if (serverPlatformURLRoot != null)
+        {
+            try
+            {
+                URL url = new URL(serverPlatformURLRoot);
+
+                int port = (url.getPort() == -1) ? url.getDefaultPort() : url.getPort();
+
+                return new HttpHost(url.getHost(), port, url.getProtocol());
+            }
+            catch (MalformedURLException error)
+            {
+                return null;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the statistics for the platform, creating them if this is the first call to the platform.
+     *
+     * @param target host:port of the platform
+     * @return statistics
+     */
+    private static TargetStatistics getTargetStatistics(String target)
+    {
+        return targetStatistics.computeIfAbsent(target, key -> new TargetStatistics());
+    }
+
+
+    /**
+     * TargetStatistics gathers the statistics for one platform.
+     */
+    private static class TargetStatistics
+    {
+        private AtomicLong requestCount       = new AtomicLong(0);
+        private AtomicLong failedRequestCount = new AtomicLong(0);
+        private AtomicLong totalRequestTime   = new AtomicLong(0);
+        private AtomicLong maxRequestTime     = new AtomicLong(0);
+        private AtomicLong connectCount       = new AtomicLong(0);
+        private AtomicLong totalConnectTime   = new AtomicLong(0);
+        private AtomicLong maxConnectTime     = new AtomicLong(0);
+        private AtomicLong poolTimeoutCount   = new AtomicLong(0);
+        private volatile HttpRoute route      = null;
+
+
+        /**
+         * Set up the route to the platform so the connection pool statistics can be returned.
+         *
+         * @param route route to the platform
+         */
+        void setRoute(HttpRoute route)
+        {
+            this.route = route;
+        }
+
+
+        /**
+         * Record a completed REST call.
+         *
+         * @param requestTime time taken by the call in milliseconds
+         * @param successful did the call complete without an exception
+         */
+        void recordRequest(long    requestTime,
+                           boolean successful)
+        {
+            requestCount.incrementAndGet();
+            totalRequestTime.addAndGet(requestTime);
+            maxRequestTime.accumulateAndGet(requestTime, Math::max);
+
+            if (! successful)
+            {
+                failedRequestCount.incrementAndGet();
+            }
+        }
+
+
+        /**
+         * Record the opening of a new connection.
+         *
+         * @param connectTime time taken to connect in milliseconds
+         */
+        void recordConnect(long connectTime)
+        {
+            connectCount.incrementAndGet();
+            totalConnectTime.addAndGet(connectTime);
+            maxConnectTime.accumulateAndGet(connectTime, Math::max);
+        }
+
+
+        /**
+         * Record a call that failed because no pooled connection became free in time.
+         */
+        void recordPoolTimeout()
+        {
+            poolTimeoutCount.incrementAndGet();
+        }
+
+
+        /**
+         * Return a snapshot of the statistics.
+         *
+         * @param target host:port of the platform
+         * @return statistics bean
+         */
+        RESTCallStatistics getStatistics(String target)
+        {
+            RESTCallStatistics statistics = new RESTCallStatistics();
+
+            statistics.setTarget(target);
+            statistics.setRequestCount(requestCount.get());
+            statistics.setFailedRequestCount(failedRequestCount.get());
+            statistics.setTotalRequestTime(totalRequestTime.get());
+            statistics.setMaxRequestTime(maxRequestTime.get());
+            statistics.setConnectCount(connectCount.get());
+            statistics.setTotalConnectTime(totalConnectTime.get());
+            statistics.setMaxConnectTime(maxConnectTime.get());
+            statistics.setPoolTimeoutCount(poolTimeoutCount.get());
+
+            if (route != null)
+            {
+                PoolStats poolStats = connectionManager.getStats(route);
+
+                statistics.setMaxConnections(poolStats.getMax());
+                statistics.setLeasedConnections(poolStats.getLeased());
+                statistics.setAvailableConnections(poolStats.getAvailable());
+                statistics.setPendingConnectionRequests(poolStats.getPending());
+            }
+
+            return statistics;
+        }
+    }
+
+
+    /**
+     * TimedConnectionSocketFactory records the time taken to open each new connection.  The sockets are
+     * created by the socket factory returned by the supplier.
+     */
+    private static class TimedConnectionSocketFactory implements LayeredConnectionSocketFactory
+    {
+        private Supplier<ConnectionSocketFactory> socketFactorySupplier;
+
+
+        /**
+         * Constructor
+         *
+         * @param socketFactorySupplier supplies the socket factory for each new connection
+         */
+        TimedConnectionSocketFactory(Supplier<ConnectionSocketFactory> socketFactorySupplier)
+        {
+            this.socketFactorySupplier = socketFactorySupplier;
+        }
+
+
+        /**
+         * Create a new socket.
+         *
+         * @param context HTTP context
+         * @return unconnected socket
+         * @throws IOException unable to create the socket
+         */
+        @Override
+        public Socket createSocket(HttpContext context) throws IOException
+        {
+            return socketFactorySupplier.get().createSocket(context);
+        }
+
+
+        /**
+         * Connect the socket to the host and record the time taken.
+         *
+         * @param connectTimeout timeout in milliseconds
+         * @param socket socket to connect
+         * @param host target host
+         * @param remoteAddress address of the target host
+         * @param localAddress local address to bind to
+         * @param context HTTP context
+         * @return connected socket
+         * @throws IOException unable to connect
+         */
+        @Override
+        public Socket connectSocket(int               connectTimeout,
+                                    Socket            socket,
+                                    HttpHost          host,
+                                    InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress,
+                                    HttpContext       context) throws IOException
+        {
+            long   startTime       = System.currentTimeMillis();
+            Socket connectedSocket = socketFactorySupplier.get().connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+
+            getTargetStatistics(host.getHostName() + ":" + remoteAddress.getPort()).recordConnect(System.currentTimeMillis() - startTime);
+
+            return connectedSocket;
+        }
+
+
+        /**
+         * Layer TLS over an existing connection, for example one tunnelled through a proxy.
+         *
+         * @param socket existing socket
+         * @param target host name of the target
+         * @param port port of the target
+         * @param context HTTP context
+         * @return layered socket
+         * @throws IOException unable to layer the socket
+         */
+        @Override
+        public Socket createLayeredSocket(Socket      socket,
+                                          String      target,
+                                          int         port,
+                                          HttpContext context) throws IOException
+        {
+            ConnectionSocketFactory socketFactory = socketFactorySupplier.get();
+
+            if (socketFactory instanceof LayeredConnectionSocketFactory)
+            {
+                return ((LayeredConnectionSocketFactory) socketFactory).createLayeredSocket(socket, target, port, context);
+            }
+
+            return socket;
+        }
+    }
+}
@@ -22,17 +22,28 @@ import org.springframework.web.util.DefaultUriBuilderFactory;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 
 /**
- * RESTClient is responsible for issuing calls to the server's REST APIs.
+ * RESTClient is responsible for issuing calls to the server's REST APIs.  The calls are made over connections
+ * that are pooled and kept alive between calls.  The pool is shared by all of the connectors in the JVM.
+ * The maximum number of connections to the target platform can be set with the maxConnectionsPerHost
+ * configuration property of the connection.  The value may be a number or a string.
  */
 public class SpringRESTClientConnector extends RESTClientConnector
 {
-    private RestTemplate restTemplate;
-    private String       serverName               = null;
-    private String       serverPlatformURLRoot    = null;
-    private HttpHeaders  basicAuthorizationHeader = null;
+    /**
+     * Name of the configuration property that sets the maximum number of connections to the target platform.
+     */
+    public static final String MAX_CONNECTIONS_PER_HOST_PROPERTY = "maxConnectionsPerHost";
+
+    private RestTemplate   restTemplate;
+    private String         serverName               = null;
+    private String         serverPlatformURLRoot    = null;
+    private String         target                   = null;
+    private HttpHeaders    basicAuthorizationHeader = null;
+    private HttpEntity<?>  basicAuthorizationEntity = null;
 
     private static final Logger log = LoggerFactory.getLogger(SpringRESTClientConnector.class);
 
@@ -54,7 +65,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
          */
         DefaultUriBuilderFactory builderFactory = new DefaultUriBuilderFactory();
         builderFactory.setEncodingMode(DefaultUriBuilderFactory.EncodingMode.VALUES_ONLY);
-        restTemplate = new RestTemplate();
+        restTemplate = new RestTemplate(RESTClientConnectionPool.getRequestFactory());
         restTemplate.setUriTemplateHandler(builderFactory);
 
         /* Ensure that the REST template always uses UTF-8 */
@@ -82,6 +93,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
         {
             this.serverPlatformURLRoot = endpoint.getAddress();
             this.serverName = endpoint.getDisplayName();
+            this.target = RESTClientConnectionPool.getTarget(serverPlatformURLRoot);
         }
         else
         {
@@ -89,8 +101,19 @@ public class SpringRESTClientConnector extends RESTClientConnector
 
             this.serverPlatformURLRoot = null;
             this.serverName = null;
+            this.target = null;
         }
 
+        Map<String, Object> configurationProperties = connectionProperties.getConfigurationProperties();
+        int                 maxConnectionsPerHost   = 0;
+
+        if (configurationProperties != null)
+        {
+            maxConnectionsPerHost = getMaxConnectionsPerHost(configurationProperties.get(MAX_CONNECTIONS_PER_HOST_PROPERTY));
+        }
+
+        RESTClientConnectionPool.setMaxConnections(serverPlatformURLRoot, maxConnectionsPerHost);
+
         String     userId = connectionProperties.getUserId();
         String     password = connectionProperties.getClearPassword();
 
@@ -99,6 +122,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
             log.debug("Using basic authentication to call server " + this.serverName + " on platform " + this.serverPlatformURLRoot + ".");
 
             basicAuthorizationHeader = this.createHeaders(userId, password);
+            basicAuthorizationEntity = new HttpEntity<>(basicAuthorizationHeader);
         }
         else
         {
@@ -108,6 +132,35 @@ public class SpringRESTClientConnector extends RESTClientConnector
     }
 
 
+    /**
+     * Return the maximum number of connections from the configuration property.  JSON configuration
+     * may supply the value as any type of number, or as a string.
+     *
+     * @param propertyValue value of the maxConnectionsPerHost configuration property
+     * @return maximum number of connections or 0 if the value is missing or not valid
+     */
+    private int getMaxConnectionsPerHost(Object propertyValue)
+    {
+        if (propertyValue instanceof Number)
+        {
+            return ((Number) propertyValue).intValue();
+        }
+        else if (propertyValue instanceof String)
+        {
+            try
+            {
+                return Integer.parseInt(((String) propertyValue).trim());
+            }
+            catch (NumberFormatException error)
+            {
+                log.error("Ignoring " + MAX_CONNECTIONS_PER_HOST_PROPERTY + " value " + propertyValue + " because it is not a number.");
+            }
+        }
+
+        return 0;
+    }
+
+
     /**
      * Create the HTTP header for basic authorization.
      *
@@ -125,7 +178,57 @@ public class SpringRESTClientConnector extends RESTClientConnector
 
         header.set( "Authorization", authHeader );
 
-        return header;
+        return HttpHeaders.readOnlyHttpHeaders(header);
+    }
+
+
+    /**
+     * Return the statistics for the REST calls made to the target platform of this connector.  The
+     * statistics cover all of the connectors in the JVM that call the same platform.  They include the
+     * current state of the connection pool for the platform.
+     *
+     * @return statistics or null if the connector has no valid endpoint
+     */
+    public RESTCallStatistics getStatistics()
+    {
+        return RESTClientConnectionPool.getStatistics(target);
+    }
+
+
+    /**
+     * Return the statistics for the REST calls made by the Spring REST client connectors in the JVM.
+     *
+     * @return map of the host name and port of each platform to the statistics for the calls to it
+     */
+    public static Map<String, RESTCallStatistics> getAllStatistics()
+    {
+        return RESTClientConnectionPool.getAllStatistics();
+    }
+
+
+    /**
+     * Record the time taken by a REST call.
+     *
+     * @param startTime time the call started
+     * @param successful did the call complete without an exception
+     */
+    private void recordRequest(long    startTime,
+                               boolean successful)
+    {
+        RESTClientConnectionPool.recordRequest(target, System.currentTimeMillis() - startTime, successful);
+    }
+
+
+    /**
+     * Record the time taken by a REST call that failed.
+     *
+     * @param startTime time the call started
+     * @param error exception from the call
+     */
+    private void recordFailedRequest(long      startTime,
+                                     Throwable error)
+    {
+        RESTClientConnectionPool.recordFailedRequest(target, System.currentTimeMillis() - startTime, error);
     }
 
 
@@ -144,6 +247,8 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                           Class<T>  returnClass,
                                           String    urlTemplate) throws RESTServerException
     {
+        long startTime = System.currentTimeMillis();
+
         try
         {
             log.debug("Calling " + methodName + " with URL template " + urlTemplate + " and no parameters.");
@@ -156,9 +261,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
             }
             else
             {
-                HttpEntity<?> request = new HttpEntity<>(basicAuthorizationHeader);
-
-                ResponseEntity<T>  responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.GET, request, returnClass);
+                ResponseEntity<T>  responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.GET, basicAuthorizationEntity, returnClass);
 
                 responseObject = responseEntity.getBody();
             }
@@ -172,10 +275,14 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 log.debug("Returning from " + methodName + " with no response object.");
             }
 
+            this.recordRequest(startTime, true);
+
             return responseObject;
         }
         catch (Throwable error)
         {
+            this.recordFailedRequest(startTime, error);
+
             log.debug("Exception " + error.getClass().getName() + " with message " + error.getMessage() + " occurred during REST call for " + methodName + ".");
 
             RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
@@ -214,6 +321,8 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                   String    urlTemplate,
                                   Object... params) throws RESTServerException
     {
+        long startTime = System.currentTimeMillis();
+
         try
         {
             log.debug("Calling " + methodName + " with URL template " + urlTemplate + " and parameters " + Arrays.toString(params) + ".");
@@ -226,9 +335,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
             }
             else
             {
-                HttpEntity<?> request = new HttpEntity<>(basicAuthorizationHeader);
-
-                ResponseEntity<T>  responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.GET, request, returnClass, params);
+                ResponseEntity<T>  responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.GET, basicAuthorizationEntity, returnClass, params);
 
                 responseObject = responseEntity.getBody();
             }
@@ -242,10 +349,14 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 log.debug("Returning from " + methodName + " with no response object.");
             }
 
+            this.recordRequest(startTime, true);
+
             return responseObject;
         }
         catch (Throwable error)
         {
+            this.recordFailedRequest(startTime, error);
+
             log.debug("Exception " + error.getClass().getName() + " with message " + error.getMessage() + " occurred during REST call for " + methodName + ".");
 
             RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
@@ -285,6 +396,8 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                            String    urlTemplate,
                                            Object    requestBody) throws RESTServerException
     {
+        long startTime = System.currentTimeMillis();
+
         try
         {
             log.debug("Calling " + methodName + " with URL template " + urlTemplate + " and no parameters.");
@@ -306,7 +419,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 else
                 {
                     log.warn("Poorly formed POST call made by " + methodName);
-                    request = new HttpEntity<>(basicAuthorizationHeader);
+                    request = basicAuthorizationEntity;
                 }
 
                 ResponseEntity<T>  responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.POST, request, returnClass);
@@ -323,10 +436,14 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 log.debug("Returning from " + methodName + " with no response object.");
             }
 
+            this.recordRequest(startTime, true);
+
             return responseObject;
         }
         catch (Throwable error)
         {
+            this.recordFailedRequest(startTime, error);
+
             log.debug("Exception " + error.getClass().getName() + " with message " + error.getMessage() + " occurred during REST call for " + methodName + ".");
 
             RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
@@ -369,6 +486,8 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                    Object    requestBody,
                                    Object... params) throws RESTServerException
     {
+        long startTime = System.currentTimeMillis();
+
         try
         {
             log.debug("Calling " + methodName + " with URL template " + urlTemplate + " and parameters " + Arrays.toString(params) + ".");
@@ -390,7 +509,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 else
                 {
                     log.warn("Poorly formed POST call made by " + methodName);
-                    request = new HttpEntity<>(basicAuthorizationHeader);
+                    request = basicAuthorizationEntity;
                 }
 
                 ResponseEntity<T>  responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.POST, request, returnClass, params);
@@ -407,10 +526,14 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 log.debug("Returning from " + methodName + " with no response object.");
             }
 
+            this.recordRequest(startTime, true);
+
             return responseObject;
         }
         catch (Throwable error)
         {
+            this.recordFailedRequest(startTime, error);
+
             log.debug("Exception " + error.getClass().getName() + " with message " + error.getMessage() + " occurred during REST call for " + methodName + ".");
 
             RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
@@ -449,6 +572,8 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                              String    urlTemplate,
                                              Object    requestBody) throws RESTServerException
     {
+        long startTime = System.currentTimeMillis();
+
         try
         {
             log.debug("Calling " + methodName + " with URL template " + urlTemplate + " and no parameters.");
@@ -470,7 +595,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 else
                 {
                     log.warn("Poorly formed POST call made by " + methodName);
-                    request = new HttpEntity<>(basicAuthorizationHeader);
+                    request = basicAuthorizationEntity;
                 }
 
                 ResponseEntity<T>  responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.DELETE, request, returnClass);
@@ -487,10 +612,14 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 log.debug("Returning from " + methodName + " with no response object.");
             }
 
+            this.recordRequest(startTime, true);
+
             return responseObject;
         }
         catch (Throwable error)
         {
+            this.recordFailedRequest(startTime, error);
+
             log.error("Exception " + error.getClass().getName() + " with message " + error.getMessage() + " occurred during REST call for " + methodName + ".");
 
             RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
@@ -532,6 +661,8 @@ public class SpringRESTClientConnector extends RESTClientConnector
                                      Object    requestBody,
                                      Object... params) throws RESTServerException
     {
+        long startTime = System.currentTimeMillis();
+
         try
         {
             log.debug("Calling " + methodName + " with URL template " + urlTemplate + " and parameters " + Arrays.toString(params) + ".");
@@ -552,7 +683,7 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 }
                 else
                 {
-                    request = new HttpEntity<>(basicAuthorizationHeader);
+                    request = basicAuthorizationEntity;
                 }
 
                 ResponseEntity<T>  responseEntity = restTemplate.exchange(urlTemplate, HttpMethod.DELETE, request, returnClass, params);
@@ -569,10 +700,14 @@ public class SpringRESTClientConnector extends RESTClientConnector
                 log.debug("Returning from " + methodName + " with no response object.");
             }
 
+            this.recordRequest(startTime, true);
+
             return responseObject;
         }
         catch (Throwable error)
         {
+            this.recordFailedRequest(startTime, error);
+
             log.error("Exception " + error.getClass().getName() + " with message " + error.getMessage() + " occurred during REST call for " + methodName + ".");
 
             RESTClientConnectorErrorCode errorCode = RESTClientConnectorErrorCode.CLIENT_SIDE_REST_API_ERROR;
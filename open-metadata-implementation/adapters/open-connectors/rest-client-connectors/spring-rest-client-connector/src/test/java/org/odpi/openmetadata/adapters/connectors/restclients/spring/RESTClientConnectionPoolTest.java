@@ -0,0 +1,168 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.connectors.restclients.spring;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.springframework.web.client.ResourceAccessException;
+import org.testng.annotations.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Test the connection limits, configuration and statistics of the connection pool shared by the
+ * Spring REST client connectors.  Each test uses its own platform address because the pool is shared.
+ */
+public class RESTClientConnectionPoolTest
+{
+    /**
+     * The target is the host and port of the platform, with the default port for the scheme filled in.
+     */
+    @Test
+    public void testGetTarget()
+    {
+        assertEquals(RESTClientConnectionPool.getTarget("https://10.255.255.1:9443"), "10.255.255.1:9443");
+        assertEquals(RESTClientConnectionPool.getTarget("https://10.255.255.1/servers/cocoMDS1"), "10.255.255.1:443");
+        assertEquals(RESTClientConnectionPool.getTarget("http://10.255.255.1"), "10.255.255.1:80");
+        assertNull(RESTClientConnectionPool.getTarget("not a URL"));
+        assertNull(RESTClientConnectionPool.getTarget(null));
+    }
+
+
+    /**
+     * A platform on this host is given more connections than a remote platform unless a limit is configured.
+     */
+    @Test
+    public void testDefaultLimits()
+    {
+        assertEquals(getConnector("https://127.0.0.1:9441", null).getStatistics().getMaxConnections(), 100);
+        assertEquals(getConnector("https://localhost:9442", null).getStatistics().getMaxConnections(), 100);
+        assertEquals(getConnector("https://10.255.255.2:9443", null).getStatistics().getMaxConnections(), 20);
+        assertEquals(getConnector("https://127.0.0.1:9444", 5).getStatistics().getMaxConnections(), 5);
+    }
+
+
+    /**
+     * The maxConnectionsPerHost property is accepted as any type of number or as a string.
+     */
+    @Test
+    public void testMaxConnectionsProperty()
+    {
+        assertEquals(getConnector("https://10.255.255.3:9443", 7).getStatistics().getMaxConnections(), 7);
+        assertEquals(getConnector("https://10.255.255.3:9444", 8L).getStatistics().getMaxConnections(), 8);
+        assertEquals(getConnector("https://10.255.255.3:9445", 9.0).getStatistics().getMaxConnections(), 9);
+        assertEquals(getConnector("https://10.255.255.3:9446", " 10 ").getStatistics().getMaxConnections(), 10);
+        assertEquals(getConnector("https://10.255.255.3:9447", "many").getStatistics().getMaxConnections(), 20);
+    }
+
+
+    /**
+     * Calls are counted and the connection used by a call is returned to the pool and reused.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testCallStatistics() throws Exception
+    {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+
+        server.createContext("/", exchange ->
+        {
+            byte[] response = "OK".getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "text/plain");
+            exchange.sendResponseHeaders(200, response.length);
+
+            try (OutputStream responseBody = exchange.getResponseBody())
+            {
+                responseBody.write(response);
+            }
+        });
+        server.start();
+
+        try
+        {
+            SpringRESTClientConnector connector = getConnector("http://127.0.0.1:" + server.getAddress().getPort(), null);
+
+            assertEquals(connector.callGetRESTCallNoParams("testCallStatistics", String.class, "http://127.0.0.1:" + server.getAddress().getPort() + "/test"), "OK");
+            assertEquals(connector.callGetRESTCall("testCallStatistics", String.class, "http://127.0.0.1:" + server.getAddress().getPort() + "/test/{0}", "1"), "OK");
+
+            RESTCallStatistics statistics = connector.getStatistics();
+
+            assertEquals(statistics.getRequestCount(), 2);
+            assertEquals(statistics.getFailedRequestCount(), 0);
+            assertEquals(statistics.getConnectCount(), 1);
+            assertEquals(statistics.getLeasedConnections(), 0);
+            assertEquals(statistics.getAvailableConnections(), 1);
+            assertEquals(statistics.getPendingConnectionRequests(), 0);
+            assertNotNull(SpringRESTClientConnector.getAllStatistics().get(statistics.getTarget()));
+        }
+        finally
+        {
+            server.stop(0);
+        }
+    }
+
+
+    /**
+     * A call that failed because no pooled connection became free is counted as a pool timeout.
+     */
+    @Test
+    public void testPoolTimeout()
+    {
+        String target = getConnector("https://10.255.255.4:9443", null).getStatistics().getTarget();
+
+        RESTClientConnectionPool.recordFailedRequest(target, 10, new ResourceAccessException("Timeout", new ConnectionPoolTimeoutException()));
+        RESTClientConnectionPool.recordFailedRequest(target, 10, new ResourceAccessException("Refused"));
+
+        RESTCallStatistics statistics = RESTClientConnectionPool.getStatistics(target);
+
+        assertEquals(statistics.getRequestCount(), 2);
+        assertEquals(statistics.getFailedRequestCount(), 2);
+        assertEquals(statistics.getPoolTimeoutCount(), 1);
+    }
+
+
+    /**
+     * Create a connector for the platform.
+     *
+     * @param serverPlatformURLRoot URL root of the platform
+     * @param maxConnectionsPerHost value of the maxConnectionsPerHost configuration property or null
+     * @return initialized connector
+     */
+    private SpringRESTClientConnector getConnector(String serverPlatformURLRoot,
+                                                   Object maxConnectionsPerHost)
+    {
+        Endpoint            endpoint                = new Endpoint();
+        Connection          connection              = new Connection();
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        endpoint.setAddress(serverPlatformURLRoot);
+        endpoint.setDisplayName("TestPlatform");
+        connection.setEndpoint(endpoint);
+
+        if (maxConnectionsPerHost != null)
+        {
+            configurationProperties.put(SpringRESTClientConnector.MAX_CONNECTIONS_PER_HOST_PROPERTY, maxConnectionsPerHost);
+            connection.setConfigurationProperties(configurationProperties);
+        }
+
+        SpringRESTClientConnector connector = new SpringRESTClientConnector();
+
+        connector.initialize("TestConnectorInstance", new ConnectionProperties(connection));
+
+        return connector;
+    }
+}
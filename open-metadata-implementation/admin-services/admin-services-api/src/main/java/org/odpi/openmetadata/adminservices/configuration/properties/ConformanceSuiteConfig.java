@@ -13,9 +13,9 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
 
 /**
  * ConformanceSuiteConfig provides the configuration for an OMAG server that is running the Open Metadata
- * Conformance suite.  It supports two workbenches - one that tests the repository services in a server connected
- * to the same cohort as the conformance suite server - the other tests the platform services of a platform given the
- * server URL root of the platform.
+ * Conformance suite.  It supports three workbenches - one that tests the repository services in a server connected
+ * to the same cohort as the conformance suite server, one that measures the performance of the repository services
+ * of such a server, and one that tests the platform services of a platform given the server URL root of the platform.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -26,6 +26,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
 
     private PlatformConformanceWorkbenchConfig   platformWorkbenchConfig   = null;
     private RepositoryConformanceWorkbenchConfig repositoryWorkbenchConfig = null;
+    private RepositoryPerformanceWorkbenchConfig performanceWorkbenchConfig = null;
 
 
     /**
@@ -50,6 +51,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         {
             platformWorkbenchConfig = template.getPlatformWorkbenchConfig();
             repositoryWorkbenchConfig = template.getRepositoryWorkbenchConfig();
+            performanceWorkbenchConfig = template.getPerformanceWorkbenchConfig();
         }
     }
 
@@ -98,6 +100,28 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the configuration for the repository performance workbench.
+     *
+     * @return performance workbench config properties
+     */
+    public RepositoryPerformanceWorkbenchConfig getPerformanceWorkbenchConfig()
+    {
+        return performanceWorkbenchConfig;
+    }
+
+
+    /**
+     * Set up the configuration for the repository performance workbench.
+     *
+     * @param performanceWorkbenchConfig performance workbench config properties
+     */
+    public void setPerformanceWorkbenchConfig(RepositoryPerformanceWorkbenchConfig performanceWorkbenchConfig)
+    {
+        this.performanceWorkbenchConfig = performanceWorkbenchConfig;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -109,6 +133,7 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         return "ConformanceSuiteConfig{" +
                 ", platformWorkbenchConfig=" + platformWorkbenchConfig +
                 ", repositoryWorkbenchConfig=" + repositoryWorkbenchConfig +
+                ", performanceWorkbenchConfig=" + performanceWorkbenchConfig +
                 '}';
     }
 
@@ -132,7 +157,8 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
         }
         ConformanceSuiteConfig that = (ConformanceSuiteConfig) objectToCompare;
         return Objects.equals(getPlatformWorkbenchConfig(), that.getPlatformWorkbenchConfig()) &&
-                Objects.equals(getRepositoryWorkbenchConfig(), that.getRepositoryWorkbenchConfig());
+                Objects.equals(getRepositoryWorkbenchConfig(), that.getRepositoryWorkbenchConfig()) &&
+                Objects.equals(getPerformanceWorkbenchConfig(), that.getPerformanceWorkbenchConfig());
     }
 
 
@@ -144,6 +170,6 @@ public class ConformanceSuiteConfig extends AdminServicesConfigHeader
     @Override
     public int hashCode()
     {
-        return Objects.hash(getPlatformWorkbenchConfig(), getRepositoryWorkbenchConfig());
+        return Objects.hash(getPlatformWorkbenchConfig(), getRepositoryWorkbenchConfig(), getPerformanceWorkbenchConfig());
     }
 }
@@ -24,7 +24,12 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
 {
     private static final long    serialVersionUID = 1L;
 
+    private static final int     defaultMaxWorkerThreads  = 10;
+    private static final int     defaultMaxQueuedRequests = 1000;
+
     private List<String>  discoveryEngineNames = null;
+    private int           maxWorkerThreads     = defaultMaxWorkerThreads;
+    private int           maxQueuedRequests    = defaultMaxQueuedRequests;
 
 
     /**
@@ -48,6 +53,8 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
         if (template != null)
         {
             discoveryEngineNames = template.getDiscoveryEngineNames();
+            maxWorkerThreads = template.getMaxWorkerThreads();
+            maxQueuedRequests = template.getMaxQueuedRequests();
         }
     }
 
@@ -74,6 +81,51 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
     }
 
 
+    /**
+     * Return the maximum number of discovery requests that each discovery engine runs at the same time.
+     *
+     * @return number of worker threads
+     */
+    public int getMaxWorkerThreads()
+    {
+        return maxWorkerThreads;
+    }
+
+
+    /**
+     * Set up the maximum number of discovery requests that each discovery engine runs at the same time.
+     *
+     * @param maxWorkerThreads number of worker threads
+     */
+    public void setMaxWorkerThreads(int maxWorkerThreads)
+    {
+        this.maxWorkerThreads = maxWorkerThreads;
+    }
+
+
+    /**
+     * Return the maximum number of discovery requests that each discovery engine holds waiting for a worker thread.
+     * Once this limit is reached, requests for a single asset are rejected and requests to scan all assets wait.
+     *
+     * @return number of requests
+     */
+    public int getMaxQueuedRequests()
+    {
+        return maxQueuedRequests;
+    }
+
+
+    /**
+     * Set up the maximum number of discovery requests that each discovery engine holds waiting for a worker thread.
+     *
+     * @param maxQueuedRequests number of requests
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests)
+    {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -84,6 +136,8 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
     {
         return super.toString() + "DiscoveryEngineServicesConfig{" +
                 ", discoveryEngineNames=" + discoveryEngineNames +
+                ", maxWorkerThreads=" + maxWorkerThreads +
+                ", maxQueuedRequests=" + maxQueuedRequests +
                 '}';
     }
 
@@ -109,7 +163,9 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
             return false;
         }
         DiscoveryEngineServicesConfig that = (DiscoveryEngineServicesConfig) objectToCompare;
-        return Objects.equals(discoveryEngineNames, that.discoveryEngineNames);
+        return maxWorkerThreads == that.maxWorkerThreads &&
+                maxQueuedRequests == that.maxQueuedRequests &&
+                Objects.equals(discoveryEngineNames, that.discoveryEngineNames);
     }
 
     /**
@@ -120,6 +176,6 @@ public class DiscoveryEngineServicesConfig extends OMAGServerClientConfig
     @Override
     public int hashCode()
     {
-        return Objects.hash(super.hashCode(), discoveryEngineNames);
+        return Objects.hash(super.hashCode(), discoveryEngineNames, maxWorkerThreads, maxQueuedRequests);
     }
 }
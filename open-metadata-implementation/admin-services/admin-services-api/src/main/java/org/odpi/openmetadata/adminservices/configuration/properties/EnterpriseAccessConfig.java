@@ -8,6 +8,8 @@ import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.util.Map;
+
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
@@ -30,6 +32,11 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         enterpriseOMRSTopicProtocolVersion - the protocol version for the events passed on the
  *                                            enterprise OMRS topic.
  *     </li>
+ *     <li>
+ *         enterpriseConnectorProperties - configuration properties for the enterprise repository connectors
+ *                                       that control the federation of queries to the connected repositories
+ *                                       (maxFederationThreads, repositoryTimeout and queryTimeout).
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -43,6 +50,7 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private String                           enterpriseMetadataCollectionId     = null;
     private Connection                       enterpriseOMRSTopicConnection      = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion = null;
+    private Map<String, Object>              enterpriseConnectorProperties      = null;
 
 
     /**
@@ -179,6 +187,30 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the configuration properties for the enterprise repository connectors.  These control the
+     * number of worker threads used to federate queries and how long a query waits for the repositories.
+     *
+     * @return map of property names to values (null for the defaults)
+     */
+    public Map<String, Object> getEnterpriseConnectorProperties()
+    {
+        return enterpriseConnectorProperties;
+    }
+
+
+    /**
+     * Set up the configuration properties for the enterprise repository connectors.  These control the
+     * number of worker threads used to federate queries and how long a query waits for the repositories.
+     *
+     * @param enterpriseConnectorProperties map of property names to values (null for the defaults)
+     */
+    public void setEnterpriseConnectorProperties(Map<String, Object> enterpriseConnectorProperties)
+    {
+        this.enterpriseConnectorProperties = enterpriseConnectorProperties;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -0,0 +1,203 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.configuration.properties;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RepositoryPerformanceWorkbenchConfig provides the config that drives the PerformanceWorkbench within the
+ * Open Metadata Conformance Suite.  The performance workbench loads the repository under test with a configurable
+ * number of instances of each entity type it supports and then times the repository operations against them.
+ * The operations are issued by a configurable number of caller threads so that the repository can be measured
+ * under concurrent load.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RepositoryPerformanceWorkbenchConfig extends AdminServicesConfigHeader
+{
+    private static final long    serialVersionUID = 1L;
+
+    private String   tutRepositoryServerName = null;
+    private int      instancesPerType        = 50;
+    private int      maxSearchResults        = 10;
+    private int      callerThreads           = 1;
+
+
+    /**
+     * Default constructor does nothing.
+     */
+    public RepositoryPerformanceWorkbenchConfig()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public RepositoryPerformanceWorkbenchConfig(RepositoryPerformanceWorkbenchConfig template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            tutRepositoryServerName = template.getTutRepositoryServerName();
+            instancesPerType = template.getInstancesPerType();
+            maxSearchResults = template.getMaxSearchResults();
+            callerThreads = template.getCallerThreads();
+        }
+    }
+
+
+    /**
+     * Return the name of the server that the performance workbench is to test.
+     *
+     * @return server name
+     */
+    public String getTutRepositoryServerName()
+    {
+        return tutRepositoryServerName;
+    }
+
+
+    /**
+     * Set up the name of the server that the performance workbench is to test.
+     *
+     * @param tutRepositoryServerName server name
+     */
+    public void setTutRepositoryServerName(String tutRepositoryServerName)
+    {
+        this.tutRepositoryServerName = tutRepositoryServerName;
+    }
+
+
+    /**
+     * Return the number of instances of each supported type that the workbench creates in the server under test.
+     *
+     * @return instance count
+     */
+    public int getInstancesPerType()
+    {
+        return instancesPerType;
+    }
+
+
+    /**
+     * Set up the number of instances of each supported type that the workbench creates in the server under test.
+     *
+     * @param instancesPerType instance count
+     */
+    public void setInstancesPerType(int instancesPerType)
+    {
+        this.instancesPerType = instancesPerType;
+    }
+
+
+    /**
+     * Return the page size used on the search operations that are timed by the workbench.
+     *
+     * @return page size
+     */
+    public int getMaxSearchResults()
+    {
+        return maxSearchResults;
+    }
+
+
+    /**
+     * Set up the page size used on the search operations that are timed by the workbench.
+     *
+     * @param maxSearchResults page size
+     */
+    public void setMaxSearchResults(int maxSearchResults)
+    {
+        this.maxSearchResults = maxSearchResults;
+    }
+
+
+    /**
+     * Return the number of threads that call the repository at the same time during each timed operation.
+     *
+     * @return thread count
+     */
+    public int getCallerThreads()
+    {
+        return callerThreads;
+    }
+
+
+    /**
+     * Set up the number of threads that call the repository at the same time during each timed operation.
+     *
+     * @param callerThreads thread count
+     */
+    public void setCallerThreads(int callerThreads)
+    {
+        this.callerThreads = callerThreads;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "RepositoryPerformanceWorkbenchConfig{" +
+                "tutRepositoryServerName='" + tutRepositoryServerName + '\'' +
+                ", instancesPerType=" + instancesPerType +
+                ", maxSearchResults=" + maxSearchResults +
+                ", callerThreads=" + callerThreads +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        RepositoryPerformanceWorkbenchConfig that = (RepositoryPerformanceWorkbenchConfig) objectToCompare;
+        return getInstancesPerType() == that.getInstancesPerType() &&
+                getMaxSearchResults() == that.getMaxSearchResults() &&
+                getCallerThreads() == that.getCallerThreads() &&
+                Objects.equals(getTutRepositoryServerName(), that.getTutRepositoryServerName());
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getTutRepositoryServerName(), getInstancesPerType(), getMaxSearchResults(), getCallerThreads());
+    }
+}
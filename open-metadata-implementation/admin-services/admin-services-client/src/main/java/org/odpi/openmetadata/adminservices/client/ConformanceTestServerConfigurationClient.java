@@ -4,6 +4,7 @@
 package org.odpi.openmetadata.adminservices.client;
 
 import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryConformanceWorkbenchConfig;
+import org.odpi.openmetadata.adminservices.configuration.properties.RepositoryPerformanceWorkbenchConfig;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGInvalidParameterException;
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGNotAuthorizedException;
@@ -91,6 +92,41 @@ abstract class ConformanceTestServerConfigurationClient extends CohortMemberConf
     }
 
 
+    /**
+     * Request that the performance workbench is activated in this server to measure the
+     * performance of the repository services running in the server named tutRepositoryServerName.
+     *
+     * @param repositoryPerformanceWorkbenchConfig configuration for the repository performance workbench.
+     * @throws OMAGNotAuthorizedException the supplied userId is not authorized to issue this command.
+     * @throws OMAGInvalidParameterException invalid parameter.
+     * @throws OMAGConfigurationErrorException unusual state in the admin server.
+     */
+    public void enableRepositoryPerformanceSuiteWorkbench(RepositoryPerformanceWorkbenchConfig repositoryPerformanceWorkbenchConfig) throws OMAGNotAuthorizedException,
+                                                                                                                                            OMAGInvalidParameterException,
+                                                                                                                                            OMAGConfigurationErrorException
+    {
+        final String methodName    = "enableRepositoryPerformanceSuiteWorkbench";
+        final String parameterName = "repositoryPerformanceWorkbenchConfig";
+        final String urlTemplate   = "/open-metadata/admin-services/users/{0}/servers/{1}/conformance-suite-workbenches/performance-workbench" +
+                "/repositories";
+
+        try
+        {
+            invalidParameterHandler.validateObject(repositoryPerformanceWorkbenchConfig, parameterName, methodName);
+        }
+        catch (InvalidParameterException error)
+        {
+            throw new OMAGInvalidParameterException(error.getReportedErrorMessage(), error);
+        }
+
+        restClient.callVoidPostRESTCall(methodName,
+                                        serverPlatformRootURL + urlTemplate,
+                                        repositoryPerformanceWorkbenchConfig,
+                                        adminUserId,
+                                        serverName);
+    }
+
+
     /**
      * Request that the conformance suite services are activated in this server to test the
      * support of the platform services running in the platform at tutPlatformRootURL.
@@ -150,6 +186,27 @@ abstract class ConformanceTestServerConfigurationClient extends CohortMemberConf
     }
 
 
+    /**
+     * Request that the repository performance workbench is deactivated in this server.
+     *
+     * @throws OMAGNotAuthorizedException the supplied userId is not authorized to issue this command.
+     * @throws OMAGInvalidParameterException invalid parameter.
+     * @throws OMAGConfigurationErrorException unusual state in the admin server.
+     */
+    public void disableRepositoryPerformanceSuiteServices() throws OMAGNotAuthorizedException,
+                                                                   OMAGInvalidParameterException,
+                                                                   OMAGConfigurationErrorException
+    {
+        final String methodName  = "disableRepositoryPerformanceSuiteServices";
+        final String urlTemplate = "/open-metadata/admin-services/users/{0}/servers/{1}/conformance-suite-workbenches/performance-workbench";
+
+        restClient.callVoidDeleteRESTCall(methodName,
+                                          serverPlatformRootURL + urlTemplate,
+                                          adminUserId,
+                                          serverName);
+    }
+
+
     /**
      * Request that the repository conformance suite tests are deactivated in this server.
      *
@@ -54,6 +54,31 @@ public class OMAGConformanceSuiteConfigServices
         return this.enableAllConformanceSuiteWorkbenches(userId,
                                                          serverName,
                                                          repositoryConformanceWorkbenchConfig,
+                                                         null,
+                                                         null);
+    }
+
+
+    /**
+     * Request that the repository performance workbench is activated in this server to measure the
+     * performance of the repository services running in the server named tutRepositoryServerName.
+     *
+     * @param userId  user that is issuing the request.
+     * @param serverName  local server name.
+     * @param repositoryPerformanceWorkbenchConfig configuration for the repository performance workbench.
+     * @return void response or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName parameter.
+     * OMAGConfigurationErrorException unexpected exception.
+     */
+    public VoidResponse enableRepositoryPerformanceSuiteWorkbench(String                               userId,
+                                                                  String                               serverName,
+                                                                  RepositoryPerformanceWorkbenchConfig repositoryPerformanceWorkbenchConfig)
+    {
+        return this.enableAllConformanceSuiteWorkbenches(userId,
+                                                         serverName,
+                                                         null,
+                                                         repositoryPerformanceWorkbenchConfig,
                                                          null);
     }
 
@@ -77,18 +102,20 @@ public class OMAGConformanceSuiteConfigServices
         return this.enableAllConformanceSuiteWorkbenches(userId,
                                                          serverName,
                                                          null,
+                                                         null,
                                                          requestBody.getUrlRoot());
     }
 
 
     /**
      * Request that the conformance suite services are activated in this server.  If tutRepositoryServerName
-     * is set then the repository workbench is run.  If tutPlatformRootURL is set then the platform
-     * workbench is run.
+     * is set then the repository workbench is run.  If the performance workbench configuration is set then the
+     * performance workbench is run.  If tutPlatformRootURL is set then the platform workbench is run.
      *
      * @param userId  user that is issuing the request.
      * @param serverName  local server name.
      * @param repositoryConformanceWorkbenchConfig configuration for the repository conformance workbench.
+     * @param repositoryPerformanceWorkbenchConfig configuration for the repository performance workbench.
      * @param tutPlatformRootURL url of the OMAG platform to test.
      * @return void response or
      * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
@@ -98,6 +125,7 @@ public class OMAGConformanceSuiteConfigServices
     private VoidResponse enableAllConformanceSuiteWorkbenches(String                               userId,
                                                               String                               serverName,
                                                               RepositoryConformanceWorkbenchConfig repositoryConformanceWorkbenchConfig,
+                                                              RepositoryPerformanceWorkbenchConfig repositoryPerformanceWorkbenchConfig,
                                                               String                               tutPlatformRootURL)
     {
         final String methodName = "enableAllConformanceSuiteWorkbenches";
@@ -134,7 +162,8 @@ public class OMAGConformanceSuiteConfigServices
             }
 
             if ((conformanceSuiteConfig.getPlatformWorkbenchConfig() == null) &&
-                (conformanceSuiteConfig.getRepositoryWorkbenchConfig() == null))
+                (conformanceSuiteConfig.getRepositoryWorkbenchConfig() == null) &&
+                (conformanceSuiteConfig.getPerformanceWorkbenchConfig() == null))
             {
                 OMAGServerAdminServices adminAPI = new OMAGServerAdminServices();
 
@@ -166,6 +195,12 @@ public class OMAGConformanceSuiteConfigServices
                 conformanceSuiteConfig.setRepositoryWorkbenchConfig(repositoryConformanceWorkbenchConfig);
             }
 
+            if (repositoryPerformanceWorkbenchConfig != null)
+            {
+                configAuditTrail.add(new Date().toString() + " " + userId + " enable performance workbench to test " + repositoryPerformanceWorkbenchConfig.getTutRepositoryServerName() + ".");
+                conformanceSuiteConfig.setPerformanceWorkbenchConfig(repositoryPerformanceWorkbenchConfig);
+            }
+
             if (tutPlatformRootURL != null)
             {
                 configAuditTrail.add(new Date().toString() + " " + userId + " enable platform workbench to test " + tutPlatformRootURL + ".");
@@ -273,6 +308,76 @@ public class OMAGConformanceSuiteConfigServices
     }
 
 
+    /**
+     * Request that the repository performance workbench is deactivated in this server.
+     *
+     * @param userId  user that is issuing the request.
+     * @param serverName  local server name.
+     * @return void response or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName parameter.
+     * OMAGConfigurationErrorException unexpected exception.
+     */
+    public VoidResponse disableRepositoryPerformanceSuiteServices(String userId, String serverName)
+    {
+        final String methodName = "disableRepositoryPerformanceSuiteServices";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            errorHandler.validateServerName(serverName, methodName);
+            errorHandler.validateUserId(userId, serverName, methodName);
+
+            OMAGServerConfig serverConfig = configStore.getServerConfig(userId, serverName, methodName);
+
+            ConformanceSuiteConfig conformanceSuiteConfig = serverConfig.getConformanceSuiteConfig();
+
+            if (conformanceSuiteConfig != null)
+            {
+                RepositoryPerformanceWorkbenchConfig repositoryPerformanceWorkbenchConfig = conformanceSuiteConfig.getPerformanceWorkbenchConfig();
+
+                if (repositoryPerformanceWorkbenchConfig != null)
+                {
+                    List<String> configAuditTrail = serverConfig.getAuditTrail();
+
+                    if (configAuditTrail == null)
+                    {
+                        configAuditTrail = new ArrayList<>();
+                    }
+
+                    configAuditTrail.add(new Date().toString() + " " + userId + " removed performance workbench configuration for " + GovernanceServicesDescription.CONFORMANCE_SUITE_SERVICES.getServiceName() + ".");
+
+                    serverConfig.setAuditTrail(configAuditTrail);
+
+                    conformanceSuiteConfig.setPerformanceWorkbenchConfig(null);
+                    serverConfig.setConformanceSuiteConfig(conformanceSuiteConfig);
+
+                    configStore.saveServerConfig(serverName, methodName, serverConfig);
+                }
+            }
+        }
+        catch (OMAGInvalidParameterException error)
+        {
+            exceptionHandler.captureInvalidParameterException(response, error);
+        }
+        catch (OMAGNotAuthorizedException error)
+        {
+            exceptionHandler.captureNotAuthorizedException(response, error);
+        }
+        catch (Throwable   error)
+        {
+            exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
     /**
      * Request that the repository conformance suite tests are deactivated in this server.
      *
@@ -12,6 +12,8 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.platformservices.properties.OMAGServerInstanceHistory;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * OMAGServerInstance represents an instance of a service in an OMAG Server.
@@ -19,11 +21,11 @@ import java.util.*;
  */
 class OMAGServerInstance
 {
-    private String                                 serverName;
-    private List<OMAGServerInstanceHistory>        serverHistory      = new ArrayList<>();
-    private Map<String, OMAGServerServiceInstance> serviceInstanceMap = new HashMap<>();
-    private Date                                   serverStartTime    = new Date();
-    private OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
+    private       String                                 serverName;
+    private       List<OMAGServerInstanceHistory>        serverHistory      = new CopyOnWriteArrayList<>();
+    private       Map<String, OMAGServerServiceInstance> serviceInstanceMap = new ConcurrentHashMap<>();
+    private       Date                                   serverStartTime    = new Date();
+    private final OpenMetadataServerSecurityVerifier     securityVerifier   = new OpenMetadataServerSecurityVerifier();
 
 
     /**
@@ -51,7 +53,7 @@ class OMAGServerInstance
     /**
      * Prepare to start a new instance
      */
-    void initialize()
+    synchronized void initialize()
     {
         serverStartTime    = new Date();
     }
@@ -105,11 +107,12 @@ class OMAGServerInstance
 
 
     /**
-     * Return the time this server instance last started.
+     * Return the start and end times of the previous runs of this server instance.  The history is a
+     * copy-on-write list that is only added to, so it is returned without locking.
      *
-     * @return start time
+     * @return list of previous runs or null if the server has not been shutdown
      */
-    synchronized List<OMAGServerInstanceHistory> getServerHistory()
+    List<OMAGServerInstanceHistory> getServerHistory()
     {
         if (serverHistory.isEmpty())
         {
@@ -154,11 +157,12 @@ class OMAGServerInstance
 
 
     /**
-     * Return the security verifier for the server.
+     * Return the security verifier for the server.  The verifier object is created with the server instance
+     * and never replaced, so it is returned without locking.
      *
      * @return connector
      */
-    synchronized OpenMetadataServerSecurityVerifier  getSecurityVerifier()
+    OpenMetadataServerSecurityVerifier  getSecurityVerifier()
     {
         return securityVerifier;
     }
@@ -192,10 +196,10 @@ class OMAGServerInstance
      * @throws UserNotAuthorizedException calling user not authorized to call the request
      * @throws PropertyServerException service is not running in this server
      */
-    synchronized OMAGServerServiceInstance getRegisteredService(String    userId,
-                                                                String    serviceName,
-                                                                String    serviceOperationName) throws UserNotAuthorizedException,
-                                                                                                       PropertyServerException
+    OMAGServerServiceInstance getRegisteredService(String    userId,
+                                                   String    serviceName,
+                                                   String    serviceOperationName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
     {
         try
         {
@@ -246,9 +250,11 @@ class OMAGServerInstance
 
         if (!serviceInstanceMap.isEmpty())
         {
-            this.serviceInstanceMap = new HashMap<>();
+            String residualServices = serviceInstanceMap.keySet().toString();
+
+            this.serviceInstanceMap.clear();
             throw new PropertyServerException(OMAGServerInstanceErrorCode.SERVICES_NOT_SHUTDOWN.getMessageDefinition(serverName,
-                                                                                                                     serviceInstanceMap.keySet().toString()),
+                                                                                                                     residualServices),
                                               this.getClass().getName(),
                                               methodName);
         }
@@ -55,4 +55,16 @@ class ConnectedAssetComplexSchemaType extends AssetComplexSchemaType
             }
         }
     }
+
+
+    /**
+     * Start retrieving the first page of schema attributes in the background.
+     */
+    void readAhead()
+    {
+        if (super.schemaAttributes != null)
+        {
+            super.schemaAttributes.readAhead();
+        }
+    }
 }
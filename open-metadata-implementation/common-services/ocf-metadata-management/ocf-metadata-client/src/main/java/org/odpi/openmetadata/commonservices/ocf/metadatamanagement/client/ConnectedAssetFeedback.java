@@ -99,4 +99,31 @@ public class ConnectedAssetFeedback extends AssetFeedback
                                                                 restClient);
         }
     }
+
+
+    /**
+     * Start retrieving the first page of comments, likes, ratings and informal tags in the background.
+     */
+    void readAhead()
+    {
+        if (super.comments != null)
+        {
+            super.comments.readAhead();
+        }
+
+        if (super.likes != null)
+        {
+            super.likes.readAhead();
+        }
+
+        if (super.ratings != null)
+        {
+            super.ratings.readAhead();
+        }
+
+        if (super.informalTags != null)
+        {
+            super.informalTags.readAhead();
+        }
+    }
 }
@@ -358,18 +358,19 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                                     restClient);
         }
 
-        super.feedback = new ConnectedAssetFeedback(serviceName,
-                                                    remoteServerName,
-                                                    userId,
-                                                    omasServerURL,
-                                                    assetGUID,
-                                                    this,
-                                                    assetResponse.getCommentCount(),
-                                                    assetResponse.getLikeCount(),
-                                                    assetResponse.getRatingsCount(),
-                                                    assetResponse.getInformalTagCount(),
-                                                    MAX_CACHE_SIZE,
-                                                    restClient);
+        ConnectedAssetFeedback connectedAssetFeedback = new ConnectedAssetFeedback(serviceName,
+                                                                                   remoteServerName,
+                                                                                   userId,
+                                                                                   omasServerURL,
+                                                                                   assetGUID,
+                                                                                   this,
+                                                                                   assetResponse.getCommentCount(),
+                                                                                   assetResponse.getLikeCount(),
+                                                                                   assetResponse.getRatingsCount(),
+                                                                                   assetResponse.getInformalTagCount(),
+                                                                                   MAX_CACHE_SIZE,
+                                                                                   restClient);
+        super.feedback = connectedAssetFeedback;
 
         if (assetResponse.getKnownLocationsCount() > 0)
         {
@@ -415,6 +416,42 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                    assetResponse.getSchemaType(),
                                                    restClient);
         }
+
+        /*
+         * The counts in the asset response show which lists have content.  The first page of each of them is
+         * retrieved in parallel now so the pages are ready (or on their way) when the caller steps through
+         * the lists, rather than waiting for one request per list in turn.
+         */
+        this.readAhead(super.externalIdentifiers);
+        this.readAhead(super.relatedMediaReferences);
+        this.readAhead(super.noteLogs);
+        this.readAhead(super.externalReferences);
+        this.readAhead(super.connections);
+        this.readAhead(super.licenses);
+        this.readAhead(super.certifications);
+        this.readAhead(super.knownLocations);
+        this.readAhead(super.relatedAssets);
+
+        connectedAssetFeedback.readAhead();
+
+        if (super.schema instanceof ConnectedAssetComplexSchemaType)
+        {
+            ((ConnectedAssetComplexSchemaType)super.schema).readAhead();
+        }
+    }
+
+
+    /**
+     * Start retrieving the first page of a list attached to the asset in the background.
+     *
+     * @param assetList list to retrieve; null if the asset has no elements of this kind
+     */
+    private void readAhead(AssetPropertyIteratorBase assetList)
+    {
+        if (assetList != null)
+        {
+            assetList.readAhead();
+        }
     }
 
 
@@ -19,6 +19,7 @@ import org.odpi.openmetadata.metadatasecurity.server.OpenMetadataServerSecurityV
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -59,6 +60,8 @@ public class AssetHandler
     protected List<String>            supportedZones;
     protected List<String>            defaultZones;
 
+    private volatile boolean          zoneSearchSupported = true;
+
 
     /**
      * Construct the asset handler with information needed to work with Asset objects.
@@ -3113,7 +3116,7 @@ public class AssetHandler
 
         while (moreResultsAvailable && (results.size() < pageSize))
         {
-            List<EntityDetail> retrievedEntities = repositoryHandler.getEntitiesForType(userId, typeGUID, typeName, startFrom, pageSize, methodName);
+            List<EntityDetail> retrievedEntities = repositoryHandler.getEntitiesForType(userId, typeGUID, typeName, startNextQueryFrom, pageSize, methodName);
 
             if (retrievedEntities != null)
             {
@@ -3147,6 +3150,12 @@ public class AssetHandler
      * Scan through the repository looking for assets by type and/or zone.  The zone and/or type name
      * may be null which means, all assets will be returned.
      *
+     * The zone test is passed to the repositories as a search on the zoneMembership property of the
+     * AssetZoneMembership classification, so startFrom is an offset into the assets in the zone rather
+     * than into all of the assets of the type.  Only if the repositories report that they do not support
+     * searching by classification properties are the assets of the type scanned and filtered instead.  For
+     * these repositories startFrom is always an offset into all of the assets of the type.
+     *
      * @param userId calling user
      * @param zoneName name of zone to scan
      * @param subTypeGUID type of asset to scan for (null for all asset types)
@@ -3189,47 +3198,185 @@ public class AssetHandler
 
         if (zonesForVisibleAssets.contains(zoneName))
         {
-            List<Asset>  results = new ArrayList<>();
-            boolean      moreResultsAvailable = true;
-            int          startNextQueryFrom = startFrom;
-
-            while (moreResultsAvailable && (results.size() < pageSize))
+            if (zoneSearchSupported)
             {
-                List<EntityDetail> retrievedEntities = repositoryHandler.getEntitiesForType(userId, typeGUID, typeName, startFrom, pageSize, methodName);
-
-                if (retrievedEntities != null)
+                try
                 {
-                    for (EntityDetail entity : retrievedEntities)
-                    {
-                        if ((entity != null) && (results.size() < pageSize))
-                        {
-                            AssetConverter  converter = new AssetConverter(entity, null, repositoryHelper, serviceName);
-                            Asset           asset = converter.getAssetBean();
-                            List<String>    assetZones = asset.getZoneMembership();
-
-                            if ((assetZones != null) && (assetZones.contains(zoneName)))
-                            {
-                                results.add(asset);
-                            }
-                        }
-                    }
-
-                    moreResultsAvailable = (retrievedEntities.size() == pageSize);
-                    startNextQueryFrom = startNextQueryFrom + pageSize;
+                    return this.assetZoneSearch(userId, zoneName, typeGUID, typeName, startFrom, pageSize, methodName);
                 }
-                else
+                catch (FunctionNotSupportedException  error)
                 {
-                    moreResultsAvailable = false;
+                    /*
+                     * The repositories can not search on the classification's properties.  This does not
+                     * change while the server is running, so they are always scanned by type.
+                     */
+                    zoneSearchSupported = false;
                 }
             }
 
-            if (! results.isEmpty())
+            return this.assetZoneTypeScan(userId, zoneName, typeGUID, typeName, startFrom, pageSize, methodName);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Retrieve the assets in a zone by passing the zone test to the repositories as a match on the
+     * zoneMembership property of the AssetZoneMembership classification.  The repositories match an array
+     * property if any of its values contain the requested value, so the zone membership of each asset
+     * returned is checked again.
+     *
+     * @param userId calling user
+     * @param zoneName name of zone to scan
+     * @param typeGUID type of asset to scan for
+     * @param typeName type of asset to scan for
+     * @param startFrom offset into the assets in the zone
+     * @param pageSize maximum number of results
+     * @param methodName calling method
+     * @return list of matching assets or null
+     *
+     * @throws FunctionNotSupportedException the repositories do not support searching by classification properties.
+     * @throws PropertyServerException there is a problem retrieving information from the property server(s).
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private List<Asset>  assetZoneSearch(String   userId,
+                                         String   zoneName,
+                                         String   typeGUID,
+                                         String   typeName,
+                                         int      startFrom,
+                                         int      pageSize,
+                                         String   methodName) throws FunctionNotSupportedException,
+                                                                     PropertyServerException,
+                                                                     UserNotAuthorizedException
+    {
+        InstanceProperties matchClassificationProperties = repositoryHelper.addStringPropertyToInstance(serviceName,
+                                                                                                         null,
+                                                                                                         AssetMapper.ZONE_MEMBERSHIP_PROPERTY_NAME,
+                                                                                                         repositoryHelper.getExactMatchRegex(zoneName),
+                                                                                                         methodName);
+        List<Asset>  results = new ArrayList<>();
+        boolean      moreResultsAvailable = true;
+        int          startNextQueryFrom = startFrom;
+
+        while (moreResultsAvailable && (results.size() < pageSize))
+        {
+            List<EntityDetail> retrievedEntities = repositoryHandler.getEntitiesForClassificationProperties(userId,
+                                                                                                             typeGUID,
+                                                                                                             typeName,
+                                                                                                             AssetMapper.ASSET_ZONES_CLASSIFICATION_NAME,
+                                                                                                             matchClassificationProperties,
+                                                                                                             startNextQueryFrom,
+                                                                                                             pageSize,
+                                                                                                             methodName);
+
+            if (retrievedEntities != null)
             {
-                return results;
+                this.addAssetsInZone(retrievedEntities, zoneName, results, pageSize);
+
+                moreResultsAvailable = (retrievedEntities.size() == pageSize);
+                startNextQueryFrom = startNextQueryFrom + pageSize;
+            }
+            else
+            {
+                moreResultsAvailable = false;
             }
         }
 
-        return null;
+        if (results.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return results;
+        }
+    }
+
+
+    /**
+     * Retrieve the assets in a zone by scanning all of the assets of the type and testing their zones.
+     *
+     * @param userId calling user
+     * @param zoneName name of zone to scan
+     * @param typeGUID type of asset to scan for
+     * @param typeName type of asset to scan for
+     * @param startFrom offset into all of the assets of the type
+     * @param pageSize maximum number of results
+     * @param methodName calling method
+     * @return list of matching assets or null
+     *
+     * @throws PropertyServerException there is a problem retrieving information from the property server(s).
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private List<Asset>  assetZoneTypeScan(String   userId,
+                                           String   zoneName,
+                                           String   typeGUID,
+                                           String   typeName,
+                                           int      startFrom,
+                                           int      pageSize,
+                                           String   methodName) throws PropertyServerException,
+                                                                       UserNotAuthorizedException
+    {
+        List<Asset>  results = new ArrayList<>();
+        boolean      moreResultsAvailable = true;
+        int          startNextQueryFrom = startFrom;
+
+        while (moreResultsAvailable && (results.size() < pageSize))
+        {
+            List<EntityDetail> retrievedEntities = repositoryHandler.getEntitiesForType(userId, typeGUID, typeName, startNextQueryFrom, pageSize, methodName);
+
+            if (retrievedEntities != null)
+            {
+                this.addAssetsInZone(retrievedEntities, zoneName, results, pageSize);
+
+                moreResultsAvailable = (retrievedEntities.size() == pageSize);
+                startNextQueryFrom = startNextQueryFrom + pageSize;
+            }
+            else
+            {
+                moreResultsAvailable = false;
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return results;
+        }
+    }
+
+
+    /**
+     * Add the retrieved entities that are assets in the requested zone to the results, up to the page size.
+     *
+     * @param retrievedEntities entities from the repository
+     * @param zoneName name of zone to test for
+     * @param results list of assets to add to
+     * @param pageSize maximum number of results
+     */
+    private void addAssetsInZone(List<EntityDetail> retrievedEntities,
+                                 String             zoneName,
+                                 List<Asset>        results,
+                                 int                pageSize)
+    {
+        for (EntityDetail entity : retrievedEntities)
+        {
+            if ((entity != null) && (results.size() < pageSize))
+            {
+                AssetConverter  converter = new AssetConverter(entity, null, repositoryHelper, serviceName);
+                Asset           asset = converter.getAssetBean();
+                List<String>    assetZones = asset.getZoneMembership();
+
+                if ((assetZones != null) && (assetZones.contains(zoneName)))
+                {
+                    results.add(asset);
+                }
+            }
+        }
     }
 
 
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -1252,6 +1253,82 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return the list of entities of the requested type that have the requested classification with
+     * properties matching the supplied values.  The match is evaluated by the repository, so it can use
+     * any index the repository keeps on the classification's properties.
+     *
+     * @param userId  user making the request
+     * @param entityTypeGUID  identifier for the entity's type
+     * @param entityTypeName  name for the entity's type
+     * @param classificationName  type name for the classification to match
+     * @param matchClassificationProperties  classification property values that must all match (may be null)
+     * @param startingFrom initial position in the stored list.
+     * @param pageSize maximum number of definitions to return on this call.
+     * @param methodName  name of calling method
+     * @return retrieved entities or null
+     * @throws FunctionNotSupportedException the repository does not support searching by classification properties
+     * @throws PropertyServerException problem accessing the property server
+     * @throws UserNotAuthorizedException security access problem
+     */
+    public List<EntityDetail> getEntitiesForClassificationProperties(String                 userId,
+                                                                     String                 entityTypeGUID,
+                                                                     String                 entityTypeName,
+                                                                     String                 classificationName,
+                                                                     InstanceProperties     matchClassificationProperties,
+                                                                     int                    startingFrom,
+                                                                     int                    pageSize,
+                                                                     String                 methodName) throws FunctionNotSupportedException,
+                                                                                                               UserNotAuthorizedException,
+                                                                                                               PropertyServerException
+    {
+        try
+        {
+            List<EntityDetail> results = metadataCollection.findEntitiesByClassification(userId,
+                                                                                         entityTypeGUID,
+                                                                                         classificationName,
+                                                                                         matchClassificationProperties,
+                                                                                         MatchCriteria.ALL,
+                                                                                         startingFrom,
+                                                                                         null,
+                                                                                         null,
+                                                                                         null,
+                                                                                         SequencingOrder.ANY,
+                                                                                         pageSize);
+
+            if ((results == null) || (results.isEmpty()))
+            {
+                return null;
+            }
+            else
+            {
+                for (EntityDetail  entity : results)
+                {
+                    if (entity != null)
+                    {
+                        errorHandler.validateInstanceType(userId, entity, "<null>", entityTypeName, methodName);
+                    }
+                }
+                return results;
+            }
+        }
+        catch (FunctionNotSupportedException  error)
+        {
+            throw error;
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Throwable   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the list of entities at the requested end of the requested relationship type.
      *
@@ -14,18 +14,30 @@ import org.odpi.openmetadata.frameworks.connectors.properties.*;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.VirtualConnection;
 
+import java.lang.reflect.Constructor;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The ConnectorBroker is a generic factory for Open Connector Framework (OCF) Connectors.
  * The OCF provides a default implementation because all of the implementation that is specific to a
  * particular type of connector is delegated to the connector provider specified in the connection.
+ *
+ * The connector broker remembers the constructor of each connector provider class it has loaded so that the
+ * class is only looked up once.  A new connector provider object is still created for each request because the
+ * connector provider may be passed the audit log of the requesting connector broker.
  */
 public class ConnectorBroker
 {
     private static final Logger log      = LoggerFactory.getLogger(ConnectorBroker.class);
     private final        int    hashCode = UUID.randomUUID().hashCode();
 
+    /*
+     * Cache of the constructors of the connector provider classes that have been loaded.  Classes that
+     * can not be loaded are not cached so that they are found if they are added to the class path later.
+     */
+    private static final Map<ProviderClassKey, Constructor<? extends ConnectorProvider>> providerConstructors = new ConcurrentHashMap<>();
+
 
     private AuditLog auditLog = null;
 
@@ -155,10 +167,15 @@ public class ConnectorBroker
 
         try
         {
-            Class<?>   connectorProviderClass = Class.forName(connectorProviderClassName);
-            Object     potentialConnectorProvider = connectorProviderClass.newInstance();
+            Constructor<? extends ConnectorProvider> connectorProviderConstructor = this.getConnectorProviderConstructor(connectorProviderClassName,
+                                                                                                                       connectionName,
+                                                                                                                       methodName);
 
-            connectorProvider = (ConnectorProvider)potentialConnectorProvider;
+            connectorProvider = connectorProviderConstructor.newInstance();
+        }
+        catch (ConnectionCheckedException connectionError)
+        {
+            throw connectionError;
         }
         catch (ClassNotFoundException classException)
         {
@@ -199,6 +216,49 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * Return the no-argument constructor of the connector provider class.  The constructor is looked up
+     * the first time the class is requested and then retrieved from the cache.
+     *
+     * @param connectorProviderClassName  name of the connector provider class
+     * @param connectionName  name of the connection (for error handling)
+     * @param methodName calling method (for error handling)
+     * @return constructor
+     * @throws ClassNotFoundException the class is not known to the JVM
+     * @throws NoSuchMethodException the class does not have a no-argument constructor
+     * @throws ConnectionCheckedException the class is not a connector provider
+     */
+    private Constructor<? extends ConnectorProvider> getConnectorProviderConstructor(String connectorProviderClassName,
+                                                                                     String connectionName,
+                                                                                     String methodName) throws ClassNotFoundException,
+                                                                                                               NoSuchMethodException,
+                                                                                                               ConnectionCheckedException
+    {
+        ClassLoader      classLoader = ConnectorBroker.class.getClassLoader();
+        ProviderClassKey key         = new ProviderClassKey(connectorProviderClassName, classLoader);
+
+        Constructor<? extends ConnectorProvider> connectorProviderConstructor = providerConstructors.get(key);
+
+        if (connectorProviderConstructor == null)
+        {
+            Class<?> connectorProviderClass = Class.forName(connectorProviderClassName, true, classLoader);
+
+            if (! ConnectorProvider.class.isAssignableFrom(connectorProviderClass))
+            {
+                throw new ConnectionCheckedException(OCFErrorCode.NOT_CONNECTOR_PROVIDER.getMessageDefinition(connectorProviderClassName,
+                                                                                                              connectionName),
+                                                     this.getClass().getName(),
+                                                     methodName);
+            }
+
+            connectorProviderConstructor = connectorProviderClass.asSubclass(ConnectorProvider.class).getDeclaredConstructor();
+            providerConstructors.put(key, connectorProviderConstructor);
+        }
+
+        return connectorProviderConstructor;
+    }
+
+
     /**
      * Extract the connection from the embedded connection and push any arguments into the
      * AdditionalProperties for the connection.
@@ -515,6 +575,65 @@ public class ConnectorBroker
     }
 
 
+    /**
+     * ProviderClassKey identifies a connector provider class by its name and the class loader used to load it.
+     */
+    private static class ProviderClassKey
+    {
+        private String      className;
+        private ClassLoader classLoader;
+
+
+        /**
+         * Constructor
+         *
+         * @param className name of the connector provider class
+         * @param classLoader class loader used to load the class
+         */
+        ProviderClassKey(String      className,
+                         ClassLoader classLoader)
+        {
+            this.className = className;
+            this.classLoader = classLoader;
+        }
+
+
+        /**
+         * Compare the values of the supplied object with those stored in the current object.
+         *
+         * @param objectToCompare supplied object
+         * @return boolean result of comparison
+         */
+        @Override
+        public boolean equals(Object objectToCompare)
+        {
+            if (this == objectToCompare)
+            {
+                return true;
+            }
+            if (objectToCompare == null || getClass() != objectToCompare.getClass())
+            {
+                return false;
+            }
+            ProviderClassKey that = (ProviderClassKey) objectToCompare;
+            return className.equals(that.className) &&
+                    Objects.equals(classLoader, that.classLoader);
+        }
+
+
+        /**
+         * Create a hash code for this element type.
+         *
+         * @return int hash code
+         */
+        @Override
+        public int hashCode()
+        {
+            return Objects.hash(className, classLoader);
+        }
+    }
+
+
     /**
      * ProtectedConnection provides a subclass to Connection in order to extract protected values from the
      * connection in order to supply them to the Connector implementation.
@@ -11,6 +11,13 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * PagingIterator supports an iterator over a list of objects that extend AssetPropertyBase.
@@ -42,6 +49,12 @@ import java.util.List;
  * the first two would have 10 elements in them and the third will have 5 elements.
  * In the first 2 retrieves, maxCacheSize and cachedElementList.size() are set to 10.
  * In the last one, maxCacheSize==10 and cachedElementList.size()==5.
+ *
+ * When the list is longer than maxCacheSize, the first cache is kept small so the first element is returned quickly,
+ * and each following cache doubles in size up to maxCacheSize.  While the caller is stepping through one cache,
+ * the next cache is retrieved in the background (read-ahead) so that, for a caller that walks the whole list,
+ * only the first retrieve is waited for.  The first cache is shared with the iterators cloned from this one,
+ * so the clones that are handed out each time a list is requested do not retrieve it again.
  */
 public class AssetPagingIterator extends AssetPropertyBase implements Iterator<AssetPropertyBase>
 {
@@ -56,6 +69,17 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
 
     protected AssetPropertyIteratorBase iterator = null;
 
+    protected int                       pageSize             = 1;
+
+    private transient FutureTask<List<AssetPropertyBase>> firstPage     = null;
+    private transient FutureTask<List<AssetPropertyBase>> nextPage      = null;
+    private           int                                 nextPageStart = 0;
+
+    private static final int  INITIAL_PAGE_SIZE       = 10;
+    private static final int  READ_AHEAD_THREAD_COUNT = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private static final ExecutorService readAheadExecutor = createReadAheadExecutor();
+
     private static final Logger log = LoggerFactory.getLogger(AssetPagingIterator.class);
 
 
@@ -90,6 +114,8 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
             this.maxCacheSize = maxCacheSize;
         }
 
+        this.pageSize = getInitialPageSize(this.totalElementCount, this.maxCacheSize);
+
         if (iterator != null)
         {
             this.iterator = iterator;
@@ -153,7 +179,9 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
                                               "next");
             }
 
-            if (templateIterator.cachedElementStart <= templateIterator.maxCacheSize)
+            this.pageSize = getInitialPageSize(this.totalElementCount, this.maxCacheSize);
+
+            if (templateIterator.cachedElementStart == templateIterator.cachedElementPointer)
             {
                 /*
                  * The template's cache starts at the beginning of the total list so ok to copy it.
@@ -163,6 +191,14 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
                     this.cachedElementList.add(iterator.cloneElement(parentAsset, templateElement));
                 }
             }
+
+            if (this.cachedElementList.isEmpty())
+            {
+                /*
+                 * Share the template's retrieve of the first cache (which may already be complete or in progress).
+                 */
+                this.firstPage = templateIterator.getFirstPage();
+            }
         }
     }
 
@@ -205,7 +241,7 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
             {
                 try
                 {
-                    cachedElementList = iterator.getCachedList(cachedElementStart, maxCacheSize);
+                    cachedElementList = this.getPage(cachedElementStart);
                     cachedElementPointer = 0;
                 }
                 catch (PropertyServerException error)
@@ -219,6 +255,22 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
                                                   "next",
                                                   error);
                 }
+
+                if (cachedElementList.isEmpty())
+                {
+                    /*
+                     * The property server has fewer elements than it reported when the iterator was created.
+                     */
+                    totalElementCount = cachedElementStart;
+
+                    throw new OCFRuntimeException(OCFErrorCode.NO_MORE_ELEMENTS.getMessageDefinition(this.getClass().getSimpleName(),
+                                                                                                     super.getParentAssetName(),
+                                                                                                     super.getParentAssetTypeName()),
+                                                  this.getClass().getName(),
+                                                  "next");
+                }
+
+                this.readAhead(cachedElementStart + cachedElementList.size());
             }
 
             retrievedElement = iterator.cloneElement(getParentAsset(), cachedElementList.get(cachedElementPointer));
@@ -230,6 +282,7 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
             log.debug("==> cachedElementPointer: " + cachedElementPointer);
             log.debug("==> cachedElementStart:" + cachedElementStart);
             log.debug("==> maxCacheSize:" + maxCacheSize);
+            log.debug("==> pageSize:" + pageSize);
 
             return retrievedElement;
         }
@@ -258,6 +311,223 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
     }
 
 
+    /**
+     * Start retrieving the next cache of elements in the background so that it is ready (or on its way) when
+     * the caller steps into it.  This is used to retrieve the first cache of several lists in parallel.
+     */
+    public void readAhead()
+    {
+        this.readAhead(cachedElementStart - cachedElementPointer + cachedElementList.size());
+    }
+
+
+    /**
+     * Start retrieving the cache that begins at the requested element in the background.  Nothing is retrieved
+     * if the requested element is beyond the end of the list or the cache has already been requested.
+     *
+     * @param pageStart index of the first element of the cache
+     */
+    private void readAhead(int pageStart)
+    {
+        if (pageStart >= totalElementCount)
+        {
+            return;
+        }
+
+        FutureTask<List<AssetPropertyBase>> page;
+
+        if (pageStart == 0)
+        {
+            page = this.getFirstPage();
+        }
+        else if ((nextPage != null) && (nextPageStart == pageStart))
+        {
+            return;
+        }
+        else
+        {
+            nextPage = this.getPageTask(pageStart, this.getNextPageSize());
+            nextPageStart = pageStart;
+            page = nextPage;
+        }
+
+        readAheadExecutor.execute(page);
+    }
+
+
+    /**
+     * Return the cache that begins at the requested element.  If it has been requested in the background, the
+     * result of that request is used (running it on the calling thread if it has not started yet); otherwise it is
+     * retrieved on the calling thread.
+     *
+     * @param pageStart index of the first element of the cache
+     * @return list of elements; empty if the property server has no more elements
+     * @throws PropertyServerException there is a problem retrieving the elements from the property server
+     */
+    private List<AssetPropertyBase> getPage(int pageStart) throws PropertyServerException
+    {
+        FutureTask<List<AssetPropertyBase>> page;
+
+        if (pageStart == 0)
+        {
+            page = this.getFirstPage();
+        }
+        else if ((nextPage != null) && (nextPageStart == pageStart))
+        {
+            page = nextPage;
+        }
+        else
+        {
+            page = this.getPageTask(pageStart, this.getNextPageSize());
+        }
+
+        nextPage = null;
+
+        /*
+         * Run is ignored if the retrieve is already running or complete.
+         */
+        page.run();
+
+        try
+        {
+            List<AssetPropertyBase> elements = page.get();
+
+            if (elements == null)
+            {
+                return new ArrayList<>();
+            }
+
+            return elements;
+        }
+        catch (ExecutionException error)
+        {
+            Throwable cause = error.getCause();
+
+            if (cause instanceof PropertyServerException)
+            {
+                throw (PropertyServerException)cause;
+            }
+            else if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException)cause;
+            }
+            else if (cause instanceof Error)
+            {
+                throw (Error)cause;
+            }
+
+            throw new OCFRuntimeException(OCFErrorCode.PROPERTIES_NOT_AVAILABLE.getMessageDefinition(cause.getMessage(),
+                                                                                                     this.toString()),
+                                          this.getClass().getName(),
+                                          "next",
+                                          cause);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new OCFRuntimeException(OCFErrorCode.PROPERTIES_NOT_AVAILABLE.getMessageDefinition(error.getMessage(),
+                                                                                                     this.toString()),
+                                          this.getClass().getName(),
+                                          "next",
+                                          error);
+        }
+    }
+
+
+    /**
+     * Return the retrieve of the first cache.  It is shared with any iterator cloned from this one.
+     *
+     * @return retrieve request (not necessarily started)
+     */
+    private synchronized FutureTask<List<AssetPropertyBase>> getFirstPage()
+    {
+        if (firstPage == null)
+        {
+            firstPage = this.getPageTask(0, getInitialPageSize(totalElementCount, maxCacheSize));
+        }
+
+        return firstPage;
+    }
+
+
+    /**
+     * Return a request to retrieve a cache of elements from the property server.
+     *
+     * @param pageStart index of the first element of the cache
+     * @param pageSize maximum number of elements to retrieve
+     * @return retrieve request (not started)
+     */
+    private FutureTask<List<AssetPropertyBase>> getPageTask(int pageStart,
+                                                            int pageSize)
+    {
+        final AssetPropertyIteratorBase pageIterator = iterator;
+
+        return new FutureTask<>(() -> pageIterator.getCachedList(pageStart, pageSize));
+    }
+
+
+    /**
+     * Double the number of elements requested for each cache after the first one, up to maxCacheSize.
+     *
+     * @return number of elements to request
+     */
+    private int getNextPageSize()
+    {
+        pageSize = (pageSize <= maxCacheSize / 2) ? pageSize * 2 : maxCacheSize;
+
+        return pageSize;
+    }
+
+
+    /**
+     * Return the size of the first cache.  A list that fits in one cache is retrieved in one request; otherwise the
+     * first cache is kept small so the caller gets the first elements quickly.
+     *
+     * @param totalElementCount number of elements in the list
+     * @param maxCacheSize maximum number of elements in a cache
+     * @return number of elements to request
+     */
+    private static int getInitialPageSize(int totalElementCount,
+                                          int maxCacheSize)
+    {
+        if (totalElementCount <= maxCacheSize)
+        {
+            return maxCacheSize;
+        }
+
+        return Math.min(INITIAL_PAGE_SIZE, maxCacheSize);
+    }
+
+
+    /**
+     * Create the pool of daemon threads that retrieve caches in the background.  It is shared by all of the
+     * iterators and its threads end when they have been idle for a minute.
+     *
+     * @return executor service
+     */
+    private static ExecutorService createReadAheadExecutor()
+    {
+        AtomicInteger      threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor     = new ThreadPoolExecutor(READ_AHEAD_THREAD_COUNT,
+                                                                 READ_AHEAD_THREAD_COUNT,
+                                                                 60L,
+                                                                 TimeUnit.SECONDS,
+                                                                 new LinkedBlockingQueue<>(),
+                                                                 runnable ->
+                                                                 {
+                                                                     Thread thread = new Thread(runnable,
+                                                                                                "AssetPagingIterator-read-ahead-" + threadNumber.incrementAndGet());
+                                                                     thread.setDaemon(true);
+                                                                     return thread;
+                                                                 });
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+
     /**
      * Remove the current element in the iterator.  This call is not supported and results in
      * an exception
@@ -283,6 +553,7 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
     {
         return "AssetPagingIterator{" +
                 "maxCacheSize=" + maxCacheSize +
+                ", pageSize=" + pageSize +
                 ", totalElementCount=" + totalElementCount +
                 ", cachedElementStart=" + cachedElementStart +
                 ", cachedElementList=" + cachedElementList +
@@ -66,6 +66,20 @@ public abstract class AssetPropertyIteratorBase extends AssetPropertyBase
     }
 
 
+    /**
+     * Start retrieving the next cached list of elements in the background.  The iterators cloned from this
+     * iterator share the first cached list, so calling this on the iterator held by the asset means the
+     * elements are (or are on their way to being) in memory when the caller asks for the list.
+     */
+    public void readAhead()
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.readAhead();
+        }
+    }
+
+
     /**
      * Method implemented by a subclass that ensures the cloning process is a deep clone.
      *
@@ -0,0 +1,81 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors;
+
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ConnectorType;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * ConnectorBrokerTest drives the creation of connectors from the connector provider constructors that
+ * the ConnectorBroker caches.
+ */
+public class ConnectorBrokerTest
+{
+    /**
+     * Validate that repeated requests for the same connector provider (using its cached constructor)
+     * return separate connector instances.
+     *
+     * @throws Exception the connector could not be created
+     */
+    @Test public void testRepeatedConnection() throws Exception
+    {
+        ConnectorType testConnType = new ConnectorType();
+
+        testConnType.setQualifiedName("Test.ConnectorType");
+        testConnType.setDisplayName("TestCT");
+        testConnType.setConnectorProviderClassName(MockConnectorProvider.class.getName());
+
+        Connection      testConnection = new Connection();
+
+        testConnection.setQualifiedName("Test.Connection");
+        testConnection.setDisplayName("Test");
+        testConnection.setConnectorType(testConnType);
+
+        Connector firstConnector  = new ConnectorBroker().getConnector(testConnection);
+        Connector secondConnector = new ConnectorBroker().getConnector(testConnection);
+
+        assertTrue(firstConnector instanceof MockConnector);
+        assertTrue(secondConnector instanceof MockConnector);
+        assertNotSame(firstConnector, secondConnector);
+        assertNotEquals(firstConnector.getConnectorInstanceId(), secondConnector.getConnectorInstanceId());
+    }
+
+
+    /**
+     * Validate that a provider class that can not be loaded is reported on every request, rather than
+     * the failure being cached as a constructor.
+     */
+    @Test public void testRepeatedUnknownProvider()
+    {
+        ConnectorType testConnType = new ConnectorType();
+
+        testConnType.setQualifiedName("Test.ConnectorType");
+        testConnType.setDisplayName("TestCT");
+        testConnType.setConnectorProviderClassName("org.odpi.openmetadata.frameworks.connectors.UnknownConnectorProvider");
+
+        Connection      testConnection = new Connection();
+
+        testConnection.setQualifiedName("Test.Connection");
+        testConnection.setDisplayName("Test");
+        testConnection.setConnectorType(testConnType);
+
+        for (int i = 0; i < 2; i++)
+        {
+            try
+            {
+                new ConnectorBroker().getConnector(testConnection);
+                assertTrue(false);
+            }
+            catch (Exception exc)
+            {
+                assertTrue(exc.getMessage().contains("UnknownConnectorProvider"));
+            }
+        }
+    }
+}
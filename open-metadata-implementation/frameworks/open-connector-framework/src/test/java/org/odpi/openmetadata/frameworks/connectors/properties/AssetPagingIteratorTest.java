@@ -0,0 +1,88 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors.properties;
+
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * AssetPagingIteratorTest focuses on testing how the iterators size, read ahead and share their caches.
+ */
+public class AssetPagingIteratorTest
+{
+    /**
+     * Test that the caches grow from a small first cache up to the maximum cache size.
+     */
+    @Test public void testAdaptiveCacheSize()
+    {
+        MockRecordingAssetPropertyIterator iterator = new MockRecordingAssetPropertyIterator(null,
+                                                                                             100,
+                                                                                             40);
+
+        int elementCount = 0;
+        while (iterator.hasNext())
+        {
+            assertTrue(iterator.next() != null);
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == 100);
+        assertEquals(iterator.getRequests(), Arrays.asList("0:10", "10:20", "30:40", "70:40"));
+    }
+
+
+    /**
+     * Test that the next cache is retrieved in the background while the current cache is in use.
+     */
+    @Test public void testReadAhead() throws InterruptedException
+    {
+        MockRecordingAssetPropertyIterator iterator = new MockRecordingAssetPropertyIterator(null,
+                                                                                             25,
+                                                                                             10);
+
+        iterator.next();
+
+        for (int i = 0; (i < 500) && (iterator.getRequests().size() < 2); i++)
+        {
+            Thread.sleep(10);
+        }
+
+        assertEquals(iterator.getRequests(), Arrays.asList("0:10", "10:10"));
+        assertTrue(iterator.getThreadNames().get(1).startsWith("AssetPagingIterator-read-ahead-"));
+    }
+
+
+    /**
+     * Test that the first cache is retrieved once for the template and all of its clones.
+     */
+    @Test public void testSharedFirstCache()
+    {
+        MockRecordingAssetPropertyIterator template = new MockRecordingAssetPropertyIterator(null,
+                                                                                             5,
+                                                                                             100);
+
+        template.readAhead();
+
+        for (int clone = 0; clone < 3; clone++)
+        {
+            MockRecordingAssetPropertyIterator iterator = new MockRecordingAssetPropertyIterator(null, template);
+
+            int elementCount = 0;
+            while (iterator.hasNext())
+            {
+                assertTrue(iterator.next() != null);
+                elementCount ++;
+            }
+
+            assertTrue(elementCount == 5);
+        }
+
+        assertEquals(template.getRequests(), Collections.singletonList("0:100"));
+    }
+}
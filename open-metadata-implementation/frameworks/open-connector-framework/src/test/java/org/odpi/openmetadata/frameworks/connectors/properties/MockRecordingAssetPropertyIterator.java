@@ -0,0 +1,103 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.frameworks.connectors.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * MockRecordingAssetPropertyIterator is used to test the requests that the paging iterator makes to the
+ * property server.  It records the start, size and calling thread of each request.
+ */
+public class MockRecordingAssetPropertyIterator extends MockAssetPropertyIterator
+{
+    private static final long     serialVersionUID = 1L;
+
+    private final List<String> requests;
+    private final List<String> threadNames;
+
+
+    /**
+     * Typical Constructor creates an iterator with the supplied list of comments.
+     *
+     * @param parentAsset descriptor of parent asset
+     * @param totalElementCount the total number of elements to process.  A negative value is converted to 0.
+     * @param maxCacheSize maximum number of elements that should be retrieved from the property server and
+     *                     cached in the element list at any one time.  If a number less than one is supplied, 1 is used.
+     */
+    protected MockRecordingAssetPropertyIterator(AssetDescriptor              parentAsset,
+                                                 int                          totalElementCount,
+                                                 int                          maxCacheSize)
+    {
+        super(parentAsset, totalElementCount, maxCacheSize);
+
+        this.requests = new ArrayList<>();
+        this.threadNames = new ArrayList<>();
+    }
+
+
+    /**
+     * Copy/clone constructor.  The clone records its requests in the same lists as the template.
+     *
+     * @param parentAsset descriptor of asset that his property relates to.
+     * @param template iterator to copy
+     */
+    protected MockRecordingAssetPropertyIterator(AssetDescriptor                    parentAsset,
+                                                 MockRecordingAssetPropertyIterator template)
+    {
+        super(parentAsset, template);
+
+        this.requests = template.requests;
+        this.threadNames = template.threadNames;
+    }
+
+
+    /**
+     * Return the requests made so far in the form "start:size".
+     *
+     * @return list of requests
+     */
+    List<String> getRequests()
+    {
+        synchronized (requests)
+        {
+            return new ArrayList<>(requests);
+        }
+    }
+
+
+    /**
+     * Return the names of the threads that made the requests.
+     *
+     * @return list of thread names
+     */
+    List<String> getThreadNames()
+    {
+        synchronized (requests)
+        {
+            return new ArrayList<>(threadNames);
+        }
+    }
+
+
+    /**
+     * Record the request and return the elements.
+     *
+     * @param cacheStartPointer where to start the cache.
+     * @param maximumSize maximum number of elements in the cache.
+     * @return list of elements corresponding to the supplied cache pointers.
+     */
+    @Override
+    protected List<AssetPropertyBase> getCachedList(int  cacheStartPointer,
+                                                    int  maximumSize)
+    {
+        synchronized (requests)
+        {
+            requests.add(cacheStartPointer + ":" + maximumSize);
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        return super.getCachedList(cacheStartPointer, maximumSize);
+    }
+}
@@ -246,7 +246,13 @@ public enum DiscoveryEngineServicesAuditCode implements AuditLogMessageSet
                                         "call to request that the discovery engine calls the Discovery Engine OMAS to refresh the configuration for" +
                                         " the discovery service."),
 
-
+    DISCOVERY_REQUEST_CANCELLED("DISCOVERY-ENGINE-SERVICES-0029",
+                                OMRSAuditLogRecordSeverity.SHUTDOWN,
+                                "The discovery service {0} did not start the analysis of asset {1} with discovery request type {2} because " +
+                                        "discovery engine {3} is shutting down; discovery analysis report {4} is marked as failed",
+                                "The discovery request was waiting for a worker thread when the discovery engine was shut down.  " +
+                                        "The request is discarded.",
+                                "Once the discovery engine is running again, resubmit the discovery request if the analysis is still needed."),
 
     ;
 
@@ -180,6 +180,14 @@ public enum DiscoveryEngineServicesErrorCode implements ExceptionMessageSet
                                      "The discovery engine is not able to run any discovery requests until it is able to retrieve its configuration.",
                                      "Use the configuration interface of the Discovery Engine OMAS to create a definition of at least one discovery" +
                                              " engine."),
+
+    DISCOVERY_ENGINE_BUSY(503,"DISCOVERY-ENGINE-SERVICES-503-001 ",
+             "Discovery engine {0} hosted by discovery server {1} is unable to accept a discovery request for asset {2} because " +
+                                  "its request queue is full",
+                          "The discovery request is not run and an error is returned to the caller.",
+                          "Retry the request once the discovery engine has completed some of its outstanding requests.  If this occurs " +
+                                  "regularly, increase the maxWorkerThreads or maxQueuedRequests properties in the discovery engine " +
+                                  "services configuration for the discovery server."),
     ;
 
 
@@ -29,6 +29,7 @@ public class DiscoveryEngineSummary implements Serializable
     private String                discoveryEngineDescription = null;
     private DiscoveryEngineStatus discoveryEngineStatus      = null;
     private List<String>          discoveryRequestTypes      = null;
+    private DiscoveryEngineWorkload discoveryEngineWorkload    = null;
 
 
     /**
@@ -53,6 +54,7 @@ public class DiscoveryEngineSummary implements Serializable
             discoveryEngineDescription = template.getDiscoveryEngineDescription();
             discoveryEngineStatus = template.getDiscoveryEngineStatus();
             discoveryRequestTypes = template.getDiscoveryRequestTypes();
+            discoveryEngineWorkload = template.getDiscoveryEngineWorkload();
         }
     }
 
@@ -176,6 +178,28 @@ public class DiscoveryEngineSummary implements Serializable
     }
 
 
+    /**
+     * Return the details of the discovery requests that are queued and running in the discovery engine.
+     *
+     * @return workload statistics
+     */
+    public DiscoveryEngineWorkload getDiscoveryEngineWorkload()
+    {
+        return discoveryEngineWorkload;
+    }
+
+
+    /**
+     * Set up the details of the discovery requests that are queued and running in the discovery engine.
+     *
+     * @param discoveryEngineWorkload workload statistics
+     */
+    public void setDiscoveryEngineWorkload(DiscoveryEngineWorkload discoveryEngineWorkload)
+    {
+        this.discoveryEngineWorkload = discoveryEngineWorkload;
+    }
+
+
     /**
      * JSON-style toString
      *
@@ -190,6 +214,7 @@ public class DiscoveryEngineSummary implements Serializable
                 ", discoveryEngineDescription='" + discoveryEngineDescription + '\'' +
                 ", discoveryEngineStatus=" + discoveryEngineStatus +
                 ", discoveryRequestTypes=" + discoveryRequestTypes +
+                ", discoveryEngineWorkload=" + discoveryEngineWorkload +
                 '}';
     }
 
@@ -216,7 +241,8 @@ public class DiscoveryEngineSummary implements Serializable
                 Objects.equals(discoveryEngineGUID, that.discoveryEngineGUID) &&
                 Objects.equals(discoveryEngineDescription, that.discoveryEngineDescription) &&
                 discoveryEngineStatus == that.discoveryEngineStatus &&
-                Objects.equals(discoveryRequestTypes, that.discoveryRequestTypes);
+                Objects.equals(discoveryRequestTypes, that.discoveryRequestTypes) &&
+                Objects.equals(discoveryEngineWorkload, that.discoveryEngineWorkload);
     }
 
 
@@ -228,6 +254,7 @@ public class DiscoveryEngineSummary implements Serializable
    @Override
    public int hashCode()
    {
-       return Objects.hash(discoveryEngineName, discoveryEngineGUID, discoveryEngineDescription, discoveryEngineStatus, discoveryRequestTypes);
+       return Objects.hash(discoveryEngineName, discoveryEngineGUID, discoveryEngineDescription, discoveryEngineStatus, discoveryRequestTypes,
+                           discoveryEngineWorkload);
    }
 }
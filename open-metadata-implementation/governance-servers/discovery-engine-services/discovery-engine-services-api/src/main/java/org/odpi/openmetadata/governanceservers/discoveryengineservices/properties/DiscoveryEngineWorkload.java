@@ -0,0 +1,331 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.governanceservers.discoveryengineservices.properties;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * DiscoveryEngineWorkload describes the discovery requests that are waiting for, or running on, the worker threads
+ * of a discovery engine.  The times are in milliseconds and are averaged over the requests that have completed since
+ * the discovery engine started.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class DiscoveryEngineWorkload implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private int  maxWorkerThreads          = 0;
+    private int  maxQueuedRequests         = 0;
+    private int  activeRequests            = 0;
+    private int  queuedInteractiveRequests = 0;
+    private int  queuedBulkRequests        = 0;
+    private long completedRequests         = 0;
+    private long rejectedRequests          = 0;
+    private long averageQueueTime          = 0;
+    private long averageRunTime            = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public DiscoveryEngineWorkload()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public DiscoveryEngineWorkload(DiscoveryEngineWorkload template)
+    {
+        if (template != null)
+        {
+            maxWorkerThreads = template.getMaxWorkerThreads();
+            maxQueuedRequests = template.getMaxQueuedRequests();
+            activeRequests = template.getActiveRequests();
+            queuedInteractiveRequests = template.getQueuedInteractiveRequests();
+            queuedBulkRequests = template.getQueuedBulkRequests();
+            completedRequests = template.getCompletedRequests();
+            rejectedRequests = template.getRejectedRequests();
+            averageQueueTime = template.getAverageQueueTime();
+            averageRunTime = template.getAverageRunTime();
+        }
+    }
+
+
+    /**
+     * Return the number of worker threads that run discovery requests.
+     *
+     * @return count
+     */
+    public int getMaxWorkerThreads()
+    {
+        return maxWorkerThreads;
+    }
+
+
+    /**
+     * Set up the number of worker threads that run discovery requests.
+     *
+     * @param maxWorkerThreads count
+     */
+    public void setMaxWorkerThreads(int maxWorkerThreads)
+    {
+        this.maxWorkerThreads = maxWorkerThreads;
+    }
+
+
+    /**
+     * Return the maximum number of discovery requests that can wait for a worker thread.
+     *
+     * @return count
+     */
+    public int getMaxQueuedRequests()
+    {
+        return maxQueuedRequests;
+    }
+
+
+    /**
+     * Set up the maximum number of discovery requests that can wait for a worker thread.
+     *
+     * @param maxQueuedRequests count
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests)
+    {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+
+    /**
+     * Return the number of discovery requests that are running.
+     *
+     * @return count
+     */
+    public int getActiveRequests()
+    {
+        return activeRequests;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that are running.
+     *
+     * @param activeRequests count
+     */
+    public void setActiveRequests(int activeRequests)
+    {
+        this.activeRequests = activeRequests;
+    }
+
+
+    /**
+     * Return the number of requests to analyse a single asset that are waiting for a worker thread.
+     * These requests run before the requests from a scan of all assets.
+     *
+     * @return count
+     */
+    public int getQueuedInteractiveRequests()
+    {
+        return queuedInteractiveRequests;
+    }
+
+
+    /**
+     * Set up the number of requests to analyse a single asset that are waiting for a worker thread.
+     *
+     * @param queuedInteractiveRequests count
+     */
+    public void setQueuedInteractiveRequests(int queuedInteractiveRequests)
+    {
+        this.queuedInteractiveRequests = queuedInteractiveRequests;
+    }
+
+
+    /**
+     * Return the number of requests from a scan of all assets that are waiting for a worker thread.
+     *
+     * @return count
+     */
+    public int getQueuedBulkRequests()
+    {
+        return queuedBulkRequests;
+    }
+
+
+    /**
+     * Set up the number of requests from a scan of all assets that are waiting for a worker thread.
+     *
+     * @param queuedBulkRequests count
+     */
+    public void setQueuedBulkRequests(int queuedBulkRequests)
+    {
+        this.queuedBulkRequests = queuedBulkRequests;
+    }
+
+
+    /**
+     * Return the number of discovery requests that have completed.
+     *
+     * @return count
+     */
+    public long getCompletedRequests()
+    {
+        return completedRequests;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that have completed.
+     *
+     * @param completedRequests count
+     */
+    public void setCompletedRequests(long completedRequests)
+    {
+        this.completedRequests = completedRequests;
+    }
+
+
+    /**
+     * Return the number of discovery requests that were rejected because the queue was full.
+     *
+     * @return count
+     */
+    public long getRejectedRequests()
+    {
+        return rejectedRequests;
+    }
+
+
+    /**
+     * Set up the number of discovery requests that were rejected because the queue was full.
+     *
+     * @param rejectedRequests count
+     */
+    public void setRejectedRequests(long rejectedRequests)
+    {
+        this.rejectedRequests = rejectedRequests;
+    }
+
+
+    /**
+     * Return the average time that a completed request waited for a worker thread.
+     *
+     * @return time in milliseconds
+     */
+    public long getAverageQueueTime()
+    {
+        return averageQueueTime;
+    }
+
+
+    /**
+     * Set up the average time that a completed request waited for a worker thread.
+     *
+     * @param averageQueueTime time in milliseconds
+     */
+    public void setAverageQueueTime(long averageQueueTime)
+    {
+        this.averageQueueTime = averageQueueTime;
+    }
+
+
+    /**
+     * Return the average time that a completed request ran for.
+     *
+     * @return time in milliseconds
+     */
+    public long getAverageRunTime()
+    {
+        return averageRunTime;
+    }
+
+
+    /**
+     * Set up the average time that a completed request ran for.
+     *
+     * @param averageRunTime time in milliseconds
+     */
+    public void setAverageRunTime(long averageRunTime)
+    {
+        this.averageRunTime = averageRunTime;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return description of the object values
+     */
+    @Override
+    public String toString()
+    {
+        return "DiscoveryEngineWorkload{" +
+                "maxWorkerThreads=" + maxWorkerThreads +
+                ", maxQueuedRequests=" + maxQueuedRequests +
+                ", activeRequests=" + activeRequests +
+                ", queuedInteractiveRequests=" + queuedInteractiveRequests +
+                ", queuedBulkRequests=" + queuedBulkRequests +
+                ", completedRequests=" + completedRequests +
+                ", rejectedRequests=" + rejectedRequests +
+                ", averageQueueTime=" + averageQueueTime +
+                ", averageRunTime=" + averageRunTime +
+                '}';
+    }
+
+
+    /**
+     * Compare objects
+     *
+     * @param objectToCompare object
+     * @return boolean
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        DiscoveryEngineWorkload that = (DiscoveryEngineWorkload) objectToCompare;
+        return maxWorkerThreads == that.maxWorkerThreads &&
+                maxQueuedRequests == that.maxQueuedRequests &&
+                activeRequests == that.activeRequests &&
+                queuedInteractiveRequests == that.queuedInteractiveRequests &&
+                queuedBulkRequests == that.queuedBulkRequests &&
+                completedRequests == that.completedRequests &&
+                rejectedRequests == that.rejectedRequests &&
+                averageQueueTime == that.averageQueueTime &&
+                averageRunTime == that.averageRunTime;
+    }
+
+
+    /**
+     * Simple hash for the object
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(maxWorkerThreads, maxQueuedRequests, activeRequests, queuedInteractiveRequests, queuedBulkRequests,
+                            completedRequests, rejectedRequests, averageQueueTime, averageRunTime);
+    }
+}
@@ -37,6 +37,7 @@ public class DiscoveryEngineHandler
     private String                    discoveryEngineGUID         = null;
     private DiscoveryEngineProperties discoveryEngineProperties   = null;
     private DiscoveryServiceCacheMap  discoveryServiceLookupTable = new DiscoveryServiceCacheMap();
+    private DiscoveryEngineWorkerPool workerPool;                  /* Initialized in constructor */
 
     /*
      * Ensure standard discovery services are available to the discovery engines.
@@ -56,6 +57,8 @@ public class DiscoveryEngineHandler
      * @param discoveryEngineClient REST client for direct REST Calls
      * @param auditLog logging destination
      * @param maxPageSize maximum number of results that can be returned in a single request
+     * @param maxWorkerThreads maximum number of discovery requests that run at the same time
+     * @param maxQueuedRequests maximum number of discovery requests that wait for a worker thread
      */
     public DiscoveryEngineHandler(String                       discoveryEngineName,
                                   String                       serverName,
@@ -63,7 +66,9 @@ public class DiscoveryEngineHandler
                                   DiscoveryConfigurationClient configurationClient,
                                   DiscoveryEngineClient        discoveryEngineClient,
                                   AuditLog                     auditLog,
-                                  int                          maxPageSize)
+                                  int                          maxPageSize,
+                                  int                          maxWorkerThreads,
+                                  int                          maxQueuedRequests)
     {
         this.discoveryEngineName = discoveryEngineName;
         this.serverName = serverName;
@@ -72,6 +77,7 @@ public class DiscoveryEngineHandler
         this.discoveryEngineClient = discoveryEngineClient;
         this.auditLog = auditLog;
         this.maxPageSize = maxPageSize;
+        this.workerPool = new DiscoveryEngineWorkerPool(discoveryEngineName, maxWorkerThreads, maxQueuedRequests);
     }
 
 
@@ -115,6 +121,8 @@ public class DiscoveryEngineHandler
             mySummary.setDiscoveryEngineStatus(DiscoveryEngineStatus.RUNNING);
         }
 
+        mySummary.setDiscoveryEngineWorkload(workerPool.getWorkload());
+
         return mySummary;
     }
 
@@ -283,7 +291,16 @@ public class DiscoveryEngineHandler
 
         if (discoveryServiceCache != null)
         {
-            return runDiscoveryService(assetGUID, discoveryRequestType, analysisParameters, annotationTypes, discoveryServiceCache);
+            if (! workerPool.tryReservePlace())
+            {
+                throw new PropertyServerException(DiscoveryEngineServicesErrorCode.DISCOVERY_ENGINE_BUSY.getMessageDefinition(discoveryEngineName,
+                                                                                                                          serverName,
+                                                                                                                          assetGUID),
+                                                  this.getClass().getName(),
+                                                  methodName);
+            }
+
+            return runDiscoveryService(assetGUID, discoveryRequestType, analysisParameters, annotationTypes, discoveryServiceCache, true);
         }
 
         return null;
@@ -331,11 +348,29 @@ public class DiscoveryEngineHandler
                     {
                         if (assetGUID != null)
                         {
+                            /*
+                             * Wait for space in the worker pool so the scan runs at the pace of the discovery services.
+                             * The scan stops if the discovery engine is shut down while it is waiting.
+                             */
+                            try
+                            {
+                                if (! workerPool.reserveBulkPlace())
+                                {
+                                    return;
+                                }
+                            }
+                            catch (InterruptedException error)
+                            {
+                                Thread.currentThread().interrupt();
+                                return;
+                            }
+
                             runDiscoveryService(assetGUID,
                                                 discoveryRequestType,
                                                 analysisParameters,
                                                 annotationTypes,
-                                                discoveryServiceCache);
+                                                discoveryServiceCache,
+                                                false);
                         }
                     }
 
@@ -358,13 +393,15 @@ public class DiscoveryEngineHandler
 
 
     /**
-     * Run an instance of a discovery service in its own thread.
+     * Run an instance of a discovery service on one of the discovery engine's worker threads.  The caller must have
+     * reserved a place in the worker pool.  The place is returned if the request can not be queued.
      *
      * @param assetGUID unique identifier of the asset to analyse
      * @param discoveryRequestType type of discovery
      * @param suppliedAnalysisParameters parameters for the discovery
      * @param annotationTypes types of annotations that can be returned
      * @param discoveryServiceCache factory for discovery services.
+     * @param interactive is this a request for a single asset (true) or part of a scan of all assets (false)
      *
      * @return unique identifier for this request.
      *
@@ -376,9 +413,60 @@ public class DiscoveryEngineHandler
                                        String                discoveryRequestType,
                                        Map<String, String>   suppliedAnalysisParameters,
                                        List<String>          annotationTypes,
-                                       DiscoveryServiceCache discoveryServiceCache) throws InvalidParameterException,
-                                                                                           UserNotAuthorizedException,
-                                                                                           PropertyServerException
+                                       DiscoveryServiceCache discoveryServiceCache,
+                                       boolean               interactive) throws InvalidParameterException,
+                                                                                 UserNotAuthorizedException,
+                                                                                 PropertyServerException
+    {
+        boolean queued = false;
+
+        try
+        {
+            String discoveryReportGUID = this.queueDiscoveryService(assetGUID,
+                                                                     discoveryRequestType,
+                                                                     suppliedAnalysisParameters,
+                                                                     annotationTypes,
+                                                                     discoveryServiceCache,
+                                                                     interactive);
+            queued = true;
+
+            return discoveryReportGUID;
+        }
+        finally
+        {
+            if (! queued)
+            {
+                workerPool.releasePlace(interactive);
+            }
+        }
+    }
+
+
+    /**
+     * Create the discovery analysis report and context for a discovery request and pass it to the worker pool.
+     * If the worker pool does not accept the request, the report is marked as failed.
+     *
+     * @param assetGUID unique identifier of the asset to analyse
+     * @param discoveryRequestType type of discovery
+     * @param suppliedAnalysisParameters parameters for the discovery
+     * @param annotationTypes types of annotations that can be returned
+     * @param discoveryServiceCache factory for discovery services.
+     * @param interactive is this a request for a single asset (true) or part of a scan of all assets (false)
+     *
+     * @return unique identifier for this request.
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException there was a problem detected by the discovery engine.
+     */
+    private String queueDiscoveryService(String                assetGUID,
+                                         String                discoveryRequestType,
+                                         Map<String, String>   suppliedAnalysisParameters,
+                                         List<String>          annotationTypes,
+                                         DiscoveryServiceCache discoveryServiceCache,
+                                         boolean               interactive) throws InvalidParameterException,
+                                                                                   UserNotAuthorizedException,
+                                                                                   PropertyServerException
     {
         Date                creationTime = new Date();
         Map<String, String> analysisParameters = suppliedAnalysisParameters;
@@ -433,8 +521,15 @@ public class DiscoveryEngineHandler
                                                                                       discoveryServiceCache.getNextDiscoveryService(),
                                                                                       discoveryContext,
                                                                                       auditLog);
-        Thread thread = new Thread(discoveryServiceHandler, discoveryServiceCache.getDiscoveryServiceName() + assetGUID + new Date().toString());
-        thread.start();
+        try
+        {
+            workerPool.submit(discoveryServiceHandler, interactive);
+        }
+        catch (RuntimeException error)
+        {
+            discoveryServiceHandler.cancel();
+            throw error;
+        }
 
         return discoveryAnalysisReportClient.getDiscoveryReportGUID();
     }
@@ -548,6 +643,18 @@ public class DiscoveryEngineHandler
 
         discoveryEngineProperties = null;
         discoveryServiceLookupTable.clear();
+
+        /*
+         * The discovery analysis reports for the requests that are still waiting were created when the requests
+         * were queued, so they are marked as failed.
+         */
+        for (Runnable discardedRequest : workerPool.shutdown())
+        {
+            if (discardedRequest instanceof DiscoveryServiceHandler)
+            {
+                ((DiscoveryServiceHandler) discardedRequest).cancel();
+            }
+        }
     }
 
 
@@ -0,0 +1,354 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.discoveryengineservices.handlers;
+
+import org.odpi.openmetadata.governanceservers.discoveryengineservices.properties.DiscoveryEngineWorkload;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DiscoveryEngineWorkerPool runs the discovery requests for a discovery engine on a fixed number of worker threads.
+ * Requests that can not start immediately wait in a queue.  Requests to analyse a single asset (interactive requests)
+ * are taken from the queue before the requests generated by a scan of all assets (bulk requests).
+ *
+ * The number of requests that can be waiting or running is limited.  A caller reserves a place in the pool before
+ * it prepares a request.  Interactive callers are turned away when the pool is full, whereas bulk callers wait for
+ * a place so that a scan of all assets is paced by the rate at which the worker threads complete their requests.
+ * Bulk requests may only hold some of the places.  The rest are kept for interactive requests so that a scan of all
+ * assets does not turn them away.
+ */
+class DiscoveryEngineWorkerPool
+{
+    private static final long workerKeepAliveTime = 60;
+
+    private int                maxWorkerThreads;
+    private int                maxQueuedRequests;
+    private ThreadPoolExecutor executor;
+    private Semaphore          requestPlaces;
+    private Semaphore          bulkRequestPlaces;
+    private volatile boolean   isShutdown = false;
+
+    private AtomicLong         requestSequence           = new AtomicLong(0);
+    private AtomicInteger      activeRequests            = new AtomicInteger(0);
+    private AtomicInteger      queuedInteractiveRequests = new AtomicInteger(0);
+    private AtomicInteger      queuedBulkRequests        = new AtomicInteger(0);
+    private AtomicLong         completedRequests         = new AtomicLong(0);
+    private AtomicLong         rejectedRequests          = new AtomicLong(0);
+    private AtomicLong         totalQueueTime            = new AtomicLong(0);
+    private AtomicLong         totalRunTime              = new AtomicLong(0);
+
+
+    /**
+     * Create the worker pool.  The worker threads are started when requests arrive and stop after a period
+     * of inactivity.  A quarter of the places (at least one) are kept for interactive requests, unless the pool
+     * only has one place.
+     *
+     * @param discoveryEngineName name of the discovery engine - used to name the worker threads
+     * @param maxWorkerThreads number of requests that can run at the same time
+     * @param maxQueuedRequests number of requests that can wait for a worker thread
+     */
+    DiscoveryEngineWorkerPool(String discoveryEngineName,
+                              int    maxWorkerThreads,
+                              int    maxQueuedRequests)
+    {
+        this.maxWorkerThreads = Math.max(maxWorkerThreads, 1);
+        this.maxQueuedRequests = Math.max(maxQueuedRequests, 0);
+
+        int totalPlaces = this.maxWorkerThreads + this.maxQueuedRequests;
+
+        this.requestPlaces = new Semaphore(totalPlaces);
+        this.bulkRequestPlaces = new Semaphore(Math.max(totalPlaces - Math.max(totalPlaces / 4, 1), 1));
+        this.executor = new ThreadPoolExecutor(this.maxWorkerThreads,
+                                               this.maxWorkerThreads,
+                                               workerKeepAliveTime,
+                                               TimeUnit.SECONDS,
+                                               new PriorityBlockingQueue<>(),
+                                               new WorkerThreadFactory(discoveryEngineName));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+
+    /**
+     * Reserve a place in the pool for a request to analyse a single asset.  The caller is not kept waiting.
+     *
+     * @return true if a place is reserved; false if the pool is full or shut down
+     */
+    boolean tryReservePlace()
+    {
+        if ((! isShutdown) && (requestPlaces.tryAcquire()))
+        {
+            return true;
+        }
+
+        rejectedRequests.incrementAndGet();
+        return false;
+    }
+
+
+    /**
+     * Reserve a place in the pool for a request from a scan of all assets.  The caller waits until there is a place
+     * that is not kept for interactive requests.
+     *
+     * @return true if a place is reserved; false if the pool is shut down
+     * @throws InterruptedException the caller was interrupted while waiting for a place
+     */
+    boolean reserveBulkPlace() throws InterruptedException
+    {
+        bulkRequestPlaces.acquire();
+
+        try
+        {
+            requestPlaces.acquire();
+        }
+        catch (InterruptedException error)
+        {
+            bulkRequestPlaces.release();
+            throw error;
+        }
+
+        if (isShutdown)
+        {
+            this.releasePlace(false);
+            return false;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Return a place that was reserved for a request that was not submitted.
+     *
+     * @param interactive was the place reserved for a request for a single asset (true) or for part of a scan of
+     *                    all assets (false)
+     */
+    void releasePlace(boolean interactive)
+    {
+        requestPlaces.release();
+
+        if (! interactive)
+        {
+            bulkRequestPlaces.release();
+        }
+    }
+
+
+    /**
+     * Queue a request to run on a worker thread.  The caller must have reserved a place in the pool, and
+     * returns it if this method throws an exception.
+     *
+     * @param request discovery service handler for the request
+     * @param interactive is this a request for a single asset (true) or part of a scan of all assets (false)
+     */
+    void submit(Runnable request,
+                boolean  interactive)
+    {
+        QueuedRequest queuedRequest = new QueuedRequest(request, interactive);
+
+        this.getQueuedRequestCount(interactive).incrementAndGet();
+
+        try
+        {
+            executor.execute(queuedRequest);
+        }
+        catch (RuntimeException error)
+        {
+            this.getQueuedRequestCount(interactive).decrementAndGet();
+            throw error;
+        }
+    }
+
+
+    /**
+     * Return the statistics for the requests passing through the pool.
+     *
+     * @return workload statistics
+     */
+    DiscoveryEngineWorkload getWorkload()
+    {
+        DiscoveryEngineWorkload workload  = new DiscoveryEngineWorkload();
+        long                    completed = completedRequests.get();
+
+        workload.setMaxWorkerThreads(maxWorkerThreads);
+        workload.setMaxQueuedRequests(maxQueuedRequests);
+        workload.setActiveRequests(activeRequests.get());
+        workload.setQueuedInteractiveRequests(queuedInteractiveRequests.get());
+        workload.setQueuedBulkRequests(queuedBulkRequests.get());
+        workload.setCompletedRequests(completed);
+        workload.setRejectedRequests(rejectedRequests.get());
+
+        if (completed > 0)
+        {
+            workload.setAverageQueueTime(totalQueueTime.get() / completed);
+            workload.setAverageRunTime(totalRunTime.get() / completed);
+        }
+
+        return workload;
+    }
+
+
+    /**
+     * Stop the worker threads once the requests that are running have completed.  Queued requests are removed from
+     * the pool and returned so the caller can record that they will not run.  Callers waiting for a place are
+     * turned away.
+     *
+     * @return requests that were waiting for a worker thread
+     */
+    List<Runnable> shutdown()
+    {
+        List<Runnable> discardedRequests = new ArrayList<>();
+        List<Runnable> queuedRequests    = new ArrayList<>();
+
+        isShutdown = true;
+        executor.shutdown();
+        executor.getQueue().drainTo(queuedRequests);
+
+        for (Runnable queuedRequest : queuedRequests)
+        {
+            QueuedRequest request = (QueuedRequest) queuedRequest;
+
+            this.getQueuedRequestCount(request.interactive).decrementAndGet();
+            this.releasePlace(request.interactive);
+            discardedRequests.add(request.request);
+        }
+
+        /*
+         * Wake any bulk callers that are waiting for a place so they see the pool is shut down.
+         */
+        bulkRequestPlaces.release(maxWorkerThreads + maxQueuedRequests);
+        requestPlaces.release(maxWorkerThreads + maxQueuedRequests);
+
+        return discardedRequests;
+    }
+
+
+    /**
+     * Return the counter of queued requests for the type of request.
+     *
+     * @param interactive is this a request for a single asset (true) or part of a scan of all assets (false)
+     * @return counter
+     */
+    private AtomicInteger getQueuedRequestCount(boolean interactive)
+    {
+        return interactive ? queuedInteractiveRequests : queuedBulkRequests;
+    }
+
+
+    /**
+     * QueuedRequest wraps a discovery request while it is in the pool.  It orders the requests in the queue
+     * and gathers the timings for the statistics.
+     */
+    private class QueuedRequest implements Runnable, Comparable<QueuedRequest>
+    {
+        private Runnable request;
+        private boolean  interactive;
+        private long     sequenceNumber;
+        private long     queueTime;
+
+
+        /**
+         * Constructor records the time the request is queued.
+         *
+         * @param request request to run
+         * @param interactive is this a request for a single asset
+         */
+        QueuedRequest(Runnable request,
+                      boolean  interactive)
+        {
+            this.request = request;
+            this.interactive = interactive;
+            this.sequenceNumber = requestSequence.getAndIncrement();
+            this.queueTime = System.currentTimeMillis();
+        }
+
+
+        /**
+         * Run the request on a worker thread.
+         */
+        @Override
+        public void run()
+        {
+            long startTime = System.currentTimeMillis();
+
+            getQueuedRequestCount(interactive).decrementAndGet();
+            activeRequests.incrementAndGet();
+
+            try
+            {
+                request.run();
+            }
+            finally
+            {
+                activeRequests.decrementAndGet();
+                totalQueueTime.addAndGet(startTime - queueTime);
+                totalRunTime.addAndGet(System.currentTimeMillis() - startTime);
+                completedRequests.incrementAndGet();
+                releasePlace(interactive);
+            }
+        }
+
+
+        /**
+         * Interactive requests run before bulk requests.  Otherwise requests run in the order they arrived.
+         *
+         * @param other request to compare with
+         * @return negative if this request should run first
+         */
+        @Override
+        public int compareTo(QueuedRequest other)
+        {
+            if (this.interactive != other.interactive)
+            {
+                return this.interactive ? -1 : 1;
+            }
+
+            return Long.compare(this.sequenceNumber, other.sequenceNumber);
+        }
+    }
+
+
+    /**
+     * WorkerThreadFactory names the worker threads after the discovery engine.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory
+    {
+        private String        threadNamePrefix;
+        private AtomicInteger threadCount = new AtomicInteger(0);
+
+
+        /**
+         * Constructor
+         *
+         * @param discoveryEngineName name of the discovery engine
+         */
+        WorkerThreadFactory(String discoveryEngineName)
+        {
+            this.threadNamePrefix = discoveryEngineName + ":DiscoveryWorker-";
+        }
+
+
+        /**
+         * Create a new worker thread.
+         *
+         * @param runnable work for the thread
+         * @return thread
+         */
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCount.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
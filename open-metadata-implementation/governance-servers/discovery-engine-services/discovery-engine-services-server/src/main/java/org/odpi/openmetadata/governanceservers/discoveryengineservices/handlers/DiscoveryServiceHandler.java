@@ -131,4 +131,38 @@ public class DiscoveryServiceHandler implements Runnable
             }
         }
     }
+
+
+    /**
+     * Record that the discovery service will not run because the discovery engine is shutting down.  The
+     * discovery analysis report was created when the request was queued, so it is marked as failed.
+     */
+    void cancel()
+    {
+        final String actionDescription = "Cancel the analysis of an Asset";
+
+        try
+        {
+            DiscoveryAnalysisReportStore discoveryReport = discoveryContext.getAnnotationStore().getDiscoveryReport();
+
+            auditLog.logMessage(actionDescription,
+                                DiscoveryEngineServicesAuditCode.DISCOVERY_REQUEST_CANCELLED.getMessageDefinition(discoveryServiceName,
+                                                                                                                  discoveryContext.getAssetGUID(),
+                                                                                                                  assetDiscoveryType,
+                                                                                                                  discoveryEngineProperties.getQualifiedName(),
+                                                                                                                  discoveryReport.getDiscoveryReportGUID()));
+
+            discoveryReport.setDiscoveryRequestStatus(DiscoveryRequestStatus.FAILED);
+        }
+        catch (Throwable statusError)
+        {
+            auditLog.logException(actionDescription,
+                                  DiscoveryEngineServicesAuditCode.EXC_ON_ERROR_STATUS_UPDATE.getMessageDefinition(discoveryEngineProperties.getDisplayName(),
+                                                                                                                   discoveryServiceName,
+                                                                                                                   statusError.getClass().getName(),
+                                                                                                                   statusError.getMessage()),
+                                  statusError.toString(),
+                                  statusError);
+        }
+    }
 }
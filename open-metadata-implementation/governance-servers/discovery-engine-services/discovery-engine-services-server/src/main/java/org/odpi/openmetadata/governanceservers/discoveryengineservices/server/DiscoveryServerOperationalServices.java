@@ -136,7 +136,8 @@ public class DiscoveryServerOperationalServices
             /*
              * Create a discovery handler for each of the discovery engines.
              */
-            Map<String, DiscoveryEngineHandler> discoveryEngineHandlers = this.getDiscoveryEngineHandlers(discoveryEngineNames,
+            Map<String, DiscoveryEngineHandler> discoveryEngineHandlers = this.getDiscoveryEngineHandlers(discoveryEngineServicesConfig,
+                                                                                                          discoveryEngineNames,
                                                                                                           accessServiceRootURL,
                                                                                                           accessServiceServerName,
                                                                                                           configurationClient,
@@ -281,6 +282,7 @@ public class DiscoveryServerOperationalServices
     /**
      * Create the list of discovery engine handlers.
      *
+     * @param discoveryEngineServicesConfig configuration
      * @param discoveryEngineNames list of names for the discovery engines
      * @param accessServiceRootURL URL Root for the Discovery Engine OMAS
      * @param accessServiceServerName Server Name for the Discovery Engine OMAS
@@ -289,11 +291,12 @@ public class DiscoveryServerOperationalServices
      * @return map of discovery engine GUIDs to handlers
      * @throws OMAGConfigurationErrorException problem with config
      */
-    private Map<String, DiscoveryEngineHandler>  getDiscoveryEngineHandlers(List<String>                 discoveryEngineNames,
-                                                                            String                       accessServiceRootURL,
-                                                                            String                       accessServiceServerName,
-                                                                            DiscoveryConfigurationClient configurationClient,
-                                                                            ODFRESTClient                odfRESTClient) throws OMAGConfigurationErrorException
+    private Map<String, DiscoveryEngineHandler>  getDiscoveryEngineHandlers(DiscoveryEngineServicesConfig discoveryEngineServicesConfig,
+                                                                            List<String>                  discoveryEngineNames,
+                                                                            String                        accessServiceRootURL,
+                                                                            String                        accessServiceServerName,
+                                                                            DiscoveryConfigurationClient  configurationClient,
+                                                                            ODFRESTClient                 odfRESTClient) throws OMAGConfigurationErrorException
     {
         final String methodName        = "getDiscoveryEngineHandlers";
 
@@ -334,7 +337,9 @@ public class DiscoveryServerOperationalServices
                                                                              configurationClient,
                                                                              discoveryEngineClient,
                                                                              auditLog,
-                                                                             maxPageSize);
+                                                                             maxPageSize,
+                                                                             discoveryEngineServicesConfig.getMaxWorkerThreads(),
+                                                                             discoveryEngineServicesConfig.getMaxQueuedRequests());
 
                 discoveryEngineHandlers.put(discoveryEngineName, handler);
             }
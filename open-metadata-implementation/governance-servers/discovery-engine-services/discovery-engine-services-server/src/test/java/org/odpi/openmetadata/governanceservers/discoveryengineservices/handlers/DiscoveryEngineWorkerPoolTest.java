@@ -0,0 +1,297 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.discoveryengineservices.handlers;
+
+import org.odpi.openmetadata.governanceservers.discoveryengineservices.properties.DiscoveryEngineWorkload;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Test the places, ordering, shutdown and statistics of the worker pool that runs discovery requests.
+ */
+public class DiscoveryEngineWorkerPoolTest
+{
+    private static final long timeout = 5000;
+
+
+    /**
+     * Bulk requests can not take the places kept for interactive requests.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testInteractivePlacesKept() throws Exception
+    {
+        DiscoveryEngineWorkerPool workerPool = new DiscoveryEngineWorkerPool("TestEngine", 2, 2);
+
+        assertTrue(workerPool.reserveBulkPlace());
+        assertTrue(workerPool.reserveBulkPlace());
+        assertTrue(workerPool.reserveBulkPlace());
+
+        AtomicBoolean bulkPlaceReserved = new AtomicBoolean(false);
+        Thread        bulkCaller        = new Thread(() -> bulkPlaceReserved.set(reserveBulkPlace(workerPool)));
+
+        bulkCaller.start();
+        bulkCaller.join(200);
+        assertTrue(bulkCaller.isAlive());
+
+        assertTrue(workerPool.tryReservePlace());
+        assertFalse(workerPool.tryReservePlace());
+        assertEquals(workerPool.getWorkload().getRejectedRequests(), 1);
+
+        /*
+         * An interactive place that is returned does not let the waiting bulk caller in.
+         */
+        workerPool.releasePlace(true);
+        bulkCaller.join(200);
+        assertTrue(bulkCaller.isAlive());
+
+        workerPool.releasePlace(false);
+        bulkCaller.join(timeout);
+        assertFalse(bulkCaller.isAlive());
+        assertTrue(bulkPlaceReserved.get());
+
+        workerPool.shutdown();
+    }
+
+
+    /**
+     * A pool with a single place lets both types of request use it.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testSinglePlace() throws Exception
+    {
+        DiscoveryEngineWorkerPool workerPool = new DiscoveryEngineWorkerPool("TestEngine", 1, 0);
+
+        assertTrue(workerPool.reserveBulkPlace());
+        assertFalse(workerPool.tryReservePlace());
+
+        workerPool.releasePlace(false);
+        assertTrue(workerPool.tryReservePlace());
+
+        workerPool.shutdown();
+    }
+
+
+    /**
+     * Queued interactive requests run before queued bulk requests.  Otherwise requests run in the order they arrived.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testInteractiveRequestsRunFirst() throws Exception
+    {
+        DiscoveryEngineWorkerPool workerPool      = new DiscoveryEngineWorkerPool("TestEngine", 1, 10);
+        CountDownLatch            workerBlocked   = new CountDownLatch(1);
+        CountDownLatch            releaseWorker   = new CountDownLatch(1);
+        CountDownLatch            allRequestsRun  = new CountDownLatch(4);
+        List<String>              runOrder        = new CopyOnWriteArrayList<>();
+
+        assertTrue(workerPool.tryReservePlace());
+        workerPool.submit(getBlockingRequest("Blocking", runOrder, workerBlocked, releaseWorker, allRequestsRun), true);
+        assertTrue(workerBlocked.await(timeout, TimeUnit.MILLISECONDS));
+
+        assertTrue(workerPool.reserveBulkPlace());
+        workerPool.submit(getRequest("Bulk1", runOrder, allRequestsRun), false);
+        assertTrue(workerPool.reserveBulkPlace());
+        workerPool.submit(getRequest("Bulk2", runOrder, allRequestsRun), false);
+        assertTrue(workerPool.tryReservePlace());
+        workerPool.submit(getRequest("Interactive", runOrder, allRequestsRun), true);
+
+        DiscoveryEngineWorkload workload = workerPool.getWorkload();
+
+        assertEquals(workload.getActiveRequests(), 1);
+        assertEquals(workload.getQueuedBulkRequests(), 2);
+        assertEquals(workload.getQueuedInteractiveRequests(), 1);
+
+        releaseWorker.countDown();
+        assertTrue(allRequestsRun.await(timeout, TimeUnit.MILLISECONDS));
+        assertEquals(runOrder, Arrays.asList("Blocking", "Interactive", "Bulk1", "Bulk2"));
+
+        workerPool.shutdown();
+    }
+
+
+    /**
+     * Shutdown returns the queued requests, and turns away callers, including those waiting for a place.
+     * The running request completes.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testShutdown() throws Exception
+    {
+        DiscoveryEngineWorkerPool workerPool      = new DiscoveryEngineWorkerPool("TestEngine", 1, 2);
+        CountDownLatch            workerBlocked   = new CountDownLatch(1);
+        CountDownLatch            releaseWorker   = new CountDownLatch(1);
+        CountDownLatch            blockingRun     = new CountDownLatch(1);
+        List<String>              runOrder        = new CopyOnWriteArrayList<>();
+        Runnable                  bulkRequest     = getRequest("Bulk", runOrder, new CountDownLatch(1));
+        Runnable                  interactive     = getRequest("Interactive", runOrder, new CountDownLatch(1));
+
+        assertTrue(workerPool.reserveBulkPlace());
+        workerPool.submit(getBlockingRequest("Blocking", runOrder, workerBlocked, releaseWorker, blockingRun), false);
+        assertTrue(workerBlocked.await(timeout, TimeUnit.MILLISECONDS));
+
+        assertTrue(workerPool.reserveBulkPlace());
+        workerPool.submit(bulkRequest, false);
+        assertTrue(workerPool.tryReservePlace());
+        workerPool.submit(interactive, true);
+
+        /*
+         * The bulk places are all in use so this caller waits.
+         */
+        AtomicBoolean bulkPlaceReserved = new AtomicBoolean(true);
+        Thread        bulkCaller        = new Thread(() -> bulkPlaceReserved.set(reserveBulkPlace(workerPool)));
+
+        bulkCaller.start();
+        bulkCaller.join(200);
+        assertTrue(bulkCaller.isAlive());
+
+        List<Runnable> discardedRequests = new ArrayList<>(workerPool.shutdown());
+
+        assertEquals(discardedRequests, Arrays.asList(interactive, bulkRequest));
+
+        bulkCaller.join(timeout);
+        assertFalse(bulkCaller.isAlive());
+        assertFalse(bulkPlaceReserved.get());
+
+        assertFalse(workerPool.tryReservePlace());
+        assertFalse(workerPool.reserveBulkPlace());
+
+        DiscoveryEngineWorkload workload = workerPool.getWorkload();
+
+        assertEquals(workload.getQueuedBulkRequests(), 0);
+        assertEquals(workload.getQueuedInteractiveRequests(), 0);
+
+        releaseWorker.countDown();
+        assertTrue(blockingRun.await(timeout, TimeUnit.MILLISECONDS));
+        assertEquals(runOrder, Arrays.asList("Blocking"));
+    }
+
+
+    /**
+     * The statistics count the completed requests and average their times.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testWorkload() throws Exception
+    {
+        DiscoveryEngineWorkerPool workerPool     = new DiscoveryEngineWorkerPool("TestEngine", 2, 3);
+        CountDownLatch            allRequestsRun = new CountDownLatch(3);
+        List<String>              runOrder       = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 3; i++)
+        {
+            assertTrue(workerPool.reserveBulkPlace());
+            workerPool.submit(getRequest("Bulk" + i, runOrder, allRequestsRun), false);
+        }
+
+        assertTrue(allRequestsRun.await(timeout, TimeUnit.MILLISECONDS));
+
+        DiscoveryEngineWorkload workload = workerPool.getWorkload();
+
+        for (int i = 0; (i < 100) && (workload.getCompletedRequests() < 3); i++)
+        {
+            Thread.sleep(50);
+            workload = workerPool.getWorkload();
+        }
+
+        assertEquals(workload.getMaxWorkerThreads(), 2);
+        assertEquals(workload.getMaxQueuedRequests(), 3);
+        assertEquals(workload.getCompletedRequests(), 3);
+        assertEquals(workload.getActiveRequests(), 0);
+        assertEquals(workload.getRejectedRequests(), 0);
+
+        workerPool.shutdown();
+    }
+
+
+    /**
+     * Reserve a bulk place, treating an interrupt as a failure.
+     *
+     * @param workerPool pool to reserve the place in
+     * @return true if the place was reserved
+     */
+    private boolean reserveBulkPlace(DiscoveryEngineWorkerPool workerPool)
+    {
+        try
+        {
+            return workerPool.reserveBulkPlace();
+        }
+        catch (InterruptedException error)
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Return a request that records that it ran.
+     *
+     * @param name name to record
+     * @param runOrder list of the requests that have run
+     * @param requestRun counted down when the request has run
+     * @return request
+     */
+    private Runnable getRequest(String         name,
+                                List<String>   runOrder,
+                                CountDownLatch requestRun)
+    {
+        return () ->
+        {
+            runOrder.add(name);
+            requestRun.countDown();
+        };
+    }
+
+
+    /**
+     * Return a request that holds its worker thread until it is released.
+     *
+     * @param name name to record
+     * @param runOrder list of the requests that have run
+     * @param workerBlocked counted down when the request starts
+     * @param releaseWorker awaited by the request
+     * @param requestRun counted down when the request has run
+     * @return request
+     */
+    private Runnable getBlockingRequest(String         name,
+                                        List<String>   runOrder,
+                                        CountDownLatch workerBlocked,
+                                        CountDownLatch releaseWorker,
+                                        CountDownLatch requestRun)
+    {
+        return () ->
+        {
+            runOrder.add(name);
+            workerBlocked.countDown();
+
+            try
+            {
+                releaseWorker.await(timeout, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            requestRun.countDown();
+        };
+    }
+}
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.governanceservers.openlineage.buffergraph;
 
 import org.odpi.openmetadata.accessservices.assetlineage.event.LineageEvent;
 import org.odpi.openmetadata.governanceservers.openlineage.OpenLineageGraphConnector;
+import org.odpi.openmetadata.governanceservers.openlineage.model.BufferGraphStatistics;
 
 public interface BufferGraph extends OpenLineageGraphConnector {
 
@@ -29,10 +30,19 @@ public interface BufferGraph extends OpenLineageGraphConnector {
     void deleteEntity(String guid);
 
     /**
-     * Task that the scheduler performs based on the interval
+     * Task that the scheduler performs based on the interval.  Only the processes that have changed since the
+     * previous run are mapped to the main graph.
      */
     void schedulerTask();
 
+    /**
+     * Returns the progress of mapping the changed processes to the main graph: how many have been mapped, how many
+     * are waiting or retrying, which ones have been quarantined and how long the oldest change has been waiting.
+     *
+     * @return statistics of the mapping
+     */
+    BufferGraphStatistics getMappingStatistics();
+
     void setMainGraph(Object mainGraph);
 
 }
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.governanceservers.openlineage.buffergraph;
 import org.odpi.openmetadata.accessservices.assetlineage.event.LineageEvent;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
+import org.odpi.openmetadata.governanceservers.openlineage.model.BufferGraphStatistics;
 
 public abstract class BufferGraphConnectorBase extends ConnectorBase implements BufferGraph {
 
@@ -27,6 +28,9 @@ public abstract class BufferGraphConnectorBase extends ConnectorBase implements
     @Override
     public abstract void schedulerTask();
 
+    @Override
+    public abstract BufferGraphStatistics getMappingStatistics();
+
     @Override
     public abstract void setMainGraph(Object mainGraph);
 
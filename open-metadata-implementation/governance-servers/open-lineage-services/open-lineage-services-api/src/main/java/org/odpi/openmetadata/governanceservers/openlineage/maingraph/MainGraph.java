@@ -16,9 +16,12 @@ public interface MainGraph extends OpenLineageGraphConnector {
      * @param guid                   The guid of the node of which the lineage is queried from.
      * @param displayNameMustContain Used to filter out nodes which displayname does not contain this value.
      * @param includeProcesses       Will filter out all processes and subprocesses from the response if false.
+     * @param maxDepth               The maximum number of edges followed away from the queried node, 0 for no limit.
+     * @param maxVertices            The maximum number of nodes visited in each direction, 0 for no limit.
      * @return A subgraph containing all relevant paths, in graphSON format.
      */
-    LineageResponse lineage(Scope scope, String guid, String displayNameMustContain, boolean includeProcesses) throws OpenLineageException;
+    LineageResponse lineage(Scope scope, String guid, String displayNameMustContain, boolean includeProcesses,
+                            int maxDepth, int maxVertices) throws OpenLineageException;
 
     /**
      * Initialize the mainGraph database.
@@ -20,7 +20,8 @@ public abstract class MainGraphConnectorBase extends ConnectorBase implements Ma
      * {@inheritDoc}
      */
     @Override
-    public abstract LineageResponse lineage(Scope scope, String guid, String displayNameMustContain, boolean includeProcesses) throws OpenLineageException;
+    public abstract LineageResponse lineage(Scope scope, String guid, String displayNameMustContain, boolean includeProcesses,
+                                            int maxDepth, int maxVertices) throws OpenLineageException;
 
     /**
      * {@inheritDoc}
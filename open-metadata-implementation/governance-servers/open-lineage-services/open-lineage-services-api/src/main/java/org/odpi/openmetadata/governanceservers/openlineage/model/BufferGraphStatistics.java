@@ -0,0 +1,114 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.openlineage.model;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+import java.util.List;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * The progress of the buffer graph in mapping the processes that have changed to the main graph.
+ */
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonTypeInfo(
+        use = JsonTypeInfo.Id.NAME,
+        include = JsonTypeInfo.As.PROPERTY,
+        property = "class"
+)
+public class BufferGraphStatistics {
+
+    private long mappedProcessCount;
+    private int pendingProcessCount;
+    private int retryingProcessCount;
+    private List<String> quarantinedProcesses;
+    private long mappingLag;
+
+    public BufferGraphStatistics() {
+    }
+
+    /**
+     * Return the number of processes that have been mapped to the main graph since the connector started.
+     *
+     * @return count of processes
+     */
+    public long getMappedProcessCount() {
+        return mappedProcessCount;
+    }
+
+    public void setMappedProcessCount(long mappedProcessCount) {
+        this.mappedProcessCount = mappedProcessCount;
+    }
+
+    /**
+     * Return the number of changed processes waiting to be mapped to the main graph, including those waiting
+     * to be retried.
+     *
+     * @return count of processes
+     */
+    public int getPendingProcessCount() {
+        return pendingProcessCount;
+    }
+
+    public void setPendingProcessCount(int pendingProcessCount) {
+        this.pendingProcessCount = pendingProcessCount;
+    }
+
+    /**
+     * Return the number of processes that failed to map and are waiting to be retried.
+     *
+     * @return count of processes
+     */
+    public int getRetryingProcessCount() {
+        return retryingProcessCount;
+    }
+
+    public void setRetryingProcessCount(int retryingProcessCount) {
+        this.retryingProcessCount = retryingProcessCount;
+    }
+
+    /**
+     * Return the unique identifiers of the processes that failed to map too many times and are no longer retried
+     * until a lineage event changes them.
+     *
+     * @return list of process guids
+     */
+    public List<String> getQuarantinedProcesses() {
+        return quarantinedProcesses;
+    }
+
+    public void setQuarantinedProcesses(List<String> quarantinedProcesses) {
+        this.quarantinedProcesses = quarantinedProcesses;
+    }
+
+    /**
+     * Return the time that the oldest change waiting to be mapped to the main graph has been waiting.
+     *
+     * @return lag in milliseconds, 0 if there are no changes waiting
+     */
+    public long getMappingLag() {
+        return mappingLag;
+    }
+
+    public void setMappingLag(long mappingLag) {
+        this.mappingLag = mappingLag;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferGraphStatistics{" +
+                "mappedProcessCount=" + mappedProcessCount +
+                ", pendingProcessCount=" + pendingProcessCount +
+                ", retryingProcessCount=" + retryingProcessCount +
+                ", quarantinedProcesses=" + quarantinedProcesses +
+                ", mappingLag=" + mappingLag +
+                '}';
+    }
+}
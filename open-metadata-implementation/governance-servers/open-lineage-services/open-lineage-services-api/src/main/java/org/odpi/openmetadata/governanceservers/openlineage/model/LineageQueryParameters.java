@@ -23,6 +23,8 @@ public class LineageQueryParameters {
     private Scope scope;
     private String displayNameMustContain;
     private boolean includeProcesses;
+    private int maxDepth;
+    private int maxVertices;
 
     public LineageQueryParameters() {
     }
@@ -33,6 +35,12 @@ public class LineageQueryParameters {
         this.includeProcesses = includeProcesses;
     }
 
+    public LineageQueryParameters(Scope scope, String displayNameMustContain, boolean includeProcesses, int maxDepth, int maxVertices) {
+        this(scope, displayNameMustContain, includeProcesses);
+        this.maxDepth = maxDepth;
+        this.maxVertices = maxVertices;
+    }
+
     public Scope getScope() {
         return scope;
     }
@@ -57,12 +65,40 @@ public class LineageQueryParameters {
         this.includeProcesses = includeProcesses;
     }
 
+    /**
+     * Return the maximum number of edges that the lineage query follows away from the queried node.
+     *
+     * @return depth limit, 0 means no limit
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Return the maximum number of nodes that the lineage query visits in each direction.
+     *
+     * @return vertex limit, 0 means no limit
+     */
+    public int getMaxVertices() {
+        return maxVertices;
+    }
+
+    public void setMaxVertices(int maxVertices) {
+        this.maxVertices = maxVertices;
+    }
+
     @Override
     public String toString() {
         return "LineageQueryParams{" +
                 "scope=" + scope +
                 ", displayNameMustContain='" + displayNameMustContain + '\'' +
                 ", includeProcesses=" + includeProcesses +
+                ", maxDepth=" + maxDepth +
+                ", maxVertices=" + maxVertices +
                 '}';
     }
 }
@@ -0,0 +1,40 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.governanceservers.openlineage.responses;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import org.odpi.openmetadata.commonservices.ffdc.rest.FFDCResponseBase;
+import org.odpi.openmetadata.governanceservers.openlineage.model.BufferGraphStatistics;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+@JsonAutoDetect(getterVisibility = PUBLIC_ONLY, setterVisibility = PUBLIC_ONLY, fieldVisibility = NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonTypeInfo(
+        use = JsonTypeInfo.Id.NAME,
+        include = JsonTypeInfo.As.PROPERTY,
+        property = "class"
+)
+public class BufferGraphStatisticsResponse extends FFDCResponseBase {
+
+    public BufferGraphStatisticsResponse(){}
+
+    private BufferGraphStatistics bufferGraphStatistics;
+
+    public BufferGraphStatisticsResponse(BufferGraphStatistics bufferGraphStatistics) {
+        this.bufferGraphStatistics = bufferGraphStatistics;
+    }
+
+    public BufferGraphStatistics getBufferGraphStatistics() {
+        return bufferGraphStatistics;
+    }
+
+    public void setBufferGraphStatistics(BufferGraphStatistics bufferGraphStatistics) {
+        this.bufferGraphStatistics = bufferGraphStatistics;
+    }
+}
@@ -101,7 +101,7 @@ public class OpenLineageServerOperationalServices {
         this.inTopicConnector = (OpenMetadataTopicConnector) getConnector(inTopicConnection, OpenLineageServerErrorCode.ERROR_OBTAINING_IN_TOPIC_CONNECTOR, OpenLineageServerAuditCode.ERROR_OBTAINING_IN_TOPIC_CONNECTOR);
 
         initializeAndStartConnectors();
-        OpenLineageHandler openLineageHandler = new OpenLineageHandler(mainGraphConnector);
+        OpenLineageHandler openLineageHandler = new OpenLineageHandler(mainGraphConnector, bufferGraphConnector);
 
         this.openLineageServerInstance = new
                 OpenLineageServerInstance(
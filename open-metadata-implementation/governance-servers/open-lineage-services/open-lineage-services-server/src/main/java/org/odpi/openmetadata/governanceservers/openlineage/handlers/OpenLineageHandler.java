@@ -2,17 +2,21 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.governanceservers.openlineage.handlers;
 
+import org.odpi.openmetadata.governanceservers.openlineage.buffergraph.BufferGraph;
 import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
 import org.odpi.openmetadata.governanceservers.openlineage.maingraph.MainGraph;
+import org.odpi.openmetadata.governanceservers.openlineage.model.BufferGraphStatistics;
 import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
 import org.odpi.openmetadata.governanceservers.openlineage.responses.LineageResponse;
 
 public class OpenLineageHandler {
 
     private MainGraph mainGraph;
+    private BufferGraph bufferGraph;
 
-    public OpenLineageHandler(MainGraph mainGraph) {
+    public OpenLineageHandler(MainGraph mainGraph, BufferGraph bufferGraph) {
         this.mainGraph = mainGraph;
+        this.bufferGraph = bufferGraph;
     }
 
     /**
@@ -22,10 +26,13 @@ public class OpenLineageHandler {
      * @param guid                   The guid of the node of which the lineage is queried from.
      * @param displayNameMustContain
      * @param includeProcesses
+     * @param maxDepth               The maximum number of edges followed away from the queried node, 0 for no limit.
+     * @param maxVertices            The maximum number of nodes visited in each direction, 0 for no limit.
      * @return A subgraph containing all relevant paths, in graphSON format.
      */
-    public LineageResponse lineage(Scope scope, String guid, String displayNameMustContain, boolean includeProcesses) throws OpenLineageException {
-        return mainGraph.lineage(scope, guid, displayNameMustContain, includeProcesses);
+    public LineageResponse lineage(Scope scope, String guid, String displayNameMustContain, boolean includeProcesses,
+                                   int maxDepth, int maxVertices) throws OpenLineageException {
+        return mainGraph.lineage(scope, guid, displayNameMustContain, includeProcesses, maxDepth, maxVertices);
     }
 
     /**
@@ -44,4 +51,13 @@ public class OpenLineageHandler {
         return mainGraph.exportMainGraph();
     }
 
+    /**
+     * Return the progress of mapping the changed processes from the buffer graph to the main graph.
+     *
+     * @return statistics of the mapping
+     */
+    public BufferGraphStatistics getMappingStatistics() {
+        return bufferGraph.getMappingStatistics();
+    }
+
 }
@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.governanceservers.openlineage.ffdc.OpenLineageException;
 import org.odpi.openmetadata.governanceservers.openlineage.handlers.OpenLineageHandler;
 import org.odpi.openmetadata.governanceservers.openlineage.model.Scope;
+import org.odpi.openmetadata.governanceservers.openlineage.responses.BufferGraphStatisticsResponse;
 import org.odpi.openmetadata.governanceservers.openlineage.responses.LineageResponse;
 import org.odpi.openmetadata.governanceservers.openlineage.util.OpenLineageExceptionHandler;
 import org.slf4j.Logger;
@@ -22,7 +23,7 @@ public class OpenLineageRestServices {
 
 
     public LineageResponse lineage(String serverName, String userId, Scope scope, String guid, String displayNameMustContain,
-                                   boolean includeProcesses) {
+                                   boolean includeProcesses, int maxDepth, int maxVertices) {
         LineageResponse response = new LineageResponse();
         final String methodName = "OpenLineageRestServices.lineage";
         final String debugMessage = "An exception occurred during a lineage HTTP request";
@@ -30,7 +31,7 @@ public class OpenLineageRestServices {
             OpenLineageHandler openLineageHandler = instanceHandler.getOpenLineageHandler(userId,
                     serverName,
                     methodName);
-            response = openLineageHandler.lineage(scope, guid, displayNameMustContain, includeProcesses);
+            response = openLineageHandler.lineage(scope, guid, displayNameMustContain, includeProcesses, maxDepth, maxVertices);
         } catch (InvalidParameterException e) {
             openLineageExceptionHandler.captureInvalidParameterException(response, e);
             log.debug(debugMessage, e);
@@ -83,4 +84,24 @@ public class OpenLineageRestServices {
         }
         return response;
     }
+
+    public BufferGraphStatisticsResponse mappingStatistics(String serverName, String userId) {
+        BufferGraphStatisticsResponse response = new BufferGraphStatisticsResponse();
+        final String methodName = "OpenLineageRestServices.mappingStatistics";
+        try {
+            OpenLineageHandler openLineageHandler = instanceHandler.getOpenLineageHandler(userId,
+                    serverName,
+                    methodName);
+            response.setBufferGraphStatistics(openLineageHandler.getMappingStatistics());
+        } catch (InvalidParameterException error) {
+            openLineageExceptionHandler.captureInvalidParameterException(response, error);
+        } catch (org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException error) {
+            openLineageExceptionHandler.capturePropertyServerException(response, error);
+        } catch (UserNotAuthorizedException error) {
+            openLineageExceptionHandler.captureUserNotAuthorizedException(response, error);
+        } catch (Throwable error) {
+            openLineageExceptionHandler.captureThrowable(response, error, methodName);
+        }
+        return response;
+    }
 }
\ No newline at end of file
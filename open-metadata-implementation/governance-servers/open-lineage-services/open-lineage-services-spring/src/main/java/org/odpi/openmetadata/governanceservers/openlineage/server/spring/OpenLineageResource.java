@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.governanceservers.openlineage.model.LineageQueryParameters;
+import org.odpi.openmetadata.governanceservers.openlineage.responses.BufferGraphStatisticsResponse;
 import org.odpi.openmetadata.governanceservers.openlineage.responses.LineageResponse;
 import org.odpi.openmetadata.governanceservers.openlineage.server.OpenLineageRestServices;
 import org.springframework.http.MediaType;
@@ -40,7 +41,8 @@ public class OpenLineageResource {
             @PathVariable("userId") String userId,
             @PathVariable("guid") String guid,
             @RequestBody LineageQueryParameters params) {
-        return restAPI.lineage(serverName, userId, params.getScope(), guid, params.getDisplayNameMustContain(), params.isIncludeProcesses());
+        return restAPI.lineage(serverName, userId, params.getScope(), guid, params.getDisplayNameMustContain(), params.isIncludeProcesses(),
+                params.getMaxDepth(), params.getMaxVertices());
     }
 
     /**
@@ -69,4 +71,17 @@ public class OpenLineageResource {
         return restAPI.exportMainGraph(serverName, userId);
     }
 
+    /**
+     * Return the progress of mapping the changed processes from the buffer graph to the main graph.
+     *
+     * @param userId     calling user.
+     * @param serverName name of the server instance to connect to.
+     * @return The mapped, pending, retrying and quarantined processes and the mapping lag.
+     */
+    @GetMapping(path = "/buffer-graph/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    public BufferGraphStatisticsResponse mappingStatistics(@PathVariable("userId") String userId,
+                                                           @PathVariable("serverName") String serverName) {
+        return restAPI.mappingStatistics(serverName, userId);
+    }
+
 }
@@ -0,0 +1,60 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+
+import java.io.IOException;
+
+/**
+ * OMRSEventCodec converts OMRS events to and from the JSON payloads that are exchanged over the event bus.
+ * Building an ObjectMapper and looking up the serializers for the event beans is expensive compared with
+ * converting a single event, so the codec builds its reader and writer once and shares them between all
+ * of the OMRS topic connectors in the JVM.  ObjectReader and ObjectWriter are immutable and so are safe to
+ * use from many threads at once.
+ */
+class OMRSEventCodec
+{
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final ObjectReader eventReader  = objectMapper.readerFor(OMRSEventBean.class);
+    private static final ObjectWriter eventWriter  = objectMapper.writerFor(OMRSEventV1.class);
+
+
+    /**
+     * Private constructor to prevent instances of the codec being created.
+     */
+    private OMRSEventCodec()
+    {
+    }
+
+
+    /**
+     * Convert an outbound event into its JSON payload.
+     *
+     * @param event event to send
+     * @return JSON string
+     * @throws IOException the event can not be serialized
+     */
+    static String encode(OMRSEventV1 event) throws IOException
+    {
+        return eventWriter.writeValueAsString(event);
+    }
+
+
+    /**
+     * Parse an inbound JSON payload into an event bean.  The type of the bean is taken from the class property
+     * of the payload.
+     *
+     * @param event JSON string
+     * @return event bean
+     * @throws IOException the payload is not a valid OMRS event
+     */
+    static OMRSEventBean decode(String event) throws IOException
+    {
+        return eventReader.readValue(event);
+    }
+}
@@ -6,6 +6,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
@@ -25,7 +29,23 @@ import org.slf4j.LoggerFactory;
  * extend this class to include the interaction with the eventing/messaging layer.
  * <ul>
  *     <li>
- *         For inbound events it should call the protected distributeEvents() method.
+ *         For inbound events it should do one of the following:
+ *         <ul>
+ *             <li>
+ *                 Pass each event to the protected deliverEvent() method as it arrives.  The event is placed on a
+ *                 bounded hand-off queue and the listener thread, which waits on the queue, passes it to the
+ *                 listeners straight away.  If the queue is full, deliverEvent() waits for space.  A connector
+ *                 that delivers all of its events this way should override isPollingRequired() to return false
+ *                 so that the listener thread only wakes up when there is an event.
+ *             </li>
+ *             <li>
+ *                 Call the protected distributeEvent() method from its own threads.
+ *             </li>
+ *             <li>
+ *                 Return them from checkForIncomingEvents(), which the listener thread calls every sleepTime
+ *                 milliseconds.  This is the original polling contract.
+ *             </li>
+ *         </ul>
  *     </li>
  *     <li>
  *         For outbound events, callers will invoke the sendEvent() method.
@@ -46,10 +66,19 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
     private volatile boolean keepRunning = false;
 
-    private List<OpenMetadataTopicListener> topicListeners     = new ArrayList<>();
+    private List<OpenMetadataTopicListener> topicListeners     = new CopyOnWriteArrayList<>();
     private String                          listenerThreadName = defaultThreadName;
     private String                          topicName          = defaultTopicName;
     private int                             sleepTime          = 100;
+    private int                             handOffQueueSize   = 1000;
+    private volatile Thread                 listenerThread     = null;
+
+    private volatile BlockingQueue<IncomingEvent> handOffQueue = new LinkedBlockingQueue<>(handOffQueueSize);
+
+    /*
+     * Placed on the hand-off queue by disconnect() to wake the listener thread.  It is never distributed.
+     */
+    private final IncomingEvent wakeUpEvent = new IncomingEvent(null, null);
 
     protected AuditLog auditLog = null;
 
@@ -82,31 +111,59 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
                             OMRSAuditCode.OPEN_METADATA_TOPIC_LISTENER_START.getMessageDefinition(topicName),
                             this.getConnection().toString());
 
+        boolean pollingRequired = this.isPollingRequired();
+
         while (keepRunning)
         {
             try
             {
-                try
+                /*
+                 * Wait for an event to be handed off.  If the connector also needs polling, the wait ends
+                 * after sleepTime so that checkForIncomingEvents() is called as before.
+                 */
+                IncomingEvent handedOffEvent;
+
+                if (pollingRequired)
+                {
+                    handedOffEvent = handOffQueue.poll(sleepTime, TimeUnit.MILLISECONDS);
+                }
+                else
                 {
-                    List<IncomingEvent> receivedEvents = checkForIncomingEvents();
+                    handedOffEvent = handOffQueue.take();
+                }
 
-                    if ((receivedEvents != null) && (!receivedEvents.isEmpty()))
+                while ((handedOffEvent != null) && (keepRunning))
+                {
+                    if (handedOffEvent != wakeUpEvent)
                     {
-                        for (IncomingEvent event : receivedEvents)
+                        this.distributeEvent(handedOffEvent);
+                    }
+
+                    handedOffEvent = handOffQueue.poll();
+                }
+
+                if (pollingRequired)
+                {
+                    try
+                    {
+                        List<IncomingEvent> receivedEvents = checkForIncomingEvents();
+
+                        if ((receivedEvents != null) && (!receivedEvents.isEmpty()))
                         {
-                            if (event != null)
+                            for (IncomingEvent event : receivedEvents)
                             {
-                                this.distributeEvent(event);
+                                if (event != null)
+                                {
+                                    this.distributeEvent(event);
+                                }
                             }
                         }
                     }
+                    catch (Throwable   error)
+                    {
+                        log.error("Bad exception from checkForEvents", error);
+                    }
                 }
-                catch (Throwable   error)
-                {
-                    log.error("Bad exception from checkForEvents", error);
-                }
-
-                Thread.sleep(sleepTime);
             }
             catch (InterruptedException   wakeUp)
             {
@@ -122,10 +179,11 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
     /**
      * Pass an event that has been received on the topic to each of the registered listeners.
+     * This may be called on several threads at once.
      *
      * @param event OMRSEvent to distribute
      */
-    private void distributeEvent(IncomingEvent event)
+    protected void distributeEvent(IncomingEvent event)
     {
         //Initially clear the async event processing context to ensure that it will only
         //have results from processing this event
@@ -160,6 +218,80 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Hand an event that has been received on the topic to the listener thread, which passes it to the
+     * registered listeners.  The calling thread waits if the hand-off queue is full, checking every sleepTime
+     * milliseconds that the listener thread is still running.  If the listener thread itself delivers an event
+     * (for example because a listener sends an event on this topic) and the queue is full, the event is passed
+     * to the listeners straight away to avoid the thread waiting for itself.
+     *
+     * Events delivered before the connector is started are queued if there is space and distributed once the
+     * listener thread starts.  The handOffQueueSize configuration property is applied at the start, so these
+     * events are moved to a queue of the configured size.  Events that can not be queued before the start, or
+     * that are delivered once the connector is disconnected, are dropped and logged since there is no listener
+     * thread to take them.
+     *
+     * @param event event to distribute
+     */
+    protected void deliverEvent(IncomingEvent event)
+    {
+        if (event != null)
+        {
+            Thread currentListenerThread = listenerThread;
+
+            if (currentListenerThread == null)
+            {
+                if (! handOffQueue.offer(event))
+                {
+                    log.error("Event {} dropped because topic {} is not started and its hand-off queue is full", event.getMessageId(), topicName);
+                }
+            }
+            else if (Thread.currentThread() == currentListenerThread)
+            {
+                if (! handOffQueue.offer(event))
+                {
+                    this.distributeEvent(event);
+                }
+            }
+            else
+            {
+                try
+                {
+                    while (keepRunning && currentListenerThread.isAlive())
+                    {
+                        if (handOffQueue.offer(event, Math.max(sleepTime, 1), TimeUnit.MILLISECONDS))
+                        {
+                            return;
+                        }
+                    }
+
+                    log.error("Event {} dropped because topic {} is disconnected", event.getMessageId(), topicName);
+                }
+                catch (InterruptedException   interrupted)
+                {
+                    log.debug("Interrupted while waiting to deliver event {}", event.getMessageId());
+
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Indicates whether the listener thread needs to call checkForIncomingEvents() to retrieve events.
+     * A connector that passes all of its events to deliverEvent() or distributeEvent() should override this
+     * method to return false.  The listener thread then waits for handed off events without waking up
+     * every sleepTime milliseconds.
+     *
+     * @return boolean
+     */
+    protected boolean isPollingRequired()
+    {
+        return true;
+    }
+
+
     /**
      * Look to see if there is one of more new events to process.
      *
@@ -247,20 +379,109 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
             if (configurationProperties != null)
             {
-                Object   sleepTime = configurationProperties.get("sleepTime");
+                sleepTime = getIntegerProperty(configurationProperties, "sleepTime", sleepTime);
+
+                int   requestedQueueSize = getIntegerProperty(configurationProperties, "handOffQueueSize", handOffQueueSize);
 
-                if (sleepTime instanceof Integer)
+                if (requestedQueueSize <= 0)
+                {
+                    log.error("Ignoring handOffQueueSize value " + requestedQueueSize + " because it is not a positive number.");
+                }
+                else if (requestedQueueSize != handOffQueueSize)
                 {
-                    this.sleepTime = (Integer)sleepTime;
+                    this.resizeHandOffQueue(requestedQueueSize);
                 }
             }
         }
 
-        Thread listenerThread = new Thread(this, listenerThreadName);
+        listenerThread = new Thread(this, listenerThreadName);
         listenerThread.start();
     }
 
 
+    /**
+     * Replace the hand-off queue with one of the requested size.  This is called before the listener thread
+     * starts, so any events delivered before the start are moved to the new queue.  Events that do not fit in
+     * the new queue are dropped and logged, as they would have been if the queue had been this size when they
+     * were delivered.
+     *
+     * @param requestedQueueSize new size of the hand-off queue
+     */
+    private void resizeHandOffQueue(int requestedQueueSize)
+    {
+        BlockingQueue<IncomingEvent> previousQueue = handOffQueue;
+        BlockingQueue<IncomingEvent> newQueue      = new LinkedBlockingQueue<>(requestedQueueSize);
+
+        this.moveQueuedEvents(previousQueue, newQueue);
+
+        handOffQueueSize = requestedQueueSize;
+        handOffQueue = newQueue;
+
+        /*
+         * Pick up any events that were delivered to the previous queue while the new one was being filled.
+         */
+        this.moveQueuedEvents(previousQueue, newQueue);
+    }
+
+
+    /**
+     * Move the events from one hand-off queue to another, dropping those that do not fit.
+     *
+     * @param fromQueue queue to take the events from
+     * @param toQueue queue to add the events to
+     */
+    private void moveQueuedEvents(BlockingQueue<IncomingEvent> fromQueue,
+                                  BlockingQueue<IncomingEvent> toQueue)
+    {
+        IncomingEvent queuedEvent = fromQueue.poll();
+
+        while (queuedEvent != null)
+        {
+            if (! toQueue.offer(queuedEvent))
+            {
+                log.error("Event {} dropped because topic {} has a hand-off queue size of {}", queuedEvent.getMessageId(), topicName, handOffQueueSize);
+            }
+
+            queuedEvent = fromQueue.poll();
+        }
+    }
+
+
+    /**
+     * Return the value of a numeric configuration property.  JSON configuration may supply the value as any
+     * type of number, or as a string.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or not valid
+     * @return property value
+     */
+    private int getIntegerProperty(Map<String, Object> configurationProperties,
+                                   String              propertyName,
+                                   int                 defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).intValue();
+        }
+        else if (propertyValue instanceof String)
+        {
+            try
+            {
+                return Integer.parseInt(((String)propertyValue).trim());
+            }
+            catch (NumberFormatException error)
+            {
+                log.error("Ignoring " + propertyName + " value " + propertyValue + " because it is not a number.");
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      *
@@ -271,5 +492,11 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
         super.disconnect();
 
         keepRunning = false;
+
+        /*
+         * Wake the listener thread if it is waiting for an event.  If the queue is full the listener thread is
+         * busy and will see that it should stop when it has finished with the current event.
+         */
+        handOffQueue.offer(wakeUpEvent);
     }
 }
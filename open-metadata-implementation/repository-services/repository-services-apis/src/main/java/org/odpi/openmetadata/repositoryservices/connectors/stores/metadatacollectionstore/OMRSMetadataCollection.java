@@ -2895,4 +2895,93 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
             }
         }
     }
+
+
+    /**
+     * Save the entities as reference copies.  The id of the home metadata collection is already set up in each
+     * entity.  This method is used when many reference copies arrive together, for example while the cohort is
+     * synchronizing.  If it is not overridden by the repository connector, each entity is saved in turn with
+     * saveEntityReferenceCopy().
+     *
+     * @param userId unique identifier for requesting server.
+     * @param entities details of the entities to save.
+     * @throws InvalidParameterException one of the entities is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for an entity's type.
+     * @throws HomeEntityException one of the entities belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws EntityConflictException a new entity conflicts with an existing entity.
+     * @throws InvalidEntityException a new entity has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveEntityReferenceCopies(String              userId,
+                                          List<EntityDetail>  entities) throws InvalidParameterException,
+                                                                               RepositoryErrorException,
+                                                                               TypeErrorException,
+                                                                               PropertyErrorException,
+                                                                               HomeEntityException,
+                                                                               EntityConflictException,
+                                                                               InvalidEntityException,
+                                                                               FunctionNotSupportedException,
+                                                                               UserNotAuthorizedException
+    {
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                this.saveEntityReferenceCopy(userId, entity);
+            }
+        }
+    }
+
+
+    /**
+     * Save the relationships as reference copies.  The id of the home metadata collection is already set up in each
+     * relationship.  This method is used when many reference copies arrive together, for example while the cohort is
+     * synchronizing.  If it is not overridden by the repository connector, each relationship is saved in turn with
+     * saveRelationshipReferenceCopy().
+     *
+     * @param userId unique identifier for requesting server.
+     * @param relationships relationships to save.
+     * @throws InvalidParameterException one of the relationships is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for a relationship's type.
+     * @throws HomeRelationshipException one of the relationships belongs to the local repository so creating a
+     *                                     reference copy would be invalid.
+     * @throws RelationshipConflictException a new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException a new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveRelationshipReferenceCopies(String              userId,
+                                                List<Relationship>  relationships) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          EntityNotKnownException,
+                                                                                          PropertyErrorException,
+                                                                                          HomeRelationshipException,
+                                                                                          RelationshipConflictException,
+                                                                                          InvalidRelationshipException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                this.saveRelationshipReferenceCopy(userId, relationship);
+            }
+        }
+    }
 }
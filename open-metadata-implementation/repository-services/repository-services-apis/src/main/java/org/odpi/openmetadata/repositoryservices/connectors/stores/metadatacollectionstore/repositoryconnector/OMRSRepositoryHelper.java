@@ -649,6 +649,79 @@ public interface OMRSRepositoryHelper extends OMRSRepositoryPropertiesHelper
                                                                                        PropertyErrorException;
 
 
+    /**
+     * Use a continuation cursor rather than an element number to format the next page of results for a repository
+     * call that returns a list of entity instances.  The results are ordered by the sequencing property and then by
+     * GUID, so a page never repeats or skips an instance that is present in both calls, and only the instances after
+     * the cursor are sequenced.
+     *
+     * @param fullResults - the full list of results in an arbitrary order
+     * @param continuationCursor - cursor returned by getEntityContinuationCursor for the last instance of the
+     *                           previous page.  Null means start from the first element.
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @param pageSize - the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return results array as requested
+     * @throws PagingErrorException the cursor was not created for the same sequencing parameters.
+     */
+    List<EntityDetail>  formatEntityResults(List<EntityDetail> fullResults,
+                                            String             continuationCursor,
+                                            String             sequencingProperty,
+                                            SequencingOrder    sequencingOrder,
+                                            int                pageSize) throws PagingErrorException;
+
+
+    /**
+     * Use a continuation cursor rather than an element number to format the next page of results for a repository
+     * call that returns a list of relationship instances.  The results are ordered by the sequencing property and then
+     * by GUID.
+     *
+     * @param fullResults - the full list of results in an arbitrary order
+     * @param continuationCursor - cursor returned by getRelationshipContinuationCursor for the last instance of the
+     *                           previous page.  Null means start from the first element.
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @param pageSize - the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return results array as requested
+     * @throws PagingErrorException the cursor was not created for the same sequencing parameters.
+     */
+    List<Relationship>  formatRelationshipResults(List<Relationship> fullResults,
+                                                  String             continuationCursor,
+                                                  String             sequencingProperty,
+                                                  SequencingOrder    sequencingOrder,
+                                                  int                pageSize) throws PagingErrorException;
+
+
+    /**
+     * Return the opaque continuation cursor that resumes a search after the supplied entity.
+     *
+     * @param lastEntity - the last entity of the page that has been returned
+     * @param sequencingProperty - String name of the property that is used to sequence the results.
+     * @param sequencingOrder - Enum defining how the results are ordered.
+     * @return cursor to pass on the request for the next page
+     */
+    String  getEntityContinuationCursor(EntityDetail    lastEntity,
+                                        String          sequencingProperty,
+                                        SequencingOrder sequencingOrder);
+
+
+    /**
+     * Return the opaque continuation cursor that resumes a search after the supplied relationship.
+     *
+     * @param lastRelationship - the last relationship of the page that has been returned
+     * @param sequencingProperty - String name of the property that is used to sequence the results.
+     * @param sequencingOrder - Enum defining how the results are ordered.
+     * @return cursor to pass on the request for the next page
+     */
+    String  getRelationshipContinuationCursor(Relationship    lastRelationship,
+                                              String          sequencingProperty,
+                                              SequencingOrder sequencingOrder);
+
+
     /**
      * Retrieve an escaped version of the provided string that can be passed to methods that expect regular expressions,
      * without being interpreted as a regular expression (i.e. the returned string will be interpreted as a literal --
@@ -341,6 +341,22 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                       "The connector will not be able to support access to the open metadata repositories connected via the cohort.",
                       "Review the message to discover why the connector failed to start."),
 
+    ENTERPRISE_REPOSITORY_TIMEOUT("OMRS-AUDIT-0044",
+                      OMRSAuditLogRecordSeverity.ERROR,
+                      "The enterprise OMRS Connector did not receive a response to federated request {0} from the repository with " +
+                                          "metadata collection identifier {1} within {2} milliseconds",
+                      "The results from this repository are omitted from the response to the federated request.  " +
+                                          "The results from the other repositories are returned to the caller.",
+                      "Check the status of the repository.  If it is operating normally, consider increasing the " +
+                                          "repositoryTimeout and queryTimeout configuration properties of the enterprise OMRS connector."),
+
+    ENTERPRISE_PARTIAL_RESULTS("OMRS-AUDIT-0045",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The enterprise OMRS Connector returned partial results to federated request {0}.  {1} repositories " +
+                                          "responded and the repositories with metadata collection identifiers {2} did not respond in time",
+                      "The results returned to the caller do not include any metadata from the repositories that did not respond.",
+                      "Review the preceding OMRS-AUDIT-0044 messages to determine why the repositories did not respond."),
+
     PROCESSING_ARCHIVE("OMRS-AUDIT-0050",
                        OMRSAuditLogRecordSeverity.INFO,
                        "The Open Metadata Repository Services (OMRS) is about to process open metadata archive {0}",
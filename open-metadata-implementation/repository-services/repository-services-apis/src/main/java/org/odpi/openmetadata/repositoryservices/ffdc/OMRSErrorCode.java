@@ -363,6 +363,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The provided subtype {0} is not a subtype of typedef {1}.",
             "The system is unable to process the requested search because the specified subtype is not a known subtype of the provided type.",
             "Review the request payload and ensure that the list of subtypes includes only valid subtypes for the provided entity type."),
+    INVALID_CONTINUATION_CURSOR(400, "OMRS-REPOSITORY-400-080",
+            "The continuation cursor passed on the {0} operation is not valid for sequencing property {1} and sequencing order {2}",
+            "The system is unable to resume the search because the cursor was not returned by a search with the same sequencing parameters.",
+            "Pass the cursor returned by the previous page of the same search, or restart the search without a cursor."),
     NULL_USER_NAME(400, "OMRS-REST-API-400-001",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
             "The system is unable to access the local metadata repository.",
@@ -825,6 +829,14 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The enterprise repository services has detected a repository connector from cohort {0} for metadata collection identifier {1} that has a null metadata collection API object.",
             "There is an internal error in the OMRS Repository Connector implementation.",
             "Raise a Github issue to get this fixed."),
+    FEDERATED_REQUEST_TIMEOUT(503, "OMRS-ENTERPRISE-REPOSITORY-503-004",
+            "The enterprise repository services did not receive a response to request {0} from the repository with metadata collection identifier {1} within {2} milliseconds",
+            "The repository is either slow or unavailable.  The federated request continues with the results from the other repositories.",
+            "Check the status of the repository.  If it is operating normally, consider increasing the repository timeout for the enterprise repository services."),
+    FEDERATED_REQUEST_INTERRUPTED(503, "OMRS-ENTERPRISE-REPOSITORY-503-005",
+            "The enterprise repository services were interrupted while waiting for the repositories to respond to request {0}",
+            "The federated request is abandoned and the requests that are still running in the repositories are cancelled.",
+            "This normally occurs when the server is shutting down.  If it is not, retry the request."),
     NULL_CONTENT_MANAGER(503, "OMRS-LOCAL-REPOSITORY-503-001",
             "A null repository content manager has been passed to one of the local repository's components on method {0}.",
             "There is an internal error in the OMRS Local Repository Connector implementation, or the way it has been initialized.",
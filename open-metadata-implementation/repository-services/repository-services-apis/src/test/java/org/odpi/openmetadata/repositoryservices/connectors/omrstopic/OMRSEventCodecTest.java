@@ -0,0 +1,96 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that OMRSEventCodec produces the same JSON payloads as a newly built ObjectMapper and can
+ * parse them back into events.
+ */
+public class OMRSEventCodecTest
+{
+    /**
+     * Return a new entity event.
+     *
+     * @return event bean
+     */
+    private OMRSEventV1 getTestEvent()
+    {
+        EntityDetail        entity     = new EntityDetail();
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+
+        entity.setGUID("TestGUID");
+        entity.setMetadataCollectionId("TestMetadataCollectionId");
+        entity.setVersion(3L);
+
+        originator.setMetadataCollectionId("TestMetadataCollectionId");
+        originator.setServerName("TestServer");
+
+        OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+
+        instanceEvent.setEventOriginator(originator);
+
+        return instanceEvent.getOMRSEventV1();
+    }
+
+
+    /**
+     * Validate that events survive a round trip through the codec.
+     */
+    @Test public void testRoundTrip()
+    {
+        try
+        {
+            OMRSEventV1 event = getTestEvent();
+            String      json  = OMRSEventCodec.encode(event);
+
+            assertEquals(json, new ObjectMapper().writeValueAsString(event));
+
+            OMRSEventBean eventBean = OMRSEventCodec.decode(json);
+
+            assertTrue(eventBean instanceof OMRSEventV1);
+
+            OMRSInstanceEvent instanceEvent = new OMRSInstanceEvent((OMRSEventV1) eventBean);
+
+            assertEquals(instanceEvent.getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+            assertEquals(instanceEvent.getEntity().getGUID(), "TestGUID");
+            assertEquals(instanceEvent.getEntity().getVersion(), 3L);
+            assertEquals(instanceEvent.getEventOriginator().getServerName(), "TestServer");
+        }
+        catch (Exception exc)
+        {
+            fail("Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate that the codec rejects payloads that are not OMRS events.
+     */
+    @Test public void testInvalidPayload()
+    {
+        try
+        {
+            OMRSEventCodec.decode("{\"class\":\"NotAnOMRSEvent\"}");
+            fail("Invalid payload was parsed");
+        }
+        catch (Exception exc)
+        {
+            /*
+             * Expected
+             */
+        }
+    }
+}
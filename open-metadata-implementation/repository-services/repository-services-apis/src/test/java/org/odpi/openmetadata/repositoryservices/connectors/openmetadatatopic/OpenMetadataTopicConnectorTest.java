@@ -0,0 +1,264 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that events handed to OpenMetadataTopicConnector.deliverEvent() reach the listeners, and that
+ * deliverEvent() does not wait for a listener thread that is not running.
+ */
+public class OpenMetadataTopicConnectorTest
+{
+    private static final long timeout = 5000;
+
+
+    /**
+     * Topic connector that only receives events through deliverEvent().
+     */
+    private static class TestTopicConnector extends OpenMetadataTopicConnector
+    {
+        /**
+         * Pass the event to deliverEvent() as a real connector would when it receives an event.
+         *
+         * @param event event to send
+         */
+        public void sendEvent(String event)
+        {
+            super.deliverEvent(new IncomingEvent(event, event));
+        }
+
+
+        /**
+         * Events are only handed off.
+         *
+         * @return false
+         */
+        @Override
+        protected boolean isPollingRequired()
+        {
+            return false;
+        }
+    }
+
+
+    /**
+     * Create a connector with a hand-off queue of the requested size.
+     *
+     * @param handOffQueueSize size of the hand-off queue as it appears in the configuration properties
+     * @return initialized connector that is not started
+     */
+    private TestTopicConnector getConnector(Object handOffQueueSize)
+    {
+        Endpoint            endpoint                = new Endpoint();
+        Connection          connection              = new Connection();
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        endpoint.setAddress("TestTopic");
+        configurationProperties.put("handOffQueueSize", handOffQueueSize);
+        connection.setEndpoint(endpoint);
+        connection.setConfigurationProperties(configurationProperties);
+
+        TestTopicConnector connector = new TestTopicConnector();
+
+        connector.initialize("TestConnectorInstance", new ConnectionProperties(connection));
+        connector.setAuditLog(new AuditLog(new AuditLogDestination(Collections.emptyMap())
+                                           {
+                                               public void addLogRecord(AuditLogRecord logRecord)
+                                               {
+                                               }
+                                           },
+                                           0,
+                                           "TestTopicConnector",
+                                           "Test topic connector",
+                                           null));
+
+        return connector;
+    }
+
+
+    /**
+     * Send an event on a new thread and wait for the send to complete.
+     *
+     * @param connector connector to send the event to
+     * @param event event to send
+     * @return true if the send completed before the timeout
+     * @throws InterruptedException interrupted while waiting
+     */
+    private boolean sendOnNewThread(TestTopicConnector connector,
+                                    String             event) throws InterruptedException
+    {
+        Thread sender = new Thread(() -> connector.sendEvent(event));
+
+        sender.start();
+        sender.join(timeout);
+
+        return ! sender.isAlive();
+    }
+
+
+    /**
+     * Events delivered while the connector is running, and before it is started, reach the listener.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testDelivery() throws Exception
+    {
+        TestTopicConnector connector = getConnector(10);
+        List<String>       received  = new CopyOnWriteArrayList<>();
+        CountDownLatch     allEvents = new CountDownLatch(2);
+
+        connector.registerListener(event ->
+                                   {
+                                       received.add(event);
+                                       allEvents.countDown();
+                                   });
+
+        connector.sendEvent("Event1");
+        connector.start();
+        connector.sendEvent("Event2");
+
+        assertTrue(allEvents.await(timeout, TimeUnit.MILLISECONDS));
+        assertEquals(received.get(0), "Event1");
+        assertEquals(received.get(1), "Event2");
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * The configured hand-off queue size is applied at the start even if events were queued before it.
+     * Queued events that do not fit in the configured queue are dropped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testQueueSizeAppliedToQueuedEvents() throws Exception
+    {
+        TestTopicConnector connector = getConnector("2");
+        List<String>       received  = new CopyOnWriteArrayList<>();
+        CountDownLatch     twoEvents = new CountDownLatch(2);
+
+        connector.registerListener(event ->
+                                   {
+                                       received.add(event);
+                                       twoEvents.countDown();
+                                   });
+
+        connector.sendEvent("Event1");
+        connector.sendEvent("Event2");
+        connector.sendEvent("Event3");
+        connector.start();
+
+        assertTrue(twoEvents.await(timeout, TimeUnit.MILLISECONDS));
+        Thread.sleep(200);
+        assertEquals(received, Arrays.asList("Event1", "Event2"));
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * An event delivered after the connector is disconnected does not wait for the listener thread,
+     * even if the hand-off queue is full.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testDeliveryAfterDisconnect() throws Exception
+    {
+        TestTopicConnector connector = getConnector(1);
+
+        connector.registerListener(event -> { });
+        connector.start();
+        connector.disconnect();
+
+        assertTrue(sendOnNewThread(connector, "Event1"));
+        assertTrue(sendOnNewThread(connector, "Event2"));
+    }
+
+
+    /**
+     * An event delivered before the connector is started does not wait when the hand-off queue is full.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testDeliveryBeforeStart() throws Exception
+    {
+        TestTopicConnector connector = getConnector(1);
+
+        connector.registerListener(event -> { });
+
+        assertTrue(sendOnNewThread(connector, "Event1"));
+        assertTrue(sendOnNewThread(connector, "Event2"));
+    }
+
+
+    /**
+     * A sender that is waiting for space in the hand-off queue stops waiting when the connector is disconnected.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testWaitingSenderReleasedByDisconnect() throws Exception
+    {
+        TestTopicConnector connector       = getConnector(1);
+        CountDownLatch     listenerBlocked = new CountDownLatch(1);
+        CountDownLatch     releaseListener = new CountDownLatch(1);
+
+        connector.registerListener(event ->
+                                   {
+                                       listenerBlocked.countDown();
+
+                                       try
+                                       {
+                                           releaseListener.await(timeout, TimeUnit.MILLISECONDS);
+                                       }
+                                       catch (InterruptedException interrupted)
+                                       {
+                                           Thread.currentThread().interrupt();
+                                       }
+                                   });
+        connector.start();
+
+        /*
+         * The first event holds up the listener thread and the second fills the queue, so the third waits.
+         */
+        connector.sendEvent("Event1");
+        assertTrue(listenerBlocked.await(timeout, TimeUnit.MILLISECONDS));
+        connector.sendEvent("Event2");
+
+        Thread sender = new Thread(() -> connector.sendEvent("Event3"));
+
+        sender.start();
+        sender.join(200);
+        assertTrue(sender.isAlive());
+
+        connector.disconnect();
+        sender.join(timeout);
+        assertFalse(sender.isAlive());
+
+        releaseListener.countDown();
+    }
+}
@@ -43,6 +43,7 @@ import org.odpi.openmetadata.repositoryservices.rest.server.OMRSRepositoryRESTSe
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -86,6 +87,7 @@ public class OMRSOperationalServices
     private OMRSEnterpriseConnectorManager enterpriseConnectorManager       = null;
     private String                         enterpriseMetadataCollectionId   = null;
     private String                         enterpriseMetadataCollectionName = null;
+    private Map<String, Object>            enterpriseConnectorProperties    = null;
     private OMRSTopicConnector             enterpriseOMRSTopicConnector     = null;
     private LocalOMRSRepositoryConnector   localRepositoryConnector         = null;
     private OMRSArchiveManager             archiveManager                   = null;
@@ -162,7 +164,7 @@ public class OMRSOperationalServices
 
             try
             {
-                Connector connector = connectorProvider.getConnector(new EnterpriseOMRSConnection());
+                Connector connector = connectorProvider.getConnector(new EnterpriseOMRSConnection(enterpriseConnectorProperties));
 
                 EnterpriseOMRSRepositoryConnector omrsRepositoryConnector = (EnterpriseOMRSRepositoryConnector) connector;
 
@@ -658,6 +660,7 @@ public class OMRSOperationalServices
              */
             enterpriseMetadataCollectionId = enterpriseAccessConfig.getEnterpriseMetadataCollectionId();
             enterpriseMetadataCollectionName = enterpriseAccessConfig.getEnterpriseMetadataCollectionName();
+            enterpriseConnectorProperties = enterpriseAccessConfig.getEnterpriseConnectorProperties();
         }
 
         return enterpriseConnectorManager;
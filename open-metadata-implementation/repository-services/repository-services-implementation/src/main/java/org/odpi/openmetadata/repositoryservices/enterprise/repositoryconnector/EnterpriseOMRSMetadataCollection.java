@@ -136,7 +136,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl federationControl = new ParallelFederationControl(userId,
+                                                                            cohortConnectors,
+                                                                            enterpriseParentConnector.getFederationExecutor(),
+                                                                            enterpriseParentConnector.getRepositoryTimeout(),
+                                                                            enterpriseParentConnector.getQueryTimeout(),
+                                                                            methodName);
         GetAllTypesExecutor executor = new GetAllTypesExecutor(userId,
                                                                methodName,
                                                                localMetadataCollectionId,
@@ -1111,7 +1116,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = new ParallelFederationControl(userId,
+                                                                                            cohortConnectors,
+                                                                                            enterpriseParentConnector.getFederationExecutor(),
+                                                                                            enterpriseParentConnector.getRepositoryTimeout(),
+                                                                                            enterpriseParentConnector.getQueryTimeout(),
+                                                                                            methodName);
         GetRelationshipsForEntityExecutor executor          = new GetRelationshipsForEntityExecutor(userId,
                                                                                                     entityGUID,
                                                                                                     relationshipTypeGUID,
@@ -1216,7 +1226,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                 federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                 federationControl = new ParallelFederationControl(userId,
+                                                                                            cohortConnectors,
+                                                                                            enterpriseParentConnector.getFederationExecutor(),
+                                                                                            enterpriseParentConnector.getRepositoryTimeout(),
+                                                                                            enterpriseParentConnector.getQueryTimeout(),
+                                                                                            methodName);
         FindEntitiesByPropertyExecutor    executor          = new FindEntitiesByPropertyExecutor(userId,
                                                                                                  entityTypeGUID,
                                                                                                  matchProperties,
@@ -1291,7 +1306,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl federationControl = new ParallelFederationControl(userId,
+                                                                            cohortConnectors,
+                                                                            enterpriseParentConnector.getFederationExecutor(),
+                                                                            enterpriseParentConnector.getRepositoryTimeout(),
+                                                                            enterpriseParentConnector.getQueryTimeout(),
+                                                                            methodName);
         FindEntitiesExecutor executor       = new FindEntitiesExecutor(userId,
                                                                        entityTypeGUID,
                                                                        entitySubtypeGUIDs,
@@ -1403,7 +1423,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                       federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                       federationControl = new ParallelFederationControl(userId,
+                                                                                                  cohortConnectors,
+                                                                                                  enterpriseParentConnector.getFederationExecutor(),
+                                                                                                  enterpriseParentConnector.getRepositoryTimeout(),
+                                                                                                  enterpriseParentConnector.getQueryTimeout(),
+                                                                                                  methodName);
         FindEntitiesByClassificationExecutor    executor          = new FindEntitiesByClassificationExecutor(userId,
                                                                                                              entityTypeGUID,
                                                                                                              classificationName,
@@ -1510,7 +1535,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId,
+                                                                                              cohortConnectors,
+                                                                                              enterpriseParentConnector.getFederationExecutor(),
+                                                                                              enterpriseParentConnector.getRepositoryTimeout(),
+                                                                                              enterpriseParentConnector.getQueryTimeout(),
+                                                                                              methodName);
         FindEntitiesByPropertyValueExecutor executor          = new FindEntitiesByPropertyValueExecutor(userId,
                                                                                                         entityTypeGUID,
                                                                                                         searchCriteria,
@@ -1727,7 +1757,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl         federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl         federationControl = new ParallelFederationControl(userId,
+                                                                                    cohortConnectors,
+                                                                                    enterpriseParentConnector.getFederationExecutor(),
+                                                                                    enterpriseParentConnector.getRepositoryTimeout(),
+                                                                                    enterpriseParentConnector.getQueryTimeout(),
+                                                                                    methodName);
         FindRelationshipsExecutor executor          = new FindRelationshipsExecutor(userId,
                                                                                     relationshipTypeGUID,
                                                                                     relationshipSubtypeGUIDs,
@@ -1831,7 +1866,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                   federationControl = new ParallelFederationControl(userId,
+                                                                                              cohortConnectors,
+                                                                                              enterpriseParentConnector.getFederationExecutor(),
+                                                                                              enterpriseParentConnector.getRepositoryTimeout(),
+                                                                                              enterpriseParentConnector.getQueryTimeout(),
+                                                                                              methodName);
         FindRelationshipsByPropertyExecutor executor          = new FindRelationshipsByPropertyExecutor(userId,
                                                                                                         relationshipTypeGUID,
                                                                                                         matchProperties,
@@ -1934,7 +1974,12 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
          */
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
-        FederationControl                        federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FederationControl                        federationControl = new ParallelFederationControl(userId,
+                                                                                                   cohortConnectors,
+                                                                                                   enterpriseParentConnector.getFederationExecutor(),
+                                                                                                   enterpriseParentConnector.getRepositoryTimeout(),
+                                                                                                   enterpriseParentConnector.getQueryTimeout(),
+                                                                                                   methodName);
         FindRelationshipsByPropertyValueExecutor executor          = new FindRelationshipsByPropertyValueExecutor(userId,
                                                                                                                   relationshipTypeGUID,
                                                                                                                   searchCriteria,
@@ -22,6 +22,13 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeExcept
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * EnterpriseOMRSRepositoryConnector supports federating calls to multiple metadata repositories.  As a result,
@@ -36,6 +43,17 @@ import java.util.List;
  *     repositories in the connected open metadata repository cohort(s).  It does by registering as an OMRSConnectorConsumer
  *     with the OMRSConnectorManager to be notified when connectors to new open metadata repositories are available.
  * </p>
+ * <p>
+ *     Federated queries are issued to the repositories in parallel using a bounded pool of worker threads.
+ *     The following configuration properties in the connection control the pool and the deadlines of
+ *     each federated query.  They are set from the enterpriseConnectorProperties in the enterprise access
+ *     configuration of the server, and may be numbers or strings:
+ * </p>
+ * <ul>
+ *     <li>maxFederationThreads - maximum number of worker threads (default 10)</li>
+ *     <li>repositoryTimeout - maximum time in milliseconds to wait for a single repository (default 60000)</li>
+ *     <li>queryTimeout - maximum time in milliseconds to wait for all of the repositories (default 120000)</li>
+ * </ul>
  */
 public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector implements OMRSConnectorConsumer
 {
@@ -49,6 +67,11 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
     private String callingServiceName = null;
 
+    private ExecutorService federationExecutor   = null;
+    private int             maxFederationThreads = 10;
+    private long            repositoryTimeout    = 60000;
+    private long            queryTimeout         = 120000;
+
     private static final Logger       log      = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
     /**
@@ -113,6 +136,31 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             auditLog.logMessage(actionDescription, OMRSAuditCode.STARTING_ENTERPRISE_CONNECTOR.getMessageDefinition(callingServiceName));
         }
 
+        if (super.connectionProperties != null)
+        {
+            Map<String, Object> configurationProperties = super.connectionProperties.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                this.maxFederationThreads = (int)getLongProperty(configurationProperties, "maxFederationThreads", maxFederationThreads);
+                this.repositoryTimeout = getLongProperty(configurationProperties, "repositoryTimeout", repositoryTimeout);
+                this.queryTimeout = getLongProperty(configurationProperties, "queryTimeout", queryTimeout);
+            }
+        }
+
+        if (maxFederationThreads > 0)
+        {
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxFederationThreads,
+                                                                   maxFederationThreads,
+                                                                   60,
+                                                                   TimeUnit.SECONDS,
+                                                                   new LinkedBlockingQueue<>(),
+                                                                   new FederationThreadFactory(callingServiceName));
+            threadPool.allowCoreThreadTimeOut(true);
+
+            federationExecutor = threadPool;
+        }
+
         if (connectorManager != null)
         {
             this.connectorConsumerId = connectorManager.registerConnectorConsumer(this);
@@ -149,11 +197,50 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
             connectorManager.unregisterConnectorConsumer(connectorConsumerId);
         }
 
+        if (federationExecutor != null)
+        {
+            federationExecutor.shutdownNow();
+            federationExecutor = null;
+        }
+
         localConnector = null;
         remoteCohortConnectors = new ArrayList<>();
     }
 
 
+    /**
+     * Return the pool of worker threads used to issue federated queries in parallel.
+     *
+     * @return executor service (null if the connector is not started or parallel queries are disabled)
+     */
+    ExecutorService getFederationExecutor()
+    {
+        return federationExecutor;
+    }
+
+
+    /**
+     * Return the maximum time in milliseconds that a federated query waits for a single repository.
+     *
+     * @return milliseconds (zero or less means no limit)
+     */
+    long getRepositoryTimeout()
+    {
+        return repositoryTimeout;
+    }
+
+
+    /**
+     * Return the maximum time in milliseconds that a federated query waits for all of the repositories.
+     *
+     * @return milliseconds (zero or less means no limit)
+     */
+    long getQueryTimeout()
+    {
+        return queryTimeout;
+    }
+
+
     /**
      * Returns the metadata collection to the repository where the supplied instance can be updated, ie its home repository.
      *
@@ -179,6 +266,41 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
                                            methodName);
     }
 
+    /**
+     * Return the value of a numeric configuration property.  JSON configuration may supply the value as any
+     * type of number, or as a string.
+     *
+     * @param configurationProperties configuration properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is missing or not valid
+     * @return property value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).longValue();
+        }
+        else if (propertyValue instanceof String)
+        {
+            try
+            {
+                return Long.parseLong(((String)propertyValue).trim());
+            }
+            catch (NumberFormatException error)
+            {
+                log.error("Ignoring " + propertyName + " value " + propertyValue + " because it is not a number.");
+            }
+        }
+
+        return defaultValue;
+    }
+
+
     /**
      * Returns the connector to the repository where the supplied instance can be updated, ie its home repository.
      *
@@ -519,6 +641,44 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * FederationThreadFactory names the worker threads that issue federated queries and ensures they
+     * do not prevent the server from shutting down.
+     */
+    private static class FederationThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+        private final String        threadHeader;
+
+
+        /**
+         * Constructor takes the name of the service that is using the enterprise connector.
+         *
+         * @param callingServiceName name of the access service
+         */
+        FederationThreadFactory(String callingServiceName)
+        {
+            this.threadHeader = "EnterpriseFederation-" + callingServiceName + "-";
+        }
+
+
+        /**
+         * Create a new worker thread.
+         *
+         * @param runnable work for the thread
+         * @return new thread
+         */
+        public Thread newThread(Runnable runnable)
+        {
+            Thread thread = new Thread(runnable, threadHeader + threadNumber.getAndIncrement());
+
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+
+
     /**
      * FederatedConnector is a private class for storing details of each of the connectors to the repositories
      * in the open metadata repository cohort.
@@ -86,6 +86,11 @@ public class EntityAccumulator extends QueryInstanceAccumulatorBase
     public synchronized void addEntities(List<EntityDetail>   entities,
                                          String               metadataCollectionId)
     {
+        if (! super.acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         if (entities != null)
         {
             for (EntityDetail entity : entities)
@@ -5,9 +5,13 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -23,6 +27,8 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     private int                  responsesRequired  = 0;
     private Map<String, Integer> resultsContributed = new HashMap<>();
     private boolean              resultsReturned = false;
+    private List<String>         timedOutRepositories = new ArrayList<>();
+    private boolean              closed = false;
 
 
     /**
@@ -118,6 +124,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                          metadataCollectionId,
                                               ClassificationErrorException    exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         classificationErrorException = exception;
     }
@@ -132,6 +143,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               EntityNotKnownException    exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         entityNotKnownException = exception;
     }
@@ -147,6 +163,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                           metadataCollectionId,
                                               FunctionNotSupportedException    exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         functionNotSupportedException = exception;
     }
@@ -161,6 +182,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               InvalidParameterException  exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         invalidParameterException = exception;
     }
@@ -175,6 +201,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               PagingErrorException     exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         pagingErrorException = exception;
     }
@@ -189,6 +220,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               PropertyErrorException     exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         propertyErrorException = exception;
     }
@@ -203,6 +239,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                        metadataCollectionId,
                                               RelationshipNotKnownException exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         relationshipNotKnownException = exception;
     }
@@ -217,6 +258,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               RepositoryErrorException   exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         repositoryErrorException = exception;
     }
@@ -231,6 +277,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String               metadataCollectionId,
                                               TypeErrorException   exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         typeErrorException = exception;
     }
@@ -245,11 +296,106 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureException(String                     metadataCollectionId,
                                               UserNotAuthorizedException exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         userNotAuthorizedException = exception;
     }
 
 
+    /**
+     * Record that a repository did not respond within the deadline set for the federated request.
+     * The timeout is saved as a RepositoryErrorException so that it is returned if no other repository
+     * produces results (an error returned by a repository takes precedence).  Otherwise the results from
+     * the other repositories are returned and the missing repository is listed in the timed out repositories.
+     * Any results that the repository returns later are ignored.
+     *
+     * @param metadataCollectionId unique identifier for metadata collection that did not respond
+     * @param timeout time in milliseconds that the request waited for the repository
+     * @param methodName calling method
+     */
+    public synchronized void captureTimeout(String metadataCollectionId,
+                                            long   timeout,
+                                            String methodName)
+    {
+        final String actionDescription = "Federated request timeout";
+
+        /*
+         * The response may have arrived between the end of the wait and this call.
+         */
+        if ((closed) || (resultsContributed.containsKey(metadataCollectionId)))
+        {
+            return;
+        }
+
+        timedOutRepositories.add(metadataCollectionId);
+        setRequestReturned(metadataCollectionId, 0);
+
+        if (repositoryErrorException == null)
+        {
+            repositoryErrorException = new RepositoryErrorException(OMRSErrorCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition(methodName,
+                                                                                                                               metadataCollectionId,
+                                                                                                                               Long.toString(timeout)),
+                                                                    this.getClass().getName(),
+                                                                    methodName);
+        }
+
+        if (auditLog != null)
+        {
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.ENTERPRISE_REPOSITORY_TIMEOUT.getMessageDefinition(methodName,
+                                                                                                  metadataCollectionId,
+                                                                                                  Long.toString(timeout)));
+        }
+    }
+
+
+    /**
+     * Record that the federated request has stopped waiting for the repositories.  Results and exceptions
+     * from requests that are still running are ignored from now on.  If the results are returned to the
+     * caller without the contribution of the repositories that timed out, this is recorded in the audit log
+     * so the response can be identified as partial.
+     *
+     * @param methodName calling method
+     */
+    public synchronized void close(String methodName)
+    {
+        final String actionDescription = "Federated request partial results";
+
+        if (closed)
+        {
+            return;
+        }
+
+        closed = true;
+
+        if ((resultsReturned) && (! timedOutRepositories.isEmpty()) && (auditLog != null))
+        {
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.ENTERPRISE_PARTIAL_RESULTS.getMessageDefinition(methodName,
+                                                                                               Integer.toString(resultsContributed.size() - timedOutRepositories.size()),
+                                                                                               timedOutRepositories.toString()));
+        }
+    }
+
+
+    /**
+     * Return whether results and exceptions from a repository are still accepted.  They are ignored once the
+     * federated request has stopped waiting for the repositories, or the repository has timed out.
+     * The caller must hold the lock on this accumulator.
+     *
+     * @param metadataCollectionId unique identifier for metadata collection that is returning results
+     * @return true if the results should be added
+     */
+    boolean acceptResults(String metadataCollectionId)
+    {
+        return ((! closed) && (! timedOutRepositories.contains(metadataCollectionId)));
+    }
+
+
     /**
      * Save the supplied exception.
      *
@@ -259,6 +405,11 @@ public class QueryAccumulatorBase extends ExceptionAccumulatorBase
     public synchronized void captureGenericException(String     metadataCollectionId,
                                                      Throwable  exception)
     {
+        if (! acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         setRequestReturned(metadataCollectionId, 0);
         anotherException = exception;
     }
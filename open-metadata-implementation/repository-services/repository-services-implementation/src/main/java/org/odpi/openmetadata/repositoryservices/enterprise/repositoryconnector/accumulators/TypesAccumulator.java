@@ -107,6 +107,11 @@ public class TypesAccumulator extends QueryAccumulatorBase
         int numberOrAttributeTypeDefs = 0;
         int numberOfTypeDefs = 0;
 
+        if (! super.acceptResults(metadataCollectionId))
+        {
+            return;
+        }
+
         if (types != null)
         {
             List<AttributeTypeDef> attributeTypeDefs = types.getAttributeTypeDefs();
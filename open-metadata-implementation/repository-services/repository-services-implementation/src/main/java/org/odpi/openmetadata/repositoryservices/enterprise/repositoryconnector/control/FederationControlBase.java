@@ -67,6 +67,30 @@ public abstract class FederationControlBase implements FederationControl
      */
     String validateMetadataCollection(OMRSMetadataCollection cohortMetadataCollection,
                                       String                 methodName) throws RepositoryErrorException
+    {
+        this.validateMetadataCollectionIsNotNull(cohortMetadataCollection, methodName);
+
+        try
+        {
+            return cohortMetadataCollection.getMetadataCollectionId(userId);
+        }
+        catch (RepositoryErrorException error)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Verify that a cohort member's metadata collection is not null.  This check does not call the
+     * repository so it can be made before the request is dispatched to a worker thread.
+     *
+     * @param cohortMetadataCollection metadata collection
+     * @param methodName name of method
+     * @throws RepositoryErrorException null metadata collection
+     */
+    void validateMetadataCollectionIsNotNull(OMRSMetadataCollection cohortMetadataCollection,
+                                             String                 methodName) throws RepositoryErrorException
     {
         /*
          * The cohort metadata collection should not be null.  It is in a real mess if this fails.
@@ -82,14 +106,5 @@ public abstract class FederationControlBase implements FederationControl
                                                this.getClass().getName(),
                                                methodName);
         }
-
-        try
-        {
-            return cohortMetadataCollection.getMetadataCollectionId(userId);
-        }
-        catch (RepositoryErrorException error)
-        {
-            return null;
-        }
     }
 }
@@ -4,22 +4,47 @@ package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.CloneableRepositoryExecutor;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.RepositoryExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * ParallelFederationControl uses multiple worker threads to perform the calls to different systems in parallel.
+ * A clone of the executor is dispatched to each cohort member on the supplied executor service and
+ * the results are gathered in the executor's shared accumulator.
+ *
+ * The wait for each repository is limited by the repository timeout and the wait for all of the
+ * repositories is limited by the query timeout.  Both are measured from the time the query starts to wait,
+ * so a request that is queued behind other requests does not extend the wait.  A repository that does not respond in time is recorded
+ * in the accumulator as timed out and the query continues with the results from the other repositories.
+ * A timeout of zero (or less) means wait indefinitely.
+ *
+ * Once the wait ends, any requests that are still running are cancelled and the accumulator is closed so
+ * late results are ignored.  If the calling thread is interrupted, the query is abandoned.
+ *
+ * If no executor service is supplied, or the executor is not cloneable, the requests are issued
+ * to each repository in turn on the calling thread.
  */
 public class ParallelFederationControl extends FederationControlBase
 {
-    // todo at this point the parallel federation control uses a sequential since the
-    // todo worker threads are not implemented.
+    private ExecutorService federationExecutor;
+    private long            repositoryTimeout;
+    private long            queryTimeout;
 
 
     /**
-     * Constructor for a federated query
+     * Constructor for a federated query that runs on the calling thread.
      *
      * @param userId calling user
      * @param cohortConnectors list of connectors to call
@@ -28,9 +53,33 @@ public class ParallelFederationControl extends FederationControlBase
     public ParallelFederationControl(String                        userId,
                                      List<OMRSRepositoryConnector> cohortConnectors,
                                      String                        methodName)
+    {
+        this(userId, cohortConnectors, null, 0, 0, methodName);
+    }
+
+
+    /**
+     * Constructor for a federated query that issues the requests to the repositories in parallel.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param federationExecutor worker threads for issuing the requests
+     * @param repositoryTimeout maximum time in milliseconds to wait for a single repository
+     * @param queryTimeout maximum time in milliseconds to wait for all of the repositories
+     * @param methodName calling method
+     */
+    public ParallelFederationControl(String                        userId,
+                                     List<OMRSRepositoryConnector> cohortConnectors,
+                                     ExecutorService               federationExecutor,
+                                     long                          repositoryTimeout,
+                                     long                          queryTimeout,
+                                     String                        methodName)
     {
         super(userId, cohortConnectors, methodName);
 
+        this.federationExecutor = federationExecutor;
+        this.repositoryTimeout = repositoryTimeout;
+        this.queryTimeout = queryTimeout;
     }
 
 
@@ -45,17 +94,205 @@ public class ParallelFederationControl extends FederationControlBase
     {
         if (super.cohortConnectors != null)
         {
-            for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+            if ((federationExecutor == null) || (! (executor instanceof CloneableRepositoryExecutor)))
             {
-                if (cohortConnector != null)
+                for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
                 {
-                    OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+                    if (cohortConnector != null)
+                    {
+                        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
 
-                    String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
+                        String metadataCollectionId = this.validateMetadataCollection(metadataCollection, methodName);
 
-                    executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+                        executor.issueRequestToRepository(metadataCollectionId, metadataCollection);
+                    }
                 }
             }
+            else
+            {
+                this.executeCommandInParallel((CloneableRepositoryExecutor)executor);
+            }
+        }
+    }
+
+
+    /**
+     * Dispatch a clone of the executor to each repository and wait for the responses within the deadlines.
+     *
+     * @param executor command to execute
+     * @throws RepositoryErrorException problem with the state of one of the repositories.
+     */
+    private void executeCommandInParallel(CloneableRepositoryExecutor executor) throws RepositoryErrorException
+    {
+        long                   waitStart = System.currentTimeMillis();
+        long                   deadline  = Long.MAX_VALUE;
+        List<FederatedRequest> requests  = new ArrayList<>();
+
+        if (queryTimeout > 0)
+        {
+            deadline = waitStart + queryTimeout;
+        }
+
+        if (repositoryTimeout > 0)
+        {
+            deadline = Math.min(deadline, waitStart + repositoryTimeout);
+        }
+
+        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        {
+            if (cohortConnector != null)
+            {
+                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+                /*
+                 * Validate the metadata collection before any work is dispatched so a badly configured
+                 * connector is reported in the same way as the sequential federation control.
+                 */
+                this.validateMetadataCollectionIsNotNull(metadataCollection, methodName);
+
+                FederatedRequest request = new FederatedRequest(cohortConnector.getMetadataCollectionId(),
+                                                                metadataCollection,
+                                                                executor.getClone());
+
+                try
+                {
+                    request.future = federationExecutor.submit(request);
+                }
+                catch (RejectedExecutionException error)
+                {
+                    /*
+                     * The worker pool is shutting down - issue the request on this thread.
+                     */
+                    request.call();
+                }
+
+                requests.add(request);
+            }
+        }
+
+        try
+        {
+            for (FederatedRequest request : requests)
+            {
+                if (request.future != null)
+                {
+                    this.waitForRequest(request, waitStart, deadline);
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new RepositoryErrorException(OMRSErrorCode.FEDERATED_REQUEST_INTERRUPTED.getMessageDefinition(methodName),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               error);
+        }
+        finally
+        {
+            /*
+             * Requests that are still running (because the wait ended early) are cancelled and any results
+             * they produce from now on are ignored.
+             */
+            for (FederatedRequest request : requests)
+            {
+                if ((request.future != null) && (! request.future.isDone()))
+                {
+                    request.future.cancel(true);
+                }
+            }
+
+            executor.close();
+        }
+    }
+
+
+    /**
+     * Wait for a request to a single repository to complete.  The wait ends at the earlier of the repository's
+     * deadline and the deadline for the query, both measured from the time the query started to wait.
+     *
+     * @param request request to a single repository
+     * @param waitStart time that the query started to wait
+     * @param deadline time that the request must complete by
+     * @throws RepositoryErrorException the metadata collection of the repository is not valid
+     * @throws InterruptedException the calling thread was interrupted while waiting
+     */
+    private void waitForRequest(FederatedRequest request,
+                                long             waitStart,
+                                long             deadline) throws RepositoryErrorException,
+                                                                  InterruptedException
+    {
+        try
+        {
+            if (deadline == Long.MAX_VALUE)
+            {
+                request.future.get();
+            }
+            else
+            {
+                request.future.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+            }
+        }
+        catch (TimeoutException error)
+        {
+            request.future.cancel(true);
+            request.executor.captureTimeout(request.metadataCollectionId, System.currentTimeMillis() - waitStart);
+        }
+        catch (ExecutionException error)
+        {
+            if (error.getCause() instanceof RepositoryErrorException)
+            {
+                throw (RepositoryErrorException)error.getCause();
+            }
+        }
+    }
+
+
+    /**
+     * FederatedRequest is the unit of work submitted to the worker pool for a single repository.
+     */
+    private class FederatedRequest implements Callable<Boolean>
+    {
+        private volatile String                      metadataCollectionId;
+        private          OMRSMetadataCollection      metadataCollection;
+        private          CloneableRepositoryExecutor executor;
+        private          Future<Boolean>             future = null;
+
+
+        /**
+         * Constructor for a request to a single repository.
+         *
+         * @param metadataCollectionId metadata collection id known by the connector (used for reporting timeouts)
+         * @param metadataCollection metadata collection to call
+         * @param executor clone of the executor dedicated to this repository
+         */
+        FederatedRequest(String                      metadataCollectionId,
+                         OMRSMetadataCollection      metadataCollection,
+                         CloneableRepositoryExecutor executor)
+        {
+            this.metadataCollectionId = metadataCollectionId;
+            this.metadataCollection = metadataCollection;
+            this.executor = executor;
+        }
+
+
+        /**
+         * Issue the request to the repository.  This runs on a worker thread.
+         *
+         * @return boolean returned by the executor
+         * @throws RepositoryErrorException the metadata collection is not valid
+         */
+        public Boolean call() throws RepositoryErrorException
+        {
+            String collectionId = validateMetadataCollection(metadataCollection, methodName);
+
+            if (collectionId != null)
+            {
+                metadataCollectionId = collectionId;
+            }
+
+            return ((RepositoryExecutor)executor).issueRequestToRepository(collectionId, metadataCollection);
         }
     }
 }
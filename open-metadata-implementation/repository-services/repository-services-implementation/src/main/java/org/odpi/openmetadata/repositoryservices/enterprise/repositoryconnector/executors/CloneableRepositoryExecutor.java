@@ -14,4 +14,22 @@ public interface CloneableRepositoryExecutor
      * @return clone of this executor
      */
     CloneableRepositoryExecutor getClone();
+
+
+    /**
+     * Record that the request to a repository did not complete within its deadline.  The repository is
+     * recorded in the shared accumulator so the results from the other repositories can still be returned.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection of the repository
+     * @param timeout time in milliseconds that the request waited for the repository
+     */
+    void captureTimeout(String metadataCollectionId,
+                        long   timeout);
+
+
+    /**
+     * Record that the federated request has stopped waiting for the repositories.  Results that arrive
+     * later from requests that are still running are ignored by the shared accumulator.
+     */
+    void close();
 }
@@ -12,12 +12,41 @@ import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.a
  */
 abstract class CloneableRepositoryExecutorBase extends RepositoryExecutorBase implements CloneableRepositoryExecutor
 {
+    private QueryAccumulatorBase queryAccumulator;
+
+
     CloneableRepositoryExecutorBase(String               userId,
                                     String               methodName,
                                     QueryAccumulatorBase accumulator)
     {
         super(userId, methodName);
 
+        this.queryAccumulator = accumulator;
+
         accumulator.registerExecutor();
     }
+
+
+    /**
+     * Record that the request to a repository did not complete within its deadline.  The repository is
+     * recorded in the shared accumulator so the results from the other repositories can still be returned.
+     *
+     * @param metadataCollectionId unique identifier for the metadata collection of the repository
+     * @param timeout time in milliseconds that the request waited for the repository
+     */
+    public void captureTimeout(String metadataCollectionId,
+                               long   timeout)
+    {
+        queryAccumulator.captureTimeout(metadataCollectionId, timeout, methodName);
+    }
+
+
+    /**
+     * Record that the federated request has stopped waiting for the repositories.  Results that arrive
+     * later from requests that are still running are ignored by the shared accumulator.
+     */
+    public void close()
+    {
+        queryAccumulator.close(methodName);
+    }
 }
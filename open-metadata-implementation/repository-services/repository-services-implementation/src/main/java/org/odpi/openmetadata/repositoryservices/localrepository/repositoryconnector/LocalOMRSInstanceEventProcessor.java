@@ -23,7 +23,18 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -32,6 +43,10 @@ import java.util.UUID;
  * It uses the save exchange rule to decide which events to process and which to ignore.
  * Events that are to be processed are converted into reference copies of their respective entities and
  * relationships and stored in the local repository.
+ * <p>
+ * The reference copies from events that create or update an instance are held for a short window and saved in
+ * batches.  Only the latest version of each instance in the window is saved.  Any other instance event causes the
+ * waiting reference copies to be saved first so the order of the changes to an instance is preserved.
  */
 public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor implements OMRSInstanceRetrievalEventProcessor
 {
@@ -48,6 +63,40 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     private OMRSMetadataCollection          localMetadataCollection = null;
     private OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor;
 
+    /*
+     * These are the events that result in a reference copy being saved.  Their instances are batched.
+     */
+    private static final Set<OMRSInstanceEventType> referenceCopyEventTypes = EnumSet.of(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.UNDONE_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RESTORED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.REFRESHED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RETYPED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                                                                                         OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.UNDONE_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.RESTORED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.RE_IDENTIFIED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.RE_HOMED_RELATIONSHIP_EVENT,
+                                                                                         OMRSInstanceEventType.RETYPED_RELATIONSHIP_EVENT);
+
+    /*
+     * The reference copies waiting to be saved, keyed by instance GUID.  A batch window of zero saves each
+     * reference copy as its event arrives.
+     */
+    private long                                                 referenceCopyBatchWindow;
+    private int                                                  referenceCopyBatchSize;
+    private final Map<String, PendingReferenceCopy<EntityDetail>> pendingEntities      = new LinkedHashMap<>();
+    private final Map<String, PendingReferenceCopy<Relationship>> pendingRelationships = new LinkedHashMap<>();
+    private ScheduledExecutorService                             batchTimer           = null;
+    private ScheduledFuture<?>                                   scheduledSave        = null;
+
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
      * the open metadata repository.  The Logger is for standard debug.
@@ -68,6 +117,9 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
      * @param repositoryValidator              helper class for validating instances
      * @param saveExchangeRule                 rule that determines which events to process.
      * @param outboundRepositoryEventProcessor event processor
+     * @param referenceCopyBatchWindow         number of milliseconds that reference copies wait to be saved in a
+     *                                         batch; zero saves each reference copy as its event arrives.
+     * @param referenceCopyBatchSize           maximum number of reference copies in a batch.
      * @param auditLog                         audit log for this component.
      */
     LocalOMRSInstanceEventProcessor(String                          localMetadataCollectionId,
@@ -77,6 +129,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                     OMRSRepositoryValidator         repositoryValidator,
                                     OMRSRepositoryEventExchangeRule saveExchangeRule,
                                     OMRSRepositoryEventProcessor    outboundRepositoryEventProcessor,
+                                    long                            referenceCopyBatchWindow,
+                                    int                             referenceCopyBatchSize,
                                     AuditLog                        auditLog)
     {
         super(localOMRSInstanceEventProcessorName);
@@ -90,6 +144,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         this.repositoryValidator = repositoryValidator;
         this.saveExchangeRule = saveExchangeRule;
         this.outboundRepositoryEventProcessor = outboundRepositoryEventProcessor;
+        this.referenceCopyBatchWindow = referenceCopyBatchWindow;
+        this.referenceCopyBatchSize = referenceCopyBatchSize;
         this.auditLog = auditLog;
 
         if (localConnector != null)
@@ -183,6 +239,14 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
         if ((instanceEventType != null) && (instanceEventOriginator != null))
         {
+            /*
+             * Any waiting reference copies are saved before an event that changes the repository in a different way.
+             */
+            if (! referenceCopyEventTypes.contains(instanceEventType))
+            {
+                this.saveReferenceCopies();
+            }
+
             switch (instanceEventType)
             {
                 case NEW_ENTITY_EVENT:
@@ -2080,7 +2144,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
     /**
-     * Update the reference entity in the local repository if all checks permit.
+     * Validate the reference entity and add it to the reference copies that are waiting to be saved in the local
+     * repository if all checks permit.
      *
      * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
      *                                       local repository, or event mapper name.
@@ -2107,25 +2172,12 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                                 entity,
                                                                 methodName);
 
-            EntityDetail storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
-                                                                              entity.getGUID());
-
-            /*
-             * Verify that the incoming instance is compatible with the stored instance.
-             */
-            if (compareAndValidateReferenceInstance(originatorServerName,
-                                                    entity,
-                                                    storedEntity,
-                                                    methodName))
-            {
-                /*
-                 * Verify that the rules allow the entity to be saved
-                 */
-                if (verifyEventToSave(sourceName, entity))
-                {
-                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
-                }
-            }
+            addReferenceCopy(pendingEntities,
+                             new PendingReferenceCopy<>(sourceName,
+                                                        methodName,
+                                                        originatorMetadataCollectionId,
+                                                        originatorServerName,
+                                                        entity));
         }
         catch (Throwable error)
         {
@@ -2329,7 +2381,8 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
 
 
     /**
-     * Update the reference relationship in the local repository.
+     * Validate the reference relationship and add it to the reference copies that are waiting to be saved in the
+     * local repository.
      *
      * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
      *                                       local repository, or event mapper name.
@@ -2356,11 +2409,12 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                                                 relationship,
                                                                 methodName);
 
-            if (verifyEventToSave(sourceName, relationship))
-            {
-                localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
-                                                                      relationship);
-            }
+            addReferenceCopy(pendingRelationships,
+                             new PendingReferenceCopy<>(sourceName,
+                                                        methodName,
+                                                        originatorMetadataCollectionId,
+                                                        originatorServerName,
+                                                        relationship));
         }
         catch (Throwable error)
         {
@@ -2372,6 +2426,315 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * Add a reference copy to those waiting to be saved.  If a version of the same instance is already waiting,
+     * only the later version is kept.  The waiting reference copies are saved when the batch is full, or when the
+     * batch window that started with the first of them ends.
+     *
+     * @param pendingReferenceCopies reference copies of the same kind that are waiting to be saved
+     * @param referenceCopy reference copy from the event
+     * @param <T> type of instance
+     */
+    private synchronized <T extends InstanceHeader> void addReferenceCopy(Map<String, PendingReferenceCopy<T>> pendingReferenceCopies,
+                                                                          PendingReferenceCopy<T>              referenceCopy)
+    {
+        T                       instance    = referenceCopy.instance;
+        PendingReferenceCopy<T> waitingCopy = pendingReferenceCopies.get(instance.getGUID());
+
+        if (waitingCopy != null)
+        {
+            if (! Objects.equals(waitingCopy.instance.getCreateTime(), instance.getCreateTime()))
+            {
+                /*
+                 * Two different instances with the same GUID.  They are saved separately so the conflict is detected.
+                 */
+                this.saveReferenceCopies();
+            }
+            else if (waitingCopy.instance.getVersion() > instance.getVersion())
+            {
+                /*
+                 * The events have arrived out of order - the later version is already waiting.
+                 */
+                return;
+            }
+        }
+
+        pendingReferenceCopies.put(instance.getGUID(), referenceCopy);
+
+        if ((referenceCopyBatchWindow <= 0) || (pendingEntities.size() + pendingRelationships.size() >= referenceCopyBatchSize))
+        {
+            this.saveReferenceCopies();
+        }
+        else if (scheduledSave == null)
+        {
+            scheduledSave = getBatchTimer().schedule(this::saveReferenceCopies, referenceCopyBatchWindow, TimeUnit.MILLISECONDS);
+        }
+    }
+
+
+    /**
+     * Save all of the reference copies that are waiting.  The entities are saved before the relationships
+     * that may link them.
+     */
+    private synchronized void saveReferenceCopies()
+    {
+        if (scheduledSave != null)
+        {
+            scheduledSave.cancel(false);
+            scheduledSave = null;
+        }
+
+        if ((pendingEntities.isEmpty()) && (pendingRelationships.isEmpty()))
+        {
+            return;
+        }
+
+        List<PendingReferenceCopy<EntityDetail>> entities      = new ArrayList<>(pendingEntities.values());
+        List<PendingReferenceCopy<Relationship>> relationships = new ArrayList<>(pendingRelationships.values());
+
+        pendingEntities.clear();
+        pendingRelationships.clear();
+
+        log.debug("Saving a batch of " + entities.size() + " entity and " + relationships.size() + " relationship reference copies");
+
+        saveReferenceEntities(entities);
+        saveReferenceRelationships(relationships);
+    }
+
+
+    /**
+     * Validate the entities against the stored reference copies and save those that the rules permit.
+     *
+     * @param entities entities from the events
+     */
+    private void saveReferenceEntities(List<PendingReferenceCopy<EntityDetail>>  entities)
+    {
+        List<PendingReferenceCopy<EntityDetail>> entitiesToSave = new ArrayList<>();
+
+        for (PendingReferenceCopy<EntityDetail> referenceCopy : entities)
+        {
+            try
+            {
+                EntityDetail entity       = referenceCopy.instance;
+                EntityDetail storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
+                                                                                  entity.getGUID());
+
+                /*
+                 * Verify that the incoming instance is compatible with the stored instance and that the rules
+                 * allow the entity to be saved.
+                 */
+                if ((compareAndValidateReferenceInstance(referenceCopy.originatorServerName,
+                                                         entity,
+                                                         storedEntity,
+                                                         referenceCopy.methodName))
+                        && (verifyEventToSave(referenceCopy.sourceName, entity)))
+                {
+                    entitiesToSave.add(referenceCopy);
+                }
+            }
+            catch (Throwable error)
+            {
+                handleUnexpectedErrorFromEvent(error,
+                                               referenceCopy.methodName,
+                                               referenceCopy.originatorServerName,
+                                               referenceCopy.originatorMetadataCollectionId);
+            }
+        }
+
+        if (entitiesToSave.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            List<EntityDetail> batch = new ArrayList<>();
+
+            for (PendingReferenceCopy<EntityDetail> referenceCopy : entitiesToSave)
+            {
+                batch.add(referenceCopy.instance);
+            }
+
+            localMetadataCollection.saveEntityReferenceCopies(localRepositoryConnector.getServerUserId(), batch);
+        }
+        catch (Throwable batchError)
+        {
+            /*
+             * Save the entities one at a time so each error is reported against the event that caused it.
+             */
+            for (PendingReferenceCopy<EntityDetail> referenceCopy : entitiesToSave)
+            {
+                try
+                {
+                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                    referenceCopy.instance);
+                }
+                catch (Throwable error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   referenceCopy.methodName,
+                                                   referenceCopy.originatorServerName,
+                                                   referenceCopy.originatorMetadataCollectionId);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Save the relationships that the rules permit.
+     *
+     * @param relationships relationships from the events
+     */
+    private void saveReferenceRelationships(List<PendingReferenceCopy<Relationship>>  relationships)
+    {
+        List<PendingReferenceCopy<Relationship>> relationshipsToSave = new ArrayList<>();
+
+        for (PendingReferenceCopy<Relationship> referenceCopy : relationships)
+        {
+            try
+            {
+                if (verifyEventToSave(referenceCopy.sourceName, referenceCopy.instance))
+                {
+                    relationshipsToSave.add(referenceCopy);
+                }
+            }
+            catch (Throwable error)
+            {
+                handleUnexpectedErrorFromEvent(error,
+                                               referenceCopy.methodName,
+                                               referenceCopy.originatorServerName,
+                                               referenceCopy.originatorMetadataCollectionId);
+            }
+        }
+
+        if (relationshipsToSave.isEmpty())
+        {
+            return;
+        }
+
+        try
+        {
+            List<Relationship> batch = new ArrayList<>();
+
+            for (PendingReferenceCopy<Relationship> referenceCopy : relationshipsToSave)
+            {
+                batch.add(referenceCopy.instance);
+            }
+
+            localMetadataCollection.saveRelationshipReferenceCopies(localRepositoryConnector.getServerUserId(), batch);
+        }
+        catch (Throwable batchError)
+        {
+            /*
+             * Save the relationships one at a time so each error is reported against the event that caused it.
+             */
+            for (PendingReferenceCopy<Relationship> referenceCopy : relationshipsToSave)
+            {
+                try
+                {
+                    localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
+                                                                          referenceCopy.instance);
+                }
+                catch (Throwable error)
+                {
+                    handleUnexpectedErrorFromEvent(error,
+                                                   referenceCopy.methodName,
+                                                   referenceCopy.originatorServerName,
+                                                   referenceCopy.originatorMetadataCollectionId);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the timer that ends the batch windows.  It is created when it is first needed.
+     *
+     * @return scheduled executor with a single daemon thread
+     */
+    private ScheduledExecutorService getBatchTimer()
+    {
+        if (batchTimer == null)
+        {
+            batchTimer = Executors.newSingleThreadScheduledExecutor(this::newBatchTimerThread);
+        }
+
+        return batchTimer;
+    }
+
+
+    /**
+     * Create the daemon thread for the batch timer so that it does not prevent the server from shutting down.
+     *
+     * @param runnable work for the thread
+     * @return new thread
+     */
+    private Thread newBatchTimerThread(Runnable runnable)
+    {
+        Thread thread = new Thread(runnable, "LocalOMRSInstanceEventProcessor-" + localServerName);
+
+        thread.setDaemon(true);
+
+        return thread;
+    }
+
+
+    /**
+     * Save any waiting reference copies and stop the batch timer.  This is called when the local repository
+     * is disconnected.
+     */
+    synchronized void disconnect()
+    {
+        this.saveReferenceCopies();
+
+        if (batchTimer != null)
+        {
+            batchTimer.shutdown();
+            batchTimer = null;
+        }
+    }
+
+
+    /**
+     * PendingReferenceCopy holds an instance from an event, with the details of the event needed to report
+     * any error, while it waits to be saved.
+     *
+     * @param <T> type of instance
+     */
+    private static class PendingReferenceCopy<T extends InstanceHeader>
+    {
+        private final String sourceName;
+        private final String methodName;
+        private final String originatorMetadataCollectionId;
+        private final String originatorServerName;
+        private final T      instance;
+
+
+        /**
+         * Constructor saves the details of the event.
+         *
+         * @param sourceName name of the source of the event
+         * @param methodName name of the event method
+         * @param originatorMetadataCollectionId unique identifier for the metadata collection that sent the event
+         * @param originatorServerName name of the server that the event came from
+         * @param instance instance to save
+         */
+        PendingReferenceCopy(String sourceName,
+                             String methodName,
+                             String originatorMetadataCollectionId,
+                             String originatorServerName,
+                             T      instance)
+        {
+            this.sourceName = sourceName;
+            this.methodName = methodName;
+            this.originatorMetadataCollectionId = originatorMetadataCollectionId;
+            this.originatorServerName = originatorServerName;
+            this.instance = instance;
+        }
+    }
+
+
     /**
      * Validate that this event processor is correctly initialized.
      *
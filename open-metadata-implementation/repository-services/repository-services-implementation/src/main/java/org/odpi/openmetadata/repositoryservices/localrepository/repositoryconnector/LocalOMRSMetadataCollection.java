@@ -5784,6 +5784,71 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Save the entities as reference copies.  The id of the home metadata collection is already set up in each
+     * entity.  Entities from a future version of the OMRS are ignored.  The remaining entities are passed to the
+     * real repository in a single call.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param entities details of the entities to save
+     * @throws InvalidParameterException one of the entities is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for an entity's type.
+     * @throws HomeEntityException one of the entities belongs to the local repository so creating a reference
+     *                               copy would be invalid.
+     * @throws EntityConflictException a new entity conflicts with an existing entity.
+     * @throws InvalidEntityException a new entity has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveEntityReferenceCopies(String              userId,
+                                          List<EntityDetail>  entities) throws InvalidParameterException,
+                                                                               RepositoryErrorException,
+                                                                               TypeErrorException,
+                                                                               PropertyErrorException,
+                                                                               HomeEntityException,
+                                                                               EntityConflictException,
+                                                                               InvalidEntityException,
+                                                                               FunctionNotSupportedException,
+                                                                               UserNotAuthorizedException
+    {
+        final String  methodName = "saveEntityReferenceCopies";
+        final String  instanceParameterName = "entity";
+
+        if (entities == null)
+        {
+            return;
+        }
+
+        /*
+         * Validate parameters
+         */
+        List<EntityDetail> validEntities = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            super.referenceInstanceParameterValidation(userId, entity, instanceParameterName, methodName);
+
+            if (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION)
+            {
+                validEntities.add(entity);
+            }
+        }
+
+        /*
+         * Save entities
+         */
+        if (! validEntities.isEmpty())
+        {
+            realMetadataCollection.saveEntityReferenceCopies(userId, validEntities);
+        }
+    }
+
+
     /**
      * Remove a reference copy of the the entity from the local repository.  This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
@@ -6067,6 +6132,74 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Save the relationships as reference copies.  The id of the home metadata collection is already set up in each
+     * relationship.  Relationships from a future version of the OMRS are ignored.  The remaining relationships are
+     * passed to the real repository in a single call.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param relationships relationships to save.
+     * @throws InvalidParameterException one of the relationships is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by a relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for a relationship's type.
+     * @throws HomeRelationshipException one of the relationships belongs to the local repository so creating a
+     *                                     reference copy would be invalid.
+     * @throws RelationshipConflictException a new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException a new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveRelationshipReferenceCopies(String              userId,
+                                                List<Relationship>  relationships) throws InvalidParameterException,
+                                                                                          RepositoryErrorException,
+                                                                                          TypeErrorException,
+                                                                                          EntityNotKnownException,
+                                                                                          PropertyErrorException,
+                                                                                          HomeRelationshipException,
+                                                                                          RelationshipConflictException,
+                                                                                          InvalidRelationshipException,
+                                                                                          FunctionNotSupportedException,
+                                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "saveRelationshipReferenceCopies";
+        final String  instanceParameterName = "relationship";
+
+        if (relationships == null)
+        {
+            return;
+        }
+
+        /*
+         * Validate parameters
+         */
+        List<Relationship> validRelationships = new ArrayList<>();
+
+        for (Relationship relationship : relationships)
+        {
+            super.referenceInstanceParameterValidation(userId, relationship, instanceParameterName, methodName);
+
+            if (relationship.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION)
+            {
+                validRelationships.add(relationship);
+            }
+        }
+
+        /*
+         * Save relationships
+         */
+        if (! validRelationships.isEmpty())
+        {
+            realMetadataCollection.saveRelationshipReferenceCopies(userId, validRelationships);
+        }
+    }
+
+
     /**
      * Remove the reference copy of the relationship from the local repository. This method can be used to
      * remove reference copies from the local cohort, repositories that have left the cohort,
@@ -6295,4 +6428,102 @@ public class LocalOMRSMetadataCollection extends OMRSMetadataCollectionBase
                                                                            homeMetadataCollectionId);
 
     }
+
+
+    /**
+     * Save the entities and relationships supplied in the instance graph as reference copies.
+     * The id of the home metadata collection is already set up in the instances.
+     * Any instances from the home metadata collection, or from a future version of the OMRS, are ignored.
+     * The remaining instances are passed to the real repository in a single call so that repositories
+     * that can store many instances at once are able to do so.
+     *
+     * @param userId unique identifier for requesting server.
+     * @param instances instances to save.
+     * @throws InvalidParameterException the relationship is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              EntityNotKnownException,
+                                                                              PropertyErrorException,
+                                                                              EntityConflictException,
+                                                                              RelationshipConflictException,
+                                                                              InvalidEntityException,
+                                                                              InvalidRelationshipException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "saveInstanceReferenceCopies";
+        final String  entityParameterName = "entity";
+        final String  relationshipParameterName = "relationship";
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        /*
+         * Validate parameters
+         */
+        List<EntityDetail> entities = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, entity, entityParameterName, methodName);
+
+                    if (entity.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION)
+                    {
+                        entities.add(entity);
+                    }
+                }
+            }
+        }
+
+        List<Relationship> relationships = new ArrayList<>();
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    super.referenceInstanceParameterValidation(userId, relationship, relationshipParameterName, methodName);
+
+                    if (relationship.getHeaderVersion() <= InstanceAuditHeader.CURRENT_AUDIT_HEADER_VERSION)
+                    {
+                        relationships.add(relationship);
+                    }
+                }
+            }
+        }
+
+        /*
+         * Save instances
+         */
+        InstanceGraph validInstances = new InstanceGraph();
+
+        validInstances.setEntities(entities);
+        validInstances.setRelationships(relationships);
+
+        realMetadataCollection.saveInstanceReferenceCopies(userId, validInstances);
+    }
 }
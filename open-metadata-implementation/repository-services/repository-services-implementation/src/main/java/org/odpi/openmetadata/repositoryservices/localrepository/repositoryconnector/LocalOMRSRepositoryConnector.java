@@ -19,6 +19,8 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorEx
 import org.odpi.openmetadata.repositoryservices.localrepository.OMRSLocalRepository;
 import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.*;
 
+import java.util.Map;
+
 
 /**
  * LocalOMRSRepositoryConnector provides access the local metadata repository plus manages outbound
@@ -40,6 +42,7 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     private OMRSTypeDefManager                  typeDefManager;
     private OMRSTypeDefEventProcessor           incomingTypeDefEventProcessor;
     private OMRSInstanceEventProcessor          incomingInstanceEventProcessor   = null;
+    private LocalOMRSInstanceEventProcessor     localInstanceEventProcessor      = null;
     private OMRSInstanceRetrievalEventProcessor instanceRetrievalEventProcessor  = null;
     private OMRSRepositoryEventManager          outboundRepositoryEventManager;
     private OMRSRepositoryEventExchangeRule     saveExchangeRule;
@@ -47,6 +50,16 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     private OMRSRepositoryEventMapperConnector  realEventMapper;
     private boolean                             produceEventsForRealConnector = true;
 
+    /*
+     * Reference copies received from the cohort are saved in batches.  The batch window (in milliseconds) and
+     * batch size can be set in the configuration properties of the connection to the real local repository.
+     * A batch window of 0 saves each reference copy as its event arrives.
+     */
+    private static final String                 referenceCopyBatchWindowProperty = "referenceCopyBatchWindow";
+    private static final String                 referenceCopyBatchSizeProperty   = "referenceCopyBatchSize";
+    private static final long                   defaultReferenceCopyBatchWindow  = 50;
+    private static final int                    defaultReferenceCopyBatchSize    = 500;
+
 
     /**
      * Constructor used by the LocalOMRSConnectorProvider.  It provides the information necessary to run the
@@ -159,6 +172,11 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     {
         super.disconnect();
 
+        if (localInstanceEventProcessor != null)
+        {
+            localInstanceEventProcessor.disconnect();
+        }
+
         if (realLocalConnector  != null)
         {
             realLocalConnector.disconnect();
@@ -383,9 +401,12 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
                                                           super.repositoryValidator,
                                                           saveExchangeRule,
                                                           outboundRepositoryEventManager,
+                                                          getReferenceCopyBatchWindow(),
+                                                          getReferenceCopyBatchSize(),
                                                           auditLog.createNewAuditLog(OMRSAuditingComponent.INSTANCE_EVENT_PROCESSOR));
 
             this.incomingInstanceEventProcessor = localOMRSInstanceEventProcessor;
+            this.localInstanceEventProcessor = localOMRSInstanceEventProcessor;
             this.instanceRetrievalEventProcessor = localOMRSInstanceEventProcessor;
         }
         catch (Throwable   error)
@@ -398,6 +419,64 @@ public class LocalOMRSRepositoryConnector extends OMRSRepositoryConnector implem
     }
 
 
+    /**
+     * Return the number of milliseconds that reference copies wait to be saved in a batch.
+     *
+     * @return batch window
+     */
+    private long getReferenceCopyBatchWindow()
+    {
+        Object batchWindow = getRealConnectorConfigurationProperty(referenceCopyBatchWindowProperty);
+
+        if (batchWindow instanceof Number)
+        {
+            return ((Number) batchWindow).longValue();
+        }
+
+        return defaultReferenceCopyBatchWindow;
+    }
+
+
+    /**
+     * Return the maximum number of reference copies that are saved in a batch.
+     *
+     * @return batch size
+     */
+    private int getReferenceCopyBatchSize()
+    {
+        Object batchSize = getRealConnectorConfigurationProperty(referenceCopyBatchSizeProperty);
+
+        if ((batchSize instanceof Number) && (((Number) batchSize).intValue() > 0))
+        {
+            return ((Number) batchSize).intValue();
+        }
+
+        return defaultReferenceCopyBatchSize;
+    }
+
+
+    /**
+     * Return a configuration property from the connection to the real local repository.
+     *
+     * @param propertyName name of the property
+     * @return property value or null
+     */
+    private Object getRealConnectorConfigurationProperty(String propertyName)
+    {
+        if ((realLocalConnector != null) && (realLocalConnector.getConnection() != null))
+        {
+            Map<String, Object> configurationProperties = realLocalConnector.getConnection().getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                return configurationProperties.get(propertyName);
+            }
+        }
+
+        return null;
+    }
+
+
     /**
      * Explicitly set up the metadata collection name.
      *
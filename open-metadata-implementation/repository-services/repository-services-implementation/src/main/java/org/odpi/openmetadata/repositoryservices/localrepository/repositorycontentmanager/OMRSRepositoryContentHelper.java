@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -31,6 +32,10 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 {
     private static final Logger log = LoggerFactory.getLogger(OMRSRepositoryContentHelper.class);
 
+    private static final String CONTINUATION_CURSOR_VERSION   = "1";
+    private static final String CONTINUATION_CURSOR_SEPARATOR = ".";
+    private static final String CONTINUATION_CURSOR_PRESENT   = "~";
+
     private OMRSRepositoryContentManager repositoryContentManager;
 
 
@@ -1414,7 +1419,8 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 
     /**
      * Use the paging and sequencing parameters to format the results for a repository call that returns a list of
-     * entity instances.
+     * entity instances.  Only the elements up to the end of the requested page are sequenced, so retrieving an early
+     * page from a large result set does not pay for sorting all of it.
      *
      * @param fullResults - the full list of results in an arbitrary order
      * @param fromElement - the starting element number of the instances to return. This is used when retrieving elements
@@ -1441,44 +1447,20 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
             return null;
         }
 
-        if (fullResults.isEmpty())
-        {
-            return null;
-        }
-
-        if (pageSize == 0)
-        {
-            return fullResults;
-        }
-
-        int fullResultsSize = fullResults.size();
+        List<SortKey>  sortKeys = new ArrayList<>(fullResults.size());
 
-        Collections.sort(fullResults,
-                         new java.util.Comparator<EntityDetail>()
-                         {
-                             @Override
-                             public int compare(final EntityDetail object1, final EntityDetail object2)
-                             {
-                                 return OMRSRepositoryContentHelper.compareProperties(object1.getProperties(),
-                                                                                      object2.getProperties(),
-                                                                                      sequencingProperty,
-                                                                                      sequencingOrder);
-                             }
-                         });
-
-        if ((fromElement == 0) && (pageSize > fullResults.size()))
+        for (EntityDetail entity : fullResults)
         {
-            return fullResults;
+            sortKeys.add(getSortKey(entity.getProperties(), sequencingProperty));
         }
 
-        int toIndex = getToIndex(fromElement, pageSize, fullResultsSize);
-        return new ArrayList<>(fullResults.subList(fromElement, toIndex));
+        return formatResults(fullResults, sortKeys, fromElement, sequencingOrder, pageSize);
     }
 
 
     /**
      * Use the paging and sequencing parameters to format the results for a repository call that returns a list of
-     * relationship instances.
+     * relationship instances.  Only the elements up to the end of the requested page are sequenced.
      *
      * @param fullResults - the full list of results in an arbitrary order. This is supplied not empty.
      * @param fromElement - the starting element number of the instances to return. This is used when retrieving elements
@@ -1505,6 +1487,140 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
             return null;
         }
 
+        List<SortKey>  sortKeys = new ArrayList<>(fullResults.size());
+
+        for (Relationship relationship : fullResults)
+        {
+            sortKeys.add(getSortKey(relationship.getProperties(), sequencingProperty));
+        }
+
+        return formatResults(fullResults, sortKeys, fromElement, sequencingOrder, pageSize);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EntityDetail>  formatEntityResults(List<EntityDetail> fullResults,
+                                                   String             continuationCursor,
+                                                   String             sequencingProperty,
+                                                   SequencingOrder    sequencingOrder,
+                                                   int                pageSize) throws PagingErrorException
+    {
+        final String  methodName = "formatEntityResults";
+
+        if (fullResults == null)
+        {
+            return null;
+        }
+
+        List<SortKey>  sortKeys = new ArrayList<>(fullResults.size());
+
+        for (EntityDetail entity : fullResults)
+        {
+            sortKeys.add(getSortKey(entity.getProperties(), sequencingProperty));
+        }
+
+        return formatResults(fullResults,
+                             sortKeys,
+                             decodeContinuationCursor(continuationCursor, sequencingProperty, sequencingOrder, methodName),
+                             sequencingOrder,
+                             pageSize);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Relationship>  formatRelationshipResults(List<Relationship> fullResults,
+                                                         String             continuationCursor,
+                                                         String             sequencingProperty,
+                                                         SequencingOrder    sequencingOrder,
+                                                         int                pageSize) throws PagingErrorException
+    {
+        final String  methodName = "formatRelationshipResults";
+
+        if (fullResults == null)
+        {
+            return null;
+        }
+
+        List<SortKey>  sortKeys = new ArrayList<>(fullResults.size());
+
+        for (Relationship relationship : fullResults)
+        {
+            sortKeys.add(getSortKey(relationship.getProperties(), sequencingProperty));
+        }
+
+        return formatResults(fullResults,
+                             sortKeys,
+                             decodeContinuationCursor(continuationCursor, sequencingProperty, sequencingOrder, methodName),
+                             sequencingOrder,
+                             pageSize);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String  getEntityContinuationCursor(EntityDetail    lastEntity,
+                                               String          sequencingProperty,
+                                               SequencingOrder sequencingOrder)
+    {
+        if (lastEntity == null)
+        {
+            return null;
+        }
+
+        return encodeContinuationCursor(getSortKey(lastEntity.getProperties(), sequencingProperty),
+                                        lastEntity.getGUID(),
+                                        sequencingProperty,
+                                        sequencingOrder);
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String  getRelationshipContinuationCursor(Relationship    lastRelationship,
+                                                     String          sequencingProperty,
+                                                     SequencingOrder sequencingOrder)
+    {
+        if (lastRelationship == null)
+        {
+            return null;
+        }
+
+        return encodeContinuationCursor(getSortKey(lastRelationship.getProperties(), sequencingProperty),
+                                        lastRelationship.getGUID(),
+                                        sequencingProperty,
+                                        sequencingOrder);
+    }
+
+
+    /**
+     * Return the requested page of the results.  The results are sequenced in the same order as a stable sort on the
+     * sequencing property, but when the page ends before the end of the results, only the first
+     * fromElement + pageSize elements are selected (using a bounded heap) and sorted.
+     *
+     * @param fullResults the full list of results in an arbitrary order
+     * @param sortKeys the sort key of each result, in the same order as the results
+     * @param fromElement the starting element number of the instances to return
+     * @param sequencingOrder ascending or descending order
+     * @param pageSize the maximum number of results to return; zero means unrestricted
+     * @param <T> type of instance
+     * @return results array as requested
+     */
+    private <T> List<T>  formatResults(List<T>         fullResults,
+                                       List<SortKey>   sortKeys,
+                                       int             fromElement,
+                                       SequencingOrder sequencingOrder,
+                                       int             pageSize)
+    {
         if (fullResults.isEmpty())
         {
             return null;
@@ -1522,20 +1638,63 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
             return null;
         }
 
-        Collections.sort(fullResults,
-                         new java.util.Comparator<Relationship>()
-                        {
-                            @Override
-                            public int compare(final Relationship object1, final Relationship object2)
-                            {
-                                return OMRSRepositoryContentHelper.compareProperties(object1.getProperties(),
-                                                                                     object2.getProperties(),
-                                                                                     sequencingProperty,
-                                                                                     sequencingOrder);
-                            }
-                        });
+        /*
+         * Ties are broken on the original position so the sequence matches the stable sort used previously.
+         */
+        Comparator<Integer> comparator = new Comparator<Integer>()
+        {
+            @Override
+            public int compare(final Integer index1, final Integer index2)
+            {
+                int sortResult = compareSortKeys(sortKeys.get(index1), sortKeys.get(index2), sequencingOrder);
+
+                return (sortResult != 0) ? sortResult : Integer.compare(index1, index2);
+            }
+        };
+
+        long lastElement = (long)fromElement + pageSize;
+
+        if (lastElement < fullResultsSize)
+        {
+            List<Integer> selected = selectFirst(fullResultsSize, (int)lastElement, comparator);
+            List<T>       results  = new ArrayList<>(pageSize);
+
+            for (Integer index : selected.subList(fromElement, selected.size()))
+            {
+                results.add(fullResults.get(index));
+            }
+
+            return results;
+        }
+
+        if (hasSortKey(sortKeys))
+        {
+            List<Integer> sortedIndexes = new ArrayList<>(fullResultsSize);
+
+            for (int index = 0; index < fullResultsSize; index++)
+            {
+                sortedIndexes.add(index);
+            }
+
+            sortedIndexes.sort(comparator);
+
+            List<T> sortedResults = new ArrayList<>(fullResultsSize);
 
-        if ((fromElement == 0) && (pageSize > fullResults.size()))
+            for (Integer index : sortedIndexes)
+            {
+                sortedResults.add(fullResults.get(index));
+            }
+
+            /*
+             * The full results are sequenced in place as they were before.
+             */
+            for (int index = 0; index < fullResultsSize; index++)
+            {
+                fullResults.set(index, sortedResults.get(index));
+            }
+        }
+
+        if ((fromElement == 0) && (pageSize > fullResultsSize))
         {
             return fullResults;
         }
@@ -1547,100 +1706,479 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 
 
     /**
-     * Compare the properties of two instances and determine the sort order based on the nominated property value and
-     * sort order.
+     * Return the page of results that follows the continuation cursor.  The results are sequenced on the sequencing
+     * property and then on their GUIDs, so that the position of the cursor is unambiguous.
      *
-     * @param instance1Properties properties from first instance
-     * @param instance2Properties properties from second instance
-     * @param propertyName name of property to compare
+     * @param fullResults the full list of results in an arbitrary order
+     * @param sortKeys the sort key of each result, in the same order as the results
+     * @param cursor decoded continuation cursor, or null to start from the first element
      * @param sequencingOrder ascending or descending order
-     * @return sort result
+     * @param pageSize the maximum number of results to return; zero means unrestricted
+     * @param <T> type of instance
+     * @return results array as requested
+     */
+    private <T extends InstanceHeader> List<T>  formatResults(List<T>            fullResults,
+                                                              List<SortKey>      sortKeys,
+                                                              ContinuationCursor cursor,
+                                                              SequencingOrder    sequencingOrder,
+                                                              int                pageSize)
+    {
+        List<Integer> remaining = new ArrayList<>();
+
+        for (int index = 0; index < fullResults.size(); index++)
+        {
+            if ((cursor == null) || (compareCursorPosition(sortKeys.get(index),
+                                                           fullResults.get(index).getGUID(),
+                                                           cursor.sortKey,
+                                                           cursor.guid,
+                                                           sequencingOrder) > 0))
+            {
+                remaining.add(index);
+            }
+        }
+
+        if (remaining.isEmpty())
+        {
+            return null;
+        }
+
+        Comparator<Integer> comparator = new Comparator<Integer>()
+        {
+            @Override
+            public int compare(final Integer index1, final Integer index2)
+            {
+                int sortResult = compareCursorPosition(sortKeys.get(index1),
+                                                       fullResults.get(index1).getGUID(),
+                                                       sortKeys.get(index2),
+                                                       fullResults.get(index2).getGUID(),
+                                                       sequencingOrder);
+
+                return (sortResult != 0) ? sortResult : Integer.compare(index1, index2);
+            }
+        };
+
+        List<Integer> selected;
+
+        if ((pageSize > 0) && (pageSize < remaining.size()))
+        {
+            List<Integer> heapSelection = selectFirst(remaining.size(), pageSize, new Comparator<Integer>()
+            {
+                @Override
+                public int compare(final Integer position1, final Integer position2)
+                {
+                    return comparator.compare(remaining.get(position1), remaining.get(position2));
+                }
+            });
+
+            selected = new ArrayList<>(pageSize);
+
+            for (Integer position : heapSelection)
+            {
+                selected.add(remaining.get(position));
+            }
+        }
+        else
+        {
+            selected = remaining;
+            selected.sort(comparator);
+        }
+
+        List<T> results = new ArrayList<>(selected.size());
+
+        for (Integer index : selected)
+        {
+            results.add(fullResults.get(index));
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Select the first elements of a sequence, in order, without sorting the whole sequence.  A bounded max-heap holds
+     * the best candidates seen so far, so the cost is O(n log k) rather than O(n log n).
+     *
+     * @param size number of elements, identified by their index
+     * @param count number of elements to select; must be less than size
+     * @param comparator total order over the element indexes
+     * @return indexes of the first elements in sequence
      */
-    private static int  compareProperties(InstanceProperties     instance1Properties,
-                                          InstanceProperties     instance2Properties,
-                                          String                 propertyName,
-                                          SequencingOrder        sequencingOrder)
+    private List<Integer>  selectFirst(int                 size,
+                                       int                 count,
+                                       Comparator<Integer> comparator)
     {
+        List<Integer> selected = new ArrayList<>(count);
+
+        if (count <= 0)
+        {
+            return selected;
+        }
+
+        PriorityQueue<Integer> heap = new PriorityQueue<>(count, Collections.reverseOrder(comparator));
+
+        for (int index = 0; index < size; index++)
+        {
+            if (heap.size() < count)
+            {
+                heap.add(index);
+            }
+            else if (comparator.compare(index, heap.peek()) < 0)
+            {
+                heap.poll();
+                heap.add(index);
+            }
+        }
+
+        selected.addAll(heap);
+        selected.sort(comparator);
+
+        return selected;
+    }
+
 
+    /**
+     * Return whether any of the instances has a value for the sequencing property.  If none of them does, the
+     * sequence is unchanged by sorting.
+     *
+     * @param sortKeys sort keys of the instances
+     * @return boolean flag
+     */
+    private boolean  hasSortKey(List<SortKey>  sortKeys)
+    {
+        for (SortKey sortKey : sortKeys)
+        {
+            if (sortKey != null)
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * The primitive value of the sequencing property of an instance.  It is extracted once for each instance
+     * rather than on every comparison.
+     */
+    private static class SortKey
+    {
+        private final String typeName;
+        private final Object value;
+
+        SortKey(String typeName, Object value)
+        {
+            this.typeName = typeName;
+            this.value = value;
+        }
+    }
+
+
+    /**
+     * The position in the sequence of results that a continuation cursor refers to.
+     */
+    private static class ContinuationCursor
+    {
+        private final SortKey sortKey;
+        private final String  guid;
+
+        ContinuationCursor(SortKey sortKey, String guid)
+        {
+            this.sortKey = sortKey;
+            this.guid = guid;
+        }
+    }
+
+
+    /**
+     * Extract the sort key for the nominated property from the properties of an instance.
+     * This is only performed for primitives, anything else is treated as ignored.
+     *
+     * @param instanceProperties properties from the instance
+     * @param propertyName name of property to sequence on
+     * @return sort key or null if the instance has no primitive value for the property
+     */
+    private static SortKey  getSortKey(InstanceProperties instanceProperties,
+                                       String             propertyName)
+    {
         // todo need to add support for properties in the instance header eg createdBy
-         /*
-          * Ideally we would not include all this type inspection in the comparison
-          * function - but we do not know the types until we are comparing the
-          * pair of instances. There is no guarantee the list is homogeneous or that
-          * the objects to be compared are of the same type.
-          */
+        if ((instanceProperties != null) && (propertyName != null))
+        {
+            InstancePropertyValue propertyValue = instanceProperties.getPropertyValue(propertyName);
+
+            if ((propertyValue != null) && (propertyValue.getInstancePropertyCategory() == InstancePropertyCategory.PRIMITIVE))
+            {
+                return new SortKey(propertyValue.getTypeName(), ((PrimitivePropertyValue) propertyValue).getPrimitiveValue());
+            }
+        }
+
+        return null;
+    }
 
-         int    sortResult;
-         String o1PropertyTypeName = null;
-         String o2PropertyTypeName = null;
-         Object o1PropertyValue    = null;
-         Object o2PropertyValue    = null;
 
+    /**
+     * Compare the sort keys of two instances and determine the sort order based on the sort order.
+     *
+     * @param sortKey1 sort key from first instance
+     * @param sortKey2 sort key from second instance
+     * @param sequencingOrder ascending or descending order
+     * @return sort result
+     */
+    private static int  compareSortKeys(SortKey         sortKey1,
+                                        SortKey         sortKey2,
+                                        SequencingOrder sequencingOrder)
+    {
          /*
-          * If instance1 has the named property, retrieve its value. Same for instance2.
+          * There is no guarantee the list is homogeneous or that the objects to be compared are of the same type.
           * If neither object has the property return 0
           * If one object has the property sort that higher: +1 if instance1, -1 if instance2
           * If both have a value for the property, of different types, return 0.
           * If both have a value for the property, of the same type, compare them...
-          * This is only performed for primitives, anything else is treated as ignored
           */
-         if (instance1Properties != null)
-         {
-             InstancePropertyValue o1PropValue = instance1Properties.getPropertyValue(propertyName);
-             if (o1PropValue != null)
-             {
-                 InstancePropertyCategory o1PropCat = o1PropValue.getInstancePropertyCategory();
-                 if (o1PropCat == InstancePropertyCategory.PRIMITIVE)
-                 {
-                     o1PropertyTypeName = o1PropValue.getTypeName();
-                     o1PropertyValue = ((PrimitivePropertyValue) o1PropValue).getPrimitiveValue();
-                 }
-             }
-         }
-
-         if (instance2Properties != null)
-         {
-             InstancePropertyValue o2PropValue = instance2Properties.getPropertyValue(propertyName);
-             if (o2PropValue != null)
-             {
-                 InstancePropertyCategory o2PropCat = o2PropValue.getInstancePropertyCategory();
-                 if (o2PropCat == InstancePropertyCategory.PRIMITIVE)
-                 {
-                     o2PropertyTypeName = o2PropValue.getTypeName();
-                     o2PropertyValue = ((PrimitivePropertyValue) o2PropValue).getPrimitiveValue();
-                 }
-             }
-         }
-
-         if (o1PropertyTypeName == null && o2PropertyTypeName == null)
-         {
-             sortResult = 0;
-         }
-         else if (o1PropertyTypeName != null && o2PropertyTypeName == null)
-         {
-             sortResult = 1;
-         }
-         else if (o1PropertyTypeName == null) // implicit: o2PropertyTypeName != null
-         {
-             sortResult = -1;
-         }
-         else if (!o1PropertyTypeName.equals(o2PropertyTypeName))
-         {
-             sortResult = 0;
-         }
-         else
-         {
-             // Both objects have values, of the same type for the named property - compare...
-             sortResult = typeSpecificCompare(o1PropertyTypeName, o1PropertyValue, o2PropertyValue);
-
-         }
-         if (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING)
-         {
-             sortResult = sortResult * (-1);
-         }
-
-         return sortResult;
+        int sortResult;
+
+        if (sortKey1 == null && sortKey2 == null)
+        {
+            sortResult = 0;
+        }
+        else if (sortKey2 == null)
+        {
+            sortResult = 1;
+        }
+        else if (sortKey1 == null)
+        {
+            sortResult = -1;
+        }
+        else if ((sortKey1.typeName == null) || (!sortKey1.typeName.equals(sortKey2.typeName)))
+        {
+            sortResult = 0;
+        }
+        else if (sortKey1.value == null || sortKey2.value == null)
+        {
+            sortResult = Boolean.compare(sortKey1.value != null, sortKey2.value != null);
+        }
+        else
+        {
+            sortResult = typeSpecificCompare(sortKey1.typeName, sortKey1.value, sortKey2.value);
+        }
+
+        if (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING)
+        {
+            sortResult = sortResult * (-1);
+        }
+
+        return sortResult;
+    }
+
+
+    /**
+     * Compare the positions of two instances in the sequence used with continuation cursors: by sort key and then
+     * by GUID.
+     *
+     * @param sortKey1 sort key of the first instance
+     * @param guid1 unique identifier of the first instance
+     * @param sortKey2 sort key of the second instance
+     * @param guid2 unique identifier of the second instance
+     * @param sequencingOrder ascending or descending order
+     * @return sort result
+     */
+    private static int  compareCursorPosition(SortKey         sortKey1,
+                                              String          guid1,
+                                              SortKey         sortKey2,
+                                              String          guid2,
+                                              SequencingOrder sequencingOrder)
+    {
+        int sortResult = compareSortKeys(sortKey1, sortKey2, sequencingOrder);
+
+        if (sortResult == 0)
+        {
+            if (guid1 == null || guid2 == null)
+            {
+                sortResult = Boolean.compare(guid1 != null, guid2 != null);
+            }
+            else
+            {
+                sortResult = guid1.compareTo(guid2);
+            }
+        }
+
+        return sortResult;
+    }
 
+
+    /**
+     * Build the opaque continuation cursor for a position in the sequence of results.  It is made of the
+     * URL-safe base64 encoding of each field, separated by '.'.
+     *
+     * @param sortKey sort key of the last instance returned
+     * @param guid unique identifier of the last instance returned
+     * @param sequencingProperty name of the property used to sequence the results
+     * @param sequencingOrder ascending or descending order
+     * @return cursor
+     */
+    private String  encodeContinuationCursor(SortKey         sortKey,
+                                             String          guid,
+                                             String          sequencingProperty,
+                                             SequencingOrder sequencingOrder)
+    {
+        String typeName = null;
+        String value    = null;
+
+        if (sortKey != null)
+        {
+            typeName = sortKey.typeName;
+
+            if (sortKey.value instanceof Date)
+            {
+                value = Long.toString(((Date) sortKey.value).getTime());
+            }
+            else if (sortKey.value != null)
+            {
+                value = sortKey.value.toString();
+            }
+        }
+
+        String[] fields = { CONTINUATION_CURSOR_VERSION,
+                            sequencingProperty,
+                            (sequencingOrder == null) ? null : sequencingOrder.name(),
+                            typeName,
+                            value,
+                            guid };
+
+        StringBuilder cursor = new StringBuilder();
+
+        for (String field : fields)
+        {
+            if (cursor.length() > 0)
+            {
+                cursor.append(CONTINUATION_CURSOR_SEPARATOR);
+            }
+
+            if (field != null)
+            {
+                cursor.append(CONTINUATION_CURSOR_PRESENT);
+                cursor.append(Base64.getUrlEncoder().withoutPadding().encodeToString(field.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        return cursor.toString();
+    }
+
+
+    /**
+     * Decode a continuation cursor and check it was created for the same sequencing parameters.
+     *
+     * @param continuationCursor cursor supplied by the caller
+     * @param sequencingProperty name of the property used to sequence the results
+     * @param sequencingOrder ascending or descending order
+     * @param methodName calling method
+     * @return decoded cursor or null if no cursor was supplied
+     * @throws PagingErrorException the cursor is not valid for these sequencing parameters
+     */
+    private ContinuationCursor  decodeContinuationCursor(String          continuationCursor,
+                                                         String          sequencingProperty,
+                                                         SequencingOrder sequencingOrder,
+                                                         String          methodName) throws PagingErrorException
+    {
+        if (continuationCursor == null)
+        {
+            return null;
+        }
+
+        String[] encodedFields = continuationCursor.split("\\" + CONTINUATION_CURSOR_SEPARATOR, -1);
+
+        if (encodedFields.length == 6)
+        {
+            try
+            {
+                String[] fields = new String[encodedFields.length];
+
+                for (int index = 0; index < encodedFields.length; index++)
+                {
+                    if (encodedFields[index].startsWith(CONTINUATION_CURSOR_PRESENT))
+                    {
+                        fields[index] = new String(Base64.getUrlDecoder().decode(encodedFields[index].substring(1)),
+                                                   StandardCharsets.UTF_8);
+                    }
+                    else if (! encodedFields[index].isEmpty())
+                    {
+                        throw new IllegalArgumentException(encodedFields[index]);
+                    }
+                }
+
+                if ((CONTINUATION_CURSOR_VERSION.equals(fields[0]))
+                        && (Objects.equals(sequencingProperty, fields[1]))
+                        && (Objects.equals((sequencingOrder == null) ? null : sequencingOrder.name(), fields[2])))
+                {
+                    SortKey sortKey = null;
+
+                    if (fields[3] != null)
+                    {
+                        sortKey = new SortKey(fields[3], parseSortValue(fields[3], fields[4]));
+                    }
+
+                    return new ContinuationCursor(sortKey, fields[5]);
+                }
+            }
+            catch (IllegalArgumentException | IndexOutOfBoundsException error)
+            {
+                log.debug("Unable to decode continuation cursor " + continuationCursor, error);
+            }
+        }
+
+        throw new PagingErrorException(OMRSErrorCode.INVALID_CONTINUATION_CURSOR.getMessageDefinition(methodName,
+                                                                                                     sequencingProperty,
+                                                                                                     (sequencingOrder == null) ? null : sequencingOrder.getName()),
+                                       this.getClass().getName(),
+                                       methodName);
+    }
+
+
+    /**
+     * Restore the value of a sort key from its string form in a continuation cursor.
+     *
+     * @param typeName name of the primitive type
+     * @param value string form of the value
+     * @return value or null if the type is not sequenced
+     * @throws IllegalArgumentException the value is not valid for the type
+     */
+    private static Object  parseSortValue(String typeName, String value)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+
+        switch (typeName)
+        {
+            case "boolean":
+                return Boolean.valueOf(value);
+            case "byte":
+                return Byte.valueOf(value);
+            case "char":
+                return value.charAt(0);
+            case "short":
+                return Short.valueOf(value);
+            case "int":
+            case "integer":
+                return Integer.valueOf(value);
+            case "long":
+                return Long.valueOf(value);
+            case "float":
+                return Float.valueOf(value);
+            case "double":
+                return Double.valueOf(value);
+            case "biginteger":
+                return new BigInteger(value);
+            case "bigdecimal":
+                return new BigDecimal(value);
+            case "string":
+                return value;
+            case "date":
+                return new Date(Long.parseLong(value));
+            default:
+                return null;
+        }
     }
 
 
@@ -1671,6 +2209,7 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
             case "short":
                 sortOrder = ((Short) v1).compareTo((Short) v2);
                 break;
+            case "int":
             case "integer":
                 sortOrder = ((Integer) v1).compareTo((Integer) v2);
                 break;
@@ -56,10 +56,16 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     private Map<String, TypeDef>            activeTypeDefNames             = new HashMap<>();
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefGUIDs    = new HashMap<>();
     private Map<String, AttributeTypeDef>   activeAttributeTypeDefNames    = new HashMap<>();
-    private Map<String, List<TypeDefLink>>  typeDefSuperTypes              = new HashMap<>();
-    private Map<String, InstanceType>       knownInstanceTypes             = new HashMap<>();
     private Map<String, String>             metadataCollectionNames        = new HashMap<>();
 
+    /*
+     * The type hierarchy is an immutable snapshot of the super types, properties and instance types of the
+     * known TypeDefs.  It is discarded whenever the known TypeDefs change and rebuilt by the next lookup.
+     * This means that the lookups, which run for every instance that is created, validated or returned, do not
+     * need to lock or walk the super type chains.
+     */
+    private volatile TypeDefHierarchy       typeDefHierarchy               = null;
+
 
     /*
      * The audit log provides a verifiable record of the open metadata archives that have been loaded into
@@ -144,10 +150,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param newTypeDef TypeDef structure describing the new TypeDef.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
+    private synchronized void cacheTypeDef(String  sourceName, TypeDef      newTypeDef, boolean isLocallySupported)
     {
         knownTypeDefGUIDs.put(newTypeDef.getGUID(), newTypeDef);
         knownTypeDefNames.put(newTypeDef.getName(), newTypeDef);
+        typeDefHierarchy = null;
 
         if (isLocallySupported)
         {
@@ -170,13 +177,14 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param obsoleteTypeDefName unique name for the type.
      * @param isLocallySupported indicates whether the TypeDef is supported by the local repository.
      */
-    private void uncacheTypeDef(String  sourceName,
-                                String  obsoleteTypeDefGUID,
-                                String  obsoleteTypeDefName,
-                                boolean isLocallySupported)
+    private synchronized void uncacheTypeDef(String  sourceName,
+                                             String  obsoleteTypeDefGUID,
+                                             String  obsoleteTypeDefName,
+                                             boolean isLocallySupported)
     {
         knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
         knownTypeDefNames.remove(obsoleteTypeDefName);
+        typeDefHierarchy = null;
 
         if (isLocallySupported)
         {
@@ -251,14 +259,15 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
      * @param obsoleteTypeDefGUID String unique identifier for the TypeDef.
      * @param obsoleteTypeDefName String unique name for the TypeDef.
      */
-    public void deleteTypeDef(String    sourceName,
-                              String    obsoleteTypeDefGUID,
-                              String    obsoleteTypeDefName)
+    public synchronized void deleteTypeDef(String    sourceName,
+                                           String    obsoleteTypeDefGUID,
+                                           String    obsoleteTypeDefName)
     {
         if (this.validTypeId(sourceName, obsoleteTypeDefGUID, obsoleteTypeDefName))
         {
             knownTypeDefGUIDs.remove(obsoleteTypeDefGUID);
             knownTypeDefNames.remove(obsoleteTypeDefName);
+            typeDefHierarchy = null;
 
             if (localRepositoryConnector != null)
             {
@@ -412,7 +421,46 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
 
     /**
-     * Evaluate the superTypes for a type.  The results are cached in typeDefSuperTypes.
+     * Return the snapshot of the type hierarchy, building it if the known TypeDefs have changed since
+     * it was last built.
+     *
+     * @return type hierarchy
+     */
+    private TypeDefHierarchy getTypeDefHierarchy()
+    {
+        TypeDefHierarchy hierarchy = typeDefHierarchy;
+
+        if (hierarchy == null)
+        {
+            hierarchy = this.buildTypeDefHierarchy();
+        }
+
+        return hierarchy;
+    }
+
+
+    /**
+     * Build a new snapshot of the type hierarchy.  This is synchronized with the methods that change the
+     * known TypeDefs so the snapshot is consistent.
+     *
+     * @return type hierarchy
+     */
+    private synchronized TypeDefHierarchy buildTypeDefHierarchy()
+    {
+        if (typeDefHierarchy == null)
+        {
+            typeDefHierarchy = new TypeDefHierarchy(knownTypeDefNames);
+
+            log.debug("Type hierarchy rebuilt for " + knownTypeDefNames.size() + " types");
+        }
+
+        return typeDefHierarchy;
+    }
+
+
+    /**
+     * Evaluate the superTypes for a type.  The results come from the type hierarchy snapshot if the type's
+     * hierarchy is valid.  Otherwise the super type chain is walked so that the error is reported.
      *
      * @param sourceName source of the request (used for logging)
      * @param typeName name of type to process
@@ -425,15 +473,18 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
     {
         final String  thisMethodName = "getSuperTypes";
 
-        List<TypeDefLink>   typeHierarchy = typeDefSuperTypes.get(typeName);
+        TypeDefHierarchy    hierarchy     = this.getTypeDefHierarchy();
+        List<TypeDefLink>   typeHierarchy = new ArrayList<>();
 
-        if (typeHierarchy == null)
+        if (hierarchy.isKnownType(typeName))
         {
             /*
-             * The type hierarchy is not known at this time (it is evaluated lazily).
+             * The type hierarchy is known and can be returned directly.
              */
-            typeHierarchy = new ArrayList<>();
-
+            return hierarchy.getSuperTypes(typeName);
+        }
+        else
+        {
             TypeDef typeDef = knownTypeDefNames.get(typeName);
 
             if (typeDef != null)
@@ -474,11 +525,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                         throwContentManagerLogicError(sourceName, methodName, thisMethodName);
                     }
                 }
-
-                /*
-                 * Cache the resulting superType list
-                 */
-                typeDefSuperTypes.put(typeName, typeHierarchy);
             }
             else
             {
@@ -496,9 +542,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
         }
         else
         {
-            /*
-             * The type hierarchy is known and can be returned directly.
-             */
             return typeHierarchy;
         }
     }
@@ -532,6 +575,16 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 return true;
             }
 
+            /*
+             * The type hierarchy snapshot records the super types of each type as a bit set.
+             */
+            TypeDefHierarchy hierarchy = this.getTypeDefHierarchy();
+
+            if (hierarchy.isKnownType(actualTypeName))
+            {
+                return hierarchy.isTypeOf(actualTypeName, expectedTypeName);
+            }
+
             /*
              * Looking for a match in the superTypes.
              */
@@ -588,10 +641,20 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                 return true;
             }
 
+            /*
+             * The type hierarchy snapshot records the super types of each type as a bit set.
+             */
+            TypeDefHierarchy hierarchy = this.getTypeDefHierarchy();
+
+            if (hierarchy.isKnownType(actualTypeName))
+            {
+                return hierarchy.isTypeOfByGUID(actualTypeName, expectedTypeGUID);
+            }
+
             /*
              * Looking for a match in the superTypes.
              */
-           List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
+            List<TypeDefLink>   typeHierarchy = this.getSuperTypes(sourceName, actualTypeName, methodName);
 
             if (typeHierarchy != null)
             {
@@ -636,7 +699,7 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
 
         if (isValidTypeCategory(sourceName, category, typeName, methodName))
         {
-            InstanceType    instanceType = knownInstanceTypes.get(typeName);
+            InstanceType    instanceType = this.getTypeDefHierarchy().getInstanceType(typeName);
 
             if (instanceType != null)
             {
@@ -644,7 +707,8 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             }
 
             /*
-             * The instance type has not yet been created. (They are created lazily.)
+             * The instance type is not in the type hierarchy snapshot which means there is a problem with its
+             * TypeDef.  Building it here reports the problem.
              */
             TypeDef typeDef = knownTypeDefNames.get(typeName);
 
@@ -734,11 +798,6 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                     instanceType.setValidInstanceProperties(propertyNames);
                 }
 
-                /*
-                 * Cache the instance type for next time
-                 */
-                knownInstanceTypes.put(typeName, instanceType);
-
                 return instanceType;
             }
             else
@@ -864,24 +923,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
                          * ClassificationDefs with supertypes then we need to account for any entities that the ClassificationDef
                          * supertype can introduce.
                          */
-                        Set<String> entityTypes = new HashSet<>();
-                        TypeDef typeDef = getTypeDefByName(entityTypeName);
-                        entityTypes.add(entityTypeName);
-
-                        while (typeDef.getSuperType() !=null)
-                        {
-                            TypeDefLink superTypeLink=typeDef.getSuperType();
-                            String parentName= superTypeLink.getName();
-                            entityTypes.add(parentName);
-                            typeDef  = this.knownTypeDefGUIDs.get(superTypeLink.getGUID());
-                        }
-
                         for (TypeDefLink  allowedEntityDefLink : entityDefs)
                         {
                             if (allowedEntityDefLink != null)
                             {
-                                String allowedTypeName = allowedEntityDefLink.getName();
-                                if (entityTypes.contains(allowedTypeName))
+                                if (this.isTypeOf(sourceName, entityTypeName, allowedEntityDefLink.getName()))
                                 {
                                     return true;
                                 }
@@ -1308,6 +1354,18 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             return null;
         }
 
+        /*
+         * The type hierarchy snapshot holds the property definitions for each known TypeDef.  The TypeDef
+         * passed may be a different version (for example, one that is being validated) so it is only used
+         * if it is the same object.
+         */
+        TypeDefHierarchy          hierarchy = this.getTypeDefHierarchy();
+
+        if (hierarchy.getTypeDef(typeDef.getName()) == typeDef)
+        {
+            return new ArrayList<>(hierarchy.getAllProperties(typeDef.getName()));
+        }
+
         List<TypeDefAttribute>    propertiesDefinition = typeDef.getPropertiesDefinition();
 
         /*
@@ -1363,7 +1421,11 @@ public class OMRSRepositoryContentManager extends OMRSTypeDefEventProcessor impl
             {
                 if (!isKnownType(sourceName, typeDef.getGUID(), typeDef.getName()))
                 {
-                    knownTypeDefNames.put(typeDef.getName(), typeDef);
+                    synchronized (this)
+                    {
+                        knownTypeDefNames.put(typeDef.getName(), typeDef);
+                        typeDefHierarchy = null;
+                    }
                 }
             }
             else
@@ -0,0 +1,295 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefAttribute;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+
+import java.util.*;
+
+/**
+ * TypeDefHierarchy is an immutable snapshot of the type hierarchy of the TypeDefs known to the
+ * OMRSRepositoryContentManager.  Each type name is given a small integer identifier and each type has a bit set
+ * of the identifiers of itself and all of its super types.  This means isTypeOf is a single bit test rather than
+ * a walk of the super type chain.  The snapshot also holds the super type list, the property definitions
+ * (including those inherited from the super types) and the InstanceType for each type.
+ *
+ * A new snapshot is built whenever the known TypeDefs change.  Types with a broken hierarchy (for example,
+ * a super type that is not known) are left out of the snapshot so that the content manager falls back to its
+ * original processing and reports the error.
+ */
+class TypeDefHierarchy
+{
+    private final Map<String, Integer>                typeNameIds;
+    private final Map<String, Integer>                typeGUIDIds;
+    private final BitSet[]                            typeAncestors;
+    private final Map<String, TypeDef>                typeDefs              = new HashMap<>();
+    private final Map<String, List<TypeDefLink>>      typeDefSuperTypes     = new HashMap<>();
+    private final Map<String, List<TypeDefAttribute>> typeDefAllProperties  = new HashMap<>();
+    private final Map<String, InstanceType>           instanceTypes         = new HashMap<>();
+
+
+    /**
+     * Build the snapshot for the supplied TypeDefs.
+     *
+     * @param knownTypeDefNames map of type name to TypeDef - this map is not changed or retained
+     */
+    TypeDefHierarchy(Map<String, TypeDef> knownTypeDefNames)
+    {
+        Map<String, Integer> nameIds = new HashMap<>();
+        Map<String, Integer> guidIds = new HashMap<>();
+
+        /*
+         * Assign identifiers to all of the types first so that the super types can be resolved in any order.
+         */
+        for (TypeDef typeDef : knownTypeDefNames.values())
+        {
+            if ((typeDef != null) && (typeDef.getName() != null) && (! nameIds.containsKey(typeDef.getName())))
+            {
+                int typeId = nameIds.size();
+
+                nameIds.put(typeDef.getName(), typeId);
+                typeDefs.put(typeDef.getName(), typeDef);
+
+                if (typeDef.getGUID() != null)
+                {
+                    guidIds.put(typeDef.getGUID(), typeId);
+                }
+            }
+        }
+
+        typeAncestors = new BitSet[nameIds.size()];
+
+        for (TypeDef typeDef : typeDefs.values())
+        {
+            this.addType(typeDef, nameIds);
+        }
+
+        /*
+         * Remove the types that could not be resolved so they are not found by the lookups.
+         */
+        nameIds.keySet().retainAll(typeDefSuperTypes.keySet());
+        guidIds.values().retainAll(nameIds.values());
+        typeDefs.keySet().retainAll(typeDefSuperTypes.keySet());
+
+        typeNameIds = nameIds;
+        typeGUIDIds = guidIds;
+    }
+
+
+    /**
+     * Walk the super type chain of a type, recording its ancestors, super types, properties and instance type.
+     * Nothing is recorded if the chain is broken.
+     *
+     * @param typeDef type to process
+     * @param nameIds map of type name to identifier
+     */
+    private void addType(TypeDef              typeDef,
+                         Map<String, Integer> nameIds)
+    {
+        String                 typeName      = typeDef.getName();
+        BitSet                 ancestors     = new BitSet(nameIds.size());
+        List<TypeDefLink>      superTypes    = new ArrayList<>();
+        List<TypeDefAttribute> allProperties = new ArrayList<>();
+        List<String>           propertyNames = new ArrayList<>();
+        boolean                validNames    = this.addProperties(typeDef, allProperties, propertyNames, false);
+
+        ancestors.set(nameIds.get(typeName));
+
+        TypeDefLink superTypeLink = typeDef.getSuperType();
+
+        while (superTypeLink != null)
+        {
+            String  superTypeName = superTypeLink.getName();
+            Integer superTypeId   = (superTypeName == null) ? null : nameIds.get(superTypeName);
+
+            if ((superTypeId == null) || (ancestors.get(superTypeId)))
+            {
+                /*
+                 * The super type is not known or the hierarchy loops back on itself.
+                 */
+                return;
+            }
+
+            TypeDef superTypeDef = typeDefs.get(superTypeName);
+
+            ancestors.set(superTypeId);
+            superTypes.add(superTypeLink);
+
+            if (! this.addProperties(superTypeDef, allProperties, propertyNames, true))
+            {
+                validNames = false;
+            }
+
+            superTypeLink = superTypeDef.getSuperType();
+        }
+
+        typeAncestors[nameIds.get(typeName)] = ancestors;
+        typeDefSuperTypes.put(typeName, superTypes.isEmpty() ? null : Collections.unmodifiableList(superTypes));
+        typeDefAllProperties.put(typeName, Collections.unmodifiableList(allProperties));
+
+        if ((validNames) && (typeDef.getCategory() != null))
+        {
+            InstanceType instanceType = new InstanceType();
+
+            instanceType.setTypeDefCategory(typeDef.getCategory());
+            instanceType.setTypeDefGUID(typeDef.getGUID());
+            instanceType.setTypeDefName(typeName);
+            instanceType.setTypeDefVersion(typeDef.getVersion());
+            instanceType.setTypeDefDescription(typeDef.getDescription());
+            instanceType.setTypeDefDescriptionGUID(typeDef.getDescriptionGUID());
+            instanceType.setTypeDefSuperTypes(typeDefSuperTypes.get(typeName));
+
+            if (! propertyNames.isEmpty())
+            {
+                instanceType.setValidInstanceProperties(propertyNames);
+            }
+
+            instanceTypes.put(typeName, instanceType);
+        }
+    }
+
+
+    /**
+     * Add the property definitions and names of a type to the lists for its subtype.  The definitions are
+     * accumulated subtype first.  The names are accumulated with the top-level type's names first to match
+     * the order used by the content manager when it builds an InstanceType.
+     *
+     * @param typeDef type to extract the properties from
+     * @param allProperties accumulated list of property definitions
+     * @param propertyNames accumulated list of property names
+     * @param isSuperType is this a super type of the type being processed
+     * @return boolean indicating that all of the property definitions have names
+     */
+    private boolean addProperties(TypeDef                typeDef,
+                                  List<TypeDefAttribute> allProperties,
+                                  List<String>           propertyNames,
+                                  boolean                isSuperType)
+    {
+        List<TypeDefAttribute> propertiesDefinition = typeDef.getPropertiesDefinition();
+        List<String>           typeDefNames         = new ArrayList<>();
+        boolean                validNames           = true;
+
+        if (propertiesDefinition != null)
+        {
+            allProperties.addAll(propertiesDefinition);
+
+            for (TypeDefAttribute propertyDefinition : propertiesDefinition)
+            {
+                if ((propertyDefinition == null) || (propertyDefinition.getAttributeName() == null))
+                {
+                    validNames = false;
+                }
+                else
+                {
+                    typeDefNames.add(propertyDefinition.getAttributeName());
+                }
+            }
+        }
+
+        if (isSuperType)
+        {
+            propertyNames.addAll(0, typeDefNames);
+        }
+        else
+        {
+            propertyNames.addAll(typeDefNames);
+        }
+
+        return validNames;
+    }
+
+
+    /**
+     * Return the TypeDef that the snapshot was built from.
+     *
+     * @param typeName name of the type
+     * @return TypeDef or null if the type is not in the snapshot
+     */
+    TypeDef getTypeDef(String typeName)
+    {
+        return typeDefs.get(typeName);
+    }
+
+
+    /**
+     * Return whether the snapshot can resolve the hierarchy of a type.
+     *
+     * @param typeName name of the type
+     * @return boolean
+     */
+    boolean isKnownType(String typeName)
+    {
+        return typeNameIds.containsKey(typeName);
+    }
+
+
+    /**
+     * Test whether a type is the same as, or a subtype of, the expected type.
+     *
+     * @param actualTypeName name of the type to test - must be known to the snapshot
+     * @param expectedTypeName name of the expected type
+     * @return boolean
+     */
+    boolean isTypeOf(String actualTypeName,
+                     String expectedTypeName)
+    {
+        Integer expectedTypeId = typeNameIds.get(expectedTypeName);
+
+        return (expectedTypeId != null) && (typeAncestors[typeNameIds.get(actualTypeName)].get(expectedTypeId));
+    }
+
+
+    /**
+     * Test whether a type is the same as, or a subtype of, the expected type.
+     *
+     * @param actualTypeName name of the type to test - must be known to the snapshot
+     * @param expectedTypeGUID unique identifier of the expected type
+     * @return boolean
+     */
+    boolean isTypeOfByGUID(String actualTypeName,
+                           String expectedTypeGUID)
+    {
+        Integer expectedTypeId = typeGUIDIds.get(expectedTypeGUID);
+
+        return (expectedTypeId != null) && (typeAncestors[typeNameIds.get(actualTypeName)].get(expectedTypeId));
+    }
+
+
+    /**
+     * Return the super types of a type, nearest first.
+     *
+     * @param typeName name of the type - must be known to the snapshot
+     * @return unmodifiable list of super type links or null if the type is top-level
+     */
+    List<TypeDefLink> getSuperTypes(String typeName)
+    {
+        return typeDefSuperTypes.get(typeName);
+    }
+
+
+    /**
+     * Return the property definitions of a type and all of its super types.
+     *
+     * @param typeName name of the type
+     * @return unmodifiable list of property definitions or null if the type is not in the snapshot
+     */
+    List<TypeDefAttribute> getAllProperties(String typeName)
+    {
+        return typeDefAllProperties.get(typeName);
+    }
+
+
+    /**
+     * Return the InstanceType for a type.
+     *
+     * @param typeName name of the type
+     * @return InstanceType or null if the type is not in the snapshot or its TypeDef is invalid
+     */
+    InstanceType getInstanceType(String typeName)
+    {
+        return instanceTypes.get(typeName);
+    }
+}
@@ -0,0 +1,110 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Test the configuration of the federated queries issued by the enterprise connector.
+ */
+public class EnterpriseOMRSRepositoryConnectorTest
+{
+    /**
+     * The configuration properties are accepted as any type of number.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testFederationProperties() throws Exception
+    {
+        assertEquals(getMaxFederationThreads(4), 4);
+        assertEquals(getMaxFederationThreads(5L), 5);
+        assertEquals(getMaxFederationThreads(6.0), 6);
+        assertEquals(getMaxFederationThreads(null), 10);
+
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put("repositoryTimeout", 100);
+        configurationProperties.put("queryTimeout", 200L);
+
+        EnterpriseOMRSRepositoryConnector connector = getConnector(configurationProperties);
+
+        assertEquals(connector.getRepositoryTimeout(), 100);
+        assertEquals(connector.getQueryTimeout(), 200);
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * A pool size of zero issues the federated queries on the calling thread.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testNoFederationThreads() throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        configurationProperties.put("maxFederationThreads", 0);
+
+        EnterpriseOMRSRepositoryConnector connector = getConnector(configurationProperties);
+
+        assertNull(connector.getFederationExecutor());
+
+        connector.disconnect();
+    }
+
+
+    /**
+     * Return the size of the worker pool created for the maxFederationThreads property.
+     *
+     * @param maxFederationThreads value of the property (null means not set)
+     * @return maximum number of worker threads
+     * @throws Exception unable to start the connector
+     */
+    private int getMaxFederationThreads(Object maxFederationThreads) throws Exception
+    {
+        Map<String, Object> configurationProperties = new HashMap<>();
+
+        if (maxFederationThreads != null)
+        {
+            configurationProperties.put("maxFederationThreads", maxFederationThreads);
+        }
+
+        EnterpriseOMRSRepositoryConnector connector = getConnector(configurationProperties);
+        int                               poolSize  = ((ThreadPoolExecutor)connector.getFederationExecutor()).getMaximumPoolSize();
+
+        connector.disconnect();
+
+        return poolSize;
+    }
+
+
+    /**
+     * Return a started enterprise connector registered with a mock connector manager.
+     *
+     * @param configurationProperties properties for the connection
+     * @return connector
+     * @throws Exception unable to start the connector
+     */
+    private EnterpriseOMRSRepositoryConnector getConnector(Map<String, Object> configurationProperties) throws Exception
+    {
+        EnterpriseOMRSRepositoryConnector connector = new EnterpriseOMRSRepositoryConnector(mock(OMRSConnectorManager.class));
+
+        connector.initialize("TestEnterpriseConnector", new EnterpriseOMRSConnection(configurationProperties));
+        connector.start();
+
+        return connector;
+    }
+}
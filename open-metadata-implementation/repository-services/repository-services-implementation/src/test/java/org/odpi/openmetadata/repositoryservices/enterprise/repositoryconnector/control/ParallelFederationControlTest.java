@@ -0,0 +1,515 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.mockito.stubbing.Answer;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.executors.FindEntitiesExecutor;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Test the parallel federation of queries to the repositories in the cohort, the deadlines
+ * of the federated queries and the merging of the results.
+ */
+public class ParallelFederationControlTest
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "findEntities";
+    private static final long   timeout    = 5000;
+
+    private static final String timeoutMessageId     = "OMRS-AUDIT-0044";
+    private static final String partialMessageId     = "OMRS-AUDIT-0045";
+
+    private ExecutorService      federationExecutor;
+    private List<AuditLogRecord> auditLogRecords;
+    private CountDownLatch       releaseSlowRepositories;
+
+
+    /**
+     * Create the worker pool and the audit log destination for each test.
+     */
+    @BeforeMethod
+    public void setUpFederation()
+    {
+        federationExecutor      = Executors.newFixedThreadPool(4);
+        auditLogRecords         = new CopyOnWriteArrayList<>();
+        releaseSlowRepositories = new CountDownLatch(1);
+    }
+
+
+    /**
+     * Release any repositories that are still running and stop the worker pool.
+     */
+    @AfterMethod
+    public void tearDownFederation()
+    {
+        releaseSlowRepositories.countDown();
+        federationExecutor.shutdownNow();
+    }
+
+
+    /**
+     * The requests run at the same time and the latest version of each entity is returned.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testMergedResults() throws Exception
+    {
+        CountDownLatch allRequestsRunning = new CountDownLatch(3);
+        Answer<List<EntityDetail>> repository1 = waitForOtherRequests(allRequestsRunning, Arrays.asList(getEntity("guid-1", 1),
+                                                                                                           getEntity("guid-2", 1)));
+        Answer<List<EntityDetail>> repository2 = waitForOtherRequests(allRequestsRunning, Collections.singletonList(getEntity("guid-1", 2)));
+        Answer<List<EntityDetail>> repository3 = waitForOtherRequests(allRequestsRunning, null);
+
+        FindEntitiesExecutor executor = getExecutor();
+
+        getFederationControl(Arrays.asList(getConnector("repository-1", repository1),
+                                           getConnector("repository-2", repository2),
+                                           getConnector("repository-3", repository3)),
+                             timeout,
+                             timeout).executeCommand(executor);
+
+        List<EntityDetail> results = executor.getResults(null);
+
+        assertNotNull(results);
+        assertEquals(results.size(), 2);
+
+        for (EntityDetail entity : results)
+        {
+            if ("guid-1".equals(entity.getGUID()))
+            {
+                assertEquals(entity.getVersion(), 2);
+            }
+        }
+
+        assertTrue(auditLogRecords.isEmpty());
+    }
+
+
+    /**
+     * A repository that misses its deadline is left out of the results and the partial results are recorded.
+     * Its results are ignored if they arrive later.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testRepositoryTimeout() throws Exception
+    {
+        CountDownLatch       lateResultsReturned = new CountDownLatch(1);
+        FindEntitiesExecutor executor            = getExecutor();
+        long                 startTime           = System.currentTimeMillis();
+
+        getFederationControl(Arrays.asList(getConnector("repository-1", respond(Collections.singletonList(getEntity("guid-1", 1)))),
+                                           getConnector("repository-2", respondLate(Collections.singletonList(getEntity("guid-2", 1)),
+                                                                                    lateResultsReturned))),
+                             200,
+                             timeout).executeCommand(executor);
+
+        assertTrue(System.currentTimeMillis() - startTime < timeout);
+        assertEquals(getGUIDs(executor.getResults(null)), Collections.singletonList("guid-1"));
+        assertEquals(getMessageIds(), Arrays.asList(timeoutMessageId, partialMessageId));
+        assertTrue(auditLogRecords.get(1).getMessageText().contains("repository-2"));
+
+        releaseSlowRepositories.countDown();
+        assertTrue(lateResultsReturned.await(timeout, TimeUnit.MILLISECONDS));
+        Thread.sleep(200);
+
+        assertEquals(getGUIDs(executor.getResults(null)), Collections.singletonList("guid-1"));
+    }
+
+
+    /**
+     * The repository deadline is measured from the time the query starts to wait, so a request that is queued
+     * for a worker thread behind another request can not extend the wait.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testQueuedRequestTimeout() throws Exception
+    {
+        federationExecutor.shutdownNow();
+        federationExecutor = Executors.newSingleThreadExecutor();
+
+        FindEntitiesExecutor executor  = getExecutor();
+        long                 startTime = System.currentTimeMillis();
+
+        getFederationControl(Arrays.asList(getConnector("repository-1", respondAfter(300, Collections.singletonList(getEntity("guid-1", 1)))),
+                                           getConnector("repository-2", respondAfter(300, Collections.singletonList(getEntity("guid-2", 1))))),
+                             450,
+                             timeout).executeCommand(executor);
+
+        assertTrue(System.currentTimeMillis() - startTime < 550);
+        assertEquals(getGUIDs(executor.getResults(null)), Collections.singletonList("guid-1"));
+        assertEquals(getMessageIds(), Arrays.asList(timeoutMessageId, partialMessageId));
+    }
+
+
+    /**
+     * The query deadline limits the wait for all of the repositories.  If none respond, the timeout is returned.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testQueryTimeout() throws Exception
+    {
+        FindEntitiesExecutor executor  = getExecutor();
+        long                 startTime = System.currentTimeMillis();
+
+        getFederationControl(Arrays.asList(getConnector("repository-1", respondLate(null, new CountDownLatch(1))),
+                                           getConnector("repository-2", respondLate(null, new CountDownLatch(1)))),
+                             0,
+                             300).executeCommand(executor);
+
+        assertTrue(System.currentTimeMillis() - startTime < timeout);
+        assertEquals(getMessageIds(), Arrays.asList(timeoutMessageId, timeoutMessageId));
+
+        try
+        {
+            executor.getResults(null);
+            fail("The timeout was not returned");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertEquals(error.getReportedErrorMessageId(), OMRSErrorCode.FEDERATED_REQUEST_TIMEOUT.getMessageDefinition().getMessageId());
+        }
+    }
+
+
+    /**
+     * An error returned by a repository is not replaced by the timeout of another repository.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testRepositoryErrorKept() throws Exception
+    {
+        RepositoryErrorException repositoryError = new RepositoryErrorException(OMRSErrorCode.NO_REPOSITORIES.getMessageDefinition(),
+                                                                                this.getClass().getName(),
+                                                                                methodName);
+        FindEntitiesExecutor     executor        = getExecutor();
+
+        getFederationControl(Arrays.asList(getConnector("repository-1", invocation -> { throw repositoryError; }),
+                                           getConnector("repository-2", respondLate(null, new CountDownLatch(1)))),
+                             200,
+                             timeout).executeCommand(executor);
+
+        try
+        {
+            executor.getResults(null);
+            fail("The repository error was not returned");
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertEquals(error, repositoryError);
+        }
+    }
+
+
+    /**
+     * Interrupting the caller abandons the query rather than recording every repository as timed out.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testInterrupted() throws Exception
+    {
+        FindEntitiesExecutor executor  = getExecutor();
+        FederationControl    control   = getFederationControl(Arrays.asList(getConnector("repository-1", respondLate(null, new CountDownLatch(1))),
+                                                                            getConnector("repository-2", respondLate(null, new CountDownLatch(1)))),
+                                                              timeout,
+                                                              timeout);
+
+        AtomicReference<Exception> callerError       = new AtomicReference<>();
+        AtomicBoolean              callerInterrupted = new AtomicBoolean(false);
+        Thread                     caller            = new Thread(() ->
+        {
+            try
+            {
+                control.executeCommand(executor);
+            }
+            catch (Exception error)
+            {
+                callerError.set(error);
+            }
+
+            callerInterrupted.set(Thread.currentThread().isInterrupted());
+        });
+
+        caller.start();
+        caller.join(200);
+        assertTrue(caller.isAlive());
+
+        caller.interrupt();
+        caller.join(timeout);
+        assertFalse(caller.isAlive());
+
+        assertTrue(callerError.get() instanceof RepositoryErrorException);
+        assertEquals(((RepositoryErrorException)callerError.get()).getReportedErrorMessageId(),
+                     OMRSErrorCode.FEDERATED_REQUEST_INTERRUPTED.getMessageDefinition().getMessageId());
+        assertTrue(callerInterrupted.get());
+        assertTrue(auditLogRecords.isEmpty());
+    }
+
+
+    /**
+     * Return the federation control under test.
+     *
+     * @param cohortConnectors connectors to the repositories
+     * @param repositoryTimeout deadline for each repository
+     * @param queryTimeout deadline for the query
+     * @return federation control
+     */
+    private FederationControl getFederationControl(List<OMRSRepositoryConnector> cohortConnectors,
+                                                   long                          repositoryTimeout,
+                                                   long                          queryTimeout)
+    {
+        return new ParallelFederationControl(userId, cohortConnectors, federationExecutor, repositoryTimeout, queryTimeout, methodName);
+    }
+
+
+    /**
+     * Return an executor for a findEntities request that records its audit log messages.
+     *
+     * @return executor
+     */
+    private FindEntitiesExecutor getExecutor()
+    {
+        AuditLog auditLog = new AuditLog(new AuditLogDestination(Collections.emptyMap())
+                                         {
+                                             public void addLogRecord(AuditLogRecord logRecord)
+                                             {
+                                                 auditLogRecords.add(logRecord);
+                                             }
+                                         },
+                                         0,
+                                         "TestFederation",
+                                         "Test federation",
+                                         null);
+
+        return new FindEntitiesExecutor(userId,
+                                        null,
+                                        null,
+                                        null,
+                                        0,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        null,
+                                        100,
+                                        null,
+                                        auditLog,
+                                        mock(OMRSRepositoryValidator.class),
+                                        methodName);
+    }
+
+
+    /**
+     * Return a connector to a repository that responds to findEntities with the supplied answer.
+     *
+     * @param metadataCollectionId identifier of the repository's metadata collection
+     * @param findEntitiesAnswer response to findEntities
+     * @return connector
+     * @throws Exception unable to set up the mocks
+     */
+    private OMRSRepositoryConnector getConnector(String                     metadataCollectionId,
+                                                 Answer<List<EntityDetail>> findEntitiesAnswer) throws Exception
+    {
+        OMRSRepositoryConnector connector          = mock(OMRSRepositoryConnector.class);
+        OMRSMetadataCollection  metadataCollection = mock(OMRSMetadataCollection.class);
+
+        when(connector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(connector.getMetadataCollectionId()).thenReturn(metadataCollectionId);
+        when(metadataCollection.getMetadataCollectionId(userId)).thenReturn(metadataCollectionId);
+        when(metadataCollection.findEntities(any(), any(), any(), any(), anyInt(), any(), any(), any(), any(), any(), anyInt())).thenAnswer(findEntitiesAnswer);
+
+        return connector;
+    }
+
+
+    /**
+     * Return an answer that responds immediately.
+     *
+     * @param results entities to return
+     * @return answer
+     */
+    private Answer<List<EntityDetail>> respond(List<EntityDetail> results)
+    {
+        return invocation -> results;
+    }
+
+
+    /**
+     * Return an answer that responds after a delay.
+     *
+     * @param delay time in milliseconds before responding
+     * @param results entities to return
+     * @return answer
+     */
+    private Answer<List<EntityDetail>> respondAfter(long               delay,
+                                                    List<EntityDetail> results)
+    {
+        return invocation ->
+        {
+            Thread.sleep(delay);
+
+            return results;
+        };
+    }
+
+
+    /**
+     * Return an answer that only responds when all of the requests are running.
+     *
+     * @param allRequestsRunning counted down as each request starts
+     * @param results entities to return
+     * @return answer
+     */
+    private Answer<List<EntityDetail>> waitForOtherRequests(CountDownLatch     allRequestsRunning,
+                                                            List<EntityDetail> results)
+    {
+        return invocation ->
+        {
+            allRequestsRunning.countDown();
+
+            if (! allRequestsRunning.await(timeout, TimeUnit.MILLISECONDS))
+            {
+                throw new IllegalStateException("The requests did not run in parallel");
+            }
+
+            return results;
+        };
+    }
+
+
+    /**
+     * Return an answer that does not respond until the slow repositories are released, even if its request
+     * is cancelled.
+     *
+     * @param results entities to return
+     * @param resultsReturned counted down when the results are returned
+     * @return answer
+     */
+    private Answer<List<EntityDetail>> respondLate(List<EntityDetail> results,
+                                                   CountDownLatch     resultsReturned)
+    {
+        return invocation ->
+        {
+            boolean released = false;
+
+            while (! released)
+            {
+                try
+                {
+                    released = releaseSlowRepositories.await(timeout, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException error)
+                {
+                    /*
+                     * A cancelled request carries on, like a repository that ignores the interrupt.
+                     */
+                }
+            }
+
+            resultsReturned.countDown();
+
+            return results;
+        };
+    }
+
+
+    /**
+     * Return an entity.
+     *
+     * @param guid unique identifier
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Return the sorted GUIDs of the entities.
+     *
+     * @param entities list of entities (may be null)
+     * @return list of GUIDs
+     */
+    private List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                guids.add(entity.getGUID());
+            }
+        }
+
+        Collections.sort(guids);
+
+        return guids;
+    }
+
+
+    /**
+     * Return the message identifiers of the audit log records in the order they were logged.
+     *
+     * @return list of message identifiers
+     */
+    private List<String> getMessageIds()
+    {
+        List<String> messageIds = new ArrayList<>();
+
+        for (AuditLogRecord auditLogRecord : auditLogRecords)
+        {
+            messageIds.add(auditLogRecord.getMessageId());
+        }
+
+        return messageIds;
+    }
+}
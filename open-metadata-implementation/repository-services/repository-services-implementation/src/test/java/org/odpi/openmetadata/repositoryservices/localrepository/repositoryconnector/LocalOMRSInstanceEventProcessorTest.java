@@ -0,0 +1,420 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconnector;
+
+import org.mockito.InOrder;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogDestination;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryeventmapper.OMRSRepositoryEventProcessor;
+import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Test the batching of the reference copies saved from cohort events by LocalOMRSInstanceEventProcessor.
+ */
+public class LocalOMRSInstanceEventProcessorTest
+{
+    private static final String localMetadataCollectionId  = "local-collection";
+    private static final String remoteMetadataCollectionId = "remote-collection";
+    private static final String cohortName                 = "testCohort";
+    private static final String userId                     = "testUser";
+
+    /*
+     * A window that does not end during a test, so the batches are only saved by the events under test.
+     */
+    private static final long   longBatchWindow            = 600000;
+
+    private OMRSMetadataCollection   metadataCollection;
+    private OMRSRepositoryConnector  repositoryConnector;
+    private OMRSRepositoryHelper     repositoryHelper;
+    private OMRSRepositoryValidator  repositoryValidator;
+    private OMRSRepositoryEventExchangeRule saveExchangeRule;
+    private List<List<EntityDetail>> savedEntityBatches;
+    private List<AuditLogRecord>     auditLogRecords;
+
+
+    /**
+     * Set up a local repository that records the batches it is asked to save.
+     *
+     * @throws Exception unable to set up the mocks
+     */
+    @BeforeMethod
+    public void setUpRepository() throws Exception
+    {
+        metadataCollection  = mock(OMRSMetadataCollection.class);
+        repositoryConnector = mock(OMRSRepositoryConnector.class);
+        repositoryHelper    = mock(OMRSRepositoryHelper.class);
+        repositoryValidator = mock(OMRSRepositoryValidator.class);
+        saveExchangeRule    = mock(OMRSRepositoryEventExchangeRule.class);
+        savedEntityBatches  = new CopyOnWriteArrayList<>();
+        auditLogRecords     = new CopyOnWriteArrayList<>();
+
+        when(repositoryConnector.getMetadataCollection()).thenReturn(metadataCollection);
+        when(repositoryConnector.getServerUserId()).thenReturn(userId);
+        when(repositoryValidator.isActiveType(anyString(), anyString(), anyString())).thenReturn(true);
+        when(saveExchangeRule.processInstanceEvent(any(InstanceHeader.class))).thenReturn(true);
+
+        /*
+         * The list passed to the metadata collection is copied because the caller may reuse it.
+         */
+        doAnswer(invocation ->
+                 {
+                     savedEntityBatches.add(new ArrayList<>(invocation.<List<EntityDetail>>getArgument(1)));
+                     return null;
+                 }).when(metadataCollection).saveEntityReferenceCopies(anyString(), anyList());
+    }
+
+
+    /**
+     * Only the latest version of an instance that arrives in a window is saved, whatever order its events arrive in.
+     */
+    @Test
+    public void testVersionCoalescing()
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = getEventProcessor(longBatchWindow, 100);
+        Date                            createTime     = new Date(1000);
+
+        sendEntity(eventProcessor, getEntity("guid-1", createTime, 1));
+        sendEntity(eventProcessor, getEntity("guid-1", createTime, 3));
+        sendEntity(eventProcessor, getEntity("guid-1", createTime, 2));
+        sendEntity(eventProcessor, getEntity("guid-2", createTime, 1));
+
+        eventProcessor.disconnect();
+
+        assertEquals(savedEntityBatches.size(), 1);
+        assertEquals(savedEntityBatches.get(0).size(), 2);
+        assertEquals(savedEntityBatches.get(0).get(0).getGUID(), "guid-1");
+        assertEquals(savedEntityBatches.get(0).get(0).getVersion(), 3);
+        assertEquals(savedEntityBatches.get(0).get(1).getGUID(), "guid-2");
+    }
+
+
+    /**
+     * A second instance with the same GUID but a different create time causes the waiting batch to be saved
+     * first so the two instances are not merged.
+     */
+    @Test
+    public void testCreateTimeConflict()
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = getEventProcessor(longBatchWindow, 100);
+
+        sendEntity(eventProcessor, getEntity("guid-1", new Date(1000), 1));
+        sendEntity(eventProcessor, getEntity("guid-2", new Date(1000), 1));
+
+        assertTrue(savedEntityBatches.isEmpty());
+
+        sendEntity(eventProcessor, getEntity("guid-1", new Date(2000), 1));
+
+        assertEquals(savedEntityBatches.size(), 1);
+        assertEquals(getGUIDs(savedEntityBatches.get(0)), guids("guid-1", "guid-2"));
+
+        eventProcessor.disconnect();
+
+        assertEquals(savedEntityBatches.size(), 2);
+        assertEquals(savedEntityBatches.get(1).get(0).getCreateTime(), new Date(2000));
+    }
+
+
+    /**
+     * An event that is not batched causes the waiting reference copies to be saved before it is processed.
+     * The entities are saved before the relationships.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testFlushOnNonBatchedEvent() throws Exception
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = getEventProcessor(longBatchWindow, 100);
+        EntityDetail                    entity         = getEntity("guid-1", new Date(1000), 1);
+
+        sendEntity(eventProcessor, entity);
+        eventProcessor.processNewRelationshipEvent(cohortName,
+                                                   remoteMetadataCollectionId,
+                                                   "remoteServer",
+                                                   "remoteServerType",
+                                                   "remoteOrganization",
+                                                   getRelationship("relationship-guid-1"));
+
+        verify(metadataCollection, never()).saveEntityReferenceCopies(anyString(), anyList());
+
+        OMRSInstanceEvent   deleteEvent = new OMRSInstanceEvent(OMRSInstanceEventType.DELETED_ENTITY_EVENT, entity);
+        OMRSEventOriginator originator  = new OMRSEventOriginator();
+
+        originator.setMetadataCollectionId(remoteMetadataCollectionId);
+        originator.setServerName("remoteServer");
+        deleteEvent.setEventOriginator(originator);
+
+        eventProcessor.sendInstanceEvent(cohortName, deleteEvent);
+
+        InOrder saveOrder = inOrder(metadataCollection);
+
+        saveOrder.verify(metadataCollection).saveEntityReferenceCopies(eq(userId), anyList());
+        saveOrder.verify(metadataCollection).saveRelationshipReferenceCopies(eq(userId), anyList());
+        saveOrder.verify(metadataCollection).deleteEntityReferenceCopy(userId, entity);
+    }
+
+
+    /**
+     * If the batch can not be saved, each reference copy is saved on its own so an error only affects the
+     * reference copy that caused it.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testPerItemFallback() throws Exception
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = getEventProcessor(longBatchWindow, 100);
+        EntityDetail                    entity1        = getEntity("guid-1", new Date(1000), 1);
+        EntityDetail                    entity2        = getEntity("guid-2", new Date(1000), 1);
+        EntityDetail                    entity3        = getEntity("guid-3", new Date(1000), 1);
+
+        doThrow(RepositoryErrorException.class).when(metadataCollection).saveEntityReferenceCopies(anyString(), anyList());
+        doThrow(RepositoryErrorException.class).when(metadataCollection).saveEntityReferenceCopy(userId, entity2);
+
+        sendEntity(eventProcessor, entity1);
+        sendEntity(eventProcessor, entity2);
+        sendEntity(eventProcessor, entity3);
+
+        int auditLogRecordCount = auditLogRecords.size();
+
+        eventProcessor.disconnect();
+
+        verify(metadataCollection).saveEntityReferenceCopy(userId, entity1);
+        verify(metadataCollection).saveEntityReferenceCopy(userId, entity2);
+        verify(metadataCollection).saveEntityReferenceCopy(userId, entity3);
+        assertEquals(auditLogRecords.size(), auditLogRecordCount + 1);
+    }
+
+
+    /**
+     * The waiting reference copies are saved when the batch is full, when the batch window ends and when the
+     * local repository disconnects.
+     *
+     * @throws Exception the test failed
+     */
+    @Test
+    public void testFlushTriggers() throws Exception
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = getEventProcessor(longBatchWindow, 2);
+
+        sendEntity(eventProcessor, getEntity("guid-1", new Date(1000), 1));
+        assertTrue(savedEntityBatches.isEmpty());
+        sendEntity(eventProcessor, getEntity("guid-2", new Date(1000), 1));
+        assertEquals(savedEntityBatches.size(), 1);
+
+        sendEntity(eventProcessor, getEntity("guid-3", new Date(1000), 1));
+        eventProcessor.disconnect();
+        assertEquals(savedEntityBatches.size(), 2);
+        assertEquals(getGUIDs(savedEntityBatches.get(1)), guids("guid-3"));
+
+        eventProcessor = getEventProcessor(20, 100);
+
+        sendEntity(eventProcessor, getEntity("guid-4", new Date(1000), 1));
+        verify(metadataCollection, timeout(5000).times(3)).saveEntityReferenceCopies(anyString(), anyList());
+        assertEquals(getGUIDs(savedEntityBatches.get(2)), guids("guid-4"));
+
+        eventProcessor.disconnect();
+    }
+
+
+    /**
+     * A batch window of zero saves each reference copy as its event arrives.
+     */
+    @Test
+    public void testNoBatchWindow()
+    {
+        LocalOMRSInstanceEventProcessor eventProcessor = getEventProcessor(0, 100);
+
+        sendEntity(eventProcessor, getEntity("guid-1", new Date(1000), 1));
+        sendEntity(eventProcessor, getEntity("guid-1", new Date(1000), 2));
+
+        assertEquals(savedEntityBatches.size(), 2);
+    }
+
+
+    /**
+     * Create the event processor under test.
+     *
+     * @param batchWindow number of milliseconds that reference copies wait to be saved
+     * @param batchSize maximum number of reference copies in a batch
+     * @return event processor
+     */
+    private LocalOMRSInstanceEventProcessor getEventProcessor(long batchWindow,
+                                                              int  batchSize)
+    {
+        AuditLog auditLog = new AuditLog(new AuditLogDestination(Collections.emptyMap())
+                                         {
+                                             public void addLogRecord(AuditLogRecord logRecord)
+                                             {
+                                                 auditLogRecords.add(logRecord);
+                                             }
+                                         },
+                                         0,
+                                         "TestEventProcessor",
+                                         "Test event processor",
+                                         null);
+
+        return new LocalOMRSInstanceEventProcessor(localMetadataCollectionId,
+                                                   "testServer",
+                                                   repositoryConnector,
+                                                   repositoryHelper,
+                                                   repositoryValidator,
+                                                   saveExchangeRule,
+                                                   mock(OMRSRepositoryEventProcessor.class),
+                                                   batchWindow,
+                                                   batchSize,
+                                                   auditLog);
+    }
+
+
+    /**
+     * Pass an entity to the event processor as an updated entity event.
+     *
+     * @param eventProcessor event processor under test
+     * @param entity entity from the event
+     */
+    private void sendEntity(LocalOMRSInstanceEventProcessor eventProcessor,
+                            EntityDetail                    entity)
+    {
+        eventProcessor.processUpdatedEntityEvent(cohortName,
+                                                 remoteMetadataCollectionId,
+                                                 "remoteServer",
+                                                 "remoteServerType",
+                                                 "remoteOrganization",
+                                                 null,
+                                                 entity);
+    }
+
+
+    /**
+     * Create an entity from the remote repository.
+     *
+     * @param guid unique identifier of the entity
+     * @param createTime time the entity was created
+     * @param version version of the entity
+     * @return entity
+     */
+    private EntityDetail getEntity(String guid,
+                                   Date   createTime,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setType(getInstanceType("TestEntity"));
+        entity.setMetadataCollectionId(remoteMetadataCollectionId);
+        entity.setCreateTime(createTime);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Create a relationship from the remote repository.
+     *
+     * @param guid unique identifier of the relationship
+     * @return relationship
+     */
+    private Relationship getRelationship(String guid)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setType(getInstanceType("TestRelationship"));
+        relationship.setMetadataCollectionId(remoteMetadataCollectionId);
+        relationship.setCreateTime(new Date(1000));
+        relationship.setVersion(1);
+
+        return relationship;
+    }
+
+
+    /**
+     * Create an instance type.
+     *
+     * @param typeName name of the type
+     * @return instance type
+     */
+    private InstanceType getInstanceType(String typeName)
+    {
+        InstanceType instanceType = new InstanceType();
+
+        instanceType.setTypeDefGUID(typeName + "GUID");
+        instanceType.setTypeDefName(typeName);
+        instanceType.setTypeDefVersion(1);
+
+        return instanceType;
+    }
+
+
+    /**
+     * Return the unique identifiers of the entities.
+     *
+     * @param entities entities
+     * @return list of GUIDs
+     */
+    private List<String> getGUIDs(List<EntityDetail> entities)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (EntityDetail entity : entities)
+        {
+            guids.add(entity.getGUID());
+        }
+
+        return guids;
+    }
+
+
+    /**
+     * Return a list of GUIDs.
+     *
+     * @param guids GUIDs
+     * @return list of GUIDs
+     */
+    private List<String> guids(String... guids)
+    {
+        List<String> guidList = new ArrayList<>();
+
+        Collections.addAll(guidList, guids);
+
+        return guidList;
+    }
+}
@@ -112,6 +112,82 @@ public class OMRSRepositoryHelperTest
 
     }
 
+    @Test
+    void testformatEntityResultsSequencing() throws PropertyErrorException, PagingErrorException {
+        List<EntityDetail> fullResults = getTestRankedEntities();
+
+        // a page before the end of the results is selected without sorting them all
+        List<EntityDetail> entities = createHelper().formatEntityResults(new ArrayList<>(fullResults),
+                2,
+                "rank",
+                SequencingOrder.PROPERTY_ASCENDING,
+                3);
+        assertEquals(getGUIDs(entities), Arrays.asList("guid-9", "guid-1", "guid-6"));
+
+        // the last page sorts all of the results, keeping the original order of equal ranks
+        entities = createHelper().formatEntityResults(new ArrayList<>(fullResults),
+                8,
+                "rank",
+                SequencingOrder.PROPERTY_ASCENDING,
+                3);
+        assertEquals(getGUIDs(entities), Arrays.asList("guid-4", "guid-5"));
+
+        entities = createHelper().formatEntityResults(new ArrayList<>(fullResults),
+                0,
+                "rank",
+                SequencingOrder.PROPERTY_DESCENDING,
+                4);
+        assertEquals(getGUIDs(entities), Arrays.asList("guid-5", "guid-4", "guid-7", "guid-2"));
+
+        // no sequencing property leaves the results in their original order
+        entities = createHelper().formatEntityResults(new ArrayList<>(fullResults),
+                1,
+                null,
+                SequencingOrder.ANY,
+                2);
+        assertEquals(getGUIDs(entities), Arrays.asList("guid-1", "guid-2"));
+
+        // beyond the end of the results
+        entities = createHelper().formatEntityResults(new ArrayList<>(fullResults),
+                11,
+                "rank",
+                SequencingOrder.PROPERTY_ASCENDING,
+                3);
+        assertNull(entities);
+    }
+
+    @Test
+    void testformatEntityResultsContinuationCursor() throws PagingErrorException {
+        OMRSRepositoryHelper helper = createHelper();
+        List<EntityDetail> fullResults = getTestRankedEntities();
+        List<String> pagedGUIDs = new ArrayList<>();
+        String cursor = null;
+
+        List<EntityDetail> entities = helper.formatEntityResults(fullResults, cursor, "rank", SequencingOrder.PROPERTY_ASCENDING, 3);
+        while (entities != null) {
+            assertTrue(entities.size() <= 3);
+            pagedGUIDs.addAll(getGUIDs(entities));
+            cursor = helper.getEntityContinuationCursor(entities.get(entities.size() - 1), "rank", SequencingOrder.PROPERTY_ASCENDING);
+            entities = helper.formatEntityResults(fullResults, cursor, "rank", SequencingOrder.PROPERTY_ASCENDING, 3);
+        }
+
+        // equal ranks are sequenced by GUID, and the instance without a rank comes first
+        assertEquals(pagedGUIDs, Arrays.asList("guid-0", "guid-3", "guid-9", "guid-1", "guid-6", "guid-8", "guid-2", "guid-7", "guid-4", "guid-5"));
+
+        // removing an instance that has been returned does not shift the next page
+        cursor = helper.getEntityContinuationCursor(fullResults.get(1), "rank", SequencingOrder.PROPERTY_ASCENDING);
+        fullResults.remove(0);
+        entities = helper.formatEntityResults(fullResults, cursor, "rank", SequencingOrder.PROPERTY_ASCENDING, 2);
+        assertEquals(getGUIDs(entities), Arrays.asList("guid-6", "guid-8"));
+
+        // a cursor from a search with different sequencing is rejected
+        String ascendingCursor = cursor;
+        expectThrows(PagingErrorException.class,
+                () -> helper.formatEntityResults(fullResults, ascendingCursor, "rank", SequencingOrder.PROPERTY_DESCENDING, 2));
+        expectThrows(PagingErrorException.class,
+                () -> helper.formatEntityResults(fullResults, "not-a-cursor", "rank", SequencingOrder.PROPERTY_ASCENDING, 2));
+    }
+
     @Test
     void testRegexHelpers() {
 
@@ -460,6 +536,30 @@ public class OMRSRepositoryHelperTest
 
     }
 
+    private List<EntityDetail> getTestRankedEntities() {
+        int[] ranks = {3, 2, 4, 1, 6, 7, 2, 5, 2, 1};
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (int i = 0; i < ranks.length; i++) {
+            EntityDetail entityDetail = new EntityDetail();
+            setupEntitySummary(entityDetail);
+            entityDetail.setGUID("guid-" + i);
+            if (i > 0) {
+                entityDetail.setProperties(createHelper().addIntPropertyToInstance("test", null, "rank", ranks[i], "getTestRankedEntities"));
+            }
+            entities.add(entityDetail);
+        }
+        return entities;
+    }
+
+    private List<String> getGUIDs(List<EntityDetail> entities) {
+        List<String> guids = new ArrayList<>();
+        for (EntityDetail entityDetail : entities) {
+            guids.add(entityDetail.getGUID());
+        }
+        return guids;
+    }
+
     private Relationship getTestRelationship() {
         Relationship relationship = new Relationship();
         setupTestObject(relationship);
@@ -0,0 +1,102 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+import static org.testng.Assert.*;
+
+public class TypeDefHierarchyTest
+{
+    private TypeDefLink createTypeDefLink(String typeGUID, String typeName)
+    {
+        TypeDefLink typeDefLink = new TypeDefLink();
+
+        typeDefLink.setGUID(typeGUID);
+        typeDefLink.setName(typeName);
+
+        return typeDefLink;
+    }
+
+
+    private EntityDef createEntityDef(String typeName, EntityDef superType, String propertyName)
+    {
+        EntityDef entityDef = new EntityDef();
+
+        entityDef.setGUID(typeName + "GUID");
+        entityDef.setName(typeName);
+        entityDef.setVersion(1L);
+
+        if (superType != null)
+        {
+            entityDef.setSuperType(createTypeDefLink(superType.getGUID(), superType.getName()));
+        }
+
+        TypeDefAttribute attribute = new TypeDefAttribute();
+        attribute.setAttributeName(propertyName);
+        entityDef.setPropertiesDefinition(Collections.singletonList(attribute));
+
+        return entityDef;
+    }
+
+
+    private Map<String, TypeDef> createTypeDefs()
+    {
+        Map<String, TypeDef> typeDefs = new HashMap<>();
+
+        EntityDef referenceable = createEntityDef("Referenceable", null, "qualifiedName");
+        EntityDef asset         = createEntityDef("Asset", referenceable, "name");
+        EntityDef dataStore     = createEntityDef("DataStore", asset, "storeCreateTime");
+        EntityDef orphan        = createEntityDef("Orphan", null, "orphanProperty");
+
+        orphan.setSuperType(createTypeDefLink("UnknownGUID", "Unknown"));
+
+        typeDefs.put(referenceable.getName(), referenceable);
+        typeDefs.put(asset.getName(), asset);
+        typeDefs.put(dataStore.getName(), dataStore);
+        typeDefs.put(orphan.getName(), orphan);
+
+        return typeDefs;
+    }
+
+
+    @Test
+    void testIsTypeOf()
+    {
+        TypeDefHierarchy hierarchy = new TypeDefHierarchy(createTypeDefs());
+
+        assertTrue(hierarchy.isTypeOf("DataStore", "DataStore"));
+        assertTrue(hierarchy.isTypeOf("DataStore", "Asset"));
+        assertTrue(hierarchy.isTypeOf("DataStore", "Referenceable"));
+        assertFalse(hierarchy.isTypeOf("Asset", "DataStore"));
+        assertFalse(hierarchy.isTypeOf("Asset", "Unknown"));
+        assertTrue(hierarchy.isTypeOfByGUID("DataStore", "ReferenceableGUID"));
+        assertFalse(hierarchy.isTypeOfByGUID("Referenceable", "AssetGUID"));
+
+        assertFalse(hierarchy.isKnownType("Orphan"));
+        assertNull(hierarchy.getInstanceType("Orphan"));
+    }
+
+
+    @Test
+    void testInheritedProperties()
+    {
+        TypeDefHierarchy hierarchy = new TypeDefHierarchy(createTypeDefs());
+
+        assertNull(hierarchy.getSuperTypes("Referenceable"));
+        assertEquals(hierarchy.getSuperTypes("DataStore").size(), 2);
+        assertEquals(hierarchy.getSuperTypes("DataStore").get(0).getName(), "Asset");
+        assertEquals(hierarchy.getAllProperties("DataStore").size(), 3);
+        assertEquals(hierarchy.getAllProperties("DataStore").get(0).getAttributeName(), "storeCreateTime");
+
+        InstanceType instanceType = hierarchy.getInstanceType("DataStore");
+
+        assertEquals(instanceType.getTypeDefCategory(), TypeDefCategory.ENTITY_DEF);
+        assertEquals(instanceType.getTypeDefGUID(), "DataStoreGUID");
+        assertEquals(instanceType.getValidInstanceProperties(), Arrays.asList("qualifiedName", "name", "storeCreateTime"));
+    }
+}
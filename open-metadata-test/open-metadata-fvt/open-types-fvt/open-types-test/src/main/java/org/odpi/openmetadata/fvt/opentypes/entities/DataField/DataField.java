@@ -0,0 +1,425 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.DataField;
+
+import java.io.Serializable;
+import java.util.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.odpi.openmetadata.fvt.opentypes.common.SystemAttributes;
+import org.odpi.openmetadata.fvt.opentypes.common.ClassificationBean;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+
+/**
+ * DataField entity.
+   A description of a data field discovered within an Asset.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class  DataField implements Serializable {
+    private static final Logger log = LoggerFactory.getLogger(DataField.class);
+    private static final String className = DataField.class.getName();
+    private SystemAttributes systemAttributes = null;
+    private Date effectiveFromTime = null;
+    private Date effectiveToTime = null;
+    List<ClassificationBean> classifications = null;
+
+    private Map<String, Object> extraAttributes =null;
+    private Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> extraClassificationBeans =null;
+
+
+    /**
+     * Get the system attributes
+     * @return SystemAttributes if populated, null otherwise.
+     */
+    public SystemAttributes getSystemAttributes() {
+        return systemAttributes;
+    }
+
+    public void setSystemAttributes(SystemAttributes systemAttributes) {
+        this.systemAttributes = systemAttributes;
+    }
+
+    // attributes
+    private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+        "dataFieldName",
+        "dataFieldType",
+        "defaultValue",
+        "additionalProperties",
+        "anchorGUID",
+        "dataFieldDescription",
+        "dataFieldAliases",
+        "dataFieldSortOrder",
+
+    // Terminate the list
+        null
+    };
+    private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+        "dataFieldName",
+        "dataFieldType",
+        "defaultValue",
+        "anchorGUID",
+        "dataFieldDescription",
+        "dataFieldAliases",
+
+     // Terminate the list
+        null
+    };
+    private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+         "dataFieldSortOrder",
+
+         // Terminate the list
+          null
+    };
+    private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+         "additionalProperties",
+
+         // Terminate the list
+         null
+    };
+    private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    InstanceProperties obtainInstanceProperties() {
+        final String methodName = "obtainInstanceProperties";
+        if (log.isDebugEnabled()) {
+               log.debug("==> Method: " + methodName);
+        }
+        InstanceProperties instanceProperties = new InstanceProperties();
+        EnumPropertyValue enumPropertyValue=null;
+        enumPropertyValue = new EnumPropertyValue();
+        // sort order for the values of the data field.
+        enumPropertyValue.setOrdinal(dataFieldSortOrder.ordinal());
+        enumPropertyValue.setSymbolicName(dataFieldSortOrder.name());
+        instanceProperties.setProperty("dataFieldSortOrder",enumPropertyValue);
+        MapPropertyValue mapPropertyValue=null;
+        // Additional properties discovered during the analysis.
+        mapPropertyValue = new MapPropertyValue();
+        PrimitivePropertyValue primitivePropertyValue=null;
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(dataFieldName);
+        instanceProperties.setProperty("dataFieldName",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(dataFieldType);
+        instanceProperties.setProperty("dataFieldType",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(defaultValue);
+        instanceProperties.setProperty("defaultValue",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(anchorGUID);
+        instanceProperties.setProperty("anchorGUID",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(dataFieldDescription);
+        instanceProperties.setProperty("dataFieldDescription",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(dataFieldAliases);
+        instanceProperties.setProperty("dataFieldAliases",primitivePropertyValue);
+        if (log.isDebugEnabled()) {
+               log.debug("<== Method: " + methodName);
+        }
+        return instanceProperties;
+    }
+
+       private String dataFieldName;
+       /**
+        * {@literal Display name the data field. }
+        * @return {@code String }
+        */
+       public String getDataFieldName() {
+           return this.dataFieldName;
+       }
+       public void setDataFieldName(String dataFieldName)  {
+           this.dataFieldName = dataFieldName;
+       }
+       private String dataFieldType;
+       /**
+        * {@literal Type name for the data field. }
+        * @return {@code String }
+        */
+       public String getDataFieldType() {
+           return this.dataFieldType;
+       }
+       public void setDataFieldType(String dataFieldType)  {
+           this.dataFieldType = dataFieldType;
+       }
+       private String defaultValue;
+       /**
+        * {@literal Default value that is added to the field if no value is specified. }
+        * @return {@code String }
+        */
+       public String getDefaultValue() {
+           return this.defaultValue;
+       }
+       public void setDefaultValue(String defaultValue)  {
+           this.defaultValue = defaultValue;
+       }
+       private Map<String,String> additionalProperties;
+       /**
+        * {@literal Additional properties discovered during the analysis. }
+        * @return {@code {@code Map<String,String> } }
+        */
+       public Map<String,String> getAdditionalProperties() {
+           return this.additionalProperties;
+       }
+       public void setAdditionalProperties(Map<String,String> additionalProperties)  {
+           this.additionalProperties = additionalProperties;
+       }
+       private String anchorGUID;
+       /**
+        * {@literal Optional identifier of the asset that this data field is indirectly connected to. }
+        * @return {@code String }
+        */
+       public String getAnchorGUID() {
+           return this.anchorGUID;
+       }
+       public void setAnchorGUID(String anchorGUID)  {
+           this.anchorGUID = anchorGUID;
+       }
+       private String dataFieldDescription;
+       /**
+        * {@literal Optional descriptive information about a data field. }
+        * @return {@code String }
+        */
+       public String getDataFieldDescription() {
+           return this.dataFieldDescription;
+       }
+       public void setDataFieldDescription(String dataFieldDescription)  {
+           this.dataFieldDescription = dataFieldDescription;
+       }
+       private List<String> dataFieldAliases;
+       /**
+        * {@literal Optional list of aliases for the data field. }
+        * @return {@code {@code List<String> } }
+        */
+       public List<String> getDataFieldAliases() {
+           return this.dataFieldAliases;
+       }
+       public void setDataFieldAliases(List<String> dataFieldAliases)  {
+           this.dataFieldAliases = dataFieldAliases;
+       }
+       private DataItemSortOrder dataFieldSortOrder;
+       /**
+        * {@literal Sort order for the values of the data field. }
+        * @return {@code DataItemSortOrder }
+        */
+       public DataItemSortOrder getDataFieldSortOrder() {
+           return this.dataFieldSortOrder;
+       }
+       public void setDataFieldSortOrder(DataItemSortOrder dataFieldSortOrder)  {
+           this.dataFieldSortOrder = dataFieldSortOrder;
+       }
+
+   /**
+    * DataField property names
+    * @return Set of Strings of the DataField property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * DataField enum property names
+     * @return Set of Strings of the DataField enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * DataField map property names
+     * @return Set of Strings of the DataField map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * DataField attribute property names
+     * @return Set of Strings of the DataField attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+
+    /**
+     * Return the date/time that this DataField should start to be used (null means it can be used from creationTime).
+     * @return Date the DataField becomes effective.
+     */
+    public Date getEffectiveFromTime()
+    {
+        return effectiveFromTime;
+    }
+
+    public void setEffectiveFromTime(Date effectiveFromTime)
+    {
+        this.effectiveFromTime = effectiveFromTime;
+    }
+    /**
+     * Return the date/time that this DataField should no longer be used.
+     *
+     * @return Date the DataField stops being effective.
+     */
+    public Date getEffectiveToTime()
+    {
+        return effectiveToTime;
+    }
+    public void setEffectiveToTime(Date effectiveToTime)
+    {
+        this.effectiveToTime = effectiveToTime;
+    }
+
+    public void setExtraAttributes(Map<String, Object> extraAttributes) {
+        this.extraAttributes = extraAttributes;
+    }
+
+    public void setClassificationBeans(List<ClassificationBean> classifications) {
+        this.classifications = classifications;
+    }
+
+    /**
+     * Get the extra attributes - ones that are in addition to the standard types.
+     * @return map of attributes, null if there are none
+     */
+    public Map<String, Object> getExtraAttributes() {
+        return extraAttributes;
+    }
+
+     /**
+     * ClassificationBeans
+     * @return List of ClassificationBeans, null if there are none
+     */
+    public List<ClassificationBean> getClassificationBeans() {
+        return classifications;
+    }
+    /**
+      * Extra classifications are classifications that are not in the open metadata model - we include the OMRS ClassificationBeans.
+      * @return Map of classifications with the classification Name as the map key
+      */
+    public Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> getExtraClassificationBeans() {
+        return extraClassificationBeans;
+    }
+
+    public void setExtraClassificationBeans(Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> extraClassificationBeans) {
+        this.extraClassificationBeans = extraClassificationBeans;
+    }
+
+    public StringBuilder toString(StringBuilder sb) {
+        if (sb == null) {
+            sb = new StringBuilder();
+        }
+
+        sb.append("DataField{");
+        if (systemAttributes !=null) {
+            sb.append("systemAttributes='").append(systemAttributes.toString()).append('\'');
+        }
+        sb.append("DataField Attributes{");
+    	sb.append("DataFieldName=" +this.dataFieldName);
+    	sb.append("DataFieldType=" +this.dataFieldType);
+    	sb.append("DefaultValue=" +this.defaultValue);
+    	sb.append("AdditionalProperties=" +this.additionalProperties);
+    	sb.append("AnchorGUID=" +this.anchorGUID);
+    	sb.append("DataFieldDescription=" +this.dataFieldDescription);
+    	sb.append("DataFieldAliases=" +this.dataFieldAliases);
+    	sb.append("DataFieldSortOrder=" +this.dataFieldSortOrder);
+
+        sb.append('}');
+        if (classifications != null) {
+        sb.append(", classifications=[");
+            for (ClassificationBean classification:classifications) {
+                sb.append(classification.toString()).append(", ");
+            }
+            sb.append(" ],");
+        }
+        sb.append(", extraAttributes=[");
+        if (extraAttributes !=null) {
+            for (String attrname: extraAttributes.keySet()) {
+                sb.append(attrname).append(":");
+                sb.append(extraAttributes.get(attrname)).append(", ");
+            }
+        }
+        sb.append(" ]");
+
+        sb.append('}');
+
+        return sb;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        if (!super.equals(o)) { return false; }
+
+        DataField that = (DataField) o;
+        if (this.dataFieldName != null && !Objects.equals(this.dataFieldName,that.getDataFieldName())) {
+             return false;
+        }
+        if (this.dataFieldType != null && !Objects.equals(this.dataFieldType,that.getDataFieldType())) {
+             return false;
+        }
+        if (this.defaultValue != null && !Objects.equals(this.defaultValue,that.getDefaultValue())) {
+             return false;
+        }
+        if (this.additionalProperties != null && !Objects.equals(this.additionalProperties,that.getAdditionalProperties())) {
+             return false;
+        }
+        if (this.anchorGUID != null && !Objects.equals(this.anchorGUID,that.getAnchorGUID())) {
+             return false;
+        }
+        if (this.dataFieldDescription != null && !Objects.equals(this.dataFieldDescription,that.getDataFieldDescription())) {
+             return false;
+        }
+        if (this.dataFieldAliases != null && !Objects.equals(this.dataFieldAliases,that.getDataFieldAliases())) {
+             return false;
+        }
+        if (this.dataFieldSortOrder != null && !Objects.equals(this.dataFieldSortOrder,that.getDataFieldSortOrder())) {
+             return false;
+        }
+
+        // We view dataFields as logically equal by checking the properties that the OMAS knows about - i.e. without accounting for extra attributes and references from the org.odpi.openmetadata.accessservices.subjectarea.server.
+        return Objects.equals(systemAttributes, that.systemAttributes) &&
+                Objects.equals(classifications, that.classifications) ;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(),
+         systemAttributes.hashCode(),
+         classifications.hashCode()
+          , this.dataFieldName
+          , this.dataFieldType
+          , this.defaultValue
+          , this.additionalProperties
+          , this.anchorGUID
+          , this.dataFieldDescription
+          , this.dataFieldAliases
+          , this.dataFieldSortOrder
+        );
+    }
+
+    @Override
+    public String toString() {
+        return toString(new StringBuilder()).toString();
+    }
+}
@@ -0,0 +1,572 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.entities.ObjectAttribute;
+
+import java.io.Serializable;
+import java.util.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.odpi.openmetadata.fvt.opentypes.common.SystemAttributes;
+import org.odpi.openmetadata.fvt.opentypes.common.ClassificationBean;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+// omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EnumPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.MapPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+
+/**
+ * ObjectAttribute entity.
+   An attribute in an object schema type.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class  ObjectAttribute implements Serializable {
+    private static final Logger log = LoggerFactory.getLogger(ObjectAttribute.class);
+    private static final String className = ObjectAttribute.class.getName();
+    private SystemAttributes systemAttributes = null;
+    private Date effectiveFromTime = null;
+    private Date effectiveToTime = null;
+    List<ClassificationBean> classifications = null;
+
+    private Map<String, Object> extraAttributes =null;
+    private Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> extraClassificationBeans =null;
+
+
+    /**
+     * Get the system attributes
+     * @return SystemAttributes if populated, null otherwise.
+     */
+    public SystemAttributes getSystemAttributes() {
+        return systemAttributes;
+    }
+
+    public void setSystemAttributes(SystemAttributes systemAttributes) {
+        this.systemAttributes = systemAttributes;
+    }
+
+    // attributes
+    private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+        "position",
+        "minCardinality",
+        "maxCardinality",
+        "allowsDuplicateValues",
+        "orderedValues",
+        "defaultValueOverride",
+        "nativeClass",
+        "name",
+        "aliases",
+        "sortOrder",
+        "anchorGUID",
+        "displayName",
+        "description",
+        "qualifiedName",
+        "additionalProperties",
+
+    // Terminate the list
+        null
+    };
+    private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+        "position",
+        "minCardinality",
+        "maxCardinality",
+        "allowsDuplicateValues",
+        "orderedValues",
+        "defaultValueOverride",
+        "nativeClass",
+        "name",
+        "aliases",
+        "anchorGUID",
+        "displayName",
+        "description",
+        "qualifiedName",
+
+     // Terminate the list
+        null
+    };
+    private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+         "sortOrder",
+
+         // Terminate the list
+          null
+    };
+    private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+         "additionalProperties",
+
+         // Terminate the list
+         null
+    };
+    private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+    private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    InstanceProperties obtainInstanceProperties() {
+        final String methodName = "obtainInstanceProperties";
+        if (log.isDebugEnabled()) {
+               log.debug("==> Method: " + methodName);
+        }
+        InstanceProperties instanceProperties = new InstanceProperties();
+        EnumPropertyValue enumPropertyValue=null;
+        enumPropertyValue = new EnumPropertyValue();
+        // suggested ordering of values in this attribute.
+        enumPropertyValue.setOrdinal(sortOrder.ordinal());
+        enumPropertyValue.setSymbolicName(sortOrder.name());
+        instanceProperties.setProperty("sortOrder",enumPropertyValue);
+        MapPropertyValue mapPropertyValue=null;
+        // Additional properties for the element.
+        mapPropertyValue = new MapPropertyValue();
+        PrimitivePropertyValue primitivePropertyValue=null;
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(position);
+        instanceProperties.setProperty("position",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(minCardinality);
+        instanceProperties.setProperty("minCardinality",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(maxCardinality);
+        instanceProperties.setProperty("maxCardinality",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(allowsDuplicateValues);
+        instanceProperties.setProperty("allowsDuplicateValues",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(orderedValues);
+        instanceProperties.setProperty("orderedValues",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(defaultValueOverride);
+        instanceProperties.setProperty("defaultValueOverride",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(nativeClass);
+        instanceProperties.setProperty("nativeClass",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(name);
+        instanceProperties.setProperty("name",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(aliases);
+        instanceProperties.setProperty("aliases",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(anchorGUID);
+        instanceProperties.setProperty("anchorGUID",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(displayName);
+        instanceProperties.setProperty("displayName",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(description);
+        instanceProperties.setProperty("description",primitivePropertyValue);
+        primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveValue(qualifiedName);
+        instanceProperties.setProperty("qualifiedName",primitivePropertyValue);
+        if (log.isDebugEnabled()) {
+               log.debug("<== Method: " + methodName);
+        }
+        return instanceProperties;
+    }
+
+       private Integer position;
+       /**
+        * {@literal Location of the attribute in the parent schema's list of attributes, starting at zero. }
+        * @return {@code Integer }
+        */
+       public Integer getPosition() {
+           return this.position;
+       }
+       public void setPosition(Integer position)  {
+           this.position = position;
+       }
+       private Integer minCardinality;
+       /**
+        * {@literal Minimum number of occurrences of this attribute allowed (0 = optional, 1+ = mandatory). }
+        * @return {@code Integer }
+        */
+       public Integer getMinCardinality() {
+           return this.minCardinality;
+       }
+       public void setMinCardinality(Integer minCardinality)  {
+           this.minCardinality = minCardinality;
+       }
+       private Integer maxCardinality;
+       /**
+        * {@literal Maximum number of occurrences of this attribute allowed (-1 = infinite). }
+        * @return {@code Integer }
+        */
+       public Integer getMaxCardinality() {
+           return this.maxCardinality;
+       }
+       public void setMaxCardinality(Integer maxCardinality)  {
+           this.maxCardinality = maxCardinality;
+       }
+       private Boolean allowsDuplicateValues;
+       /**
+        * {@literal When multiple occurrences are allowed, indicates whether duplicates of the same value are allowed or not. }
+        * @return {@code Boolean }
+        */
+       public Boolean getAllowsDuplicateValues() {
+           return this.allowsDuplicateValues;
+       }
+       public void setAllowsDuplicateValues(Boolean allowsDuplicateValues)  {
+           this.allowsDuplicateValues = allowsDuplicateValues;
+       }
+       private Boolean orderedValues;
+       /**
+        * {@literal When multiple occurrences are allowed, indicates whether the values are ordered or not. }
+        * @return {@code Boolean }
+        */
+       public Boolean getOrderedValues() {
+           return this.orderedValues;
+       }
+       public void setOrderedValues(Boolean orderedValues)  {
+           this.orderedValues = orderedValues;
+       }
+       private String defaultValueOverride;
+       /**
+        * {@literal Initial value for the attribute (overriding the default value of its type. }
+        * @return {@code String }
+        */
+       public String getDefaultValueOverride() {
+           return this.defaultValueOverride;
+       }
+       public void setDefaultValueOverride(String defaultValueOverride)  {
+           this.defaultValueOverride = defaultValueOverride;
+       }
+       private String nativeClass;
+       /**
+        * {@literal Native class used by the client to represent this element. }
+        * @return {@code String }
+        */
+       public String getNativeClass() {
+           return this.nativeClass;
+       }
+       public void setNativeClass(String nativeClass)  {
+           this.nativeClass = nativeClass;
+       }
+       private String name;
+       /**
+        * {@literal Name of schema attribute (deprecated). }
+        * @return {@code String }
+        */
+       public String getName() {
+           return this.name;
+       }
+       public void setName(String name)  {
+           this.name = name;
+       }
+       private List<String> aliases;
+       /**
+        * {@literal List of aliases for attribute. }
+        * @return {@code {@code List<String> } }
+        */
+       public List<String> getAliases() {
+           return this.aliases;
+       }
+       public void setAliases(List<String> aliases)  {
+           this.aliases = aliases;
+       }
+       private DataItemSortOrder sortOrder;
+       /**
+        * {@literal Suggested ordering of values in this attribute. }
+        * @return {@code DataItemSortOrder }
+        */
+       public DataItemSortOrder getSortOrder() {
+           return this.sortOrder;
+       }
+       public void setSortOrder(DataItemSortOrder sortOrder)  {
+           this.sortOrder = sortOrder;
+       }
+       private String anchorGUID;
+       /**
+        * {@literal Optional identification of the referenceable that this schema element is a part of. }
+        * @return {@code String }
+        */
+       public String getAnchorGUID() {
+           return this.anchorGUID;
+       }
+       public void setAnchorGUID(String anchorGUID)  {
+           this.anchorGUID = anchorGUID;
+       }
+       private String displayName;
+       /**
+        * {@literal Display name for the element. }
+        * @return {@code String }
+        */
+       public String getDisplayName() {
+           return this.displayName;
+       }
+       public void setDisplayName(String displayName)  {
+           this.displayName = displayName;
+       }
+       private String description;
+       /**
+        * {@literal Description of the element. }
+        * @return {@code String }
+        */
+       public String getDescription() {
+           return this.description;
+       }
+       public void setDescription(String description)  {
+           this.description = description;
+       }
+       private String qualifiedName;
+       /**
+        * {@literal Unique identifier for the entity. }
+        * @return {@code String }
+        */
+       public String getQualifiedName() {
+           return this.qualifiedName;
+       }
+       public void setQualifiedName(String qualifiedName)  {
+           this.qualifiedName = qualifiedName;
+       }
+       private Map<String,String> additionalProperties;
+       /**
+        * {@literal Additional properties for the element. }
+        * @return {@code {@code Map<String,String> } }
+        */
+       public Map<String,String> getAdditionalProperties() {
+           return this.additionalProperties;
+       }
+       public void setAdditionalProperties(Map<String,String> additionalProperties)  {
+           this.additionalProperties = additionalProperties;
+       }
+
+   /**
+    * ObjectAttribute property names
+    * @return Set of Strings of the ObjectAttribute property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * ObjectAttribute enum property names
+     * @return Set of Strings of the ObjectAttribute enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * ObjectAttribute map property names
+     * @return Set of Strings of the ObjectAttribute map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * ObjectAttribute attribute property names
+     * @return Set of Strings of the ObjectAttribute attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+
+    /**
+     * Return the date/time that this ObjectAttribute should start to be used (null means it can be used from creationTime).
+     * @return Date the ObjectAttribute becomes effective.
+     */
+    public Date getEffectiveFromTime()
+    {
+        return effectiveFromTime;
+    }
+
+    public void setEffectiveFromTime(Date effectiveFromTime)
+    {
+        this.effectiveFromTime = effectiveFromTime;
+    }
+    /**
+     * Return the date/time that this ObjectAttribute should no longer be used.
+     *
+     * @return Date the ObjectAttribute stops being effective.
+     */
+    public Date getEffectiveToTime()
+    {
+        return effectiveToTime;
+    }
+    public void setEffectiveToTime(Date effectiveToTime)
+    {
+        this.effectiveToTime = effectiveToTime;
+    }
+
+    public void setExtraAttributes(Map<String, Object> extraAttributes) {
+        this.extraAttributes = extraAttributes;
+    }
+
+    public void setClassificationBeans(List<ClassificationBean> classifications) {
+        this.classifications = classifications;
+    }
+
+    /**
+     * Get the extra attributes - ones that are in addition to the standard types.
+     * @return map of attributes, null if there are none
+     */
+    public Map<String, Object> getExtraAttributes() {
+        return extraAttributes;
+    }
+
+     /**
+     * ClassificationBeans
+     * @return List of ClassificationBeans, null if there are none
+     */
+    public List<ClassificationBean> getClassificationBeans() {
+        return classifications;
+    }
+    /**
+      * Extra classifications are classifications that are not in the open metadata model - we include the OMRS ClassificationBeans.
+      * @return Map of classifications with the classification Name as the map key
+      */
+    public Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> getExtraClassificationBeans() {
+        return extraClassificationBeans;
+    }
+
+    public void setExtraClassificationBeans(Map<String, org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification> extraClassificationBeans) {
+        this.extraClassificationBeans = extraClassificationBeans;
+    }
+
+    public StringBuilder toString(StringBuilder sb) {
+        if (sb == null) {
+            sb = new StringBuilder();
+        }
+
+        sb.append("ObjectAttribute{");
+        if (systemAttributes !=null) {
+            sb.append("systemAttributes='").append(systemAttributes.toString()).append('\'');
+        }
+        sb.append("ObjectAttribute Attributes{");
+    	sb.append("Position=" +this.position);
+    	sb.append("MinCardinality=" +this.minCardinality);
+    	sb.append("MaxCardinality=" +this.maxCardinality);
+    	sb.append("AllowsDuplicateValues=" +this.allowsDuplicateValues);
+    	sb.append("OrderedValues=" +this.orderedValues);
+    	sb.append("DefaultValueOverride=" +this.defaultValueOverride);
+    	sb.append("NativeClass=" +this.nativeClass);
+    	sb.append("Name=" +this.name);
+    	sb.append("Aliases=" +this.aliases);
+    	sb.append("SortOrder=" +this.sortOrder);
+    	sb.append("AnchorGUID=" +this.anchorGUID);
+    	sb.append("DisplayName=" +this.displayName);
+    	sb.append("Description=" +this.description);
+    	sb.append("QualifiedName=" +this.qualifiedName);
+    	sb.append("AdditionalProperties=" +this.additionalProperties);
+
+        sb.append('}');
+        if (classifications != null) {
+        sb.append(", classifications=[");
+            for (ClassificationBean classification:classifications) {
+                sb.append(classification.toString()).append(", ");
+            }
+            sb.append(" ],");
+        }
+        sb.append(", extraAttributes=[");
+        if (extraAttributes !=null) {
+            for (String attrname: extraAttributes.keySet()) {
+                sb.append(attrname).append(":");
+                sb.append(extraAttributes.get(attrname)).append(", ");
+            }
+        }
+        sb.append(" ]");
+
+        sb.append('}');
+
+        return sb;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) { return true; }
+        if (o == null || getClass() != o.getClass()) { return false; }
+        if (!super.equals(o)) { return false; }
+
+        ObjectAttribute that = (ObjectAttribute) o;
+        if (this.position != null && !Objects.equals(this.position,that.getPosition())) {
+             return false;
+        }
+        if (this.minCardinality != null && !Objects.equals(this.minCardinality,that.getMinCardinality())) {
+             return false;
+        }
+        if (this.maxCardinality != null && !Objects.equals(this.maxCardinality,that.getMaxCardinality())) {
+             return false;
+        }
+        if (this.allowsDuplicateValues != null && !Objects.equals(this.allowsDuplicateValues,that.getAllowsDuplicateValues())) {
+             return false;
+        }
+        if (this.orderedValues != null && !Objects.equals(this.orderedValues,that.getOrderedValues())) {
+             return false;
+        }
+        if (this.defaultValueOverride != null && !Objects.equals(this.defaultValueOverride,that.getDefaultValueOverride())) {
+             return false;
+        }
+        if (this.nativeClass != null && !Objects.equals(this.nativeClass,that.getNativeClass())) {
+             return false;
+        }
+        if (this.name != null && !Objects.equals(this.name,that.getName())) {
+             return false;
+        }
+        if (this.aliases != null && !Objects.equals(this.aliases,that.getAliases())) {
+             return false;
+        }
+        if (this.sortOrder != null && !Objects.equals(this.sortOrder,that.getSortOrder())) {
+             return false;
+        }
+        if (this.anchorGUID != null && !Objects.equals(this.anchorGUID,that.getAnchorGUID())) {
+             return false;
+        }
+        if (this.displayName != null && !Objects.equals(this.displayName,that.getDisplayName())) {
+             return false;
+        }
+        if (this.description != null && !Objects.equals(this.description,that.getDescription())) {
+             return false;
+        }
+        if (this.qualifiedName != null && !Objects.equals(this.qualifiedName,that.getQualifiedName())) {
+             return false;
+        }
+        if (this.additionalProperties != null && !Objects.equals(this.additionalProperties,that.getAdditionalProperties())) {
+             return false;
+        }
+
+        // We view objectAttributes as logically equal by checking the properties that the OMAS knows about - i.e. without accounting for extra attributes and references from the org.odpi.openmetadata.accessservices.subjectarea.server.
+        return Objects.equals(systemAttributes, that.systemAttributes) &&
+                Objects.equals(classifications, that.classifications) ;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(),
+         systemAttributes.hashCode(),
+         classifications.hashCode()
+          , this.position
+          , this.minCardinality
+          , this.maxCardinality
+          , this.allowsDuplicateValues
+          , this.orderedValues
+          , this.defaultValueOverride
+          , this.nativeClass
+          , this.name
+          , this.aliases
+          , this.sortOrder
+          , this.anchorGUID
+          , this.displayName
+          , this.description
+          , this.qualifiedName
+          , this.additionalProperties
+        );
+    }
+
+    @Override
+    public String toString() {
+        return toString(new StringBuilder()).toString();
+    }
+}
@@ -0,0 +1,82 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.enums;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * Describes the type of attribute - this is used in scoping the model.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum ConceptModelAttributeCoverageCategory implements Serializable {
+    /**
+      * The attribute's coverage category is unknown - this is the default.
+      */
+    Unknown(0, "The attribute's coverage category is unknown - this is the default.")
+,
+    /**
+      * The attribute uniquely identifies the concept bead.
+      */
+    UniqueIdentifier(1, "The attribute uniquely identifies the concept bead.")
+,
+    /**
+      * The attribute is a good indicator of the identity of the concept bead but not guaranteed to be unique.
+      */
+    Identifier(2, "The attribute is a good indicator of the identity of the concept bead but not guaranteed to be unique.")
+,
+    /**
+      * The attribute provides information that is typically required by all of the consumers of the concept bead.
+      */
+    CoreDetail(3, "The attribute provides information that is typically required by all of the consumers of the concept bead.")
+,
+    /**
+      * The attribute contains supplementary information that is of interest to specific consumers of the concept bead.
+      */
+    ExtendedDetail(4, "The attribute contains supplementary information that is of interest to specific consumers of the concept bead.")
+;
+    private final int ordinal;
+    private final String description ;
+    /**
+     * Default constructor sets up the specific values for an ConceptModelAttributeCoverageCategory enum instance.
+     *
+     * @param ordinal int enum value ordinal
+     * @param description String description
+     */
+    ConceptModelAttributeCoverageCategory(int ordinal, String description) {
+        this.ordinal = ordinal;
+        this.description = description;
+    }
+
+    /**
+     * Return the numerical value for the enum.
+     *
+     * @return int enum value ordinal
+     */
+    public int getOrdinal() { return this.ordinal; }
+    /**
+     * Return the description for the enum.
+     *
+     * @return String description
+     */
+    public String getDescription() { return this.description; }
+    /**
+     * Return the descriptive name for the ConceptModelAttributeCoverageCategory enum instance
+     *
+     * @return String name
+     */
+    public String getName() { return this.name(); }
+}
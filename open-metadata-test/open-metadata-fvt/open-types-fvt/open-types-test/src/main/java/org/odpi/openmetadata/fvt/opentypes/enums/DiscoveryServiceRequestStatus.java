@@ -0,0 +1,92 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.enums;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * Defines the progress or completion of a requested discovery service.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum DiscoveryServiceRequestStatus implements Serializable {
+    /**
+      * Discovery service is waiting to execute.
+      */
+    Waiting(0, "Discovery service is waiting to execute.")
+,
+    /**
+      * Discovery service is being initialized in the discovery engine.
+      */
+    Activating(1, "Discovery service is being initialized in the discovery engine.")
+,
+    /**
+      * Discovery service is executing.
+      */
+    InProgress(2, "Discovery service is executing.")
+,
+    /**
+      * Discovery service has failed.
+      */
+    Failed(3, "Discovery service has failed.")
+,
+    /**
+      * Discovery service has completed successfully.
+      */
+    Completed(4, "Discovery service has completed successfully.")
+,
+    /**
+      * Discovery service has a status that is not covered by this enum.
+      */
+    Other(5, "Discovery service has a status that is not covered by this enum.")
+,
+    /**
+      * Discovery service status is unknown.
+      */
+    Unknown(99, "Discovery service status is unknown.")
+;
+    private final int ordinal;
+    private final String description ;
+    /**
+     * Default constructor sets up the specific values for an DiscoveryServiceRequestStatus enum instance.
+     *
+     * @param ordinal int enum value ordinal
+     * @param description String description
+     */
+    DiscoveryServiceRequestStatus(int ordinal, String description) {
+        this.ordinal = ordinal;
+        this.description = description;
+    }
+
+    /**
+     * Return the numerical value for the enum.
+     *
+     * @return int enum value ordinal
+     */
+    public int getOrdinal() { return this.ordinal; }
+    /**
+     * Return the description for the enum.
+     *
+     * @return String description
+     */
+    public String getDescription() { return this.description; }
+    /**
+     * Return the descriptive name for the DiscoveryServiceRequestStatus enum instance
+     *
+     * @return String name
+     */
+    public String getName() { return this.name(); }
+}
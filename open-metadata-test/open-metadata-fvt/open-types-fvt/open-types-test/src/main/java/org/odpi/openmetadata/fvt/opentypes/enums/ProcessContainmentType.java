@@ -0,0 +1,72 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.fvt.opentypes.enums;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * The containment relationship between two processes.
+ */
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public enum ProcessContainmentType implements Serializable {
+    /**
+      * The parent process owns the child process in the relationship, such that if the parent is removed the child should also be removed. A child can have at most one such parent.
+      */
+    OWNED(0, "The parent process owns the child process in the relationship, such that if the parent is removed the child should also be removed. A child can have at most one such parent.")
+,
+    /**
+      * The child process is simply used by the parent. A child process can have many such relationships to parents.
+      */
+    USED(1, "The child process is simply used by the parent. A child process can have many such relationships to parents.")
+,
+    /**
+      * None of the above.
+      */
+    OTHER(99, "None of the above.")
+;
+    private final int ordinal;
+    private final String description ;
+    /**
+     * Default constructor sets up the specific values for an ProcessContainmentType enum instance.
+     *
+     * @param ordinal int enum value ordinal
+     * @param description String description
+     */
+    ProcessContainmentType(int ordinal, String description) {
+        this.ordinal = ordinal;
+        this.description = description;
+    }
+
+    /**
+     * Return the numerical value for the enum.
+     *
+     * @return int enum value ordinal
+     */
+    public int getOrdinal() { return this.ordinal; }
+    /**
+     * Return the description for the enum.
+     *
+     * @return String description
+     */
+    public String getDescription() { return this.description; }
+    /**
+     * Return the descriptive name for the ProcessContainmentType enum instance
+     *
+     * @return String name
+     */
+    public String getName() { return this.name(); }
+}
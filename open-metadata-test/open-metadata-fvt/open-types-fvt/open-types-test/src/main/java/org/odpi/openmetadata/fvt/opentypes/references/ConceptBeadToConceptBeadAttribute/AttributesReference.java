@@ -0,0 +1,292 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.references.ConceptBeadToConceptBeadAttribute;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.entities.ConceptBeadAttribute.ConceptBeadAttribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * This is a reference, which is a view of a relationships from the perspective of one of the ends. A relationships is
+ * the link between 2 OMAS entities.
+ *
+ * A reference is used when working with OMAS entity APIs. An OMAS entity has attributes, classifications
+ * and references.
+ *
+ * This Reference is called AttributesReference. It is used in type ConceptBead to represent a
+ * reference to an OMAS entity of type conceptBeadAttribute. The reference also contains information
+ * about the relationships; the relationships guid, name, relationships attributes and a list of unique attributes.
+ * Relationship attributes are attributes of the relationships.
+ *
+ * It is possible to work with the relationships itself using the OMAS API using the relationships guid
+ * contained in this reference.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AttributesReference extends Reference implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final Logger log = LoggerFactory.getLogger(AttributesReference.class);
+    private static final String className = AttributesReference.class.getName();
+
+    final static private String relationship_Type = "ConceptBeadAttributeLink";
+    private ConceptBeadAttribute conceptBeadAttribute =null;
+
+
+
+    public ConceptBeadAttribute getConceptBeadAttribute() {
+        return  conceptBeadAttribute;
+    }
+    public void setConceptBeadAttribute(ConceptBeadAttribute conceptBeadAttribute) {
+        this.conceptBeadAttribute = conceptBeadAttribute;
+    }
+    private String position;
+    /**
+     * Position of this relationship in the concept bead's list of relationships.
+     * @return Position
+     */
+    public String getPosition() {
+        return this.position;
+    }
+
+    public void setPosition(String position) {
+        this.position = position;
+    }
+    private String minCardinality;
+    /**
+     * Minimum number of occurrences of this attribute allowed (0 = optional, 1+ = mandatory).
+     * @return MinCardinality
+     */
+    public String getMinCardinality() {
+        return this.minCardinality;
+    }
+
+    public void setMinCardinality(String minCardinality) {
+        this.minCardinality = minCardinality;
+    }
+    private String maxCardinality;
+    /**
+     * Maximum number of occurrences of this attribute allowed (-1 = infinite).
+     * @return MaxCardinality
+     */
+    public String getMaxCardinality() {
+        return this.maxCardinality;
+    }
+
+    public void setMaxCardinality(String maxCardinality) {
+        this.maxCardinality = maxCardinality;
+    }
+    private String uniqueValues;
+    /**
+     * When multiple occurrences are allowed, indicates whether duplicates of the same value are allowed or not.
+     * @return UniqueValues
+     */
+    public String getUniqueValues() {
+        return this.uniqueValues;
+    }
+
+    public void setUniqueValues(String uniqueValues) {
+        this.uniqueValues = uniqueValues;
+    }
+    private String orderedValues;
+    /**
+     * When multiple occurrences are allowed, indicates whether the values are ordered or not.
+     * @return OrderedValues
+     */
+    public String getOrderedValues() {
+        return this.orderedValues;
+    }
+
+    public void setOrderedValues(String orderedValues) {
+        this.orderedValues = orderedValues;
+    }
+    private String navigable;
+    /**
+     * Is it possible to follow the link in this direction.
+     * @return Navigable
+     */
+    public String getNavigable() {
+        return this.navigable;
+    }
+
+    public void setNavigable(String navigable) {
+        this.navigable = navigable;
+    }
+
+
+    public AttributesReference() {
+        this(null, null, (Map<String, Object>) null);
+    }
+
+    public AttributesReference(String guid) {
+        this(guid, null, (Map<String, Object>) null);
+    }
+
+    public AttributesReference(String guid, String relatedEndType) {
+        this(guid, relatedEndType, (Map<String, Object>) null);
+    }
+
+    public AttributesReference(String relatedEndType, Map<String, Object> uniqueAttributes) {
+        this(null, relatedEndType, uniqueAttributes);
+    }
+
+    public AttributesReference(String guid, String relatedEndType, Map<String, Object> uniqueAttributes) {
+        setRelationshipGuid(guid);
+        setRelatedEndType(relatedEndType);
+        setUniqueAttributes(uniqueAttributes);
+    }
+
+    public AttributesReference(Reference other) {
+        if (other != null) {
+            setRelationshipGuid(other.getRelationshipGuid());
+            setRelatedEndGuid(other.getRelatedEndGuid());
+            setRelatedEndType(other.getRelatedEndType());
+            setUniqueAttributes(other.getUniqueAttributes());
+        }
+    }
+    
+      /**
+       * Populate the reference from a relationships
+       * @param entityGuid String entity Guid
+       * @param line OMRSLine
+       */
+    public AttributesReference(String entityGuid, OMRSLine line) {
+        setRelationshipGuid(line.getGuid());
+        if (entityGuid.equals(line.getEntity1Guid())) {
+            setRelatedEndGuid(line.getEntity2Guid());
+            setRelatedEndType(line.getEntity2Type());
+            // TODO UniqueAttributes
+            //setUniqueAttributes(line.get
+        } else {
+            setRelatedEndGuid(line.getEntity1Guid());
+            setRelatedEndType(line.getEntity1Type());
+            // TODO UniqueAttributes
+            //setUniqueAttributes(line.get
+        }
+    }    
+
+    public AttributesReference(Map objIdMap) {
+        if (objIdMap != null) {
+            Object reg = objIdMap.get(KEY_RELATED_END_GUID);
+            Object rg = objIdMap.get(KEY_RELATIONSHIP_GUID);
+            Object t = objIdMap.get(KEY_TYPENAME);
+            Object u = objIdMap.get(KEY_UNIQUE_ATTRIBUTES);
+
+            if (reg != null) {
+                setRelatedEndGuid(reg.toString());
+            }
+            if (rg != null) {
+                setRelationshipGuid(rg.toString());
+            }
+
+
+            if (t != null) {
+                setRelatedEndType(t.toString());
+            }
+
+            if (u != null && u instanceof Map) {
+                setUniqueAttributes((Map) u);
+            }
+        }
+    }
+
+    public StringBuilder toString(StringBuilder sb) {
+        if (sb == null) {
+            sb = new StringBuilder();
+        }
+
+        sb.append("Reference{");
+        sb.append("relatedEndGuid='").append(getRelatedEndGuid()).append('\'');
+        sb.append("relationshipGuid='").append(getRelationshipGuid()).append('\'');
+        sb.append("relatedEndType='").append(getRelatedEndType()).append('\'');
+        sb.append(", uniqueAttributes={");
+//  AtlasBaseTypeDef.dumpObjects(uniqueAttributes, sb);
+        sb.append("}");
+ 	sb.append("{");
+	sb.append("this.position ");
+	sb.append("this.minCardinality ");
+	sb.append("this.maxCardinality ");
+	sb.append("this.uniqueValues ");
+	sb.append("this.orderedValues ");
+	sb.append("this.navigable ");
+ 	sb.append('}');
+
+
+        sb.append('}');
+
+        return sb;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        Reference that = (Reference) o;
+
+        if (relatedEndGuid != null && !Objects.equals(relatedEndGuid, that.getRelatedEndGuid())) {
+            return false;
+        }
+        if (relationshipGuid != null && !Objects.equals(relationshipGuid, that.getRelationshipGuid())) {
+            return false;
+        }
+        AttributesReference typedThat =(AttributesReference)that;
+        if (this.position != null && !Objects.equals(this.position,typedThat.getPosition())) {
+            return false;
+        }
+        if (this.minCardinality != null && !Objects.equals(this.minCardinality,typedThat.getMinCardinality())) {
+            return false;
+        }
+        if (this.maxCardinality != null && !Objects.equals(this.maxCardinality,typedThat.getMaxCardinality())) {
+            return false;
+        }
+        if (this.uniqueValues != null && !Objects.equals(this.uniqueValues,typedThat.getUniqueValues())) {
+            return false;
+        }
+        if (this.orderedValues != null && !Objects.equals(this.orderedValues,typedThat.getOrderedValues())) {
+            return false;
+        }
+        if (this.navigable != null && !Objects.equals(this.navigable,typedThat.getNavigable())) {
+            return false;
+        }
+
+        return Objects.equals(relatedEndType, that.getRelatedEndType()) &&
+                Objects.equals(uniqueAttributes, that.getUniqueAttributes());
+    }
+
+
+    @Override
+    public int hashCode() {
+        return relatedEndGuid != null ? Objects.hash(relatedEndGuid) : Objects.hash(relatedEndType, uniqueAttributes
+, this.position
+, this.minCardinality
+, this.maxCardinality
+, this.uniqueValues
+, this.orderedValues
+, this.navigable
+);
+    }
+}
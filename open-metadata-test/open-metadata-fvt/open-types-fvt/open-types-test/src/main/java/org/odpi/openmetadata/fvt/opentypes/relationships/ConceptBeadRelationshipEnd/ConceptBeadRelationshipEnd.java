@@ -0,0 +1,313 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.ConceptBeadRelationshipEnd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * ConceptBeadRelationshipEnd is a relationships between an entity of type ConceptBeadLink and an entity of type ConceptBead.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has relationships as the proxy name for entity type ConceptBeadLink.
+ * The second entity proxy has anchorBeads as the proxy name for entity type ConceptBead.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Links one end of a concept bead link relationship to a concept bead.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ConceptBeadRelationshipEnd extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(ConceptBeadRelationshipEnd.class);
+    private static final String className = ConceptBeadRelationshipEnd.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "attributeName",
+          "decoration",
+          "position",
+          "minCardinality",
+          "maxCardinality",
+          "uniqueValues",
+          "orderedValues",
+          "navigable",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "attributeName",
+          "position",
+          "minCardinality",
+          "maxCardinality",
+          "uniqueValues",
+          "orderedValues",
+          "navigable",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+           "decoration",
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public ConceptBeadRelationshipEnd() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "ConceptBeadRelationshipEnd";
+       entity1Name = "relationships";
+       entity1Type = "ConceptBeadLink";
+       entity2Name = "anchorBeads";
+       entity2Type = "ConceptBead";
+       typeDefGuid = "1a379e55-a4c0-4289-a1a4-b89d257611d1";
+    }
+
+    public ConceptBeadRelationshipEnd(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public ConceptBeadRelationshipEnd(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public ConceptBeadRelationshipEnd(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          enumPropertyValue = new EnumPropertyValue();
+          // usage and lifecycle for this connection between the concept bead and the link.
+          enumPropertyValue.setOrdinal(decoration.ordinal());
+          enumPropertyValue.setSymbolicName(decoration.name());
+          instanceProperties.setProperty("decoration",enumPropertyValue);
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("attributeName",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("decoration",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("position",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("minCardinality",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("maxCardinality",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("uniqueValues",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("orderedValues",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("navigable",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private String attributeName;
+        /**
+            * {@literal Name for the relationship end. }
+            * @return {@code String }
+            */
+         public String getAttributeName() {
+             return this.attributeName;
+         }
+         public void setAttributeName(String attributeName)  {
+            this.attributeName = attributeName;
+        }
+         private ConceptModelDecoration decoration;
+        /**
+            * {@literal Usage and lifecycle for this connection between the concept bead and the link. }
+            * @return {@code ConceptModelDecoration }
+            */
+         public ConceptModelDecoration getDecoration() {
+             return this.decoration;
+         }
+         public void setDecoration(ConceptModelDecoration decoration)  {
+            this.decoration = decoration;
+        }
+         private Integer position;
+        /**
+            * {@literal Position of this relationship in the concept bead's list of relationships. }
+            * @return {@code Integer }
+            */
+         public Integer getPosition() {
+             return this.position;
+         }
+         public void setPosition(Integer position)  {
+            this.position = position;
+        }
+         private Integer minCardinality;
+        /**
+            * {@literal Minimum number of occurrences of this attribute allowed (0 = optional, 1+ = mandatory). }
+            * @return {@code Integer }
+            */
+         public Integer getMinCardinality() {
+             return this.minCardinality;
+         }
+         public void setMinCardinality(Integer minCardinality)  {
+            this.minCardinality = minCardinality;
+        }
+         private Integer maxCardinality;
+        /**
+            * {@literal Maximum number of occurrences of this attribute allowed (-1 = infinite). }
+            * @return {@code Integer }
+            */
+         public Integer getMaxCardinality() {
+             return this.maxCardinality;
+         }
+         public void setMaxCardinality(Integer maxCardinality)  {
+            this.maxCardinality = maxCardinality;
+        }
+         private Boolean uniqueValues;
+        /**
+            * {@literal When multiple occurrences are allowed, indicates whether duplicates of the same value are allowed or not. }
+            * @return {@code Boolean }
+            */
+         public Boolean getUniqueValues() {
+             return this.uniqueValues;
+         }
+         public void setUniqueValues(Boolean uniqueValues)  {
+            this.uniqueValues = uniqueValues;
+        }
+         private Boolean orderedValues;
+        /**
+            * {@literal When multiple occurrences are allowed, indicates whether the values are ordered or not. }
+            * @return {@code Boolean }
+            */
+         public Boolean getOrderedValues() {
+             return this.orderedValues;
+         }
+         public void setOrderedValues(Boolean orderedValues)  {
+            this.orderedValues = orderedValues;
+        }
+         private Boolean navigable;
+        /**
+            * {@literal Is it possible to follow the link in this direction. }
+            * @return {@code Boolean }
+            */
+         public Boolean getNavigable() {
+             return this.navigable;
+         }
+         public void setNavigable(Boolean navigable)  {
+            this.navigable = navigable;
+        }
+
+   /**
+    * ConceptBeadRelationshipEnd property names
+    * @return Set of Strings of the ConceptBeadRelationshipEnd property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * ConceptBeadRelationshipEnd enum property names
+     * @return Set of Strings of the ConceptBeadRelationshipEnd enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * ConceptBeadRelationshipEnd map property names
+     * @return Set of Strings of the ConceptBeadRelationshipEnd map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * ConceptBeadRelationshipEnd attribute property names
+     * @return Set of Strings of the ConceptBeadRelationshipEnd attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" ConceptBeadRelationshipEnd=");
+             sb.append(super.toString(sb));
+             sb.append(" ConceptBeadRelationshipEnd Attributes{");
+             sb.append("attributeName=" + this.attributeName +",");
+             sb.append("position=" + this.position +",");
+             sb.append("minCardinality=" + this.minCardinality +",");
+             sb.append("maxCardinality=" + this.maxCardinality +",");
+             sb.append("uniqueValues=" + this.uniqueValues +",");
+             sb.append("orderedValues=" + this.orderedValues +",");
+             sb.append("navigable=" + this.navigable +",");
+             if ( decoration!=null) {
+                 sb.append("decoration=" + decoration.name());
+             }
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
@@ -0,0 +1,224 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.ConceptBeadRelationshipEnd;
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
+import org.odpi.openmetadata.fvt.opentypes.relationships.ConceptBeadRelationshipEnd.ConceptBeadRelationshipEnd;
+
+import java.util.*;
+
+/**
+ * Static mapping methods to map between ConceptBeadRelationshipEnd and the omrs Relationship.
+ */
+public class ConceptBeadRelationshipEndMapper {
+       private static final Logger log = LoggerFactory.getLogger(ConceptBeadRelationshipEndMapper.class);
+       private static final String className = ConceptBeadRelationshipEndMapper.class.getName();
+
+       public static ConceptBeadRelationshipEnd mapOmrsRelationshipToConceptBeadRelationshipEnd(Relationship omrsRelationship) {
+                String methodName = "mapOmrsRelationshipToConceptBeadRelationshipEnd";
+               ConceptBeadRelationshipEnd conceptBeadRelationshipEnd = new ConceptBeadRelationshipEnd(omrsRelationship);
+               SystemAttributes systemAttributes = new SystemAttributes();
+               systemAttributes.setStatus(omrsRelationship.getStatus());
+               systemAttributes.setCreatedBy(omrsRelationship.getCreatedBy());
+               systemAttributes.setUpdatedBy(omrsRelationship.getUpdatedBy());
+               systemAttributes.setCreateTime(omrsRelationship.getCreateTime());
+               systemAttributes.setUpdateTime(omrsRelationship.getUpdateTime());
+               systemAttributes.setVersion(omrsRelationship.getVersion());
+               systemAttributes.setGUID(omrsRelationship.getGUID());
+               conceptBeadRelationshipEnd.setGuid(omrsRelationship.getGUID());
+               conceptBeadRelationshipEnd.setSystemAttributes(systemAttributes);
+
+               InstanceProperties omrsRelationshipProperties = omrsRelationship.getProperties();
+               if (omrsRelationshipProperties !=null) {
+                 omrsRelationshipProperties.setEffectiveFromTime(conceptBeadRelationshipEnd.getEffectiveFromTime());
+                 omrsRelationshipProperties.setEffectiveToTime(conceptBeadRelationshipEnd.getEffectiveToTime());
+                 Iterator omrsPropertyIterator = omrsRelationshipProperties.getPropertyNames();
+                 while (omrsPropertyIterator.hasNext()) {
+                    String name = (String) omrsPropertyIterator.next();
+                    //TODO check if this is a property we expect or whether the type has been added to.
+                    // this is a property we expect
+                    InstancePropertyValue value = omrsRelationshipProperties.getPropertyValue(name);
+                    // supplied guid matches the expected type
+                    Object actualValue;
+                    switch (value.getInstancePropertyCategory()) {
+                                               case PRIMITIVE:
+                                                   PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue) value;
+                                                   actualValue = primitivePropertyValue.getPrimitiveValue();
+                                                   if (ConceptBeadRelationshipEnd.getAttributePropertyNames().contains(name)) {
+                                                      if (name.equals("attributeName")) {
+                                                           conceptBeadRelationshipEnd.setAttributeName((String)actualValue);
+                                                      }
+                                                      if (name.equals("position")) {
+                                                           conceptBeadRelationshipEnd.setPosition((Integer)actualValue);
+                                                      }
+                                                      if (name.equals("minCardinality")) {
+                                                           conceptBeadRelationshipEnd.setMinCardinality((Integer)actualValue);
+                                                      }
+                                                      if (name.equals("maxCardinality")) {
+                                                           conceptBeadRelationshipEnd.setMaxCardinality((Integer)actualValue);
+                                                      }
+                                                      if (name.equals("uniqueValues")) {
+                                                           conceptBeadRelationshipEnd.setUniqueValues((Boolean)actualValue);
+                                                      }
+                                                      if (name.equals("orderedValues")) {
+                                                           conceptBeadRelationshipEnd.setOrderedValues((Boolean)actualValue);
+                                                      }
+                                                      if (name.equals("navigable")) {
+                                                           conceptBeadRelationshipEnd.setNavigable((Boolean)actualValue);
+                                                      }
+                                                   } else {
+                                                       // put out the omrs value object
+                                                       if (conceptBeadRelationshipEnd.getExtraAttributes() ==null) {
+                                                            Map<String, Object> extraAttributes = new HashMap();
+                                                            conceptBeadRelationshipEnd.setExtraAttributes(extraAttributes);
+                                                        }
+                                                      conceptBeadRelationshipEnd.getExtraAttributes().put(name, primitivePropertyValue);
+                                                   }
+                                                   break;
+                                               case ENUM:
+                                                   EnumPropertyValue enumPropertyValue = (EnumPropertyValue) value;
+                                                   String symbolicName = enumPropertyValue.getSymbolicName();
+                                                   if (ConceptBeadRelationshipEnd.getEnumPropertyNames().contains(name)) {
+                                                        if (name.equals("decoration")) {
+                                                              ConceptModelDecoration decoration = ConceptModelDecoration.valueOf(symbolicName);
+                                                             conceptBeadRelationshipEnd.setDecoration(decoration);
+                                                        }
+                                                   } else {
+                                                       // put out the omrs value object
+                                                        if (conceptBeadRelationshipEnd.getExtraAttributes() ==null) {
+                                                            Map<String, Object> extraAttributes = new HashMap();
+                                                            conceptBeadRelationshipEnd.setExtraAttributes(extraAttributes);
+                                                        }
+
+                                                        conceptBeadRelationshipEnd.getExtraAttributes().put(name, enumPropertyValue);
+                                                    }
+                       
+                                                   break;
+                                               case MAP:
+                                                    if (ConceptBeadRelationshipEnd.getMapPropertyNames().contains(name)) {
+                                                        MapPropertyValue mapPropertyValue = (MapPropertyValue) value;
+                                                        InstanceProperties instancePropertyForMap = (InstanceProperties) mapPropertyValue.getMapValues();
+
+                                                    }
+                                                    break;
+                                               case ARRAY:
+                                               case STRUCT:
+                                               case UNKNOWN:
+                                                   // error
+                                                   break;
+                    }
+                 }   // end while
+               }
+               return conceptBeadRelationshipEnd;
+       }
+       public static Relationship mapConceptBeadRelationshipEndToOmrsRelationship(ConceptBeadRelationshipEnd conceptBeadRelationshipEnd) {
+           Relationship omrsRelationship = Line.createOmrsRelationship(conceptBeadRelationshipEnd);
+
+           SystemAttributes systemAttributes = conceptBeadRelationshipEnd.getSystemAttributes();
+           if (systemAttributes!=null) {
+               if (systemAttributes.getCreatedBy()!=null)
+                   omrsRelationship.setCreatedBy(systemAttributes.getCreatedBy());
+               if (systemAttributes.getUpdatedBy()!=null)
+                   omrsRelationship.setUpdatedBy(systemAttributes.getUpdatedBy());
+               if (systemAttributes.getCreateTime()!=null)
+                   omrsRelationship.setCreateTime(systemAttributes.getCreateTime());
+               if (systemAttributes.getUpdateTime()!=null)
+                   omrsRelationship.setUpdateTime(systemAttributes.getUpdateTime());
+               if (systemAttributes.getVersion()!=null)
+                   omrsRelationship.setVersion(systemAttributes.getVersion());
+                if (systemAttributes.getGUID()!=null)
+                   omrsRelationship.setGUID(systemAttributes.getGUID());
+               if (systemAttributes.getStatus()!=null)
+                   omrsRelationship.setStatus(systemAttributes.getStatus());
+           }
+           //set proxy 1
+           EntityProxy entityOne = new EntityProxy();
+           entityOne.setGUID(conceptBeadRelationshipEnd.getEntity1Guid());
+           String type1 = conceptBeadRelationshipEnd.getEntity1Type();
+           InstanceType instancetype1 = new InstanceType();
+           instancetype1.setTypeDefName(type1);
+           entityOne.setType(instancetype1);
+           //set proxy 2
+           EntityProxy entityTwo = new EntityProxy();
+           entityTwo.setGUID(conceptBeadRelationshipEnd.getEntity2Guid());
+           String type2 = conceptBeadRelationshipEnd.getEntity2Type();
+           InstanceType instancetype2 = new InstanceType();
+           instancetype2.setTypeDefName(type2);
+           entityTwo.setType(instancetype2);
+           // set relationshipType
+           InstanceType relationshipType = new InstanceType();
+           relationshipType.setTypeDefGUID(conceptBeadRelationshipEnd.getTypeDefGuid());
+           relationshipType.setTypeDefName("ConceptBeadRelationshipEnd");
+           omrsRelationship.setType(relationshipType);           
+   
+           omrsRelationship.setEntityOneProxy(entityOne);
+           omrsRelationship.setEntityTwoProxy(entityTwo);           
+           if (omrsRelationship.getGUID() == null) {
+               omrsRelationship.setGUID(conceptBeadRelationshipEnd.getGuid());
+           }
+
+           InstanceProperties instanceProperties = new InstanceProperties();
+           // primitives
+
+            if (conceptBeadRelationshipEnd.getAttributeName()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+                primitivePropertyValue.setPrimitiveValue(conceptBeadRelationshipEnd.getAttributeName());
+                instanceProperties.setProperty("attributeName", primitivePropertyValue);
+            }
+            if (conceptBeadRelationshipEnd.getPosition()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(conceptBeadRelationshipEnd.getPosition());
+                instanceProperties.setProperty("position", primitivePropertyValue);
+            }
+            if (conceptBeadRelationshipEnd.getMinCardinality()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(conceptBeadRelationshipEnd.getMinCardinality());
+                instanceProperties.setProperty("minCardinality", primitivePropertyValue);
+            }
+            if (conceptBeadRelationshipEnd.getMaxCardinality()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_INT);
+                primitivePropertyValue.setPrimitiveValue(conceptBeadRelationshipEnd.getMaxCardinality());
+                instanceProperties.setProperty("maxCardinality", primitivePropertyValue);
+            }
+            if (conceptBeadRelationshipEnd.getUniqueValues()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN);
+                primitivePropertyValue.setPrimitiveValue(conceptBeadRelationshipEnd.getUniqueValues());
+                instanceProperties.setProperty("uniqueValues", primitivePropertyValue);
+            }
+            if (conceptBeadRelationshipEnd.getOrderedValues()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN);
+                primitivePropertyValue.setPrimitiveValue(conceptBeadRelationshipEnd.getOrderedValues());
+                instanceProperties.setProperty("orderedValues", primitivePropertyValue);
+            }
+            if (conceptBeadRelationshipEnd.getNavigable()!=null) {
+                PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+                primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_BOOLEAN);
+                primitivePropertyValue.setPrimitiveValue(conceptBeadRelationshipEnd.getNavigable());
+                instanceProperties.setProperty("navigable", primitivePropertyValue);
+            }
+            if (conceptBeadRelationshipEnd.getDecoration()!=null) {
+                ConceptModelDecoration enumType = conceptBeadRelationshipEnd.getDecoration();
+                EnumPropertyValue enumPropertyValue = new EnumPropertyValue();
+                enumPropertyValue.setOrdinal(enumType.ordinal());
+                enumPropertyValue.setSymbolicName(enumType.name());
+                instanceProperties.setProperty("decoration", enumPropertyValue);
+            }
+            omrsRelationship.setProperties(instanceProperties);
+
+           return omrsRelationship;
+       }
+}
@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.DigitalServiceDependency;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * DigitalServiceDependency is a relationships between an entity of type DigitalService and an entity of type DigitalService.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has callsDigitalServices as the proxy name for entity type DigitalService.
+ * The second entity proxy has calledByDigitalServices as the proxy name for entity type DigitalService.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Relationship identifying dependencies between digital services.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class DigitalServiceDependency extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(DigitalServiceDependency.class);
+    private static final String className = DigitalServiceDependency.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "delegationEscalationAuthority",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "delegationEscalationAuthority",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public DigitalServiceDependency() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "DigitalServiceDependency";
+       entity1Name = "callsDigitalServices";
+       entity1Type = "DigitalService";
+       entity2Name = "calledByDigitalServices";
+       entity2Type = "DigitalService";
+       typeDefGuid = "e8303911-ba1c-4640-974e-c4d57ee1b310";
+    }
+
+    public DigitalServiceDependency(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public DigitalServiceDependency(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public DigitalServiceDependency(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("delegationEscalationAuthority",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private Boolean delegationEscalationAuthority;
+        /**
+            * {@literal Can delegations and escalations flow on this relationship. }
+            * @return {@code Boolean }
+            */
+         public Boolean getDelegationEscalationAuthority() {
+             return this.delegationEscalationAuthority;
+         }
+         public void setDelegationEscalationAuthority(Boolean delegationEscalationAuthority)  {
+            this.delegationEscalationAuthority = delegationEscalationAuthority;
+        }
+
+   /**
+    * DigitalServiceDependency property names
+    * @return Set of Strings of the DigitalServiceDependency property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * DigitalServiceDependency enum property names
+     * @return Set of Strings of the DigitalServiceDependency enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * DigitalServiceDependency map property names
+     * @return Set of Strings of the DigitalServiceDependency map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * DigitalServiceDependency attribute property names
+     * @return Set of Strings of the DigitalServiceDependency attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" DigitalServiceDependency=");
+             sb.append(super.toString(sb));
+             sb.append(" DigitalServiceDependency Attributes{");
+             sb.append("delegationEscalationAuthority=" + this.delegationEscalationAuthority +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.GovernanceDefinitionMetric;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * GovernanceDefinitionMetric is a relationships between an entity of type GovernanceMetric and an entity of type GovernanceDefinition.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has metrics as the proxy name for entity type GovernanceMetric.
+ * The second entity proxy has measuredDefinitions as the proxy name for entity type GovernanceDefinition.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Link between a governance definition and a governance metric used to measure this definition.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class GovernanceDefinitionMetric extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(GovernanceDefinitionMetric.class);
+    private static final String className = GovernanceDefinitionMetric.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "rationale",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "rationale",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public GovernanceDefinitionMetric() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "GovernanceDefinitionMetric";
+       entity1Name = "metrics";
+       entity1Type = "GovernanceMetric";
+       entity2Name = "measuredDefinitions";
+       entity2Type = "GovernanceDefinition";
+       typeDefGuid = "e076fbb3-54f5-46b8-8f1e-a7cb7e792673";
+    }
+
+    public GovernanceDefinitionMetric(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public GovernanceDefinitionMetric(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public GovernanceDefinitionMetric(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("rationale",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private String rationale;
+        /**
+            * {@literal Documents reasons for using the metric to measure the governance definition. }
+            * @return {@code String }
+            */
+         public String getRationale() {
+             return this.rationale;
+         }
+         public void setRationale(String rationale)  {
+            this.rationale = rationale;
+        }
+
+   /**
+    * GovernanceDefinitionMetric property names
+    * @return Set of Strings of the GovernanceDefinitionMetric property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * GovernanceDefinitionMetric enum property names
+     * @return Set of Strings of the GovernanceDefinitionMetric enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * GovernanceDefinitionMetric map property names
+     * @return Set of Strings of the GovernanceDefinitionMetric map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * GovernanceDefinitionMetric attribute property names
+     * @return Set of Strings of the GovernanceDefinitionMetric attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" GovernanceDefinitionMetric=");
+             sb.append(super.toString(sb));
+             sb.append(" GovernanceDefinitionMetric Attributes{");
+             sb.append("rationale=" + this.rationale +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
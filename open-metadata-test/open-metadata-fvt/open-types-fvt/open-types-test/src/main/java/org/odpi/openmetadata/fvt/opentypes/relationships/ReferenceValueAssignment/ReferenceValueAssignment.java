@@ -0,0 +1,216 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.ReferenceValueAssignment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * ReferenceValueAssignment is a relationships between an entity of type Referenceable and an entity of type ValidValueDefinition.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has assignedItem as the proxy name for entity type Referenceable.
+ * The second entity proxy has referenceValue as the proxy name for entity type ValidValueDefinition.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Enables valid values to be used as tags to help group and locate referenceables.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ReferenceValueAssignment extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(ReferenceValueAssignment.class);
+    private static final String className = ReferenceValueAssignment.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "confidence",
+          "steward",
+          "notes",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "confidence",
+          "steward",
+          "notes",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public ReferenceValueAssignment() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "ReferenceValueAssignment";
+       entity1Name = "assignedItem";
+       entity1Type = "Referenceable";
+       entity2Name = "referenceValue";
+       entity2Type = "ValidValueDefinition";
+       typeDefGuid = "111e6d2e-94e9-43ed-b4ed-f0d220668cbf";
+    }
+
+    public ReferenceValueAssignment(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public ReferenceValueAssignment(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public ReferenceValueAssignment(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("confidence",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("steward",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("notes",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private Integer confidence;
+        /**
+            * {@literal Number between 0 and 100 indicating the confidence that the match is correct. }
+            * @return {@code Integer }
+            */
+         public Integer getConfidence() {
+             return this.confidence;
+         }
+         public void setConfidence(Integer confidence)  {
+            this.confidence = confidence;
+        }
+         private String steward;
+        /**
+            * {@literal Person responsible for the mapping. }
+            * @return {@code String }
+            */
+         public String getSteward() {
+             return this.steward;
+         }
+         public void setSteward(String steward)  {
+            this.steward = steward;
+        }
+         private String notes;
+        /**
+            * {@literal Additional notes on the mapping. }
+            * @return {@code String }
+            */
+         public String getNotes() {
+             return this.notes;
+         }
+         public void setNotes(String notes)  {
+            this.notes = notes;
+        }
+
+   /**
+    * ReferenceValueAssignment property names
+    * @return Set of Strings of the ReferenceValueAssignment property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * ReferenceValueAssignment enum property names
+     * @return Set of Strings of the ReferenceValueAssignment enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * ReferenceValueAssignment map property names
+     * @return Set of Strings of the ReferenceValueAssignment map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * ReferenceValueAssignment attribute property names
+     * @return Set of Strings of the ReferenceValueAssignment attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" ReferenceValueAssignment=");
+             sb.append(super.toString(sb));
+             sb.append(" ReferenceValueAssignment Attributes{");
+             sb.append("confidence=" + this.confidence +",");
+             sb.append("steward=" + this.steward +",");
+             sb.append("notes=" + this.notes +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
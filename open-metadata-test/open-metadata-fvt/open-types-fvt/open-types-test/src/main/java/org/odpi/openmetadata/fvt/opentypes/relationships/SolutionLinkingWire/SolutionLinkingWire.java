@@ -0,0 +1,180 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.SolutionLinkingWire;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * SolutionLinkingWire is a relationships between an entity of type SolutionPort and an entity of type SolutionPort.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has connectedPorts as the proxy name for entity type SolutionPort.
+ * The second entity proxy has connectedPorts as the proxy name for entity type SolutionPort.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ Connection between two solution ports that shows how data flows.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class SolutionLinkingWire extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(SolutionLinkingWire.class);
+    private static final String className = SolutionLinkingWire.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "informationSupplyChainSegmentGUIDs",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "informationSupplyChainSegmentGUIDs",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public SolutionLinkingWire() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "SolutionLinkingWire";
+       entity1Name = "connectedPorts";
+       entity1Type = "SolutionPort";
+       entity2Name = "connectedPorts";
+       entity2Type = "SolutionPort";
+       typeDefGuid = "892a3d1c-cfb8-431d-bd59-c4d38833bfb0";
+    }
+
+    public SolutionLinkingWire(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public SolutionLinkingWire(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public SolutionLinkingWire(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("informationSupplyChainSegmentGUIDs",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private List<String> informationSupplyChainSegmentGUIDs;
+        /**
+            * {@literal Unique identifier of information supply chain segments that this wire belongs to (typically only one). }
+            * @return {@code {@code List<String> } }
+            */
+         public List<String> getInformationSupplyChainSegmentGUIDs() {
+             return this.informationSupplyChainSegmentGUIDs;
+         }
+         public void setInformationSupplyChainSegmentGUIDs(List<String> informationSupplyChainSegmentGUIDs)  {
+            this.informationSupplyChainSegmentGUIDs = informationSupplyChainSegmentGUIDs;
+        }
+
+   /**
+    * SolutionLinkingWire property names
+    * @return Set of Strings of the SolutionLinkingWire property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * SolutionLinkingWire enum property names
+     * @return Set of Strings of the SolutionLinkingWire enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * SolutionLinkingWire map property names
+     * @return Set of Strings of the SolutionLinkingWire map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * SolutionLinkingWire attribute property names
+     * @return Set of Strings of the SolutionLinkingWire attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" SolutionLinkingWire=");
+             sb.append(super.toString(sb));
+             sb.append(" SolutionLinkingWire Attributes{");
+             sb.append("informationSupplyChainSegmentGUIDs=" + this.informationSupplyChainSegmentGUIDs +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}
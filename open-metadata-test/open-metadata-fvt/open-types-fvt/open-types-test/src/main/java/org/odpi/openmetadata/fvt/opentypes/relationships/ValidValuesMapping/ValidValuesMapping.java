@@ -0,0 +1,234 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+// This is a generated file - do not edit - changes should be made to the templates amd/or generator to generate this file with changes.
+
+package org.odpi.openmetadata.fvt.opentypes.relationships.ValidValuesMapping;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.*;
+import java.io.Serializable;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.odpi.openmetadata.fvt.opentypes.common.*;
+import org.odpi.openmetadata.fvt.opentypes.enums.*;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+//omrs
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+
+/**
+ * ValidValuesMapping is a relationships between an entity of type ValidValueDefinition and an entity of type ValidValueDefinition.
+ * The ends of the relationships are stored as entity proxies, where there is a 'proxy' name by which the entity type is known.
+ * The first entity proxy has matchingValue as the proxy name for entity type ValidValueDefinition.
+ * The second entity proxy has matchingValue as the proxy name for entity type ValidValueDefinition.
+ *
+ * Each entity proxy also stores the entities guid.
+
+ A link between two valid values from different valid value sets that have equivalent meanings.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ValidValuesMapping extends OMRSLine {
+    private static final Logger log = LoggerFactory.getLogger(ValidValuesMapping.class);
+    private static final String className = ValidValuesMapping.class.getName();
+
+   //public java.util.Set<String> propertyNames = new HashSet<>();
+      private static final String[] PROPERTY_NAMES_SET_VALUES = new String[] {
+          "associationDescription",
+          "confidence",
+          "steward",
+          "notes",
+
+      // Terminate the list
+          null
+      };
+      private static final String[] ATTRIBUTE_NAMES_SET_VALUES = new String[] {
+          "associationDescription",
+          "confidence",
+          "steward",
+          "notes",
+
+       // Terminate the list
+          null
+      };
+      private static final String[] ENUM_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+            null
+      };
+      private static final String[] MAP_NAMES_SET_VALUES = new String[] {
+
+           // Terminate the list
+           null
+      };
+      private static final java.util.Set<String> PROPERTY_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(PROPERTY_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ATTRIBUTE_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ATTRIBUTE_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> ENUM_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(ENUM_NAMES_SET_VALUES)));
+      private static final java.util.Set<String> MAP_NAMES_SET = new HashSet(new HashSet<>(Arrays.asList(MAP_NAMES_SET_VALUES)));
+
+
+    public ValidValuesMapping() {
+        initialise();
+    }
+
+    private void initialise()
+    {
+       name = "ValidValuesMapping";
+       entity1Name = "matchingValue";
+       entity1Type = "ValidValueDefinition";
+       entity2Name = "matchingValue";
+       entity2Type = "ValidValueDefinition";
+       typeDefGuid = "203ce62c-3cbf-4542-bf82-81820cba718f";
+    }
+
+    public ValidValuesMapping(OMRSLine template) {
+        super(template);
+        initialise();
+    }
+    public ValidValuesMapping(Line template) {
+        super(template);
+        initialise();
+    }
+
+    public ValidValuesMapping(Relationship omrsRelationship) {
+        super(omrsRelationship);
+    }
+
+    InstanceProperties obtainInstanceProperties() {
+          final String methodName = "obtainInstanceProperties";
+          if (log.isDebugEnabled()) {
+                 log.debug("==> Method: " + methodName);
+          }
+          InstanceProperties instanceProperties = new InstanceProperties();
+          EnumPropertyValue enumPropertyValue=null;
+          MapPropertyValue mapPropertyValue=null;
+          PrimitivePropertyValue primitivePropertyValue=null;
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("associationDescription",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("confidence",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("steward",primitivePropertyValue);
+          primitivePropertyValue = new PrimitivePropertyValue();
+          // TODO  description + change null to value
+          primitivePropertyValue.setPrimitiveValue(null);
+          instanceProperties.setProperty("notes",primitivePropertyValue);
+          if (log.isDebugEnabled()) {
+                 log.debug("<== Method: " + methodName);
+          }
+          return instanceProperties;
+    }
+
+         private String associationDescription;
+        /**
+            * {@literal Brief description describing how they are related. }
+            * @return {@code String }
+            */
+         public String getAssociationDescription() {
+             return this.associationDescription;
+         }
+         public void setAssociationDescription(String associationDescription)  {
+            this.associationDescription = associationDescription;
+        }
+         private Integer confidence;
+        /**
+            * {@literal Number between 0 and 100 indicating the confidence that the match is correct. }
+            * @return {@code Integer }
+            */
+         public Integer getConfidence() {
+             return this.confidence;
+         }
+         public void setConfidence(Integer confidence)  {
+            this.confidence = confidence;
+        }
+         private String steward;
+        /**
+            * {@literal Person responsible for the mapping. }
+            * @return {@code String }
+            */
+         public String getSteward() {
+             return this.steward;
+         }
+         public void setSteward(String steward)  {
+            this.steward = steward;
+        }
+         private String notes;
+        /**
+            * {@literal Additional notes on the mapping. }
+            * @return {@code String }
+            */
+         public String getNotes() {
+             return this.notes;
+         }
+         public void setNotes(String notes)  {
+            this.notes = notes;
+        }
+
+   /**
+    * ValidValuesMapping property names
+    * @return Set of Strings of the ValidValuesMapping property names
+    */
+    public static java.util.Set<String> getPropertyNames() {
+       return PROPERTY_NAMES_SET;
+    }
+
+    /**
+     * ValidValuesMapping enum property names
+     * @return Set of Strings of the ValidValuesMapping enum property names
+     */
+    public static java.util.Set<String> getEnumPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+   /**
+     * ValidValuesMapping map property names
+     * @return Set of Strings of the ValidValuesMapping map property names
+     */
+    public static java.util.Set<String> getMapPropertyNames() {
+         return ENUM_NAMES_SET;
+    }
+
+    /**
+     * ValidValuesMapping attribute property names
+     * @return Set of Strings of the ValidValuesMapping attribute property names
+     */
+    public static java.util.Set<String> getAttributePropertyNames() {
+         return ATTRIBUTE_NAMES_SET;
+    }
+
+      @Override
+         public StringBuilder toString(StringBuilder sb)
+         {
+             if (sb == null)
+             {
+                 sb = new StringBuilder();
+             }
+             sb.append(" ValidValuesMapping=");
+             sb.append(super.toString(sb));
+             sb.append(" ValidValuesMapping Attributes{");
+             sb.append("associationDescription=" + this.associationDescription +",");
+             sb.append("confidence=" + this.confidence +",");
+             sb.append("steward=" + this.steward +",");
+             sb.append("notes=" + this.notes +",");
+             sb.append("}");
+             return sb;
+         }
+         @Override
+         public String toString() {
+             return toString(new StringBuilder()).toString();
+         }
+
+
+}